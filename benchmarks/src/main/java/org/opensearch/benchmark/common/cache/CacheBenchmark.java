@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.benchmark.common.cache;
+
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of the eviction policies of {@link Cache} under contention. Keys are drawn from a half-normal
+ * distribution whose standard deviation is the size of the cache, so that both hits and misses followed by a put are exercised.
+ */
+@Fork(3)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class CacheBenchmark {
+
+    private static final int KEYS_MASK = (1 << 16) - 1;
+
+    @Param({ "LRU", "TINY_LFU" })
+    private Cache.EvictionPolicy evictionPolicy;
+
+    @Param({ "16384" })
+    private int maximumSize;
+
+    private Cache<Integer, Integer> cache;
+    private Integer[] keys;
+
+    @Setup
+    public void setUp() {
+        cache = CacheBuilder.<Integer, Integer>builder().setMaximumWeight(maximumSize).setEvictionPolicy(evictionPolicy).build();
+        final Random random = new Random(0);
+        keys = new Integer[KEYS_MASK + 1];
+        for (int i = 0; i < keys.length; i++) {
+            // about two thirds of the accesses are for keys smaller than the size of the cache
+            keys[i] = (int) Math.abs(random.nextGaussian() * maximumSize);
+        }
+        for (int i = 0; i < maximumSize; i++) {
+            cache.put(i, i);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        int index = new Random().nextInt();
+    }
+
+    private Integer getOrPut(ThreadState state) {
+        final Integer key = keys[state.index++ & KEYS_MASK];
+        final Integer value = cache.get(key);
+        if (value == null) {
+            cache.put(key, key);
+            return key;
+        }
+        return value;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer getOrPut_01(ThreadState state) {
+        return getOrPut(state);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer getOrPut_04(ThreadState state) {
+        return getOrPut(state);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Integer getOrPut_16(ThreadState state) {
+        return getOrPut(state);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Integer get_16(ThreadState state) {
+        return cache.get(keys[state.index++ & KEYS_MASK] % maximumSize);
+    }
+}
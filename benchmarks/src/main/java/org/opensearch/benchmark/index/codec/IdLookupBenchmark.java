@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.codec;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.PostingsFormat;
+import org.apache.lucene.codecs.lucene87.Lucene87Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.lucene.uid.VersionsAndSeqNoResolver;
+import org.opensearch.index.codec.IdBloomFilterPostingsFormat;
+import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.mapper.VersionFieldMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of resolving the version of a document by <code>_id</code> depending on the number of segments,
+ * with and without the <code>_id</code> bloom filter. Lookups of new ids need to check every segment.
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class IdLookupBenchmark {
+
+    private static final int NUM_LOOKUP_IDS = 1 << 12;
+
+    @Param({ "1", "10", "50" })
+    public int numSegments;
+
+    @Param({ "10000" })
+    public int docsPerSegment;
+
+    @Param({ "true", "false" })
+    public boolean bloomFilter;
+
+    private Directory directory;
+    private DirectoryReader reader;
+    private Term[] existingIds;
+    private Term[] missingIds;
+    private int lookup;
+
+    @Setup
+    public void setup() throws IOException {
+        final PostingsFormat bloomFilterFormat = new IdBloomFilterPostingsFormat();
+        final boolean useBloomFilter = bloomFilter;
+        final Codec codec = new Lucene87Codec() {
+            @Override
+            public PostingsFormat getPostingsFormatForField(String field) {
+                if (useBloomFilter && IdFieldMapper.NAME.equals(field)) {
+                    return bloomFilterFormat;
+                }
+                return super.getPostingsFormatForField(field);
+            }
+        };
+        directory = new ByteBuffersDirectory();
+        final IndexWriterConfig config = new IndexWriterConfig().setCodec(codec).setMergePolicy(NoMergePolicy.INSTANCE);
+        final Random random = new Random(0);
+        try (IndexWriter writer = new IndexWriter(directory, config)) {
+            for (int segment = 0; segment < numSegments; segment++) {
+                for (int i = 0; i < docsPerSegment; i++) {
+                    final Document doc = new Document();
+                    doc.add(new StringField(IdFieldMapper.NAME, Uid.encodeId(id(segment * docsPerSegment + i)), Field.Store.NO));
+                    doc.add(new NumericDocValuesField(VersionFieldMapper.NAME, 1));
+                    writer.addDocument(doc);
+                }
+                writer.commit();
+            }
+        }
+        reader = DirectoryReader.open(directory);
+        if (reader.leaves().size() != numSegments) {
+            throw new IllegalStateException("expected [" + numSegments + "] segments but got [" + reader.leaves().size() + "]");
+        }
+        final int numDocs = numSegments * docsPerSegment;
+        existingIds = new Term[NUM_LOOKUP_IDS];
+        missingIds = new Term[NUM_LOOKUP_IDS];
+        for (int i = 0; i < NUM_LOOKUP_IDS; i++) {
+            existingIds[i] = new Term(IdFieldMapper.NAME, Uid.encodeId(id(random.nextInt(numDocs))));
+            missingIds[i] = new Term(IdFieldMapper.NAME, Uid.encodeId(id(numDocs + random.nextInt(numDocs))));
+        }
+    }
+
+    private static String id(int i) {
+        return "doc-" + i;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public Object lookupExistingId() throws IOException {
+        return VersionsAndSeqNoResolver.loadDocIdAndVersion(reader, existingIds[lookup++ & (NUM_LOOKUP_IDS - 1)], false);
+    }
+
+    @Benchmark
+    public Object lookupMissingId() throws IOException {
+        return VersionsAndSeqNoResolver.loadDocIdAndVersion(reader, missingIds[lookup++ & (NUM_LOOKUP_IDS - 1)], false);
+    }
+}
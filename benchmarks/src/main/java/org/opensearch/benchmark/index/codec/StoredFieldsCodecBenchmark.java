@@ -0,0 +1,157 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.index.codec;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.codec.CodecService;
+import org.opensearch.index.mapper.SourceFieldMapper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the stored fields compression of the codecs that can be selected through <code>index.codec</code>: the time it
+ * takes to write and merge a segment of log-like <code>_source</code> documents and the time it takes to fetch a random
+ * document. The size of the stored fields that each codec writes is reported as the <code>storedFieldsBytes</code> counter of the
+ * <code>index</code> benchmark.
+ */
+@Fork(2)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class StoredFieldsCodecBenchmark {
+
+    private static final int NUM_FETCH_IDS = 1 << 12;
+
+    @Param({ CodecService.DEFAULT_CODEC, CodecService.BEST_COMPRESSION_CODEC, CodecService.ZSTD_CODEC, CodecService.ZSTD_NO_DICT_CODEC })
+    public String codec;
+
+    @Param({ "10000" })
+    public int numDocs;
+
+    private Codec luceneCodec;
+    private BytesRef[] sources;
+    private Directory directory;
+    private DirectoryReader reader;
+    private int[] fetchIds;
+    private int fetch;
+
+    @Setup
+    public void setup() throws IOException {
+        luceneCodec = new CodecService(null, LogManager.getLogger(StoredFieldsCodecBenchmark.class)).codec(codec);
+        final Random random = new Random(0);
+        sources = new BytesRef[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            sources[i] = new BytesRef(logLine(random, i).getBytes(StandardCharsets.UTF_8));
+        }
+        directory = indexAndMerge();
+        reader = DirectoryReader.open(directory);
+        fetchIds = new int[NUM_FETCH_IDS];
+        for (int i = 0; i < NUM_FETCH_IDS; i++) {
+            fetchIds[i] = random.nextInt(numDocs);
+        }
+    }
+
+    private static String logLine(Random random, int i) {
+        final String[] levels = { "INFO", "WARN", "ERROR", "DEBUG" };
+        final String[] paths = { "/api/v1/orders", "/api/v1/users", "/health", "/static/app.js", "/login" };
+        return "{\"@timestamp\":\"2021-05-" + (10 + random.nextInt(20)) + "T12:" + (10 + random.nextInt(50)) + ":"
+            + (10 + random.nextInt(50)) + "Z\",\"level\":\"" + levels[random.nextInt(levels.length)]
+            + "\",\"host\":\"web-" + random.nextInt(32) + "\",\"request\":{\"method\":\"GET\",\"path\":\""
+            + paths[random.nextInt(paths.length)] + "\",\"status\":" + (200 + random.nextInt(4) * 100)
+            + ",\"bytes\":" + random.nextInt(1 << 20) + "},\"trace_id\":\"" + Long.toHexString(random.nextLong())
+            + "\",\"message\":\"request " + i + " handled in " + random.nextInt(1000) + "ms\"}";
+    }
+
+    private Directory indexAndMerge() throws IOException {
+        final Directory directory = new ByteBuffersDirectory();
+        final IndexWriterConfig config = new IndexWriterConfig().setCodec(luceneCodec);
+        try (IndexWriter writer = new IndexWriter(directory, config)) {
+            for (BytesRef source : sources) {
+                final Document doc = new Document();
+                doc.add(new StoredField(SourceFieldMapper.NAME, source));
+                writer.addDocument(doc);
+            }
+            writer.forceMerge(1);
+        }
+        return directory;
+    }
+
+    private static long storedFieldsBytes(Directory directory) throws IOException {
+        long storedFieldsBytes = 0;
+        for (String file : directory.listAll()) {
+            if (file.endsWith(".fdt")) {
+                storedFieldsBytes += directory.fileLength(file);
+            }
+        }
+        return storedFieldsBytes;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        reader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public long index(StoredFieldsSize size) throws IOException {
+        try (Directory directory = indexAndMerge()) {
+            size.storedFieldsBytes = storedFieldsBytes(directory);
+            return size.storedFieldsBytes;
+        }
+    }
+
+    @Benchmark
+    public Document fetchRandomDocument() throws IOException {
+        return reader.document(fetchIds[fetch++ & (NUM_FETCH_IDS - 1)]);
+    }
+
+    /**
+     * Reports the size of the stored fields of the merged segment that {@link #index} writes next to its timings.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class StoredFieldsSize {
+        public long storedFieldsBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            storedFieldsBytes = 0;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.transport;
+
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.action.OriginalIndices;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
+import org.opensearch.common.io.Streams;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.Index;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.aggregations.bucket.terms.StringTerms;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.query.QuerySearchResult;
+import org.opensearch.transport.Compression;
+import org.opensearch.transport.TransportDecompressor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the transport compression schemes on serialized query phase results and bulk requests, the two kinds of messages that
+ * dominate the traffic between nodes of a search or an indexing heavy cluster.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class TransportCompressionBenchmark {
+
+    @Param({ "deflate", "lz4" })
+    private String scheme;
+
+    @Param({ "query_result", "bulk" })
+    private String payload;
+
+    private Compression.Scheme compressionScheme;
+    private BytesReference uncompressed;
+    private BytesReference compressed;
+
+    @Setup
+    public void setup() throws IOException {
+        compressionScheme = Compression.Scheme.parse(scheme);
+        Random random = new Random(42);
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            if (payload.equals("query_result")) {
+                queryResult(random).writeTo(out);
+            } else {
+                bulkRequest(random).writeTo(out);
+            }
+            uncompressed = out.copyBytes();
+        }
+        compressed = compress();
+    }
+
+    private static QuerySearchResult queryResult(Random random) {
+        QuerySearchResult result = new QuerySearchResult(new ShardSearchContextId("session", random.nextLong()),
+            new SearchShardTarget("node", new ShardId(new Index("index", "_na_"), 0), null, OriginalIndices.NONE), null);
+        FieldDoc[] fieldDocs = new FieldDoc[500];
+        for (int i = 0; i < fieldDocs.length; i++) {
+            fieldDocs[i] = new FieldDoc(random.nextInt(1_000_000), Float.NaN,
+                new Object[] { 1_600_000_000_000L + random.nextInt(86_400_000), new BytesRef("user-" + random.nextInt(1000)) });
+        }
+        SortField[] sortFields = new SortField[] { new SortField("@timestamp", SortField.Type.LONG, true),
+            new SortField("user.id", SortField.Type.STRING) };
+        result.topDocs(new TopDocsAndMaxScore(new TopFieldDocs(new TotalHits(100_000, TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO),
+            fieldDocs, sortFields), Float.NaN), new DocValueFormat[] { DocValueFormat.RAW, DocValueFormat.RAW });
+
+        List<StringTerms.Bucket> buckets = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            buckets.add(new StringTerms.Bucket(new BytesRef(String.format(Locale.ROOT, "host-%05d", i)), random.nextInt(10000),
+                InternalAggregations.EMPTY, false, 0L, DocValueFormat.RAW));
+        }
+        result.aggregations(InternalAggregations.from(Collections.singletonList(new StringTerms("hosts", BucketOrder.key(true),
+            BucketOrder.count(false), buckets.size(), 1, Collections.emptyMap(), DocValueFormat.RAW, 1, false, 0, buckets, 0))));
+        return result;
+    }
+
+    private static BulkRequest bulkRequest(Random random) {
+        BulkRequest request = new BulkRequest();
+        String[] levels = new String[] { "INFO", "WARN", "ERROR", "DEBUG" };
+        for (int i = 0; i < 1000; i++) {
+            String source = String.format(Locale.ROOT,
+                "{\"@timestamp\":\"2021-03-%02dT%02d:%02d:%02d.%03dZ\",\"host\":{\"name\":\"host-%05d\"},\"log\":{\"level\":\"%s\"},"
+                    + "\"http\":{\"request\":{\"method\":\"GET\"},\"response\":{\"status_code\":%d,\"bytes\":%d}},"
+                    + "\"url\":{\"path\":\"/api/v1/items/%d\"},\"message\":\"request took %d ms\"}",
+                1 + random.nextInt(28), random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1000),
+                random.nextInt(200), levels[random.nextInt(levels.length)], random.nextBoolean() ? 200 : 404,
+                random.nextInt(100_000), random.nextInt(1_000_000), random.nextInt(5000));
+            request.add(new IndexRequest("logs").source(source, XContentType.JSON));
+        }
+        return request;
+    }
+
+    @Benchmark
+    public BytesReference compress() throws IOException {
+        BytesStreamOutput out = new BytesStreamOutput(uncompressed.length());
+        try (OutputStream compressedStream = compressionScheme.compressor().threadLocalOutputStream(Streams.flushOnCloseStream(out))) {
+            uncompressed.writeTo(compressedStream);
+        }
+        return out.bytes();
+    }
+
+    @Benchmark
+    public int decompress() throws IOException {
+        int decompressedLength = 0;
+        try (TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE)) {
+            decompressor.decompress(compressed);
+            ReleasableBytesReference page;
+            while ((page = decompressor.pollDecompressedPage()) != null) {
+                decompressedLength += page.length();
+                page.close();
+            }
+        }
+        if (decompressedLength != uncompressed.length()) {
+            throw new IllegalStateException("expected [" + uncompressed.length() + "] bytes but got [" + decompressedLength + "]");
+        }
+        return decompressedLength;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.translog.Translog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link PackedVersionMap} with the concurrent hash map that the live version map used before, while threads
+ * look up uids concurrently with a thread that indexes them. Run with {@code -prof gc} to also compare the allocations.
+ */
+@Fork(3)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class PackedVersionMapBenchmark {
+
+    @Param({ "packed", "concurrent_hash_map" })
+    private String type;
+
+    @Param({ "10000", "1000000" })
+    private int numUids;
+
+    private BytesRef[] uids;
+    private PackedVersionMap packedMap;
+    private Map<BytesRef, VersionValue> hashMap;
+
+    @Setup
+    public void setUp() {
+        uids = new BytesRef[numUids];
+        packedMap = new PackedVersionMap(numUids);
+        hashMap = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
+        for (int i = 0; i < numUids; i++) {
+            uids[i] = new BytesRef("uid-" + i);
+            put(uids[i], newValue(i));
+        }
+    }
+
+    @Benchmark
+    @Group("get_and_index")
+    @GroupThreads(3)
+    public VersionValue get() {
+        final BytesRef uid = uids[ThreadLocalRandom.current().nextInt(numUids)];
+        return "packed".equals(type) ? packedMap.get(uid) : hashMap.get(uid);
+    }
+
+    @Benchmark
+    @Group("get_and_index")
+    @GroupThreads(1)
+    public VersionValue index() {
+        final int i = ThreadLocalRandom.current().nextInt(numUids);
+        return put(uids[i], newValue(i));
+    }
+
+    private VersionValue put(BytesRef uid, VersionValue value) {
+        return "packed".equals(type) ? packedMap.put(uid, value) : hashMap.put(uid, value);
+    }
+
+    private static VersionValue newValue(long version) {
+        return new IndexVersionValue(new Translog.Location(1, version, 128), version, version, 1);
+    }
+}
@@ -87,6 +87,7 @@ public final class Grok {
     private final Regex compiledExpression;
     private final MatcherWatchdog matcherWatchdog;
     private final List<GrokCaptureConfig> captureConfig;
+    private final List<String> requiredLiterals;
 
     public Grok(Map<String, String> patternBank, String grokPattern, Consumer<String> logCallBack) {
         this(patternBank, grokPattern, true, MatcherWatchdog.noop(), logCallBack);
@@ -122,6 +123,7 @@ public final class Grok {
             captureConfig.add(new GrokCaptureConfig(entry.next()));
         }
         this.captureConfig = unmodifiableList(captureConfig);
+        this.requiredLiterals = unmodifiableList(GrokPrefilter.requiredLiterals(expression));
     }
 
     /**
@@ -260,8 +262,20 @@ public final class Grok {
      */
     public Map<String, Object> captures(String text) {
         byte[] utf8Bytes = text.getBytes(StandardCharsets.UTF_8);
+        return captures(utf8Bytes, 0, utf8Bytes.length);
+    }
+
+    /**
+     * Matches and returns any named captures.
+     *
+     * @param utf8Bytes array containing the text to match against encoded in utf-8
+     * @param offset offset {@code utf8Bytes} of the start of the text
+     * @param length length of the text to match
+     * @return a map containing field names and their respective coerced values that matched or null if the pattern didn't match
+     */
+    public Map<String, Object> captures(byte[] utf8Bytes, int offset, int length) {
         GrokCaptureExtracter.MapExtracter extracter = new GrokCaptureExtracter.MapExtracter(captureConfig);
-        if (match(utf8Bytes, 0, utf8Bytes.length, extracter)) {
+        if (match(utf8Bytes, offset, length, extracter)) {
             return extracter.result();
         }
         return null;
@@ -303,6 +317,13 @@ public final class Grok {
         return captureConfig;
     }
 
+    /**
+     * Literals that every text that matches this {@linkplain Grok} contains, see {@link GrokPrefilter}.
+     */
+    public List<String> requiredLiterals() {
+        return requiredLiterals;
+    }
+
     /**
      * Load built-in patterns.
      */
@@ -0,0 +1,300 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Selects the patterns of a list of {@link Grok}s that can possibly match a text, so that the regular expressions of the other
+ * patterns don't need to run. Each pattern is reduced to literals that every text it matches contains, see
+ * {@link #requiredLiterals(String)}, and the literals of all patterns are combined into a single Aho-Corasick automaton that finds
+ * all of them in one pass over the text.
+ */
+public final class GrokPrefilter {
+
+    private static final Pattern INTERVAL = Pattern.compile("[0-9]*,?[0-9]*");
+
+    private final int numberOfPatterns;
+    /** the ids of the literals that each pattern requires */
+    private final int[][] patternLiterals;
+    private final int numberOfLiterals;
+
+    // the automaton: per state the sorted bytes it has a transition for, the target states, its failure state and the ids of the
+    // literals that end in it, including the ones of the states it fails to
+    private final byte[][] labels;
+    private final int[][] targets;
+    private final int[] failures;
+    private final int[][] outputs;
+
+    public GrokPrefilter(List<Grok> groks) {
+        this.numberOfPatterns = groks.size();
+        this.patternLiterals = new int[groks.size()][];
+        final Map<String, Integer> literalIds = new LinkedHashMap<>();
+        for (int i = 0; i < groks.size(); i++) {
+            List<String> literals = groks.get(i).requiredLiterals();
+            patternLiterals[i] = new int[literals.size()];
+            for (int j = 0; j < literals.size(); j++) {
+                patternLiterals[i][j] = literalIds.computeIfAbsent(literals.get(j), k -> literalIds.size());
+            }
+        }
+        this.numberOfLiterals = literalIds.size();
+
+        // build the trie
+        final List<TreeMap<Byte, Integer>> trie = new ArrayList<>();
+        final List<Set<Integer>> ends = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        ends.add(new LinkedHashSet<>());
+        for (Map.Entry<String, Integer> literal : literalIds.entrySet()) {
+            int state = 0;
+            for (byte b : literal.getKey().getBytes(StandardCharsets.UTF_8)) {
+                Integer next = trie.get(state).get(b);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    ends.add(new LinkedHashSet<>());
+                    trie.get(state).put(b, next);
+                }
+                state = next;
+            }
+            ends.get(state).add(literal.getValue());
+        }
+
+        final int numberOfStates = trie.size();
+        this.labels = new byte[numberOfStates][];
+        this.targets = new int[numberOfStates][];
+        this.failures = new int[numberOfStates];
+        this.outputs = new int[numberOfStates][];
+        for (int state = 0; state < numberOfStates; state++) {
+            TreeMap<Byte, Integer> transitions = trie.get(state);
+            labels[state] = new byte[transitions.size()];
+            targets[state] = new int[transitions.size()];
+            int i = 0;
+            for (Map.Entry<Byte, Integer> transition : transitions.entrySet()) {
+                labels[state][i] = transition.getKey();
+                targets[state][i] = transition.getValue();
+                i++;
+            }
+        }
+
+        // compute the failure states breadth first, so that the failure state of a state is complete before it is used
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for (int target : targets[0]) {
+            failures[target] = 0;
+            queue.add(target);
+        }
+        outputs[0] = toArray(ends.get(0));
+        while (queue.isEmpty() == false) {
+            int state = queue.poll();
+            Set<Integer> output = new LinkedHashSet<>(ends.get(state));
+            for (int literal : outputs[failures[state]]) {
+                output.add(literal);
+            }
+            outputs[state] = toArray(output);
+            for (int i = 0; i < labels[state].length; i++) {
+                int target = targets[state][i];
+                int failure = failures[state];
+                int next = transition(failure, labels[state][i]);
+                while (next == -1 && failure != 0) {
+                    failure = failures[failure];
+                    next = transition(failure, labels[state][i]);
+                }
+                failures[target] = next == -1 ? 0 : next;
+                queue.add(target);
+            }
+        }
+    }
+
+    /**
+     * Returns the indices of the patterns that can match the provided text, patterns without any required literal always can.
+     */
+    public BitSet candidates(byte[] utf8Bytes, int offset, int length) {
+        final BitSet candidates = new BitSet(numberOfPatterns);
+        if (numberOfLiterals == 0) {
+            candidates.set(0, numberOfPatterns);
+            return candidates;
+        }
+        final boolean[] found = new boolean[numberOfLiterals];
+        int remaining = numberOfLiterals;
+        int state = 0;
+        for (int i = offset; i < offset + length && remaining > 0; i++) {
+            final byte b = utf8Bytes[i];
+            int next = transition(state, b);
+            while (next == -1 && state != 0) {
+                state = failures[state];
+                next = transition(state, b);
+            }
+            state = next == -1 ? 0 : next;
+            for (int literal : outputs[state]) {
+                if (found[literal] == false) {
+                    found[literal] = true;
+                    remaining--;
+                }
+            }
+        }
+        patterns:
+        for (int pattern = 0; pattern < numberOfPatterns; pattern++) {
+            for (int literal : patternLiterals[pattern]) {
+                if (found[literal] == false) {
+                    continue patterns;
+                }
+            }
+            candidates.set(pattern);
+        }
+        return candidates;
+    }
+
+    private int transition(int state, byte b) {
+        int index = Arrays.binarySearch(labels[state], b);
+        return index < 0 ? -1 : targets[state][index];
+    }
+
+    private static int[] toArray(Set<Integer> set) {
+        return set.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Extracts literals that every text that matches the provided regular expression contains. The analysis is conservative: only
+     * literals outside of groups and character classes are considered, and expressions with a top level alternation or with inline
+     * options, that could for instance make the match case insensitive, have no required literals.
+     */
+    static List<String> requiredLiterals(String regex) {
+        final Set<String> literals = new LinkedHashSet<>();
+        final StringBuilder current = new StringBuilder();
+        int depth = 0;
+        for (int i = 0; i < regex.length(); i++) {
+            final char c = regex.charAt(i);
+            if (depth > 0) {
+                // the content of groups is not analysed, only their nesting is tracked
+                if (c == '\\') {
+                    i++;
+                } else if (c == '[') {
+                    i = skipCharacterClass(regex, i);
+                } else if (c == '(') {
+                    depth++;
+                } else if (c == ')') {
+                    depth--;
+                }
+                continue;
+            }
+            switch (c) {
+                case '\\':
+                    if (i + 1 == regex.length()) {
+                        return Collections.emptyList();
+                    }
+                    final char escaped = regex.charAt(++i);
+                    if (escaped < 128 && Character.isLetterOrDigit(escaped) == false && Character.isWhitespace(escaped) == false) {
+                        current.append(escaped);
+                    } else if ("kgpPxuocCMQ0123456789".indexOf(escaped) >= 0) {
+                        // escapes that are followed by more characters that are not part of the text, like back references
+                        return Collections.emptyList();
+                    } else {
+                        flush(current, literals);
+                    }
+                    break;
+                case '[':
+                    flush(current, literals);
+                    i = skipCharacterClass(regex, i);
+                    break;
+                case '(':
+                    if (regex.startsWith("(?", i) && i + 2 < regex.length() && "imx-".indexOf(regex.charAt(i + 2)) >= 0) {
+                        return Collections.emptyList();
+                    }
+                    flush(current, literals);
+                    depth++;
+                    break;
+                case '|':
+                case ')':
+                    return Collections.emptyList();
+                case '{':
+                    final int end = regex.indexOf('}', i);
+                    if (end == -1 || INTERVAL.matcher(regex.substring(i + 1, end)).matches() == false) {
+                        return Collections.emptyList();
+                    }
+                    i = end;
+                    flushQuantified(current, literals);
+                    break;
+                case '?':
+                case '*':
+                case '+':
+                    flushQuantified(current, literals);
+                    break;
+                case '.':
+                case '^':
+                case '$':
+                    flush(current, literals);
+                    break;
+                default:
+                    current.append(c);
+            }
+        }
+        if (depth != 0) {
+            return Collections.emptyList();
+        }
+        flush(current, literals);
+        return new ArrayList<>(literals);
+    }
+
+    private static void flush(StringBuilder current, Set<String> literals) {
+        if (current.length() > 0) {
+            literals.add(current.toString());
+            current.setLength(0);
+        }
+    }
+
+    /**
+     * Flushes the current literal without its last character, which is quantified and so not required.
+     */
+    private static void flushQuantified(StringBuilder current, Set<String> literals) {
+        if (current.length() > 0) {
+            current.setLength(current.length() - 1);
+        }
+        flush(current, literals);
+    }
+
+    /**
+     * Returns the index of the bracket that closes the character class that starts at the provided index.
+     */
+    private static int skipCharacterClass(String regex, int start) {
+        int i = start + 1;
+        if (i < regex.length() && regex.charAt(i) == '^') {
+            i++;
+        }
+        if (i < regex.length() && regex.charAt(i) == ']') {
+            // a closing bracket right after the opening one is a literal
+            i++;
+        }
+        int depth = 1;
+        for (; i < regex.length(); i++) {
+            final char c = regex.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '[') {
+                depth++;
+            } else if (c == ']') {
+                if (--depth == 0) {
+                    return i;
+                }
+            }
+        }
+        return regex.length();
+    }
+}
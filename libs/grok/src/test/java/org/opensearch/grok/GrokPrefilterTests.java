@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.grok;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class GrokPrefilterTests extends OpenSearchTestCase {
+
+    public void testRequiredLiterals() {
+        assertThat(GrokPrefilter.requiredLiterals("(?<pid>\\d+)\\]: Failed password for (?<user>\\w+)"),
+            equalTo(Arrays.asList("]: Failed password for ")));
+        assertThat(GrokPrefilter.requiredLiterals("GET /index.html"), equalTo(Arrays.asList("GET /index", "html")));
+        assertThat(GrokPrefilter.requiredLiterals("abc?d"), equalTo(Arrays.asList("ab", "d")));
+        assertThat(GrokPrefilter.requiredLiterals("ab{2,3}cd+e*f"), equalTo(Arrays.asList("a", "c", "f")));
+        assertThat(GrokPrefilter.requiredLiterals("[]ab]cd[^x]ef\\sgh"), equalTo(Arrays.asList("cd", "ef", "gh")));
+        assertThat(GrokPrefilter.requiredLiterals("a(b|c)d"), equalTo(Arrays.asList("a", "d")));
+        assertThat(GrokPrefilter.requiredLiterals("^start$"), equalTo(Collections.singletonList("start")));
+    }
+
+    public void testNoRequiredLiterals() {
+        assertThat(GrokPrefilter.requiredLiterals(""), equalTo(Collections.emptyList()));
+        assertThat(GrokPrefilter.requiredLiterals("foo|bar"), equalTo(Collections.emptyList()));
+        assertThat(GrokPrefilter.requiredLiterals("(?i)foo"), equalTo(Collections.emptyList()));
+        assertThat(GrokPrefilter.requiredLiterals("(?<a>x)\\k<a>"), equalTo(Collections.emptyList()));
+        assertThat(GrokPrefilter.requiredLiterals("a{b"), equalTo(Collections.emptyList()));
+        assertThat(GrokPrefilter.requiredLiterals("\\d+"), equalTo(Collections.emptyList()));
+    }
+
+    public void testGrokRequiredLiterals() {
+        Grok grok = new Grok(Grok.BUILTIN_PATTERNS, "%{IP:client} %{WORD:method} /index", logger::warn);
+        assertThat(grok.requiredLiterals(), equalTo(Arrays.asList(" ", " /index")));
+    }
+
+    public void testCandidates() {
+        List<Grok> groks = Arrays.asList(
+            new Grok(Grok.BUILTIN_PATTERNS, "error %{NUMBER:code}", logger::warn),
+            new Grok(Grok.BUILTIN_PATTERNS, "warning %{NUMBER:code} in %{WORD:module}", logger::warn),
+            new Grok(Grok.BUILTIN_PATTERNS, "%{NUMBER:code}", logger::warn));
+        GrokPrefilter prefilter = new GrokPrefilter(groks);
+        assertThat(candidates(prefilter, "error 1"), equalTo(bitSet(0, 2)));
+        assertThat(candidates(prefilter, "warning 1 in foo"), equalTo(bitSet(1, 2)));
+        assertThat(candidates(prefilter, "warning 1"), equalTo(bitSet(2)));
+        assertThat(candidates(prefilter, ""), equalTo(bitSet(2)));
+    }
+
+    public void testCandidatesNeverExcludeAMatch() {
+        List<String> words = Arrays.asList("ab", "ba", "abc", "b", "cab", "a b", "ca");
+        List<Grok> groks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String pattern = randomFrom(words) + "%{WORD:w}?" + randomFrom(words);
+            groks.add(new Grok(Grok.BUILTIN_PATTERNS, pattern, logger::warn));
+        }
+        GrokPrefilter prefilter = new GrokPrefilter(groks);
+        for (int i = 0; i < 100; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int j = randomIntBetween(0, 5); j > 0; j--) {
+                text.append(randomFrom(words));
+            }
+            BitSet candidates = candidates(prefilter, text.toString());
+            for (int pattern = 0; pattern < groks.size(); pattern++) {
+                if (groks.get(pattern).match(text.toString())) {
+                    assertThat(text + " matches pattern " + pattern, candidates.get(pattern), is(true));
+                }
+            }
+        }
+    }
+
+    private static BitSet candidates(GrokPrefilter prefilter, String text) {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        return prefilter.candidates(utf8, 0, utf8.length);
+    }
+
+    private static BitSet bitSet(int... bits) {
+        BitSet bitSet = new BitSet();
+        for (int bit : bits) {
+            bitSet.set(bit);
+        }
+        return bitSet;
+    }
+}
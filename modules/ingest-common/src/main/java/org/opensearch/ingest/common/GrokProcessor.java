@@ -35,15 +35,22 @@ package org.opensearch.ingest.common;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.grok.Grok;
+import org.opensearch.grok.GrokPrefilter;
 import org.opensearch.grok.MatcherWatchdog;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
 import org.opensearch.ingest.Processor;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
 
@@ -55,21 +62,43 @@ public final class GrokProcessor extends AbstractProcessor {
 
     private final String matchField;
     private final List<String> matchPatterns;
-    private final Grok grok;
+    private final List<Grok> groks;
+    private final GrokPrefilter prefilter;
     private final boolean traceMatch;
     private final boolean ignoreMissing;
+    // per pattern: how often it matched, how often it was tried without matching and how often the prefilter ruled it out
+    private final LongAdder[] matches;
+    private final LongAdder[] misses;
+    private final LongAdder[] skips;
 
     GrokProcessor(String tag, String description, Map<String, String> patternBank, List<String> matchPatterns, String matchField,
                   boolean traceMatch, boolean ignoreMissing, MatcherWatchdog matcherWatchdog) {
         super(tag, description);
         this.matchField = matchField;
         this.matchPatterns = matchPatterns;
-        this.grok = new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::debug);
+        // every pattern is a separate expression, so that the prefilter can rule out the ones that can't match a value
+        List<Grok> groks = new ArrayList<>(matchPatterns.size());
+        for (String matchPattern : matchPatterns) {
+            groks.add(new Grok(patternBank, matchPattern, matcherWatchdog, logger::debug));
+            // Joni warnings are only emitted on an attempt to match, and the warning emitted for every call to match which is too
+            // verbose so here we emit a warning (if there is one) to the logfile at warn level on construction / processor creation.
+            new Grok(patternBank, matchPattern, matcherWatchdog, logger::warn).match("___nomatch___");
+        }
+        this.groks = Collections.unmodifiableList(groks);
+        this.prefilter = new GrokPrefilter(groks);
         this.traceMatch = traceMatch;
         this.ignoreMissing = ignoreMissing;
-        // Joni warnings are only emitted on an attempt to match, and the warning emitted for every call to match which is too verbose
-        // so here we emit a warning (if there is one) to the logfile at warn level on construction / processor creation.
-        new Grok(patternBank, combinePatterns(matchPatterns, traceMatch), matcherWatchdog, logger::warn).match("___nomatch___");
+        this.matches = newCounters(matchPatterns.size());
+        this.misses = newCounters(matchPatterns.size());
+        this.skips = newCounters(matchPatterns.size());
+    }
+
+    private static LongAdder[] newCounters(int size) {
+        LongAdder[] counters = new LongAdder[size];
+        for (int i = 0; i < size; i++) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
     }
 
     @Override
@@ -82,34 +111,53 @@ public final class GrokProcessor extends AbstractProcessor {
             throw new IllegalArgumentException("field [" + matchField + "] is null, cannot process it.");
         }
 
-        Map<String, Object> matches = grok.captures(fieldValue);
-        if (matches == null) {
+        byte[] utf8Bytes = fieldValue.getBytes(StandardCharsets.UTF_8);
+        BitSet candidates = groks.size() > 1 ? prefilter.candidates(utf8Bytes, 0, utf8Bytes.length) : null;
+        Map<String, Object> captures = null;
+        int matchIndex = -1;
+        for (int i = 0; i < groks.size(); i++) {
+            if (candidates != null && candidates.get(i) == false) {
+                skips[i].increment();
+                continue;
+            }
+            captures = groks.get(i).captures(utf8Bytes, 0, utf8Bytes.length);
+            if (captures != null) {
+                matches[i].increment();
+                matchIndex = i;
+                break;
+            }
+            misses[i].increment();
+        }
+        if (captures == null) {
             throw new IllegalArgumentException("Provided Grok expressions do not match field value: [" + fieldValue + "]");
         }
 
-        matches.forEach(ingestDocument::setFieldValue);
+        captures.forEach(ingestDocument::setFieldValue);
 
         if (traceMatch) {
-            if (matchPatterns.size() > 1) {
-                @SuppressWarnings("unchecked")
-                HashMap<String, String> matchMap = (HashMap<String, String>) ingestDocument.getFieldValue(PATTERN_MATCH_KEY, Object.class);
-                matchMap.keySet().stream().findFirst().ifPresent((index) -> {
-                    ingestDocument.setFieldValue(PATTERN_MATCH_KEY, index);
-                });
-            } else {
-                ingestDocument.setFieldValue(PATTERN_MATCH_KEY, "0");
-            }
+            ingestDocument.setFieldValue(PATTERN_MATCH_KEY, Integer.toString(matchIndex));
         }
         return ingestDocument;
     }
 
+    @Override
+    public Map<String, Long> getCounters() {
+        Map<String, Long> counters = new LinkedHashMap<>();
+        for (int i = 0; i < groks.size(); i++) {
+            counters.put("patterns." + i + ".matches", matches[i].sum());
+            counters.put("patterns." + i + ".misses", misses[i].sum());
+            counters.put("patterns." + i + ".skips", skips[i].sum());
+        }
+        return counters;
+    }
+
     @Override
     public String getType() {
         return TYPE;
     }
 
-    Grok getGrok() {
-        return grok;
+    List<Grok> getGroks() {
+        return groks;
     }
 
     boolean isIgnoreMissing() {
@@ -124,31 +172,6 @@ public final class GrokProcessor extends AbstractProcessor {
         return matchPatterns;
     }
 
-    static String combinePatterns(List<String> patterns, boolean traceMatch) {
-        String combinedPattern;
-        if (patterns.size() > 1) {
-            combinedPattern = "";
-            for (int i = 0; i < patterns.size(); i++) {
-                String pattern = patterns.get(i);
-                String valueWrap;
-                if (traceMatch) {
-                    valueWrap = "(?<" + PATTERN_MATCH_KEY + "." + i + ">" + pattern + ")";
-                } else {
-                    valueWrap = "(?:" + patterns.get(i) + ")";
-                }
-                if (combinedPattern.equals("")) {
-                    combinedPattern = valueWrap;
-                } else {
-                    combinedPattern = combinedPattern + "|" + valueWrap;
-                }
-            }
-        }  else {
-            combinedPattern = patterns.get(0);
-        }
-
-        return combinedPattern;
-    }
-
     public static final class Factory implements Processor.Factory {
 
         private final Map<String, String> builtinPatterns;
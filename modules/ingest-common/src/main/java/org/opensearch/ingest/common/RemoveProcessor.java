@@ -68,8 +68,8 @@ public final class RemoveProcessor extends AbstractProcessor {
     public IngestDocument execute(IngestDocument document) {
         if (ignoreMissing) {
             fields.forEach(field -> {
-                String path = document.renderTemplate(field);
-                if (document.hasField(path)) {
+                IngestDocument.FieldPath path = document.fieldPath(field);
+                if (document.hasField(path, false)) {
                     document.removeField(path);
                 }
             });
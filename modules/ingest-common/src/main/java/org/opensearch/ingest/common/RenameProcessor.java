@@ -74,7 +74,7 @@ public final class RenameProcessor extends AbstractProcessor {
 
     @Override
     public IngestDocument execute(IngestDocument document) {
-        String path = document.renderTemplate(field);
+        IngestDocument.FieldPath path = document.fieldPath(field);
         if (document.hasField(path, true) == false) {
             if (ignoreMissing) {
                 return document;
@@ -86,7 +86,7 @@ public final class RenameProcessor extends AbstractProcessor {
         // If we didn't do this then we would fail if we set the value in the target_field
         // and then on failure processors would not see that value we tried to rename as we already
         // removed it.
-        String target = document.renderTemplate(targetField);
+        IngestDocument.FieldPath target = document.fieldPath(targetField);
         if (document.hasField(target, true)) {
             throw new IllegalArgumentException("field [" + target + "] already exists");
         }
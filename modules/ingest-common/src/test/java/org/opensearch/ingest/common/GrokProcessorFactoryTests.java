@@ -41,8 +41,8 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
-import static org.hamcrest.Matchers.notNullValue;
 
 public class GrokProcessorFactoryTests extends OpenSearchTestCase {
 
@@ -56,7 +56,7 @@ public class GrokProcessorFactoryTests extends OpenSearchTestCase {
         GrokProcessor processor = factory.create(null, processorTag, null, config);
         assertThat(processor.getTag(), equalTo(processorTag));
         assertThat(processor.getMatchField(), equalTo("_field"));
-        assertThat(processor.getGrok(), notNullValue());
+        assertThat(processor.getGroks(), hasSize(1));
         assertThat(processor.isIgnoreMissing(), is(false));
     }
 
@@ -71,7 +71,7 @@ public class GrokProcessorFactoryTests extends OpenSearchTestCase {
         GrokProcessor processor = factory.create(null, processorTag, null, config);
         assertThat(processor.getTag(), equalTo(processorTag));
         assertThat(processor.getMatchField(), equalTo("_field"));
-        assertThat(processor.getGrok(), notNullValue());
+        assertThat(processor.getGroks(), hasSize(1));
         assertThat(processor.isIgnoreMissing(), is(true));
     }
 
@@ -109,8 +109,8 @@ public class GrokProcessorFactoryTests extends OpenSearchTestCase {
         config.put("pattern_definitions", Collections.singletonMap("MY_PATTERN", "foo"));
         GrokProcessor processor = factory.create(null, null, null, config);
         assertThat(processor.getMatchField(), equalTo("_field"));
-        assertThat(processor.getGrok(), notNullValue());
-        assertThat(processor.getGrok().match("foo!"), equalTo(true));
+        assertThat(processor.getGroks(), hasSize(1));
+        assertThat(processor.getGroks().get(0).match("foo!"), equalTo(true));
     }
 
     public void testCreateWithInvalidPattern() throws Exception {
@@ -205,20 +205,33 @@ public class GrokProcessorTests extends OpenSearchTestCase {
         assertThat(doc.getFieldValue("_ingest._grok_match_index", String.class), equalTo("0"));
     }
 
-    public void testCombinedPatterns() {
-        String combined;
-        combined = GrokProcessor.combinePatterns(Arrays.asList(""), false);
-        assertThat(combined, equalTo(""));
-        combined = GrokProcessor.combinePatterns(Arrays.asList(""), true);
-        assertThat(combined, equalTo(""));
-        combined = GrokProcessor.combinePatterns(Arrays.asList("foo"), false);
-        assertThat(combined, equalTo("foo"));
-        combined = GrokProcessor.combinePatterns(Arrays.asList("foo"), true);
-        assertThat(combined, equalTo("foo"));
-        combined = GrokProcessor.combinePatterns(Arrays.asList("foo", "bar"), false);
-        assertThat(combined, equalTo("(?:foo)|(?:bar)"));
-        combined = GrokProcessor.combinePatterns(Arrays.asList("foo", "bar"), true);
-        assertThat(combined, equalTo("(?<_ingest._grok_match_index.0>foo)|(?<_ingest._grok_match_index.1>bar)"));
+    public void testPerPatternCounters() throws Exception {
+        String fieldName = RandomDocumentPicks.randomFieldName(random());
+        Map<String, String> patternBank = new HashMap<>();
+        patternBank.put("NUMBER", "\\d+");
+        GrokProcessor processor = new GrokProcessor(randomAlphaOfLength(10), null, patternBank,
+            Arrays.asList("error %{NUMBER:code}", "warning %{NUMBER:code}", "%{NUMBER:code}"), fieldName, false, false,
+            MatcherWatchdog.noop());
+
+        IngestDocument doc = RandomDocumentPicks.randomIngestDocument(random(), new HashMap<>());
+        doc.setFieldValue(fieldName, "warning 12");
+        processor.execute(doc);
+        assertThat(doc.getFieldValue("code", String.class), equalTo("12"));
+        doc.setFieldValue(fieldName, "warn 13");
+        processor.execute(doc);
+        assertThat(doc.getFieldValue("code", String.class), equalTo("13"));
+
+        Map<String, Long> counters = processor.getCounters();
+        // "error " is required by the first pattern and in neither value, so it was never tried
+        assertThat(counters.get("patterns.0.matches"), equalTo(0L));
+        assertThat(counters.get("patterns.0.misses"), equalTo(0L));
+        assertThat(counters.get("patterns.0.skips"), equalTo(2L));
+        assertThat(counters.get("patterns.1.matches"), equalTo(1L));
+        assertThat(counters.get("patterns.1.misses"), equalTo(0L));
+        assertThat(counters.get("patterns.1.skips"), equalTo(1L));
+        assertThat(counters.get("patterns.2.matches"), equalTo(1L));
+        assertThat(counters.get("patterns.2.misses"), equalTo(0L));
+        assertThat(counters.get("patterns.2.skips"), equalTo(0L));
     }
 
     public void testCombineSamePatternNameAcrossPatterns() throws Exception {
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import io.netty.channel.Channel;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.http.HttpChunkedContent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link HttpChunkedContent} that is fed by the {@link Netty4HttpChunkedContentHandler} of its channel. Pausing the content turns off
+ * auto read on the channel, so that the socket buffers fill up and the client is slowed down by TCP flow control.
+ */
+class Netty4HttpChunkedContent implements HttpChunkedContent {
+
+    private final Channel channel;
+    private final AtomicBoolean started = new AtomicBoolean();
+    // the following fields are only accessed on the event loop of the channel
+    private final List<BytesReference> bufferedChunks = new ArrayList<>();
+    private Listener listener;
+    private boolean lastChunkReceived;
+    private boolean discarded;
+    private Exception failure;
+
+    Netty4HttpChunkedContent(Channel channel) {
+        this.channel = channel;
+    }
+
+    @Override
+    public void start(Listener listener) {
+        Objects.requireNonNull(listener);
+        if (started.compareAndSet(false, true) == false) {
+            throw new IllegalStateException("chunked content can only be consumed once");
+        }
+        channel.eventLoop().execute(() -> {
+            this.listener = listener;
+            for (int i = 0; i < bufferedChunks.size(); i++) {
+                listener.onChunk(bufferedChunks.get(i), lastChunkReceived && i == bufferedChunks.size() - 1);
+            }
+            bufferedChunks.clear();
+            if (failure != null) {
+                listener.onFailure(failure);
+            } else if (lastChunkReceived == false) {
+                channel.config().setAutoRead(true);
+            }
+        });
+    }
+
+    @Override
+    public void pause() {
+        channel.eventLoop().execute(() -> {
+            if (isCompleted() == false) {
+                channel.config().setAutoRead(false);
+            }
+        });
+    }
+
+    @Override
+    public void resume() {
+        channel.eventLoop().execute(() -> {
+            if (isCompleted() == false && listener != null) {
+                channel.config().setAutoRead(true);
+            }
+        });
+    }
+
+    @Override
+    public void discard() {
+        channel.eventLoop().execute(() -> {
+            if (isCompleted()) {
+                return;
+            }
+            discarded = true;
+            failure = new IllegalStateException("the response was sent before the whole body was received");
+            bufferedChunks.clear();
+            channel.config().setAutoRead(true);
+            if (listener != null) {
+                listener.onFailure(failure);
+            }
+        });
+    }
+
+    /**
+     * Whether the chunks of the rest of the body are dropped rather than delivered, see {@link #discard()}.
+     */
+    boolean isDiscarded() {
+        assert channel.eventLoop().inEventLoop();
+        return discarded;
+    }
+
+    void onChunk(BytesReference chunk, boolean last) {
+        assert channel.eventLoop().inEventLoop();
+        assert isCompleted() == false : "chunk received after the body was completed or discarded";
+        if (last) {
+            lastChunkReceived = true;
+            // the next request on this channel must be read whatever the consumer of this one is doing
+            channel.config().setAutoRead(true);
+        }
+        if (listener == null) {
+            bufferedChunks.add(chunk);
+        } else {
+            listener.onChunk(chunk, last);
+        }
+    }
+
+    void onFailure(Exception e) {
+        assert channel.eventLoop().inEventLoop();
+        if (isCompleted()) {
+            return;
+        }
+        failure = e;
+        if (listener != null) {
+            listener.onFailure(e);
+        }
+    }
+
+    private boolean isCompleted() {
+        return lastChunkReceived || failure != null;
+    }
+}
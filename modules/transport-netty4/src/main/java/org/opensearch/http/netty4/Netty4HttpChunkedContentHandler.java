@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.EmptyHttpHeaders;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.http.HttpChunkedContent;
+import org.opensearch.rest.RestRequest;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.function.BiPredicate;
+
+/**
+ * Sits in front of the {@link io.netty.handler.codec.http.HttpObjectAggregator} and takes over the requests whose handler consumes the
+ * body chunk by chunk, see {@link org.opensearch.http.AbstractHttpServerTransport#supportsChunkedContent}. Such requests are passed on
+ * immediately with an empty body and a {@link HttpChunkedContent} that the following content is fed to, instead of being aggregated.
+ */
+class Netty4HttpChunkedContentHandler extends ChannelInboundHandlerAdapter {
+
+    private final BiPredicate<RestRequest.Method, String> supportsChunkedContent;
+    private Netty4HttpChunkedContent current;
+
+    Netty4HttpChunkedContentHandler(BiPredicate<RestRequest.Method, String> supportsChunkedContent) {
+        this.supportsChunkedContent = supportsChunkedContent;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (current != null && msg instanceof HttpContent) {
+            final HttpContent content = (HttpContent) msg;
+            final Netty4HttpChunkedContent chunkedContent = current;
+            try {
+                final boolean last = content instanceof LastHttpContent;
+                if (last || content.decoderResult().isFailure()) {
+                    current = null;
+                }
+                // once the request was completed without consuming its whole body, the rest of the body is read and dropped
+                if (chunkedContent.isDiscarded() == false) {
+                    if (content.decoderResult().isFailure()) {
+                        final Throwable cause = content.decoderResult().cause();
+                        chunkedContent.onFailure(cause instanceof Exception ? (Exception) cause : new Exception(cause));
+                    } else {
+                        // the chunk is copied as the consumer may hold on to it for longer than the lifetime of the pooled buffer
+                        chunkedContent.onChunk(new BytesArray(ByteBufUtil.getBytes(content.content())), last);
+                    }
+                }
+            } finally {
+                content.release();
+            }
+        } else if (msg instanceof HttpRequest && msg instanceof FullHttpRequest == false && supportsChunkedContent((HttpRequest) msg)) {
+            final HttpRequest request = (HttpRequest) msg;
+            if (HttpUtil.is100ContinueExpected(request)) {
+                ctx.writeAndFlush(new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.CONTINUE, Unpooled.EMPTY_BUFFER));
+                request.headers().remove(HttpHeaderNames.EXPECT);
+            }
+            // chunks read until the handler starts consuming the content are buffered, reading resumes once it did
+            ctx.channel().config().setAutoRead(false);
+            current = new Netty4HttpChunkedContent(ctx.channel());
+            ctx.fireChannelRead(new ChunkedHttpRequest(request, current));
+        } else {
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        if (current != null) {
+            current.onFailure(new ClosedChannelException());
+            current = null;
+        }
+        super.channelInactive(ctx);
+    }
+
+    private boolean supportsChunkedContent(HttpRequest request) {
+        if (request.decoderResult().isFailure()) {
+            return false;
+        }
+        final RestRequest.Method method;
+        try {
+            method = RestRequest.Method.valueOf(request.method().name());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return supportsChunkedContent.test(method, request.uri());
+    }
+
+    /**
+     * A request without body whose content is handed over through {@link #chunkedContent()}.
+     */
+    static final class ChunkedHttpRequest extends DefaultFullHttpRequest {
+
+        private final HttpChunkedContent chunkedContent;
+
+        ChunkedHttpRequest(HttpRequest request, HttpChunkedContent chunkedContent) {
+            super(request.protocolVersion(), request.method(), request.uri(), Unpooled.EMPTY_BUFFER, request.headers(),
+                EmptyHttpHeaders.INSTANCE);
+            this.chunkedContent = chunkedContent;
+        }
+
+        HttpChunkedContent chunkedContent() {
+            return chunkedContent;
+        }
+    }
+}
@@ -44,6 +44,7 @@ import io.netty.handler.codec.http.cookie.Cookie;
 import io.netty.handler.codec.http.cookie.ServerCookieDecoder;
 import io.netty.handler.codec.http.cookie.ServerCookieEncoder;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.http.HttpChunkedContent;
 import org.opensearch.http.HttpRequest;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.rest.RestStatus;
@@ -66,12 +67,18 @@ public class Netty4HttpRequest implements HttpRequest {
     private final AtomicBoolean released;
     private final Exception inboundException;
     private final boolean pooled;
+    private final HttpChunkedContent chunkedContent;
 
     Netty4HttpRequest(FullHttpRequest request) {
         this(request, new HttpHeadersMap(request.headers()), new AtomicBoolean(false), true,
             Netty4Utils.toBytesReference(request.content()));
     }
 
+    Netty4HttpRequest(FullHttpRequest request, HttpChunkedContent chunkedContent) {
+        this(request, new HttpHeadersMap(request.headers()), new AtomicBoolean(false), true,
+            Netty4Utils.toBytesReference(request.content()), null, chunkedContent);
+    }
+
     Netty4HttpRequest(FullHttpRequest request, Exception inboundException) {
         this(request, new HttpHeadersMap(request.headers()), new AtomicBoolean(false), true,
             Netty4Utils.toBytesReference(request.content()), inboundException);
@@ -84,12 +91,18 @@ public class Netty4HttpRequest implements HttpRequest {
 
     private Netty4HttpRequest(FullHttpRequest request, HttpHeadersMap headers, AtomicBoolean released, boolean pooled,
                               BytesReference content, Exception inboundException) {
+        this(request, headers, released, pooled, content, inboundException, null);
+    }
+
+    private Netty4HttpRequest(FullHttpRequest request, HttpHeadersMap headers, AtomicBoolean released, boolean pooled,
+                              BytesReference content, Exception inboundException, HttpChunkedContent chunkedContent) {
         this.request = request;
         this.headers = headers;
         this.content = content;
         this.pooled = pooled;
         this.released = released;
         this.inboundException = inboundException;
+        this.chunkedContent = chunkedContent;
     }
 
     @Override
@@ -141,6 +154,11 @@ public class Netty4HttpRequest implements HttpRequest {
         return content;
     }
 
+    @Override
+    public HttpChunkedContent chunkedContent() {
+        return chunkedContent;
+    }
+
     @Override
     public void release() {
         if (pooled && released.compareAndSet(false, true)) {
@@ -159,7 +177,7 @@ public class Netty4HttpRequest implements HttpRequest {
             return new Netty4HttpRequest(
                 new DefaultFullHttpRequest(request.protocolVersion(), request.method(), request.uri(), copiedContent, request.headers(),
                     request.trailingHeaders()),
-                headers, new AtomicBoolean(false), false, Netty4Utils.toBytesReference(copiedContent));
+                headers, new AtomicBoolean(false), false, Netty4Utils.toBytesReference(copiedContent), null, chunkedContent);
         } finally {
             release();
         }
@@ -204,7 +222,7 @@ public class Netty4HttpRequest implements HttpRequest {
         FullHttpRequest requestWithoutHeader = new DefaultFullHttpRequest(request.protocolVersion(), request.method(), request.uri(),
             request.content(), headersWithoutContentTypeHeader, trailingHeaders);
         return new Netty4HttpRequest(requestWithoutHeader, new HttpHeadersMap(requestWithoutHeader.headers()), released,
-            pooled, content);
+            pooled, content, null, chunkedContent);
     }
 
     @Override
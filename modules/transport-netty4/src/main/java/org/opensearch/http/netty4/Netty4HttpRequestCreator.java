@@ -55,6 +55,8 @@ class Netty4HttpRequestCreator extends MessageToMessageDecoder<FullHttpRequest>
                 nonError = (Exception) cause;
             }
             out.add(new Netty4HttpRequest(msg.retain(), nonError));
+        } else if (msg instanceof Netty4HttpChunkedContentHandler.ChunkedHttpRequest) {
+            out.add(new Netty4HttpRequest(msg.retain(), ((Netty4HttpChunkedContentHandler.ChunkedHttpRequest) msg).chunkedContent()));
         } else {
             out.add(new Netty4HttpRequest(msg.retain()));
         }
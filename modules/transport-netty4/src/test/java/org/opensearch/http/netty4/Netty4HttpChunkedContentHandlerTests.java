@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http.netty4;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import org.apache.lucene.util.SetOnce;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.http.HttpChunkedContent;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class Netty4HttpChunkedContentHandlerTests extends OpenSearchTestCase {
+
+    public void testChunkedContent() {
+        final EmbeddedChannel channel =
+            new EmbeddedChannel(new Netty4HttpChunkedContentHandler((method, uri) -> uri.startsWith("/_bulk/stream")));
+        channel.writeInbound(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/_bulk/stream?refresh=true"));
+        final Netty4HttpChunkedContentHandler.ChunkedHttpRequest request = channel.readInbound();
+        assertThat(request.uri(), equalTo("/_bulk/stream?refresh=true"));
+        assertThat(request.content().readableBytes(), equalTo(0));
+        // reading is paused until the content is consumed
+        assertFalse(channel.config().isAutoRead());
+
+        channel.writeInbound(new DefaultHttpContent(Unpooled.copiedBuffer("foo", StandardCharsets.UTF_8)));
+        assertNull(channel.readInbound());
+
+        final RecordingListener listener = new RecordingListener();
+        final HttpChunkedContent content = request.chunkedContent();
+        content.start(listener);
+        channel.runPendingTasks();
+        assertThat(listener.chunks, contains("foo"));
+        assertTrue(channel.config().isAutoRead());
+        expectThrows(IllegalStateException.class, () -> content.start(listener));
+
+        content.pause();
+        channel.runPendingTasks();
+        assertFalse(channel.config().isAutoRead());
+        content.resume();
+        channel.runPendingTasks();
+        assertTrue(channel.config().isAutoRead());
+
+        content.pause();
+        channel.runPendingTasks();
+        channel.writeInbound(new DefaultLastHttpContent(Unpooled.copiedBuffer("bar", StandardCharsets.UTF_8)));
+        assertThat(listener.chunks, contains("foo", "bar"));
+        assertTrue(listener.last);
+        // the next request is read whatever the consumer does
+        assertTrue(channel.config().isAutoRead());
+        content.pause();
+        channel.runPendingTasks();
+        assertTrue(channel.config().isAutoRead());
+
+        final FullHttpRequest next = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/_bulk/stream");
+        channel.writeInbound(next);
+        assertSame(next, channel.readInbound());
+        next.release();
+        assertFalse(channel.finish());
+    }
+
+    public void testOtherRequestsArePassedOn() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpChunkedContentHandler((method, uri) -> false));
+        final HttpRequest request = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/_bulk");
+        final LastHttpContent content = new DefaultLastHttpContent(Unpooled.copiedBuffer("foo", StandardCharsets.UTF_8));
+        channel.writeInbound(request, content);
+        assertSame(request, channel.readInbound());
+        final HttpContent readContent = channel.readInbound();
+        assertSame(content, readContent);
+        readContent.release();
+        assertTrue(channel.config().isAutoRead());
+    }
+
+    public void testRejectedRequestDiscardsBody() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpChunkedContentHandler((method, uri) -> true));
+        channel.writeInbound(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/_bulk/stream"));
+        final Netty4HttpChunkedContentHandler.ChunkedHttpRequest request = channel.readInbound();
+        channel.writeInbound(new DefaultHttpContent(Unpooled.copiedBuffer("foo", StandardCharsets.UTF_8)));
+        assertFalse(channel.config().isAutoRead());
+
+        // the response to the request is sent without the body ever being consumed
+        request.chunkedContent().discard();
+        channel.runPendingTasks();
+        assertTrue(channel.config().isAutoRead());
+
+        final HttpContent chunk = new DefaultHttpContent(Unpooled.copiedBuffer("bar", StandardCharsets.UTF_8));
+        final LastHttpContent lastChunk = new DefaultLastHttpContent(Unpooled.copiedBuffer("baz", StandardCharsets.UTF_8));
+        channel.writeInbound(chunk, lastChunk);
+        assertNull(channel.readInbound());
+        assertThat(chunk.refCnt(), equalTo(0));
+        assertThat(lastChunk.refCnt(), equalTo(0));
+        assertTrue(channel.config().isAutoRead());
+
+        // a listener that starts consuming late is told the body is gone
+        final RecordingListener listener = new RecordingListener();
+        request.chunkedContent().start(listener);
+        channel.runPendingTasks();
+        assertThat(listener.chunks, empty());
+        assertThat(listener.failure.get(), instanceOf(IllegalStateException.class));
+
+        final FullHttpRequest next = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/");
+        channel.writeInbound(next);
+        assertSame(next, channel.readInbound());
+        next.release();
+        assertFalse(channel.finish());
+    }
+
+    public void testResponseBeforeLastChunkDiscardsRestOfBody() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpChunkedContentHandler((method, uri) -> true));
+        channel.writeInbound(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/_bulk/stream"));
+        final Netty4HttpChunkedContentHandler.ChunkedHttpRequest request = channel.readInbound();
+        final RecordingListener listener = new RecordingListener();
+        request.chunkedContent().start(listener);
+        channel.runPendingTasks();
+        channel.writeInbound(new DefaultHttpContent(Unpooled.copiedBuffer("foo", StandardCharsets.UTF_8)));
+        request.chunkedContent().pause();
+        channel.runPendingTasks();
+        assertFalse(channel.config().isAutoRead());
+
+        request.chunkedContent().discard();
+        channel.runPendingTasks();
+        assertTrue(channel.config().isAutoRead());
+        assertThat(listener.failure.get(), instanceOf(IllegalStateException.class));
+
+        channel.writeInbound(new DefaultLastHttpContent(Unpooled.copiedBuffer("bar", StandardCharsets.UTF_8)));
+        assertThat(listener.chunks, contains("foo"));
+        assertFalse(listener.last);
+        assertFalse(channel.finish());
+    }
+
+    public void testChannelClosedBeforeLastChunk() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new Netty4HttpChunkedContentHandler((method, uri) -> true));
+        channel.writeInbound(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.PUT, "/_bulk/stream"));
+        final Netty4HttpChunkedContentHandler.ChunkedHttpRequest request = channel.readInbound();
+        final RecordingListener listener = new RecordingListener();
+        request.chunkedContent().start(listener);
+        channel.runPendingTasks();
+        channel.close();
+        assertThat(listener.failure.get(), instanceOf(ClosedChannelException.class));
+        assertFalse(listener.last);
+    }
+
+    private static class RecordingListener implements HttpChunkedContent.Listener {
+        private final List<String> chunks = new ArrayList<>();
+        private final SetOnce<Exception> failure = new SetOnce<>();
+        private boolean last;
+
+        @Override
+        public void onChunk(BytesReference chunk, boolean last) {
+            chunks.add(chunk.utf8ToString());
+            this.last = last;
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            failure.set(e);
+        }
+    }
+}
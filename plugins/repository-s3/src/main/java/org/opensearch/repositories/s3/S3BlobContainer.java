@@ -33,6 +33,7 @@
 package org.opensearch.repositories.s3;
 
 import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.DeleteObjectsRequest;
@@ -60,17 +61,25 @@ import org.opensearch.common.blobstore.DeleteResult;
 import org.opensearch.common.blobstore.support.AbstractBlobContainer;
 import org.opensearch.common.blobstore.support.PlainBlobMetadata;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.io.Streams;
 import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.unit.ByteSizeValue;
 
 import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -109,9 +118,32 @@ class S3BlobContainer extends AbstractBlobContainer {
 
     @Override
     public InputStream readBlob(String blobName) throws IOException {
+        if (blobStore.getMaxDownloadConcurrency() > 1) {
+            return readBlobConcurrently(buildKey(blobName));
+        }
         return new S3RetryingInputStream(blobStore, buildKey(blobName));
     }
 
+    private InputStream readBlobConcurrently(String blobKey) throws IOException {
+        final long partSize = blobStore.downloadPartSizeInBytes();
+        // the length of the blob is only known once the first part is requested
+        final S3RetryingInputStream firstPart;
+        try {
+            firstPart = new S3RetryingInputStream(blobStore, blobKey, 0, partSize - 1);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 416) {
+                // empty blobs can't be read with a ranged request
+                return new S3RetryingInputStream(blobStore, blobKey);
+            }
+            throw e;
+        }
+        final long blobLength = firstPart.getObjectLength();
+        if (blobLength <= partSize) {
+            return firstPart;
+        }
+        return new S3ParallelInputStream(blobStore, blobKey, firstPart, partSize, blobLength - 1);
+    }
+
     @Override
     public InputStream readBlob(String blobName, long position, long length) throws IOException {
         if (position < 0L) {
@@ -122,6 +154,11 @@ class S3BlobContainer extends AbstractBlobContainer {
         }
         if (length == 0) {
             return new ByteArrayInputStream(new byte[0]);
+        } else if (blobStore.getMaxDownloadConcurrency() > 1 && length > blobStore.downloadPartSizeInBytes()) {
+            final String blobKey = buildKey(blobName);
+            final long firstPartEnd = position + blobStore.downloadPartSizeInBytes() - 1;
+            return new S3ParallelInputStream(blobStore, blobKey, new S3RetryingInputStream(blobStore, blobKey, position, firstPartEnd),
+                firstPartEnd + 1, Math.addExact(position, length - 1));
         } else {
             return new S3RetryingInputStream(blobStore, buildKey(blobName), position, Math.addExact(position, length - 1));
         }
@@ -415,29 +452,48 @@ class S3BlobContainer extends AbstractBlobContainer {
             }
 
             final List<PartETag> parts = new ArrayList<>();
+            final List<FutureTask<PartETag>> forkedParts = new ArrayList<>();
+            final int maxConcurrency = blobStore.getMaxUploadConcurrency();
 
             long bytesCount = 0;
-            for (int i = 1; i <= nbParts; i++) {
-                final UploadPartRequest uploadRequest = new UploadPartRequest();
-                uploadRequest.setBucketName(bucketName);
-                uploadRequest.setKey(blobName);
-                uploadRequest.setUploadId(uploadId.get());
-                uploadRequest.setPartNumber(i);
-                uploadRequest.setInputStream(input);
-                uploadRequest.setRequestMetricCollector(blobStore.multiPartUploadMetricCollector);
-
-                if (i < nbParts) {
-                    uploadRequest.setPartSize(partSize);
-                    uploadRequest.setLastPart(false);
-                } else {
-                    uploadRequest.setPartSize(lastPartSize);
-                    uploadRequest.setLastPart(true);
+            try {
+                for (int i = 1; i <= nbParts; i++) {
+                    final UploadPartRequest uploadRequest = new UploadPartRequest();
+                    uploadRequest.setBucketName(bucketName);
+                    uploadRequest.setKey(blobName);
+                    uploadRequest.setUploadId(uploadId.get());
+                    uploadRequest.setPartNumber(i);
+                    uploadRequest.setRequestMetricCollector(blobStore.multiPartUploadMetricCollector);
+
+                    if (i < nbParts) {
+                        uploadRequest.setPartSize(partSize);
+                        uploadRequest.setLastPart(false);
+                    } else {
+                        uploadRequest.setPartSize(lastPartSize);
+                        uploadRequest.setLastPart(true);
+                    }
+                    bytesCount += uploadRequest.getPartSize();
+
+                    // the calling thread uploads a part itself whenever it can't hand it over to the snapshot thread pool
+                    if (runningParts(forkedParts) < maxConcurrency - 1 && uploadRequest.getPartSize() < Integer.MAX_VALUE
+                        && blobStore.tryReserveTransferBuffer(uploadRequest.getPartSize())) {
+                        forkedParts.add(forkPartUpload(clientReference, uploadRequest, input));
+                    } else {
+                        uploadRequest.setInputStream(input);
+                        final UploadPartResult uploadResponse =
+                            SocketAccess.doPrivileged(() -> clientReference.client().uploadPart(uploadRequest));
+                        parts.add(uploadResponse.getPartETag());
+                    }
                 }
-                bytesCount += uploadRequest.getPartSize();
-
-                final UploadPartResult uploadResponse = SocketAccess.doPrivileged(() -> clientReference.client().uploadPart(uploadRequest));
-                parts.add(uploadResponse.getPartETag());
+                for (FutureTask<PartETag> forkedPart : forkedParts) {
+                    // runs the upload if no thread of the pool picked it up yet
+                    forkedPart.run();
+                    parts.add(awaitTransfer(forkedPart));
+                }
+            } finally {
+                cancelPartUploads(forkedParts);
             }
+            parts.sort(Comparator.comparingInt(PartETag::getPartNumber));
 
             if (bytesCount != blobSize) {
                 throw new IOException("Failed to execute multipart upload for [" + blobName + "], expected " + blobSize
@@ -462,6 +518,90 @@ class S3BlobContainer extends AbstractBlobContainer {
         }
     }
 
+    /**
+     * Buffers the next part of the input stream and uploads it on the snapshot thread pool. The buffer must have been reserved with
+     * {@link S3BlobStore#tryReserveTransferBuffer(long)} and is released once the upload completes.
+     */
+    private FutureTask<PartETag> forkPartUpload(AmazonS3Reference clientReference, UploadPartRequest uploadRequest, InputStream input)
+        throws IOException {
+        final long size = uploadRequest.getPartSize();
+        final FutureTask<PartETag> upload;
+        try {
+            final byte[] buffer = new byte[Math.toIntExact(size)];
+            if (Streams.readFully(input, buffer, 0, buffer.length) != buffer.length) {
+                throw new EOFException("unexpected end of stream while reading part [" + uploadRequest.getPartNumber() + "] of ["
+                    + uploadRequest.getKey() + "]");
+            }
+            uploadRequest.setInputStream(new ByteArrayInputStream(buffer));
+            upload = new FutureTask<PartETag>(
+                () -> SocketAccess.doPrivileged(() -> clientReference.client().uploadPart(uploadRequest)).getPartETag()) {
+                @Override
+                protected void done() {
+                    blobStore.releaseTransferBuffer(size);
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            blobStore.releaseTransferBuffer(size);
+            throw e;
+        }
+        try {
+            blobStore.transferExecutor().execute(upload);
+        } catch (RejectedExecutionException e) {
+            // the part is uploaded by the calling thread once all parts have been read
+        }
+        return upload;
+    }
+
+    private static int runningParts(List<FutureTask<PartETag>> forkedParts) {
+        int running = 0;
+        for (FutureTask<PartETag> forkedPart : forkedParts) {
+            if (forkedPart.isDone() == false) {
+                running++;
+            }
+        }
+        return running;
+    }
+
+    /**
+     * Cancels the part uploads that did not start yet and waits for the other ones to complete, so that the multipart upload is
+     * only aborted once no more part can be added to it.
+     */
+    private static void cancelPartUploads(List<FutureTask<PartETag>> forkedParts) {
+        for (FutureTask<PartETag> forkedPart : forkedParts) {
+            if (forkedPart.cancel(false) == false) {
+                try {
+                    forkedPart.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    // already reported, or the upload is aborted anyway
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for a part upload or download that was handed over to the snapshot thread pool and rethrows its failure.
+     */
+    static <T> T awaitTransfer(Future<T> transfer) throws IOException {
+        try {
+            return transfer.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while waiting for a concurrent transfer");
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
     // non-static, package private for testing
     void ensureMultiPartUploadSize(final long blobSize) {
         if (blobSize > MAX_FILE_SIZE_USING_MULTIPART.getBytes()) {
@@ -45,12 +45,14 @@ import org.opensearch.common.blobstore.BlobContainer;
 import org.opensearch.common.blobstore.BlobPath;
 import org.opensearch.common.blobstore.BlobStore;
 import org.opensearch.common.blobstore.BlobStoreException;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.unit.ByteSizeValue;
 
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 
 class S3BlobStore implements BlobStore {
@@ -71,6 +73,18 @@ class S3BlobStore implements BlobStore {
 
     private final RepositoryMetadata repositoryMetadata;
 
+    private final int maxUploadConcurrency;
+
+    private final int maxDownloadConcurrency;
+
+    private final ByteSizeValue downloadPartSize;
+
+    private final long transferBufferBudget;
+
+    private final AtomicLong reservedTransferBuffers = new AtomicLong();
+
+    private final ExecutorService transferExecutor;
+
     private final Stats stats = new Stats();
 
     final RequestMetricCollector getMetricCollector;
@@ -81,6 +95,15 @@ class S3BlobStore implements BlobStore {
     S3BlobStore(S3Service service, String bucket, boolean serverSideEncryption,
                 ByteSizeValue bufferSize, String cannedACL, String storageClass,
                 RepositoryMetadata repositoryMetadata) {
+        this(service, bucket, serverSideEncryption, bufferSize, cannedACL, storageClass, repositoryMetadata, 1, 1,
+            S3Repository.DOWNLOAD_PART_SIZE_SETTING.getDefault(repositoryMetadata.settings()), ByteSizeValue.ZERO,
+            OpenSearchExecutors.newDirectExecutorService());
+    }
+
+    S3BlobStore(S3Service service, String bucket, boolean serverSideEncryption,
+                ByteSizeValue bufferSize, String cannedACL, String storageClass,
+                RepositoryMetadata repositoryMetadata, int maxUploadConcurrency, int maxDownloadConcurrency,
+                ByteSizeValue downloadPartSize, ByteSizeValue transferBufferBudget, ExecutorService transferExecutor) {
         this.service = service;
         this.bucket = bucket;
         this.serverSideEncryption = serverSideEncryption;
@@ -88,6 +111,11 @@ class S3BlobStore implements BlobStore {
         this.cannedACL = initCannedACL(cannedACL);
         this.storageClass = initStorageClass(storageClass);
         this.repositoryMetadata = repositoryMetadata;
+        this.maxUploadConcurrency = maxUploadConcurrency;
+        this.maxDownloadConcurrency = maxDownloadConcurrency;
+        this.downloadPartSize = downloadPartSize;
+        this.transferBufferBudget = transferBufferBudget.getBytes();
+        this.transferExecutor = transferExecutor;
         this.getMetricCollector = new RequestMetricCollector() {
             @Override
             public void collectMetrics(Request<?> request, Response<?> response) {
@@ -154,6 +182,53 @@ class S3BlobStore implements BlobStore {
         return bufferSize.getBytes();
     }
 
+    int getMaxUploadConcurrency() {
+        return maxUploadConcurrency;
+    }
+
+    int getMaxDownloadConcurrency() {
+        return maxDownloadConcurrency;
+    }
+
+    long downloadPartSizeInBytes() {
+        return downloadPartSize.getBytes();
+    }
+
+    /**
+     * The executor that uploads and downloads the parts of blobs that are transferred concurrently.
+     */
+    ExecutorService transferExecutor() {
+        return transferExecutor;
+    }
+
+    /**
+     * Reserves memory to buffer a part of a blob that is transferred concurrently.
+     *
+     * @return false if the reservation would exceed the {@link S3Repository#TRANSFER_BUFFER_BUDGET_SETTING}, in which case the part
+     * must be transferred without buffering it
+     */
+    boolean tryReserveTransferBuffer(long bytes) {
+        while (true) {
+            final long reserved = reservedTransferBuffers.get();
+            if (reserved + bytes > transferBufferBudget) {
+                return false;
+            }
+            if (reservedTransferBuffers.compareAndSet(reserved, reserved + bytes)) {
+                return true;
+            }
+        }
+    }
+
+    void releaseTransferBuffer(long bytes) {
+        final long reserved = reservedTransferBuffers.addAndGet(-bytes);
+        assert reserved >= 0 : "released more transfer buffers than reserved: " + reserved;
+    }
+
+    // package private for testing
+    long reservedTransferBuffers() {
+        return reservedTransferBuffers.get();
+    }
+
     @Override
     public BlobContainer blobContainer(BlobPath path) {
         return new S3BlobContainer(path, this);
@@ -0,0 +1,213 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.repositories.s3;
+
+import org.opensearch.common.io.Streams;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reads a range of an S3 object with concurrent ranged requests. While the caller consumes one part of the range, up to
+ * {@link S3Repository#MAX_DOWNLOAD_CONCURRENCY_SETTING} - 1 of the following parts are downloaded into memory on the snapshot thread
+ * pool, within the {@link S3Repository#TRANSFER_BUFFER_BUDGET_SETTING}. Parts that could not be prefetched, or whose download did not
+ * start by the time the caller needs them, are streamed by the caller itself, so reads never wait for a thread of the pool.
+ */
+class S3ParallelInputStream extends InputStream {
+
+    private final S3BlobStore blobStore;
+    private final String blobKey;
+    private final long partSize;
+    private final int maxConcurrency;
+    // inclusive, following the definition in GetObjectRequest.setRange
+    private final long end;
+    private final ArrayDeque<Part> prefetchedParts = new ArrayDeque<>();
+
+    private InputStream currentStream;
+    private Part currentPart;
+    private long nextPartStart;
+    private boolean closed;
+
+    /**
+     * @param firstPart a stream over the first part of the range, which ends right before {@code nextPartStart}
+     */
+    S3ParallelInputStream(S3BlobStore blobStore, String blobKey, InputStream firstPart, long nextPartStart, long end) {
+        this.blobStore = blobStore;
+        this.blobKey = blobKey;
+        this.partSize = blobStore.downloadPartSizeInBytes();
+        this.maxConcurrency = blobStore.getMaxDownloadConcurrency();
+        this.end = end;
+        this.currentStream = firstPart;
+        this.nextPartStart = nextPartStart;
+        prefetch();
+    }
+
+    @Override
+    public int read() throws IOException {
+        ensureOpen();
+        while (true) {
+            final int result = currentStream.read();
+            if (result != -1) {
+                return result;
+            }
+            if (nextPart() == false) {
+                return -1;
+            }
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if (len == 0) {
+            return 0;
+        }
+        while (true) {
+            final int bytesRead = currentStream.read(b, off, len);
+            if (bytesRead != -1) {
+                return bytesRead;
+            }
+            if (nextPart() == false) {
+                return -1;
+            }
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            assert false : "using S3ParallelInputStream after close";
+            throw new IllegalStateException("using S3ParallelInputStream after close");
+        }
+    }
+
+    private boolean nextPart() throws IOException {
+        closeCurrentPart();
+        final Part part = prefetchedParts.pollFirst();
+        if (part == null) {
+            if (nextPartStart > end) {
+                return false;
+            }
+            final long partEnd = Math.min(end, nextPartStart + partSize - 1);
+            currentStream = new S3RetryingInputStream(blobStore, blobKey, nextPartStart, partEnd);
+            nextPartStart = partEnd + 1;
+        } else if (part.cancel(false)) {
+            part.release();
+            currentStream = new S3RetryingInputStream(blobStore, blobKey, part.start, part.end);
+        } else {
+            currentPart = part;
+            currentStream = new ByteArrayInputStream(S3BlobContainer.awaitTransfer(part));
+        }
+        prefetch();
+        return true;
+    }
+
+    private void prefetch() {
+        while (prefetchedParts.size() < maxConcurrency - 1 && nextPartStart <= end) {
+            final long partEnd = Math.min(end, nextPartStart + partSize - 1);
+            final Part part = new Part(nextPartStart, partEnd);
+            if (blobStore.tryReserveTransferBuffer(part.length()) == false) {
+                return;
+            }
+            prefetchedParts.addLast(part);
+            nextPartStart = partEnd + 1;
+            try {
+                blobStore.transferExecutor().execute(part);
+            } catch (RejectedExecutionException e) {
+                // the part is streamed by the reading thread once it gets to it
+            }
+        }
+    }
+
+    private void closeCurrentPart() throws IOException {
+        try {
+            currentStream.close();
+        } finally {
+            if (currentPart != null) {
+                currentPart.release();
+                currentPart = null;
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            closeCurrentPart();
+        } finally {
+            // downloads that are still running release their buffer once they complete
+            for (Part part : prefetchedParts) {
+                part.abandoned = true;
+                if (part.cancel(false) || part.isDone()) {
+                    part.release();
+                }
+            }
+            prefetchedParts.clear();
+        }
+    }
+
+    @Override
+    public long skip(long n) {
+        throw new UnsupportedOperationException("S3ParallelInputStream does not support seeking");
+    }
+
+    @Override
+    public void reset() {
+        throw new UnsupportedOperationException("S3ParallelInputStream does not support seeking");
+    }
+
+    private byte[] download(long start, long end) throws IOException {
+        final byte[] bytes = new byte[Math.toIntExact(end - start + 1)];
+        try (InputStream stream = new S3RetryingInputStream(blobStore, blobKey, start, end)) {
+            if (Streams.readFully(stream, bytes, 0, bytes.length) != bytes.length) {
+                throw new EOFException("unexpected end of blob [" + blobKey + "] while reading range [" + start + "-" + end + "]");
+            }
+        }
+        return bytes;
+    }
+
+    private final class Part extends FutureTask<byte[]> {
+        final long start;
+        final long end;
+        private final AtomicBoolean released = new AtomicBoolean();
+        volatile boolean abandoned;
+
+        Part(long start, long end) {
+            super(() -> download(start, end));
+            this.start = start;
+            this.end = end;
+        }
+
+        long length() {
+            return end - start + 1;
+        }
+
+        void release() {
+            if (released.compareAndSet(false, true)) {
+                blobStore.releaseTransferBuffer(length());
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (abandoned) {
+                release();
+            }
+        }
+    }
+}
@@ -149,6 +149,32 @@ class S3Repository extends MeteredBlobStoreRepository {
     static final Setting<ByteSizeValue> BUFFER_SIZE_SETTING =
         Setting.byteSizeSetting("buffer_size", DEFAULT_BUFFER_SIZE, MIN_PART_SIZE_USING_MULTIPART, MAX_PART_SIZE_USING_MULTIPART);
 
+    /**
+     * Maximum number of parts of a blob that are uploaded concurrently when using the Multipart Upload API. The parts that are not
+     * uploaded by the snapshotting thread itself are buffered in memory and uploaded on the snapshot thread pool. Defaults to 1, which
+     * uploads the parts one after the other.
+     */
+    static final Setting<Integer> MAX_UPLOAD_CONCURRENCY_SETTING = Setting.intSetting("max_upload_concurrency", 1, 1, 64);
+
+    /**
+     * Maximum number of ranged requests that are used concurrently to download a blob that is larger than
+     * {@link #DOWNLOAD_PART_SIZE_SETTING}. The parts that are not streamed by the reading thread itself are buffered in memory and
+     * downloaded on the snapshot thread pool. Defaults to 1, which downloads each blob with a single request.
+     */
+    static final Setting<Integer> MAX_DOWNLOAD_CONCURRENCY_SETTING = Setting.intSetting("max_download_concurrency", 1, 1, 64);
+
+    /**
+     * Size of the ranges that are requested when a blob is downloaded with concurrent requests. Defaults to 16mb.
+     */
+    static final Setting<ByteSizeValue> DOWNLOAD_PART_SIZE_SETTING = Setting.byteSizeSetting("download_part_size",
+        new ByteSizeValue(16, ByteSizeUnit.MB), new ByteSizeValue(1, ByteSizeUnit.MB), new ByteSizeValue(1, ByteSizeUnit.GB));
+
+    /**
+     * Maximum amount of memory that concurrent uploads and downloads of this repository can use to buffer parts. Once it is used up,
+     * parts are transferred one after the other by the thread that writes or reads the blob. Defaults to 5% of the heap size.
+     */
+    static final Setting<ByteSizeValue> TRANSFER_BUFFER_BUDGET_SETTING = Setting.memorySizeSetting("transfer_buffer_budget", "5%");
+
     /**
      * Big files can be broken down into chunks during snapshotting if needed. Defaults to 1g.
      */
@@ -205,6 +231,14 @@ class S3Repository extends MeteredBlobStoreRepository {
 
     private final ByteSizeValue chunkSize;
 
+    private final int maxUploadConcurrency;
+
+    private final int maxDownloadConcurrency;
+
+    private final ByteSizeValue downloadPartSize;
+
+    private final ByteSizeValue transferBufferBudget;
+
     private final BlobPath basePath;
 
     private final boolean serverSideEncryption;
@@ -255,6 +289,11 @@ class S3Repository extends MeteredBlobStoreRepository {
                 ") can't be lower than " + BUFFER_SIZE_SETTING.getKey() + " (" + bufferSize + ").");
         }
 
+        this.maxUploadConcurrency = MAX_UPLOAD_CONCURRENCY_SETTING.get(metadata.settings());
+        this.maxDownloadConcurrency = MAX_DOWNLOAD_CONCURRENCY_SETTING.get(metadata.settings());
+        this.downloadPartSize = DOWNLOAD_PART_SIZE_SETTING.get(metadata.settings());
+        this.transferBufferBudget = TRANSFER_BUFFER_BUDGET_SETTING.get(metadata.settings());
+
         final String basePath = BASE_PATH_SETTING.get(metadata.settings());
         if (Strings.hasLength(basePath)) {
             this.basePath = new BlobPath().add(basePath);
@@ -277,13 +316,18 @@ class S3Repository extends MeteredBlobStoreRepository {
         coolDown = COOLDOWN_PERIOD.get(metadata.settings());
 
         logger.debug(
-                "using bucket [{}], chunk_size [{}], server_side_encryption [{}], buffer_size [{}], cannedACL [{}], storageClass [{}]",
+                "using bucket [{}], chunk_size [{}], server_side_encryption [{}], buffer_size [{}], cannedACL [{}], storageClass [{}], " +
+                    "max_upload_concurrency [{}], max_download_concurrency [{}], download_part_size [{}], transfer_buffer_budget [{}]",
                 bucket,
                 chunkSize,
                 serverSideEncryption,
                 bufferSize,
                 cannedACL,
-                storageClass);
+                storageClass,
+                maxUploadConcurrency,
+                maxDownloadConcurrency,
+                downloadPartSize,
+                transferBufferBudget);
     }
 
     private static Map<String, String> buildLocation(RepositoryMetadata metadata) {
@@ -358,7 +402,9 @@ class S3Repository extends MeteredBlobStoreRepository {
 
     @Override
     protected S3BlobStore createBlobStore() {
-        return new S3BlobStore(service, bucket, serverSideEncryption, bufferSize, cannedACL, storageClass, repositoryMetadata);
+        return new S3BlobStore(service, bucket, serverSideEncryption, bufferSize, cannedACL, storageClass, repositoryMetadata,
+            maxUploadConcurrency, maxDownloadConcurrency, downloadPartSize, transferBufferBudget,
+            threadPool.executor(ThreadPool.Names.SNAPSHOT));
     }
 
     // only use for testing
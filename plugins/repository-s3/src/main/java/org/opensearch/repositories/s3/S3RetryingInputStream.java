@@ -71,6 +71,7 @@ class S3RetryingInputStream extends InputStream {
 
     private S3ObjectInputStream currentStream;
     private long currentStreamLastOffset;
+    private long objectLength;
     private int attempt = 1;
     private long currentOffset;
     private boolean closed;
@@ -108,6 +109,7 @@ class S3RetryingInputStream extends InputStream {
             }
             final S3Object s3Object = SocketAccess.doPrivileged(() -> clientReference.client().getObject(getObjectRequest));
             this.currentStreamLastOffset = Math.addExact(Math.addExact(start, currentOffset), getStreamLength(s3Object));
+            this.objectLength = s3Object.getObjectMetadata().getInstanceLength();
             this.currentStream = s3Object.getObjectContent();
         } catch (final AmazonClientException e) {
             if (e instanceof AmazonS3Exception) {
@@ -128,7 +130,8 @@ class S3RetryingInputStream extends InputStream {
                 assert range[1] >= range[0] : range[1] + " vs " + range[0];
                 assert range[0] == start + currentOffset :
                     "Content-Range start value [" + range[0] + "] exceeds start [" + start + "] + current offset [" + currentOffset + ']';
-                assert range[1] == end : "Content-Range end value [" + range[1] + "] exceeds end [" + end + ']';
+                // the end of the range is truncated by S3 when it goes beyond the end of the object
+                assert range[1] <= end : "Content-Range end value [" + range[1] + "] exceeds end [" + end + ']';
                 return range[1] - range[0] + 1L;
             }
             return metadata.getContentLength();
@@ -242,6 +245,13 @@ class S3RetryingInputStream extends InputStream {
         return e;
     }
 
+    /**
+     * The length of the whole object, regardless of the range that is read.
+     */
+    long getObjectLength() {
+        return objectLength;
+    }
+
     // package-private for tests
     boolean isEof() {
         return eof || start + currentOffset == currentStreamLastOffset;
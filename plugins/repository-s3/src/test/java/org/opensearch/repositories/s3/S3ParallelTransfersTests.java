@@ -0,0 +1,165 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.repositories.s3;
+
+import com.sun.net.httpserver.HttpServer;
+import fixture.s3.S3HttpHandler;
+import org.elasticsearch.mocksocket.MockHttpServer;
+import org.opensearch.cluster.metadata.RepositoryMetadata;
+import org.opensearch.common.SuppressForbidden;
+import org.opensearch.common.blobstore.BlobPath;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.Streams;
+import org.opensearch.common.network.InetAddresses;
+import org.opensearch.common.settings.MockSecureSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import static org.opensearch.repositories.s3.S3ClientSettings.ENDPOINT_SETTING;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Tests the concurrent part uploads and ranged downloads of {@link S3BlobContainer} against the S3 fixture.
+ */
+@SuppressForbidden(reason = "use a http server")
+public class S3ParallelTransfersTests extends OpenSearchTestCase {
+
+    private HttpServer httpServer;
+    private S3HttpHandler handler;
+    private S3Service service;
+    private ThreadPool threadPool;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        handler = new S3HttpHandler("bucket");
+        httpServer = MockHttpServer.createHttp(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        httpServer.createContext("/", handler);
+        httpServer.start();
+        service = new S3Service();
+        threadPool = new TestThreadPool(getTestName());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        IOUtils.close(service);
+        ThreadPool.terminate(threadPool, 10L, TimeUnit.SECONDS);
+        httpServer.stop(0);
+        super.tearDown();
+    }
+
+    private S3BlobStore createBlobStore(int maxConcurrency, ByteSizeValue transferBufferBudget) {
+        final Settings.Builder clientSettings = Settings.builder();
+        final String clientName = randomAlphaOfLength(5).toLowerCase(Locale.ROOT);
+
+        final InetSocketAddress address = httpServer.getAddress();
+        final String endpoint = "http://" + InetAddresses.toUriString(address.getAddress()) + ":" + address.getPort();
+        clientSettings.put(ENDPOINT_SETTING.getConcreteSettingForNamespace(clientName).getKey(), endpoint);
+
+        final MockSecureSettings secureSettings = new MockSecureSettings();
+        secureSettings.setString(S3ClientSettings.ACCESS_KEY_SETTING.getConcreteSettingForNamespace(clientName).getKey(), "access");
+        secureSettings.setString(S3ClientSettings.SECRET_KEY_SETTING.getConcreteSettingForNamespace(clientName).getKey(), "secret");
+        clientSettings.setSecureSettings(secureSettings);
+        service.refreshAndClearCache(S3ClientSettings.load(clientSettings.build()));
+
+        final RepositoryMetadata repositoryMetadata = new RepositoryMetadata("repository", S3Repository.TYPE,
+            Settings.builder().put(S3Repository.CLIENT_NAME.getKey(), clientName).build());
+
+        return new S3BlobStore(service, "bucket",
+            S3Repository.SERVER_SIDE_ENCRYPTION_SETTING.getDefault(Settings.EMPTY),
+            new ByteSizeValue(5, ByteSizeUnit.MB),
+            S3Repository.CANNED_ACL_SETTING.getDefault(Settings.EMPTY),
+            S3Repository.STORAGE_CLASS_SETTING.getDefault(Settings.EMPTY),
+            repositoryMetadata, maxConcurrency, maxConcurrency, new ByteSizeValue(1, ByteSizeUnit.MB), transferBufferBudget,
+            threadPool.executor(ThreadPool.Names.SNAPSHOT));
+    }
+
+    private void writeBlob(S3BlobContainer container, String blobName, byte[] bytes) throws IOException {
+        try (InputStream stream = new ByteArrayInputStream(bytes)) {
+            container.writeBlob(blobName, stream, bytes.length, false);
+        }
+        assertArrayEquals(bytes, BytesReference.toBytes(handler.blobs().get("/bucket/" + blobName)));
+    }
+
+    private static byte[] readBlob(InputStream stream) throws IOException {
+        try (InputStream in = stream) {
+            return BytesReference.toBytes(Streams.readFully(in));
+        }
+    }
+
+    public void testParallelMultipartUploadAndDownload() throws Exception {
+        final S3BlobStore blobStore = createBlobStore(randomIntBetween(2, 8), new ByteSizeValue(randomIntBetween(5, 20), ByteSizeUnit.MB));
+        final S3BlobContainer container = new S3BlobContainer(BlobPath.cleanPath(), blobStore);
+
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(10 * 1024 * 1024, 16 * 1024 * 1024));
+        writeBlob(container, "large_blob", bytes);
+        // part uploads release their buffer right after completing
+        assertBusy(() -> assertThat(blobStore.reservedTransferBuffers(), equalTo(0L)));
+
+        assertArrayEquals(bytes, readBlob(container.readBlob("large_blob")));
+
+        final int position = randomIntBetween(0, bytes.length - 1);
+        final int length = randomIntBetween(1, bytes.length - position);
+        assertArrayEquals(Arrays.copyOfRange(bytes, position, position + length),
+            readBlob(container.readBlob("large_blob", position, length)));
+        assertThat(blobStore.reservedTransferBuffers(), equalTo(0L));
+    }
+
+    public void testTransfersWithoutBufferBudget() throws Exception {
+        final S3BlobStore blobStore = createBlobStore(randomIntBetween(2, 8), ByteSizeValue.ZERO);
+        final S3BlobContainer container = new S3BlobContainer(BlobPath.cleanPath(), blobStore);
+
+        // every part is transferred by the calling thread
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(6 * 1024 * 1024, 8 * 1024 * 1024));
+        writeBlob(container, "blob", bytes);
+        assertArrayEquals(bytes, readBlob(container.readBlob("blob")));
+    }
+
+    public void testReadSmallAndEmptyBlobs() throws Exception {
+        final S3BlobStore blobStore = createBlobStore(randomIntBetween(2, 8), new ByteSizeValue(8, ByteSizeUnit.MB));
+        final S3BlobContainer container = new S3BlobContainer(BlobPath.cleanPath(), blobStore);
+
+        writeBlob(container, "empty_blob", new byte[0]);
+        assertThat(readBlob(container.readBlob("empty_blob")).length, equalTo(0));
+
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(1, 1024 * 1024));
+        writeBlob(container, "small_blob", bytes);
+        assertArrayEquals(bytes, readBlob(container.readBlob("small_blob")));
+    }
+
+    public void testCloseReleasesPrefetchedParts() throws Exception {
+        final S3BlobStore blobStore = createBlobStore(randomIntBetween(2, 8), new ByteSizeValue(8, ByteSizeUnit.MB));
+        final S3BlobContainer container = new S3BlobContainer(BlobPath.cleanPath(), blobStore);
+
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(6 * 1024 * 1024, 8 * 1024 * 1024));
+        writeBlob(container, "blob", bytes);
+        try (InputStream stream = container.readBlob("blob")) {
+            final byte[] prefix = new byte[randomIntBetween(1, 2 * 1024 * 1024)];
+            assertThat(Streams.readFully(stream, prefix, 0, prefix.length), equalTo(prefix.length));
+            assertArrayEquals(Arrays.copyOf(bytes, prefix.length), prefix);
+        }
+        assertBusy(() -> assertThat(blobStore.reservedTransferBuffers(), equalTo(0L)));
+    }
+}
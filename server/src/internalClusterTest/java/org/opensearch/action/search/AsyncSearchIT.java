@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.action.search;
+
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.metrics.Max;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+public class AsyncSearchIT extends OpenSearchIntegTestCase {
+
+    public void testSubmitPollGetAndDelete() throws Exception {
+        createIndex("test");
+        final int numDocs = randomIntBetween(1, 100);
+        final List<IndexRequestBuilder> requests = new ArrayList<>();
+        for (int i = 0; i < numDocs; i++) {
+            requests.add(client().prepareIndex("test", "_doc", Integer.toString(i)).setSource("value", i));
+        }
+        indexRandom(true, requests);
+
+        final SearchRequest searchRequest = new SearchRequest("test").source(new SearchSourceBuilder()
+            .query(QueryBuilders.matchAllQuery())
+            .aggregation(AggregationBuilders.max("max").field("value")));
+        // returns right away, most likely before the search completed
+        final AsyncSearchResponse submitResponse = client().execute(SubmitAsyncSearchAction.INSTANCE,
+            new SubmitAsyncSearchRequest(searchRequest)
+                .setWaitForCompletionTimeout(TimeValue.timeValueMillis(randomIntBetween(0, 10)))
+                .setKeepOnCompletion(true)).actionGet();
+        final String id = submitResponse.getId();
+        assertThat(id, notNullValue());
+
+        // polls until the search completed
+        final AtomicReference<AsyncSearchResponse> completed = new AtomicReference<>();
+        assertBusy(() -> {
+            final AsyncSearchResponse response = client().execute(GetAsyncSearchAction.INSTANCE,
+                new GetAsyncSearchRequest(id).setWaitForCompletionTimeout(TimeValue.timeValueMillis(100))).actionGet();
+            assertFalse(response.isRunning());
+            completed.set(response);
+        });
+        assertCompleted(completed.get(), numDocs);
+
+        // once the task is gone the result is read from the async search index
+        assertBusy(() -> assertThat(client().admin().cluster().prepareListTasks().setActions(SearchAction.NAME).get().getTasks(),
+            empty()));
+        assertCompleted(client().execute(GetAsyncSearchAction.INSTANCE, new GetAsyncSearchRequest(id)).actionGet(), numDocs);
+
+        assertTrue(client().execute(DeleteAsyncSearchAction.INSTANCE, new DeleteAsyncSearchRequest(id)).actionGet().isAcknowledged());
+        expectThrows(ResourceNotFoundException.class,
+            () -> client().execute(GetAsyncSearchAction.INSTANCE, new GetAsyncSearchRequest(id)).actionGet());
+        expectThrows(ResourceNotFoundException.class,
+            () -> client().execute(DeleteAsyncSearchAction.INSTANCE, new DeleteAsyncSearchRequest(id)).actionGet());
+    }
+
+    private static void assertCompleted(AsyncSearchResponse response, int numDocs) {
+        assertFalse(response.isRunning());
+        assertFalse(response.isPartial());
+        assertThat(response.getSearchResponse().getHits().getTotalHits().value, equalTo((long) numDocs));
+        final Max max = response.getSearchResponse().getAggregations().get("max");
+        assertThat(max.getValue(), equalTo(numDocs - 1.0));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.action.search;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.action.index.IndexRequestBuilder;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.SearchContextMissingException;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchIntegTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class PointInTimeIT extends OpenSearchIntegTestCase {
+
+    public void testSearchListAndClosePointInTime() throws Exception {
+        final int numShards = randomIntBetween(1, 3);
+        assertAcked(prepareCreate("test")
+            .setSettings(Settings.builder().put("index.number_of_shards", numShards).put("index.number_of_replicas", 0))
+            .addMapping("_doc", "value", "type=long"));
+        ensureGreen("test");
+        final int numDocs = randomIntBetween(1, 50);
+        indexDocs(0, numDocs);
+
+        final String pitId = client().execute(OpenPointInTimeAction.INSTANCE, new OpenPointInTimeRequest(new String[] { "test" },
+            OpenPointInTimeRequest.DEFAULT_INDICES_OPTIONS, TimeValue.timeValueMinutes(2), null, null)).actionGet().getPointInTimeId();
+
+        // documents written after the point in time was opened are not visible through it
+        final int moreDocs = randomIntBetween(1, 50);
+        indexDocs(numDocs, moreDocs);
+        assertHitCount(client().prepareSearch("test").setSize(0).get(), numDocs + moreDocs);
+
+        final int pageSize = randomIntBetween(1, 10);
+        final List<Long> values = new ArrayList<>();
+        Object[] searchAfter = null;
+        while (true) {
+            final SearchRequestBuilder search = client().prepareSearch()
+                .setPointInTime(new PointInTimeBuilder(pitId).setKeepAlive(TimeValue.timeValueMinutes(2)))
+                .setSize(pageSize)
+                .addSort("value", SortOrder.ASC);
+            if (searchAfter != null) {
+                search.searchAfter(searchAfter);
+            }
+            final SearchResponse response = search.get();
+            assertHitCount(response, numDocs);
+            if (response.getHits().getHits().length == 0) {
+                break;
+            }
+            for (SearchHit hit : response.getHits().getHits()) {
+                values.add(((Number) hit.getSourceAsMap().get("value")).longValue());
+                searchAfter = hit.getSortValues();
+            }
+        }
+        final List<Long> expected = new ArrayList<>();
+        for (long i = 0; i < numDocs; i++) {
+            expected.add(i);
+        }
+        assertThat(values, equalTo(expected));
+
+        // the point in time holds one reader context per shard
+        assertThat(listPointInTimes(), equalTo(numShards));
+        assertBusy(() -> assertThat(activeReaderContexts(), equalTo(numShards)));
+
+        final ClearScrollResponse closeResponse = client().execute(ClosePointInTimeAction.INSTANCE,
+            new ClosePointInTimeRequest(pitId)).actionGet();
+        assertTrue(closeResponse.isSucceeded());
+        assertThat(closeResponse.getNumFreed(), equalTo(numShards));
+        assertThat(listPointInTimes(), equalTo(0));
+        assertBusy(() -> assertThat(activeReaderContexts(), equalTo(0)));
+
+        final SearchPhaseExecutionException e = expectThrows(SearchPhaseExecutionException.class, () -> client().prepareSearch()
+            .setPointInTime(new PointInTimeBuilder(pitId))
+            .get());
+        assertThat(e.shardFailures().length, equalTo(numShards));
+        assertThat(ExceptionsHelper.unwrapCause(e.shardFailures()[0].getCause()), instanceOf(SearchContextMissingException.class));
+    }
+
+    private void indexDocs(int from, int count) throws InterruptedException {
+        final List<IndexRequestBuilder> requests = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            requests.add(client().prepareIndex("test", "_doc", Integer.toString(i)).setSource("value", i));
+        }
+        indexRandom(true, requests);
+    }
+
+    private int listPointInTimes() {
+        int count = 0;
+        for (NodePointInTimes node : client().execute(ListPointInTimeAction.INSTANCE, new ListPointInTimeRequest()).actionGet()
+                .getNodes()) {
+            count += node.getPointInTimes().size();
+        }
+        return count;
+    }
+
+    private int activeReaderContexts() {
+        int count = 0;
+        for (SearchService searchService : internalCluster().getInstances(SearchService.class)) {
+            count += searchService.getActiveContexts();
+        }
+        return count;
+    }
+}
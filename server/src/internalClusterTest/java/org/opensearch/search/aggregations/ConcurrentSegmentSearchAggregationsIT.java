@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.search.aggregations;
+
+import org.opensearch.action.bulk.BulkRequestBuilder;
+import org.opensearch.action.search.SearchPhaseExecutionException;
+import org.opensearch.action.search.SearchRequestBuilder;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.MergePolicyConfig;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.aggregations.bucket.histogram.Histogram;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+import org.opensearch.search.aggregations.metrics.Sum;
+import org.opensearch.test.OpenSearchIntegTestCase;
+import org.junit.After;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.opensearch.search.aggregations.AggregationBuilders.histogram;
+import static org.opensearch.search.aggregations.AggregationBuilders.sum;
+import static org.opensearch.search.aggregations.AggregationBuilders.terms;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertSearchResponse;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Checks that the aggregations of the slices of a concurrent segment search are reduced to the result of a sequential search.
+ */
+public class ConcurrentSegmentSearchAggregationsIT extends OpenSearchIntegTestCase {
+
+    @After
+    public void resetSettings() {
+        client().admin().cluster().prepareUpdateSettings()
+            .setTransientSettings(Settings.builder()
+                .putNull(SearchService.CONCURRENT_SEGMENT_SEARCH_ENABLED.getKey())
+                .putNull(SearchService.CONCURRENT_SEGMENT_SEARCH_MAX_SLICE_COUNT.getKey())
+                .putNull(MultiBucketConsumerService.MAX_BUCKET_SETTING.getKey()))
+            .get();
+    }
+
+    public void testSliceAggregationsAreReducedLikeASequentialSearch() throws Exception {
+        final int numSegments = randomIntBetween(2, 6);
+        indexSegments(numSegments, randomIntBetween(1, 20), randomIntBetween(1, 20));
+
+        setConcurrentSegmentSearch(false, numSegments);
+        final SearchResponse sequential = searchWithAggregations().get();
+        assertSearchResponse(sequential);
+        setConcurrentSegmentSearch(true, numSegments);
+        final SearchResponse concurrent = searchWithAggregations().get();
+        assertSearchResponse(concurrent);
+
+        assertThat(concurrent.getHits().getTotalHits().value, equalTo(sequential.getHits().getTotalHits().value));
+        assertThat(termBuckets(concurrent), equalTo(termBuckets(sequential)));
+        assertThat(histogramBuckets(concurrent), equalTo(histogramBuckets(sequential)));
+        final Sum sequentialSum = sequential.getAggregations().get("sum");
+        final Sum concurrentSum = concurrent.getAggregations().get("sum");
+        assertThat(concurrentSum.getValue(), equalTo(sequentialSum.getValue()));
+    }
+
+    public void testMaxBucketsIsCheckedOnTheMergedSlices() throws Exception {
+        // every segment, and therefore every slice, has its own five terms
+        final int numSegments = randomIntBetween(3, 5);
+        indexSegments(numSegments, 5, 5);
+        final int maxBuckets = 10;
+        client().admin().cluster().prepareUpdateSettings()
+            .setTransientSettings(Settings.builder().put(MultiBucketConsumerService.MAX_BUCKET_SETTING.getKey(), maxBuckets))
+            .get();
+
+        for (boolean concurrent : new boolean[] { false, true }) {
+            setConcurrentSegmentSearch(concurrent, numSegments);
+            // the shard builds a bucket for each of the terms, a single slice stays under the limit
+            final SearchPhaseExecutionException e = expectThrows(SearchPhaseExecutionException.class, () -> client().prepareSearch("idx")
+                .setRequestCache(false)
+                .setSize(0)
+                .addAggregation(terms("terms").field("term").size(5))
+                .get());
+            assertThat(e.shardFailures()[0].reason(), containsString("Trying to create too many buckets"));
+        }
+    }
+
+    private void indexSegments(int numSegments, int termsPerSegment, int docsPerTerm) {
+        assertAcked(prepareCreate("idx")
+            .setSettings(Settings.builder()
+                .put(IndexMetadata.SETTING_NUMBER_OF_SHARDS, 1)
+                .put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 0)
+                // keep one segment per batch of documents so that the shard is split in several slices
+                .put(MergePolicyConfig.INDEX_MERGE_ENABLED, false))
+            .addMapping("_doc", "term", "type=keyword", "value", "type=long"));
+        for (int segment = 0; segment < numSegments; segment++) {
+            final BulkRequestBuilder bulk = client().prepareBulk();
+            for (int term = 0; term < termsPerSegment; term++) {
+                for (int doc = 0; doc < docsPerTerm; doc++) {
+                    bulk.add(client().prepareIndex("idx", "_doc")
+                        .setSource("term", "term-" + segment + "-" + term, "value", randomIntBetween(0, 100)));
+                }
+            }
+            assertFalse(bulk.get().hasFailures());
+            refresh("idx");
+        }
+    }
+
+    private void setConcurrentSegmentSearch(boolean enabled, int maxSliceCount) {
+        client().admin().cluster().prepareUpdateSettings()
+            .setTransientSettings(Settings.builder()
+                .put(SearchService.CONCURRENT_SEGMENT_SEARCH_ENABLED.getKey(), enabled)
+                .put(SearchService.CONCURRENT_SEGMENT_SEARCH_MAX_SLICE_COUNT.getKey(), maxSliceCount))
+            .get();
+    }
+
+    private static SearchRequestBuilder searchWithAggregations() {
+        // the request cache would return the response of the sequential search
+        return client().prepareSearch("idx")
+            .setRequestCache(false)
+            .setSize(0)
+            .addAggregation(terms("terms").field("term").size(1000).subAggregation(sum("sum").field("value")))
+            .addAggregation(histogram("histogram").field("value").interval(10))
+            .addAggregation(sum("sum").field("value"));
+    }
+
+    private static Map<String, String> termBuckets(SearchResponse response) {
+        final Terms terms = response.getAggregations().get("terms");
+        final Map<String, String> buckets = new HashMap<>();
+        for (Terms.Bucket bucket : terms.getBuckets()) {
+            final Sum sum = bucket.getAggregations().get("sum");
+            buckets.put(bucket.getKeyAsString(), bucket.getDocCount() + "/" + sum.getValue());
+        }
+        return buckets;
+    }
+
+    private static Map<String, Long> histogramBuckets(SearchResponse response) {
+        final Histogram histogram = response.getAggregations().get("histogram");
+        final Map<String, Long> buckets = new HashMap<>();
+        for (Histogram.Bucket bucket : histogram.getBuckets()) {
+            buckets.put(bucket.getKeyAsString(), bucket.getDocCount());
+        }
+        return buckets;
+    }
+}
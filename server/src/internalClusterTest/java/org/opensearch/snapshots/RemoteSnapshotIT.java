@@ -0,0 +1,146 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.snapshots;
+
+import org.opensearch.action.admin.cluster.snapshots.restore.RestoreSnapshotResponse;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexModule;
+import org.opensearch.index.store.remote.RemoteSnapshotDirectoryFactory;
+import org.opensearch.test.InternalTestCluster;
+import org.opensearch.test.OpenSearchIntegTestCase.ClusterScope;
+import org.opensearch.test.OpenSearchIntegTestCase.Scope;
+
+import java.util.List;
+
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertAcked;
+import static org.opensearch.test.hamcrest.OpenSearchAssertions.assertHitCount;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+@ClusterScope(scope = Scope.TEST, numDataNodes = 0)
+public class RemoteSnapshotIT extends AbstractSnapshotIntegTestCase {
+
+    private static final String REPO_NAME = "test-repo";
+    private static final String SNAPSHOT_NAME = "test-snap";
+    private static final String INDEX_NAME = "test-idx";
+    private static final String MOUNTED_INDEX_NAME = "mounted-idx";
+
+    public void testMountedSnapshotCannotBeDeleted() throws Exception {
+        internalCluster().startMasterOnlyNode();
+        internalCluster().startDataOnlyNode();
+        final long docCount = mountSnapshot();
+
+        final IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> clusterAdmin().prepareDeleteSnapshot(REPO_NAME, SNAPSHOT_NAME).get());
+        assertThat(e.getMessage(), containsString("it is mounted by index [" + MOUNTED_INDEX_NAME + "/"));
+        assertDocCount(MOUNTED_INDEX_NAME, docCount);
+
+        assertAcked(client().admin().indices().prepareDelete(MOUNTED_INDEX_NAME));
+        assertAcked(startDeleteSnapshot(REPO_NAME, SNAPSHOT_NAME).get());
+    }
+
+    public void testRemoteSnapshotIndexCannotHaveReplicas() throws Exception {
+        internalCluster().startMasterOnlyNode();
+        internalCluster().startDataOnlyNodes(2);
+        mountSnapshot();
+
+        final IllegalArgumentException replicasException = expectThrows(IllegalArgumentException.class,
+            () -> client().admin().indices().prepareUpdateSettings(MOUNTED_INDEX_NAME)
+                .setSettings(Settings.builder().put(IndexMetadata.SETTING_NUMBER_OF_REPLICAS, 1)).get());
+        assertThat(replicasException.getMessage(), containsString("it can't have replicas"));
+
+        final IllegalArgumentException autoExpandException = expectThrows(IllegalArgumentException.class,
+            () -> client().admin().indices().prepareUpdateSettings(MOUNTED_INDEX_NAME)
+                .setSettings(Settings.builder().put(IndexMetadata.SETTING_AUTO_EXPAND_REPLICAS, "0-all")).get());
+        assertThat(autoExpandException.getMessage(), containsString("it can't have replicas"));
+
+        assertThat(getIndexMetadata().getNumberOfReplicas(), equalTo(0));
+    }
+
+    public void testRemoteSnapshotShardRelocates() throws Exception {
+        internalCluster().startMasterOnlyNode();
+        final List<String> dataNodes = internalCluster().startDataOnlyNodes(2);
+        final long docCount = mountSnapshot();
+
+        final String currentNode = primaryNodeName();
+        final String otherNode = dataNodes.get(0).equals(currentNode) ? dataNodes.get(1) : dataNodes.get(0);
+        assertAcked(client().admin().indices().prepareUpdateSettings(MOUNTED_INDEX_NAME)
+            .setSettings(Settings.builder().put("index.routing.allocation.exclude._name", currentNode)));
+        ensureGreen(MOUNTED_INDEX_NAME);
+
+        assertThat(primaryNodeName(), equalTo(otherNode));
+        assertDocCount(MOUNTED_INDEX_NAME, docCount);
+    }
+
+    public void testRemoteSnapshotPrimaryRecoversFromSnapshotWhenItsNodeLeaves() throws Exception {
+        internalCluster().startMasterOnlyNode();
+        internalCluster().startDataOnlyNodes(2);
+        final long docCount = mountSnapshot();
+
+        final String primaryNode = primaryNodeName();
+        internalCluster().stopRandomNode(InternalTestCluster.nameFilter(primaryNode));
+        ensureGreen(MOUNTED_INDEX_NAME);
+
+        assertThat(primaryNodeName(), not(equalTo(primaryNode)));
+        assertDocCount(MOUNTED_INDEX_NAME, docCount);
+    }
+
+    public void testRemoteSnapshotIndexRecoversAfterFullClusterRestart() throws Exception {
+        internalCluster().startMasterOnlyNode();
+        internalCluster().startDataOnlyNode();
+        final long docCount = mountSnapshot();
+
+        internalCluster().fullRestart();
+        ensureGreen(MOUNTED_INDEX_NAME);
+
+        assertDocCount(MOUNTED_INDEX_NAME, docCount);
+    }
+
+    /**
+     * Snapshots an index with a random number of documents and mounts the snapshot as a single shard remote snapshot index.
+     *
+     * @return the number of documents in the mounted index
+     */
+    private long mountSnapshot() throws Exception {
+        createRepository(REPO_NAME, "fs");
+        assertAcked(prepareCreate(INDEX_NAME, indexSettingsNoReplicas(1)));
+        final int docCount = randomIntBetween(10, 100);
+        indexRandomDocs(INDEX_NAME, docCount);
+        createFullSnapshot(REPO_NAME, SNAPSHOT_NAME);
+        assertAcked(client().admin().indices().prepareDelete(INDEX_NAME));
+
+        final RestoreSnapshotResponse restoreSnapshotResponse = clusterAdmin().prepareRestoreSnapshot(REPO_NAME, SNAPSHOT_NAME)
+            .setIndices(INDEX_NAME)
+            .setRenamePattern(INDEX_NAME)
+            .setRenameReplacement(MOUNTED_INDEX_NAME)
+            .setIndexSettings(Settings.builder().put(IndexModule.INDEX_STORE_TYPE_SETTING.getKey(),
+                RemoteSnapshotDirectoryFactory.STORE_TYPE))
+            .setWaitForCompletion(true)
+            .get();
+        assertThat(restoreSnapshotResponse.getRestoreInfo().failedShards(), equalTo(0));
+        ensureGreen(MOUNTED_INDEX_NAME);
+        assertDocCount(MOUNTED_INDEX_NAME, docCount);
+        return docCount;
+    }
+
+    private IndexMetadata getIndexMetadata() {
+        return clusterAdmin().prepareState().get().getState().metadata().index(MOUNTED_INDEX_NAME);
+    }
+
+    private String primaryNodeName() {
+        final ClusterState state = clusterAdmin().prepareState().get().getState();
+        final ShardRouting primary = state.routingTable().index(MOUNTED_INDEX_NAME).shard(0).primaryShard();
+        return state.nodes().get(primary.currentNodeId()).getName();
+    }
+}
@@ -70,5 +70,18 @@ public class OneMergeHelper {
         return merge.totalBytesSize();
     }
 
+    /**
+     * Scales the current MB per second rate limit of the merge running on this thread, unlimited and paused merges are left as is.
+     **/
+    public static void scaleMbPerSec(Thread thread, double factor) {
+        if (thread instanceof ConcurrentMergeScheduler.MergeThread) {
+            final MergeRateLimiter rateLimiter = ((ConcurrentMergeScheduler.MergeThread) thread).rateLimiter;
+            final double mbPerSec = rateLimiter.getMBPerSec();
+            if (mbPerSec > 0 && mbPerSec != Double.POSITIVE_INFINITY) {
+                rateLimiter.setMBPerSec(mbPerSec * factor);
+            }
+        }
+    }
+
 
 }
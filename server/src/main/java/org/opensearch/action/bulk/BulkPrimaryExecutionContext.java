@@ -39,10 +39,13 @@ import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.action.support.replication.TransportWriteAction;
 import org.opensearch.index.engine.Engine;
+import org.opensearch.common.Nullable;
 import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.PreParsedDocument;
 import org.opensearch.index.translog.Translog;
 
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * This is a utility class that holds the per request state needed to perform bulk operations on the primary.
@@ -88,11 +91,14 @@ class BulkPrimaryExecutionContext {
     private DocWriteRequest requestToExecute;
     private BulkItemResponse executionResult;
     private int retryCounter;
+    // documents of index operations that were parsed ahead of their execution, possibly on other threads
+    private final AtomicReferenceArray<PreParsedDocument> preParsedDocuments;
 
 
     BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary) {
         this.request = request;
         this.primary = primary;
+        this.preParsedDocuments = new AtomicReferenceArray<>(request.items().length);
         advance();
     }
 
@@ -197,6 +203,20 @@ class BulkPrimaryExecutionContext {
         return request.items()[currentIndex];
     }
 
+    /** sets the document of the index operation of the item at the given position, this may be called from any thread */
+    void setPreParsedDocument(int itemIndex, @Nullable PreParsedDocument document) {
+        preParsedDocuments.set(itemIndex, document);
+    }
+
+    /**
+     * returns the document of the current item if it was parsed ahead of its execution. The document is only returned
+     * once, a retry of the item parses the document again.
+     */
+    @Nullable
+    PreParsedDocument takePreParsedDocument() {
+        return preParsedDocuments.getAndSet(currentIndex, null);
+    }
+
     /** returns the primary shard */
     public IndexShard getPrimary() {
         return primary;
@@ -328,6 +328,21 @@ public class BulkRequest extends ActionRequest implements CompositeIndicesReques
         return this;
     }
 
+    /**
+     * Adds the complete actions at the beginning of framed data in binary format and returns the number of bytes that were consumed.
+     * Trailing bytes that do not form a complete action yet are left for a subsequent call once more data was received.
+     */
+    public int addIncrementally(BytesReference data, @Nullable String defaultIndex, @Nullable String defaultType,
+                                @Nullable String defaultRouting, @Nullable FetchSourceContext defaultFetchSourceContext,
+                                @Nullable String defaultPipeline, @Nullable Boolean defaultRequireAlias, boolean allowExplicitIndex,
+                                XContentType xContentType) throws IOException {
+        String routing = valueOrDefault(defaultRouting, globalRouting);
+        String pipeline = valueOrDefault(defaultPipeline, globalPipeline);
+        Boolean requireAlias = valueOrDefault(defaultRequireAlias, globalRequireAlias);
+        return new BulkRequestParser(true).parseIncrementally(data, defaultIndex, defaultType, routing, defaultFetchSourceContext,
+                pipeline, requireAlias, allowExplicitIndex, xContentType, this::internalAdd, this::internalAdd, this::add);
+    }
+
     /**
      * Sets the number of shard copies that must be active before proceeding with the write.
      * See {@link ReplicationRequest#waitForActiveShards(ActiveShardCount)} for details.
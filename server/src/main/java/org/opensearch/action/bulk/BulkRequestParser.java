@@ -91,13 +91,13 @@ public final class BulkRequestParser {
         this.warnOnTypeUsage = warnOnTypeUsage;
     }
 
-    private static int findNextMarker(byte marker, int from, BytesReference data) {
+    private static int findNextMarker(byte marker, int from, BytesReference data, boolean incremental) {
         final int res = data.indexOf(marker, from);
         if (res != -1) {
             assert res >= 0;
             return res;
         }
-        if (from != data.length()) {
+        if (incremental == false && from != data.length()) {
             throw new IllegalArgumentException("The bulk request must be terminated by a newline [\\n]");
         }
         return res;
@@ -151,9 +151,41 @@ public final class BulkRequestParser {
             Consumer<IndexRequest> indexRequestConsumer,
             Consumer<UpdateRequest> updateRequestConsumer,
             Consumer<DeleteRequest> deleteRequestConsumer) throws IOException {
+        parse(data, defaultIndex, defaultType, defaultRouting, defaultFetchSourceContext, defaultPipeline, defaultRequireAlias,
+            allowExplicitIndex, xContentType, indexRequestConsumer, updateRequestConsumer, deleteRequestConsumer, false);
+    }
+
+    /**
+     * Parse the complete actions at the beginning of the provided {@code data} like
+     * {@link #parse(BytesReference, String, String, FetchSourceContext, String, Boolean, boolean, XContentType, Consumer, Consumer,
+     * Consumer)} does, and return the number of bytes that were consumed. Trailing bytes that do not form a complete action yet are
+     * not consumed, so that a bulk body can be parsed while it is being received.
+     */
+    public int parseIncrementally(
+            BytesReference data, @Nullable String defaultIndex, @Nullable String defaultType,
+            @Nullable String defaultRouting, @Nullable FetchSourceContext defaultFetchSourceContext,
+            @Nullable String defaultPipeline, @Nullable Boolean defaultRequireAlias, boolean allowExplicitIndex,
+            XContentType xContentType,
+            Consumer<IndexRequest> indexRequestConsumer,
+            Consumer<UpdateRequest> updateRequestConsumer,
+            Consumer<DeleteRequest> deleteRequestConsumer) throws IOException {
+        return parse(data, defaultIndex, defaultType, defaultRouting, defaultFetchSourceContext, defaultPipeline, defaultRequireAlias,
+            allowExplicitIndex, xContentType, indexRequestConsumer, updateRequestConsumer, deleteRequestConsumer, true);
+    }
+
+    private int parse(
+            BytesReference data, @Nullable String defaultIndex, @Nullable String defaultType,
+            @Nullable String defaultRouting, @Nullable FetchSourceContext defaultFetchSourceContext,
+            @Nullable String defaultPipeline, @Nullable Boolean defaultRequireAlias, boolean allowExplicitIndex,
+            XContentType xContentType,
+            Consumer<IndexRequest> indexRequestConsumer,
+            Consumer<UpdateRequest> updateRequestConsumer,
+            Consumer<DeleteRequest> deleteRequestConsumer,
+            boolean incremental) throws IOException {
         XContent xContent = xContentType.xContent();
         int line = 0;
         int from = 0;
+        int consumed = 0;
         byte marker = xContent.streamSeparator();
         boolean typesDeprecationLogged = false;
         // Bulk requests can contain a lot of repeated strings for the index, pipeline and routing parameters. This map is used to
@@ -161,7 +193,7 @@ public final class BulkRequestParser {
         // reduces their lifetime to the lifetime of this parse call instead of the lifetime of the full bulk request.
         final Map<String, String> stringDeduplicator = new HashMap<>();
         while (true) {
-            int nextMarker = findNextMarker(marker, from, data);
+            int nextMarker = findNextMarker(marker, from, data, incremental);
             if (nextMarker == -1) {
                 break;
             }
@@ -175,6 +207,7 @@ public final class BulkRequestParser {
                 // Move to START_OBJECT
                 XContentParser.Token token = parser.nextToken();
                 if (token == null) {
+                    consumed = from;
                     continue;
                 }
                 if (token != XContentParser.Token.START_OBJECT) {
@@ -269,8 +302,9 @@ public final class BulkRequestParser {
                 if ("delete".equals(action)) {
                     deleteRequestConsumer.accept(new DeleteRequest(index, type, id).routing(routing)
                             .version(version).versionType(versionType).setIfSeqNo(ifSeqNo).setIfPrimaryTerm(ifPrimaryTerm));
+                    consumed = from;
                 } else {
-                    nextMarker = findNextMarker(marker, from, data);
+                    nextMarker = findNextMarker(marker, from, data, incremental);
                     if (nextMarker == -1) {
                         break;
                     }
@@ -324,9 +358,11 @@ public final class BulkRequestParser {
                     }
                     // move pointers
                     from = nextMarker + 1;
+                    consumed = from;
                 }
             }
         }
+        return consumed;
     }
 
     private static XContentParser createParser(BytesReference data, XContent xContent) throws IOException {
@@ -58,13 +58,20 @@ import org.opensearch.cluster.action.shard.ShardStateAction;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.compress.CompressedXContent;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.AbstractRunnable;
+import org.opensearch.common.util.concurrent.CountDown;
 import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
@@ -77,6 +84,7 @@ import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.seqno.SequenceNumbers;
 import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.PreParsedDocument;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.indices.IndicesService;
@@ -90,6 +98,8 @@ import org.opensearch.transport.TransportService;
 import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
@@ -108,8 +118,22 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         }
     };
 
+    /**
+     * Whether the documents of the index operations of a shard bulk request are parsed on several threads of the write thread pool
+     * before the operations are applied in order. This lets large bulk requests that target few shards use more than one core per
+     * shard.
+     */
+    public static final Setting<Boolean> PARALLEL_PARSING_ENABLED_SETTING =
+        Setting.boolSetting("bulk.shard.parallel_parsing.enabled", false, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * The minimum number of documents that a thread parses ahead, smaller shard bulk requests are parsed by the thread that applies them.
+     */
+    static final int MIN_DOCUMENTS_PER_PARSING_TASK = 32;
+
     private final UpdateHelper updateHelper;
     private final MappingUpdatedAction mappingUpdatedAction;
+    private volatile boolean parallelParsingEnabled;
 
     @Inject
     public TransportShardBulkAction(Settings settings, TransportService transportService, ClusterService clusterService,
@@ -120,6 +144,9 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             BulkShardRequest::new, BulkShardRequest::new, EXECUTOR_NAME_FUNCTION, false, indexingPressure, systemIndices);
         this.updateHelper = updateHelper;
         this.mappingUpdatedAction = mappingUpdatedAction;
+        this.parallelParsingEnabled = PARALLEL_PARSING_ENABLED_SETTING.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(PARALLEL_PARSING_ENABLED_SETTING,
+            enabled -> this.parallelParsingEnabled = enabled);
     }
 
     @Override
@@ -157,7 +184,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 public void onTimeout(TimeValue timeout) {
                     mappingUpdateListener.onFailure(new MapperException("timed out while waiting for a dynamic mapping update"));
                 }
-            }), listener, threadPool, executor(primary)
+            }), listener, threadPool, executor(primary), parallelParsingEnabled ? indexingPressure : null
         );
     }
 
@@ -176,14 +203,46 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> listener,
         ThreadPool threadPool,
         String executorName) {
-        new ActionRunnable<PrimaryResult<BulkShardRequest, BulkShardResponse>>(listener) {
+        performOnPrimary(request, primary, updateHelper, nowInMillisSupplier, mappingUpdater, waitForMappingUpdate, listener, threadPool,
+            executorName, null);
+    }
+
+    /**
+     * Like {@link #performOnPrimary(BulkShardRequest, IndexShard, UpdateHelper, LongSupplier, MappingUpdatePerformer, Consumer,
+     * ActionListener, ThreadPool, String)}, but if an {@link IndexingPressure} is given the documents of the request are parsed in
+     * parallel before the operations are applied, provided that it can account for the memory the parsed documents hold on to.
+     */
+    public static void performOnPrimary(
+        BulkShardRequest request,
+        IndexShard primary,
+        UpdateHelper updateHelper,
+        LongSupplier nowInMillisSupplier,
+        MappingUpdatePerformer mappingUpdater,
+        Consumer<ActionListener<Void>> waitForMappingUpdate,
+        ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> listener,
+        ThreadPool threadPool,
+        String executorName,
+        @Nullable IndexingPressure indexingPressure) {
+        // releases the memory of the documents that were parsed ahead once all operations were applied
+        final AtomicReference<Releasable> parsedDocumentsMemory = new AtomicReference<>();
+        new ActionRunnable<PrimaryResult<BulkShardRequest, BulkShardResponse>>(
+            ActionListener.runBefore(listener, () -> Releasables.close(parsedDocumentsMemory.get()))) {
 
             private final Executor executor = threadPool.executor(executorName);
 
             private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary);
 
+            private boolean documentsParsed = indexingPressure == null;
+
             @Override
             protected void doRun() throws Exception {
+                if (documentsParsed == false) {
+                    documentsParsed = true;
+                    if (parseDocumentsInParallel()) {
+                        // the thread that parses the last documents will invoke this action again
+                        return;
+                    }
+                }
                 while (context.hasMoreOperationsToExecute()) {
                     if (executeBulkItemRequest(context, updateHelper, nowInMillisSupplier, mappingUpdater, waitForMappingUpdate,
                         ActionListener.wrap(v -> executor.execute(this), this::onRejection)) == false) {
@@ -224,6 +283,100 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 });
             }
 
+            /**
+             * Parses the documents of the index operations of the request in chunks on this thread and on threads of the executor. Each
+             * chunk is claimed by the first thread to get to it, so this thread never waits and parses every chunk that was not
+             * started by another thread yet.
+             * @return {@code true} if documents are still being parsed on other threads, the last thread to finish runs this action
+             *         again, {@code false} if the operations can be applied on this thread right away
+             */
+            private boolean parseDocumentsInParallel() {
+                final BulkItemRequest[] items = request.items();
+                final int numChunks = items.length / MIN_DOCUMENTS_PER_PARSING_TASK;
+                final int numHelpers = Math.min(threadPool.info(executorName).getMax(), numChunks) - 1;
+                if (numHelpers <= 0) {
+                    return false;
+                }
+                final Releasable memory = indexingPressure.tryMarkPrimaryOperationStarted(parsedDocumentsBytes(items));
+                if (memory == null) {
+                    // documents are parsed when their operations are applied
+                    return false;
+                }
+                parsedDocumentsMemory.set(memory);
+                final Runnable applyOperations = this;
+                final AtomicInteger nextChunk = new AtomicInteger();
+                final CountDown remainingChunks = new CountDown(numChunks);
+                for (int helper = 0; helper < numHelpers; helper++) {
+                    executor.execute(new AbstractRunnable() {
+                        @Override
+                        protected void doRun() {
+                            if (parseChunks(items, numChunks, nextChunk, remainingChunks)) {
+                                applyOperations.run();
+                            }
+                        }
+
+                        @Override
+                        public void onFailure(Exception e) {
+                            // the chunks of a rejected helper are parsed by the other threads
+                            logger.debug(() -> new ParameterizedMessage("{} failed to help parsing the documents of bulk items ahead",
+                                primary.shardId()), e);
+                        }
+                    });
+                }
+                return parseChunks(items, numChunks, nextChunk, remainingChunks) == false;
+            }
+
+            /**
+             * Parses chunks of documents until all chunks are claimed.
+             * @return {@code true} if the last chunk to finish was parsed on this thread
+             */
+            private boolean parseChunks(BulkItemRequest[] items, int numChunks, AtomicInteger nextChunk, CountDown remainingChunks) {
+                boolean parsedLastChunk = false;
+                for (int chunk = nextChunk.getAndIncrement(); chunk < numChunks; chunk = nextChunk.getAndIncrement()) {
+                    final int from = (int) ((long) items.length * chunk / numChunks);
+                    final int to = (int) ((long) items.length * (chunk + 1) / numChunks);
+                    try {
+                        parseDocuments(items, from, to);
+                    } catch (Exception e) {
+                        // documents that were not parsed ahead are parsed when their operations are applied
+                        logger.debug(() -> new ParameterizedMessage("{} failed to parse documents of bulk items [{}-{}] ahead",
+                            primary.shardId(), from, to), e);
+                    }
+                    parsedLastChunk = remainingChunks.countDown();
+                }
+                return parsedLastChunk;
+            }
+
+            /**
+             * Estimates the memory that the parsed documents hold on to until their operations are applied. The fields of a parsed
+             * document hold about as much data as its source.
+             */
+            private long parsedDocumentsBytes(BulkItemRequest[] items) {
+                long bytes = 0;
+                for (BulkItemRequest item : items) {
+                    if (isParsedAhead(item)) {
+                        bytes += ((IndexRequest) item.request()).source().length();
+                    }
+                }
+                return bytes;
+            }
+
+            private void parseDocuments(BulkItemRequest[] items, int from, int to) {
+                for (int i = from; i < to; i++) {
+                    final BulkItemRequest item = items[i];
+                    if (isParsedAhead(item)) {
+                        context.setPreParsedDocument(i, primary.preParseIndexOperation(sourceToParse((IndexRequest) item.request())));
+                    }
+                }
+            }
+
+            private boolean isParsedAhead(BulkItemRequest item) {
+                final DocWriteRequest.OpType opType = item.request().opType();
+                // aborted items already have a response, updates are only translated to index operations when they are applied
+                return item.getPrimaryResponse() == null
+                    && (opType == DocWriteRequest.OpType.INDEX || opType == DocWriteRequest.OpType.CREATE);
+            }
+
             private void finishRequest() {
                 ActionListener.completeWith(listener,
                     () -> new WritePrimaryResult<>(
@@ -295,9 +448,15 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 request.ifSeqNo(), request.ifPrimaryTerm());
         } else {
             final IndexRequest request = context.getRequestToExecute();
-            result = primary.applyIndexOperationOnPrimary(version, request.versionType(), new SourceToParse(
-                    request.index(), request.type(), request.id(), request.source(), request.getContentType(), request.routing()),
-                request.ifSeqNo(), request.ifPrimaryTerm(), request.getAutoGeneratedTimestamp(), request.isRetry());
+            final PreParsedDocument preParsedDocument = context.takePreParsedDocument();
+            if (preParsedDocument == null) {
+                result = primary.applyIndexOperationOnPrimary(version, request.versionType(), sourceToParse(request),
+                    request.ifSeqNo(), request.ifPrimaryTerm(), request.getAutoGeneratedTimestamp(), request.isRetry());
+            } else {
+                result = primary.applyIndexOperationOnPrimary(version, request.versionType(), sourceToParse(request),
+                    request.ifSeqNo(), request.ifPrimaryTerm(), request.getAutoGeneratedTimestamp(), request.isRetry(),
+                    preParsedDocument);
+            }
         }
         if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
 
@@ -348,6 +507,11 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         return true;
     }
 
+    private static SourceToParse sourceToParse(IndexRequest request) {
+        return new SourceToParse(request.index(), request.type(), request.id(), request.source(), request.getContentType(),
+            request.routing());
+    }
+
     private static Engine.Result exceptionToResult(Exception e, IndexShard primary, boolean isDelete, long version) {
         return isDelete ? primary.getFailedDeleteResult(e, version) : primary.getFailedIndexResult(e, version);
     }
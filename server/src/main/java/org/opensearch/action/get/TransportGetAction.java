@@ -37,16 +37,19 @@ import org.opensearch.action.RoutingMissingException;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.single.shard.TransportSingleShardAction;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.routing.ShardIterator;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.index.IndexService;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.get.GetResult;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.replication.common.ReplicationType;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
@@ -75,11 +78,25 @@ public class TransportGetAction extends TransportSingleShardAction<GetRequest, G
 
     @Override
     protected ShardIterator shards(ClusterState state, InternalRequest request) {
+        if (request.request().realtime() && isSegmentReplicated(clusterService.state(), request.concreteIndex())) {
+            return clusterService.operationRouting()
+                .getPrimaryShard(clusterService.state(), request.concreteIndex(), request.request().id(), request.request().routing());
+        }
         return clusterService.operationRouting()
                 .getShards(clusterService.state(), request.concreteIndex(), request.request().id(), request.request().routing(),
                     request.request().preference());
     }
 
+    /**
+     * Returns whether the given index uses segment replication. The replicas of such indices only see the operations that the primary
+     * refreshed and whose segments they copied, so realtime gets are routed to the primary regardless of the preference.
+     */
+    static boolean isSegmentReplicated(ClusterState state, String concreteIndex) {
+        final IndexMetadata indexMetadata = state.metadata().index(concreteIndex);
+        return indexMetadata != null
+            && IndexSettings.INDEX_REPLICATION_TYPE_SETTING.get(indexMetadata.getSettings()) == ReplicationType.SEGMENT;
+    }
+
     @Override
     protected void resolveRequest(ClusterState state, InternalRequest request) {
         // update the routing (request#index here is possibly an alias)
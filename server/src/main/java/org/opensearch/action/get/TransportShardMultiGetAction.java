@@ -85,6 +85,9 @@ public class TransportShardMultiGetAction extends TransportSingleShardAction<Mul
 
     @Override
     protected ShardIterator shards(ClusterState state, InternalRequest request) {
+        if (request.request().realtime() && TransportGetAction.isSegmentReplicated(state, request.concreteIndex())) {
+            return clusterService.operationRouting().getPrimaryShard(state, request.concreteIndex(), request.request().shardId());
+        }
         return clusterService.operationRouting()
                 .getShards(state, request.request().index(), request.request().shardId(), request.request().preference());
     }
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.tasks.TaskId;
+
+import java.io.IOException;
+import java.util.Base64;
+
+/**
+ * The identifier of an async search: the id of the document the result is persisted under and the
+ * id of the task that runs the search, so that the search can be looked up on the node that runs it
+ * while it is still running, and in the async search index once it is done.
+ */
+final class AsyncSearchId {
+    private final String docId;
+    private final TaskId taskId;
+
+    AsyncSearchId(String docId, TaskId taskId) {
+        this.docId = docId;
+        this.taskId = taskId;
+    }
+
+    String getDocId() {
+        return docId;
+    }
+
+    TaskId getTaskId() {
+        return taskId;
+    }
+
+    String encode() {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.writeString(docId);
+            taskId.writeTo(out);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(BytesReference.toBytes(out.bytes()));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    static AsyncSearchId decode(String id) {
+        try (StreamInput in = StreamInput.wrap(Base64.getUrlDecoder().decode(id))) {
+            final String docId = in.readString();
+            final TaskId taskId = TaskId.readFromStream(in);
+            if (in.available() > 0) {
+                throw new IllegalArgumentException("Not all bytes were read");
+            }
+            return new AsyncSearchId(docId, taskId);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("invalid async search id [" + id + "]", e);
+        }
+    }
+}
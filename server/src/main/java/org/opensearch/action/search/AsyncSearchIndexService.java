@@ -0,0 +1,268 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.ResourceAlreadyExistsException;
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.admin.indices.create.CreateIndexRequest;
+import org.opensearch.action.admin.indices.create.CreateIndexResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.client.Client;
+import org.opensearch.client.OriginSettingClient;
+import org.opensearch.client.Requests;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Persists the results of async searches to the {@value #INDEX} system index so that they can be retrieved
+ * after the task that ran the search is gone. Expired results are removed lazily when they are read, and in
+ * bulk at most once per {@link #CLEANUP_INTERVAL} when a new result is stored.
+ */
+public class AsyncSearchIndexService {
+
+    private static final Logger logger = LogManager.getLogger(AsyncSearchIndexService.class);
+
+    public static final String INDEX = ".opensearch-async-search";
+
+    public static final String ASYNC_SEARCH_ORIGIN = "async_search";
+
+    static final String RESULT_FIELD = "result";
+    static final String START_TIME_FIELD = "start_time";
+    static final String EXPIRATION_TIME_FIELD = "expiration_time";
+
+    static final TimeValue CLEANUP_INTERVAL = TimeValue.timeValueMinutes(1);
+    private static final int CLEANUP_BATCH_SIZE = 1000;
+
+    private final Client client;
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+    private final AtomicLong lastCleanupMillis = new AtomicLong(Long.MIN_VALUE);
+
+    @Inject
+    public AsyncSearchIndexService(Client client, ClusterService clusterService, ThreadPool threadPool,
+                                   NamedWriteableRegistry namedWriteableRegistry) {
+        this.client = new OriginSettingClient(client, ASYNC_SEARCH_ORIGIN);
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.namedWriteableRegistry = namedWriteableRegistry;
+    }
+
+    /**
+     * Stores the result of an async search under <code>docId</code>.
+     */
+    public void store(String docId, AsyncSearchResponse response, ActionListener<Void> listener) {
+        final IndexRequest indexRequest;
+        try {
+            indexRequest = Requests.indexRequest(INDEX).type(MapperService.SINGLE_MAPPING_NAME).id(docId).source(toSource(response));
+        } catch (IOException e) {
+            listener.onFailure(e);
+            return;
+        }
+        final ActionListener<Void> storeListener = ActionListener.runAfter(listener, this::maybeDeleteExpired);
+        if (clusterService.state().routingTable().hasIndex(INDEX)) {
+            doStore(indexRequest, storeListener);
+            return;
+        }
+        final CreateIndexRequest createIndexRequest = new CreateIndexRequest(INDEX);
+        createIndexRequest.settings(indexSettings());
+        createIndexRequest.mapping(MapperService.SINGLE_MAPPING_NAME, indexMapping());
+        createIndexRequest.cause("auto(async search api)");
+        client.admin().indices().create(createIndexRequest, new ActionListener<CreateIndexResponse>() {
+            @Override
+            public void onResponse(CreateIndexResponse createIndexResponse) {
+                doStore(indexRequest, storeListener);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (ExceptionsHelper.unwrapCause(e) instanceof ResourceAlreadyExistsException) {
+                    doStore(indexRequest, storeListener);
+                } else {
+                    storeListener.onFailure(e);
+                }
+            }
+        });
+    }
+
+    private void doStore(IndexRequest indexRequest, ActionListener<Void> listener) {
+        client.index(indexRequest, ActionListener.map(listener, r -> null));
+    }
+
+    /**
+     * Retrieves the result of an async search, fails with a {@link ResourceNotFoundException} if it does
+     * not exist or if it expired.
+     */
+    public void get(String docId, String id, ActionListener<AsyncSearchResponse> listener) {
+        client.prepareGet(INDEX, MapperService.SINGLE_MAPPING_NAME, docId).execute(new ActionListener<GetResponse>() {
+            @Override
+            public void onResponse(GetResponse getResponse) {
+                if (getResponse.isExists() == false) {
+                    listener.onFailure(new ResourceNotFoundException("async search [{}] not found", id));
+                    return;
+                }
+                final Map<String, Object> source = getResponse.getSourceAsMap();
+                final long expirationTime = ((Number) source.get(EXPIRATION_TIME_FIELD)).longValue();
+                if (expirationTime <= threadPool.absoluteTimeInMillis()) {
+                    delete(docId, ActionListener.wrap(() -> {}));
+                    listener.onFailure(new ResourceNotFoundException("async search [{}] not found", id));
+                    return;
+                }
+                final AsyncSearchResponse response;
+                try {
+                    response = fromSource(source);
+                } catch (Exception e) {
+                    listener.onFailure(e);
+                    return;
+                }
+                listener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (ExceptionsHelper.unwrapCause(e) instanceof IndexNotFoundException) {
+                    listener.onFailure(new ResourceNotFoundException("async search [{}] not found", id));
+                } else {
+                    listener.onFailure(e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Deletes the result of an async search, the listener is notified with <code>false</code> if it did not exist.
+     */
+    public void delete(String docId, ActionListener<Boolean> listener) {
+        if (clusterService.state().routingTable().hasIndex(INDEX) == false) {
+            listener.onResponse(false);
+            return;
+        }
+        final DeleteRequest deleteRequest = new DeleteRequest(INDEX, docId);
+        client.delete(deleteRequest, ActionListener.map(listener, (DeleteResponse r) -> r.status() == RestStatus.OK));
+    }
+
+    /**
+     * Deletes the expired results, at most once per {@link #CLEANUP_INTERVAL}.
+     */
+    void maybeDeleteExpired() {
+        final long now = threadPool.relativeTimeInMillis();
+        final long last = lastCleanupMillis.get();
+        if (last != Long.MIN_VALUE && now - last < CLEANUP_INTERVAL.millis()) {
+            return;
+        }
+        if (lastCleanupMillis.compareAndSet(last, now) == false) {
+            return;
+        }
+        final SearchRequest searchRequest = new SearchRequest(INDEX)
+            .indicesOptions(IndicesOptions.lenientExpandOpen())
+            .source(new SearchSourceBuilder()
+                .query(QueryBuilders.rangeQuery(EXPIRATION_TIME_FIELD).lte(threadPool.absoluteTimeInMillis()))
+                .fetchSource(false)
+                .size(CLEANUP_BATCH_SIZE));
+        client.search(searchRequest, ActionListener.wrap(searchResponse -> {
+            final SearchHit[] hits = searchResponse.getHits().getHits();
+            if (hits.length == 0) {
+                return;
+            }
+            final BulkRequest bulkRequest = new BulkRequest();
+            for (SearchHit hit : hits) {
+                bulkRequest.add(new DeleteRequest(INDEX, hit.getId()));
+            }
+            client.bulk(bulkRequest, ActionListener.wrap(
+                r -> logger.debug("deleted [{}] expired async search results", hits.length),
+                e -> logger.debug("failed to delete expired async search results", e)));
+        }, e -> logger.debug("failed to search for expired async search results", e)));
+    }
+
+    private XContentBuilder toSource(AsyncSearchResponse response) throws IOException {
+        final byte[] result;
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            Version.writeVersion(Version.CURRENT, out);
+            response.writeTo(out);
+            result = BytesReference.toBytes(out.bytes());
+        }
+        final XContentBuilder builder = XContentFactory.contentBuilder(Requests.INDEX_CONTENT_TYPE);
+        builder.startObject();
+        builder.field(RESULT_FIELD, result);
+        builder.field(START_TIME_FIELD, response.getStartTime());
+        builder.field(EXPIRATION_TIME_FIELD, response.getExpirationTime());
+        builder.endObject();
+        return builder;
+    }
+
+    private AsyncSearchResponse fromSource(Map<String, Object> source) throws IOException {
+        final byte[] result = Base64.getDecoder().decode((String) source.get(RESULT_FIELD));
+        try (StreamInput in = new NamedWriteableAwareStreamInput(StreamInput.wrap(result), namedWriteableRegistry)) {
+            in.setVersion(Version.readVersion(in));
+            return new AsyncSearchResponse(in);
+        }
+    }
+
+    private static Settings indexSettings() {
+        return Settings.builder()
+            .put(IndexMetadata.INDEX_NUMBER_OF_SHARDS_SETTING.getKey(), 1)
+            .put(IndexMetadata.INDEX_AUTO_EXPAND_REPLICAS_SETTING.getKey(), "0-1")
+            .put(IndexMetadata.SETTING_PRIORITY, Integer.MAX_VALUE)
+            .build();
+    }
+
+    private static XContentBuilder indexMapping() {
+        try {
+            final XContentBuilder builder = XContentFactory.jsonBuilder();
+            builder.startObject();
+            {
+                builder.startObject(MapperService.SINGLE_MAPPING_NAME);
+                builder.field("dynamic", "strict");
+                builder.startObject("properties");
+                builder.startObject(RESULT_FIELD).field("type", "binary").endObject();
+                builder.startObject(START_TIME_FIELD).field("type", "long").endObject();
+                builder.startObject(EXPIRATION_TIME_FIELD).field("type", "long").endObject();
+                builder.endObject();
+                builder.endObject();
+            }
+            builder.endObject();
+            return builder;
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to build the async search index mapping", e);
+        }
+    }
+}
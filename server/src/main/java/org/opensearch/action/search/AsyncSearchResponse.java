@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.ActionResponse;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.xcontent.StatusToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.rest.RestStatus;
+
+import java.io.IOException;
+
+/**
+ * The state of an async search: the final {@link SearchResponse} once the search completed, or a partial
+ * response built from the latest partial reduction while it is still running.
+ */
+public class AsyncSearchResponse extends ActionResponse implements StatusToXContentObject {
+    @Nullable
+    private final String id;
+    private final boolean isPartial;
+    private final boolean isRunning;
+    private final long startTimeMillis;
+    private final long expirationTimeMillis;
+    @Nullable
+    private final SearchResponse searchResponse;
+    @Nullable
+    private final Exception failure;
+
+    public AsyncSearchResponse(@Nullable String id, boolean isPartial, boolean isRunning, long startTimeMillis,
+                               long expirationTimeMillis, @Nullable SearchResponse searchResponse, @Nullable Exception failure) {
+        this.id = id;
+        this.isPartial = isPartial;
+        this.isRunning = isRunning;
+        this.startTimeMillis = startTimeMillis;
+        this.expirationTimeMillis = expirationTimeMillis;
+        this.searchResponse = searchResponse;
+        this.failure = failure;
+    }
+
+    public AsyncSearchResponse(StreamInput in) throws IOException {
+        super(in);
+        this.id = in.readOptionalString();
+        this.isPartial = in.readBoolean();
+        this.isRunning = in.readBoolean();
+        this.startTimeMillis = in.readLong();
+        this.expirationTimeMillis = in.readLong();
+        this.searchResponse = in.readOptionalWriteable(SearchResponse::new);
+        this.failure = in.readBoolean() ? in.readException() : null;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalString(id);
+        out.writeBoolean(isPartial);
+        out.writeBoolean(isRunning);
+        out.writeLong(startTimeMillis);
+        out.writeLong(expirationTimeMillis);
+        out.writeOptionalWriteable(searchResponse);
+        if (failure != null) {
+            out.writeBoolean(true);
+            out.writeException(failure);
+        } else {
+            out.writeBoolean(false);
+        }
+    }
+
+    /**
+     * The id to retrieve or delete the async search with, or <code>null</code> if the search completed
+     * before the submit request returned and its result was not kept.
+     */
+    @Nullable
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Returns true if the response only contains the results of the shards that responded so far, or
+     * if the search failed.
+     */
+    public boolean isPartial() {
+        return isPartial;
+    }
+
+    public boolean isRunning() {
+        return isRunning;
+    }
+
+    public long getStartTime() {
+        return startTimeMillis;
+    }
+
+    public long getExpirationTime() {
+        return expirationTimeMillis;
+    }
+
+    @Nullable
+    public SearchResponse getSearchResponse() {
+        return searchResponse;
+    }
+
+    @Nullable
+    public Exception getFailure() {
+        return failure;
+    }
+
+    @Override
+    public RestStatus status() {
+        return failure != null ? ExceptionsHelper.status(failure) : RestStatus.OK;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (id != null) {
+            builder.field("id", id);
+        }
+        builder.field("is_partial", isPartial);
+        builder.field("is_running", isRunning);
+        builder.timeField("start_time_in_millis", "start_time", startTimeMillis);
+        builder.timeField("expiration_time_in_millis", "expiration_time", expirationTimeMillis);
+        if (searchResponse != null) {
+            builder.field("response");
+            searchResponse.toXContent(builder, params);
+        }
+        if (failure != null) {
+            builder.startObject("error");
+            OpenSearchException.generateThrowableXContent(builder, params, failure);
+            builder.endObject();
+        }
+        builder.endObject();
+        return builder;
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.SearchResponse.Clusters;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.SearchShardTarget;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Task running the search of an async search. It tracks the progress of the search through its own
+ * {@link SearchProgressListener} and keeps the latest partial reduction in memory so that a partial
+ * response can be built at any time while the search is running.
+ */
+public final class AsyncSearchTask extends SearchTask {
+    private static final Logger logger = LogManager.getLogger(AsyncSearchTask.class);
+
+    private final String docId;
+    private final boolean keepOnCompletion;
+    private final long startTimeMillis;
+    private final long expirationTimeMillis;
+    private final LongSupplier relativeTimeInMillis;
+    private final long startRelativeTimeMillis;
+    private final Supplier<InternalAggregation.ReduceContextBuilder> reduceContextBuilder;
+
+    // guarded by this
+    private int totalShards = -1;
+    private int skippedShards;
+    private int successfulShards;
+    private Clusters clusters = Clusters.EMPTY;
+    private final List<ShardSearchFailure> shardFailures = new ArrayList<>();
+    private TotalHits totalHits;
+    private InternalAggregations partialAggs;
+    private int reducePhase;
+    private InternalAggregations reducedAggs;
+    private int reducedAggsPhase = -1;
+    private boolean idReturned;
+    private boolean deleted;
+    private boolean finished;
+    private SearchResponse finalResponse;
+    private Exception failure;
+    private boolean completionNotified;
+    private final List<Runnable> completionListeners = new ArrayList<>();
+
+    AsyncSearchTask(long id, String type, String action, Supplier<String> descriptionSupplier, TaskId parentTaskId,
+                    Map<String, String> headers, String docId, boolean keepOnCompletion, long startTimeMillis,
+                    long expirationTimeMillis, LongSupplier relativeTimeInMillis,
+                    Supplier<InternalAggregation.ReduceContextBuilder> reduceContextBuilder) {
+        super(id, type, action, descriptionSupplier, parentTaskId, headers);
+        this.docId = docId;
+        this.keepOnCompletion = keepOnCompletion;
+        this.startTimeMillis = startTimeMillis;
+        this.expirationTimeMillis = expirationTimeMillis;
+        this.relativeTimeInMillis = relativeTimeInMillis;
+        this.startRelativeTimeMillis = relativeTimeInMillis.getAsLong();
+        this.reduceContextBuilder = reduceContextBuilder;
+        setProgressListener(new Listener());
+    }
+
+    String getDocId() {
+        return docId;
+    }
+
+    long getExpirationTime() {
+        return expirationTimeMillis;
+    }
+
+    String getAsyncSearchId(String localNodeId) {
+        return new AsyncSearchId(docId, new TaskId(localNodeId, getId())).encode();
+    }
+
+    /**
+     * Builds the response of the submit request. The id is only left out if the search already
+     * completed and its result is not kept, otherwise the result is persisted once the search completes.
+     */
+    AsyncSearchResponse buildSubmitResponse(String id) {
+        final boolean returnId;
+        synchronized (this) {
+            if (finished == false) {
+                idReturned = true;
+            }
+            returnId = idReturned || keepOnCompletion;
+        }
+        return buildResponse(returnId ? id : null);
+    }
+
+    /**
+     * Builds the current state of the async search, either its final response or a partial one. The state is copied under the
+     * lock of the task and the partial aggregations are reduced outside of it, so that the progress of the search is not held up
+     * by the reduction.
+     */
+    AsyncSearchResponse buildResponse(@Nullable String id) {
+        final int totalShards;
+        final int successfulShards;
+        final int skippedShards;
+        final Clusters clusters;
+        final ShardSearchFailure[] shardFailures;
+        final TotalHits totalHits;
+        final int reducePhase;
+        final InternalAggregations aggsToReduce;
+        InternalAggregations reducedAggs;
+        synchronized (this) {
+            if (finished) {
+                return new AsyncSearchResponse(id, failure != null, false, startTimeMillis, expirationTimeMillis, finalResponse, failure);
+            }
+            if (this.totalShards == -1) {
+                // the shards are not resolved yet
+                return new AsyncSearchResponse(id, true, true, startTimeMillis, expirationTimeMillis, null, null);
+            }
+            totalShards = this.totalShards;
+            successfulShards = this.successfulShards;
+            skippedShards = this.skippedShards;
+            clusters = this.clusters;
+            shardFailures = this.shardFailures.toArray(ShardSearchFailure.EMPTY_ARRAY);
+            totalHits = this.totalHits;
+            reducePhase = this.reducePhase;
+            if (partialAggs != null && reducedAggsPhase != reducePhase) {
+                aggsToReduce = partialAggs;
+                reducedAggs = null;
+            } else {
+                aggsToReduce = null;
+                reducedAggs = this.reducedAggs;
+            }
+        }
+        if (aggsToReduce != null) {
+            try {
+                reducedAggs = InternalAggregations.topLevelReduce(Collections.singletonList(aggsToReduce),
+                    reduceContextBuilder.get().forFinalReduction());
+            } catch (Exception e) {
+                logger.debug(() -> new ParameterizedMessage("failed to reduce the partial aggregations of async search [{}]", docId), e);
+            }
+            synchronized (this) {
+                // keep the reduction for the next partial responses unless a later one was kept in the meantime
+                if (finished == false && reducedAggsPhase < reducePhase) {
+                    this.reducedAggs = reducedAggs;
+                    this.reducedAggsPhase = reducePhase;
+                }
+            }
+        }
+        final SearchHits hits = new SearchHits(new SearchHit[0], totalHits, Float.NaN);
+        final InternalSearchResponse internal = new InternalSearchResponse(hits, reducedAggs, null, null, false, null, reducePhase);
+        final long tookInMillis = relativeTimeInMillis.getAsLong() - startRelativeTimeMillis;
+        final SearchResponse partialResponse = new SearchResponse(internal, null, totalShards, successfulShards, skippedShards,
+            tookInMillis, shardFailures, clusters);
+        return new AsyncSearchResponse(id, true, true, startTimeMillis, expirationTimeMillis, partialResponse, null);
+    }
+
+    /**
+     * Records the outcome of the search and returns true if it must be persisted to the async search index.
+     */
+    synchronized boolean finish(@Nullable SearchResponse response, @Nullable Exception e) {
+        assert finished == false : "async search [" + docId + "] already finished";
+        finished = true;
+        finalResponse = response;
+        failure = e;
+        // the partial state is not needed anymore
+        partialAggs = null;
+        reducedAggs = null;
+        return (idReturned || keepOnCompletion) && deleted == false;
+    }
+
+    /**
+     * Marks the async search as deleted so that its result is not persisted once it completes.
+     */
+    synchronized void markDeleted() {
+        deleted = true;
+    }
+
+    /**
+     * Notifies the listeners waiting for the completion of the search, this is called once the result
+     * has been persisted, if needed.
+     */
+    void notifyCompletion() {
+        final List<Runnable> toNotify;
+        synchronized (this) {
+            assert finished : "async search [" + docId + "] is not finished";
+            completionNotified = true;
+            toNotify = new ArrayList<>(completionListeners);
+            completionListeners.clear();
+        }
+        toNotify.forEach(Runnable::run);
+    }
+
+    /**
+     * Adds a listener that is called once the search completed, or once <code>waitForCompletion</code>
+     * expired, whichever comes first. A <code>null</code> timeout waits for completion indefinitely.
+     */
+    void addCompletionListener(ActionListener<Void> listener, @Nullable TimeValue waitForCompletion, ThreadPool threadPool) {
+        final AtomicBoolean notified = new AtomicBoolean();
+        final Runnable notifyOnce = () -> {
+            if (notified.compareAndSet(false, true)) {
+                listener.onResponse(null);
+            }
+        };
+        synchronized (this) {
+            if (completionNotified == false && (waitForCompletion == null || waitForCompletion.millis() > 0)) {
+                completionListeners.add(notifyOnce);
+                if (waitForCompletion != null) {
+                    threadPool.schedule(() -> {
+                        synchronized (this) {
+                            completionListeners.remove(notifyOnce);
+                        }
+                        notifyOnce.run();
+                    }, waitForCompletion, ThreadPool.Names.GENERIC);
+                }
+                return;
+            }
+        }
+        notifyOnce.run();
+    }
+
+    private class Listener extends SearchProgressListener {
+        @Override
+        protected void onListShards(List<SearchShard> shards, List<SearchShard> skipped, Clusters clusters, boolean fetchPhase) {
+            synchronized (AsyncSearchTask.this) {
+                AsyncSearchTask.this.totalShards = shards.size() + skipped.size();
+                AsyncSearchTask.this.skippedShards = skipped.size();
+                AsyncSearchTask.this.successfulShards = skipped.size();
+                AsyncSearchTask.this.clusters = clusters;
+            }
+        }
+
+        @Override
+        protected void onQueryResult(int shardIndex) {
+            synchronized (AsyncSearchTask.this) {
+                successfulShards++;
+            }
+        }
+
+        @Override
+        protected void onQueryFailure(int shardIndex, SearchShardTarget shardTarget, Exception exc) {
+            synchronized (AsyncSearchTask.this) {
+                shardFailures.add(new ShardSearchFailure(exc, shardTarget));
+            }
+        }
+
+        @Override
+        protected void onPartialReduce(List<SearchShard> shards, TotalHits totalHits, InternalAggregations aggs, int reducePhase) {
+            synchronized (AsyncSearchTask.this) {
+                AsyncSearchTask.this.totalHits = totalHits;
+                AsyncSearchTask.this.partialAggs = aggs;
+                AsyncSearchTask.this.reducePhase = reducePhase;
+            }
+        }
+
+        @Override
+        protected void onFinalReduce(List<SearchShard> shards, TotalHits totalHits, InternalAggregations aggs, int reducePhase) {
+            synchronized (AsyncSearchTask.this) {
+                // the aggregations are final, there is no need to reduce them again
+                AsyncSearchTask.this.totalHits = totalHits;
+                AsyncSearchTask.this.partialAggs = aggs;
+                AsyncSearchTask.this.reducedAggs = aggs;
+                AsyncSearchTask.this.reducePhase = reducePhase;
+                AsyncSearchTask.this.reducedAggsPhase = reducePhase;
+            }
+        }
+    }
+}
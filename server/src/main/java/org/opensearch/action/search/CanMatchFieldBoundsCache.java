@@ -0,0 +1,152 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.Nullable;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.FieldBounds;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Caches the {@link FieldBounds} that shards report in their can_match responses on the coordinating node, so that
+ * {@link CanMatchPreFilterSearchPhase} can find out locally whether range queries can match a shard.
+ * <p>
+ * The bounds are cached per shard together with the settings version of the index that the shard knew about and the version
+ * of the reader they were read from. A response that was served by another reader replaces all the bounds of the shard. The
+ * bounds of the shards of indices that have a write block are used as long as the settings of the index, and so its blocks,
+ * are the ones the shard reported: lifting the block and adding it again bumps the settings version, so bounds that might
+ * miss the writes in between are not used anymore. The bounds of the shards of writable indices might miss the documents
+ * that were written since they were reported, so they are only used if
+ * <code>search.can_match.field_bounds_cache.writable_ttl</code> is set, and for at most that long.
+ */
+public final class CanMatchFieldBoundsCache {
+
+    public static final Setting<Integer> SIZE_SETTING =
+        Setting.intSetting("search.can_match.field_bounds_cache.size", 10_000, 0, Setting.Property.NodeScope);
+    public static final Setting<TimeValue> WRITABLE_TTL_SETTING =
+        Setting.timeSetting("search.can_match.field_bounds_cache.writable_ttl", TimeValue.ZERO, TimeValue.ZERO,
+            Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    @Nullable
+    private final Cache<ShardId, Entry> cache;
+    private final LongSupplier relativeTimeInNanos;
+    private volatile TimeValue writableTtl;
+
+    public CanMatchFieldBoundsCache(Settings settings, ClusterSettings clusterSettings, LongSupplier relativeTimeInNanos) {
+        final int size = SIZE_SETTING.get(settings);
+        this.cache = size == 0 ? null : CacheBuilder.<ShardId, Entry>builder()
+            .setMaximumWeight(size)
+            .weigher((shardId, entry) -> entry.bounds.size())
+            // drops the entries of indices that are not searched anymore
+            .setExpireAfterAccess(TimeValue.timeValueHours(1))
+            .build();
+        this.relativeTimeInNanos = relativeTimeInNanos;
+        this.writableTtl = WRITABLE_TTL_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(WRITABLE_TTL_SETTING, this::setWritableTtl);
+    }
+
+    private void setWritableTtl(TimeValue writableTtl) {
+        this.writableTtl = writableTtl;
+    }
+
+    /**
+     * Caches the bounds that the provided shard reported.
+     *
+     * @param indexSettingsVersion the settings version of the index that the shard knew about when it read the bounds
+     * @param readerVersion        the version of the reader that the bounds were read from
+     */
+    void put(ShardId shardId, Map<String, FieldBounds> fieldBounds, long indexSettingsVersion, long readerVersion) {
+        if (cache == null || indexSettingsVersion < 0 || readerVersion < 0) {
+            return;
+        }
+        final Entry existing = cache.get(shardId);
+        final Map<String, FieldBounds> bounds;
+        if (existing != null && existing.indexSettingsVersion == indexSettingsVersion && existing.readerVersion == readerVersion) {
+            // the bounds of the other fields were read from the same reader, so they are still current
+            bounds = new HashMap<>(existing.bounds);
+            bounds.putAll(fieldBounds);
+        } else {
+            bounds = new HashMap<>(fieldBounds);
+        }
+        cache.put(shardId, new Entry(Collections.unmodifiableMap(bounds), indexSettingsVersion, readerVersion,
+            relativeTimeInNanos.getAsLong()));
+    }
+
+    /**
+     * Returns {@link Boolean#FALSE} if the cached bounds show that one of the provided range queries cannot match the shard,
+     * {@link Boolean#TRUE} if they show that all of them may match, and null if the bounds of some fields are unknown.
+     *
+     * @param writeBlocked         whether the index of the shard has a write block
+     * @param indexSettingsVersion the current settings version of the index of the shard, or -1 if unknown
+     */
+    @Nullable
+    Boolean canMatch(ShardId shardId, List<RangeQueryBuilder> ranges, boolean writeBlocked, long indexSettingsVersion,
+                     LongSupplier nowInMillis) {
+        if (cache == null || ranges.isEmpty()) {
+            return null;
+        }
+        final Entry entry = cache.get(shardId);
+        if (entry == null || isValid(entry, writeBlocked, indexSettingsVersion) == false) {
+            return null;
+        }
+        boolean allKnown = true;
+        for (RangeQueryBuilder range : ranges) {
+            final FieldBounds bounds = entry.bounds.get(range.fieldName());
+            if (bounds == null) {
+                allKnown = false;
+            } else if (bounds.canMatch(range, nowInMillis) == false) {
+                return Boolean.FALSE;
+            }
+        }
+        return allKnown ? Boolean.TRUE : null;
+    }
+
+    private boolean isValid(Entry entry, boolean writeBlocked, long indexSettingsVersion) {
+        if (writeBlocked && indexSettingsVersion >= 0 && entry.indexSettingsVersion == indexSettingsVersion) {
+            // the shard read the bounds under the same write block, which has not been lifted since
+            return true;
+        }
+        final long ttlNanos = writableTtl.nanos();
+        return ttlNanos > 0 && relativeTimeInNanos.getAsLong() - entry.createdNanos <= ttlNanos;
+    }
+
+    /**
+     * The number of cached field bounds.
+     */
+    long count() {
+        return cache == null ? 0 : cache.weight();
+    }
+
+    private static final class Entry {
+        final Map<String, FieldBounds> bounds;
+        final long indexSettingsVersion;
+        final long readerVersion;
+        final long createdNanos;
+
+        Entry(Map<String, FieldBounds> bounds, long indexSettingsVersion, long readerVersion, long createdNanos) {
+            this.bounds = bounds;
+            this.indexSettingsVersion = indexSettingsVersion;
+            this.readerVersion = readerVersion;
+            this.createdNanos = createdNanos;
+        }
+    }
+}
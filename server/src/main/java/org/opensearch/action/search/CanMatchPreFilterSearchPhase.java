@@ -35,8 +35,13 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.util.FixedBitSet;
 import org.opensearch.action.ActionListener;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.block.ClusterBlockLevel;
+import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.routing.GroupShardsIterator;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.search.FieldBounds;
 import org.opensearch.search.SearchService.CanMatchResponse;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -46,6 +51,7 @@ import org.opensearch.search.sort.MinAndMax;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.transport.Transport;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -67,11 +73,18 @@ import java.util.stream.Stream;
  * When the query primary sort is perform on a field, this phase extracts the min/max value in each shard and
  * sort them according to the provided order. This can be useful for instance to ensure that shards that contain recent
  * data are executed first when sorting by descending timestamp.
+ * Shards report the bounds of the fields of the range queries that the request requires, which are cached in a
+ * {@link CanMatchFieldBoundsCache} so that later requests can skip the shards that cannot match without reaching out to them.
  */
 final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMatchResponse> {
 
     private final Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory;
     private final GroupShardsIterator<SearchShardIterator> shardsIts;
+    private final ClusterState clusterState;
+    private final TransportSearchAction.SearchTimeProvider timeProvider;
+    @Nullable
+    private final CanMatchFieldBoundsCache fieldBoundsCache;
+    private final List<RangeQueryBuilder> requiredRanges = new ArrayList<>();
 
     CanMatchPreFilterSearchPhase(Logger logger, SearchTransportService searchTransportService,
                                  BiFunction<String, String, Transport.Connection> nodeIdToConnection,
@@ -81,13 +94,19 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
                                  ActionListener<SearchResponse> listener, GroupShardsIterator<SearchShardIterator> shardsIts,
                                  TransportSearchAction.SearchTimeProvider timeProvider, ClusterState clusterState,
                                  SearchTask task, Function<GroupShardsIterator<SearchShardIterator>, SearchPhase> phaseFactory,
-                                 SearchResponse.Clusters clusters) {
+                                 SearchResponse.Clusters clusters, @Nullable CanMatchFieldBoundsCache fieldBoundsCache) {
         //We set max concurrent shard requests to the number of shards so no throttling happens for can_match requests
         super("can_match", logger, searchTransportService, nodeIdToConnection, aliasFilter, concreteIndexBoosts, indexRoutings,
                 executor, request, listener, shardsIts, timeProvider, clusterState, task,
                 new CanMatchSearchPhaseResults(shardsIts.size()), shardsIts.size(), clusters);
         this.phaseFactory = phaseFactory;
         this.shardsIts = shardsIts;
+        this.clusterState = clusterState;
+        this.timeProvider = timeProvider;
+        this.fieldBoundsCache = fieldBoundsCache;
+        if (request.source() != null) {
+            FieldBounds.collectRequiredRanges(request.source().query(), requiredRanges);
+        }
     }
 
     @Override
@@ -98,10 +117,52 @@ final class CanMatchPreFilterSearchPhase extends AbstractSearchAsyncAction<CanMa
     @Override
     protected void executePhaseOnShard(SearchShardIterator shardIt, SearchShardTarget shard,
                                        SearchActionListener<CanMatchResponse> listener) {
+        final Boolean cachedCanMatch = canMatchFromCache(shardIt);
+        if (cachedCanMatch != null) {
+            listener.onResponse(new CanMatchResponse(cachedCanMatch, null));
+            return;
+        }
         getSearchTransport().sendCanMatch(getConnection(shard.getClusterAlias(), shard.getNodeId()),
             buildShardSearchRequest(shardIt), getTask(), listener);
     }
 
+    @Override
+    protected void onShardResult(CanMatchResponse result, SearchShardIterator shardIt) {
+        if (result.fieldBounds().isEmpty() == false && canUseFieldBoundsCache(shardIt)) {
+            fieldBoundsCache.put(shardIt.shardId(), result.fieldBounds(), result.indexSettingsVersion(), result.readerVersion());
+        }
+        super.onShardResult(result, shardIt);
+    }
+
+    /**
+     * Returns whether the shard can match according to the cached field bounds, or null if the shard must be asked.
+     */
+    @Nullable
+    private Boolean canMatchFromCache(SearchShardIterator shardIt) {
+        if (requiredRanges.isEmpty() || canUseFieldBoundsCache(shardIt) == false) {
+            return null;
+        }
+        final String indexName = shardIt.shardId().getIndexName();
+        final IndexMetadata indexMetadata = clusterState.metadata().index(indexName);
+        final Boolean canMatch = fieldBoundsCache.canMatch(shardIt.shardId(), requiredRanges, isWriteBlocked(indexName),
+            indexMetadata == null ? -1L : indexMetadata.getSettingsVersion(), timeProvider::getAbsoluteStartMillis);
+        if (Boolean.TRUE.equals(canMatch) && FieldSortBuilder.getPrimaryFieldSortOrNull(getRequest().source()) != null) {
+            // the shard is still asked for the min/max values of the primary sort
+            return null;
+        }
+        return canMatch;
+    }
+
+    private boolean canUseFieldBoundsCache(SearchShardIterator shardIt) {
+        // the cluster state of remote clusters is unknown, and readers of search contexts do not see recent changes
+        return fieldBoundsCache != null && shardIt.getClusterAlias() == null && shardIt.getSearchContextId() == null;
+    }
+
+    private boolean isWriteBlocked(String indexName) {
+        // only index blocks count since they are part of the settings of the index, whose version the cached bounds are tied to
+        return clusterState.blocks().indices(ClusterBlockLevel.WRITE).containsKey(indexName);
+    }
+
     @Override
     protected SearchPhase getNextPhase(SearchPhaseResults<CanMatchResponse> results, SearchPhaseContext context) {
 
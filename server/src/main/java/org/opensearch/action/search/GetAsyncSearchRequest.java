@@ -0,0 +1,74 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.unit.TimeValue;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * A request to retrieve the state of an async search, waiting at most <code>waitForCompletionTimeout</code> for
+ * the search to complete if it is still running.
+ */
+public class GetAsyncSearchRequest extends ActionRequest {
+    private final String id;
+    private TimeValue waitForCompletionTimeout = TimeValue.ZERO;
+
+    public GetAsyncSearchRequest(String id) {
+        this.id = Objects.requireNonNull(id);
+    }
+
+    public GetAsyncSearchRequest(StreamInput in) throws IOException {
+        super(in);
+        this.id = in.readString();
+        this.waitForCompletionTimeout = in.readTimeValue();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(id);
+        out.writeTimeValue(waitForCompletionTimeout);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public TimeValue getWaitForCompletionTimeout() {
+        return waitForCompletionTimeout;
+    }
+
+    public GetAsyncSearchRequest setWaitForCompletionTimeout(TimeValue waitForCompletionTimeout) {
+        this.waitForCompletionTimeout = Objects.requireNonNull(waitForCompletionTimeout);
+        return this;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+        if (waitForCompletionTimeout.millis() < 0) {
+            validationException = addValidationError("[wait_for_completion_timeout] must be positive, got: " + waitForCompletionTimeout,
+                validationException);
+        }
+        return validationException;
+    }
+
+    @Override
+    public String getDescription() {
+        return "id=" + id + ", waitForCompletionTimeout=" + waitForCompletionTimeout;
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionType;
+
+public class ListPointInTimeAction extends ActionType<ListPointInTimeResponse> {
+
+    public static final ListPointInTimeAction INSTANCE = new ListPointInTimeAction();
+    public static final String NAME = "cluster:monitor/point_in_time/list";
+
+    private ListPointInTimeAction() {
+        super(NAME, ListPointInTimeResponse::new);
+    }
+}
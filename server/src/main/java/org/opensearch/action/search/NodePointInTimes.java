@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * The point in time reader contexts that are open on a single node.
+ */
+public class NodePointInTimes extends BaseNodeResponse implements ToXContentFragment {
+
+    private final List<PointInTimeInfo> pointInTimes;
+
+    public NodePointInTimes(StreamInput in) throws IOException {
+        super(in);
+        pointInTimes = in.readList(PointInTimeInfo::new);
+    }
+
+    public NodePointInTimes(DiscoveryNode node, List<PointInTimeInfo> pointInTimes) {
+        super(node);
+        this.pointInTimes = pointInTimes;
+    }
+
+    public List<PointInTimeInfo> getPointInTimes() {
+        return pointInTimes;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeList(pointInTimes);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startArray("point_in_times");
+        for (PointInTimeInfo pointInTime : pointInTimes) {
+            pointInTime.toXContent(builder, params);
+        }
+        builder.endArray();
+        return builder;
+    }
+}
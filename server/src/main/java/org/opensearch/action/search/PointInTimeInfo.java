@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.internal.ShardSearchContextId;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Describes a reader context that was opened on a shard for a point in time.
+ */
+public class PointInTimeInfo implements Writeable, ToXContentObject {
+
+    private final ShardId shardId;
+    private final ShardSearchContextId contextId;
+    private final TimeValue keepAlive;
+    private final TimeValue age;
+
+    public PointInTimeInfo(ShardId shardId, ShardSearchContextId contextId, TimeValue keepAlive, TimeValue age) {
+        this.shardId = Objects.requireNonNull(shardId);
+        this.contextId = Objects.requireNonNull(contextId);
+        this.keepAlive = Objects.requireNonNull(keepAlive);
+        this.age = Objects.requireNonNull(age);
+    }
+
+    public PointInTimeInfo(StreamInput in) throws IOException {
+        shardId = new ShardId(in);
+        contextId = new ShardSearchContextId(in);
+        keepAlive = in.readTimeValue();
+        age = in.readTimeValue();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        shardId.writeTo(out);
+        contextId.writeTo(out);
+        out.writeTimeValue(keepAlive);
+        out.writeTimeValue(age);
+    }
+
+    public ShardId getShardId() {
+        return shardId;
+    }
+
+    public ShardSearchContextId getContextId() {
+        return contextId;
+    }
+
+    /**
+     * Returns how long the reader context is kept alive after its last use
+     */
+    public TimeValue getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Returns the time elapsed since the reader context was opened
+     */
+    public TimeValue getAge() {
+        return age;
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.field("index", shardId.getIndexName());
+        builder.field("shard", shardId.id());
+        builder.field("context_id", contextId.getId());
+        builder.field("keep_alive", keepAlive.getStringRep());
+        builder.humanReadableField("age_in_millis", "age", age);
+        builder.endObject();
+        return builder;
+    }
+}
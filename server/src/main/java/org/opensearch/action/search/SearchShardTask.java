@@ -35,7 +35,9 @@ package org.opensearch.action.search;
 import org.opensearch.search.fetch.ShardFetchSearchRequest;
 import org.opensearch.search.internal.ShardSearchRequest;
 import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.ResourceTrackingTask;
 import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskResourceUsage;
 
 import java.util.Map;
 
@@ -43,12 +45,18 @@ import java.util.Map;
  * Task storing information about a currently running search shard request.
  * See {@link ShardSearchRequest}, {@link ShardFetchSearchRequest}, ...
  */
-public class SearchShardTask extends CancellableTask {
+public class SearchShardTask extends CancellableTask implements ResourceTrackingTask {
+    private final TaskResourceUsage resourceUsage = new TaskResourceUsage();
 
     public SearchShardTask(long id, String type, String action, String description, TaskId parentTaskId, Map<String, String> headers) {
         super(id, type, action, description, parentTaskId, headers);
     }
 
+    @Override
+    public TaskResourceUsage resourceUsage() {
+        return resourceUsage;
+    }
+
     @Override
     public boolean shouldCancelChildrenOnCancellation() {
         return false;
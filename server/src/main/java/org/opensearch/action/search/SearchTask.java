@@ -33,7 +33,9 @@
 package org.opensearch.action.search;
 
 import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.ResourceTrackingTask;
 import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskResourceUsage;
 
 import java.util.Map;
 import java.util.function.Supplier;
@@ -41,7 +43,8 @@ import java.util.function.Supplier;
 /**
  * Task storing information about a currently running {@link SearchRequest}.
  */
-public class SearchTask extends CancellableTask {
+public class SearchTask extends CancellableTask implements ResourceTrackingTask {
+    private final TaskResourceUsage resourceUsage = new TaskResourceUsage();
     // generating description in a lazy way since source can be quite big
     private final Supplier<String> descriptionSupplier;
     private SearchProgressListener progressListener = SearchProgressListener.NOOP;
@@ -71,6 +74,11 @@ public class SearchTask extends CancellableTask {
         return progressListener;
     }
 
+    @Override
+    public TaskResourceUsage resourceUsage() {
+        return resourceUsage;
+    }
+
     @Override
     public boolean shouldCancelChildrenOnCancellation() {
         return true;
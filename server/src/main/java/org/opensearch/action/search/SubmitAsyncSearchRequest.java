@@ -0,0 +1,115 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.unit.TimeValue;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * A request to run a {@link SearchRequest} asynchronously. The submit request waits for the search to complete
+ * for at most <code>waitForCompletionTimeout</code>, and returns a partial response and an id to poll the
+ * search with if it is still running by then. The search is cancelled, and its result deleted, once
+ * <code>keepAlive</code> expired.
+ */
+public class SubmitAsyncSearchRequest extends ActionRequest {
+    public static final TimeValue DEFAULT_WAIT_FOR_COMPLETION_TIMEOUT = TimeValue.timeValueSeconds(1);
+    public static final TimeValue DEFAULT_KEEP_ALIVE = TimeValue.timeValueDays(5);
+    public static final int DEFAULT_BATCHED_REDUCE_SIZE = 5;
+
+    private final SearchRequest searchRequest;
+    private TimeValue waitForCompletionTimeout = DEFAULT_WAIT_FOR_COMPLETION_TIMEOUT;
+    private TimeValue keepAlive = DEFAULT_KEEP_ALIVE;
+    private boolean keepOnCompletion = false;
+
+    public SubmitAsyncSearchRequest(SearchRequest searchRequest) {
+        this.searchRequest = Objects.requireNonNull(searchRequest);
+    }
+
+    public SubmitAsyncSearchRequest(StreamInput in) throws IOException {
+        super(in);
+        this.searchRequest = new SearchRequest(in);
+        this.waitForCompletionTimeout = in.readTimeValue();
+        this.keepAlive = in.readTimeValue();
+        this.keepOnCompletion = in.readBoolean();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        searchRequest.writeTo(out);
+        out.writeTimeValue(waitForCompletionTimeout);
+        out.writeTimeValue(keepAlive);
+        out.writeBoolean(keepOnCompletion);
+    }
+
+    public SearchRequest getSearchRequest() {
+        return searchRequest;
+    }
+
+    public TimeValue getWaitForCompletionTimeout() {
+        return waitForCompletionTimeout;
+    }
+
+    public SubmitAsyncSearchRequest setWaitForCompletionTimeout(TimeValue waitForCompletionTimeout) {
+        this.waitForCompletionTimeout = Objects.requireNonNull(waitForCompletionTimeout);
+        return this;
+    }
+
+    public TimeValue getKeepAlive() {
+        return keepAlive;
+    }
+
+    public SubmitAsyncSearchRequest setKeepAlive(TimeValue keepAlive) {
+        this.keepAlive = Objects.requireNonNull(keepAlive);
+        return this;
+    }
+
+    /**
+     * Whether the result is persisted if the search completes before the submit request returns.
+     */
+    public boolean isKeepOnCompletion() {
+        return keepOnCompletion;
+    }
+
+    public SubmitAsyncSearchRequest setKeepOnCompletion(boolean keepOnCompletion) {
+        this.keepOnCompletion = keepOnCompletion;
+        return this;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = searchRequest.validate();
+        if (searchRequest.scroll() != null) {
+            validationException = addValidationError("[scroll] is not supported by async search", validationException);
+        }
+        if (keepAlive.millis() < TimeValue.timeValueMinutes(1).millis()) {
+            validationException = addValidationError("[keep_alive] must be greater than 1 minute, got: " + keepAlive,
+                validationException);
+        }
+        if (waitForCompletionTimeout.millis() < 0) {
+            validationException = addValidationError("[wait_for_completion_timeout] must be positive, got: " + waitForCompletionTimeout,
+                validationException);
+        }
+        return validationException;
+    }
+
+    @Override
+    public String getDescription() {
+        return "waitForCompletionTimeout=" + waitForCompletionTimeout + ", keepAlive=" + keepAlive
+            + ", keepOnCompletion=" + keepOnCompletion + ", " + searchRequest.buildDescription();
+    }
+}
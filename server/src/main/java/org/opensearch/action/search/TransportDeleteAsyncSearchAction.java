@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.action.support.master.AcknowledgedResponse;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Deletes an async search: the {@link AsyncSearchTask} is cancelled if the search is still running, and its
+ * result is deleted from the async search index once the task completed.
+ */
+public class TransportDeleteAsyncSearchAction extends HandledTransportAction<DeleteAsyncSearchRequest, AcknowledgedResponse> {
+    private final TransportService transportService;
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final AsyncSearchIndexService indexService;
+
+    @Inject
+    public TransportDeleteAsyncSearchAction(TransportService transportService, ActionFilters actionFilters, ClusterService clusterService,
+                                            ThreadPool threadPool, AsyncSearchIndexService indexService) {
+        super(DeleteAsyncSearchAction.NAME, transportService, actionFilters, DeleteAsyncSearchRequest::new);
+        this.transportService = transportService;
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.indexService = indexService;
+    }
+
+    @Override
+    protected void doExecute(Task task, DeleteAsyncSearchRequest request, ActionListener<AcknowledgedResponse> listener) {
+        final AsyncSearchId searchId = AsyncSearchId.decode(request.getId());
+        final DiscoveryNodes nodes = clusterService.state().nodes();
+        final String nodeId = searchId.getTaskId().getNodeId();
+        if (nodeId.equals(nodes.getLocalNodeId())) {
+            final Task runningTask = taskManager.getTask(searchId.getTaskId().getId());
+            if (runningTask instanceof AsyncSearchTask && ((AsyncSearchTask) runningTask).getDocId().equals(searchId.getDocId())) {
+                final AsyncSearchTask searchTask = (AsyncSearchTask) runningTask;
+                searchTask.markDeleted();
+                taskManager.cancelTaskAndDescendants(searchTask, "async search deleted", false, ActionListener.wrap(() -> {}));
+                // the result might be in the process of being stored, so it is deleted once the task completed
+                searchTask.addCompletionListener(ActionListener.wrap(() -> deleteResult(searchId, request, true, listener)),
+                    null, threadPool);
+            } else {
+                deleteResult(searchId, request, false, listener);
+            }
+        } else if (nodes.nodeExists(nodeId)) {
+            transportService.sendRequest(nodes.get(nodeId), DeleteAsyncSearchAction.NAME, request,
+                new ActionListenerResponseHandler<>(listener, AcknowledgedResponse::new));
+        } else {
+            deleteResult(searchId, request, false, listener);
+        }
+    }
+
+    private void deleteResult(AsyncSearchId searchId, DeleteAsyncSearchRequest request, boolean wasRunning,
+                              ActionListener<AcknowledgedResponse> listener) {
+        indexService.delete(searchId.getDocId(), ActionListener.wrap(deleted -> {
+            if (deleted || wasRunning) {
+                listener.onResponse(new AcknowledgedResponse(true));
+            } else {
+                listener.onFailure(new ResourceNotFoundException("async search [{}] not found", request.getId()));
+            }
+        }, listener::onFailure));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Retrieves the state of an async search: from the {@link AsyncSearchTask} if the search is still running on
+ * the node that started it, or from the {@link AsyncSearchIndexService} otherwise.
+ */
+public class TransportGetAsyncSearchAction extends HandledTransportAction<GetAsyncSearchRequest, AsyncSearchResponse> {
+    private final TransportService transportService;
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final AsyncSearchIndexService indexService;
+
+    @Inject
+    public TransportGetAsyncSearchAction(TransportService transportService, ActionFilters actionFilters, ClusterService clusterService,
+                                         ThreadPool threadPool, AsyncSearchIndexService indexService) {
+        super(GetAsyncSearchAction.NAME, transportService, actionFilters, GetAsyncSearchRequest::new);
+        this.transportService = transportService;
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.indexService = indexService;
+    }
+
+    @Override
+    protected void doExecute(Task task, GetAsyncSearchRequest request, ActionListener<AsyncSearchResponse> listener) {
+        final AsyncSearchId searchId = AsyncSearchId.decode(request.getId());
+        final DiscoveryNodes nodes = clusterService.state().nodes();
+        final String nodeId = searchId.getTaskId().getNodeId();
+        if (nodeId.equals(nodes.getLocalNodeId())) {
+            final Task runningTask = taskManager.getTask(searchId.getTaskId().getId());
+            if (runningTask instanceof AsyncSearchTask && ((AsyncSearchTask) runningTask).getDocId().equals(searchId.getDocId())) {
+                final AsyncSearchTask searchTask = (AsyncSearchTask) runningTask;
+                searchTask.addCompletionListener(ActionListener.wrap(() -> listener.onResponse(searchTask.buildResponse(request.getId()))),
+                    request.getWaitForCompletionTimeout(), threadPool);
+            } else {
+                indexService.get(searchId.getDocId(), request.getId(), listener);
+            }
+        } else if (nodes.nodeExists(nodeId)) {
+            transportService.sendRequest(nodes.get(nodeId), GetAsyncSearchAction.NAME, request,
+                new ActionListenerResponseHandler<>(listener, AsyncSearchResponse::new));
+        } else {
+            indexService.get(searchId.getDocId(), request.getId(), listener);
+        }
+    }
+}
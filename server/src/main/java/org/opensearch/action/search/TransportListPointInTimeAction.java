@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.BaseNodeRequest;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.SearchService;
+import org.opensearch.search.internal.ReaderContext;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class TransportListPointInTimeAction extends TransportNodesAction<ListPointInTimeRequest, ListPointInTimeResponse,
+    TransportListPointInTimeAction.NodeListPointInTimeRequest, NodePointInTimes> {
+
+    private final SearchService searchService;
+
+    @Inject
+    public TransportListPointInTimeAction(ThreadPool threadPool, ClusterService clusterService, TransportService transportService,
+                                          ActionFilters actionFilters, SearchService searchService) {
+        super(ListPointInTimeAction.NAME, threadPool, clusterService, transportService, actionFilters,
+            ListPointInTimeRequest::new, NodeListPointInTimeRequest::new, ThreadPool.Names.MANAGEMENT, NodePointInTimes.class);
+        this.searchService = searchService;
+    }
+
+    @Override
+    protected ListPointInTimeResponse newResponse(ListPointInTimeRequest request, List<NodePointInTimes> responses,
+                                                  List<FailedNodeException> failures) {
+        return new ListPointInTimeResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected NodeListPointInTimeRequest newNodeRequest(ListPointInTimeRequest request) {
+        return new NodeListPointInTimeRequest(request);
+    }
+
+    @Override
+    protected NodePointInTimes newNodeResponse(StreamInput in) throws IOException {
+        return new NodePointInTimes(in);
+    }
+
+    @Override
+    protected NodePointInTimes nodeOperation(NodeListPointInTimeRequest request) {
+        final long now = System.nanoTime();
+        final List<PointInTimeInfo> pointInTimes = new ArrayList<>();
+        for (ReaderContext context : searchService.getPointInTimeReaderContexts()) {
+            pointInTimes.add(new PointInTimeInfo(context.indexShard().shardId(), context.id(),
+                TimeValue.timeValueMillis(context.getKeepAlive()),
+                new TimeValue(now - context.getStartTimeInNano(), TimeUnit.NANOSECONDS)));
+        }
+        return new NodePointInTimes(clusterService.localNode(), pointInTimes);
+    }
+
+    public static class NodeListPointInTimeRequest extends BaseNodeRequest {
+
+        ListPointInTimeRequest request;
+
+        public NodeListPointInTimeRequest(StreamInput in) throws IOException {
+            super(in);
+            request = new ListPointInTimeRequest(in);
+        }
+
+        NodeListPointInTimeRequest(ListPointInTimeRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            super.writeTo(out);
+            request.writeTo(out);
+        }
+    }
+}
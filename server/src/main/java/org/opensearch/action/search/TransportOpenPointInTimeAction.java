@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Opens a point in time by creating a reader context with the requested keep alive on one copy of each target shard.
+ * The returned id encodes the node and context of every shard and can be passed to
+ * {@link org.opensearch.search.builder.PointInTimeBuilder} by subsequent searches.
+ */
+public class TransportOpenPointInTimeAction extends HandledTransportAction<OpenPointInTimeRequest, OpenPointInTimeResponse> {
+
+    private final TransportSearchAction transportSearchAction;
+    private final SearchTransportService searchTransportService;
+
+    @Inject
+    public TransportOpenPointInTimeAction(TransportService transportService, ActionFilters actionFilters,
+                                          TransportSearchAction transportSearchAction, SearchTransportService searchTransportService) {
+        super(OpenPointInTimeAction.NAME, transportService, actionFilters, OpenPointInTimeRequest::new);
+        this.transportSearchAction = transportSearchAction;
+        this.searchTransportService = searchTransportService;
+    }
+
+    @Override
+    protected void doExecute(Task task, OpenPointInTimeRequest request, ActionListener<OpenPointInTimeResponse> listener) {
+        final SearchRequest searchRequest = new SearchRequest()
+            .indices(request.indices())
+            .indicesOptions(request.indicesOptions())
+            .preference(request.preference())
+            .routing(request.routing())
+            .allowPartialSearchResults(false);
+        searchRequest.setCcsMinimizeRoundtrips(false);
+        transportSearchAction.executeRequest(task, searchRequest, "open_search_context", true,
+            (searchTask, shardTarget, connection, phaseListener) -> searchTransportService.sendOpenReaderContext(connection,
+                shardTarget, request.keepAlive(), searchTask, phaseListener),
+            ActionListener.map(listener, r -> new OpenPointInTimeResponse(r.pointInTimeId())));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.search.SearchService;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.util.Map;
+
+/**
+ * Starts an async search: the search runs in its own {@link AsyncSearchTask} that outlives the submit request,
+ * and its result is persisted by the {@link AsyncSearchIndexService} once it completes if its id was returned.
+ */
+public class TransportSubmitAsyncSearchAction extends HandledTransportAction<SubmitAsyncSearchRequest, AsyncSearchResponse> {
+    private static final Logger logger = LogManager.getLogger(TransportSubmitAsyncSearchAction.class);
+
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final TransportSearchAction searchAction;
+    private final SearchService searchService;
+    private final AsyncSearchIndexService indexService;
+
+    @Inject
+    public TransportSubmitAsyncSearchAction(TransportService transportService, ActionFilters actionFilters,
+                                            ClusterService clusterService, ThreadPool threadPool,
+                                            TransportSearchAction searchAction, SearchService searchService,
+                                            AsyncSearchIndexService indexService) {
+        super(SubmitAsyncSearchAction.NAME, transportService, actionFilters, SubmitAsyncSearchRequest::new);
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.searchAction = searchAction;
+        this.searchService = searchService;
+        this.indexService = indexService;
+    }
+
+    @Override
+    protected void doExecute(Task task, SubmitAsyncSearchRequest request, ActionListener<AsyncSearchResponse> listener) {
+        final SearchRequest searchRequest = request.getSearchRequest();
+        final String docId = UUIDs.base64UUID();
+        final long startTime = threadPool.absoluteTimeInMillis();
+        final long expirationTime = startTime + request.getKeepAlive().millis();
+        // the search task is not a child of the submit task since it must keep running once the submit request returned
+        final AsyncSearchTask searchTask = (AsyncSearchTask) taskManager.register("transport", SearchAction.NAME, new TaskAwareRequest() {
+            @Override
+            public void setParentTask(TaskId taskId) {
+                // async search tasks have no parent
+            }
+
+            @Override
+            public TaskId getParentTask() {
+                return TaskId.EMPTY_TASK_ID;
+            }
+
+            @Override
+            public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+                return new AsyncSearchTask(id, type, action, searchRequest::buildDescription, parentTaskId, headers, docId,
+                    request.isKeepOnCompletion(), startTime, expirationTime, threadPool::relativeTimeInMillis,
+                    () -> searchService.aggReduceContextBuilder(searchRequest));
+            }
+
+            @Override
+            public String getDescription() {
+                return searchRequest.buildDescription();
+            }
+        });
+        final String id = searchTask.getAsyncSearchId(clusterService.localNode().getId());
+        final Scheduler.ScheduledCancellable expiration = threadPool.schedule(
+            () -> taskManager.cancelTaskAndDescendants(searchTask, "async search expired", false, ActionListener.wrap(() -> {})),
+            request.getKeepAlive(), ThreadPool.Names.GENERIC);
+        searchAction.execute(searchTask, searchRequest, new ActionListener<SearchResponse>() {
+            @Override
+            public void onResponse(SearchResponse searchResponse) {
+                onSearchCompletion(searchTask, id, expiration, searchResponse, null);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                onSearchCompletion(searchTask, id, expiration, null, e);
+            }
+        });
+        searchTask.addCompletionListener(ActionListener.wrap(() -> listener.onResponse(searchTask.buildSubmitResponse(id))),
+            request.getWaitForCompletionTimeout(), threadPool);
+    }
+
+    private void onSearchCompletion(AsyncSearchTask searchTask, String id, Scheduler.ScheduledCancellable expiration,
+                                    @Nullable SearchResponse searchResponse, @Nullable Exception e) {
+        expiration.cancel();
+        if (searchTask.finish(searchResponse, e)) {
+            indexService.store(searchTask.getDocId(), searchTask.buildResponse(id), ActionListener.wrap(
+                r -> release(searchTask),
+                failure -> {
+                    logger.warn(() -> new ParameterizedMessage("failed to store the result of async search [{}]", id), failure);
+                    release(searchTask);
+                }));
+        } else {
+            release(searchTask);
+        }
+    }
+
+    private void release(AsyncSearchTask searchTask) {
+        try {
+            searchTask.notifyCompletion();
+        } finally {
+            taskManager.unregister(searchTask);
+        }
+    }
+}
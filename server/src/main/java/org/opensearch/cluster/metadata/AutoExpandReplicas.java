@@ -108,6 +108,10 @@ public final class AutoExpandReplicas {
         this.enabled = enabled;
     }
 
+    boolean isEnabled() {
+        return enabled;
+    }
+
     int getMinReplicas() {
         return minReplicas;
     }
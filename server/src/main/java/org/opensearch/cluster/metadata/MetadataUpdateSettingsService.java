@@ -152,6 +152,9 @@ public class MetadataUpdateSettingsService {
                     Index index = request.indices()[i];
                     actualIndices[i] = index.getName();
                     final IndexMetadata metadata = currentState.metadata().getIndexSafe(index);
+                    if (IndexSettings.isRemoteSnapshot(metadata.getSettings())) {
+                        validateRemoteSnapshotReplicaSettings(index, closedSettings);
+                    }
                     if (metadata.getState() == IndexMetadata.State.OPEN) {
                         openIndices.add(index);
                     } else {
@@ -310,6 +313,21 @@ public class MetadataUpdateSettingsService {
         return replicaIncrease * shardsInIndex;
     }
 
+    /**
+     * The snapshot is the only copy of the data of a remote snapshot index, so its shards can't have replicas.
+     */
+    private static void validateRemoteSnapshotReplicaSettings(Index index, Settings settings) {
+        if (IndexMetadata.INDEX_NUMBER_OF_REPLICAS_SETTING.exists(settings)
+            && IndexMetadata.INDEX_NUMBER_OF_REPLICAS_SETTING.get(settings) != 0) {
+            throw new IllegalArgumentException("cannot set [" + IndexMetadata.SETTING_NUMBER_OF_REPLICAS + "] of remote snapshot index "
+                + index + " to [" + IndexMetadata.INDEX_NUMBER_OF_REPLICAS_SETTING.get(settings) + "], it can't have replicas");
+        }
+        if (AutoExpandReplicas.SETTING.exists(settings) && AutoExpandReplicas.SETTING.get(settings).isEnabled()) {
+            throw new IllegalArgumentException("cannot enable [" + IndexMetadata.SETTING_AUTO_EXPAND_REPLICAS
+                + "] for remote snapshot index " + index + ", it can't have replicas");
+        }
+    }
+
     /**
      * Updates the cluster block only iff the setting exists in the given settings
      */
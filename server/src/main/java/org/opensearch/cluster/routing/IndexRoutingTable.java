@@ -50,6 +50,7 @@ import org.opensearch.common.collect.ImmutableOpenIntMap;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.index.Index;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.shard.ShardId;
 
 import java.io.IOException;
@@ -446,7 +447,11 @@ public class IndexRoutingTable extends AbstractDiffable<IndexRoutingTable> imple
             for (int shardNumber = 0; shardNumber < indexMetadata.getNumberOfShards(); shardNumber++) {
                 ShardId shardId = new ShardId(index, shardNumber);
                 final RecoverySource primaryRecoverySource;
-                if (indexMetadata.inSyncAllocationIds(shardNumber).isEmpty() == false) {
+                if (indexMetadata.inSyncAllocationIds(shardNumber).isEmpty() == false
+                    && IndexSettings.isRemoteSnapshot(indexMetadata.getSettings())) {
+                    // the previous copies of a remote snapshot index read their files from the snapshot, so recover from it again
+                    primaryRecoverySource = SnapshotRecoverySource.forRemoteSnapshot(indexMetadata);
+                } else if (indexMetadata.inSyncAllocationIds(shardNumber).isEmpty() == false) {
                     // we have previous valid copies for this shard. use them for recovery
                     primaryRecoverySource = ExistingStoreRecoverySource.INSTANCE;
                 } else if (indexMetadata.getResizeSourceIndex() != null) {
@@ -127,6 +127,29 @@ public class OperationRouting {
             preference, null, null);
     }
 
+    /**
+     * Returns an iterator on the primary of the shard that the document with the given id and routing belongs to, the iterator is
+     * empty if the primary is not active.
+     */
+    public ShardIterator getPrimaryShard(ClusterState clusterState, String index, String id, @Nullable String routing) {
+        return activePrimaryShardIt(shards(clusterState, index, id, routing));
+    }
+
+    /**
+     * Returns an iterator on the primary of the given shard, the iterator is empty if the primary is not active.
+     */
+    public ShardIterator getPrimaryShard(ClusterState clusterState, String index, int shardId) {
+        return activePrimaryShardIt(clusterState.getRoutingTable().shardRoutingTable(index, shardId));
+    }
+
+    private static ShardIterator activePrimaryShardIt(IndexShardRoutingTable indexShard) {
+        final ShardRouting primary = indexShard.primaryShard();
+        if (primary != null && primary.active()) {
+            return new PlainShardIterator(indexShard.shardId(), Collections.singletonList(primary));
+        }
+        return new PlainShardIterator(indexShard.shardId(), Collections.emptyList());
+    }
+
     public GroupShardsIterator<ShardIterator> searchShards(ClusterState clusterState,
                                                            String[] concreteIndices,
                                                            @Nullable Map<String, Set<String>> routing,
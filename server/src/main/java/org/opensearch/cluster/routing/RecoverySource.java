@@ -39,11 +39,14 @@ import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.ToXContentObject;
 import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.repositories.IndexId;
 import org.opensearch.snapshots.Snapshot;
+import org.opensearch.snapshots.SnapshotId;
 
 import java.io.IOException;
 import java.util.Objects;
@@ -243,6 +246,22 @@ public abstract class RecoverySource implements Writeable, ToXContentObject {
             this.index = Objects.requireNonNull(indexId);
         }
 
+        /**
+         * Creates the recovery source of a primary of a remote snapshot index that has no started copy left. Such a primary reads
+         * its files from the snapshot that the index was mounted from, so it recovers from that snapshot again instead of from the
+         * local store. The restore is not tracked by {@link RestoreInProgress}.
+         */
+        public static SnapshotRecoverySource forRemoteSnapshot(IndexMetadata indexMetadata) {
+            final Settings settings = indexMetadata.getSettings();
+            assert IndexSettings.isRemoteSnapshot(settings) : "not a remote snapshot index: " + indexMetadata.getIndex();
+            final SnapshotId snapshotId = new SnapshotId(IndexSettings.SEARCHABLE_SNAPSHOT_ID_NAME.get(settings),
+                IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID.get(settings));
+            final Snapshot snapshot = new Snapshot(IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY.get(settings), snapshotId);
+            final IndexId indexId = new IndexId(indexMetadata.getIndex().getName(),
+                IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_ID.get(settings));
+            return new SnapshotRecoverySource(NO_API_RESTORE_UUID, snapshot, indexMetadata.getCreationVersion(), indexId);
+        }
+
         SnapshotRecoverySource(StreamInput in) throws IOException {
             if (in.getVersion().onOrAfter(LegacyESVersion.V_6_6_0)) {
                 restoreUUID = in.readString();
@@ -47,6 +47,7 @@ import org.opensearch.common.Nullable;
 import org.opensearch.common.Randomness;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.index.Index;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.shard.ShardId;
 
 import java.util.ArrayDeque;
@@ -592,7 +593,7 @@ public class RoutingNodes implements Iterable<RoutingNode> {
             if (failedShard.relocatingNodeId() == null) {
                 if (failedShard.primary()) {
                     // promote active replica to primary if active replica exists (only the case for shadow replicas)
-                    unassignPrimaryAndPromoteActiveReplicaIfExists(failedShard, unassignedInfo, routingChangesObserver);
+                    unassignPrimaryAndPromoteActiveReplicaIfExists(failedShard, unassignedInfo, indexMetadata, routingChangesObserver);
                 } else {
                     // initializing shard that is not relocation target, just move to unassigned
                     moveToUnassigned(failedShard, unassignedInfo);
@@ -614,7 +615,7 @@ public class RoutingNodes implements Iterable<RoutingNode> {
             assert failedShard.active();
             if (failedShard.primary()) {
                 // promote active replica to primary if active replica exists
-                unassignPrimaryAndPromoteActiveReplicaIfExists(failedShard, unassignedInfo, routingChangesObserver);
+                unassignPrimaryAndPromoteActiveReplicaIfExists(failedShard, unassignedInfo, indexMetadata, routingChangesObserver);
             } else {
                 if (failedShard.relocating()) {
                     remove(failedShard);
@@ -629,11 +630,21 @@ public class RoutingNodes implements Iterable<RoutingNode> {
     }
 
     private void unassignPrimaryAndPromoteActiveReplicaIfExists(ShardRouting failedShard, UnassignedInfo unassignedInfo,
+                                                                IndexMetadata indexMetadata,
                                                                 RoutingChangesObserver routingChangesObserver) {
         assert failedShard.primary();
         ShardRouting activeReplica = activeReplicaWithHighestVersion(failedShard.shardId());
         if (activeReplica == null) {
-            moveToUnassigned(failedShard, unassignedInfo);
+            if (IndexSettings.isRemoteSnapshot(indexMetadata.getSettings())
+                && failedShard.recoverySource() instanceof RecoverySource.SnapshotRecoverySource == false) {
+                // the primary of a remote snapshot index has no files of its own, so it recovers from the snapshot wherever it
+                // is allocated next rather than waiting for the store of this copy to come back
+                remove(failedShard);
+                unassignedShards.add(failedShard.moveToUnassigned(unassignedInfo)
+                    .updateUnassigned(unassignedInfo, RecoverySource.SnapshotRecoverySource.forRemoteSnapshot(indexMetadata)));
+            } else {
+                moveToUnassigned(failedShard, unassignedInfo);
+            }
         } else {
             movePrimaryToUnassignedAndDemoteToReplica(failedShard, unassignedInfo);
             promoteReplicaToPrimary(activeReplica, routingChangesObserver);
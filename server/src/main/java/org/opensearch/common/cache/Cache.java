@@ -35,17 +35,14 @@ package org.opensearch.common.cache;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.util.concurrent.ReleasableLock;
 
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.LongAdder;
-import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -59,20 +56,16 @@ import java.util.function.ToLongBiFunction;
  * accept reduced write performance in exchange for easy-to-understand code. Cache statistics for hits, misses and
  * evictions are exposed.
  * <p>
- * The design of the cache is relatively simple. The cache is segmented into 256 segments which are backed by HashMaps.
- * Each segment is protected by a re-entrant read/write lock. The read/write locks permit multiple concurrent readers
- * without contention, and the segments gives us write throughput without impacting readers (so readers are blocked only
- * if they are reading a segment that a writer is writing to).
+ * The design of the cache is relatively simple. The cache is segmented into 256 segments which are backed by
+ * ConcurrentHashMaps. Writes to a segment are serialized by a re-entrant lock while reads don't take any lock, and the
+ * segments gives us write throughput without impacting readers.
  * <p>
  * The LRU functionality is backed by a single doubly-linked list chaining the entries in order of insertion. This
- * LRU list is protected by a lock that serializes all writes to it. There are opportunities for improvements
- * here if write throughput is a concern.
- * <ol>
- * <li>LRU list mutations could be inserted into a blocking queue that a single thread is reading from
- * and applying to the LRU list.</li>
- * <li>Promotions could be deferred for entries that were "recently" promoted.</li>
- * <li>Locks on the list could be taken per node being modified instead of globally.</li>
- * </ol>
+ * LRU list is protected by a lock that serializes all writes to it. With the default {@link EvictionPolicy#LRU} policy
+ * every read promotes its entry under this lock. With {@link EvictionPolicy#TINY_LFU} reads are recorded in a lossy
+ * {@link ReadBuffer} instead and replayed in batches by whichever thread gets the lock, and a {@link FrequencySketch}
+ * of recent accesses decides whether a new entry is admitted at the expense of the least recently used one, so that
+ * a burst of keys that are accessed only once cannot flush frequently accessed entries.
  * <p>
  * Evictions only occur after a mutation to the cache (meaning an entry promotion, a cache insertion, or a manual
  * invalidation) or an explicit call to {@link #refresh()}.
@@ -110,6 +103,25 @@ public class Cache<K, V> {
     private RemovalListener<K, V> removalListener = notification -> {
     };
 
+    /**
+     * How the cache orders its entries for eviction.
+     */
+    public enum EvictionPolicy {
+        /**
+         * Evicts the least recently used entry, every read promotes its entry immediately.
+         */
+        LRU,
+        /**
+         * Evicts the least recently used entry unless the new entry was accessed less frequently than it, in which case the
+         * new entry is evicted. Reads are buffered and promote their entries in batches.
+         */
+        TINY_LFU
+    }
+
+    // buffered reads and access frequencies, only set with the TINY_LFU eviction policy
+    private ReadBuffer<Entry<K, V>> readBuffer;
+    private FrequencySketch frequencySketch;
+
     // use CacheBuilder to construct
     Cache() {
     }
@@ -157,6 +169,22 @@ public class Cache<K, V> {
         this.removalListener = removalListener;
     }
 
+    void setEvictionPolicy(EvictionPolicy evictionPolicy) {
+        Objects.requireNonNull(evictionPolicy);
+        if (evictionPolicy == EvictionPolicy.TINY_LFU) {
+            this.readBuffer = new ReadBuffer<>();
+            this.frequencySketch = new FrequencySketch();
+        } else {
+            this.readBuffer = null;
+            this.frequencySketch = null;
+        }
+    }
+
+    // pkg-private for testing
+    EvictionPolicy getEvictionPolicy() {
+        return readBuffer == null ? EvictionPolicy.LRU : EvictionPolicy.TINY_LFU;
+    }
+
     /**
      * The relative time used to track time-based evictions.
      *
@@ -192,19 +220,18 @@ public class Cache<K, V> {
     /**
      * A cache segment.
      * <p>
-     * A CacheSegment is backed by a HashMap and is protected by a read/write lock.
+     * A CacheSegment is backed by a ConcurrentHashMap whose mutations are protected by a lock.
      *
      * @param <K> the type of the keys
      * @param <V> the type of the values
      */
     private static class CacheSegment<K, V> {
-        // read/write lock protecting mutations to the segment
-        ReadWriteLock segmentLock = new ReentrantReadWriteLock();
+        // lock protecting mutations to the segment, reads don't need it
+        final ReentrantLock segmentLock = new ReentrantLock();
 
-        ReleasableLock readLock = new ReleasableLock(segmentLock.readLock());
-        ReleasableLock writeLock = new ReleasableLock(segmentLock.writeLock());
+        final ReleasableLock writeLock = new ReleasableLock(segmentLock);
 
-        Map<K, CompletableFuture<Entry<K, V>>> map = new HashMap<>();
+        final Map<K, CompletableFuture<Entry<K, V>>> map = new ConcurrentHashMap<>();
 
         SegmentStats segmentStats = new SegmentStats();
 
@@ -219,10 +246,7 @@ public class Cache<K, V> {
          * @return the entry if there was one, otherwise null
          */
         Entry<K, V> get(K key, long now, Predicate<Entry<K, V>> isExpired, Consumer<Entry<K, V>> onExpiration) {
-            CompletableFuture<Entry<K, V>> future;
-            try (ReleasableLock ignored = readLock.acquire()) {
-                future = map.get(key);
-            }
+            CompletableFuture<Entry<K, V>> future = map.get(key);
             if (future != null) {
                 Entry<K, V> entry;
                 try {
@@ -379,11 +403,42 @@ public class Cache<K, V> {
         if (entry == null) {
             return null;
         } else {
-            promote(entry, now);
+            if (readBuffer == null) {
+                promote(entry, now);
+            } else if (readBuffer.offer(entry)) {
+                tryDrainReadBuffer(now);
+            }
             return entry.value;
         }
     }
 
+    /**
+     * Replays the buffered reads if no other thread holds the LRU lock.
+     */
+    private void tryDrainReadBuffer(long now) {
+        final ReleasableLock lock = lruLock.tryAcquire();
+        if (lock != null) {
+            try {
+                drainReadBuffer();
+                evict(now);
+            } finally {
+                lock.close();
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        assert lruLock.isHeldByCurrentThread();
+
+        readBuffer.drainTo(entry -> {
+            frequencySketch.increment(entry.key.hashCode());
+            // new entries are linked by the writer that created them
+            if (entry.state == State.EXISTING) {
+                relinkAtHead(entry);
+            }
+        });
+    }
+
     /**
      * If the specified key is not already associated with a value (or is mapped to null), attempts to compute its
      * value using the given mapping function and enters it into this map unless null. The load method for a given key
@@ -550,12 +605,14 @@ public class Cache<K, V> {
         boolean[] haveSegmentLock = new boolean[NUMBER_OF_SEGMENTS];
         try {
             for (int i = 0; i < NUMBER_OF_SEGMENTS; i++) {
-                segments[i].segmentLock.writeLock().lock();
+                segments[i].segmentLock.lock();
                 haveSegmentLock[i] = true;
             }
             try (ReleasableLock ignored = lruLock.acquire()) {
                 h = head;
-                Arrays.stream(segments).forEach(segment -> segment.map = new HashMap<>());
+                for (CacheSegment<K, V> segment : segments) {
+                    segment.map.clear();
+                }
                 Entry<K, V> current = head;
                 while (current != null) {
                     current.state = State.DELETED;
@@ -568,7 +625,7 @@ public class Cache<K, V> {
         } finally {
             for (int i = NUMBER_OF_SEGMENTS - 1; i >= 0; i--) {
                 if (haveSegmentLock[i]) {
-                    segments[i].segmentLock.writeLock().unlock();
+                    segments[i].segmentLock.unlock();
                 }
             }
         }
@@ -584,6 +641,9 @@ public class Cache<K, V> {
     public void refresh() {
         long now = now();
         try (ReleasableLock ignored = lruLock.acquire()) {
+            if (readBuffer != null) {
+                drainReadBuffer();
+            }
             evict(now);
         }
     }
@@ -742,6 +802,10 @@ public class Cache<K, V> {
     private boolean promote(Entry<K, V> entry, long now) {
         boolean promoted = true;
         try (ReleasableLock ignored = lruLock.acquire()) {
+            if (readBuffer != null) {
+                drainReadBuffer();
+            }
+            Entry<K, V> candidate = null;
             switch (entry.state) {
                 case DELETED:
                     promoted = false;
@@ -751,20 +815,43 @@ public class Cache<K, V> {
                     break;
                 case NEW:
                     linkAtHead(entry);
+                    if (frequencySketch != null) {
+                        frequencySketch.ensureCapacity(count);
+                        frequencySketch.increment(entry.key.hashCode());
+                        candidate = entry;
+                    }
                     break;
             }
             if (promoted) {
-                evict(now);
+                evict(candidate, now);
             }
         }
         return promoted;
     }
 
     private void evict(long now) {
+        evict(null, now);
+    }
+
+    /**
+     * Evicts entries until the cache is within its maximum weight and has no expired entries at the tail.
+     *
+     * @param candidate the entry that was just inserted and may be refused in favor of the least recently used entry if
+     *                  it was accessed less frequently, or null
+     * @param now       the current relative time
+     */
+    private void evict(Entry<K, V> candidate, long now) {
         assert lruLock.isHeldByCurrentThread();
 
         while (tail != null && shouldPrune(tail, now)) {
-            evictEntry(tail);
+            final Entry<K, V> victim = tail;
+            if (candidate != null && candidate != victim && candidate.state == State.EXISTING && isExpired(victim, now) == false
+                && frequencySketch.frequency(candidate.key.hashCode()) <= frequencySketch.frequency(victim.key.hashCode())) {
+                evictEntry(candidate);
+                candidate = null;
+            } else {
+                evictEntry(victim);
+            }
         }
     }
 
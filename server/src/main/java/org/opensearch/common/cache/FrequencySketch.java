@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.common.cache;
+
+/**
+ * A count-min sketch of 4-bit counters that estimates how often a key was accessed, used by {@link Cache} to decide
+ * whether a new entry is worth evicting an existing one for. Counters are halved once the number of increments reaches
+ * ten times the capacity so that the estimate favours recent accesses.
+ * <p>
+ * This class is not thread-safe, {@link Cache} only uses it under its LRU lock.
+ */
+final class FrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = new long[] { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MIN_TABLE_SIZE = 16;
+
+    // each long holds sixteen 4-bit counters
+    private long[] table;
+    private int tableMask;
+    private int sampleSize;
+    private int size;
+
+    FrequencySketch() {
+        resize(MIN_TABLE_SIZE);
+    }
+
+    /**
+     * Grows the sketch so it can track about <code>expectedEntries</code> keys. Growing resets all counters.
+     */
+    void ensureCapacity(int expectedEntries) {
+        if (expectedEntries > table.length && table.length < (1 << 30)) {
+            resize(Math.min(Integer.highestOneBit(expectedEntries - 1) << 1, 1 << 30));
+        }
+    }
+
+    private void resize(int tableSize) {
+        table = new long[tableSize];
+        tableMask = tableSize - 1;
+        sampleSize = 10 * tableSize;
+        size = 0;
+    }
+
+    /**
+     * Returns the estimated number of accesses of the key with the given hash code, at most 15.
+     */
+    int frequency(int hashCode) {
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < DEPTH; i++) {
+            final long hash = rehash(hashCode, i);
+            final int offset = ((int) hash & 0xF) << 2;
+            frequency = Math.min(frequency, (int) ((table[index(hash)] >>> offset) & 0xFL));
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access of the key with the given hash code.
+     */
+    void increment(int hashCode) {
+        boolean added = false;
+        for (int i = 0; i < DEPTH; i++) {
+            final long hash = rehash(hashCode, i);
+            final int index = index(hash);
+            final int offset = ((int) hash & 0xF) << 2;
+            if (((table[index] >>> offset) & 0xFL) != 0xFL) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = size >>> 1;
+    }
+
+    private int index(long hash) {
+        return (int) (hash >>> 32) & tableMask;
+    }
+
+    private static long rehash(int hashCode, int i) {
+        // murmur3 finalizer, seeded per row so that the rows are independent
+        long hash = (hashCode + SEEDS[i]) * 0x9E3779B97F4A7C15L;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.common.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A lossy buffer of reads that {@link Cache} replays against its LRU list and frequency sketch in batches, so that a
+ * read does not need to take the LRU lock. The buffer is striped by thread, each stripe is a bounded ring with many
+ * producers and a single consumer holding the LRU lock. Reads are dropped when their stripe is full or contended,
+ * which only makes the LRU order more approximate.
+ */
+final class ReadBuffer<E> {
+
+    static final int STRIPE_SIZE = 16;
+    private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+    private static final int MAX_STRIPES = 64;
+
+    private final Stripe<E>[] stripes;
+    private final int stripeMask;
+
+    @SuppressWarnings("unchecked")
+    ReadBuffer() {
+        final int processors = Math.min(4 * Runtime.getRuntime().availableProcessors(), MAX_STRIPES);
+        final int numStripes = Integer.highestOneBit(processors - 1) << 1;
+        stripes = new Stripe[Math.max(numStripes, 1)];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        stripeMask = stripes.length - 1;
+    }
+
+    /**
+     * Records a read, returns true if the buffer should be drained.
+     */
+    boolean offer(E e) {
+        return stripes[(int) Thread.currentThread().getId() & stripeMask].offer(e);
+    }
+
+    /**
+     * Replays the buffered reads, must only be called by one thread at a time.
+     */
+    void drainTo(Consumer<E> consumer) {
+        for (Stripe<E> stripe : stripes) {
+            stripe.drainTo(consumer);
+        }
+    }
+
+    private static final class Stripe<E> {
+        private final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>(STRIPE_SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+
+        boolean offer(E e) {
+            final long head = readCounter;
+            final long tail = writeCounter.get();
+            final long size = tail - head;
+            if (size >= STRIPE_SIZE) {
+                return true;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) tail & STRIPE_MASK, e);
+                return size + 1 >= STRIPE_SIZE / 2;
+            }
+            return false;
+        }
+
+        void drainTo(Consumer<E> consumer) {
+            long head = readCounter;
+            final long tail = writeCounter.get();
+            while (head < tail) {
+                final int index = (int) head & STRIPE_MASK;
+                final E e = buffer.get(index);
+                if (e == null) {
+                    // the producer claimed the slot but did not publish yet
+                    break;
+                }
+                buffer.lazySet(index, null);
+                consumer.accept(e);
+                head++;
+            }
+            readCounter = head;
+        }
+    }
+}
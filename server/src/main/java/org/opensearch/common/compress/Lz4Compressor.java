@@ -0,0 +1,333 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.compress;
+
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.store.ByteArrayDataOutput;
+import org.apache.lucene.util.compress.LZ4;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.Streams;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * {@link Compressor} implementation based on the LZ4 compression algorithm. It trades compression ratio for speed and is meant
+ * for transport messages rather than for data at rest.
+ * <p>
+ * After the header, the content is written as a sequence of independently compressed blocks of at most {@link #BLOCK_SIZE}
+ * bytes. Each block is prefixed with its decompressed and compressed lengths as two big-endian ints, and the stream is terminated
+ * by a block header whose lengths are both zero.
+ */
+public class Lz4Compressor implements Compressor {
+
+    // An arbitrary header that we use to identify compressed streams, see DeflateCompressor
+    private static final byte[] HEADER = new byte[]{'L', 'Z', '4', '\0'};
+    /** maximum number of decompressed bytes per block, LZ4 can't reference bytes further back than this anyway */
+    public static final int BLOCK_SIZE = 1 << 16;
+    /** size of the lengths that prefix every block */
+    public static final int BLOCK_HEADER_SIZE = 8;
+
+    @Override
+    public boolean isCompressed(BytesReference bytes) {
+        if (bytes.length() < HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < HEADER.length; ++i) {
+            if (bytes.get(i) != HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int headerLength() {
+        return HEADER.length;
+    }
+
+    /**
+     * Returns the maximum number of bytes that compressing <code>length</code> bytes can produce, excluding the block header.
+     */
+    public static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * Returns the decompressed length of the block whose header starts at <code>offset</code>.
+     */
+    public static int readDecompressedLength(byte[] blockHeader, int offset) {
+        return readInt(blockHeader, offset);
+    }
+
+    /**
+     * Returns the compressed length of the block whose header starts at <code>offset</code>.
+     */
+    public static int readCompressedLength(byte[] blockHeader, int offset) {
+        return readInt(blockHeader, offset + 4);
+    }
+
+    /**
+     * Validates the lengths read from a block header, a decompressed length of zero marks the end of the stream.
+     */
+    public static void validateBlockHeader(int decompressedLength, int compressedLength) throws IOException {
+        if (decompressedLength == 0 && compressedLength == 0) {
+            return;
+        }
+        if (decompressedLength <= 0 || decompressedLength > BLOCK_SIZE
+            || compressedLength <= 0 || compressedLength > maxCompressedLength(decompressedLength)) {
+            throw new IOException("invalid LZ4 block header, decompressed length [" + decompressedLength + "], compressed length ["
+                + compressedLength + "]");
+        }
+    }
+
+    /**
+     * Decompresses a single block into <code>dest</code>, which must have room for <code>decompressedLength</code> bytes.
+     */
+    public static void decompressBlock(byte[] compressed, int offset, int compressedLength, byte[] dest, int decompressedLength)
+        throws IOException {
+        final int end;
+        try {
+            end = LZ4.decompress(new ByteArrayDataInput(compressed, offset, compressedLength), decompressedLength, dest, 0);
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("corrupted LZ4 block", e);
+        }
+        if (end != decompressedLength) {
+            throw new IOException("corrupted LZ4 block, expected [" + decompressedLength + "] decompressed bytes but got [" + end + "]");
+        }
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xFF) << 24) | ((bytes[offset + 1] & 0xFF) << 16)
+            | ((bytes[offset + 2] & 0xFF) << 8) | (bytes[offset + 3] & 0xFF);
+    }
+
+    private static void writeInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    // Reusable per-thread buffers, allocating them for every message would cost more than compressing small messages
+    private static final ThreadLocal<Buffers> buffersRef = ThreadLocal.withInitial(Buffers::new);
+
+    private static final class Buffers {
+        final byte[] block = new byte[BLOCK_SIZE];
+        final byte[] compressed = new byte[BLOCK_HEADER_SIZE + maxCompressedLength(BLOCK_SIZE)];
+        final LZ4.FastCompressionHashTable hashTable = new LZ4.FastCompressionHashTable();
+        // true if these buffers are currently used by a stream and are not available for re-use
+        boolean inUse;
+    }
+
+    private static Buffers acquireBuffers() {
+        final Buffers current = buffersRef.get();
+        if (current.inUse) {
+            // Nested streams should not happen but we still handle them safely by using fresh buffers
+            return new Buffers();
+        }
+        current.inUse = true;
+        return current;
+    }
+
+    @Override
+    public InputStream threadLocalInputStream(InputStream in) throws IOException {
+        final byte[] headerBytes = new byte[HEADER.length];
+        final int len = Streams.readFully(in, headerBytes);
+        if (len != HEADER.length || Arrays.equals(headerBytes, HEADER) == false) {
+            throw new IllegalArgumentException("Input stream is not compressed with LZ4!");
+        }
+        return new Lz4InputStream(in, acquireBuffers());
+    }
+
+    @Override
+    public OutputStream threadLocalOutputStream(OutputStream out) throws IOException {
+        out.write(HEADER);
+        return new Lz4OutputStream(out, acquireBuffers());
+    }
+
+    @Override
+    public BytesReference uncompress(BytesReference bytesReference) throws IOException {
+        try (InputStream in = threadLocalInputStream(bytesReference.streamInput())) {
+            return Streams.readFully(in);
+        }
+    }
+
+    @Override
+    public BytesReference compress(BytesReference bytesReference) throws IOException {
+        final BytesStreamOutput buffer = new BytesStreamOutput(Math.min(bytesReference.length(), BLOCK_SIZE));
+        try (OutputStream out = threadLocalOutputStream(buffer)) {
+            bytesReference.writeTo(out);
+        }
+        return buffer.bytes();
+    }
+
+    private static final class Lz4OutputStream extends OutputStream {
+
+        private final OutputStream out;
+        private final Buffers buffers;
+        private int position;
+        private boolean closed;
+
+        Lz4OutputStream(OutputStream out, Buffers buffers) {
+            this.out = out;
+            this.buffers = buffers;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (position == BLOCK_SIZE) {
+                writeBlock();
+            }
+            buffers.block[position++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (position == BLOCK_SIZE) {
+                    writeBlock();
+                }
+                final int toCopy = Math.min(len, BLOCK_SIZE - position);
+                System.arraycopy(b, off, buffers.block, position, toCopy);
+                position += toCopy;
+                off += toCopy;
+                len -= toCopy;
+            }
+        }
+
+        private void writeBlock() throws IOException {
+            if (position == 0) {
+                return;
+            }
+            final byte[] compressed = buffers.compressed;
+            final ByteArrayDataOutput blockOut = new ByteArrayDataOutput(compressed, BLOCK_HEADER_SIZE,
+                compressed.length - BLOCK_HEADER_SIZE);
+            LZ4.compress(buffers.block, 0, position, blockOut, buffers.hashTable);
+            final int compressedLength = blockOut.getPosition() - BLOCK_HEADER_SIZE;
+            writeInt(compressed, 0, position);
+            writeInt(compressed, 4, compressedLength);
+            out.write(compressed, 0, BLOCK_HEADER_SIZE + compressedLength);
+            position = 0;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writeBlock();
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                writeBlock();
+                out.write(new byte[BLOCK_HEADER_SIZE]);
+                out.close();
+            } finally {
+                buffers.inUse = false;
+            }
+        }
+    }
+
+    private static final class Lz4InputStream extends InputStream {
+
+        private final InputStream in;
+        private final Buffers buffers;
+        private int position;
+        private int limit;
+        private boolean eos;
+        private boolean closed;
+
+        Lz4InputStream(InputStream in, Buffers buffers) {
+            this.in = in;
+            this.buffers = buffers;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (ensureAvailable() == false) {
+                return -1;
+            }
+            return buffers.block[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (ensureAvailable() == false) {
+                return -1;
+            }
+            final int toCopy = Math.min(len, limit - position);
+            System.arraycopy(buffers.block, position, b, off, toCopy);
+            position += toCopy;
+            return toCopy;
+        }
+
+        @Override
+        public int available() {
+            return limit - position;
+        }
+
+        private boolean ensureAvailable() throws IOException {
+            while (position == limit) {
+                if (eos) {
+                    return false;
+                }
+                readBlock();
+            }
+            return true;
+        }
+
+        private void readBlock() throws IOException {
+            final byte[] compressed = buffers.compressed;
+            readFully(compressed, BLOCK_HEADER_SIZE);
+            final int decompressedLength = readDecompressedLength(compressed, 0);
+            final int compressedLength = readCompressedLength(compressed, 0);
+            validateBlockHeader(decompressedLength, compressedLength);
+            position = 0;
+            if (decompressedLength == 0) {
+                eos = true;
+                limit = 0;
+            } else {
+                readFully(compressed, compressedLength);
+                decompressBlock(compressed, 0, compressedLength, buffers.block, decompressedLength);
+                limit = decompressedLength;
+            }
+        }
+
+        private void readFully(byte[] dest, int len) throws IOException {
+            if (Streams.readFully(in, dest, 0, len) != len) {
+                throw new EOFException("unexpected end of LZ4 stream");
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                in.close();
+            } finally {
+                buffers.inUse = false;
+            }
+        }
+    }
+}
@@ -33,6 +33,7 @@
 package org.opensearch.common.io.stream;
 
 import org.opensearch.Version;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 
 import java.io.EOFException;
 import java.io.IOException;
@@ -73,6 +74,11 @@ public abstract class FilterStreamInput extends StreamInput {
         return delegate.readLong();
     }
 
+    @Override
+    public ReleasableBytesReference readReleasableBytesReference() throws IOException {
+        return delegate.readReleasableBytesReference();
+    }
+
     @Override
     public void reset() throws IOException {
         delegate.reset();
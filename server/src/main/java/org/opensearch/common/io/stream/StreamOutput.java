@@ -211,6 +211,15 @@ public abstract class StreamOutput extends OutputStream {
         bytes.writeTo(this);
     }
 
+    /**
+     * Writes the bytes reference, including a length header, like {@link #writeBytesReference(BytesReference)}. Streams that
+     * are serialized before being sent may reference the given bytes instead of copying them, so callers must not modify or
+     * release them until the serialized bytes of this stream are no longer used.
+     */
+    public void writeZeroCopyBytesReference(BytesReference bytes) throws IOException {
+        writeBytesReference(bytes);
+    }
+
     /**
      * Writes an optional bytes reference including a length header. Use this if you need to differentiate between null and empty bytes
      * references. Use {@link #writeBytesReference(BytesReference)} and {@link StreamInput#readBytesReference()} if you do not.
@@ -35,6 +35,8 @@ import org.apache.logging.log4j.LogManager;
 import org.opensearch.watcher.ResourceWatcherService;
 import org.opensearch.action.admin.cluster.configuration.TransportAddVotingConfigExclusionsAction;
 import org.opensearch.action.admin.indices.close.TransportCloseIndexAction;
+import org.opensearch.action.bulk.TransportShardBulkAction;
+import org.opensearch.action.search.CanMatchFieldBoundsCache;
 import org.opensearch.action.search.TransportSearchAction;
 import org.opensearch.action.support.AutoCreateIndex;
 import org.opensearch.action.support.DestructiveOperations;
@@ -101,6 +103,9 @@ import org.opensearch.http.HttpTransportSettings;
 import org.opensearch.index.IndexModule;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.IndexingPressure;
+import org.opensearch.index.merge.AdaptiveMergeThrottle;
+import org.opensearch.index.store.remote.RemoteSnapshotBlockCache;
+import org.opensearch.index.translog.TranslogSyncCoordinator;
 import org.opensearch.indices.IndexingMemoryController;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.IndicesRequestCache;
@@ -129,6 +134,7 @@ import org.opensearch.script.ScriptService;
 import org.opensearch.search.SearchModule;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.aggregations.MultiBucketConsumerService;
+import org.opensearch.search.backpressure.SearchBackpressureService;
 import org.opensearch.search.fetch.subphase.highlight.FastVectorHighlighter;
 import org.opensearch.snapshots.InternalSnapshotsInfoService;
 import org.opensearch.snapshots.SnapshotsService;
@@ -238,8 +244,16 @@ public final class ClusterSettings extends AbstractScopedSettings {
             IndicesQueryCache.INDICES_CACHE_QUERY_SIZE_SETTING,
             IndicesQueryCache.INDICES_CACHE_QUERY_COUNT_SETTING,
             IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING,
+            IndicesQueryCache.INDICES_QUERIES_CACHE_MIN_BUILD_COST_SETTING,
             IndicesService.INDICES_ID_FIELD_DATA_ENABLED_SETTING,
             IndicesService.WRITE_DANGLING_INDICES_INFO_SETTING,
+            TranslogSyncCoordinator.GROUP_COMMIT_ENABLED_SETTING,
+            AdaptiveMergeThrottle.ENABLED_SETTING,
+            AdaptiveMergeThrottle.INTERVAL_SETTING,
+            AdaptiveMergeThrottle.DEVICE_LATENCY_THRESHOLD_SETTING,
+            AdaptiveMergeThrottle.DEVICE_QUEUE_THRESHOLD_SETTING,
+            AdaptiveMergeThrottle.SEARCH_QUEUE_THRESHOLD_SETTING,
+            AdaptiveMergeThrottle.MIN_FACTOR_SETTING,
             MappingUpdatedAction.INDICES_MAPPING_DYNAMIC_TIMEOUT_SETTING,
             MappingUpdatedAction.INDICES_MAX_IN_FLIGHT_UPDATES_SETTING,
             Metadata.SETTING_READ_ONLY_SETTING,
@@ -341,6 +355,8 @@ public final class ClusterSettings extends AbstractScopedSettings {
             SearchService.DEFAULT_ALLOW_PARTIAL_SEARCH_RESULTS,
             ElectMasterService.DISCOVERY_ZEN_MINIMUM_MASTER_NODES_SETTING,
             TransportSearchAction.SHARD_COUNT_LIMIT_SETTING,
+            CanMatchFieldBoundsCache.SIZE_SETTING,
+            CanMatchFieldBoundsCache.WRITABLE_TTL_SETTING,
             RemoteClusterService.REMOTE_CLUSTER_SKIP_UNAVAILABLE,
             RemoteClusterService.SEARCH_REMOTE_CLUSTER_SKIP_UNAVAILABLE,
             SniffConnectionStrategy.REMOTE_CONNECTIONS_PER_CLUSTER,
@@ -352,6 +368,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             RemoteClusterService.SEARCH_ENABLE_REMOTE_CLUSTERS,
             RemoteClusterService.REMOTE_CLUSTER_PING_SCHEDULE,
             RemoteClusterService.REMOTE_CLUSTER_COMPRESS,
+            RemoteClusterService.REMOTE_CLUSTER_COMPRESSION_SCHEME,
             RemoteConnectionStrategy.REMOTE_CONNECTION_MODE,
             ProxyConnectionStrategy.PROXY_ADDRESS,
             ProxyConnectionStrategy.REMOTE_SOCKET_CONNECTIONS,
@@ -370,6 +387,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             HierarchyCircuitBreakerService.REQUEST_CIRCUIT_BREAKER_TYPE_SETTING,
             TransportReplicationAction.REPLICATION_INITIAL_RETRY_BACKOFF_BOUND,
             TransportReplicationAction.REPLICATION_RETRY_TIMEOUT,
+            TransportShardBulkAction.PARALLEL_PARSING_ENABLED_SETTING,
             TransportSettings.HOST,
             TransportSettings.PUBLISH_HOST,
             TransportSettings.PUBLISH_HOST_PROFILE,
@@ -382,6 +400,7 @@ public final class ClusterSettings extends AbstractScopedSettings {
             TransportSettings.PUBLISH_PORT_PROFILE,
             TransportSettings.OLD_TRANSPORT_COMPRESS,
             TransportSettings.TRANSPORT_COMPRESS,
+            TransportSettings.TRANSPORT_COMPRESSION_SCHEME,
             TransportSettings.PING_SCHEDULE,
             TransportSettings.TCP_CONNECT_TIMEOUT,
             TransportSettings.CONNECT_TIMEOUT,
@@ -445,6 +464,11 @@ public final class ClusterSettings extends AbstractScopedSettings {
             IndicesFieldDataCache.INDICES_FIELDDATA_CACHE_SIZE_KEY,
             IndicesRequestCache.INDICES_CACHE_QUERY_SIZE,
             IndicesRequestCache.INDICES_CACHE_QUERY_EXPIRE,
+            IndicesRequestCache.INDICES_CACHE_EVICTION_POLICY,
+            IndicesRequestCache.INDICES_CACHE_DISK_SIZE,
+            RemoteSnapshotBlockCache.SIZE_SETTING,
+            RemoteSnapshotBlockCache.BLOCK_SIZE_SETTING,
+            RemoteSnapshotBlockCache.MAX_BLOCKS_SETTING,
             HunspellService.HUNSPELL_LAZY_LOAD,
             HunspellService.HUNSPELL_IGNORE_CASE,
             HunspellService.HUNSPELL_DICTIONARY_OPTIONS,
@@ -489,6 +513,13 @@ public final class ClusterSettings extends AbstractScopedSettings {
             MultiBucketConsumerService.MAX_BUCKET_SETTING,
             SearchService.LOW_LEVEL_CANCELLATION_SETTING,
             SearchService.MAX_OPEN_SCROLL_CONTEXT,
+            SearchService.CONCURRENT_SEGMENT_SEARCH_ENABLED,
+            SearchService.CONCURRENT_SEGMENT_SEARCH_MAX_SLICE_COUNT,
+            SearchBackpressureService.ENABLED_SETTING,
+            SearchBackpressureService.INTERVAL_SETTING,
+            SearchBackpressureService.HEAP_THRESHOLD_SETTING,
+            SearchBackpressureService.CPU_THRESHOLD_SETTING,
+            SearchBackpressureService.MAX_CANCELLATIONS_SETTING,
             Node.WRITE_PORTS_FILE_SETTING,
             Node.NODE_NAME_SETTING,
             Node.NODE_ATTRIBUTES,
@@ -126,6 +126,7 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
         IndexSortConfig.INDEX_SORT_MODE_SETTING,
         IndexSettings.INDEX_TRANSLOG_DURABILITY_SETTING,
         IndexSettings.INDEX_WARMER_ENABLED_SETTING,
+        IndexSettings.INDEX_ID_BLOOM_FILTER_ENABLED_SETTING,
         IndexSettings.INDEX_REFRESH_INTERVAL_SETTING,
         IndexSettings.MAX_RESULT_WINDOW_SETTING,
         IndexSettings.MAX_INNER_RESULT_WINDOW_SETTING,
@@ -149,6 +150,11 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
         ShardsLimitAllocationDecider.INDEX_TOTAL_SHARDS_PER_NODE_SETTING,
         IndexSettings.INDEX_GC_DELETES_SETTING,
         IndexSettings.INDEX_SOFT_DELETES_SETTING,
+        IndexSettings.INDEX_REPLICATION_TYPE_SETTING,
+        IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY,
+        IndexSettings.SEARCHABLE_SNAPSHOT_ID_NAME,
+        IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID,
+        IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_ID,
         IndexSettings.INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING,
         IndexSettings.INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING,
         IndicesRequestCache.INDEX_CACHE_REQUEST_ENABLED_SETTING,
@@ -180,6 +186,7 @@ public final class IndexScopedSettings extends AbstractScopedSettings {
         FsDirectoryFactory.INDEX_LOCK_FACTOR_SETTING,
         Store.FORCE_RAM_TERM_DICT,
         EngineConfig.INDEX_CODEC_SETTING,
+        EngineConfig.INDEX_CODEC_COMPRESSION_LEVEL_SETTING,
         EngineConfig.INDEX_OPTIMIZE_AUTO_GENERATED_IDS,
         IndexMetadata.SETTING_WAIT_FOR_ACTIVE_SHARDS,
         IndexSettings.DEFAULT_PIPELINE,
@@ -312,6 +312,14 @@ public abstract class AbstractHttpServerTransport extends AbstractLifecycleCompo
         logger.trace(() -> new ParameterizedMessage("Http channel accepted: {}", httpChannel));
     }
 
+    /**
+     * Returns true if the body of a request with the given method and uri should be handed over chunk by chunk as it is received
+     * instead of being aggregated first, see {@link HttpRequest#chunkedContent()}.
+     */
+    public boolean supportsChunkedContent(RestRequest.Method method, String uri) {
+        return dispatcher.supportsChunkedContent(method, uri);
+    }
+
     /**
      * This method handles an incoming http request.
      *
@@ -100,6 +100,11 @@ public class DefaultRestChannel extends AbstractRestChannel implements RestChann
     public void sendResponse(RestResponse restResponse) {
         // We're sending a response so we know we won't be needing the request content again and release it
         Releasables.closeWhileHandlingException(httpRequest::release);
+        // the response completes the request, so whatever part of a chunked body was not consumed won't ever be
+        final HttpChunkedContent chunkedContent = httpRequest.chunkedContent();
+        if (chunkedContent != null) {
+            chunkedContent.discard();
+        }
 
         final ArrayList<Releasable> toClose = new ArrayList<>(3);
         if (HttpUtils.shouldCloseConnection(httpRequest)) {
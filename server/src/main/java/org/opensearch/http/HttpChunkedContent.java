@@ -0,0 +1,55 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.http;
+
+import org.opensearch.common.bytes.BytesReference;
+
+/**
+ * The body of an http request that is handed over chunk by chunk as it is received from the network, so that it can be processed
+ * without ever holding the whole body in memory.
+ */
+public interface HttpChunkedContent {
+
+    /**
+     * Starts delivering the chunks of the body to the given listener. Chunks that were received before the listener was registered are
+     * delivered first. Chunks are delivered in order and never concurrently.
+     */
+    void start(Listener listener);
+
+    /**
+     * Stops reading from the network until {@link #resume()} is called. Chunks that were already read may still be delivered.
+     */
+    void pause();
+
+    /**
+     * Resumes reading from the network after {@link #pause()}.
+     */
+    void resume();
+
+    /**
+     * Drops the chunks that were not delivered yet as well as the rest of the body, and resumes reading so that the next request on the
+     * channel is read. This is called once the response to the request was sent, which also completes requests whose handler never
+     * started consuming the body, for instance because it was rejected. A listener that was registered is notified with a failure.
+     * Does nothing if the whole body was received already.
+     */
+    void discard();
+
+    interface Listener {
+
+        /**
+         * Called with the next chunk of the body, {@code last} is true for the final chunk which may be empty.
+         */
+        void onChunk(BytesReference chunk, boolean last);
+
+        /**
+         * Called if the body could not be read entirely, for instance because the channel was closed.
+         */
+        void onFailure(Exception e);
+    }
+}
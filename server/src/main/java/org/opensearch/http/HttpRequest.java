@@ -67,6 +67,15 @@ public interface HttpRequest {
 
     BytesReference content();
 
+    /**
+     * The body of this request if it is handed over chunk by chunk as it is received rather than as a whole through
+     * {@link #content()}, or {@code null} otherwise. See {@link HttpServerTransport.Dispatcher#supportsChunkedContent}.
+     */
+    @Nullable
+    default HttpChunkedContent chunkedContent() {
+        return null;
+    }
+
     /**
      * Get all of the headers and values associated with the headers. Modifications of this map are not supported.
      */
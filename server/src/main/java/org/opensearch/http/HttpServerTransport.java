@@ -75,5 +75,16 @@ public interface HttpServerTransport extends LifecycleComponent, ReportingServic
          */
         void dispatchBadRequest(RestChannel channel, ThreadContext threadContext, Throwable cause);
 
+        /**
+         * Returns true if the body of a request with the given method and uri should be handed to the handler chunk by chunk as it is
+         * received, see {@link HttpRequest#chunkedContent()}, rather than after the whole body was aggregated.
+         *
+         * @param method the method of the request
+         * @param uri    the uri of the request, including the query string
+         */
+        default boolean supportsChunkedContent(RestRequest.Method method, String uri) {
+            return false;
+        }
+
     }
 }
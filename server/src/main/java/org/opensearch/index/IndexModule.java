@@ -63,11 +63,13 @@ import org.opensearch.index.cache.query.QueryCache;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.EngineFactory;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.merge.AdaptiveMergeThrottle;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexingOperationListener;
 import org.opensearch.index.shard.SearchOperationListener;
 import org.opensearch.index.similarity.SimilarityService;
 import org.opensearch.index.store.FsDirectoryFactory;
+import org.opensearch.index.translog.TranslogSyncCoordinator;
 import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
@@ -148,6 +150,8 @@ public final class IndexModule {
     private final Map<String, TriFunction<Settings, Version, ScriptService, Similarity>> similarities = new HashMap<>();
     private final Map<String, IndexStorePlugin.DirectoryFactory> directoryFactories;
     private final SetOnce<BiFunction<IndexSettings, IndicesQueryCache, QueryCache>> forceQueryCacheProvider = new SetOnce<>();
+    private final SetOnce<TranslogSyncCoordinator> translogSyncCoordinator = new SetOnce<>();
+    private final SetOnce<AdaptiveMergeThrottle> adaptiveMergeThrottle = new SetOnce<>();
     private final List<SearchOperationListener> searchOperationListeners = new ArrayList<>();
     private final List<IndexingOperationListener> indexOperationListeners = new ArrayList<>();
     private final IndexNameExpressionResolver expressionResolver;
@@ -455,7 +459,7 @@ public final class IndexModule {
                 engineFactory, circuitBreakerService, bigArrays, threadPool, scriptService, clusterService, client, queryCache,
                 directoryFactory, eventListener, readerWrapperFactory, mapperRegistry, indicesFieldDataCache, searchOperationListeners,
                 indexOperationListeners, namedWriteableRegistry, idFieldDataEnabled, allowExpensiveQueries, expressionResolver,
-                valuesSourceRegistry, recoveryStateFactory);
+                valuesSourceRegistry, recoveryStateFactory, translogSyncCoordinator.get(), adaptiveMergeThrottle.get());
             success = true;
             return indexService;
         } finally {
@@ -534,6 +538,30 @@ public final class IndexModule {
         this.forceQueryCacheProvider.set(queryCacheProvider);
     }
 
+    /**
+     * Sets the node level {@link TranslogSyncCoordinator} that batches the translog syncs of the shards of this index with the
+     * ones of all the other shards of the node.
+     * NOTE: this can only be set once
+     *
+     * @see TranslogSyncCoordinator#GROUP_COMMIT_ENABLED_SETTING
+     */
+    public void setTranslogSyncCoordinator(TranslogSyncCoordinator translogSyncCoordinator) {
+        ensureNotFrozen();
+        this.translogSyncCoordinator.set(translogSyncCoordinator);
+    }
+
+    /**
+     * Sets the node level {@link AdaptiveMergeThrottle} that reduces the IO rate of the merges of this index when foreground work
+     * is slowed down.
+     * NOTE: this can only be set once
+     *
+     * @see AdaptiveMergeThrottle#ENABLED_SETTING
+     */
+    public void setAdaptiveMergeThrottle(AdaptiveMergeThrottle adaptiveMergeThrottle) {
+        ensureNotFrozen();
+        this.adaptiveMergeThrottle.set(adaptiveMergeThrottle);
+    }
+
     private void ensureNotFrozen() {
         if (this.frozen.get()) {
             throw new IllegalStateException("Can't modify IndexModule once the index service has been created");
@@ -45,7 +45,9 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeUnit;
 import org.opensearch.common.unit.ByteSizeValue;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.store.remote.RemoteSnapshotDirectoryFactory;
 import org.opensearch.index.translog.Translog;
+import org.opensearch.indices.replication.common.ReplicationType;
 import org.opensearch.ingest.IngestService;
 import org.opensearch.node.Node;
 
@@ -92,6 +94,12 @@ public final class IndexSettings {
             (value) -> Translog.Durability.valueOf(value.toUpperCase(Locale.ROOT)), Property.Dynamic, Property.IndexScope);
     public static final Setting<Boolean> INDEX_WARMER_ENABLED_SETTING =
         Setting.boolSetting("index.warmer.enabled", true, Property.Dynamic, Property.IndexScope);
+    /**
+     * Controls whether new segments write a bloom filter of the <code>_id</code> terms, which allows id lookups to skip
+     * the segments that cannot contain the id. Existing segments keep their format until they are merged.
+     */
+    public static final Setting<Boolean> INDEX_ID_BLOOM_FILTER_ENABLED_SETTING =
+        Setting.boolSetting("index.id_bloom_filter.enabled", false, Property.Dynamic, Property.IndexScope);
     public static final Setting<String> INDEX_CHECK_ON_STARTUP =
         new Setting<>("index.shard.check_on_startup", "false", (s) -> {
             switch (s) {
@@ -260,6 +268,27 @@ public final class IndexSettings {
         settings -> Boolean.toString(IndexMetadata.SETTING_INDEX_VERSION_CREATED.get(settings).onOrAfter(LegacyESVersion.V_7_0_0)),
         Property.IndexScope, Property.Final);
 
+    /**
+     * Controls how replicas are kept in sync with their primary: by re-indexing the operations of the primary, which is the default,
+     * or by copying the segments of the primary after every refresh.
+     */
+    public static final Setting<ReplicationType> INDEX_REPLICATION_TYPE_SETTING =
+        new Setting<>("index.replication.type", ReplicationType.DOCUMENT.name(), ReplicationType::parseString,
+            Property.IndexScope, Property.Final);
+
+    /**
+     * The repository, snapshot and snapshotted index that the shards of a remote snapshot index read their files from. These are
+     * set when the snapshot is restored with the <code>remote_snapshot</code> store type, see {@link #isRemoteSnapshot()}.
+     */
+    public static final Setting<String> SEARCHABLE_SNAPSHOT_REPOSITORY =
+        Setting.simpleString("index.searchable_snapshot.repository", Property.IndexScope, Property.PrivateIndex);
+    public static final Setting<String> SEARCHABLE_SNAPSHOT_ID_NAME =
+        Setting.simpleString("index.searchable_snapshot.snapshot_id.name", Property.IndexScope, Property.PrivateIndex);
+    public static final Setting<String> SEARCHABLE_SNAPSHOT_ID_UUID =
+        Setting.simpleString("index.searchable_snapshot.snapshot_id.uuid", Property.IndexScope, Property.PrivateIndex);
+    public static final Setting<String> SEARCHABLE_SNAPSHOT_INDEX_ID =
+        Setting.simpleString("index.searchable_snapshot.index.id", Property.IndexScope, Property.PrivateIndex);
+
     /**
      * Controls how many soft-deleted documents will be kept around before being merged away. Keeping more deleted
      * documents increases the chance of operation-based recoveries and allows querying a longer history of documents.
@@ -389,6 +418,8 @@ public final class IndexSettings {
     private final IndexScopedSettings scopedSettings;
     private long gcDeletesInMillis = DEFAULT_GC_DELETES.millis();
     private final boolean softDeleteEnabled;
+    private final ReplicationType replicationType;
+    private final boolean remoteSnapshot;
     private volatile long softDeleteRetentionOperations;
 
     private volatile long retentionLeaseMillis;
@@ -407,6 +438,7 @@ public final class IndexSettings {
     }
 
     private volatile boolean warmerEnabled;
+    private volatile boolean idBloomFilterEnabled;
     private volatile int maxResultWindow;
     private volatile int maxInnerResultWindow;
     private volatile int maxAdjacencyMatrixFilters;
@@ -525,9 +557,12 @@ public final class IndexSettings {
         mergeSchedulerConfig = new MergeSchedulerConfig(this);
         gcDeletesInMillis = scopedSettings.get(INDEX_GC_DELETES_SETTING).getMillis();
         softDeleteEnabled = version.onOrAfter(LegacyESVersion.V_6_5_0) && scopedSettings.get(INDEX_SOFT_DELETES_SETTING);
+        replicationType = scopedSettings.get(INDEX_REPLICATION_TYPE_SETTING);
+        remoteSnapshot = isRemoteSnapshot(settings);
         softDeleteRetentionOperations = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING);
         retentionLeaseMillis = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_LEASE_PERIOD_SETTING).millis();
         warmerEnabled = scopedSettings.get(INDEX_WARMER_ENABLED_SETTING);
+        idBloomFilterEnabled = scopedSettings.get(INDEX_ID_BLOOM_FILTER_ENABLED_SETTING);
         maxResultWindow = scopedSettings.get(MAX_RESULT_WINDOW_SETTING);
         maxInnerResultWindow = scopedSettings.get(MAX_INNER_RESULT_WINDOW_SETTING);
         maxAdjacencyMatrixFilters = scopedSettings.get(MAX_ADJACENCY_MATRIX_FILTERS_SETTING);
@@ -585,6 +620,7 @@ public final class IndexSettings {
         scopedSettings.addSettingsUpdateConsumer(MAX_NGRAM_DIFF_SETTING, this::setMaxNgramDiff);
         scopedSettings.addSettingsUpdateConsumer(MAX_SHINGLE_DIFF_SETTING, this::setMaxShingleDiff);
         scopedSettings.addSettingsUpdateConsumer(INDEX_WARMER_ENABLED_SETTING, this::setEnableWarmer);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_ID_BLOOM_FILTER_ENABLED_SETTING, this::setIdBloomFilterEnabled);
         scopedSettings.addSettingsUpdateConsumer(INDEX_GC_DELETES_SETTING, this::setGCDeletes);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_FLUSH_THRESHOLD_SIZE_SETTING, this::setTranslogFlushThresholdSize);
         scopedSettings.addSettingsUpdateConsumer(INDEX_FLUSH_AFTER_MERGE_THRESHOLD_SIZE_SETTING, this::setFlushAfterMergeThresholdSize);
@@ -793,6 +829,17 @@ public final class IndexSettings {
         this.warmerEnabled = enableWarmer;
     }
 
+    /**
+     * Returns true if new segments should write a bloom filter of the <code>_id</code> terms, otherwise <code>false</code>
+     */
+    public boolean isIdBloomFilterEnabled() {
+        return idBloomFilterEnabled;
+    }
+
+    private void setIdBloomFilterEnabled(boolean idBloomFilterEnabled) {
+        this.idBloomFilterEnabled = idBloomFilterEnabled;
+    }
+
     /**
      * Returns the translog sync interval. This is the interval in which the transaction log is asynchronously fsynced unless
      * the transaction log is fsyncing on every operations
@@ -1078,6 +1125,27 @@ public final class IndexSettings {
         return softDeleteEnabled;
     }
 
+    /**
+     * Returns <code>true</code> if replicas copy the segments of their primary instead of re-indexing its operations.
+     */
+    public boolean isSegRepEnabled() {
+        return replicationType == ReplicationType.SEGMENT;
+    }
+
+    /**
+     * Returns <code>true</code> if the shards of this index read their files on demand from a snapshot instead of from local disk.
+     */
+    public boolean isRemoteSnapshot() {
+        return remoteSnapshot;
+    }
+
+    /**
+     * Returns <code>true</code> if the given index settings use the <code>remote_snapshot</code> store type.
+     */
+    public static boolean isRemoteSnapshot(Settings indexSettings) {
+        return RemoteSnapshotDirectoryFactory.STORE_TYPE.equals(IndexModule.INDEX_STORE_TYPE_SETTING.get(indexSettings));
+    }
+
     private void setSoftDeleteRetentionOperations(long ops) {
         this.softDeleteRetentionOperations = ops;
     }
@@ -34,6 +34,7 @@ package org.opensearch.index;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
@@ -111,6 +112,15 @@ public class IndexingPressure {
         });
     }
 
+    /**
+     * Returns whether a coordinating operation of the given size would currently be accepted by
+     * {@link #markCoordinatingOperationStarted(long, boolean)}. Nothing is reserved, this allows callers that can delay an operation to
+     * hold back instead of having it rejected.
+     */
+    public boolean hasCoordinatingCapacity(long bytes) {
+        return currentCombinedCoordinatingAndPrimaryBytes.get() + currentReplicaBytes.get() + bytes <= primaryAndCoordinatingLimits;
+    }
+
     public Releasable markPrimaryOperationLocalToCoordinatingNodeStarted(long bytes) {
         currentPrimaryBytes.getAndAdd(bytes);
         totalPrimaryBytes.getAndAdd(bytes);
@@ -142,6 +152,27 @@ public class IndexingPressure {
         });
     }
 
+    /**
+     * Accounts for memory that a primary operation holds on to in addition to its request, for instance documents that are parsed
+     * ahead of being indexed. Unlike {@link #markPrimaryOperationStarted(long, boolean)} this never rejects the operation, if the
+     * memory is not available {@code null} is returned and nothing is accounted, so that the caller can do without it.
+     */
+    @Nullable
+    public Releasable tryMarkPrimaryOperationStarted(long bytes) {
+        long combinedBytes = this.currentCombinedCoordinatingAndPrimaryBytes.addAndGet(bytes);
+        if (combinedBytes + this.currentReplicaBytes.get() > primaryAndCoordinatingLimits) {
+            this.currentCombinedCoordinatingAndPrimaryBytes.getAndAdd(-bytes);
+            return null;
+        }
+        currentPrimaryBytes.getAndAdd(bytes);
+        totalCombinedCoordinatingAndPrimaryBytes.getAndAdd(bytes);
+        totalPrimaryBytes.getAndAdd(bytes);
+        return wrapReleasable(() -> {
+            this.currentCombinedCoordinatingAndPrimaryBytes.getAndAdd(-bytes);
+            this.currentPrimaryBytes.getAndAdd(-bytes);
+        });
+    }
+
     public Releasable markReplicaOperationStarted(long bytes, boolean forceExecution) {
         long replicaWriteBytes = this.currentReplicaBytes.addAndGet(bytes);
         if (forceExecution == false && replicaWriteBytes > replicaLimits) {
@@ -33,15 +33,22 @@
 package org.opensearch.index.cache.query;
 
 import org.apache.lucene.search.DocIdSet;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ToXContent;
 import org.opensearch.common.xcontent.ToXContentFragment;
+import org.opensearch.common.xcontent.ToXContentObject;
 import org.opensearch.common.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 
 public class QueryCacheStats implements Writeable, ToXContentFragment {
 
@@ -50,6 +57,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
     private long missCount;
     private long cacheCount;
     private long cacheSize;
+    private final Map<String, BuildCost> buildCosts = new TreeMap<>();
 
     public QueryCacheStats() {
     }
@@ -60,6 +68,9 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         missCount = in.readLong();
         cacheCount = in.readLong();
         cacheSize = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            buildCosts.putAll(in.readMap(StreamInput::readString, BuildCost::new));
+        }
     }
 
     public QueryCacheStats(long ramBytesUsed, long hitCount, long missCount, long cacheCount, long cacheSize) {
@@ -70,12 +81,21 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         this.cacheSize = cacheSize;
     }
 
+    public QueryCacheStats(long ramBytesUsed, long hitCount, long missCount, long cacheCount, long cacheSize,
+                           Map<String, BuildCost> buildCosts) {
+        this(ramBytesUsed, hitCount, missCount, cacheCount, cacheSize);
+        this.buildCosts.putAll(buildCosts);
+    }
+
     public void add(QueryCacheStats stats) {
         ramBytesUsed += stats.ramBytesUsed;
         hitCount += stats.hitCount;
         missCount += stats.missCount;
         cacheCount += stats.cacheCount;
         cacheSize += stats.cacheSize;
+        for (Map.Entry<String, BuildCost> entry : stats.buildCosts.entrySet()) {
+            buildCosts.merge(entry.getKey(), entry.getValue(), BuildCost::add);
+        }
     }
 
     public long getMemorySizeInBytes() {
@@ -128,6 +148,13 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         return cacheCount - cacheSize;
     }
 
+    /**
+     * The cost of building the cached {@link DocIdSet}s, per query type.
+     */
+    public Map<String, BuildCost> getBuildCosts() {
+        return Collections.unmodifiableMap(buildCosts);
+    }
+
     @Override
     public void writeTo(StreamOutput out) throws IOException {
         out.writeLong(ramBytesUsed);
@@ -135,6 +162,9 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         out.writeLong(missCount);
         out.writeLong(cacheCount);
         out.writeLong(cacheSize);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeMap(buildCosts, StreamOutput::writeString, (o, buildCost) -> buildCost.writeTo(o));
+        }
     }
 
     @Override
@@ -147,10 +177,81 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.CACHE_SIZE, getCacheSize());
         builder.field(Fields.CACHE_COUNT, getCacheCount());
         builder.field(Fields.EVICTIONS, getEvictions());
+        if (buildCosts.isEmpty() == false) {
+            builder.startObject(Fields.BUILD_COSTS);
+            for (Map.Entry<String, BuildCost> entry : buildCosts.entrySet()) {
+                builder.field(entry.getKey(), entry.getValue());
+            }
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
 
+    /**
+     * The number of {@link DocIdSet}s of a query type that were built to be cached, and the time it took.
+     */
+    public static class BuildCost implements Writeable, ToXContentObject {
+
+        private final long count;
+        private final long timeInNanos;
+        private final long docCount;
+
+        public BuildCost(long count, long timeInNanos, long docCount) {
+            this.count = count;
+            this.timeInNanos = timeInNanos;
+            this.docCount = docCount;
+        }
+
+        public BuildCost(StreamInput in) throws IOException {
+            count = in.readVLong();
+            timeInNanos = in.readVLong();
+            docCount = in.readVLong();
+        }
+
+        public BuildCost add(BuildCost other) {
+            return new BuildCost(count + other.count, timeInNanos + other.timeInNanos, docCount + other.docCount);
+        }
+
+        /**
+         * The number of {@link DocIdSet}s that were built.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * The total time spent building {@link DocIdSet}s.
+         */
+        public long getTimeInNanos() {
+            return timeInNanos;
+        }
+
+        /**
+         * The total number of documents of the segments the {@link DocIdSet}s were built for.
+         */
+        public long getDocCount() {
+            return docCount;
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(count);
+            out.writeVLong(timeInNanos);
+            out.writeVLong(docCount);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.startObject();
+            builder.field(Fields.COUNT, count);
+            builder.humanReadableField(Fields.TIME_IN_NANOS, Fields.TIME, new TimeValue(timeInNanos, TimeUnit.NANOSECONDS));
+            builder.field(Fields.DOC_COUNT, docCount);
+            builder.endObject();
+            return builder;
+        }
+    }
+
     static final class Fields {
         static final String QUERY_CACHE = "query_cache";
         static final String MEMORY_SIZE = "memory_size";
@@ -161,6 +262,11 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         static final String CACHE_SIZE = "cache_size";
         static final String CACHE_COUNT = "cache_count";
         static final String EVICTIONS = "evictions";
+        static final String BUILD_COSTS = "build_costs";
+        static final String COUNT = "count";
+        static final String TIME = "time";
+        static final String TIME_IN_NANOS = "time_in_nanos";
+        static final String DOC_COUNT = "doc_count";
     }
 
 }
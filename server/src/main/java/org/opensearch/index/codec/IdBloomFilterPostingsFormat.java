@@ -0,0 +1,323 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.codecs.FieldsConsumer;
+import org.apache.lucene.codecs.FieldsProducer;
+import org.apache.lucene.codecs.NormsProducer;
+import org.apache.lucene.codecs.PostingsFormat;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.Fields;
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.SegmentReadState;
+import org.apache.lucene.index.SegmentWriteState;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.store.ChecksumIndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.Accountables;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.IOUtils;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.hash.MurmurHash3;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link PostingsFormat} that wraps another postings format and adds a bloom filter of the terms of every field
+ * of a segment. Exact seeks for terms that the bloom filter rules out return immediately without seeking the terms
+ * dictionary of the segment. This is meant for the <code>_id</code> field, where every update or index request with
+ * an explicit id looks up the id in every segment of the shard while at most one of them contains it.
+ */
+public final class IdBloomFilterPostingsFormat extends PostingsFormat {
+
+    public static final String NAME = "IdBloomFilter";
+
+    static final String BLOOM_CODEC_NAME = "IdBloomFilter";
+    static final int VERSION_START = 0;
+    static final int VERSION_CURRENT = VERSION_START;
+    static final String BLOOM_EXTENSION = "idbf";
+
+    // 10 bits per term and 7 hash functions give a false positive probability below 1%
+    static final int BITS_PER_TERM = 10;
+    static final int NUM_HASH_FUNCTIONS = 7;
+
+    private final PostingsFormat delegate;
+
+    /**
+     * Used by the SPI to read segments, the wrapped postings format is read from the segment.
+     */
+    public IdBloomFilterPostingsFormat() {
+        this(PostingsFormat.forName("Lucene84"));
+    }
+
+    public IdBloomFilterPostingsFormat(PostingsFormat delegate) {
+        super(NAME);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public FieldsConsumer fieldsConsumer(SegmentWriteState state) throws IOException {
+        return new BloomFilteredFieldsConsumer(delegate.fieldsConsumer(state), state);
+    }
+
+    @Override
+    public FieldsProducer fieldsProducer(SegmentReadState state) throws IOException {
+        final String bloomFileName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, BLOOM_EXTENSION);
+        final Map<String, BloomFilter> filters = new HashMap<>();
+        final PostingsFormat delegateFormat;
+        try (ChecksumIndexInput in = state.directory.openChecksumInput(bloomFileName, state.context)) {
+            Throwable priorE = null;
+            String delegateName = null;
+            try {
+                CodecUtil.checkIndexHeader(in, BLOOM_CODEC_NAME, VERSION_START, VERSION_CURRENT, state.segmentInfo.getId(),
+                    state.segmentSuffix);
+                delegateName = in.readString();
+                final int numFields = in.readVInt();
+                for (int i = 0; i < numFields; i++) {
+                    final FieldInfo fieldInfo = state.fieldInfos.fieldInfo(in.readVInt());
+                    final int numHashFunctions = in.readVInt();
+                    final long[] bits = new long[in.readVInt()];
+                    for (int j = 0; j < bits.length; j++) {
+                        bits[j] = in.readLong();
+                    }
+                    filters.put(fieldInfo.name, new BloomFilter(bits, numHashFunctions));
+                }
+            } catch (Throwable t) {
+                priorE = t;
+            } finally {
+                CodecUtil.checkFooter(in, priorE);
+            }
+            delegateFormat = PostingsFormat.forName(delegateName);
+        }
+        return new BloomFilteredFieldsProducer(delegateFormat.fieldsProducer(state), filters);
+    }
+
+    @Override
+    public String toString() {
+        return NAME + "(" + delegate + ")";
+    }
+
+    private final class BloomFilteredFieldsConsumer extends FieldsConsumer {
+
+        private final FieldsConsumer delegateConsumer;
+        private final SegmentWriteState state;
+        private final List<FieldInfo> fields = new ArrayList<>();
+        private final List<BloomFilter> filters = new ArrayList<>();
+
+        BloomFilteredFieldsConsumer(FieldsConsumer delegateConsumer, SegmentWriteState state) {
+            this.delegateConsumer = delegateConsumer;
+            this.state = state;
+        }
+
+        @Override
+        public void write(Fields fields, NormsProducer norms) throws IOException {
+            delegateConsumer.write(fields, norms);
+            final MurmurHash3.Hash128 hash = new MurmurHash3.Hash128();
+            for (String field : fields) {
+                final Terms terms = fields.terms(field);
+                if (terms == null) {
+                    continue;
+                }
+                // the terms are iterated twice rather than buffered so that the filter can be sized without extra memory
+                long numTerms = 0;
+                TermsEnum termsEnum = terms.iterator();
+                while (termsEnum.next() != null) {
+                    numTerms++;
+                }
+                final BloomFilter filter = BloomFilter.create(numTerms);
+                termsEnum = terms.iterator();
+                for (BytesRef term = termsEnum.next(); term != null; term = termsEnum.next()) {
+                    filter.add(term, hash);
+                }
+                this.fields.add(state.fieldInfos.fieldInfo(field));
+                this.filters.add(filter);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            boolean success = false;
+            try {
+                delegateConsumer.close();
+                writeFilters();
+                success = true;
+            } finally {
+                if (success == false) {
+                    IOUtils.closeWhileHandlingException(delegateConsumer);
+                }
+            }
+        }
+
+        private void writeFilters() throws IOException {
+            final String bloomFileName = IndexFileNames.segmentFileName(state.segmentInfo.name, state.segmentSuffix, BLOOM_EXTENSION);
+            try (IndexOutput out = state.directory.createOutput(bloomFileName, state.context)) {
+                CodecUtil.writeIndexHeader(out, BLOOM_CODEC_NAME, VERSION_CURRENT, state.segmentInfo.getId(), state.segmentSuffix);
+                out.writeString(delegate.getName());
+                out.writeVInt(fields.size());
+                for (int i = 0; i < fields.size(); i++) {
+                    final BloomFilter filter = filters.get(i);
+                    out.writeVInt(fields.get(i).number);
+                    out.writeVInt(filter.numHashFunctions);
+                    out.writeVInt(filter.bits.length);
+                    for (long word : filter.bits) {
+                        out.writeLong(word);
+                    }
+                }
+                CodecUtil.writeFooter(out);
+            }
+        }
+    }
+
+    private static final class BloomFilteredFieldsProducer extends FieldsProducer {
+
+        private final FieldsProducer delegateProducer;
+        private final Map<String, BloomFilter> filters;
+
+        BloomFilteredFieldsProducer(FieldsProducer delegateProducer, Map<String, BloomFilter> filters) {
+            this.delegateProducer = delegateProducer;
+            this.filters = filters;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return delegateProducer.iterator();
+        }
+
+        @Override
+        public Terms terms(String field) throws IOException {
+            final Terms terms = delegateProducer.terms(field);
+            final BloomFilter filter = filters.get(field);
+            if (terms == null || filter == null) {
+                return terms;
+            }
+            return new FilterLeafReader.FilterTerms(terms) {
+                @Override
+                public TermsEnum iterator() throws IOException {
+                    return new BloomFilteredTermsEnum(in.iterator(), filter);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return delegateProducer.size();
+        }
+
+        @Override
+        public void checkIntegrity() throws IOException {
+            delegateProducer.checkIntegrity();
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            long ramBytesUsed = delegateProducer.ramBytesUsed();
+            for (BloomFilter filter : filters.values()) {
+                ramBytesUsed += filter.ramBytesUsed();
+            }
+            return ramBytesUsed;
+        }
+
+        @Override
+        public Collection<Accountable> getChildResources() {
+            final List<Accountable> resources = new ArrayList<>();
+            resources.add(Accountables.namedAccountable("delegate", delegateProducer));
+            for (Map.Entry<String, BloomFilter> entry : filters.entrySet()) {
+                resources.add(Accountables.namedAccountable("bloom filter [" + entry.getKey() + "]", entry.getValue()));
+            }
+            return Collections.unmodifiableList(resources);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegateProducer.close();
+        }
+
+        @Override
+        public String toString() {
+            return "BloomFilteredFieldsProducer(" + delegateProducer + ")";
+        }
+    }
+
+    private static final class BloomFilteredTermsEnum extends FilterLeafReader.FilterTermsEnum {
+
+        private final BloomFilter filter;
+        private final MurmurHash3.Hash128 hash = new MurmurHash3.Hash128();
+
+        BloomFilteredTermsEnum(TermsEnum in, BloomFilter filter) {
+            super(in);
+            this.filter = filter;
+        }
+
+        @Override
+        public boolean seekExact(BytesRef text) throws IOException {
+            if (filter.mightContain(text, hash) == false) {
+                return false;
+            }
+            return in.seekExact(text);
+        }
+    }
+
+    /**
+     * A bloom filter over the terms of a field that uses double hashing of a 128 bits murmur3 hash.
+     */
+    static final class BloomFilter implements Accountable {
+
+        private final long[] bits;
+        private final int numHashFunctions;
+        private final long numBits;
+
+        BloomFilter(long[] bits, int numHashFunctions) {
+            this.bits = bits;
+            this.numHashFunctions = numHashFunctions;
+            this.numBits = (long) bits.length * Long.SIZE;
+        }
+
+        static BloomFilter create(long numTerms) {
+            final long numBits = Math.max(Long.SIZE, numTerms * BITS_PER_TERM);
+            final long numWords = Math.min((numBits + Long.SIZE - 1) / Long.SIZE, ArrayUtil.MAX_ARRAY_LENGTH);
+            return new BloomFilter(new long[(int) numWords], NUM_HASH_FUNCTIONS);
+        }
+
+        void add(BytesRef term, MurmurHash3.Hash128 hash) {
+            MurmurHash3.hash128(term.bytes, term.offset, term.length, 0, hash);
+            for (int i = 0; i < numHashFunctions; i++) {
+                final long bit = ((hash.h1 + i * hash.h2) & Long.MAX_VALUE) % numBits;
+                bits[(int) (bit >>> 6)] |= 1L << bit;
+            }
+        }
+
+        boolean mightContain(BytesRef term, MurmurHash3.Hash128 hash) {
+            MurmurHash3.hash128(term.bytes, term.offset, term.length, 0, hash);
+            for (int i = 0; i < numHashFunctions; i++) {
+                final long bit = ((hash.h1 + i * hash.h2) & Long.MAX_VALUE) % numBits;
+                if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public long ramBytesUsed() {
+            return RamUsageEstimator.sizeOf(bits);
+        }
+    }
+}
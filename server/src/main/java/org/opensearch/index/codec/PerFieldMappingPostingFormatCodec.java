@@ -40,6 +40,7 @@ import org.apache.lucene.codecs.lucene80.Lucene80DocValuesFormat;
 import org.apache.lucene.codecs.lucene87.Lucene87Codec;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.index.mapper.CompletionFieldMapper;
+import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 
@@ -55,6 +56,7 @@ public class PerFieldMappingPostingFormatCodec extends Lucene87Codec {
     private final Logger logger;
     private final MapperService mapperService;
     private final DocValuesFormat dvFormat = new Lucene80DocValuesFormat(Lucene80DocValuesFormat.Mode.BEST_COMPRESSION);
+    private final PostingsFormat idBloomFilterPostingsFormat = new IdBloomFilterPostingsFormat();
 
     static {
         assert Codec.forName(Lucene.LATEST_CODEC).getClass().isAssignableFrom(PerFieldMappingPostingFormatCodec.class) :
@@ -69,6 +71,9 @@ public class PerFieldMappingPostingFormatCodec extends Lucene87Codec {
 
     @Override
     public PostingsFormat getPostingsFormatForField(String field) {
+        if (IdFieldMapper.NAME.equals(field) && mapperService.getIndexSettings().isIdBloomFilterEnabled()) {
+            return idBloomFilterPostingsFormat;
+        }
         final MappedFieldType fieldType = mapperService.fieldType(field);
         if (fieldType == null) {
             logger.warn("no index mapper found for field: [{}] returning default postings format", field);
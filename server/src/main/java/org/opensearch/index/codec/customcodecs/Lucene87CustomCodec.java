@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.codecs.FilterCodec;
+import org.apache.lucene.codecs.StoredFieldsFormat;
+import org.apache.lucene.codecs.lucene87.Lucene87Codec;
+import org.opensearch.index.codec.PerFieldMappingPostingFormatCodec;
+import org.opensearch.index.mapper.MapperService;
+
+/**
+ * Extends {@link FilterCodec} to reuse the functionality of the Lucene 8.7 codec while replacing its stored fields
+ * format with one that compresses stored fields with Zstandard.
+ */
+public abstract class Lucene87CustomCodec extends FilterCodec {
+
+    public static final int DEFAULT_COMPRESSION_LEVEL = 3;
+
+    /** Each mode represents a compression algorithm, the codec name is what is written to and resolved from segments */
+    public enum Mode {
+        ZSTD("ZSTD"),
+        ZSTD_NO_DICT("ZSTDNODICT");
+
+        private final String codec;
+
+        Mode(String codec) {
+            this.codec = codec;
+        }
+
+        /** Returns the name of the codec that writes segments with this mode */
+        public String getCodec() {
+            return codec;
+        }
+    }
+
+    private final StoredFieldsFormat storedFieldsFormat;
+
+    /**
+     * Creates a codec with the given mode and compression level. The compression level only applies to writes, segments are
+     * decompressed the same way whatever level they were written with.
+     */
+    protected Lucene87CustomCodec(Mode mode, int compressionLevel) {
+        super(mode.getCodec(), new Lucene87Codec());
+        this.storedFieldsFormat = new Lucene87CustomStoredFieldsFormat(mode, compressionLevel);
+    }
+
+    /**
+     * Creates a codec that also picks postings formats per field from the mappings, see {@link PerFieldMappingPostingFormatCodec}.
+     */
+    protected Lucene87CustomCodec(Mode mode, int compressionLevel, MapperService mapperService, Logger logger) {
+        super(mode.getCodec(), new PerFieldMappingPostingFormatCodec(Lucene87Codec.Mode.BEST_SPEED, mapperService, logger));
+        this.storedFieldsFormat = new Lucene87CustomStoredFieldsFormat(mode, compressionLevel);
+    }
+
+    @Override
+    public StoredFieldsFormat storedFieldsFormat() {
+        return storedFieldsFormat;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+}
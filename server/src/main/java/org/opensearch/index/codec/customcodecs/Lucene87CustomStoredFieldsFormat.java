@@ -0,0 +1,91 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.apache.lucene.codecs.StoredFieldsFormat;
+import org.apache.lucene.codecs.StoredFieldsReader;
+import org.apache.lucene.codecs.StoredFieldsWriter;
+import org.apache.lucene.codecs.compressing.CompressingStoredFieldsFormat;
+import org.apache.lucene.codecs.compressing.CompressionMode;
+import org.apache.lucene.index.FieldInfos;
+import org.apache.lucene.index.SegmentInfo;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Stored fields format that compresses chunks of documents with Zstandard. Like the Lucene 8.7 stored fields format, the
+ * mode is recorded in the segment info attributes so that segments can be read back without knowing how they were written.
+ */
+public class Lucene87CustomStoredFieldsFormat extends StoredFieldsFormat {
+
+    /** A key that we use to map to a mode */
+    public static final String MODE_KEY = Lucene87CustomStoredFieldsFormat.class.getSimpleName() + ".mode";
+
+    // same chunking as the best_compression mode of the Lucene 8.7 stored fields format
+    private static final int ZSTD_BLOCK_LENGTH = 10 * 48 * 1024;
+    private static final int ZSTD_MAX_DOCS_PER_BLOCK = 4096;
+    private static final int ZSTD_BLOCK_SHIFT = 10;
+
+    private final CompressionMode zstdCompressionMode;
+    private final CompressionMode zstdNoDictCompressionMode;
+    private final Lucene87CustomCodec.Mode mode;
+
+    /** default constructor */
+    public Lucene87CustomStoredFieldsFormat() {
+        this(Lucene87CustomCodec.Mode.ZSTD, Lucene87CustomCodec.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param mode The mode represents ZSTD or ZSTD_NO_DICT
+     * @param compressionLevel The compression level for the mode
+     */
+    public Lucene87CustomStoredFieldsFormat(Lucene87CustomCodec.Mode mode, int compressionLevel) {
+        this.mode = Objects.requireNonNull(mode);
+        this.zstdCompressionMode = new ZstdCompressionMode(compressionLevel);
+        this.zstdNoDictCompressionMode = new ZstdNoDictCompressionMode(compressionLevel);
+    }
+
+    @Override
+    public StoredFieldsReader fieldsReader(Directory directory, SegmentInfo si, FieldInfos fn, IOContext context) throws IOException {
+        final String value = si.getAttribute(MODE_KEY);
+        if (value == null) {
+            throw new IllegalStateException("missing value for " + MODE_KEY + " for segment: " + si.name);
+        }
+        final Lucene87CustomCodec.Mode mode = Lucene87CustomCodec.Mode.valueOf(value);
+        return impl(mode).fieldsReader(directory, si, fn, context);
+    }
+
+    @Override
+    public StoredFieldsWriter fieldsWriter(Directory directory, SegmentInfo si, IOContext context) throws IOException {
+        final String previous = si.putAttribute(MODE_KEY, mode.name());
+        if (previous != null && previous.equals(mode.name()) == false) {
+            throw new IllegalStateException("found existing value for " + MODE_KEY + " for segment: " + si.name
+                + " old=" + previous + ", new=" + mode.name());
+        }
+        return impl(mode).fieldsWriter(directory, si, context);
+    }
+
+    StoredFieldsFormat impl(Lucene87CustomCodec.Mode mode) {
+        switch (mode) {
+            case ZSTD:
+                return new CompressingStoredFieldsFormat("CustomStoredFieldsZstd", zstdCompressionMode,
+                    ZSTD_BLOCK_LENGTH, ZSTD_MAX_DOCS_PER_BLOCK, ZSTD_BLOCK_SHIFT);
+            case ZSTD_NO_DICT:
+                return new CompressingStoredFieldsFormat("CustomStoredFieldsZstdNoDict", zstdNoDictCompressionMode,
+                    ZSTD_BLOCK_LENGTH, ZSTD_MAX_DOCS_PER_BLOCK, ZSTD_BLOCK_SHIFT);
+            default:
+                throw new AssertionError("unknown mode [" + mode + "]");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.apache.logging.log4j.Logger;
+import org.opensearch.index.mapper.MapperService;
+
+/**
+ * Codec that compresses stored fields with Zstandard with a dictionary built from the beginning of each chunk.
+ */
+public class ZstdCodec extends Lucene87CustomCodec {
+
+    /** Creates a codec with the default compression level, used by Lucene to read segments */
+    public ZstdCodec() {
+        this(DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    public ZstdCodec(int compressionLevel) {
+        super(Mode.ZSTD, compressionLevel);
+    }
+
+    public ZstdCodec(MapperService mapperService, Logger logger, int compressionLevel) {
+        super(Mode.ZSTD, compressionLevel, mapperService, logger);
+    }
+}
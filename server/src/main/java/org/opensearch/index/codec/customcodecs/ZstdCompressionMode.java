@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDecompressCtx;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import org.apache.lucene.codecs.compressing.CompressionMode;
+import org.apache.lucene.codecs.compressing.Compressor;
+import org.apache.lucene.codecs.compressing.Decompressor;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.IOException;
+
+/**
+ * Zstandard compression mode that works like the preset dictionary DEFLATE mode of Lucene: the beginning of each chunk is
+ * compressed on its own and then used as a dictionary to compress the rest of the chunk in sub-blocks. This way reading a
+ * single document only needs to decompress the dictionary and the sub-blocks that contain it.
+ */
+public class ZstdCompressionMode extends CompressionMode {
+
+    private static final int NUM_SUB_BLOCKS = 10;
+    private static final int DICT_SIZE_FACTOR = 6;
+
+    static {
+        ZstdNative.load();
+    }
+
+    private final int compressionLevel;
+
+    /** Creates a new instance with the default compression level */
+    public ZstdCompressionMode() {
+        this(Lucene87CustomCodec.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param compressionLevel The compression level to use.
+     */
+    public ZstdCompressionMode(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public Compressor newCompressor() {
+        return new ZstdCompressor(compressionLevel);
+    }
+
+    @Override
+    public Decompressor newDecompressor() {
+        return new ZstdDecompressor();
+    }
+
+    @Override
+    public String toString() {
+        return "ZSTD(level=" + compressionLevel + ")";
+    }
+
+    private static final class ZstdCompressor extends Compressor {
+
+        private final int compressionLevel;
+        private byte[] compressedBuffer = BytesRef.EMPTY_BYTES;
+
+        ZstdCompressor(int compressionLevel) {
+            this.compressionLevel = compressionLevel;
+        }
+
+        private void compress(ZstdCompressCtx cctx, byte[] bytes, int offset, int length, DataOutput out) throws IOException {
+            if (length == 0) {
+                out.writeVInt(0);
+                return;
+            }
+            final int maxCompressedLength = Math.toIntExact(Zstd.compressBound(length));
+            compressedBuffer = ArrayUtil.grow(compressedBuffer, maxCompressedLength);
+            final int compressedLength = cctx.compressByteArray(compressedBuffer, 0, compressedBuffer.length, bytes, offset, length);
+            out.writeVInt(compressedLength);
+            out.writeBytes(compressedBuffer, compressedLength);
+        }
+
+        @Override
+        public void compress(byte[] bytes, int off, int len, DataOutput out) throws IOException {
+            final int dictLength = len / (NUM_SUB_BLOCKS * DICT_SIZE_FACTOR);
+            final int blockLength = (len - dictLength + NUM_SUB_BLOCKS - 1) / NUM_SUB_BLOCKS;
+            out.writeVInt(dictLength);
+            out.writeVInt(blockLength);
+
+            final int end = off + len;
+            try (ZstdCompressCtx cctx = new ZstdCompressCtx()) {
+                cctx.setLevel(compressionLevel);
+                // the dictionary is compressed on its own
+                compress(cctx, bytes, off, dictLength, out);
+                if (dictLength == 0) {
+                    compressBlocks(cctx, bytes, off, end, blockLength, out);
+                } else {
+                    try (ZstdDictCompress dict = new ZstdDictCompress(bytes, off, dictLength, compressionLevel)) {
+                        cctx.loadDict(dict);
+                        compressBlocks(cctx, bytes, off + dictLength, end, blockLength, out);
+                    }
+                }
+            }
+        }
+
+        private void compressBlocks(ZstdCompressCtx cctx, byte[] bytes, int start, int end, int blockLength, DataOutput out)
+            throws IOException {
+            for (int blockStart = start; blockStart < end; blockStart += blockLength) {
+                compress(cctx, bytes, blockStart, Math.min(blockLength, end - blockStart), out);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {}
+    }
+
+    private static final class ZstdDecompressor extends Decompressor {
+
+        private byte[] compressedBuffer = BytesRef.EMPTY_BYTES;
+
+        private void decompress(ZstdDecompressCtx dctx, DataInput in, int decompressedLength, BytesRef bytes) throws IOException {
+            final int compressedLength = in.readVInt();
+            if (compressedLength == 0) {
+                if (decompressedLength != 0) {
+                    throw new CorruptIndexException("expected [" + decompressedLength + "] decompressed bytes but got an empty block", in);
+                }
+                return;
+            }
+            compressedBuffer = ArrayUtil.grow(compressedBuffer, compressedLength);
+            in.readBytes(compressedBuffer, 0, compressedLength);
+            bytes.bytes = ArrayUtil.grow(bytes.bytes, bytes.length + decompressedLength);
+            final int decompressed = dctx.decompressByteArray(bytes.bytes, bytes.length, decompressedLength,
+                compressedBuffer, 0, compressedLength);
+            if (decompressed != decompressedLength) {
+                throw new CorruptIndexException("expected [" + decompressedLength + "] decompressed bytes but got [" + decompressed + "]",
+                    in);
+            }
+            bytes.length += decompressed;
+        }
+
+        @Override
+        public void decompress(DataInput in, int originalLength, int offset, int length, BytesRef bytes) throws IOException {
+            assert offset + length <= originalLength;
+            if (length == 0) {
+                bytes.length = 0;
+                return;
+            }
+            final int dictLength = in.readVInt();
+            final int blockLength = in.readVInt();
+            bytes.bytes = ArrayUtil.grow(bytes.bytes, dictLength);
+            bytes.offset = bytes.length = 0;
+
+            try (ZstdDecompressCtx dctx = new ZstdDecompressCtx()) {
+                // read the dictionary
+                decompress(dctx, in, dictLength, bytes);
+                if (dictLength == 0) {
+                    readBlocks(dctx, in, originalLength, offset, length, dictLength, blockLength, bytes);
+                } else {
+                    try (ZstdDictDecompress dict = new ZstdDictDecompress(bytes.bytes, 0, dictLength)) {
+                        dctx.loadDict(dict);
+                        readBlocks(dctx, in, originalLength, offset, length, dictLength, blockLength, bytes);
+                    }
+                }
+            }
+        }
+
+        private void readBlocks(ZstdDecompressCtx dctx, DataInput in, int originalLength, int offset, int length, int dictLength,
+                                int blockLength, BytesRef bytes) throws IOException {
+            int offsetInBlock = dictLength;
+            int offsetInBytesRef = offset;
+
+            // skip unneeded blocks
+            while (offsetInBlock + blockLength < offset) {
+                final int compressedLength = in.readVInt();
+                in.skipBytes(compressedLength);
+                offsetInBlock += blockLength;
+                offsetInBytesRef -= blockLength;
+            }
+
+            // read blocks that intersect with the interval we need
+            while (offsetInBlock < offset + length) {
+                decompress(dctx, in, Math.min(blockLength, originalLength - offsetInBlock), bytes);
+                offsetInBlock += blockLength;
+            }
+
+            bytes.offset = offsetInBytesRef;
+            bytes.length = length;
+            assert bytes.isValid();
+        }
+
+        @Override
+        public Decompressor clone() {
+            return new ZstdDecompressor();
+        }
+    }
+}
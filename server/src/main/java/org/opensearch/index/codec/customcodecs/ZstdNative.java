@@ -0,0 +1,111 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import com.github.luben.zstd.util.Native;
+import org.opensearch.SpecialPermission;
+import org.opensearch.common.io.PathUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Locale;
+
+/**
+ * Loads the native library behind the Zstandard compression modes. zstd-jni extracts and loads it the first time one of its
+ * classes is used, which would otherwise happen on an indexing or search thread whose call stack may not load native code.
+ * <p>
+ * zstd-jni would extract the library to a randomly named temporary file, which can't be granted a narrow <code>loadLibrary</code>
+ * permission. Instead the library is extracted to <code>${java.io.tmpdir}/libzstd-jni-&lt;version&gt;.&lt;extension&gt;</code>,
+ * the path that security.policy grants, and zstd-jni is told to load it from there.
+ */
+final class ZstdNative {
+
+    /**
+     * The name of the native library that zstd-jni bundles. It contains the zstd-jni version and must be kept in sync with
+     * buildSrc/version.properties and the <code>loadLibrary</code> permissions in security.policy.
+     */
+    static final String LIBRARY_NAME = "libzstd-jni-1.5.0-4";
+
+    // the system property that makes zstd-jni load its library from the given path rather than extracting it
+    private static final String NATIVE_PATH_PROPERTY = "ZstdNativePath";
+
+    private ZstdNative() {}
+
+    static synchronized void load() {
+        SpecialPermission.check();
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            if (Native.isLoaded() == false) {
+                final String path = System.getProperty("java.io.tmpdir") + File.separator + LIBRARY_NAME + "." + libraryExtension();
+                try {
+                    if (extract(PathUtils.get(path))) {
+                        System.setProperty(NATIVE_PATH_PROPERTY, path);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException("failed to extract the zstd native library to [" + path + "]", e);
+                }
+                Native.load();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Extracts the library that zstd-jni bundles for this platform to the given path unless it was extracted already. The library is
+     * written to a temporary file first and then moved into place, so that a library another process loaded is never overwritten.
+     *
+     * @return whether the library is bundled for this platform
+     */
+    private static boolean extract(Path target) throws IOException {
+        final String resource = "/" + osName() + "/" + System.getProperty("os.arch") + "/" + LIBRARY_NAME + "." + libraryExtension();
+        try (InputStream in = Native.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                return false;
+            }
+            if (Files.exists(target) == false) {
+                final Path tmp = Files.createTempFile(target.getParent(), LIBRARY_NAME, ".tmp");
+                try {
+                    Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            }
+            return true;
+        }
+    }
+
+    // the platform names and library extensions follow com.github.luben.zstd.util.Native
+
+    private static String osName() {
+        final String osName = System.getProperty("os.name").toLowerCase(Locale.ROOT).replace(' ', '_');
+        if (osName.startsWith("win")) {
+            return "win";
+        } else if (osName.startsWith("mac")) {
+            return "darwin";
+        }
+        return osName;
+    }
+
+    private static String libraryExtension() {
+        final String osName = osName();
+        if (osName.contains("os_x") || osName.contains("darwin")) {
+            return "dylib";
+        } else if (osName.contains("win")) {
+            return "dll";
+        }
+        return "so";
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.apache.logging.log4j.Logger;
+import org.opensearch.index.mapper.MapperService;
+
+/**
+ * Codec that compresses stored fields with Zstandard without a dictionary.
+ */
+public class ZstdNoDictCodec extends Lucene87CustomCodec {
+
+    /** Creates a codec with the default compression level, used by Lucene to read segments */
+    public ZstdNoDictCodec() {
+        this(DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    public ZstdNoDictCodec(int compressionLevel) {
+        super(Mode.ZSTD_NO_DICT, compressionLevel);
+    }
+
+    public ZstdNoDictCodec(MapperService mapperService, Logger logger, int compressionLevel) {
+        super(Mode.ZSTD_NO_DICT, compressionLevel, mapperService, logger);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import com.github.luben.zstd.Zstd;
+import org.apache.lucene.codecs.compressing.CompressionMode;
+import org.apache.lucene.codecs.compressing.Compressor;
+import org.apache.lucene.codecs.compressing.Decompressor;
+import org.apache.lucene.index.CorruptIndexException;
+import org.apache.lucene.store.DataInput;
+import org.apache.lucene.store.DataOutput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+
+import java.io.IOException;
+
+/**
+ * Zstandard compression mode without a dictionary. Each chunk is compressed in independent sub-blocks so that reading a
+ * single document only needs to decompress the sub-blocks that contain it.
+ */
+public class ZstdNoDictCompressionMode extends CompressionMode {
+
+    private static final int NUM_SUB_BLOCKS = 10;
+
+    static {
+        ZstdNative.load();
+    }
+
+    private final int compressionLevel;
+
+    /** Creates a new instance with the default compression level */
+    public ZstdNoDictCompressionMode() {
+        this(Lucene87CustomCodec.DEFAULT_COMPRESSION_LEVEL);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param compressionLevel The compression level to use.
+     */
+    public ZstdNoDictCompressionMode(int compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public Compressor newCompressor() {
+        return new ZstdCompressor(compressionLevel);
+    }
+
+    @Override
+    public Decompressor newDecompressor() {
+        return new ZstdDecompressor();
+    }
+
+    @Override
+    public String toString() {
+        return "ZSTD_NO_DICT(level=" + compressionLevel + ")";
+    }
+
+    private static final class ZstdCompressor extends Compressor {
+
+        private final int compressionLevel;
+        private byte[] compressedBuffer = BytesRef.EMPTY_BYTES;
+
+        ZstdCompressor(int compressionLevel) {
+            this.compressionLevel = compressionLevel;
+        }
+
+        @Override
+        public void compress(byte[] bytes, int off, int len, DataOutput out) throws IOException {
+            final int blockLength = (len + NUM_SUB_BLOCKS - 1) / NUM_SUB_BLOCKS;
+            out.writeVInt(blockLength);
+
+            final int end = off + len;
+            for (int start = off; start < end; start += blockLength) {
+                final int length = Math.min(blockLength, end - start);
+                final int maxCompressedLength = Math.toIntExact(Zstd.compressBound(length));
+                compressedBuffer = ArrayUtil.grow(compressedBuffer, maxCompressedLength);
+                final long compressedLength = Zstd.compressByteArray(compressedBuffer, 0, compressedBuffer.length,
+                    bytes, start, length, compressionLevel);
+                if (Zstd.isError(compressedLength)) {
+                    throw new IOException("failed to compress block: " + Zstd.getErrorName(compressedLength));
+                }
+                out.writeVInt(Math.toIntExact(compressedLength));
+                out.writeBytes(compressedBuffer, Math.toIntExact(compressedLength));
+            }
+        }
+
+        @Override
+        public void close() throws IOException {}
+    }
+
+    private static final class ZstdDecompressor extends Decompressor {
+
+        private byte[] compressedBuffer = BytesRef.EMPTY_BYTES;
+
+        @Override
+        public void decompress(DataInput in, int originalLength, int offset, int length, BytesRef bytes) throws IOException {
+            assert offset + length <= originalLength;
+            if (length == 0) {
+                bytes.length = 0;
+                return;
+            }
+            final int blockLength = in.readVInt();
+            bytes.offset = bytes.length = 0;
+            int offsetInBlock = 0;
+            int offsetInBytesRef = offset;
+
+            // skip unneeded blocks
+            while (offsetInBlock + blockLength < offset) {
+                final int compressedLength = in.readVInt();
+                in.skipBytes(compressedLength);
+                offsetInBlock += blockLength;
+                offsetInBytesRef -= blockLength;
+            }
+
+            // read blocks that intersect with the interval we need
+            while (offsetInBlock < offset + length) {
+                final int decompressedLength = Math.min(blockLength, originalLength - offsetInBlock);
+                final int compressedLength = in.readVInt();
+                compressedBuffer = ArrayUtil.grow(compressedBuffer, compressedLength);
+                in.readBytes(compressedBuffer, 0, compressedLength);
+                bytes.bytes = ArrayUtil.grow(bytes.bytes, bytes.length + decompressedLength);
+                final long decompressed = Zstd.decompressByteArray(bytes.bytes, bytes.length, decompressedLength,
+                    compressedBuffer, 0, compressedLength);
+                if (Zstd.isError(decompressed) || decompressed != decompressedLength) {
+                    throw new CorruptIndexException("failed to decompress block of [" + decompressedLength + "] bytes", in);
+                }
+                bytes.length += decompressedLength;
+                offsetInBlock += blockLength;
+            }
+
+            bytes.offset = offsetInBytesRef;
+            bytes.length = length;
+            assert bytes.isValid();
+        }
+
+        @Override
+        public Decompressor clone() {
+            return new ZstdDecompressor();
+        }
+    }
+}
@@ -35,6 +35,7 @@ package org.opensearch.index.engine;
 import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FilterDirectoryReader;
 import org.apache.lucene.index.IndexCommit;
 import org.apache.lucene.index.IndexFileNames;
 import org.apache.lucene.index.IndexReader;
@@ -42,6 +43,7 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SegmentCommitInfo;
 import org.apache.lucene.index.SegmentInfos;
 import org.apache.lucene.index.SegmentReader;
+import org.apache.lucene.index.StandardDirectoryReader;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.QueryCache;
@@ -1848,6 +1850,73 @@ public abstract class Engine implements Closeable {
         }
     }
 
+    /**
+     * A reference on the segment infos of a reader, which keeps the files of the segments from being deleted until it is closed.
+     */
+    public static class SegmentInfosRef implements Closeable {
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final CheckedRunnable<IOException> onClose;
+        private final SegmentInfos segmentInfos;
+        private final long checkpoint;
+
+        public SegmentInfosRef(SegmentInfos segmentInfos, long checkpoint, CheckedRunnable<IOException> onClose) {
+            this.segmentInfos = segmentInfos;
+            this.checkpoint = checkpoint;
+            this.onClose = onClose;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed.compareAndSet(false, true)) {
+                onClose.run();
+            }
+        }
+
+        public SegmentInfos getSegmentInfos() {
+            return segmentInfos;
+        }
+
+        /**
+         * Returns a sequence number such that all operations up to and including it are contained in the segments.
+         */
+        public long getCheckpoint() {
+            return checkpoint;
+        }
+    }
+
+    /**
+     * Acquires a copy of the segment infos of the last reader refreshed with the {@link SearcherScope#INTERNAL} scope. Segment
+     * replication copies the files of these segments from the primary to the replicas.
+     */
+    public SegmentInfosRef acquireLatestSegmentInfos() throws EngineException {
+        // the checkpoint is read before the reader is acquired so that the reader contains at least the operations up to it
+        final long checkpoint = getLastRefreshedCheckpoint();
+        final Searcher searcher = acquireSearcher("segment_infos", SearcherScope.INTERNAL);
+        boolean success = false;
+        try {
+            final DirectoryReader reader = FilterDirectoryReader.unwrap(searcher.getDirectoryReader());
+            if (reader instanceof StandardDirectoryReader == false) {
+                throw new IllegalStateException("can't read the segment infos of reader [" + reader + "]");
+            }
+            final SegmentInfos segmentInfos = ((StandardDirectoryReader) reader).getSegmentInfos().clone();
+            final SegmentInfosRef segmentInfosRef = new SegmentInfosRef(segmentInfos, checkpoint, searcher::close);
+            success = true;
+            return segmentInfosRef;
+        } finally {
+            if (success == false) {
+                searcher.close();
+            }
+        }
+    }
+
+    /**
+     * Returns a sequence number such that all operations up to and including it are visible to the readers of the
+     * {@link SearcherScope#INTERNAL} scope.
+     */
+    protected long getLastRefreshedCheckpoint() {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not track the checkpoint of its readers");
+    }
+
     public void onSettingsChanged(TimeValue translogRetentionAge, ByteSizeValue translogRetentionSize, long softDeletesRetentionOps) {
 
     }
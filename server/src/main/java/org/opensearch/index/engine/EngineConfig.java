@@ -47,7 +47,9 @@ import org.opensearch.common.unit.MemorySizeValue;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.codec.CodecService;
+import org.opensearch.index.codec.customcodecs.Lucene87CustomCodec;
 import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.merge.AdaptiveMergeThrottle;
 import org.opensearch.index.seqno.RetentionLeases;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.index.store.Store;
@@ -106,6 +108,8 @@ public final class EngineConfig {
 
     private final LongSupplier primaryTermSupplier;
     private final TombstoneDocSupplier tombstoneDocSupplier;
+    @Nullable
+    private final AdaptiveMergeThrottle adaptiveMergeThrottle;
 
     /**
      * Index setting to change the low level lucene codec used for writing new segments.
@@ -117,17 +121,26 @@ public final class EngineConfig {
         switch (s) {
             case "default":
             case "best_compression":
+            case "zstd":
+            case "zstd_no_dict":
             case "lucene_default":
                 return s;
             default:
                 if (Codec.availableCodecs().contains(s) == false) { // we don't error message the not officially supported ones
                     throw new IllegalArgumentException(
-                        "unknown value for [index.codec] must be one of [default, best_compression] but was: " + s);
+                        "unknown value for [index.codec] must be one of [default, best_compression, zstd, zstd_no_dict] but was: " + s);
                 }
                 return s;
         }
     }, Property.IndexScope, Property.NodeScope);
 
+    /**
+     * Configures the compression level of the zstd codecs. Higher levels compress better but index and merge more slowly,
+     * decompression speed is mostly unaffected.
+     */
+    public static final Setting<Integer> INDEX_CODEC_COMPRESSION_LEVEL_SETTING =
+        Setting.intSetting("index.codec.compression_level", Lucene87CustomCodec.DEFAULT_COMPRESSION_LEVEL, 1, 6, Property.IndexScope);
+
     /**
      * Configures an index to optimize documents with auto generated ids for append only. If this setting is updated from <code>false</code>
      * to <code>true</code> might not take effect immediately. In other words, disabling the optimization will be immediately applied while
@@ -155,6 +168,29 @@ public final class EngineConfig {
                         Supplier<RetentionLeases> retentionLeasesSupplier,
                         LongSupplier primaryTermSupplier,
                         TombstoneDocSupplier tombstoneDocSupplier) {
+        this(shardId, threadPool, indexSettings, warmer, store, mergePolicy, analyzer, similarity, codecService, eventListener,
+            queryCache, queryCachingPolicy, translogConfig, flushMergesAfter, externalRefreshListener, internalRefreshListener,
+            indexSort, circuitBreakerService, globalCheckpointSupplier, retentionLeasesSupplier, primaryTermSupplier,
+            tombstoneDocSupplier, null);
+    }
+
+    /**
+     * Creates a new {@link org.opensearch.index.engine.EngineConfig} whose merges are throttled by the given node level
+     * {@link AdaptiveMergeThrottle}
+     */
+    public EngineConfig(ShardId shardId, ThreadPool threadPool,
+                        IndexSettings indexSettings, Engine.Warmer warmer, Store store,
+                        MergePolicy mergePolicy, Analyzer analyzer,
+                        Similarity similarity, CodecService codecService, Engine.EventListener eventListener,
+                        QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
+                        TranslogConfig translogConfig, TimeValue flushMergesAfter,
+                        List<ReferenceManager.RefreshListener> externalRefreshListener,
+                        List<ReferenceManager.RefreshListener> internalRefreshListener, Sort indexSort,
+                        CircuitBreakerService circuitBreakerService, LongSupplier globalCheckpointSupplier,
+                        Supplier<RetentionLeases> retentionLeasesSupplier,
+                        LongSupplier primaryTermSupplier,
+                        TombstoneDocSupplier tombstoneDocSupplier,
+                        @Nullable AdaptiveMergeThrottle adaptiveMergeThrottle) {
         this.shardId = shardId;
         this.indexSettings = indexSettings;
         this.threadPool = threadPool;
@@ -192,6 +228,7 @@ public final class EngineConfig {
         this.retentionLeasesSupplier = Objects.requireNonNull(retentionLeasesSupplier);
         this.primaryTermSupplier = primaryTermSupplier;
         this.tombstoneDocSupplier = tombstoneDocSupplier;
+        this.adaptiveMergeThrottle = adaptiveMergeThrottle;
     }
 
     /**
@@ -401,4 +438,13 @@ public final class EngineConfig {
     public TombstoneDocSupplier getTombstoneDocSupplier() {
         return tombstoneDocSupplier;
     }
+
+    /**
+     * Returns the node level throttle that reduces the IO rate of merges when foreground work is slowed down, or <code>null</code>
+     * if merges are only throttled based on the merge backlog.
+     */
+    @Nullable
+    public AdaptiveMergeThrottle getAdaptiveMergeThrottle() {
+        return adaptiveMergeThrottle;
+    }
 }
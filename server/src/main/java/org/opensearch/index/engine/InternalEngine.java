@@ -95,6 +95,7 @@ import org.opensearch.index.mapper.ParsedDocument;
 import org.opensearch.index.mapper.SeqNoFieldMapper;
 import org.opensearch.index.mapper.SourceFieldMapper;
 import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.merge.AdaptiveMergeThrottle;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.merge.OnGoingMerge;
 import org.opensearch.index.seqno.LocalCheckpointTracker;
@@ -238,7 +239,8 @@ public class InternalEngine extends Engine {
         boolean success = false;
         try {
             this.lastDeleteVersionPruneTimeMSec = engineConfig.getThreadPool().relativeTimeInMillis();
-            mergeScheduler = scheduler = new EngineMergeScheduler(engineConfig.getShardId(), engineConfig.getIndexSettings());
+            mergeScheduler = scheduler = new EngineMergeScheduler(engineConfig.getShardId(), engineConfig.getIndexSettings(),
+                engineConfig.getAdaptiveMergeThrottle());
             throttle = new IndexThrottle();
             try {
                 trimUnsafeCommits(engineConfig);
@@ -2413,8 +2415,8 @@ public class InternalEngine extends Engine {
         private final AtomicInteger numMergesInFlight = new AtomicInteger(0);
         private final AtomicBoolean isThrottling = new AtomicBoolean();
 
-        EngineMergeScheduler(ShardId shardId, IndexSettings indexSettings) {
-            super(shardId, indexSettings);
+        EngineMergeScheduler(ShardId shardId, IndexSettings indexSettings, @Nullable AdaptiveMergeThrottle adaptiveMergeThrottle) {
+            super(shardId, indexSettings, adaptiveMergeThrottle);
         }
 
         @Override
@@ -2801,6 +2803,11 @@ public class InternalEngine extends Engine {
         return lastRefreshedCheckpointListener.refreshedCheckpoint.get();
     }
 
+    @Override
+    protected long getLastRefreshedCheckpoint() {
+        return lastRefreshedCheckpoint();
+    }
+
 
     private final Object refreshIfNeededMutex = new Object();
 
@@ -35,14 +35,13 @@ package org.opensearch.index.engine;
 import org.apache.lucene.search.ReferenceManager;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.BytesRef;
-import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.lease.Releasable;
-import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.KeyedLock;
 
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -53,13 +52,12 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
 
     private static final class VersionLookup {
 
-        /** Tracks bytes used by current map, i.e. what is freed on refresh. For deletes, which are also added to tombstones,
-         *  we only account for the CHM entry here, and account for BytesRef/VersionValue against the tombstones, since refresh would not
-         *  clear this RAM. */
-        final AtomicLong ramBytesUsed = new AtomicLong();
+        // backed by an immutable map, so that nothing can be accidentally added to the lookup that all maps share
+        private static final VersionLookup EMPTY = new VersionLookup(PackedVersionMap.EMPTY);
 
-        private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap());
-        private final Map<BytesRef, VersionValue> map;
+        /** Holds the versions of this lookup. Its RAM usage is what is freed on refresh. Deletes are removed from it and only
+         *  accounted against the tombstones, since refresh would not clear this RAM. */
+        private final PackedVersionMap map;
 
         // each version map has a notion of safe / unsafe which allows us to apply certain optimization in the auto-generated ID usecase
         // where we know that documents can't have any duplicates so we can skip the version map entirely. This reduces
@@ -77,7 +75,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         // the tombstone
         private final AtomicLong minDeleteTimestamp = new AtomicLong(Long.MAX_VALUE);
 
-        private VersionLookup(Map<BytesRef, VersionValue> map) {
+        private VersionLookup(PackedVersionMap map) {
             this.map = map;
         }
 
@@ -102,6 +100,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         }
 
         void markAsUnsafe() {
+            assert this != EMPTY : "the empty lookup can't be marked as unsafe";
             unsafe = true;
         }
 
@@ -109,7 +108,16 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             return map.remove(uid);
         }
 
+        long ramBytesUsed() {
+            return map.ramBytesUsed();
+        }
+
+        long ramBytesUsedByEntries() {
+            return map.ramBytesUsedByEntries();
+        }
+
         public void updateMinDeletedTimestamp(DeleteVersionValue delete) {
+            assert this != EMPTY : "deletes can't be recorded in the empty lookup";
             long time = delete.time;
             minDeleteTimestamp.updateAndGet(prev -> Math.min(time, prev));
         }
@@ -137,8 +145,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         }
 
         Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()),
-                VersionLookup.EMPTY, false);
+            this(new VersionLookup(new PackedVersionMap()), VersionLookup.EMPTY, false);
         }
 
         boolean isSafeAccessMode() {
@@ -156,8 +163,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          * Builds a new map for the refresh transition this should be called in beforeRefresh()
          */
         Maps buildTransitionMap() {
-            return new Maps(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())), current,
-                shouldInheritSafeAccess());
+            return new Maps(new VersionLookup(new PackedVersionMap(current.size())), current, shouldInheritSafeAccess());
         }
 
         /**
@@ -168,27 +174,12 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         }
 
         void put(BytesRef uid, VersionValue version) {
-            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed;
-            VersionValue previousValue = current.put(uid, version);
-            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
-            adjustRam(ramAccounting);
-        }
-
-        void adjustRam(long value) {
-            if (value != 0) {
-                long v = current.ramBytesUsed.addAndGet(value);
-                assert v >= 0 : "bytes=" + v;
-            }
+            current.put(uid, version);
         }
 
         void remove(BytesRef uid, DeleteVersionValue deleted) {
-            VersionValue previousValue = current.remove(uid);
+            current.remove(uid);
             current.updateMinDeletedTimestamp(deleted);
-            if (previousValue != null) {
-                long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-                adjustRam(-(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed));
-            }
             if (old != VersionLookup.EMPTY) {
                 // we also need to remove it from the old map here to make sure we don't read this stale value while
                 // we are in the middle of a refresh. Most of the time the old map is an empty map so we can skip it there.
@@ -202,53 +193,13 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     }
 
     // All deletes also go here, and delete "tombstones" are retained after refresh:
-    private final Map<BytesRef, DeleteVersionValue> tombstones = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
+    private final PackedVersionMap tombstones = new PackedVersionMap();
 
     private volatile Maps maps = new Maps();
     // we maintain a second map that only receives the updates that we skip on the actual map (unsafe ops)
     // this map is only maintained if assertions are enabled
     private volatile Maps unsafeKeysMap = new Maps();
 
-    /**
-     * Bytes consumed for each BytesRef UID:
-     * In this base value, we account for the {@link BytesRef} object itself as
-     * well as the header of the byte[] array it holds, and some lost bytes due
-     * to object alignment. So consumers of this constant just have to add the
-     * length of the byte[] (assuming it is not shared between multiple
-     * instances).
-     */
-    private static final long BASE_BYTES_PER_BYTESREF =
-        // shallow memory usage of the BytesRef object
-        RamUsageEstimator.shallowSizeOfInstance(BytesRef.class) +
-            // header of the byte[] array
-            RamUsageEstimator.NUM_BYTES_ARRAY_HEADER +
-            // with an alignment size (-XX:ObjectAlignmentInBytes) of 8 (default),
-            // there could be between 0 and 7 lost bytes, so we account for 3
-            // lost bytes on average
-            3;
-
-    /**
-     * Bytes used by having CHM point to a key/value.
-     */
-    private static final long BASE_BYTES_PER_CHM_ENTRY;
-
-    static {
-        // use the same impl as the Maps does
-        Map<Integer, Integer> map = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
-        map.put(0, 0);
-        long chmEntryShallowSize = RamUsageEstimator.shallowSizeOf(map.entrySet().iterator().next());
-        // assume a load factor of 50%
-        // for each entry, we need two object refs, one for the entry itself
-        // and one for the free space that is due to the fact hash tables can
-        // not be fully loaded
-        BASE_BYTES_PER_CHM_ENTRY = chmEntryShallowSize + 2 * RamUsageEstimator.NUM_BYTES_OBJECT_REF;
-    }
-
-    /**
-     * Tracks bytes used by tombstones (deletes)
-     */
-    private final AtomicLong ramBytesUsedTombstones = new AtomicLong();
-
     @Override
     public void beforeRefresh() throws IOException {
         // Start sending all updates after this point to the new
@@ -358,18 +309,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     }
 
     private void putTombstone(BytesRef uid, DeleteVersionValue version) {
-        long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-        // Also enroll the delete into tombstones, and account for its RAM too:
-        final VersionValue prevTombstone = tombstones.put(uid, version);
-        long accountRam = (BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed);
-        // Deduct tombstones bytes used for the version we just removed or replaced:
-        if (prevTombstone != null) {
-            accountRam -= (BASE_BYTES_PER_CHM_ENTRY + prevTombstone.ramBytesUsed() + uidRAMBytesUsed);
-        }
-        if (accountRam != 0) {
-            long v = ramBytesUsedTombstones.addAndGet(accountRam);
-            assert v >= 0: "bytes=" + v;
-        }
+        // Also enroll the delete into tombstones, its RAM is accounted by the tombstones map:
+        tombstones.put(uid, version);
     }
 
     /**
@@ -377,13 +318,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      */
     void removeTombstoneUnderLock(BytesRef uid) {
         assert assertKeyedLockHeldByCurrentThread(uid);
-        long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
         final VersionValue prev = tombstones.remove(uid);
-        if (prev != null) {
-            assert prev.isDelete();
-            long v = ramBytesUsedTombstones.addAndGet(-(BASE_BYTES_PER_CHM_ENTRY + prev.ramBytesUsed() + uidRAMBytesUsed));
-            assert v >= 0 : "bytes=" + v;
-        }
+        assert prev == null || prev.isDelete();
     }
 
     private boolean canRemoveTombstone(long maxTimestampToPrune, long maxSeqNoToPrune, DeleteVersionValue versionValue) {
@@ -400,19 +336,18 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Try to prune tombstones whose timestamp is less than maxTimestampToPrune and seqno at most the maxSeqNoToPrune.
      */
     void pruneTombstones(long maxTimestampToPrune, long maxSeqNoToPrune) {
-        for (Map.Entry<BytesRef, DeleteVersionValue> entry : tombstones.entrySet()) {
+        tombstones.forEach((uid, tombstone) -> {
             // we do check before we actually lock the key - this way we don't need to acquire the lock for tombstones that are not
             // prune-able. If the tombstone changes concurrently we will re-read and step out below since if we can't collect it now w
             // we won't collect the tombstone below since it must be newer than this one.
-            if (canRemoveTombstone(maxTimestampToPrune, maxSeqNoToPrune, entry.getValue())) {
-                final BytesRef uid = entry.getKey();
+            if (canRemoveTombstone(maxTimestampToPrune, maxSeqNoToPrune, (DeleteVersionValue) tombstone)) {
                 try (Releasable lock = keyedLock.tryAcquire(uid)) {
                     // we use tryAcquire here since this is a best effort and we try to be least disruptive
                     // this method is also called under lock in the engine under certain situations such that this can lead to deadlocks
                     // if we do use a blocking acquire. see #28714
                     if (lock != null) { // did we get the lock?
                         // Must re-get it here, vs using entry.getValue(), in case the uid was indexed/deleted since we pulled the iterator:
-                        final DeleteVersionValue versionValue = tombstones.get(uid);
+                        final DeleteVersionValue versionValue = (DeleteVersionValue) tombstones.get(uid);
                         if (versionValue != null) {
                             if (canRemoveTombstone(maxTimestampToPrune, maxSeqNoToPrune, versionValue)) {
                                 removeTombstoneUnderLock(uid);
@@ -421,7 +356,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
                     }
                 }
             }
-        }
+        });
     }
 
     /**
@@ -430,31 +365,28 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     synchronized void clear() {
         maps = new Maps();
         tombstones.clear();
-        // NOTE: we can't zero this here, because a refresh thread could be calling InternalEngine.pruneDeletedTombstones at the same time,
-        // and this will lead to an assert trip.  Presumably it's fine if our ramBytesUsedTombstones is non-zero after clear since the
-        // index is being closed:
-        //ramBytesUsedTombstones.set(0);
     }
 
     @Override
     public long ramBytesUsed() {
-        return maps.current.ramBytesUsed.get() + ramBytesUsedTombstones.get();
+        return maps.current.ramBytesUsed() + tombstones.ramBytesUsed();
     }
 
     /**
      * Returns how much RAM would be freed up by refreshing. This is {@link #ramBytesUsed} except does not include tombstones because they
-     * don't clear on refresh.
+     * don't clear on refresh. Only the entries of the current map are accounted, not the capacity it was sized with on refresh, so that
+     * a freshly sized map doesn't count against the indexing buffer.
      */
     long ramBytesUsedForRefresh() {
-        return maps.current.ramBytesUsed.get();
+        return maps.current.ramBytesUsedByEntries();
     }
 
     /**
-     * Returns how much RAM is current being freed up by refreshing.  This is {@link #ramBytesUsed()}
-     * except does not include tombstones because they don't clear on refresh.
+     * Returns how much RAM is current being freed up by refreshing.  This is {@link #ramBytesUsedForRefresh()}
+     * of the map that is being refreshed.
      */
     long getRefreshingBytes() {
-        return maps.old.ramBytesUsed.get();
+        return maps.old.ramBytesUsedByEntries();
     }
 
     @Override
@@ -467,13 +399,15 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Returns the current internal versions as a point in time snapshot
      */
     Map<BytesRef, VersionValue> getAllCurrent() {
-        return maps.current.map;
+        return maps.current.map.snapshot();
     }
 
     /** Iterates over all deleted versions, including new ones (not yet exposed via reader) and old ones
      *  (exposed via reader but not yet GC'd). */
     Map<BytesRef, DeleteVersionValue> getAllTombstones() {
-        return tombstones;
+        final Map<BytesRef, DeleteVersionValue> snapshot = new HashMap<>();
+        tombstones.forEach((uid, tombstone) -> snapshot.put(uid, (DeleteVersionValue) tombstone));
+        return snapshot;
     }
 
     /**
@@ -0,0 +1,679 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexCommit;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StandardDirectoryReader;
+import org.apache.lucene.search.ReferenceManager;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.concurrent.ReleasableLock;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.seqno.LocalCheckpointTracker;
+import org.opensearch.index.seqno.SeqNoStats;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.index.translog.TranslogCorruptedException;
+import org.opensearch.index.translog.TranslogDeletionPolicy;
+import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.search.suggest.completion.CompletionStats;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * The engine of the replicas of indices that use segment replication. Operations are only written to the translog, for durability
+ * and so that a replica can take over as primary, while the segments that make them searchable are copied from the primary and
+ * installed with {@link #updateSegments(SegmentInfos, long)}. There is no {@link org.apache.lucene.index.IndexWriter}, the engine
+ * commits the copied segment infos itself and deletes the files that are no longer referenced by its last commit or by a reader.
+ */
+public class NRTReplicationEngine extends Engine {
+
+    private volatile SegmentInfos lastCommittedSegmentInfos;
+    private final ReplicaFileTracker fileTracker;
+    private final NRTReplicationReaderManager readerManager;
+    private final CompletionStatsCache completionStatsCache;
+    private final LocalCheckpointTracker localCheckpointTracker;
+    private final Translog translog;
+    private final AtomicLong maxSeqNoOfUpdatesOrDeletes;
+    // all operations up to and including this sequence number are contained in the segments of the current reader
+    private volatile long lastRefreshedCheckpoint;
+    // the generation of the primary's commit that the last copied segments are based on
+    private long lastReceivedPrimaryGen = SequenceNumbers.UNASSIGNED_SEQ_NO;
+
+    public NRTReplicationEngine(EngineConfig engineConfig) {
+        super(engineConfig);
+        store.incRef();
+        NRTReplicationReaderManager readerManager = null;
+        Translog translog = null;
+        boolean success = false;
+        try {
+            this.lastCommittedSegmentInfos = store.readLastCommittedSegmentsInfo();
+            this.fileTracker = new ReplicaFileTracker(store.directory(), logger);
+            fileTracker.incRef(lastCommittedSegmentInfos.files(true));
+            final SequenceNumbers.CommitInfo commitInfo =
+                SequenceNumbers.loadSeqNoInfoFromLuceneCommit(lastCommittedSegmentInfos.getUserData().entrySet());
+            this.localCheckpointTracker = new LocalCheckpointTracker(commitInfo.maxSeqNo, commitInfo.localCheckpoint);
+            this.lastRefreshedCheckpoint = commitInfo.localCheckpoint;
+            final StandardDirectoryReader reader = (StandardDirectoryReader) DirectoryReader.open(
+                Lucene.getIndexCommit(lastCommittedSegmentInfos, store.directory()));
+            final boolean softDeletesEnabled = engineConfig.getIndexSettings().isSoftDeleteEnabled();
+            readerManager = new NRTReplicationReaderManager(
+                NRTReplicationReaderManager.openReader(reader, shardId, softDeletesEnabled, fileTracker),
+                reader.getSegmentInfos(), shardId, softDeletesEnabled, fileTracker,
+                new RamAccountingRefreshListener(engineConfig.getCircuitBreakerService()));
+            this.readerManager = readerManager;
+            final TranslogDeletionPolicy translogDeletionPolicy = new TranslogDeletionPolicy(
+                engineConfig.getIndexSettings().getTranslogRetentionSize().getBytes(),
+                engineConfig.getIndexSettings().getTranslogRetentionAge().getMillis(),
+                engineConfig.getIndexSettings().getTranslogRetentionTotalFiles()
+            );
+            translogDeletionPolicy.setLocalCheckpointOfSafeCommit(commitInfo.localCheckpoint);
+            translog = new Translog(engineConfig.getTranslogConfig(),
+                Objects.requireNonNull(lastCommittedSegmentInfos.getUserData().get(Translog.TRANSLOG_UUID_KEY)),
+                translogDeletionPolicy, engineConfig.getGlobalCheckpointSupplier(), engineConfig.getPrimaryTermSupplier(),
+                localCheckpointTracker::markSeqNoAsPersisted);
+            this.translog = translog;
+            this.maxSeqNoOfUpdatesOrDeletes = new AtomicLong(
+                SequenceNumbers.max(localCheckpointTracker.getMaxSeqNo(), translog.getMaxSeqNo()));
+            this.completionStatsCache = new CompletionStatsCache(() -> acquireSearcher("completion_stats"));
+            readerManager.addListener(completionStatsCache);
+            for (ReferenceManager.RefreshListener listener : engineConfig.getExternalRefreshListener()) {
+                readerManager.addListener(listener);
+            }
+            for (ReferenceManager.RefreshListener listener : engineConfig.getInternalRefreshListener()) {
+                readerManager.addListener(listener);
+            }
+            success = true;
+        } catch (IOException | TranslogCorruptedException e) {
+            throw new EngineCreationFailureException(shardId, "failed to create engine", e);
+        } finally {
+            if (success == false) {
+                IOUtils.closeWhileHandlingException(readerManager, translog);
+                if (isClosed.get() == false) {
+                    // failure we need to dec the store reference
+                    store.decRef();
+                }
+            }
+        }
+        logger.trace("created new NRTReplicationEngine");
+    }
+
+    /**
+     * Installs segment infos that were copied from the primary, the files they reference must already be in the store. A new reader
+     * is opened on top of them and they are committed if the primary committed since the last copy, which allows the translog of
+     * this replica to be trimmed.
+     *
+     * @param infos the segment infos of the primary, they must not be modified afterwards
+     * @param seqNo a sequence number such that all operations up to and including it are contained in the segments
+     */
+    public synchronized void updateSegments(final SegmentInfos infos, long seqNo) throws IOException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            readerManager.updateSegments(infos);
+            readerManager.maybeRefreshBlocking();
+            // only advanced once the reader is refreshed, see Engine#acquireLatestSegmentInfos
+            lastRefreshedCheckpoint = seqNo;
+            if (infos.getGeneration() != lastReceivedPrimaryGen) {
+                commitSegmentInfos(infos, seqNo);
+                lastReceivedPrimaryGen = infos.getGeneration();
+            }
+        } catch (AlreadyClosedException e) {
+            throw e;
+        } catch (Exception e) {
+            try {
+                failEngine("failed to update segments", e);
+            } catch (Exception inner) {
+                e.addSuppressed(inner);
+            }
+            throw e;
+        }
+    }
+
+    private synchronized void commitSegmentInfos(SegmentInfos infos, long checkpoint) throws IOException {
+        // the reader uses the infos, so commit a copy
+        final SegmentInfos toCommit = infos.clone();
+        final SegmentInfos previousCommit = lastCommittedSegmentInfos;
+        // the primary's generation only tells which of its commits the segments are based on, the generations of the commits of
+        // this replica must keep increasing regardless
+        if (toCommit.getGeneration() < previousCommit.getGeneration()) {
+            toCommit.updateGeneration(previousCommit);
+        }
+        final Collection<String> segmentFiles = toCommit.files(false);
+        fileTracker.incRef(segmentFiles);
+        boolean success = false;
+        try {
+            store.commitSegmentInfos(toCommit, localCheckpointTracker.getMaxSeqNo(), checkpoint, translog.getTranslogUUID());
+            success = true;
+        } finally {
+            if (success == false) {
+                fileTracker.decRef(segmentFiles);
+            }
+        }
+        fileTracker.incRef(Collections.singleton(toCommit.getSegmentsFileName()));
+        lastCommittedSegmentInfos = toCommit;
+        fileTracker.decRef(previousCommit.files(true));
+        // the operations up to the checkpoint are in the commit, so they don't need to be kept in the translog anymore
+        final TranslogDeletionPolicy translogDeletionPolicy = translog.getDeletionPolicy();
+        translogDeletionPolicy.setLocalCheckpointOfSafeCommit(
+            Math.max(checkpoint, translogDeletionPolicy.getLocalCheckpointOfSafeCommit()));
+        translog.rollGeneration();
+        translog.trimUnreferencedReaders();
+    }
+
+    @Override
+    protected long getLastRefreshedCheckpoint() {
+        return lastRefreshedCheckpoint;
+    }
+
+    @Override
+    public GetResult get(Get get, BiFunction<String, SearcherScope, Searcher> searcherFactory) throws EngineException {
+        // this engine has no version map to serve realtime gets from, they are routed to the primary (see TransportGetAction) and
+        // only reach a replica while it is being promoted or from a node that doesn't route them, which see the copied segments
+        return getFromSearcher(get, searcherFactory, SearcherScope.EXTERNAL);
+    }
+
+    @Override
+    protected ReferenceManager<OpenSearchDirectoryReader> getReferenceManager(SearcherScope scope) {
+        return readerManager;
+    }
+
+    @Override
+    protected SegmentInfos getLastCommittedSegmentInfos() {
+        return lastCommittedSegmentInfos;
+    }
+
+    @Override
+    public String getHistoryUUID() {
+        final String uuid = lastCommittedSegmentInfos.getUserData().get(HISTORY_UUID_KEY);
+        if (uuid == null) {
+            throw new IllegalStateException("commit doesn't contain history uuid");
+        }
+        return uuid;
+    }
+
+    @Override
+    public long getWritingBytes() {
+        return 0;
+    }
+
+    @Override
+    public CompletionStats completionStats(String... fieldNamePatterns) {
+        return completionStatsCache.get(fieldNamePatterns);
+    }
+
+    @Override
+    public long getIndexThrottleTimeInMillis() {
+        return 0;
+    }
+
+    @Override
+    public boolean isThrottled() {
+        return false;
+    }
+
+    @Override
+    public void trimOperationsFromTranslog(long belowTerm, long aboveSeqNo) throws EngineException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            translog.trimOperations(belowTerm, aboveSeqNo);
+        } catch (Exception e) {
+            try {
+                failEngine("translog operations trimming failed", e);
+            } catch (Exception inner) {
+                e.addSuppressed(inner);
+            }
+            throw new EngineException(shardId, "failed to trim translog operations", e);
+        }
+    }
+
+    @Override
+    public IndexResult index(Index index) throws IOException {
+        ensureOpen();
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            final IndexResult indexResult = new IndexResult(index.version(), index.primaryTerm(), index.seqNo(), false);
+            final Translog.Location location;
+            if (index.origin().isFromTranslog() == false) {
+                location = translog.add(new Translog.Index(index, indexResult));
+            } else {
+                location = null;
+            }
+            indexResult.setTranslogLocation(location);
+            markSeqNoAsProcessed(indexResult, index.origin());
+            indexResult.setTook(System.nanoTime() - index.startTime());
+            indexResult.freeze();
+            return indexResult;
+        }
+    }
+
+    @Override
+    public DeleteResult delete(Delete delete) throws IOException {
+        ensureOpen();
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            final DeleteResult deleteResult = new DeleteResult(delete.version(), delete.primaryTerm(), delete.seqNo(), true);
+            final Translog.Location location;
+            if (delete.origin().isFromTranslog() == false) {
+                location = translog.add(new Translog.Delete(delete, deleteResult));
+            } else {
+                location = null;
+            }
+            deleteResult.setTranslogLocation(location);
+            advanceMaxSeqNoOfUpdatesOrDeletes(delete.seqNo());
+            markSeqNoAsProcessed(deleteResult, delete.origin());
+            deleteResult.setTook(System.nanoTime() - delete.startTime());
+            deleteResult.freeze();
+            return deleteResult;
+        }
+    }
+
+    @Override
+    public NoOpResult noOp(NoOp noOp) throws IOException {
+        ensureOpen();
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            final NoOpResult noOpResult = new NoOpResult(noOp.primaryTerm(), noOp.seqNo());
+            final Translog.Location location;
+            if (noOp.origin().isFromTranslog() == false) {
+                location = translog.add(new Translog.NoOp(noOp.seqNo(), noOp.primaryTerm(), noOp.reason()));
+            } else {
+                location = null;
+            }
+            noOpResult.setTranslogLocation(location);
+            markSeqNoAsProcessed(noOpResult, noOp.origin());
+            noOpResult.setTook(System.nanoTime() - noOp.startTime());
+            noOpResult.freeze();
+            return noOpResult;
+        }
+    }
+
+    private void markSeqNoAsProcessed(Result result, Operation.Origin origin) {
+        localCheckpointTracker.markSeqNoAsProcessed(result.getSeqNo());
+        if (result.getTranslogLocation() == null) {
+            // the op is coming from the translog (and is hence persisted already) or it does not have a sequence number
+            assert origin.isFromTranslog() || result.getSeqNo() == SequenceNumbers.UNASSIGNED_SEQ_NO;
+            localCheckpointTracker.markSeqNoAsPersisted(result.getSeqNo());
+        }
+    }
+
+    @Override
+    public SyncedFlushResult syncFlush(String syncId, CommitId expectedCommitId) throws EngineException {
+        // a synced flush needs an index writer to add the sync id to a commit
+        throw new UnsupportedOperationException("syncedFlush is not supported on a segment replication replica");
+    }
+
+    @Override
+    public boolean isTranslogSyncNeeded() {
+        return translog.syncNeeded();
+    }
+
+    @Override
+    public boolean ensureTranslogSynced(Stream<Translog.Location> locations) throws IOException {
+        final boolean synced = translog.ensureSynced(locations);
+        if (synced) {
+            translog.trimUnreferencedReaders();
+        }
+        return synced;
+    }
+
+    @Override
+    public void syncTranslog() throws IOException {
+        translog.sync();
+        translog.trimUnreferencedReaders();
+    }
+
+    @Override
+    public Closeable acquireHistoryRetentionLock(HistorySource historySource) {
+        return translog.acquireRetentionLock();
+    }
+
+    @Override
+    public Translog.Snapshot newChangesSnapshot(String source, MapperService mapperService, long fromSeqNo, long toSeqNo,
+                                                boolean requiredFullRange) throws IOException {
+        if (engineConfig.getIndexSettings().isSoftDeleteEnabled() == false) {
+            throw new IllegalStateException("accessing changes snapshot requires soft-deletes enabled");
+        }
+        ensureOpen();
+        Searcher searcher = acquireSearcher(source, SearcherScope.INTERNAL);
+        try {
+            final LuceneChangesSnapshot snapshot = new LuceneChangesSnapshot(
+                searcher, mapperService, LuceneChangesSnapshot.DEFAULT_BATCH_SIZE, fromSeqNo, toSeqNo, requiredFullRange);
+            searcher = null;
+            return snapshot;
+        } finally {
+            IOUtils.close(searcher);
+        }
+    }
+
+    /**
+     * The segments of a replica lag behind its translog, so the history of the operations is always read from the translog.
+     */
+    @Override
+    public Translog.Snapshot readHistoryOperations(String reason, HistorySource historySource, MapperService mapperService,
+                                                   long startingSeqNo) throws IOException {
+        return translog.newSnapshot(startingSeqNo, Long.MAX_VALUE);
+    }
+
+    @Override
+    public int estimateNumberOfHistoryOperations(String reason, HistorySource historySource, MapperService mapperService,
+                                                 long startingSeqNo) {
+        return translog.estimateTotalOperationsFromMinSeq(startingSeqNo);
+    }
+
+    @Override
+    public boolean hasCompleteOperationHistory(String reason, HistorySource historySource, MapperService mapperService,
+                                               long startingSeqNo) throws IOException {
+        final long currentLocalCheckpoint = localCheckpointTracker.getProcessedCheckpoint();
+        // avoid scanning translog if not necessary
+        if (startingSeqNo > currentLocalCheckpoint) {
+            return true;
+        }
+        final LocalCheckpointTracker tracker = new LocalCheckpointTracker(startingSeqNo, startingSeqNo - 1);
+        try (Translog.Snapshot snapshot = translog.newSnapshot(startingSeqNo, Long.MAX_VALUE)) {
+            Translog.Operation operation;
+            while ((operation = snapshot.next()) != null) {
+                if (operation.seqNo() != SequenceNumbers.UNASSIGNED_SEQ_NO) {
+                    tracker.markSeqNoAsProcessed(operation.seqNo());
+                }
+            }
+        }
+        return tracker.getProcessedCheckpoint() >= currentLocalCheckpoint;
+    }
+
+    @Override
+    public long getMinRetainedSeqNo() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public TranslogStats getTranslogStats() {
+        return translog.stats();
+    }
+
+    @Override
+    public Translog.Location getTranslogLastWriteLocation() {
+        return translog.getLastWriteLocation();
+    }
+
+    public long getProcessedLocalCheckpoint() {
+        return localCheckpointTracker.getProcessedCheckpoint();
+    }
+
+    @Override
+    public long getPersistedLocalCheckpoint() {
+        return localCheckpointTracker.getPersistedCheckpoint();
+    }
+
+    @Override
+    public SeqNoStats getSeqNoStats(long globalCheckpoint) {
+        return localCheckpointTracker.getStats(globalCheckpoint);
+    }
+
+    @Override
+    public long getLastSyncedGlobalCheckpoint() {
+        return translog.getLastSyncedGlobalCheckpoint();
+    }
+
+    @Override
+    public long getIndexBufferRAMBytesUsed() {
+        return 0;
+    }
+
+    @Override
+    public List<Segment> segments(boolean verbose) {
+        return Arrays.asList(getSegmentInfo(readerManager.getSegmentInfos(), verbose));
+    }
+
+    /**
+     * Refreshing only picks up the segments that were installed with {@link #updateSegments(SegmentInfos, long)}, which refreshes
+     * on its own, but refresh listeners waiting on a refresh still need to be notified.
+     */
+    @Override
+    public void refresh(String source) throws EngineException {
+        try {
+            readerManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new RefreshFailedEngineException(shardId, e);
+        }
+    }
+
+    @Override
+    public boolean maybeRefresh(String source) throws EngineException {
+        try {
+            return readerManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new RefreshFailedEngineException(shardId, e);
+        }
+    }
+
+    @Override
+    public void writeIndexingBuffer() throws EngineException {
+    }
+
+    @Override
+    public boolean shouldPeriodicallyFlush() {
+        return false;
+    }
+
+    /**
+     * Commits the segment infos of the current reader and trims the translog.
+     */
+    @Override
+    public CommitId flush(boolean force, boolean waitIfOngoing) throws EngineException {
+        ensureOpen();
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            synchronized (this) {
+                final SegmentInfos latestSegmentInfos = readerManager.getSegmentInfos();
+                if (force || latestSegmentInfos.getVersion() != lastCommittedSegmentInfos.getVersion()) {
+                    commitSegmentInfos(latestSegmentInfos, lastRefreshedCheckpoint);
+                }
+            }
+        } catch (AlreadyClosedException e) {
+            throw e;
+        } catch (Exception e) {
+            try {
+                failEngine("flush failed", e);
+            } catch (Exception inner) {
+                e.addSuppressed(inner);
+            }
+            throw new FlushFailedEngineException(shardId, e);
+        }
+        return new CommitId(lastCommittedSegmentInfos.getId());
+    }
+
+    @Override
+    public void trimUnreferencedTranslogFiles() throws EngineException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            translog.trimUnreferencedReaders();
+        } catch (Exception e) {
+            try {
+                failEngine("translog trimming failed", e);
+            } catch (Exception inner) {
+                e.addSuppressed(inner);
+            }
+            throw new EngineException(shardId, "failed to trim translog", e);
+        }
+    }
+
+    @Override
+    public boolean shouldRollTranslogGeneration() {
+        return translog.shouldRollGeneration();
+    }
+
+    @Override
+    public void rollTranslogGeneration() throws EngineException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            translog.rollGeneration();
+            translog.trimUnreferencedReaders();
+        } catch (Exception e) {
+            try {
+                failEngine("translog trimming failed", e);
+            } catch (Exception inner) {
+                e.addSuppressed(inner);
+            }
+            throw new EngineException(shardId, "failed to roll translog", e);
+        }
+    }
+
+    @Override
+    public void forceMerge(boolean flush, int maxNumSegments, boolean onlyExpungeDeletes, boolean upgrade,
+                           boolean upgradeOnlyAncientSegments, String forceMergeUUID) {
+        // segments are merged on the primary and copied with the next checkpoint
+    }
+
+    @Override
+    public IndexCommitRef acquireLastIndexCommit(boolean flushFirst) throws EngineException {
+        if (flushFirst) {
+            flush(false, true);
+        }
+        store.incRef();
+        final SegmentInfos lastCommit;
+        final Collection<String> files;
+        synchronized (this) {
+            lastCommit = lastCommittedSegmentInfos;
+            files = lastCommit.files(true);
+            fileTracker.incRef(files);
+        }
+        try {
+            final IndexCommit indexCommit = Lucene.getIndexCommit(lastCommit, store.directory());
+            return new IndexCommitRef(indexCommit, () -> {
+                try {
+                    fileTracker.decRef(files);
+                } finally {
+                    store.decRef();
+                }
+            });
+        } catch (IOException e) {
+            fileTracker.decRef(files);
+            store.decRef();
+            throw new EngineException(shardId, "failed to acquire the last index commit", e);
+        }
+    }
+
+    @Override
+    public IndexCommitRef acquireSafeIndexCommit() throws EngineException {
+        return acquireLastIndexCommit(false);
+    }
+
+    @Override
+    public SafeCommitInfo getSafeCommitInfo() {
+        final SegmentInfos lastCommit = lastCommittedSegmentInfos;
+        final long localCheckpoint = Long.parseLong(lastCommit.getUserData().get(SequenceNumbers.LOCAL_CHECKPOINT_KEY));
+        return new SafeCommitInfo(localCheckpoint, lastCommit.totalMaxDoc());
+    }
+
+    @Override
+    protected void closeNoLock(String reason, CountDownLatch closedLatch) {
+        if (isClosed.compareAndSet(false, true)) {
+            assert rwl.isWriteLockedByCurrentThread() || failEngineLock.isHeldByCurrentThread() :
+                "Either the write lock must be held or the engine must be currently be failing itself";
+            try {
+                IOUtils.close(readerManager, translog);
+            } catch (Exception e) {
+                logger.warn("failed to close engine", e);
+            } finally {
+                try {
+                    store.decRef();
+                    logger.debug("engine closed [{}]", reason);
+                } finally {
+                    closedLatch.countDown();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void activateThrottling() {
+    }
+
+    @Override
+    public void deactivateThrottling() {
+    }
+
+    @Override
+    public int restoreLocalHistoryFromTranslog(TranslogRecoveryRunner translogRecoveryRunner) {
+        return 0;
+    }
+
+    @Override
+    public int fillSeqNoGaps(long primaryTerm) {
+        return 0;
+    }
+
+    /**
+     * Replays the translog operations that are above the local checkpoint of the last commit, which only marks them as processed
+     * since they are in the translog already and their segments are copied from the primary.
+     */
+    @Override
+    public Engine recoverFromTranslog(TranslogRecoveryRunner translogRecoveryRunner, long recoverUpToSeqNo) throws IOException {
+        try (ReleasableLock lock = readLock.acquire()) {
+            ensureOpen();
+            final long localCheckpoint = localCheckpointTracker.getProcessedCheckpoint();
+            try (Translog.Snapshot snapshot = translog.newSnapshot(localCheckpoint + 1, recoverUpToSeqNo)) {
+                translogRecoveryRunner.run(this, snapshot);
+            } catch (Exception e) {
+                throw new EngineException(shardId, "failed to recover from translog", e);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public void skipTranslogRecovery() {
+    }
+
+    @Override
+    public void maybePruneDeletes() {
+    }
+
+    @Override
+    public void updateMaxUnsafeAutoIdTimestamp(long newTimestamp) {
+    }
+
+    @Override
+    public long getMaxSeqNoOfUpdatesOrDeletes() {
+        return maxSeqNoOfUpdatesOrDeletes.get();
+    }
+
+    @Override
+    public void advanceMaxSeqNoOfUpdatesOrDeletes(long maxSeqNoOfUpdatesOnPrimary) {
+        maxSeqNoOfUpdatesOrDeletes.accumulateAndGet(maxSeqNoOfUpdatesOnPrimary, Math::max);
+    }
+
+    @Override
+    public void onSettingsChanged(TimeValue translogRetentionAge, ByteSizeValue translogRetentionSize, long softDeletesRetentionOps) {
+        final TranslogDeletionPolicy translogDeletionPolicy = translog.getDeletionPolicy();
+        translogDeletionPolicy.setRetentionAgeInMillis(translogRetentionAge.millis());
+        translogDeletionPolicy.setRetentionSizeInBytes(translogRetentionSize.getBytes());
+    }
+
+    @Override
+    public boolean refreshNeeded() {
+        return false;
+    }
+}
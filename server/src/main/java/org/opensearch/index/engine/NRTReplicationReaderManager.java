@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FilterDirectoryReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.SoftDeletesDirectoryReaderWrapper;
+import org.apache.lucene.index.StandardDirectoryReader;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.common.lucene.index.OpenSearchDirectoryReader;
+import org.opensearch.index.shard.ShardId;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * A {@link OpenSearchReaderManager} for the replicas of indices that use segment replication. Replicas have no
+ * {@link org.apache.lucene.index.IndexWriter}, so new readers are opened on top of the segment infos that were copied from the
+ * primary, sharing the segment readers that did not change with the previous reader.
+ */
+final class NRTReplicationReaderManager extends OpenSearchReaderManager {
+
+    private final ShardId shardId;
+    private final boolean softDeletesEnabled;
+    private final ReplicaFileTracker fileTracker;
+    private volatile SegmentInfos currentInfos;
+
+    /**
+     * @param reader          the initial reader, its files must already be referenced in the file tracker
+     * @param infos           the segment infos of the initial reader
+     * @param fileTracker     the tracker that keeps the files of the opened readers from being deleted
+     * @param refreshListener a consumer that is called every time a new reader is opened
+     */
+    NRTReplicationReaderManager(OpenSearchDirectoryReader reader, SegmentInfos infos, ShardId shardId, boolean softDeletesEnabled,
+                                ReplicaFileTracker fileTracker,
+                                BiConsumer<OpenSearchDirectoryReader, OpenSearchDirectoryReader> refreshListener) {
+        super(reader, refreshListener);
+        this.currentInfos = infos;
+        this.shardId = shardId;
+        this.softDeletesEnabled = softDeletesEnabled;
+        this.fileTracker = fileTracker;
+    }
+
+    /**
+     * Opens a reader on the given infos, taking a reference on their files until the reader is closed.
+     */
+    static OpenSearchDirectoryReader openReader(StandardDirectoryReader reader, ShardId shardId, boolean softDeletesEnabled,
+                                                ReplicaFileTracker fileTracker) throws IOException {
+        final Collection<String> files = reader.getSegmentInfos().files(false);
+        fileTracker.incRef(files);
+        reader.getReaderCacheHelper().addClosedListener(key -> fileTracker.decRef(files));
+        final DirectoryReader wrapped = softDeletesEnabled
+            ? new SoftDeletesDirectoryReaderWrapper(reader, Lucene.SOFT_DELETES_FIELD)
+            : reader;
+        return OpenSearchDirectoryReader.wrap(wrapped, shardId);
+    }
+
+    @Override
+    protected OpenSearchDirectoryReader openIfChanged(OpenSearchDirectoryReader referenceToRefresh) throws IOException {
+        final SegmentInfos infos = currentInfos;
+        final StandardDirectoryReader previous = (StandardDirectoryReader) FilterDirectoryReader.unwrap(referenceToRefresh);
+        if (previous.getSegmentInfos().getVersion() == infos.getVersion()) {
+            return null;
+        }
+        // share the segment readers that did not change with the previous reader
+        final List<LeafReader> subs = new ArrayList<>();
+        for (LeafReaderContext ctx : previous.leaves()) {
+            subs.add(ctx.reader());
+        }
+        final StandardDirectoryReader reader =
+            (StandardDirectoryReader) StandardDirectoryReader.open(previous.directory(), infos, subs);
+        return openReader(reader, shardId, softDeletesEnabled, fileTracker);
+    }
+
+    /**
+     * Sets the segment infos that the next refresh opens a reader on. The infos must not be modified afterwards.
+     */
+    void updateSegments(SegmentInfos infos) {
+        this.currentInfos = infos;
+    }
+
+    SegmentInfos getSegmentInfos() {
+        return currentInfos;
+    }
+}
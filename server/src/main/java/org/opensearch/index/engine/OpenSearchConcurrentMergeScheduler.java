@@ -37,6 +37,7 @@ import org.apache.lucene.index.ConcurrentMergeScheduler;
 import org.apache.lucene.index.MergePolicy;
 import org.apache.lucene.index.MergeScheduler;
 import org.apache.lucene.index.OneMergeHelper;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.logging.Loggers;
 import org.opensearch.common.metrics.CounterMetric;
 import org.opensearch.common.metrics.MeanMetric;
@@ -47,6 +48,7 @@ import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.MergeSchedulerConfig;
+import org.opensearch.index.merge.AdaptiveMergeThrottle;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.merge.OnGoingMerge;
 import org.opensearch.index.shard.ShardId;
@@ -74,16 +76,25 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
     private final CounterMetric currentMergesSizeInBytes = new CounterMetric();
     private final CounterMetric totalMergeStoppedTime = new CounterMetric();
     private final CounterMetric totalMergeThrottledTime = new CounterMetric();
+    private final CounterMetric totalAdaptiveThrottleBackoffs = new CounterMetric();
 
     private final Set<OnGoingMerge> onGoingMerges = ConcurrentCollections.newConcurrentSet();
     private final Set<OnGoingMerge> readOnlyOnGoingMerges = Collections.unmodifiableSet(onGoingMerges);
     private final MergeSchedulerConfig config;
+    @Nullable
+    private final AdaptiveMergeThrottle adaptiveMergeThrottle;
+    private final AdaptiveMergeThrottle.Listener adaptiveThrottleListener = this::onAdaptiveThrottleFactorChanged;
+    // the scheduler only listens to the adaptive throttle while it has running merges
+    private final Object adaptiveThrottleListenerMutex = new Object();
+    private int runningMerges;
 
-    OpenSearchConcurrentMergeScheduler(ShardId shardId, IndexSettings indexSettings) {
+    OpenSearchConcurrentMergeScheduler(ShardId shardId, IndexSettings indexSettings,
+                                       @Nullable AdaptiveMergeThrottle adaptiveMergeThrottle) {
         this.config = indexSettings.getMergeSchedulerConfig();
         this.shardId = shardId;
         this.indexSettings = indexSettings.getSettings();
         this.logger = Loggers.getLogger(getClass(), shardId);
+        this.adaptiveMergeThrottle = adaptiveMergeThrottle;
         refreshConfig();
     }
 
@@ -108,10 +119,12 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
                 OneMergeHelper.getSegmentName(merge), merge.segments.size(), totalNumDocs, new ByteSizeValue(totalSizeInBytes),
                 new ByteSizeValue(merge.estimatedMergeBytes));
         }
+        listenToAdaptiveThrottle(true);
         try {
             beforeMerge(onGoingMerge);
             super.doMerge(mergeSource, merge);
         } finally {
+            listenToAdaptiveThrottle(false);
             long tookMS = TimeValue.nsecToMSec(System.nanoTime() - timeNS);
 
             onGoingMerges.remove(onGoingMerge);
@@ -156,6 +169,42 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
         }
     }
 
+    private void listenToAdaptiveThrottle(boolean mergeStarted) {
+        if (adaptiveMergeThrottle == null) {
+            return;
+        }
+        synchronized (adaptiveThrottleListenerMutex) {
+            if (mergeStarted && runningMerges++ == 0) {
+                adaptiveMergeThrottle.addListener(adaptiveThrottleListener);
+            } else if (mergeStarted == false && --runningMerges == 0) {
+                adaptiveMergeThrottle.removeListener(adaptiveThrottleListener);
+            }
+        }
+    }
+
+    private void onAdaptiveThrottleFactorChanged(double previousFactor, double factor) {
+        if (factor < previousFactor) {
+            totalAdaptiveThrottleBackoffs.inc();
+        }
+        updateMergeThreads();
+    }
+
+    private double adaptiveThrottleFactor() {
+        return adaptiveMergeThrottle == null ? 1.0 : adaptiveMergeThrottle.throttleFactor();
+    }
+
+    @Override
+    protected synchronized void updateMergeThreads() {
+        super.updateMergeThreads();
+        // the auto throttle rate only reacts to the merge backlog, so it is further reduced when foreground work is slowed down
+        final double factor = adaptiveThrottleFactor();
+        if (factor < 1.0) {
+            for (MergeThread mergeThread : mergeThreads) {
+                OneMergeHelper.scaleMbPerSec(mergeThread, factor);
+            }
+        }
+    }
+
     /**
      * A callback allowing for custom logic before an actual merge starts.
      */
@@ -194,6 +243,8 @@ class OpenSearchConcurrentMergeScheduler extends ConcurrentMergeScheduler {
                 totalMergeStoppedTime.count(),
                 totalMergeThrottledTime.count(),
                 config.isAutoThrottle() ? getIORateLimitMBPerSec() : Double.POSITIVE_INFINITY);
+        mergeStats.addAdaptiveThrottle(totalAdaptiveThrottleBackoffs.count(),
+                config.isAutoThrottle() ? getIORateLimitMBPerSec() * adaptiveThrottleFactor() : Double.POSITIVE_INFINITY);
         return mergeStats;
     }
 
@@ -76,13 +76,20 @@ class OpenSearchReaderManager extends ReferenceManager<OpenSearchDirectoryReader
 
     @Override
     protected OpenSearchDirectoryReader refreshIfNeeded(OpenSearchDirectoryReader referenceToRefresh) throws IOException {
-        final OpenSearchDirectoryReader reader = (OpenSearchDirectoryReader) DirectoryReader.openIfChanged(referenceToRefresh);
+        final OpenSearchDirectoryReader reader = openIfChanged(referenceToRefresh);
         if (reader != null) {
             refreshListener.accept(reader, referenceToRefresh);
         }
         return reader;
     }
 
+    /**
+     * Opens a new reader if the index changed since the given reader was opened, returns <code>null</code> otherwise.
+     */
+    protected OpenSearchDirectoryReader openIfChanged(OpenSearchDirectoryReader referenceToRefresh) throws IOException {
+        return (OpenSearchDirectoryReader) DirectoryReader.openIfChanged(referenceToRefresh);
+    }
+
     @Override
     protected boolean tryIncRef(OpenSearchDirectoryReader reference) {
         return reference.tryIncRef();
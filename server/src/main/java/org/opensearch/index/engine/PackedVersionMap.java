@@ -0,0 +1,510 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.index.translog.Translog;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiConsumer;
+
+/**
+ * A concurrent map from _uid to {@link VersionValue} that stores its entries in packed primitive arrays rather than one
+ * {@link BytesRef}, map entry, {@link VersionValue} and {@link Translog.Location} object per uid. The map is split in
+ * segments, twice as many as there are processors and at least 16, and each segment is an open addressing hash table with
+ * linear probing whose slots point to densely packed entries. Each entry holds a copy of the uid bytes and the fields of its
+ * version value, which are materialized again on read. Writes to a segment are serialized by its {@link StampedLock}, while
+ * reads are optimistic and only take the read lock if a write raced with them. {@link #ramBytesUsed()} is computed from the
+ * sizes of the underlying arrays and is therefore exact, including the free slots of the hash tables, while
+ * {@link #ramBytesUsedByEntries()} only accounts for the entries of the map.
+ */
+final class PackedVersionMap implements Accountable {
+
+    private static final int NUM_SEGMENTS =
+        Math.min(1 << 10, Integer.highestOneBit(Math.max(Runtime.getRuntime().availableProcessors() * 2, 16) - 1) << 1);
+    private static final int SEGMENT_SHIFT = Integer.SIZE - Integer.numberOfTrailingZeros(NUM_SEGMENTS);
+    private static final int MIN_TABLE_SIZE = 16;
+
+    // entry layout: version, seq#, term, kind and translog location size, delete time or translog generation, translog position
+    private static final int STRIDE = 6;
+    private static final int VERSION = 0;
+    private static final int SEQ_NO = 1;
+    private static final int TERM = 2;
+    private static final int META = 3;
+    private static final int TIME_OR_GENERATION = 4;
+    private static final int TRANSLOG_LOCATION = 5;
+
+    private static final long KIND_INDEX = 0;
+    private static final long KIND_INDEX_WITH_LOCATION = 1;
+    private static final long KIND_DELETE = 2;
+    private static final long KIND_MASK = 3;
+
+    private static final long SEGMENT_SHALLOW_SIZE = RamUsageEstimator.shallowSizeOfInstance(Segment.class);
+    // the key reference, hash and values of an entry and the two table slots it takes at the maximum load factor
+    private static final long BYTES_PER_ENTRY = RamUsageEstimator.NUM_BYTES_OBJECT_REF + Integer.BYTES + STRIDE * Long.BYTES
+        + 2 * Integer.BYTES;
+
+    private static final int[] EMPTY_TABLE = new int[0];
+    private static final byte[][] EMPTY_KEYS = new byte[0][];
+    private static final int[] EMPTY_HASHES = new int[0];
+    private static final long[] EMPTY_VALUES = new long[0];
+
+    /**
+     * An empty map that can't be modified.
+     */
+    static final PackedVersionMap EMPTY = new PackedVersionMap(0, true);
+
+    private final Segment[] segments;
+    private final boolean readOnly;
+
+    PackedVersionMap() {
+        this(0);
+    }
+
+    /**
+     * @param expectedSize the number of entries the map is expected to hold, used to size each segment when its first entry is added
+     */
+    PackedVersionMap(int expectedSize) {
+        this(expectedSize, false);
+    }
+
+    private PackedVersionMap(int expectedSize, boolean readOnly) {
+        this.readOnly = readOnly;
+        segments = new Segment[NUM_SEGMENTS];
+        final int expectedSegmentSize = expectedSize / NUM_SEGMENTS;
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(expectedSegmentSize);
+        }
+    }
+
+    private void ensureWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("the empty version map can't be modified");
+        }
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[hash >>> SEGMENT_SHIFT];
+    }
+
+    VersionValue get(BytesRef uid) {
+        final int hash = uid.hashCode();
+        return segmentFor(hash).get(uid, hash);
+    }
+
+    /**
+     * Associates the given value with the uid and returns the previous value, if any.
+     */
+    VersionValue put(BytesRef uid, VersionValue value) {
+        ensureWritable();
+        final int hash = uid.hashCode();
+        return segmentFor(hash).put(uid, hash, value);
+    }
+
+    /**
+     * Removes the value associated with the uid and returns it, if any.
+     */
+    VersionValue remove(BytesRef uid) {
+        ensureWritable();
+        final int hash = uid.hashCode();
+        return segmentFor(hash).remove(uid, hash);
+    }
+
+    int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size;
+        }
+        return size;
+    }
+
+    boolean isEmpty() {
+        for (Segment segment : segments) {
+            if (segment.size > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calls the consumer for every entry of the map. Every segment is copied under its read lock before the consumer is called
+     * for its entries, so the consumer is free to modify the map but might see entries that were concurrently removed.
+     */
+    void forEach(BiConsumer<BytesRef, VersionValue> consumer) {
+        for (Segment segment : segments) {
+            final BytesRef[] uids;
+            final VersionValue[] values;
+            final long stamp = segment.lock.readLock();
+            try {
+                uids = new BytesRef[segment.size];
+                values = new VersionValue[segment.size];
+                for (int i = 0; i < segment.size; i++) {
+                    uids[i] = new BytesRef(segment.keys[i]);
+                    values[i] = valueOf(segment.values, i * STRIDE);
+                }
+            } finally {
+                segment.lock.unlockRead(stamp);
+            }
+            for (int i = 0; i < uids.length; i++) {
+                consumer.accept(uids[i], values[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns a point in time copy of the entries of the map.
+     */
+    Map<BytesRef, VersionValue> snapshot() {
+        final Map<BytesRef, VersionValue> snapshot = new HashMap<>();
+        forEach(snapshot::put);
+        return snapshot;
+    }
+
+    void clear() {
+        ensureWritable();
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    @Override
+    public long ramBytesUsed() {
+        long ramBytesUsed = 0;
+        for (Segment segment : segments) {
+            ramBytesUsed += segment.ramBytesUsed;
+        }
+        return ramBytesUsed;
+    }
+
+    /**
+     * Returns the memory used by the entries of the map, excluding the unused capacity of its arrays.
+     */
+    long ramBytesUsedByEntries() {
+        long ramBytesUsed = 0;
+        for (Segment segment : segments) {
+            ramBytesUsed += segment.entriesRamBytesUsed;
+        }
+        return ramBytesUsed;
+    }
+
+    @Override
+    public Collection<Accountable> getChildResources() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Materializes the version value whose fields start at <code>base</code> in the given array.
+     */
+    private static VersionValue valueOf(long[] values, int base) {
+        return valueOf(values[base + VERSION], values[base + SEQ_NO], values[base + TERM], values[base + META],
+            values[base + TIME_OR_GENERATION], values[base + TRANSLOG_LOCATION]);
+    }
+
+    private static VersionValue valueOf(long version, long seqNo, long term, long meta, long timeOrGeneration, long translogLocation) {
+        final long kind = meta & KIND_MASK;
+        if (kind == KIND_DELETE) {
+            return new DeleteVersionValue(version, seqNo, term, timeOrGeneration);
+        }
+        final Translog.Location location = kind == KIND_INDEX_WITH_LOCATION
+            ? new Translog.Location(timeOrGeneration, translogLocation, (int) (meta >>> 2))
+            : null;
+        return new IndexVersionValue(location, version, seqNo, term);
+    }
+
+    private static final class Segment {
+        private final StampedLock lock = new StampedLock();
+        // slot -> index of the entry + 1, 0 marks a free slot. The length is a power of two
+        private int[] table;
+        // densely packed entries
+        private byte[][] keys;
+        private int[] hashes;
+        private long[] values;
+        private int size;
+        private long keysRamBytesUsed;
+        private volatile long ramBytesUsed;
+        private volatile long entriesRamBytesUsed;
+        // the size of the arrays once the first entry is added, so that a map that stays empty doesn't use any memory
+        private int expectedSize;
+
+        Segment(int expectedSize) {
+            this.expectedSize = expectedSize;
+            reset();
+        }
+
+        VersionValue get(BytesRef uid, int hash) {
+            long stamp = lock.tryOptimisticRead();
+            if (stamp != 0L) {
+                try {
+                    // the fields of the entry are read before the read is validated so that values are never built from torn writes
+                    final long[] values = this.values;
+                    final int index = indexOf(uid, hash);
+                    if (index < 0) {
+                        if (lock.validate(stamp)) {
+                            return null;
+                        }
+                    } else {
+                        final int base = index * STRIDE;
+                        final long version = values[base + VERSION];
+                        final long seqNo = values[base + SEQ_NO];
+                        final long term = values[base + TERM];
+                        final long meta = values[base + META];
+                        final long timeOrGeneration = values[base + TIME_OR_GENERATION];
+                        final long translogLocation = values[base + TRANSLOG_LOCATION];
+                        if (lock.validate(stamp)) {
+                            return valueOf(version, seqNo, term, meta, timeOrGeneration, translogLocation);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    // a concurrent write changed the arrays while they were read, fall back to the read lock
+                }
+            }
+            stamp = lock.readLock();
+            try {
+                final int index = indexOf(uid, hash);
+                return index < 0 ? null : valueOf(values, index * STRIDE);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        /**
+         * Returns the index of the entry of the given uid or -1 if there is none. Reads without the lock may see inconsistent
+         * arrays, so the probe is bounded by the size of the table and may throw.
+         */
+        private int indexOf(BytesRef uid, int hash) {
+            final int[] table = this.table;
+            final byte[][] keys = this.keys;
+            final int[] hashes = this.hashes;
+            final int mask = table.length - 1;
+            for (int i = 0, slot = hash & mask; i < table.length; i++, slot = (slot + 1) & mask) {
+                final int index = table[slot] - 1;
+                if (index < 0) {
+                    return -1;
+                }
+                final byte[] key = keys[index];
+                if (hashes[index] == hash && Arrays.equals(key, 0, key.length, uid.bytes, uid.offset, uid.offset + uid.length)) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        VersionValue put(BytesRef uid, int hash, VersionValue value) {
+            final long stamp = lock.writeLock();
+            try {
+                return doPut(uid, hash, value);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private VersionValue doPut(BytesRef uid, int hash, VersionValue value) {
+            final int slot = findSlot(uid, hash);
+            if (slot >= 0) {
+                final int index = table[slot] - 1;
+                final VersionValue previous = valueOf(values, index * STRIDE);
+                setValue(index, value);
+                return previous;
+            }
+            if (size == 0 && expectedSize > 0) {
+                table = new int[tableSizeFor(expectedSize)];
+                keys = new byte[expectedSize][];
+                hashes = new int[expectedSize];
+                values = new long[expectedSize * STRIDE];
+                // the segment grows as needed if it is emptied and filled again
+                expectedSize = 0;
+            }
+            if ((size + 1) * 2 > table.length) {
+                resize(Math.max(MIN_TABLE_SIZE, table.length * 2));
+            }
+            if (size == keys.length) {
+                keys = ArrayUtil.grow(keys, size + 1);
+                hashes = ArrayUtil.grow(hashes, size + 1);
+                values = ArrayUtil.grow(values, (size + 1) * STRIDE);
+            }
+            final byte[] key = Arrays.copyOfRange(uid.bytes, uid.offset, uid.offset + uid.length);
+            keys[size] = key;
+            hashes[size] = hash;
+            setValue(size, value);
+            table[freeSlot(hash)] = size + 1;
+            size++;
+            keysRamBytesUsed += RamUsageEstimator.sizeOf(key);
+            updateRamBytesUsed();
+            return null;
+        }
+
+        VersionValue remove(BytesRef uid, int hash) {
+            final long stamp = lock.writeLock();
+            try {
+                return doRemove(uid, hash);
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private VersionValue doRemove(BytesRef uid, int hash) {
+            final int slot = findSlot(uid, hash);
+            if (slot < 0) {
+                return null;
+            }
+            final int index = table[slot] - 1;
+            final VersionValue previous = valueOf(values, index * STRIDE);
+            keysRamBytesUsed -= RamUsageEstimator.sizeOf(keys[index]);
+            deleteSlot(slot);
+            // move the last entry into the hole to keep the entries dense
+            final int last = size - 1;
+            if (index != last) {
+                keys[index] = keys[last];
+                hashes[index] = hashes[last];
+                System.arraycopy(values, last * STRIDE, values, index * STRIDE, STRIDE);
+                table[slotOf(last)] = index + 1;
+            }
+            keys[last] = null;
+            size--;
+            if (size == 0) {
+                // release the memory of maps that are emptied, like the tombstones after they are pruned
+                reset();
+                return previous;
+            } else if (table.length > MIN_TABLE_SIZE && size * 8 < table.length) {
+                resize(table.length / 4);
+                keys = ArrayUtil.copyOfSubArray(keys, 0, size);
+                hashes = ArrayUtil.copyOfSubArray(hashes, 0, size);
+                values = ArrayUtil.copyOfSubArray(values, 0, size * STRIDE);
+            }
+            updateRamBytesUsed();
+            return previous;
+        }
+
+        void clear() {
+            final long stamp = lock.writeLock();
+            try {
+                reset();
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        private void reset() {
+            table = EMPTY_TABLE;
+            keys = EMPTY_KEYS;
+            hashes = EMPTY_HASHES;
+            values = EMPTY_VALUES;
+            size = 0;
+            keysRamBytesUsed = 0;
+            updateRamBytesUsed();
+        }
+
+        private int findSlot(BytesRef uid, int hash) {
+            if (table.length == 0) {
+                return -1;
+            }
+            final int mask = table.length - 1;
+            for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+                final int entry = table[slot];
+                if (entry == 0) {
+                    return -1;
+                }
+                final int index = entry - 1;
+                if (hashes[index] == hash && Arrays.equals(keys[index], 0, keys[index].length,
+                        uid.bytes, uid.offset, uid.offset + uid.length)) {
+                    return slot;
+                }
+            }
+        }
+
+        private int freeSlot(int hash) {
+            final int mask = table.length - 1;
+            int slot = hash & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private int slotOf(int index) {
+            final int mask = table.length - 1;
+            int slot = hashes[index] & mask;
+            while (table[slot] != index + 1) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        /**
+         * Frees a slot and shifts back the entries of the probe sequence that follows it, so that lookups never need
+         * to skip deleted slots.
+         */
+        private void deleteSlot(int slot) {
+            final int mask = table.length - 1;
+            int free = slot;
+            table[free] = 0;
+            for (int next = (free + 1) & mask; table[next] != 0; next = (next + 1) & mask) {
+                final int home = hashes[table[next] - 1] & mask;
+                // the entry can move to the free slot unless its home slot is cyclically in (free, next]
+                final boolean stays = free <= next ? (free < home && home <= next) : (free < home || home <= next);
+                if (stays == false) {
+                    table[free] = table[next];
+                    table[next] = 0;
+                    free = next;
+                }
+            }
+        }
+
+        private void resize(int newTableSize) {
+            table = new int[newTableSize];
+            for (int i = 0; i < size; i++) {
+                table[freeSlot(hashes[i])] = i + 1;
+            }
+        }
+
+        private void setValue(int index, VersionValue value) {
+            final int base = index * STRIDE;
+            values[base + VERSION] = value.version;
+            values[base + SEQ_NO] = value.seqNo;
+            values[base + TERM] = value.term;
+            if (value.isDelete()) {
+                values[base + META] = KIND_DELETE;
+                values[base + TIME_OR_GENERATION] = ((DeleteVersionValue) value).time;
+                values[base + TRANSLOG_LOCATION] = 0;
+            } else if (value.getLocation() != null) {
+                final Translog.Location location = value.getLocation();
+                values[base + META] = KIND_INDEX_WITH_LOCATION | ((long) location.size << 2);
+                values[base + TIME_OR_GENERATION] = location.generation;
+                values[base + TRANSLOG_LOCATION] = location.translogLocation;
+            } else {
+                values[base + META] = KIND_INDEX;
+                values[base + TIME_OR_GENERATION] = 0;
+                values[base + TRANSLOG_LOCATION] = 0;
+            }
+        }
+
+        private void updateRamBytesUsed() {
+            if (table.length == 0) {
+                ramBytesUsed = 0;
+            } else {
+                ramBytesUsed = SEGMENT_SHALLOW_SIZE + RamUsageEstimator.sizeOf(table) + RamUsageEstimator.shallowSizeOf(keys)
+                    + RamUsageEstimator.sizeOf(hashes) + RamUsageEstimator.sizeOf(values) + keysRamBytesUsed;
+            }
+            entriesRamBytesUsed = size * BYTES_PER_ENTRY + keysRamBytesUsed;
+        }
+
+        private static int tableSizeFor(int expectedSize) {
+            return Math.max(MIN_TABLE_SIZE, Integer.highestOneBit(expectedSize * 2 - 1) << 1);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.store.Directory;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reference counts the files of a segment replication replica. There is no {@link org.apache.lucene.index.IndexWriter} on a replica
+ * to delete the files of the segments that were merged away on the primary, so the replica engine takes a reference on the files
+ * of its last commit and of every reader it opens, and a file is deleted once no commit or reader references it anymore.
+ */
+final class ReplicaFileTracker {
+
+    private final Directory directory;
+    private final Logger logger;
+    private final Map<String, Integer> refCounts = new HashMap<>();
+
+    ReplicaFileTracker(Directory directory, Logger logger) {
+        this.directory = directory;
+        this.logger = logger;
+    }
+
+    synchronized void incRef(Collection<String> fileNames) {
+        for (String fileName : fileNames) {
+            refCounts.merge(fileName, 1, Integer::sum);
+        }
+    }
+
+    synchronized void decRef(Collection<String> fileNames) {
+        for (String fileName : fileNames) {
+            final Integer refCount = refCounts.get(fileName);
+            assert refCount != null && refCount > 0 : "file [" + fileName + "] is not referenced";
+            if (refCount == 1) {
+                refCounts.remove(fileName);
+                delete(fileName);
+            } else {
+                refCounts.put(fileName, refCount - 1);
+            }
+        }
+    }
+
+    synchronized int refCount(String fileName) {
+        return refCounts.getOrDefault(fileName, 0);
+    }
+
+    private void delete(String fileName) {
+        try {
+            directory.deleteFile(fileName);
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            // already gone
+        } catch (IOException e) {
+            // the file is left behind and is cleaned up the next time the shard recovers
+            logger.warn(() -> new ParameterizedMessage("failed to delete unreferenced file [{}]", fileName), e);
+        }
+    }
+}
@@ -0,0 +1,338 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.merge;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.util.Constants;
+import org.opensearch.common.SuppressForbidden;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.io.PathUtils;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.env.NodeEnvironment;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Runs periodically and computes a factor that the merge schedulers of the node apply to the IO rate of their auto throttled
+ * merges. The factor is halved whenever the average latency or queue depth of the devices that hold the data paths, or the number
+ * of queued search requests, goes above its threshold, and it grows back by {@link #RECOVERY_STEP} per interval once all of them
+ * are below their thresholds again.
+ */
+public class AdaptiveMergeThrottle extends AbstractLifecycleComponent {
+
+    private static final Logger logger = LogManager.getLogger(AdaptiveMergeThrottle.class);
+
+    public static final Setting<Boolean> ENABLED_SETTING =
+        Setting.boolSetting("indices.merge.adaptive_throttle.enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    public static final Setting<TimeValue> INTERVAL_SETTING =
+        Setting.timeSetting("indices.merge.adaptive_throttle.interval", TimeValue.timeValueSeconds(1), TimeValue.timeValueMillis(100),
+            Setting.Property.NodeScope);
+    public static final Setting<TimeValue> DEVICE_LATENCY_THRESHOLD_SETTING =
+        Setting.timeSetting("indices.merge.adaptive_throttle.device_latency_threshold", TimeValue.timeValueMillis(20),
+            TimeValue.timeValueMillis(1), Setting.Property.NodeScope, Setting.Property.Dynamic);
+    public static final Setting<Double> DEVICE_QUEUE_THRESHOLD_SETTING =
+        Setting.doubleSetting("indices.merge.adaptive_throttle.device_queue_threshold", 8.0, 0.0, Setting.Property.NodeScope,
+            Setting.Property.Dynamic);
+    public static final Setting<Integer> SEARCH_QUEUE_THRESHOLD_SETTING =
+        Setting.intSetting("indices.merge.adaptive_throttle.search_queue_threshold", 100, 0, Setting.Property.NodeScope,
+            Setting.Property.Dynamic);
+    public static final Setting<Double> MIN_FACTOR_SETTING =
+        Setting.doubleSetting("indices.merge.adaptive_throttle.min_factor", 0.1, 0.01, 1.0, Setting.Property.NodeScope,
+            Setting.Property.Dynamic);
+
+    /** the factor is multiplied by this ratio on every interval where foreground work is slowed down */
+    static final double BACKOFF_RATIO = 0.5;
+    /**
+     * the factor is increased by this step on every interval where foreground work is not slowed down, it is a power of two so
+     * that a factor that was only halved recovers to exactly 1
+     */
+    static final double RECOVERY_STEP = 0.125;
+
+    /**
+     * Notified when the throttle factor changes.
+     */
+    public interface Listener {
+        void onThrottleFactorChanged(double previousFactor, double factor);
+    }
+
+    private final ThreadPool threadPool;
+    private final TimeValue interval;
+    private final Supplier<DeviceLoad> deviceLoadSupplier;
+    private final IntSupplier searchQueueSupplier;
+    private final Set<Listener> listeners = new CopyOnWriteArraySet<>();
+    private volatile boolean enabled;
+    private volatile TimeValue deviceLatencyThreshold;
+    private volatile double deviceQueueThreshold;
+    private volatile int searchQueueThreshold;
+    private volatile double minFactor;
+    private volatile double factor = 1.0;
+    private volatile Scheduler.Cancellable scheduledFuture;
+
+    public AdaptiveMergeThrottle(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, NodeEnvironment nodeEnv) {
+        this(settings, clusterSettings, threadPool, new DiskStatsSampler(dataPathDevices(nodeEnv)), () -> searchQueueSize(threadPool));
+    }
+
+    AdaptiveMergeThrottle(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool,
+                          Supplier<DeviceLoad> deviceLoadSupplier, IntSupplier searchQueueSupplier) {
+        this.threadPool = threadPool;
+        this.deviceLoadSupplier = deviceLoadSupplier;
+        this.searchQueueSupplier = searchQueueSupplier;
+        this.interval = INTERVAL_SETTING.get(settings);
+        this.enabled = ENABLED_SETTING.get(settings);
+        this.deviceLatencyThreshold = DEVICE_LATENCY_THRESHOLD_SETTING.get(settings);
+        this.deviceQueueThreshold = DEVICE_QUEUE_THRESHOLD_SETTING.get(settings);
+        this.searchQueueThreshold = SEARCH_QUEUE_THRESHOLD_SETTING.get(settings);
+        this.minFactor = MIN_FACTOR_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(ENABLED_SETTING, this::setEnabled);
+        clusterSettings.addSettingsUpdateConsumer(DEVICE_LATENCY_THRESHOLD_SETTING, this::setDeviceLatencyThreshold);
+        clusterSettings.addSettingsUpdateConsumer(DEVICE_QUEUE_THRESHOLD_SETTING, this::setDeviceQueueThreshold);
+        clusterSettings.addSettingsUpdateConsumer(SEARCH_QUEUE_THRESHOLD_SETTING, this::setSearchQueueThreshold);
+        clusterSettings.addSettingsUpdateConsumer(MIN_FACTOR_SETTING, this::setMinFactor);
+    }
+
+    @Override
+    protected void doStart() {
+        scheduledFuture = threadPool.scheduleWithFixedDelay(() -> {
+            try {
+                doRun();
+            } catch (Exception e) {
+                logger.debug("failed to update adaptive merge throttle", e);
+            }
+        }, interval, ThreadPool.Names.GENERIC);
+    }
+
+    @Override
+    protected void doStop() {
+        scheduledFuture.cancel();
+    }
+
+    @Override
+    protected void doClose() {
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private void setDeviceLatencyThreshold(TimeValue deviceLatencyThreshold) {
+        this.deviceLatencyThreshold = deviceLatencyThreshold;
+    }
+
+    private void setDeviceQueueThreshold(double deviceQueueThreshold) {
+        this.deviceQueueThreshold = deviceQueueThreshold;
+    }
+
+    private void setSearchQueueThreshold(int searchQueueThreshold) {
+        this.searchQueueThreshold = searchQueueThreshold;
+    }
+
+    private void setMinFactor(double minFactor) {
+        this.minFactor = minFactor;
+    }
+
+    /**
+     * Registers a listener that is notified when the throttle factor changes, merge schedulers only need to be registered while
+     * they have running merges.
+     */
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * The factor, between {@link #MIN_FACTOR_SETTING} and 1, to apply to the IO rate of auto throttled merges.
+     */
+    public double throttleFactor() {
+        return factor;
+    }
+
+    /**
+     * Samples the load of the data path devices and of the search thread pool and updates the throttle factor.
+     */
+    void doRun() {
+        if (enabled == false) {
+            setFactor(1.0);
+            return;
+        }
+        final DeviceLoad deviceLoad = deviceLoadSupplier.get();
+        final int searchQueue = searchQueueSupplier.getAsInt();
+        final String reason;
+        if (deviceLoad != null && deviceLoad.latencyMillis >= deviceLatencyThreshold.millis()) {
+            reason = "device latency [" + deviceLoad.latencyMillis + "ms] exceeded [" + deviceLatencyThreshold + "]";
+        } else if (deviceLoad != null && deviceLoad.queueDepth >= deviceQueueThreshold) {
+            reason = "device queue depth [" + deviceLoad.queueDepth + "] exceeded [" + deviceQueueThreshold + "]";
+        } else if (searchQueue >= searchQueueThreshold) {
+            reason = "search queue [" + searchQueue + "] exceeded [" + searchQueueThreshold + "]";
+        } else {
+            reason = null;
+        }
+        if (reason != null) {
+            final double newFactor = Math.max(minFactor, factor * BACKOFF_RATIO);
+            if (newFactor < factor) {
+                logger.debug("backing off merge IO rate to [{}] of the auto throttle rate because {}", newFactor, reason);
+            }
+            setFactor(newFactor);
+        } else {
+            setFactor(Math.min(1.0, factor + RECOVERY_STEP));
+        }
+    }
+
+    private void setFactor(double newFactor) {
+        final double previousFactor = factor;
+        if (newFactor == previousFactor) {
+            return;
+        }
+        factor = newFactor;
+        for (Listener listener : listeners) {
+            try {
+                listener.onThrottleFactorChanged(previousFactor, newFactor);
+            } catch (Exception e) {
+                logger.warn("failed to notify merge throttle listener", e);
+            }
+        }
+    }
+
+    private static int searchQueueSize(ThreadPool threadPool) {
+        final ExecutorService executor = threadPool.executor(ThreadPool.Names.SEARCH);
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executor).getQueue().size();
+        }
+        return 0;
+    }
+
+    private static Set<Tuple<Integer, Integer>> dataPathDevices(NodeEnvironment nodeEnv) {
+        if (Constants.LINUX == false || nodeEnv.hasNodeFile() == false) {
+            return Collections.emptySet();
+        }
+        final Set<Tuple<Integer, Integer>> devices = new HashSet<>();
+        for (NodeEnvironment.NodePath nodePath : nodeEnv.nodePaths()) {
+            if (nodePath.majorDeviceNumber != -1 && nodePath.minorDeviceNumber != -1) {
+                devices.add(Tuple.tuple(nodePath.majorDeviceNumber, nodePath.minorDeviceNumber));
+            }
+        }
+        return devices;
+    }
+
+    /**
+     * The load of the data path devices over the last sampling interval.
+     */
+    static final class DeviceLoad {
+        /** average time in milliseconds that the completed reads and writes took, including the time they spent queued */
+        final double latencyMillis;
+        /** average number of requests that were queued or in flight */
+        final double queueDepth;
+
+        DeviceLoad(double latencyMillis, double queueDepth) {
+            this.latencyMillis = latencyMillis;
+            this.queueDepth = queueDepth;
+        }
+    }
+
+    /**
+     * Computes the combined {@link DeviceLoad} of a set of devices from the deltas of their counters in {@code /proc/diskstats}.
+     * {@link org.opensearch.monitor.fs.FsProbe} only reads the operation and sector counters, the latency and queue counters are
+     * only needed here so they are read directly rather than added to the node stats.
+     */
+    static class DiskStatsSampler implements Supplier<DeviceLoad> {
+
+        private final Set<Tuple<Integer, Integer>> devices;
+        private DiskStats previous;
+
+        DiskStatsSampler(Set<Tuple<Integer, Integer>> devices) {
+            this.devices = devices;
+        }
+
+        @Override
+        public synchronized DeviceLoad get() {
+            if (devices.isEmpty()) {
+                return null;
+            }
+            final DiskStats current;
+            try {
+                current = DiskStats.parse(readProcDiskStats(), devices, System.nanoTime());
+            } catch (Exception e) {
+                logger.debug(() -> new ParameterizedMessage(
+                    "unexpected exception processing /proc/diskstats for devices {}", devices), e);
+                return null;
+            }
+            final DiskStats previous = this.previous;
+            this.previous = current;
+            return previous == null ? null : current.loadSince(previous);
+        }
+
+        @SuppressForbidden(reason = "read /proc/diskstats")
+        List<String> readProcDiskStats() throws IOException {
+            return Files.readAllLines(PathUtils.get("/proc/diskstats"));
+        }
+    }
+
+    /**
+     * The cumulative counters of a set of devices at a point in time.
+     */
+    static final class DiskStats {
+        final long timeNanos;
+        final long operations;
+        final long operationMillis;
+        final long weightedMillis;
+
+        DiskStats(long timeNanos, long operations, long operationMillis, long weightedMillis) {
+            this.timeNanos = timeNanos;
+            this.operations = operations;
+            this.operationMillis = operationMillis;
+            this.weightedMillis = weightedMillis;
+        }
+
+        static DiskStats parse(List<String> lines, Set<Tuple<Integer, Integer>> devices, long timeNanos) {
+            long operations = 0;
+            long operationMillis = 0;
+            long weightedMillis = 0;
+            for (String line : lines) {
+                final String[] fields = line.trim().split("\\s+");
+                if (fields.length < 14
+                    || devices.contains(Tuple.tuple(Integer.parseInt(fields[0]), Integer.parseInt(fields[1]))) == false) {
+                    continue;
+                }
+                // reads completed, time spent reading, writes completed, time spent writing, weighted time spent doing I/Os
+                operations += Long.parseLong(fields[3]) + Long.parseLong(fields[7]);
+                operationMillis += Long.parseLong(fields[6]) + Long.parseLong(fields[10]);
+                weightedMillis += Long.parseLong(fields[13]);
+            }
+            return new DiskStats(timeNanos, operations, operationMillis, weightedMillis);
+        }
+
+        DeviceLoad loadSince(DiskStats previous) {
+            final long operations = this.operations - previous.operations;
+            final double elapsedMillis = (timeNanos - previous.timeNanos) / 1_000_000.0;
+            final double latencyMillis = operations > 0 ? (double) (operationMillis - previous.operationMillis) / operations : 0.0;
+            final double queueDepth = elapsedMillis > 0 ? (weightedMillis - previous.weightedMillis) / elapsedMillis : 0.0;
+            return new DeviceLoad(latencyMillis, queueDepth);
+        }
+    }
+}
@@ -32,6 +32,7 @@
 
 package org.opensearch.index.merge;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -60,6 +61,12 @@ public class MergeStats implements Writeable, ToXContentFragment {
 
     private long totalBytesPerSecAutoThrottle;
 
+    /** Total number of times the adaptive throttle backed off the IO rate of running merges. */
+    private long totalAdaptiveThrottleBackoffs;
+
+    /** Auto throttle IO rate once reduced by the adaptive throttle. */
+    private long totalBytesPerSecAdaptiveThrottle;
+
     public MergeStats() {
 
     }
@@ -76,6 +83,10 @@ public class MergeStats implements Writeable, ToXContentFragment {
         totalStoppedTimeInMillis = in.readVLong();
         totalThrottledTimeInMillis = in.readVLong();
         totalBytesPerSecAutoThrottle = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            totalAdaptiveThrottleBackoffs = in.readVLong();
+            totalBytesPerSecAdaptiveThrottle = in.readVLong();
+        }
     }
 
     public void add(long totalMerges, long totalMergeTime, long totalNumDocs, long totalSizeInBytes,
@@ -98,6 +109,16 @@ public class MergeStats implements Writeable, ToXContentFragment {
         }
     }
 
+    public void addAdaptiveThrottle(long adaptiveThrottleBackoffs, double mbPerSecAdaptiveThrottle) {
+        this.totalAdaptiveThrottleBackoffs += adaptiveThrottleBackoffs;
+        long bytesPerSecAdaptiveThrottle = (long) (mbPerSecAdaptiveThrottle * 1024 * 1024);
+        if (this.totalBytesPerSecAdaptiveThrottle == Long.MAX_VALUE || bytesPerSecAdaptiveThrottle == Long.MAX_VALUE) {
+            this.totalBytesPerSecAdaptiveThrottle = Long.MAX_VALUE;
+        } else {
+            this.totalBytesPerSecAdaptiveThrottle += bytesPerSecAdaptiveThrottle;
+        }
+    }
+
     public void add(MergeStats mergeStats) {
         if (mergeStats == null) {
             return;
@@ -124,6 +145,12 @@ public class MergeStats implements Writeable, ToXContentFragment {
         } else {
             this.totalBytesPerSecAutoThrottle += mergeStats.totalBytesPerSecAutoThrottle;
         }
+        this.totalAdaptiveThrottleBackoffs += mergeStats.totalAdaptiveThrottleBackoffs;
+        if (this.totalBytesPerSecAdaptiveThrottle == Long.MAX_VALUE || mergeStats.totalBytesPerSecAdaptiveThrottle == Long.MAX_VALUE) {
+            this.totalBytesPerSecAdaptiveThrottle = Long.MAX_VALUE;
+        } else {
+            this.totalBytesPerSecAdaptiveThrottle += mergeStats.totalBytesPerSecAdaptiveThrottle;
+        }
     }
 
     /**
@@ -191,6 +218,17 @@ public class MergeStats implements Writeable, ToXContentFragment {
         return totalBytesPerSecAutoThrottle;
     }
 
+    /**
+     * The total number of times the adaptive throttle backed off the IO rate of running merges.
+     */
+    public long getTotalAdaptiveThrottleBackoffs() {
+        return totalAdaptiveThrottleBackoffs;
+    }
+
+    public long getTotalBytesPerSecAdaptiveThrottle() {
+        return totalBytesPerSecAdaptiveThrottle;
+    }
+
     /**
      * The current number of merges executing.
      */
@@ -226,6 +264,12 @@ public class MergeStats implements Writeable, ToXContentFragment {
             builder.field(Fields.TOTAL_THROTTLE_BYTES_PER_SEC).value(new ByteSizeValue(totalBytesPerSecAutoThrottle).toString());
         }
         builder.field(Fields.TOTAL_THROTTLE_BYTES_PER_SEC_IN_BYTES, totalBytesPerSecAutoThrottle);
+        builder.field(Fields.TOTAL_ADAPTIVE_THROTTLE_BACKOFFS, totalAdaptiveThrottleBackoffs);
+        if (builder.humanReadable() && totalBytesPerSecAdaptiveThrottle != -1) {
+            builder.field(Fields.TOTAL_ADAPTIVE_THROTTLE_BYTES_PER_SEC)
+                .value(new ByteSizeValue(totalBytesPerSecAdaptiveThrottle).toString());
+        }
+        builder.field(Fields.TOTAL_ADAPTIVE_THROTTLE_BYTES_PER_SEC_IN_BYTES, totalBytesPerSecAdaptiveThrottle);
         builder.endObject();
         return builder;
     }
@@ -248,6 +292,9 @@ public class MergeStats implements Writeable, ToXContentFragment {
         static final String TOTAL_SIZE_IN_BYTES = "total_size_in_bytes";
         static final String TOTAL_THROTTLE_BYTES_PER_SEC_IN_BYTES = "total_auto_throttle_in_bytes";
         static final String TOTAL_THROTTLE_BYTES_PER_SEC = "total_auto_throttle";
+        static final String TOTAL_ADAPTIVE_THROTTLE_BACKOFFS = "total_adaptive_throttle_backoffs";
+        static final String TOTAL_ADAPTIVE_THROTTLE_BYTES_PER_SEC_IN_BYTES = "total_adaptive_throttle_in_bytes";
+        static final String TOTAL_ADAPTIVE_THROTTLE_BYTES_PER_SEC = "total_adaptive_throttle";
     }
 
     @Override
@@ -263,5 +310,9 @@ public class MergeStats implements Writeable, ToXContentFragment {
         out.writeVLong(totalStoppedTimeInMillis);
         out.writeVLong(totalThrottledTimeInMillis);
         out.writeVLong(totalBytesPerSecAutoThrottle);
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeVLong(totalAdaptiveThrottleBackoffs);
+            out.writeVLong(totalBytesPerSecAdaptiveThrottle);
+        }
     }
 }
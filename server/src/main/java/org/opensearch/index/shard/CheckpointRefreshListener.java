@@ -0,0 +1,40 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.apache.lucene.search.ReferenceManager;
+import org.opensearch.indices.replication.checkpoint.SegmentReplicationCheckpointPublisher;
+
+/**
+ * A {@link ReferenceManager.RefreshListener} that publishes a checkpoint to the replicas of a segment replicated index every time
+ * its primary refreshes, so that they copy the new segments.
+ */
+final class CheckpointRefreshListener implements ReferenceManager.RefreshListener {
+
+    private final IndexShard shard;
+    private final SegmentReplicationCheckpointPublisher publisher;
+
+    CheckpointRefreshListener(IndexShard shard, SegmentReplicationCheckpointPublisher publisher) {
+        this.shard = shard;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void beforeRefresh() {
+        // Do nothing
+    }
+
+    @Override
+    public void afterRefresh(boolean didRefresh) {
+        // replicas catch up once they are started, so there is no need to publish while the primary is recovering
+        if (didRefresh && shard.routingEntry().primary() && shard.state() == IndexShardState.STARTED) {
+            publisher.publish(shard);
+        }
+    }
+}
@@ -107,6 +107,7 @@ import org.opensearch.index.engine.Engine.GetResult;
 import org.opensearch.index.engine.EngineConfig;
 import org.opensearch.index.engine.EngineException;
 import org.opensearch.index.engine.EngineFactory;
+import org.opensearch.index.engine.NRTReplicationEngine;
 import org.opensearch.index.engine.ReadOnlyEngine;
 import org.opensearch.index.engine.RefreshFailedEngineException;
 import org.opensearch.index.engine.SafeCommitInfo;
@@ -127,6 +128,7 @@ import org.opensearch.index.mapper.ParsedDocument;
 import org.opensearch.index.mapper.RootObjectMapper;
 import org.opensearch.index.mapper.SourceToParse;
 import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.merge.AdaptiveMergeThrottle;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.recovery.RecoveryStats;
 import org.opensearch.index.refresh.RefreshStats;
@@ -148,6 +150,7 @@ import org.opensearch.index.store.StoreStats;
 import org.opensearch.index.translog.Translog;
 import org.opensearch.index.translog.TranslogConfig;
 import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.index.translog.TranslogSyncCoordinator;
 import org.opensearch.index.warmer.ShardIndexWarmerService;
 import org.opensearch.index.warmer.WarmerStats;
 import org.opensearch.indices.IndexingMemoryController;
@@ -159,6 +162,8 @@ import org.opensearch.indices.recovery.PeerRecoveryTargetService;
 import org.opensearch.indices.recovery.RecoveryFailedException;
 import org.opensearch.indices.recovery.RecoveryState;
 import org.opensearch.indices.recovery.RecoveryTarget;
+import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
+import org.opensearch.indices.replication.checkpoint.SegmentReplicationCheckpointPublisher;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.repositories.Repository;
 import org.opensearch.rest.RestStatus;
@@ -288,6 +293,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     private final AtomicLong lastSearcherAccess = new AtomicLong();
     private final AtomicReference<Translog.Location> pendingRefreshLocation = new AtomicReference<>();
     private final RefreshPendingLocationListener refreshPendingLocationListener;
+    @Nullable
+    private final CheckpointRefreshListener checkpointRefreshListener;
+    @Nullable
+    private final AdaptiveMergeThrottle adaptiveMergeThrottle;
     private volatile boolean useRetentionLeasesInPeerRecovery;
 
     public IndexShard(
@@ -309,7 +318,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             final List<IndexingOperationListener> listeners,
             final Runnable globalCheckpointSyncer,
             final RetentionLeaseSyncer retentionLeaseSyncer,
-            final CircuitBreakerService circuitBreakerService) throws IOException {
+            final CircuitBreakerService circuitBreakerService,
+            final @Nullable TranslogSyncCoordinator translogSyncCoordinator,
+            final @Nullable AdaptiveMergeThrottle adaptiveMergeThrottle,
+            final SegmentReplicationCheckpointPublisher checkpointPublisher) throws IOException {
         super(shardRouting.shardId(), indexSettings);
         assert shardRouting.initializing();
         this.shardRouting = shardRouting;
@@ -323,7 +335,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         this.indexSortSupplier = indexSortSupplier;
         this.indexEventListener = indexEventListener;
         this.threadPool = threadPool;
-        this.translogSyncProcessor = createTranslogSyncProcessor(logger, threadPool.getThreadContext(), this::getEngine);
+        this.translogSyncer = this::syncTranslog;
+        this.translogSyncProcessor = createTranslogSyncProcessor(logger, threadPool.getThreadContext(), translogSyncer);
+        this.translogSyncCoordinator = translogSyncCoordinator;
+        this.adaptiveMergeThrottle = adaptiveMergeThrottle;
         this.mapperService = mapperService;
         this.indexCache = indexCache;
         this.internalIndexingStats = new InternalIndexingStats();
@@ -389,6 +404,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         persistMetadata(path, indexSettings, shardRouting, null, logger);
         this.useRetentionLeasesInPeerRecovery = replicationTracker.hasAllPeerRecoveryRetentionLeases();
         this.refreshPendingLocationListener = new RefreshPendingLocationListener();
+        this.checkpointRefreshListener = indexSettings.isSegRepEnabled()
+            ? new CheckpointRefreshListener(this, Objects.requireNonNull(checkpointPublisher)) : null;
     }
 
     public ThreadPool getThreadPool() {
@@ -563,6 +580,9 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                                 ", current routing: " + currentRouting + ", new routing: " + newRouting;
                             assert getOperationPrimaryTerm() == newPrimaryTerm;
                             try {
+                                if (indexSettings.isSegRepEnabled()) {
+                                    promoteNRTReplicaToPrimary();
+                                }
                                 replicationTracker.activatePrimaryMode(getLocalCheckpoint());
                                 ensurePeerRecoveryRetentionLeasesExist();
                                 /*
@@ -761,22 +781,66 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                                                            long ifSeqNo, long ifPrimaryTerm, long autoGeneratedTimestamp,
                                                            boolean isRetry)
         throws IOException {
+        return applyIndexOperationOnPrimary(version, versionType, sourceToParse, ifSeqNo, ifPrimaryTerm, autoGeneratedTimestamp,
+            isRetry, null);
+    }
+
+    /**
+     * Applies an index operation on the primary, using the given document if it was parsed from the same source with the
+     * current mapping.
+     */
+    public Engine.IndexResult applyIndexOperationOnPrimary(long version, VersionType versionType, SourceToParse sourceToParse,
+                                                           long ifSeqNo, long ifPrimaryTerm, long autoGeneratedTimestamp,
+                                                           boolean isRetry, @Nullable PreParsedDocument preParsedDocument)
+        throws IOException {
         assert versionType.validateVersionForWrites(version);
         return applyIndexOperation(getEngine(), UNASSIGNED_SEQ_NO, getOperationPrimaryTerm(), version, versionType, ifSeqNo,
-            ifPrimaryTerm, autoGeneratedTimestamp, isRetry, Engine.Operation.Origin.PRIMARY, sourceToParse);
+            ifPrimaryTerm, autoGeneratedTimestamp, isRetry, Engine.Operation.Origin.PRIMARY, sourceToParse, preParsedDocument);
+    }
+
+    /**
+     * Parses the given source with the current mapping ahead of the application of its index operation, which allows
+     * parsing the documents of a bulk request on several threads while their operations are applied in order. Returns
+     * {@code null} if the document can't be parsed, in which case it is parsed again and the failure is reported when the
+     * operation is applied.
+     */
+    @Nullable
+    public PreParsedDocument preParseIndexOperation(SourceToParse sourceToParse) {
+        final long startTime = System.nanoTime();
+        try {
+            final String resolvedType = mapperService.resolveDocumentType(sourceToParse.type());
+            final DocumentMapper documentMapper = mapperService.documentMapper(resolvedType);
+            if (documentMapper == null) {
+                // the type is created when the operation is applied
+                return null;
+            }
+            final SourceToParse sourceWithResolvedType;
+            if (resolvedType.equals(sourceToParse.type())) {
+                sourceWithResolvedType = sourceToParse;
+            } else {
+                sourceWithResolvedType = new SourceToParse(sourceToParse.index(), resolvedType, sourceToParse.id(),
+                    sourceToParse.source(), sourceToParse.getXContentType(), sourceToParse.routing());
+            }
+            final ParsedDocument doc = documentMapper.parse(sourceWithResolvedType);
+            return new PreParsedDocument(documentMapper, doc, System.nanoTime() - startTime);
+        } catch (Exception e) {
+            logger.trace(() -> new ParameterizedMessage("failed to parse document [{}] ahead of indexing", sourceToParse.id()), e);
+            return null;
+        }
     }
 
     public Engine.IndexResult applyIndexOperationOnReplica(long seqNo, long opPrimaryTerm, long version, long autoGeneratedTimeStamp,
         boolean isRetry, SourceToParse sourceToParse)
         throws IOException {
         return applyIndexOperation(getEngine(), seqNo, opPrimaryTerm, version, null, UNASSIGNED_SEQ_NO, 0,
-            autoGeneratedTimeStamp, isRetry, Engine.Operation.Origin.REPLICA, sourceToParse);
+            autoGeneratedTimeStamp, isRetry, Engine.Operation.Origin.REPLICA, sourceToParse, null);
     }
 
     private Engine.IndexResult applyIndexOperation(Engine engine, long seqNo, long opPrimaryTerm, long version,
                                                    @Nullable VersionType versionType, long ifSeqNo, long ifPrimaryTerm,
                                                    long autoGeneratedTimeStamp, boolean isRetry, Engine.Operation.Origin origin,
-                                                   SourceToParse sourceToParse) throws IOException {
+                                                   SourceToParse sourceToParse, @Nullable PreParsedDocument preParsedDocument)
+        throws IOException {
         assert opPrimaryTerm <= getOperationPrimaryTerm()
                 : "op term [ " + opPrimaryTerm + " ] > shard term [" + getOperationPrimaryTerm() + "]";
         ensureWriteAllowed(origin);
@@ -790,8 +854,15 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 sourceWithResolvedType = new SourceToParse(sourceToParse.index(), resolvedType, sourceToParse.id(),
                     sourceToParse.source(), sourceToParse.getXContentType(), sourceToParse.routing());
             }
-            operation = prepareIndex(docMapper(resolvedType), sourceWithResolvedType,
-                seqNo, opPrimaryTerm, version, versionType, origin, autoGeneratedTimeStamp, isRetry, ifSeqNo, ifPrimaryTerm);
+            final DocumentMapperForType docMapper = docMapper(resolvedType);
+            if (preParsedDocument != null && preParsedDocument.isParsedWith(docMapper)) {
+                assert preParsedDocument.parsedDocument().id().equals(sourceToParse.id()) : "document parsed from another source";
+                operation = prepareIndex(preParsedDocument, seqNo, opPrimaryTerm, version, versionType, origin, autoGeneratedTimeStamp,
+                    isRetry, ifSeqNo, ifPrimaryTerm);
+            } else {
+                operation = prepareIndex(docMapper, sourceWithResolvedType,
+                    seqNo, opPrimaryTerm, version, versionType, origin, autoGeneratedTimeStamp, isRetry, ifSeqNo, ifPrimaryTerm);
+            }
             Mapping update = operation.parsedDoc().dynamicMappingsUpdate();
             if (update != null) {
                 return new Engine.IndexResult(update);
@@ -822,6 +893,17 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             ifSeqNo, ifPrimaryTerm);
     }
 
+    private static Engine.Index prepareIndex(PreParsedDocument preParsedDocument, long seqNo, long primaryTerm, long version,
+                                             VersionType versionType, Engine.Operation.Origin origin, long autoGeneratedIdTimestamp,
+                                             boolean isRetry, long ifSeqNo, long ifPrimaryTerm) {
+        // account for the time it took to parse the document like if it was parsed here
+        long startTime = System.nanoTime() - preParsedDocument.parseTimeInNanos();
+        ParsedDocument doc = preParsedDocument.parsedDocument();
+        Term uid = new Term(IdFieldMapper.NAME, Uid.encodeId(doc.id()));
+        return new Engine.Index(uid, doc, seqNo, primaryTerm, version, versionType, origin, startTime, autoGeneratedIdTimestamp, isRetry,
+            ifSeqNo, ifPrimaryTerm);
+    }
+
     private Engine.IndexResult index(Engine engine, Engine.Index index) throws IOException {
         active.set(true);
         final Engine.IndexResult result;
@@ -1082,7 +1164,14 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
     }
 
     public TranslogStats translogStats() {
-        return getEngine().getTranslogStats();
+        // the engine might return the same instance every time, it must not be modified
+        final TranslogStats translogStats = new TranslogStats();
+        translogStats.add(getEngine().getTranslogStats());
+        translogStats.setSyncStats(translogSyncMetric.count(), translogSyncedLocations.count(),
+            TimeUnit.NANOSECONDS.toMillis(translogSyncMetric.sum()));
+        translogStats.setGroupCommitStats(translogSyncWaveStats.getWaves(), translogSyncWaveStats.getWaveShards(),
+            TimeUnit.NANOSECONDS.toMillis(translogSyncWaveStats.getWaveTimeInNanos()));
+        return translogStats;
     }
 
     public CompletionStats completionStats(String... fields) {
@@ -1194,6 +1283,63 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         }
     }
 
+    /**
+     * Returns the {@link ReplicationCheckpoint} of the segments that are currently searchable on this shard.
+     */
+    public ReplicationCheckpoint getLatestReplicationCheckpoint() throws IOException {
+        try (Engine.SegmentInfosRef segmentInfosRef = acquireLatestSegmentInfos()) {
+            final SegmentInfos segmentInfos = segmentInfosRef.getSegmentInfos();
+            return new ReplicationCheckpoint(shardId, getOperationPrimaryTerm(), segmentInfos.getGeneration(),
+                segmentInfos.getVersion(), segmentInfosRef.getCheckpoint());
+        }
+    }
+
+    /**
+     * Acquires the segment infos of the segments that are currently searchable on this shard, along with a sequence number such that
+     * all operations up to and including it are contained in these segments. The files of the segments are not deleted until the
+     * returned reference is closed.
+     */
+    public Engine.SegmentInfosRef acquireLatestSegmentInfos() throws EngineException {
+        return getEngine().acquireLatestSegmentInfos();
+    }
+
+    /**
+     * Installs segments that were copied from the primary of a segment replicated index, all their files must be in the store already.
+     *
+     * @param infos the segment infos of the primary
+     * @param seqNo a sequence number such that all operations up to and including it are contained in the segments
+     */
+    public void finalizeReplication(SegmentInfos infos, long seqNo) throws IOException {
+        final Engine engine = getEngine();
+        if (engine instanceof NRTReplicationEngine == false) {
+            throw new IllegalStateException("shard [" + shardId + "] is not a segment replication replica, engine is [" + engine + "]");
+        }
+        ((NRTReplicationEngine) engine).updateSegments(infos, seqNo);
+    }
+
+    /**
+     * Swaps the engine of a replica that copied its segments from the primary for an engine that can index, the operations of the
+     * translog that are not in the copied segments are indexed again.
+     */
+    private void promoteNRTReplicaToPrimary() throws IOException {
+        synchronized (engineMutex) {
+            final Engine currentEngine = currentEngineReference.get();
+            if (currentEngine instanceof NRTReplicationEngine == false) {
+                return;
+            }
+            verifyNotClosed();
+            // commit the latest copied segments so that the translog replay starts from them
+            currentEngine.flush(true, true);
+            IOUtils.close(currentEngineReference.getAndSet(null));
+            final Engine newEngine = engineFactory.newReadWriteEngine(newEngineConfig(replicationTracker));
+            onNewEngine(newEngine);
+            currentEngineReference.set(newEngine);
+            newEngine.recoverFromTranslog((engine, snapshot) -> runTranslogRecovery(engine, snapshot,
+                Engine.Operation.Origin.LOCAL_TRANSLOG_RECOVERY, () -> {}), Long.MAX_VALUE);
+        }
+        onSettingsChanged();
+    }
+
     /**
      * Snapshots the most recent safe index commit from the currently running engine.
      * All index files referenced by this index commit won't be freed until the commit/snapshot is closed.
@@ -1665,7 +1811,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             assert currentEngineReference.get() == null : "engine is running";
             verifyNotClosed();
             // we must create a new engine under mutex (see IndexShard#snapshotStoreMetadata).
-            final Engine newEngine = engineFactory.newReadWriteEngine(config);
+            final Engine newEngine = newEngine(config);
             onNewEngine(newEngine);
             currentEngineReference.set(newEngine);
             // We set active because we are now writing operations to the engine; this way,
@@ -1692,6 +1838,14 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return true;
     }
 
+    private Engine newEngine(EngineConfig config) {
+        if (indexSettings.isSegRepEnabled() && shardRouting.primary() == false) {
+            // replicas of segment replicated indices don't index, they copy the segments of the primary
+            return new NRTReplicationEngine(config);
+        }
+        return engineFactory.newReadWriteEngine(config);
+    }
+
     private void onNewEngine(Engine newEngine) {
         assert Thread.holdsLock(engineMutex);
         refreshListeners.setCurrentRefreshLocationSupplier(newEngine::getTranslogLastWriteLocation);
@@ -2785,6 +2939,13 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             mapperService.resolveDocumentType(type));
     }
 
+    private List<ReferenceManager.RefreshListener> externalRefreshListeners() {
+        if (checkpointRefreshListener == null) {
+            return Arrays.asList(refreshListeners, refreshPendingLocationListener);
+        }
+        return Arrays.asList(refreshListeners, refreshPendingLocationListener, checkpointRefreshListener);
+    }
+
     private EngineConfig newEngineConfig(LongSupplier globalCheckpointSupplier) {
         final Sort indexSort = indexSortSupplier.get();
         final Engine.Warmer warmer = reader -> {
@@ -2800,10 +2961,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                 similarityService.similarity(mapperService), codecService, shardEventListener,
                 indexCache != null ? indexCache.query() : null, cachingPolicy, translogConfig,
                 IndexingMemoryController.SHARD_INACTIVE_TIME_SETTING.get(indexSettings.getSettings()),
-                Arrays.asList(refreshListeners, refreshPendingLocationListener),
+                externalRefreshListeners(),
                 Collections.singletonList(new RefreshMetricUpdater(refreshMetric)),
                 indexSort, circuitBreakerService, globalCheckpointSupplier, replicationTracker::getRetentionLeases,
-                () -> getOperationPrimaryTerm(), tombstoneDocSupplier());
+                () -> getOperationPrimaryTerm(), tombstoneDocSupplier(), adaptiveMergeThrottle);
     }
 
     /**
@@ -3110,38 +3271,62 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         return indexShardOperationPermits.getActiveOperations();
     }
 
+    private final CheckedConsumer<List<Translog.Location>, IOException> translogSyncer;
     private final AsyncIOProcessor<Translog.Location> translogSyncProcessor;
+    @Nullable
+    private final TranslogSyncCoordinator translogSyncCoordinator;
+    private final MeanMetric translogSyncMetric = new MeanMetric();
+    private final CounterMetric translogSyncedLocations = new CounterMetric();
+    private final TranslogSyncCoordinator.WaveStats translogSyncWaveStats = new TranslogSyncCoordinator.WaveStats();
 
-    private static AsyncIOProcessor<Translog.Location> createTranslogSyncProcessor(Logger logger, ThreadContext threadContext,
-                                                                                   Supplier<Engine> engineSupplier) {
+    private static AsyncIOProcessor<Translog.Location> createTranslogSyncProcessor(
+            Logger logger, ThreadContext threadContext, CheckedConsumer<List<Translog.Location>, IOException> translogSyncer) {
         return new AsyncIOProcessor<Translog.Location>(logger, 1024, threadContext) {
             @Override
             protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
-                try {
-                    engineSupplier.get().ensureTranslogSynced(candidates.stream().map(Tuple::v1));
-                } catch (AlreadyClosedException ex) {
-                    // that's fine since we already synced everything on engine close - this also is conform with the methods
-                    // documentation
-                } catch (IOException ex) { // if this fails we are in deep shit - fail the request
-                    logger.debug("failed to sync translog", ex);
-                    throw ex;
+                final List<Translog.Location> locations = new ArrayList<>(candidates.size());
+                for (Tuple<Translog.Location, Consumer<Exception>> candidate : candidates) {
+                    locations.add(candidate.v1());
                 }
+                translogSyncer.accept(locations);
             }
         };
     }
 
+    private void syncTranslog(List<Translog.Location> locations) throws IOException {
+        final long startTime = System.nanoTime();
+        try {
+            getEngine().ensureTranslogSynced(locations.stream());
+        } catch (AlreadyClosedException ex) {
+            // that's fine since we already synced everything on engine close - this also is conform with the methods
+            // documentation
+            return;
+        } catch (IOException ex) { // if this fails we are in deep shit - fail the request
+            logger.debug("failed to sync translog", ex);
+            throw ex;
+        }
+        translogSyncMetric.inc(System.nanoTime() - startTime);
+        translogSyncedLocations.inc(locations.size());
+    }
+
     /**
      * Syncs the given location with the underlying storage unless already synced. This method might return immediately without
      * actually fsyncing the location until the sync listener is called. Yet, unless there is already another thread fsyncing
      * the transaction log the caller thread will be hijacked to run the fsync for all pending fsync operations.
      * This method allows indexing threads to continue indexing without blocking on fsync calls. We ensure that there is only
      * one thread blocking on the sync an all others can continue indexing.
+     * If a {@link TranslogSyncCoordinator} is configured, the pending syncs of this shard are batched with the ones of all the other
+     * shards on the same device instead.
      * NOTE: if the syncListener throws an exception when it's processed the exception will only be logged. Users should make sure that the
      * listener handles all exception cases internally.
      */
     public final void sync(Translog.Location location, Consumer<Exception> syncListener) {
         verifyNotClosed();
-        translogSyncProcessor.put(location, syncListener);
+        if (translogSyncCoordinator != null) {
+            translogSyncCoordinator.sync(path.getRootDataPath(), translogSyncer, translogSyncWaveStats, location, syncListener);
+        } else {
+            translogSyncProcessor.put(location, syncListener);
+        }
     }
 
     public void sync() throws IOException {
@@ -3514,7 +3699,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                     }
                 };
             IOUtils.close(currentEngineReference.getAndSet(readOnlyEngine));
-            newEngineReference.set(engineFactory.newReadWriteEngine(newEngineConfig(replicationTracker)));
+            newEngineReference.set(newEngine(newEngineConfig(replicationTracker)));
             onNewEngine(newEngineReference.get());
         }
         final Engine.TranslogRecoveryRunner translogRunner = (engine, snapshot) -> runTranslogRecovery(
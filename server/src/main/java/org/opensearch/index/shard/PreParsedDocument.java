@@ -0,0 +1,49 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.shard;
+
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.mapper.DocumentMapperForType;
+import org.opensearch.index.mapper.ParsedDocument;
+
+/**
+ * A document that was parsed ahead of the application of its index operation, see
+ * {@link IndexShard#preParseIndexOperation}. The document can only be used if the mapping did not change in the meantime,
+ * otherwise it is parsed again when the operation is applied.
+ */
+public final class PreParsedDocument {
+
+    private final DocumentMapper documentMapper;
+    private final ParsedDocument parsedDocument;
+    private final long parseTimeInNanos;
+
+    PreParsedDocument(DocumentMapper documentMapper, ParsedDocument parsedDocument, long parseTimeInNanos) {
+        this.documentMapper = documentMapper;
+        this.parsedDocument = parsedDocument;
+        this.parseTimeInNanos = parseTimeInNanos;
+    }
+
+    /**
+     * Returns true if the document was parsed with the given mapper.
+     */
+    boolean isParsedWith(DocumentMapperForType docMapper) {
+        return docMapper.getMapping() == null && docMapper.getDocumentMapper() == documentMapper;
+    }
+
+    ParsedDocument parsedDocument() {
+        return parsedDocument;
+    }
+
+    /**
+     * The time it took to parse the document, which is accounted for in the time of the index operation.
+     */
+    long parseTimeInNanos() {
+        return parseTimeInNanos;
+    }
+}
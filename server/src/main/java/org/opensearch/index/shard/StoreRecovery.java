@@ -489,7 +489,11 @@ final class StoreRecovery {
         final ActionListener<Void> restoreListener = ActionListener.wrap(
             v -> {
                 final Store store = indexShard.store();
-                bootstrap(indexShard, store);
+                if (indexShard.indexSettings().isRemoteSnapshot()) {
+                    bootstrapRemoteSnapshot(indexShard, store);
+                } else {
+                    bootstrap(indexShard, store);
+                }
                 assert indexShard.shardRouting.primary() : "only primary shards can recover from store";
                 writeEmptyRetentionLeasesFile(indexShard);
                 indexShard.openEngineAndRecoverFromTranslog();
@@ -520,6 +524,12 @@ final class StoreRecovery {
                 indexIdListener.onResponse(indexId);
             }
             assert indexShard.getEngineOrNull() == null;
+            if (indexShard.indexSettings().isRemoteSnapshot()) {
+                // there is nothing to copy, the store's directory reads the snapshotted files from the repository on demand
+                indexShard.recoveryState().getIndex().setFileDetailsComplete();
+                restoreListener.onResponse(null);
+                return;
+            }
             indexIdListener.whenComplete(idx -> repository.restoreShard(indexShard.store(), restoreSource.snapshot().getSnapshotId(),
                 idx, snapshotShardId, indexShard.recoveryState(), restoreListener), restoreListener::onFailure);
         } catch (Exception e) {
@@ -535,4 +545,15 @@ final class StoreRecovery {
             indexShard.shardPath().resolveTranslog(), localCheckpoint, shardId, indexShard.getPendingPrimaryTerm());
         store.associateIndexWithNewTranslog(translogUUID);
     }
+
+    /**
+     * The commit of a remote snapshot index can't be modified, so instead of associating it with a new translog this creates an
+     * empty translog with the translog UUID that the snapshotted commit already references.
+     */
+    private void bootstrapRemoteSnapshot(final IndexShard indexShard, final Store store) throws IOException {
+        final SegmentInfos segmentInfos = store.readLastCommittedSegmentsInfo();
+        final long localCheckpoint = Long.parseLong(segmentInfos.userData.get(SequenceNumbers.LOCAL_CHECKPOINT_KEY));
+        Translog.createEmptyTranslog(indexShard.shardPath().resolveTranslog(), shardId, localCheckpoint,
+            indexShard.getPendingPrimaryTerm(), segmentInfos.userData.get(Translog.TRANSLOG_UUID_KEY), null);
+    }
 }
@@ -308,6 +308,53 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
         }
     }
 
+    /**
+     * Returns the metadata of the files referenced by the given segment infos, excluding the segments_N file. Unlike
+     * {@link #getMetadata(IndexCommit)} the segment infos don't need to be committed, segment replication uses this method on the
+     * in-memory infos of the last refreshed reader. The caller must make sure that the files of the infos are not deleted
+     * concurrently, for instance by holding a reference on a reader that uses them.
+     */
+    public Map<String, StoreFileMetadata> getSegmentMetadataMap(SegmentInfos segmentInfos) throws IOException {
+        ensureOpen();
+        failIfCorrupted();
+        final Map<String, StoreFileMetadata> metadata = new HashMap<>();
+        try {
+            MetadataSnapshot.loadSegmentFilesMetadata(segmentInfos, directory, metadata, logger);
+        } catch (CorruptIndexException | IndexFormatTooOldException | IndexFormatTooNewException ex) {
+            markStoreCorrupted(ex);
+            throw ex;
+        }
+        return unmodifiableMap(metadata);
+    }
+
+    /**
+     * Commits the given segment infos, which were copied from the primary by segment replication, so that the files they reference
+     * survive a restart. The sequence number information of the commit is replaced with the given values and the translog UUID with
+     * the one of this shard's translog, the rest of the user data is the one of the primary.
+     *
+     * @param latestSegmentInfos the segment infos to commit, their generation is incremented
+     * @param maxSeqNo           the maximum sequence number of the operations contained in the segments
+     * @param processedCheckpoint a sequence number such that all operations up to and including it are contained in the segments
+     * @param translogUUID       the UUID of this shard's translog
+     */
+    public void commitSegmentInfos(SegmentInfos latestSegmentInfos, long maxSeqNo, long processedCheckpoint,
+                                   String translogUUID) throws IOException {
+        metadataLock.writeLock().lock();
+        try {
+            final Map<String, String> userData = new HashMap<>(latestSegmentInfos.getUserData());
+            userData.put(SequenceNumbers.LOCAL_CHECKPOINT_KEY, Long.toString(processedCheckpoint));
+            userData.put(SequenceNumbers.MAX_SEQ_NO, Long.toString(maxSeqNo));
+            userData.put(Translog.TRANSLOG_UUID_KEY, translogUUID);
+            latestSegmentInfos.setUserData(userData, true);
+            // the segment files must be durable before the commit that references them
+            directory.sync(latestSegmentInfos.files(false));
+            latestSegmentInfos.commit(directory);
+            directory.syncMetaData();
+        } finally {
+            metadataLock.writeLock().unlock();
+        }
+    }
+
     /**
      * Renames all the given files from the key of the map to the
      * value of the map. All successfully renamed files are removed from the map in-place.
@@ -861,25 +908,7 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
                 final SegmentInfos segmentCommitInfos = Store.readSegmentsInfo(commit, directory);
                 numDocs = Lucene.getNumDocs(segmentCommitInfos);
                 commitUserDataBuilder.putAll(segmentCommitInfos.getUserData());
-                // we don't know which version was used to write so we take the max version.
-                Version maxVersion = segmentCommitInfos.getMinSegmentLuceneVersion();
-                for (SegmentCommitInfo info : segmentCommitInfos) {
-                    final Version version = info.info.getVersion();
-                    if (version == null) {
-                        // version is written since 3.1+: we should have already hit IndexFormatTooOld.
-                        throw new IllegalArgumentException("expected valid version value: " + info.info.toString());
-                    }
-                    if (version.onOrAfter(maxVersion)) {
-                        maxVersion = version;
-                    }
-                    for (String file : info.files()) {
-                        checksumFromLuceneFile(directory, file, builder, logger, version,
-                            SEGMENT_INFO_EXTENSION.equals(IndexFileNames.getExtension(file)));
-                    }
-                }
-                if (maxVersion == null) {
-                    maxVersion = org.opensearch.Version.CURRENT.minimumIndexCompatibilityVersion().luceneVersion;
-                }
+                final Version maxVersion = loadSegmentFilesMetadata(segmentCommitInfos, directory, builder, logger);
                 final String segmentsFile = segmentCommitInfos.getSegmentsFileName();
                 checksumFromLuceneFile(directory, segmentsFile, builder, logger, maxVersion, true);
             } catch (CorruptIndexException | IndexNotFoundException | IndexFormatTooOldException | IndexFormatTooNewException ex) {
@@ -906,6 +935,34 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
             return new LoadedMetadata(unmodifiableMap(builder), unmodifiableMap(commitUserDataBuilder), numDocs);
         }
 
+        /**
+         * Adds the metadata of the files of every segment of the given infos to the builder, the segments_N file is not included.
+         * Returns the maximum Lucene version that wrote one of the segments.
+         */
+        static Version loadSegmentFilesMetadata(SegmentInfos segmentInfos, Directory directory,
+                                                Map<String, StoreFileMetadata> builder, Logger logger) throws IOException {
+            // we don't know which version was used to write so we take the max version.
+            Version maxVersion = segmentInfos.getMinSegmentLuceneVersion();
+            for (SegmentCommitInfo info : segmentInfos) {
+                final Version version = info.info.getVersion();
+                if (version == null) {
+                    // version is written since 3.1+: we should have already hit IndexFormatTooOld.
+                    throw new IllegalArgumentException("expected valid version value: " + info.info.toString());
+                }
+                if (version.onOrAfter(maxVersion)) {
+                    maxVersion = version;
+                }
+                for (String file : info.files()) {
+                    checksumFromLuceneFile(directory, file, builder, logger, version,
+                        SEGMENT_INFO_EXTENSION.equals(IndexFileNames.getExtension(file)));
+                }
+            }
+            if (maxVersion == null) {
+                maxVersion = org.opensearch.Version.CURRENT.minimumIndexCompatibilityVersion().luceneVersion;
+            }
+            return maxVersion;
+        }
+
         private static void checksumFromLuceneFile(Directory directory, String file, Map<String, StoreFileMetadata> builder,
                 Logger logger, Version version, boolean readFileAsHash) throws IOException {
             final String checksum;
@@ -965,6 +1022,29 @@ public class Store extends AbstractIndexShardComponent implements Closeable, Ref
         private static final String LIV_FILE_EXTENSION = "liv"; // lucene 5 delete file
         private static final String SEGMENT_INFO_EXTENSION = "si";
 
+        /**
+         * Returns a diff between this snapshot and the given target snapshot on a per-file basis. Unlike
+         * {@link #recoveryDiff(MetadataSnapshot)}, the files of a segment are not treated as a unit: segment replication only copies
+         * the files that the target is missing and a file that is identical on both sides is always reported as identical.
+         */
+        public RecoveryDiff segmentReplicationDiff(MetadataSnapshot recoveryTargetSnapshot) {
+            final List<StoreFileMetadata> identical = new ArrayList<>();
+            final List<StoreFileMetadata> different = new ArrayList<>();
+            final List<StoreFileMetadata> missing = new ArrayList<>();
+            for (StoreFileMetadata meta : this) {
+                final StoreFileMetadata targetMetadata = recoveryTargetSnapshot.get(meta.name());
+                if (targetMetadata == null) {
+                    missing.add(meta);
+                } else if (targetMetadata.isSame(meta)) {
+                    identical.add(meta);
+                } else {
+                    different.add(meta);
+                }
+            }
+            return new RecoveryDiff(Collections.unmodifiableList(identical),
+                Collections.unmodifiableList(different), Collections.unmodifiableList(missing));
+        }
+
         /**
          * Returns a diff between the two snapshots that can be used for recovery. The given snapshot is treated as the
          * recovery target and this snapshot as the source. The returned diff will hold a list of files that are:
@@ -0,0 +1,266 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.util.concurrent.AbstractRefCounted;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.core.internal.io.Streams;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * A node level cache of the blocks of snapshotted files that are read by remote snapshot indices, see
+ * {@link RemoteSnapshotDirectory}. Blobs are split in fixed size blocks that are downloaded with a ranged read on first access
+ * and written to one file each under a node local directory. The cache is bounded by the total size of its files and evicts the
+ * least recently used blocks first, and holds at most <code>node.remote_snapshot.cache.max_blocks</code> blocks. Blocks don't keep
+ * their files open, every read opens the file of the block it reads from.
+ * <p>
+ * The content of the directory does not survive a restart, blocks are simply downloaded again the next time they are read.
+ */
+public final class RemoteSnapshotBlockCache implements Closeable {
+
+    /**
+     * The maximum total size of the cached blocks on this node.
+     */
+    public static final Setting<ByteSizeValue> SIZE_SETTING = Setting.byteSizeSetting("node.remote_snapshot.cache.size",
+        new ByteSizeValue(10, ByteSizeUnit.GB), Property.NodeScope);
+    /**
+     * The size of the blocks that are downloaded and cached, larger blocks need fewer requests to the repository but waste more
+     * disk space and bandwidth on random reads.
+     */
+    public static final Setting<ByteSizeValue> BLOCK_SIZE_SETTING = Setting.byteSizeSetting("node.remote_snapshot.cache.block_size",
+        new ByteSizeValue(1, ByteSizeUnit.MB), new ByteSizeValue(4, ByteSizeUnit.KB), new ByteSizeValue(64, ByteSizeUnit.MB),
+        Property.NodeScope);
+    /**
+     * The maximum number of cached blocks on this node, which bounds the memory used to track them when blocks are small.
+     */
+    public static final Setting<Integer> MAX_BLOCKS_SETTING = Setting.intSetting("node.remote_snapshot.cache.max_blocks", 65_536, 1,
+        Property.NodeScope);
+
+    /**
+     * The name of the cache's directory under the node's first data path.
+     */
+    public static final String CACHE_FOLDER = "remote_snapshot_cache";
+
+    @Nullable
+    private final Path path;
+    private final int blockSize;
+    private final Cache<BlockKey, CachedBlock> cache;
+    private final AtomicLong fileCounter = new AtomicLong();
+    // the files of released blocks, they are deleted by the threads that acquire blocks since blocks are evicted under the lock
+    // of the cache
+    private final Queue<Path> pendingDeletes = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param path the directory of the cache, or <code>null</code> if this node has no local storage
+     */
+    public RemoteSnapshotBlockCache(Settings settings, @Nullable Path path) throws IOException {
+        final long sizeInBytes = SIZE_SETTING.get(settings).getBytes();
+        this.blockSize = Math.toIntExact(BLOCK_SIZE_SETTING.get(settings).getBytes());
+        if (sizeInBytes < blockSize) {
+            throw new IllegalArgumentException("[" + SIZE_SETTING.getKey() + "] must be at least as large as ["
+                + BLOCK_SIZE_SETTING.getKey() + "] but was [" + sizeInBytes + "] < [" + blockSize + "]");
+        }
+        this.path = path;
+        if (path != null) {
+            // files left behind by a previous run are not tracked by the cache
+            IOUtils.rm(path);
+            Files.createDirectories(path);
+        }
+        // every block weighs at least its share of the maximum number of blocks, which caps how many blocks are cached
+        final long minBlockWeight = (sizeInBytes + MAX_BLOCKS_SETTING.get(settings) - 1) / MAX_BLOCKS_SETTING.get(settings);
+        // the cache holds a reference to every block, readers hold their own while they read so that evicting a block
+        // never deletes a file that is being read
+        this.cache = CacheBuilder.<BlockKey, CachedBlock>builder()
+            .setMaximumWeight(sizeInBytes)
+            .weigher((k, v) -> Math.max(v.length, minBlockWeight))
+            .removalListener(n -> n.getValue().decRef())
+            .build();
+    }
+
+    int blockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Returns the block with the given key, downloading it with the given supplier if it is not cached yet. The returned block must
+     * be released with {@link CachedBlock#decRef()} once it has been read.
+     */
+    CachedBlock acquire(BlockKey key, CheckedSupplier<InputStream, IOException> download) throws IOException {
+        if (path == null) {
+            throw new IllegalStateException("remote snapshot indices can't be allocated to a node without local storage");
+        }
+        while (true) {
+            final CachedBlock block;
+            try {
+                block = cache.computeIfAbsent(key, k -> load(k, download));
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw new IOException("failed to load " + key, e.getCause());
+            }
+            processPendingDeletes();
+            if (block.tryIncRef()) {
+                return block;
+            }
+            // the block was evicted between the lookup and the reference, load it again
+        }
+    }
+
+    private CachedBlock load(BlockKey key, CheckedSupplier<InputStream, IOException> download) throws IOException {
+        final Path file = path.resolve(Long.toString(fileCounter.getAndIncrement()));
+        boolean success = false;
+        try {
+            final long length;
+            try (InputStream in = download.get();
+                 OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                length = Streams.copy(in, out);
+            }
+            if (length != key.length) {
+                throw new EOFException("expected [" + key.length + "] bytes for " + key + " but got [" + length + "]");
+            }
+            final CachedBlock block = new CachedBlock(file, length, pendingDeletes::add);
+            success = true;
+            return block;
+        } finally {
+            if (success == false) {
+                IOUtils.deleteFilesIgnoringExceptions(file);
+            }
+        }
+    }
+
+    /**
+     * Deletes the files of the blocks that were released since the last call.
+     */
+    void processPendingDeletes() {
+        Path file;
+        while ((file = pendingDeletes.poll()) != null) {
+            IOUtils.deleteFilesIgnoringExceptions(file);
+        }
+    }
+
+    /**
+     * Returns the number of cached blocks.
+     */
+    int count() {
+        return cache.count();
+    }
+
+    @Override
+    public void close() throws IOException {
+        cache.invalidateAll();
+        pendingDeletes.clear();
+        if (path != null) {
+            IOUtils.rm(path);
+        }
+    }
+
+    /**
+     * Identifies a block by the blob it belongs to and its offset in that blob.
+     */
+    static final class BlockKey {
+        final String blob;
+        final long offset;
+        final long length;
+
+        /**
+         * @param blob a name of the blob that is unique on this node, typically the blob's full path in its repository
+         */
+        BlockKey(String blob, long offset, long length) {
+            this.blob = blob;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final BlockKey that = (BlockKey) o;
+            return offset == that.offset && length == that.length && blob.equals(that.blob);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(blob, offset, length);
+        }
+
+        @Override
+        public String toString() {
+            return "block [" + blob + "][" + offset + "-" + (offset + length) + "]";
+        }
+    }
+
+    /**
+     * A block that was written to the cache's directory, its file is deleted once it was evicted and is no longer read.
+     */
+    static final class CachedBlock extends AbstractRefCounted {
+        private final Path file;
+        private final long length;
+        private final Consumer<Path> onRelease;
+
+        CachedBlock(Path file, long length, Consumer<Path> onRelease) {
+            super("remote snapshot block [" + file + "]");
+            this.file = file;
+            this.length = length;
+            this.onRelease = onRelease;
+        }
+
+        /**
+         * Reads the remaining bytes of <code>dst</code> starting at the given position in this block.
+         */
+        void read(long position, ByteBuffer dst) throws IOException {
+            assert refCount() > 0;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                while (dst.hasRemaining()) {
+                    final int read = channel.read(dst, position);
+                    if (read < 0) {
+                        throw new EOFException("read past the end of " + this);
+                    }
+                    position += read;
+                }
+            }
+        }
+
+        @Override
+        protected void closeInternal() {
+            // the last reference might be released by the cache's removal listener, which runs under the cache's lock
+            onRelease.accept(file);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.IndexOutput;
+import org.apache.lucene.store.Lock;
+import org.apache.lucene.store.NoLockFactory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A read-only {@link Directory} over the files of a shard snapshot. Files are never copied as a whole, their blocks are downloaded
+ * from the repository on demand and cached on local disk by the {@link RemoteSnapshotBlockCache}. Files whose content is stored
+ * in the snapshot's metadata are served from heap.
+ * <p>
+ * The shard snapshot's metadata is loaded on first access rather than when the directory is created, since the latter happens on
+ * the cluster state applier thread.
+ */
+public final class RemoteSnapshotDirectory extends Directory {
+
+    private final BlobContainer container;
+    private final RemoteSnapshotBlockCache blockCache;
+    private final CheckedSupplier<BlobStoreIndexShardSnapshot, IOException> snapshotSupplier;
+    private volatile Map<String, FileInfo> files;
+    private volatile boolean closed;
+
+    RemoteSnapshotDirectory(BlobContainer container, RemoteSnapshotBlockCache blockCache,
+                            CheckedSupplier<BlobStoreIndexShardSnapshot, IOException> snapshotSupplier) {
+        this.container = container;
+        this.blockCache = blockCache;
+        this.snapshotSupplier = snapshotSupplier;
+    }
+
+    private Map<String, FileInfo> files() throws IOException {
+        ensureOpen();
+        Map<String, FileInfo> files = this.files;
+        if (files == null) {
+            synchronized (this) {
+                files = this.files;
+                if (files == null) {
+                    files = new HashMap<>();
+                    for (FileInfo fileInfo : snapshotSupplier.get().indexFiles()) {
+                        files.put(fileInfo.physicalName(), fileInfo);
+                    }
+                    this.files = files = Collections.unmodifiableMap(files);
+                }
+            }
+        }
+        return files;
+    }
+
+    private FileInfo fileInfo(String name) throws IOException {
+        final FileInfo fileInfo = files().get(name);
+        if (fileInfo == null) {
+            throw new NoSuchFileException("file [" + name + "] is not part of the snapshot [" + container.path() + "]");
+        }
+        return fileInfo;
+    }
+
+    @Override
+    public String[] listAll() throws IOException {
+        return files().keySet().stream().sorted().toArray(String[]::new);
+    }
+
+    @Override
+    public long fileLength(String name) throws IOException {
+        return fileInfo(name).length();
+    }
+
+    @Override
+    public IndexInput openInput(String name, IOContext context) throws IOException {
+        final FileInfo fileInfo = fileInfo(name);
+        final String resourceDescription = "RemoteSnapshotIndexInput(path=\"" + container.path().buildAsString() + fileInfo.name()
+            + "\", name=\"" + name + "\")";
+        if (fileInfo.metadata().hashEqualsContents()) {
+            final BytesRef content = BytesRef.deepCopyOf(fileInfo.metadata().hash());
+            return new ByteArrayIndexInput(resourceDescription, content.bytes, content.offset, content.length);
+        }
+        return new RemoteSnapshotIndexInput(resourceDescription, fileInfo, container, blockCache);
+    }
+
+    @Override
+    public Lock obtainLock(String name) throws IOException {
+        ensureOpen();
+        // nothing can ever write to this directory
+        return NoLockFactory.INSTANCE.obtainLock(this, name);
+    }
+
+    @Override
+    public void sync(Collection<String> names) {
+        // nothing is ever written
+    }
+
+    @Override
+    public void syncMetaData() {
+        // nothing is ever written
+    }
+
+    @Override
+    public IndexOutput createOutput(String name, IOContext context) {
+        throw readOnly();
+    }
+
+    @Override
+    public IndexOutput createTempOutput(String prefix, String suffix, IOContext context) {
+        throw readOnly();
+    }
+
+    @Override
+    public void deleteFile(String name) {
+        throw readOnly();
+    }
+
+    @Override
+    public void rename(String source, String dest) {
+        throw readOnly();
+    }
+
+    private UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("remote snapshot directory [" + container.path() + "] is read-only");
+    }
+
+    @Override
+    public Set<String> getPendingDeletions() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    protected void ensureOpen() throws AlreadyClosedException {
+        if (closed) {
+            throw new AlreadyClosedException("this Directory is closed");
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    @Override
+    public String toString() {
+        return "RemoteSnapshotDirectory(" + container.path() + ")";
+    }
+}
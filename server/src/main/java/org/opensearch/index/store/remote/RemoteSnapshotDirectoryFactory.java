@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.apache.lucene.store.Directory;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.shard.ShardPath;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.plugins.IndexStorePlugin;
+import org.opensearch.repositories.IndexId;
+import org.opensearch.repositories.RepositoriesService;
+import org.opensearch.repositories.Repository;
+import org.opensearch.repositories.blobstore.BlobStoreRepository;
+import org.opensearch.snapshots.SnapshotId;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Creates the {@link RemoteSnapshotDirectory} of the shards of indices that use the {@link #STORE_TYPE} store type. Such indices
+ * are created by restoring a snapshot with this store type, which records the snapshot to read from in the
+ * <code>index.searchable_snapshot.*</code> index settings.
+ */
+public final class RemoteSnapshotDirectoryFactory implements IndexStorePlugin.DirectoryFactory {
+
+    public static final String STORE_TYPE = "remote_snapshot";
+
+    // shard snapshot metadata never changes and is needed every time a shard is opened, so it is kept on heap
+    private static final int MAX_CACHED_SHARD_SNAPSHOTS = 1000;
+
+    private final Supplier<RepositoriesService> repositoriesService;
+    private final RemoteSnapshotBlockCache blockCache;
+    private final Cache<String, BlobStoreIndexShardSnapshot> shardSnapshots = CacheBuilder.<String, BlobStoreIndexShardSnapshot>builder()
+        .setMaximumWeight(MAX_CACHED_SHARD_SNAPSHOTS).build();
+
+    public RemoteSnapshotDirectoryFactory(Supplier<RepositoriesService> repositoriesService, RemoteSnapshotBlockCache blockCache) {
+        this.repositoriesService = repositoriesService;
+        this.blockCache = blockCache;
+    }
+
+    @Override
+    public Directory newDirectory(IndexSettings indexSettings, ShardPath shardPath) throws IOException {
+        final String repositoryName = IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY.get(indexSettings.getSettings());
+        if (repositoryName.isEmpty()) {
+            throw new IllegalArgumentException("index [" + indexSettings.getIndex().getName() + "] uses the [" + STORE_TYPE
+                + "] store type but was not restored from a snapshot");
+        }
+        final Repository repository = repositoriesService.get().repository(repositoryName);
+        if (repository instanceof BlobStoreRepository == false) {
+            throw new IllegalArgumentException("repository [" + repositoryName + "] does not support the [" + STORE_TYPE
+                + "] store type");
+        }
+        final BlobStoreRepository blobStoreRepository = (BlobStoreRepository) repository;
+        final SnapshotId snapshotId = new SnapshotId(
+            IndexSettings.SEARCHABLE_SNAPSHOT_ID_NAME.get(indexSettings.getSettings()),
+            IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID.get(indexSettings.getSettings()));
+        final IndexId indexId = new IndexId(indexSettings.getIndex().getName(),
+            IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_ID.get(indexSettings.getSettings()));
+        final BlobContainer container = blobStoreRepository.shardContainer(indexId, shardPath.getShardId().id());
+        final String cacheKey = repositoryName + "/" + container.path().buildAsString() + snapshotId.getUUID();
+        return new RemoteSnapshotDirectory(container, blockCache, () -> {
+            try {
+                return shardSnapshots.computeIfAbsent(cacheKey, k -> blobStoreRepository.loadShardSnapshot(container, snapshotId));
+            } catch (ExecutionException e) {
+                throw new IOException("failed to load shard snapshot [" + snapshotId + "] from [" + container.path() + "]",
+                    e.getCause());
+            }
+        });
+    }
+}
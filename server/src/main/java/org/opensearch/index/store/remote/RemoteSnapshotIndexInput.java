@@ -0,0 +1,210 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link IndexInput} over a snapshotted file that reads the file's blocks through the {@link RemoteSnapshotBlockCache}. Small
+ * reads are served from a per-instance buffer that holds a whole block, or an aligned window of {@link #MAX_BUFFER_SIZE} bytes of
+ * larger blocks, so that sequential reads only go through the cache once per block.
+ */
+final class RemoteSnapshotIndexInput extends IndexInput {
+
+    static final int MAX_BUFFER_SIZE = 1024 * 1024;
+
+    private final FileInfo fileInfo;
+    private final BlobContainer container;
+    private final String containerPath;
+    private final RemoteSnapshotBlockCache blockCache;
+    // the start of this input in the file and its length, they differ from the file's for slices
+    private final long offset;
+    private final long length;
+    private final int bufferSize;
+
+    private long position;
+    // allocated on first read since Lucene creates many clones and slices that are never read from
+    private byte[] buffer;
+    // the position of the buffer's first byte, which is before the start of this input if a slice starts in the middle of a block
+    private long bufferStart;
+    // the positions of this input that the buffer holds, from inclusive to exclusive
+    private long bufferFrom;
+    private long bufferTo;
+
+    RemoteSnapshotIndexInput(String resourceDescription, FileInfo fileInfo, BlobContainer container, RemoteSnapshotBlockCache blockCache) {
+        this(resourceDescription, fileInfo, container, container.path().buildAsString(), blockCache, 0L, fileInfo.length());
+    }
+
+    private RemoteSnapshotIndexInput(String resourceDescription, FileInfo fileInfo, BlobContainer container, String containerPath,
+                                     RemoteSnapshotBlockCache blockCache, long offset, long length) {
+        super(resourceDescription);
+        this.fileInfo = fileInfo;
+        this.container = container;
+        this.containerPath = containerPath;
+        this.blockCache = blockCache;
+        this.offset = offset;
+        this.length = length;
+        this.bufferSize = Math.min(blockCache.blockSize(), MAX_BUFFER_SIZE);
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        if (position < bufferFrom || position >= bufferTo) {
+            refill();
+        }
+        return buffer[Math.toIntExact(position++ - bufferStart)];
+    }
+
+    @Override
+    public void readBytes(byte[] b, int off, int len) throws IOException {
+        if (len > length - position) {
+            throw new EOFException("read past EOF: " + this);
+        }
+        while (len > 0) {
+            if (position >= bufferFrom && position < bufferTo) {
+                final int toCopy = Math.toIntExact(Math.min(len, bufferTo - position));
+                System.arraycopy(buffer, Math.toIntExact(position - bufferStart), b, off, toCopy);
+                position += toCopy;
+                off += toCopy;
+                len -= toCopy;
+            } else if (len >= bufferSize) {
+                // large reads bypass the buffer
+                readFromBlocks(offset + position, ByteBuffer.wrap(b, off, len));
+                position += len;
+                len = 0;
+            } else {
+                refill();
+            }
+        }
+    }
+
+    /**
+     * Fills the buffer with the window of the block that contains the current position, with a single read from the cache.
+     */
+    private void refill() throws IOException {
+        if (position >= length) {
+            throw new EOFException("read past EOF: " + this);
+        }
+        if (buffer == null) {
+            buffer = new byte[bufferSize];
+        }
+        final long filePosition = offset + position;
+        final int part = part(filePosition);
+        final long positionInPart = filePosition - part * partBytes();
+        final long blockStart = positionInPart - positionInPart % blockCache.blockSize();
+        final long blockLength = blockLength(part, blockStart);
+        final long windowStart = positionInPart - blockStart - (positionInPart - blockStart) % bufferSize;
+        final int windowLength = Math.toIntExact(Math.min(bufferSize, blockLength - windowStart));
+        // invalidate the buffer first in case the read fails half way
+        bufferFrom = 0L;
+        bufferTo = 0L;
+        final RemoteSnapshotBlockCache.CachedBlock block = acquire(part, blockStart, blockLength);
+        try {
+            block.read(windowStart, ByteBuffer.wrap(buffer, 0, windowLength));
+        } finally {
+            block.decRef();
+        }
+        bufferStart = position - (positionInPart - blockStart - windowStart);
+        bufferFrom = Math.max(0L, bufferStart);
+        bufferTo = Math.min(length, bufferStart + windowLength);
+    }
+
+    /**
+     * Fills <code>dst</code> with the bytes of the file starting at the given position, which may span several blocks and parts.
+     */
+    private void readFromBlocks(long filePosition, ByteBuffer dst) throws IOException {
+        while (dst.hasRemaining()) {
+            final int part = part(filePosition);
+            final long positionInPart = filePosition - part * partBytes();
+            final long blockStart = positionInPart - positionInPart % blockCache.blockSize();
+            final long blockLength = blockLength(part, blockStart);
+            final int toRead = Math.toIntExact(Math.min(dst.remaining(), blockStart + blockLength - positionInPart));
+            final RemoteSnapshotBlockCache.CachedBlock block = acquire(part, blockStart, blockLength);
+            final int limit = dst.limit();
+            try {
+                dst.limit(dst.position() + toRead);
+                block.read(positionInPart - blockStart, dst);
+            } finally {
+                dst.limit(limit);
+                block.decRef();
+            }
+            filePosition += toRead;
+        }
+    }
+
+    private long partBytes() {
+        return fileInfo.numberOfParts() > 1 ? fileInfo.partSize().getBytes() : fileInfo.length();
+    }
+
+    private int part(long filePosition) {
+        return Math.toIntExact(filePosition / partBytes());
+    }
+
+    private long blockLength(int part, long blockStart) {
+        return Math.min(blockCache.blockSize(), fileInfo.partBytes(part) - blockStart);
+    }
+
+    private RemoteSnapshotBlockCache.CachedBlock acquire(int part, long blockStart, long blockLength) throws IOException {
+        final String partName = fileInfo.partName(part);
+        return blockCache.acquire(new RemoteSnapshotBlockCache.BlockKey(containerPath + partName, blockStart, blockLength),
+            () -> container.readBlob(partName, blockStart, blockLength));
+    }
+
+    @Override
+    public long getFilePointer() {
+        return position;
+    }
+
+    @Override
+    public void seek(long pos) throws IOException {
+        if (pos < 0) {
+            throw new IllegalArgumentException("seeking to negative position [" + pos + "]: " + this);
+        } else if (pos > length) {
+            throw new EOFException("seek past EOF: " + this);
+        }
+        position = pos;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public RemoteSnapshotIndexInput clone() {
+        final RemoteSnapshotIndexInput clone = (RemoteSnapshotIndexInput) super.clone();
+        // clones must not share the buffer, they read it lazily like a new input
+        clone.buffer = null;
+        clone.bufferStart = 0L;
+        clone.bufferFrom = 0L;
+        clone.bufferTo = 0L;
+        return clone;
+    }
+
+    @Override
+    public IndexInput slice(String sliceDescription, long offset, long length) throws IOException {
+        if (offset < 0L || length < 0L || offset + length > this.length) {
+            throw new IllegalArgumentException("slice() " + sliceDescription + " out of bounds: offset=" + offset
+                + ",length=" + length + ",fileLength=" + this.length + ": " + this);
+        }
+        return new RemoteSnapshotIndexInput(getFullSliceDescription(sliceDescription), fileInfo, container, containerPath, blockCache,
+            this.offset + offset, length);
+    }
+
+    @Override
+    public void close() {
+        // nothing to release, blocks are only referenced while they are read
+    }
+}
@@ -32,11 +32,13 @@
 package org.opensearch.index.translog;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.Strings;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.ToXContentFragment;
 import org.opensearch.common.xcontent.XContentBuilder;
 
@@ -49,6 +51,12 @@ public class TranslogStats implements Writeable, ToXContentFragment {
     private long uncommittedSizeInBytes;
     private int  uncommittedOperations;
     private long earliestLastModifiedAge;
+    private long syncCount;
+    private long syncedLocations;
+    private long syncTimeInMillis;
+    private long groupCommitWaves;
+    private long groupCommitWaveShards;
+    private long groupCommitTimeInMillis;
 
     public TranslogStats() {
     }
@@ -66,6 +74,14 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         if (in.getVersion().onOrAfter(LegacyESVersion.V_6_3_0)) {
             earliestLastModifiedAge = in.readVLong();
         }
+        if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+            syncCount = in.readVLong();
+            syncedLocations = in.readVLong();
+            syncTimeInMillis = in.readVLong();
+            groupCommitWaves = in.readVLong();
+            groupCommitWaveShards = in.readVLong();
+            groupCommitTimeInMillis = in.readVLong();
+        }
     }
 
     public TranslogStats(int numberOfOperations, long translogSizeInBytes, int uncommittedOperations, long uncommittedSizeInBytes,
@@ -107,6 +123,38 @@ public class TranslogStats implements Writeable, ToXContentFragment {
             this.earliestLastModifiedAge =
                 Math.min(this.earliestLastModifiedAge, translogStats.earliestLastModifiedAge);
         }
+        this.syncCount += translogStats.syncCount;
+        this.syncedLocations += translogStats.syncedLocations;
+        this.syncTimeInMillis += translogStats.syncTimeInMillis;
+        this.groupCommitWaves += translogStats.groupCommitWaves;
+        this.groupCommitWaveShards += translogStats.groupCommitWaveShards;
+        this.groupCommitTimeInMillis += translogStats.groupCommitTimeInMillis;
+    }
+
+    /**
+     * Sets the statistics of the syncs that were requested for specific locations of the translog.
+     *
+     * @param syncCount         the number of fsyncs that were executed for these requests
+     * @param syncedLocations   the number of locations that were synced, each fsync covers one or more locations
+     * @param syncTimeInMillis  the total time spent in these fsyncs
+     */
+    public void setSyncStats(long syncCount, long syncedLocations, long syncTimeInMillis) {
+        this.syncCount = syncCount;
+        this.syncedLocations = syncedLocations;
+        this.syncTimeInMillis = syncTimeInMillis;
+    }
+
+    /**
+     * Sets the statistics of the node-wide sync waves the syncs were part of, see {@link TranslogSyncCoordinator}.
+     *
+     * @param waves         the number of waves
+     * @param waveShards    the total number of shards that were synced in these waves
+     * @param timeInMillis  the total time these waves took
+     */
+    public void setGroupCommitStats(long waves, long waveShards, long timeInMillis) {
+        this.groupCommitWaves = waves;
+        this.groupCommitWaveShards = waveShards;
+        this.groupCommitTimeInMillis = timeInMillis;
     }
 
     public long getTranslogSizeInBytes() {
@@ -129,6 +177,36 @@ public class TranslogStats implements Writeable, ToXContentFragment {
 
     public long getEarliestLastModifiedAge() { return earliestLastModifiedAge; }
 
+    /** the number of fsyncs executed to sync requested locations of the translog */
+    public long getSyncCount() {
+        return syncCount;
+    }
+
+    /** the number of requested locations that were synced, the ratio to {@link #getSyncCount()} is the average sync batch size */
+    public long getSyncedLocations() {
+        return syncedLocations;
+    }
+
+    /** the total time spent syncing requested locations of the translog */
+    public long getSyncTimeInMillis() {
+        return syncTimeInMillis;
+    }
+
+    /** the number of node-wide sync waves the syncs were part of */
+    public long getGroupCommitWaves() {
+        return groupCommitWaves;
+    }
+
+    /** the total number of shards of these waves, the ratio to {@link #getGroupCommitWaves()} is the average wave size */
+    public long getGroupCommitWaveShards() {
+        return groupCommitWaveShards;
+    }
+
+    /** the total time these waves took */
+    public long getGroupCommitTimeInMillis() {
+        return groupCommitTimeInMillis;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         builder.startObject("translog");
@@ -137,6 +215,18 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         builder.field("uncommitted_operations", uncommittedOperations);
         builder.humanReadableField("uncommitted_size_in_bytes", "uncommitted_size", new ByteSizeValue(uncommittedSizeInBytes));
         builder.field("earliest_last_modified_age", earliestLastModifiedAge);
+        builder.startObject("sync");
+        builder.field("total", syncCount);
+        builder.field("locations", syncedLocations);
+        builder.humanReadableField("total_time_in_millis", "total_time", new TimeValue(syncTimeInMillis));
+        if (groupCommitWaves > 0) {
+            builder.startObject("group_commit");
+            builder.field("waves", groupCommitWaves);
+            builder.field("wave_shards", groupCommitWaveShards);
+            builder.humanReadableField("total_time_in_millis", "total_time", new TimeValue(groupCommitTimeInMillis));
+            builder.endObject();
+        }
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -157,5 +247,13 @@ public class TranslogStats implements Writeable, ToXContentFragment {
         if (out.getVersion().onOrAfter(LegacyESVersion.V_6_3_0)) {
             out.writeVLong(earliestLastModifiedAge);
         }
+        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+            out.writeVLong(syncCount);
+            out.writeVLong(syncedLocations);
+            out.writeVLong(syncTimeInMillis);
+            out.writeVLong(groupCommitWaves);
+            out.writeVLong(groupCommitWaveShards);
+            out.writeVLong(groupCommitTimeInMillis);
+        }
     }
 }
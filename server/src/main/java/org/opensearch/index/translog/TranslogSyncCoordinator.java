@@ -0,0 +1,248 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Setting.Property;
+import org.opensearch.common.util.concurrent.AsyncIOProcessor;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.env.NodeEnvironment;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Batches the translog syncs requested by all the shards of a node whose translogs are on the same device. Each shard otherwise
+ * has its own queue of pending syncs, so that a node with many shards that are indexed with a <code>request</code>
+ * durability issues many small concurrent fsyncs to the same disk. With the coordinator, a single thread per device drains the
+ * pending syncs of all shards as one wave, in which the translog of each shard is fsynced at most once, while the other indexing
+ * threads just enqueue their syncs and continue. The fsyncs of a wave are issued concurrently, so that a wave takes about as long
+ * as its slowest fsync rather than the sum of all of them.
+ */
+public final class TranslogSyncCoordinator {
+
+    private static final Logger logger = LogManager.getLogger(TranslogSyncCoordinator.class);
+
+    public static final Setting<Boolean> GROUP_COMMIT_ENABLED_SETTING =
+        Setting.boolSetting("indices.translog.group_commit.enabled", false, Property.NodeScope);
+
+    /**
+     * The maximum number of pending syncs per device, callers block once it is reached.
+     */
+    static final int QUEUE_SIZE = 4096;
+
+    /**
+     * The maximum number of fsyncs of a wave that are issued concurrently.
+     */
+    static final int MAX_CONCURRENT_SYNCS = 8;
+
+    private final ThreadContext threadContext;
+    private final Executor executor;
+    // the device of each data path, data paths that are missing are considered to be on their own device
+    private final Map<Path, Object> devices;
+    private final ConcurrentMap<Object, AsyncIOProcessor<PendingSync>> processors = ConcurrentCollections.newConcurrentMap();
+    private final CounterMetric waves = new CounterMetric();
+    private final CounterMetric syncedLocations = new CounterMetric();
+
+    public TranslogSyncCoordinator(ThreadPool threadPool, NodeEnvironment nodeEnvironment) {
+        this(threadPool.getThreadContext(), threadPool.executor(ThreadPool.Names.FLUSH), devices(nodeEnvironment));
+    }
+
+    TranslogSyncCoordinator(ThreadContext threadContext, Executor executor, Map<Path, Object> devices) {
+        this.threadContext = threadContext;
+        this.executor = executor;
+        this.devices = devices;
+    }
+
+    private static Map<Path, Object> devices(NodeEnvironment nodeEnvironment) {
+        if (nodeEnvironment.hasNodeFile() == false) {
+            return Collections.emptyMap();
+        }
+        final Map<Path, Object> devices = new HashMap<>();
+        for (NodeEnvironment.NodePath nodePath : nodeEnvironment.nodePaths()) {
+            // device numbers are only known on Linux
+            if (nodePath.majorDeviceNumber >= 0) {
+                devices.put(nodePath.path, Tuple.tuple(nodePath.majorDeviceNumber, nodePath.minorDeviceNumber));
+            }
+        }
+        return devices;
+    }
+
+    /**
+     * Syncs the translog of a shard up to the given location. The shard is identified by its <code>syncer</code>, which
+     * must always be the same instance for a given shard so that its pending syncs are merged into a single call per wave.
+     *
+     * @param dataPath   the data path the translog of the shard is stored on
+     * @param syncer     fsyncs the translog of the shard up to the highest of the given locations
+     * @param waveStats  the statistics of the waves of the shard
+     * @param location   the location to sync
+     * @param listener   notified once the location is synced, or with the exception the sync failed with
+     */
+    public void sync(Path dataPath, CheckedConsumer<List<Translog.Location>, IOException> syncer, WaveStats waveStats,
+                     Translog.Location location, Consumer<Exception> listener) {
+        final PendingSync pendingSync = new PendingSync(syncer, waveStats, location);
+        processors.computeIfAbsent(devices.getOrDefault(dataPath, dataPath), this::newProcessor)
+            .put(pendingSync, e -> listener.accept(e != null ? e : pendingSync.failure));
+    }
+
+    /**
+     * The number of sync waves executed so far across all devices.
+     */
+    public long getWaveCount() {
+        return waves.count();
+    }
+
+    /**
+     * The number of locations synced so far, the ratio to {@link #getWaveCount()} is the average wave size.
+     */
+    public long getSyncedLocations() {
+        return syncedLocations.count();
+    }
+
+    private AsyncIOProcessor<PendingSync> newProcessor(Object device) {
+        return new AsyncIOProcessor<PendingSync>(logger, QUEUE_SIZE, threadContext) {
+            @Override
+            protected void write(List<Tuple<PendingSync, Consumer<Exception>>> candidates) {
+                final long startTime = System.nanoTime();
+                final Map<CheckedConsumer<List<Translog.Location>, IOException>, List<PendingSync>> byShard = new IdentityHashMap<>();
+                for (Tuple<PendingSync, Consumer<Exception>> candidate : candidates) {
+                    byShard.computeIfAbsent(candidate.v1().syncer, k -> new ArrayList<>()).add(candidate.v1());
+                }
+                final List<List<PendingSync>> shards = new ArrayList<>(byShard.values());
+                syncConcurrently(device, shards);
+                final long tookInNanos = System.nanoTime() - startTime;
+                for (List<PendingSync> shard : shards) {
+                    shard.get(0).waveStats.onWave(shards.size(), tookInNanos);
+                }
+                waves.inc();
+                syncedLocations.inc(candidates.size());
+            }
+        };
+    }
+
+    /**
+     * Syncs the given shards with up to {@link #MAX_CONCURRENT_SYNCS} threads including the calling one. Shards are claimed
+     * by the threads that sync them, so that the calling thread syncs all the shards that no thread of the executor claimed
+     * and only waits for the syncs that are in progress.
+     */
+    private void syncConcurrently(Object device, List<List<PendingSync>> shards) {
+        final AtomicInteger nextShard = new AtomicInteger();
+        final CountDownLatch synced = new CountDownLatch(shards.size());
+        final Runnable syncShards = () -> {
+            for (int i = nextShard.getAndIncrement(); i < shards.size(); i = nextShard.getAndIncrement()) {
+                try {
+                    syncShard(device, shards.get(i));
+                } finally {
+                    synced.countDown();
+                }
+            }
+        };
+        final int forks = Math.min(shards.size(), MAX_CONCURRENT_SYNCS) - 1;
+        for (int i = 0; i < forks; i++) {
+            try {
+                executor.execute(syncShards);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        syncShards.run();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                synced.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void syncShard(Object device, List<PendingSync> pendingSyncs) {
+        final List<Translog.Location> locations = new ArrayList<>(pendingSyncs.size());
+        for (PendingSync pendingSync : pendingSyncs) {
+            locations.add(pendingSync.location);
+        }
+        try {
+            pendingSyncs.get(0).syncer.accept(locations);
+        } catch (Exception e) {
+            // only the syncs of this shard fail, the other shards of the wave are not affected
+            logger.debug(() -> new ParameterizedMessage("failed to sync translog on [{}]", device), e);
+            for (PendingSync pendingSync : pendingSyncs) {
+                pendingSync.failure = e;
+            }
+        }
+    }
+
+    /**
+     * The statistics of the sync waves that a shard took part in.
+     */
+    public static final class WaveStats {
+        private final CounterMetric waves = new CounterMetric();
+        private final CounterMetric waveShards = new CounterMetric();
+        private final CounterMetric waveTimeInNanos = new CounterMetric();
+
+        void onWave(int shards, long tookInNanos) {
+            waves.inc();
+            waveShards.inc(shards);
+            waveTimeInNanos.inc(tookInNanos);
+        }
+
+        /** the number of waves the shard took part in */
+        public long getWaves() {
+            return waves.count();
+        }
+
+        /** the total number of shards of these waves, the ratio to {@link #getWaves()} is the average number of shards per wave */
+        public long getWaveShards() {
+            return waveShards.count();
+        }
+
+        /** the total time these waves took */
+        public long getWaveTimeInNanos() {
+            return waveTimeInNanos.count();
+        }
+    }
+
+    private static final class PendingSync {
+        private final CheckedConsumer<List<Translog.Location>, IOException> syncer;
+        private final WaveStats waveStats;
+        private final Translog.Location location;
+        // set by the thread that syncs the shard before the wave completes and the listeners are notified
+        private volatile Exception failure;
+
+        PendingSync(CheckedConsumer<List<Translog.Location>, IOException> syncer, WaveStats waveStats, Translog.Location location) {
+            this.syncer = syncer;
+            this.waveStats = waveStats;
+            this.location = location;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.opensearch.common.Nullable;
+
+/**
+ * Reads queries that are expected to be cheaper to build than {@link IndicesQueryCache#INDICES_QUERIES_CACHE_MIN_BUILD_COST_SETTING}
+ * on a segment without the cache, based on the measured cost of their query type and the size of the segment. This keeps cheap
+ * filters from evicting expensive ones.
+ */
+public class CostAwareQueryCacheAdmissionPolicy implements QueryCacheAdmissionPolicy {
+
+    // the number of builds of a query type before its cost is used to decide whether to cache it
+    static final int MIN_BUILD_COST_SAMPLES = 10;
+
+    private final long minBuildCostNanos;
+
+    public CostAwareQueryCacheAdmissionPolicy(long minBuildCostNanos) {
+        this.minBuildCostNanos = minBuildCostNanos;
+    }
+
+    @Override
+    public boolean admit(String queryType, @Nullable BuildCost buildCost, LeafReaderContext context) {
+        if (buildCost == null || buildCost.samples() < MIN_BUILD_COST_SAMPLES) {
+            return true;
+        }
+        return buildCost.nanosPerDoc() * context.reader().maxDoc() >= minBuildCostNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "cost_aware[" + minBuildCostNanos + "nanos]";
+    }
+}
@@ -37,7 +37,9 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.DocIdSet;
 import org.apache.lucene.search.Explanation;
+import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.LRUQueryCache;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryCache;
@@ -45,11 +47,14 @@ import org.apache.lucene.search.QueryCachingPolicy;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.Bits;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lucene.ShardCoreKeyMap;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Setting.Property;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.index.cache.query.QueryCacheStats;
 import org.opensearch.index.shard.ShardId;
 
@@ -61,6 +66,8 @@ import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Predicate;
 
 public class IndicesQueryCache implements QueryCache, Closeable {
@@ -76,10 +83,22 @@ public class IndicesQueryCache implements QueryCache, Closeable {
     // enables caching on all segments instead of only the larger ones, for testing only
     public static final Setting<Boolean> INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING =
             Setting.boolSetting("indices.queries.cache.all_segments", false, Property.NodeScope);
+    // segments on which a query is expected to be cheaper to build than this, based on the measured build cost
+    // of its query type and the size of the segment, are searched without the cache, see CostAwareQueryCacheAdmissionPolicy
+    public static final Setting<TimeValue> INDICES_QUERIES_CACHE_MIN_BUILD_COST_SETTING =
+            Setting.timeSetting("indices.queries.cache.min_build_cost", TimeValue.ZERO, TimeValue.ZERO, Property.NodeScope);
+
+    // one in this many lookups that the admission policy rejects still goes through the cache, so that the build cost of
+    // the query type keeps being measured and a query type that became more expensive can be admitted again
+    static final int RESAMPLE_INTERVAL = 100;
+    // the weight of the latest measurement in the recent build cost of a query type
+    static final double RECENT_BUILD_COST_WEIGHT = 0.2;
 
     private final LRUQueryCache cache;
     private final ShardCoreKeyMap shardKeyMap = new ShardCoreKeyMap();
     private final Map<ShardId, Stats> shardStats = new ConcurrentHashMap<>();
+    private final Map<String, BuildCost> buildCosts = new ConcurrentHashMap<>();
+    private final QueryCacheAdmissionPolicy admissionPolicy;
     private volatile long sharedRamBytesUsed;
 
     // This is a hack for the fact that the close listener for the
@@ -88,10 +107,26 @@ public class IndicesQueryCache implements QueryCache, Closeable {
     private final Map<Object, StatsAndCount> stats2 = Collections.synchronizedMap(new IdentityHashMap<>());
 
     public IndicesQueryCache(Settings settings) {
+        this(settings, null);
+    }
+
+    /**
+     * @param admissionPolicy the policy provided by a plugin, or <code>null</code> to use the one configured with
+     *                        {@link #INDICES_QUERIES_CACHE_MIN_BUILD_COST_SETTING}
+     */
+    public IndicesQueryCache(Settings settings, @Nullable QueryCacheAdmissionPolicy admissionPolicy) {
         final ByteSizeValue size = INDICES_CACHE_QUERY_SIZE_SETTING.get(settings);
         final int count = INDICES_CACHE_QUERY_COUNT_SETTING.get(settings);
-        logger.debug("using [node] query cache with size [{}] max filter count [{}]",
-                size, count);
+        final TimeValue minBuildCost = INDICES_QUERIES_CACHE_MIN_BUILD_COST_SETTING.get(settings);
+        if (admissionPolicy != null) {
+            this.admissionPolicy = admissionPolicy;
+        } else if (minBuildCost.nanos() > 0) {
+            this.admissionPolicy = new CostAwareQueryCacheAdmissionPolicy(minBuildCost.nanos());
+        } else {
+            this.admissionPolicy = QueryCacheAdmissionPolicy.ALWAYS;
+        }
+        logger.debug("using [node] query cache with size [{}] max filter count [{}] admission policy [{}]",
+                size, count, this.admissionPolicy);
         if (INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.get(settings)) {
             cache = new OpenSearchLRUQueryCache(count, size.getBytes(), context -> true, 1f);
         } else {
@@ -132,19 +167,54 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         while (weight instanceof CachingWeightWrapper) {
             weight = ((CachingWeightWrapper) weight).in;
         }
-        final Weight in = cache.doCache(weight, policy);
+        final Weight in = cache.doCache(new CostTrackingWeight(weight), policy);
         // We wrap the weight to track the readers it sees and map them with
         // the shards they belong to
-        return new CachingWeightWrapper(in);
+        return new CachingWeightWrapper(in, weight);
+    }
+
+    /**
+     * Returns the name used to group the build costs of the given query.
+     */
+    static String queryType(Query query) {
+        Class<?> clazz = query.getClass();
+        while (clazz.isAnonymousClass()) {
+            // eg. the range queries created by the points fields
+            clazz = clazz.getSuperclass();
+        }
+        return clazz.getSimpleName();
+    }
+
+    /**
+     * Returns true if the given query should be read from the index rather than through the cache on this segment.
+     */
+    private boolean bypassesCache(String queryType, LeafReaderContext context) {
+        if (admissionPolicy == QueryCacheAdmissionPolicy.ALWAYS) {
+            return false;
+        }
+        final BuildCost buildCost = buildCosts.get(queryType);
+        if (admissionPolicy.admit(queryType, buildCost == null || buildCost.samples() == 0 ? null : buildCost, context)) {
+            return false;
+        }
+        final long bypasses = buildCosts.computeIfAbsent(queryType, k -> new BuildCost()).bypasses.incrementAndGet();
+        return bypasses % RESAMPLE_INTERVAL != 0;
     }
 
     private class CachingWeightWrapper extends Weight {
 
         private final Weight in;
+        private final Weight uncached;
+        private final String queryType;
 
-        protected CachingWeightWrapper(Weight in) {
+        protected CachingWeightWrapper(Weight in, Weight uncached) {
             super(in.getQuery());
             this.in = in;
+            this.uncached = uncached;
+            this.queryType = queryType(in.getQuery());
+        }
+
+        private Weight weight(LeafReaderContext context) {
+            return bypassesCache(queryType, context) ? uncached : in;
         }
 
         @Override
@@ -161,19 +231,19 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         @Override
         public Scorer scorer(LeafReaderContext context) throws IOException {
             shardKeyMap.add(context.reader());
-            return in.scorer(context);
+            return weight(context).scorer(context);
         }
 
         @Override
         public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
             shardKeyMap.add(context.reader());
-            return in.scorerSupplier(context);
+            return weight(context).scorerSupplier(context);
         }
 
         @Override
         public BulkScorer bulkScorer(LeafReaderContext context) throws IOException {
             shardKeyMap.add(context.reader());
-            return in.bulkScorer(context);
+            return weight(context).bulkScorer(context);
         }
 
         @Override
@@ -182,6 +252,115 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         }
     }
 
+    /**
+     * Wraps the weight that the {@link LRUQueryCache} builds its cached {@link DocIdSet}s from so that the time it takes can be
+     * attributed to the query type.
+     */
+    private static class CostTrackingWeight extends Weight {
+
+        private final Weight in;
+
+        CostTrackingWeight(Weight in) {
+            super(in.getQuery());
+            this.in = in;
+        }
+
+        @Override
+        public void extractTerms(Set<Term> terms) {
+            in.extractTerms(terms);
+        }
+
+        @Override
+        public Explanation explain(LeafReaderContext context, int doc) throws IOException {
+            return in.explain(context, doc);
+        }
+
+        @Override
+        public Scorer scorer(LeafReaderContext context) throws IOException {
+            return in.scorer(context);
+        }
+
+        @Override
+        public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
+            return in.scorerSupplier(context);
+        }
+
+        @Override
+        public BulkScorer bulkScorer(LeafReaderContext context) throws IOException {
+            final BulkScorer bulkScorer = in.bulkScorer(context);
+            if (bulkScorer == null) {
+                return null;
+            }
+            return new CostTrackingBulkScorer(bulkScorer, queryType(getQuery()), context.reader().getCoreCacheHelper().getKey());
+        }
+
+        @Override
+        public boolean isCacheable(LeafReaderContext ctx) {
+            return in.isCacheable(ctx);
+        }
+    }
+
+    private static class CostTrackingBulkScorer extends BulkScorer {
+
+        private final BulkScorer in;
+        private final String queryType;
+        private final Object readerCoreKey;
+
+        CostTrackingBulkScorer(BulkScorer in, String queryType, Object readerCoreKey) {
+            this.in = in;
+            this.queryType = queryType;
+            this.readerCoreKey = readerCoreKey;
+        }
+
+        @Override
+        public int score(LeafCollector collector, Bits acceptDocs, int min, int max) throws IOException {
+            return in.score(collector, acceptDocs, min, max);
+        }
+
+        @Override
+        public long cost() {
+            return in.cost();
+        }
+    }
+
+    private static class BuildCost implements QueryCacheAdmissionPolicy.BuildCost {
+        final LongAdder count = new LongAdder();
+        final LongAdder timeInNanos = new LongAdder();
+        final LongAdder docCount = new LongAdder();
+        // the number of lookups that the admission policy rejected
+        final AtomicLong bypasses = new AtomicLong();
+        // exponentially weighted so that the cost follows changes in the data, guarded by this
+        private double recentNanosPerDoc = Double.NaN;
+
+        void add(long tookInNanos, int maxDoc) {
+            if (maxDoc > 0) {
+                final double nanosPerDoc = (double) tookInNanos / maxDoc;
+                synchronized (this) {
+                    recentNanosPerDoc = Double.isNaN(recentNanosPerDoc)
+                        ? nanosPerDoc
+                        : RECENT_BUILD_COST_WEIGHT * nanosPerDoc + (1 - RECENT_BUILD_COST_WEIGHT) * recentNanosPerDoc;
+                }
+            }
+            count.increment();
+            timeInNanos.add(tookInNanos);
+            docCount.add(maxDoc);
+        }
+
+        @Override
+        public long samples() {
+            return count.sum();
+        }
+
+        @Override
+        public synchronized double nanosPerDoc() {
+            return Double.isNaN(recentNanosPerDoc) ? 0 : recentNanosPerDoc;
+        }
+
+        QueryCacheStats.BuildCost toBuildCostStats() {
+            return new QueryCacheStats.BuildCost(count.sum(), timeInNanos.sum(), docCount.sum());
+        }
+    }
+
     /** Clear all entries that belong to the given index. */
     public void clearIndex(String index) {
         final Set<Object> coreCacheKeys = shardKeyMap.getCoreKeysForIndex(index);
@@ -218,13 +397,18 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         volatile long missCount;
         volatile long cacheCount;
         volatile long cacheSize;
+        final Map<String, BuildCost> buildCosts = new ConcurrentHashMap<>();
 
         Stats(ShardId shardId) {
             this.shardId = shardId;
         }
 
         QueryCacheStats toQueryCacheStats() {
-            return new QueryCacheStats(ramBytesUsed, hitCount, missCount, cacheCount, cacheSize);
+            final Map<String, QueryCacheStats.BuildCost> buildCostStats = new HashMap<>();
+            for (Map.Entry<String, BuildCost> entry : buildCosts.entrySet()) {
+                buildCostStats.put(entry.getKey(), entry.getValue().toBuildCostStats());
+            }
+            return new QueryCacheStats(ramBytesUsed, hitCount, missCount, cacheCount, cacheSize, buildCostStats);
         }
 
         @Override
@@ -288,6 +472,22 @@ public class IndicesQueryCache implements QueryCache, Closeable {
             return stats;
         }
 
+        @Override
+        protected DocIdSet cacheImpl(BulkScorer scorer, int maxDoc) throws IOException {
+            if (scorer instanceof CostTrackingBulkScorer == false) {
+                return super.cacheImpl(scorer, maxDoc);
+            }
+            final long startTime = System.nanoTime();
+            final DocIdSet docIdSet = super.cacheImpl(scorer, maxDoc);
+            final long tookInNanos = System.nanoTime() - startTime;
+            // this is called outside of the lock of the LRUQueryCache
+            final CostTrackingBulkScorer costTrackingScorer = (CostTrackingBulkScorer) scorer;
+            buildCosts.computeIfAbsent(costTrackingScorer.queryType, k -> new BuildCost()).add(tookInNanos, maxDoc);
+            final Stats shardStats = getOrCreateStats(costTrackingScorer.readerCoreKey);
+            shardStats.buildCosts.computeIfAbsent(costTrackingScorer.queryType, k -> new BuildCost()).add(tookInNanos, maxDoc);
+            return docIdSet;
+        }
+
         // It's ok to not protect these callbacks by a lock since it is
         // done in LRUQueryCache
         @Override
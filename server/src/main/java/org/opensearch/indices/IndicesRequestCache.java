@@ -41,6 +41,7 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.util.Accountable;
 import org.apache.lucene.util.RamUsageEstimator;
 import org.opensearch.common.CheckedSupplier;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.cache.Cache;
 import org.opensearch.common.cache.CacheBuilder;
@@ -57,12 +58,18 @@ import org.opensearch.common.util.concurrent.ConcurrentCollections;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 
 /**
  * The indices request cache allows to cache a shard level request stage responses, helping with improving
@@ -71,6 +78,9 @@ import java.util.concurrent.ConcurrentMap;
  * eviction to evict old reader associated cache entries as well as scheduler reaper to clean readers that
  * are no longer used or closed shards.
  * <p>
+ * When <code>indices.requests.cache.disk.size</code> is set, entries that are evicted from the heap are spilled to a
+ * {@link RequestCacheDiskTier} on local disk and moved back to the heap on their next hit.
+ * <p>
  * Currently, the cache is only enabled for count requests, and can only be opted in on an index
  * level setting that can be dynamically changed and defaults to false.
  * <p>
@@ -91,28 +101,70 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         Setting.memorySizeSetting("indices.requests.cache.size", "1%", Property.NodeScope);
     public static final Setting<TimeValue> INDICES_CACHE_QUERY_EXPIRE =
         Setting.positiveTimeSetting("indices.requests.cache.expire", new TimeValue(0), Property.NodeScope);
+    public static final Setting<Cache.EvictionPolicy> INDICES_CACHE_EVICTION_POLICY =
+        new Setting<>("indices.requests.cache.eviction_policy", Cache.EvictionPolicy.LRU.name(),
+            (value) -> Cache.EvictionPolicy.valueOf(value.toUpperCase(Locale.ROOT)), Property.NodeScope);
+    /**
+     * The maximum size of the on-disk tier, the tier is disabled if set to <code>0</code>.
+     */
+    public static final Setting<ByteSizeValue> INDICES_CACHE_DISK_SIZE =
+        Setting.byteSizeSetting("indices.requests.cache.disk.size", ByteSizeValue.ZERO, Property.NodeScope);
+
+    /**
+     * The name of the on-disk tier's directory under the node's first data path.
+     */
+    static final String DISK_TIER_FOLDER = "request_cache";
 
     private final ConcurrentMap<CleanupKey, Boolean> registeredClosedListeners = ConcurrentCollections.newConcurrentMap();
     private final Set<CleanupKey> keysToClean = ConcurrentCollections.newConcurrentSet();
     private final ByteSizeValue size;
     private final TimeValue expire;
     private final Cache<Key, BytesReference> cache;
+    @Nullable
+    private final RequestCacheDiskTier diskTier;
+    // entries evicted from the heap are written to disk outside of the heap cache's locks
+    private final Queue<Key> pendingSpills = new ConcurrentLinkedQueue<>();
+    private final ConcurrentMap<Key, BytesReference> pendingSpillValues = ConcurrentCollections.newConcurrentMap();
 
     IndicesRequestCache(Settings settings) {
+        this(settings, null, Runnable::run);
+    }
+
+    /**
+     * @param diskTierPath the directory of the on-disk tier, or <code>null</code> if this node has no local storage
+     * @param diskTierExecutor the executor that deletes the files of the entries removed from the on-disk tier
+     */
+    IndicesRequestCache(Settings settings, @Nullable Path diskTierPath, Executor diskTierExecutor) {
         this.size = INDICES_CACHE_QUERY_SIZE.get(settings);
         this.expire = INDICES_CACHE_QUERY_EXPIRE.exists(settings) ? INDICES_CACHE_QUERY_EXPIRE.get(settings) : null;
         long sizeInBytes = size.getBytes();
         CacheBuilder<Key, BytesReference> cacheBuilder = CacheBuilder.<Key, BytesReference>builder()
-            .setMaximumWeight(sizeInBytes).weigher((k, v) -> k.ramBytesUsed() + v.ramBytesUsed()).removalListener(this);
+            .setMaximumWeight(sizeInBytes).weigher((k, v) -> k.ramBytesUsed() + v.ramBytesUsed()).removalListener(this)
+            .setEvictionPolicy(INDICES_CACHE_EVICTION_POLICY.get(settings));
         if (expire != null) {
             cacheBuilder.setExpireAfterAccess(expire);
         }
         cache = cacheBuilder.build();
+        final long diskSizeInBytes = INDICES_CACHE_DISK_SIZE.get(settings).getBytes();
+        if (diskTierPath != null && diskSizeInBytes > 0) {
+            try {
+                diskTier = new RequestCacheDiskTier(diskTierPath, diskSizeInBytes, diskTierExecutor);
+            } catch (IOException e) {
+                throw new UncheckedIOException("failed to create request cache disk tier at [" + diskTierPath + "]", e);
+            }
+        } else {
+            diskTier = null;
+        }
     }
 
     @Override
-    public void close() {
+    public void close() throws IOException {
         cache.invalidateAll();
+        pendingSpills.clear();
+        pendingSpillValues.clear();
+        if (diskTier != null) {
+            diskTier.close();
+        }
     }
 
     void clear(CacheEntity entity) {
@@ -123,14 +175,37 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
     @Override
     public void onRemoval(RemovalNotification<Key, BytesReference> notification) {
         notification.getKey().entity.onRemoval(notification);
+        if (diskTier != null && notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED) {
+            // this is called under the heap cache's lru lock, the entry is written by the next caller of spillPending
+            if (pendingSpillValues.put(notification.getKey(), notification.getValue()) == null) {
+                pendingSpills.add(notification.getKey());
+            }
+        }
+    }
+
+    /**
+     * Writes the entries that were evicted from the heap tier to the disk tier, unless their reader or shard was closed in the meantime.
+     */
+    private void spillPending() {
+        Key key;
+        while ((key = pendingSpills.poll()) != null) {
+            final BytesReference value = pendingSpillValues.remove(key);
+            if (value != null && key.entity.isOpen()
+                && registeredClosedListeners.containsKey(new CleanupKey(key.entity, key.readerCacheKey))) {
+                diskTier.put(key, value);
+            }
+        }
     }
 
     BytesReference getOrCompute(CacheEntity cacheEntity, CheckedSupplier<BytesReference, IOException> loader,
                                 DirectoryReader reader, BytesReference cacheKey) throws Exception {
         assert reader.getReaderCacheHelper() != null;
         final Key key =  new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey);
-        Loader cacheLoader = new Loader(cacheEntity, loader);
+        Loader cacheLoader = new Loader(cacheEntity, loader, diskTier);
         BytesReference value = cache.computeIfAbsent(key, cacheLoader);
+        if (diskTier != null) {
+            spillPending();
+        }
         if (cacheLoader.isLoaded()) {
             key.entity.onMiss();
             // see if its the first time we see this reader, and make sure to register a cleanup key
@@ -155,18 +230,26 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
      */
     void invalidate(CacheEntity cacheEntity, DirectoryReader reader, BytesReference cacheKey) {
         assert reader.getReaderCacheHelper() != null;
-        cache.invalidate(new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey));
+        final Key key = new Key(cacheEntity, reader.getReaderCacheHelper().getKey(), cacheKey);
+        cache.invalidate(key);
+        if (diskTier != null) {
+            pendingSpillValues.remove(key);
+            diskTier.invalidate(key);
+        }
     }
 
     private static class Loader implements CacheLoader<Key, BytesReference> {
 
         private final CacheEntity entity;
         private final CheckedSupplier<BytesReference, IOException> loader;
+        @Nullable
+        private final RequestCacheDiskTier diskTier;
         private boolean loaded;
 
-        Loader(CacheEntity entity, CheckedSupplier<BytesReference, IOException> loader) {
+        Loader(CacheEntity entity, CheckedSupplier<BytesReference, IOException> loader, @Nullable RequestCacheDiskTier diskTier) {
             this.entity = entity;
             this.loader = loader;
+            this.diskTier = diskTier;
         }
 
         public boolean isLoaded() {
@@ -175,7 +258,18 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
 
         @Override
         public BytesReference load(Key key) throws Exception {
-            BytesReference value = loader.get();
+            BytesReference value = null;
+            if (diskTier != null) {
+                value = diskTier.remove(key);
+                if (value != null) {
+                    entity.onDiskHit();
+                } else {
+                    entity.onDiskMiss();
+                }
+            }
+            if (value == null) {
+                value = loader.get();
+            }
             entity.onCached(key, value);
             loaded = true;
             return value;
@@ -218,6 +312,26 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
          * Called when this entity instance is removed
          */
         void onRemoval(RemovalNotification<Key, BytesReference> notification);
+
+        /**
+         * Called each time this entity misses the heap tier but has a hit in the disk tier.
+         */
+        void onDiskHit();
+
+        /**
+         * Called each time this entity misses both the heap and the disk tier.
+         */
+        void onDiskMiss();
+
+        /**
+         * Called after a value was written to the disk tier.
+         */
+        void onDiskCached(long sizeInBytes);
+
+        /**
+         * Called when a value of this entity is removed from the disk tier.
+         */
+        void onDiskRemoval(long sizeInBytes, boolean evicted);
     }
 
     static class Key implements Accountable {
@@ -319,19 +433,31 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
             }
         }
         if (!currentKeysToClean.isEmpty() || !currentFullClean.isEmpty()) {
-            for (Iterator<Key> iterator = cache.keys().iterator(); iterator.hasNext(); ) {
-                Key key = iterator.next();
-                if (currentFullClean.contains(key.entity.getCacheIdentity())) {
-                    iterator.remove();
-                } else {
-                    if (currentKeysToClean.contains(new CleanupKey(key.entity, key.readerCacheKey))) {
-                        iterator.remove();
-                    }
-                }
+            clean(cache.keys(), currentKeysToClean, currentFullClean);
+            if (diskTier != null) {
+                pendingSpillValues.keySet().removeIf(key -> shouldClean(key, currentKeysToClean, currentFullClean));
+                clean(diskTier.keys(), currentKeysToClean, currentFullClean);
             }
         }
 
         cache.refresh();
+        if (diskTier != null) {
+            diskTier.refresh();
+        }
+    }
+
+    private void clean(Iterable<Key> keys, ObjectSet<CleanupKey> currentKeysToClean, ObjectSet<Object> currentFullClean) {
+        for (Iterator<Key> iterator = keys.iterator(); iterator.hasNext(); ) {
+            Key key = iterator.next();
+            if (shouldClean(key, currentKeysToClean, currentFullClean)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private boolean shouldClean(Key key, ObjectSet<CleanupKey> currentKeysToClean, ObjectSet<Object> currentFullClean) {
+        return currentFullClean.contains(key.entity.getCacheIdentity())
+            || currentKeysToClean.contains(new CleanupKey(key.entity, key.readerCacheKey));
     }
 
 
@@ -342,6 +468,13 @@ public final class IndicesRequestCache implements RemovalListener<IndicesRequest
         return cache.count();
     }
 
+    /**
+     * Returns the current number of entries in the disk tier
+     */
+    int diskCount() { // for testing
+        return diskTier == null ? 0 : diskTier.count();
+    }
+
     int numRegisteredCloseListeners() { // for testing
         return registeredClosedListeners.size();
     }
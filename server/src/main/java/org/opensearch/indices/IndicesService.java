@@ -109,11 +109,13 @@ import org.opensearch.index.engine.EngineConfig;
 import org.opensearch.index.engine.EngineFactory;
 import org.opensearch.index.engine.InternalEngineFactory;
 import org.opensearch.index.engine.NoOpEngine;
+import org.opensearch.index.engine.ReadOnlyEngine;
 import org.opensearch.index.fielddata.IndexFieldDataCache;
 import org.opensearch.index.flush.FlushStats;
 import org.opensearch.index.get.GetStats;
 import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.merge.AdaptiveMergeThrottle;
 import org.opensearch.index.merge.MergeStats;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
@@ -130,15 +132,19 @@ import org.opensearch.index.shard.IndexShardState;
 import org.opensearch.index.shard.IndexingOperationListener;
 import org.opensearch.index.shard.IndexingStats;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.translog.TranslogStats;
+import org.opensearch.index.translog.TranslogSyncCoordinator;
 import org.opensearch.indices.breaker.CircuitBreakerService;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.fielddata.cache.IndicesFieldDataCache;
 import org.opensearch.indices.mapper.MapperRegistry;
 import org.opensearch.indices.recovery.PeerRecoveryTargetService;
 import org.opensearch.indices.recovery.RecoveryState;
+import org.opensearch.indices.replication.checkpoint.SegmentReplicationCheckpointPublisher;
 import org.opensearch.node.Node;
 import org.opensearch.plugins.IndexStorePlugin;
 import org.opensearch.plugins.PluginsService;
+import org.opensearch.plugins.SearchPlugin;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.script.ScriptService;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
@@ -247,11 +253,15 @@ public class IndicesService extends AbstractLifecycleComponent
     private final Set<Index> danglingIndicesToWrite = Sets.newConcurrentHashSet();
     private final boolean nodeWriteDanglingIndicesInfo;
     private final ValuesSourceRegistry valuesSourceRegistry;
+    @Nullable
+    private final TranslogSyncCoordinator translogSyncCoordinator;
+    private final AdaptiveMergeThrottle adaptiveMergeThrottle;
 
     @Override
     protected void doStart() {
         // Start thread that will manage cleaning the field data cache periodically
         threadPool.schedule(this.cacheCleaner, this.cleanInterval, ThreadPool.Names.SAME);
+        adaptiveMergeThrottle.start();
     }
 
     public IndicesService(Settings settings, PluginsService pluginsService, NodeEnvironment nodeEnv, NamedXContentRegistry xContentRegistry,
@@ -268,11 +278,16 @@ public class IndicesService extends AbstractLifecycleComponent
         this.nodeEnv = nodeEnv;
         this.xContentRegistry = xContentRegistry;
         this.valuesSourceRegistry = valuesSourceRegistry;
+        this.translogSyncCoordinator = TranslogSyncCoordinator.GROUP_COMMIT_ENABLED_SETTING.get(settings)
+            ? new TranslogSyncCoordinator(threadPool, nodeEnv) : null;
+        this.adaptiveMergeThrottle = new AdaptiveMergeThrottle(settings, clusterService.getClusterSettings(), threadPool, nodeEnv);
         this.shardsClosedTimeout = settings.getAsTime(INDICES_SHARDS_CLOSED_TIMEOUT, new TimeValue(1, TimeUnit.DAYS));
         this.analysisRegistry = analysisRegistry;
         this.indexNameExpressionResolver = indexNameExpressionResolver;
-        this.indicesRequestCache = new IndicesRequestCache(settings);
-        this.indicesQueryCache = new IndicesQueryCache(settings);
+        this.indicesRequestCache = new IndicesRequestCache(settings,
+            nodeEnv.hasNodeFile() ? nodeEnv.nodeDataPaths()[0].resolve(IndicesRequestCache.DISK_TIER_FOLDER) : null,
+            threadPool.generic());
+        this.indicesQueryCache = new IndicesQueryCache(settings, queryCacheAdmissionPolicy(pluginsService, settings));
         this.mapperRegistry = mapperRegistry;
         this.namedWriteableRegistry = namedWriteableRegistry;
         indexingMemoryController = new IndexingMemoryController(settings, threadPool,
@@ -353,6 +368,7 @@ public class IndicesService extends AbstractLifecycleComponent
 
     @Override
     protected void doStop() {
+        adaptiveMergeThrottle.stop();
         ThreadPool.terminate(danglingIndicesThreadPoolExecutor, 10, TimeUnit.SECONDS);
 
         ExecutorService indicesStopExecutor =
@@ -383,6 +399,7 @@ public class IndicesService extends AbstractLifecycleComponent
 
     @Override
     protected void doClose() throws IOException {
+        adaptiveMergeThrottle.close();
         indicesRefCount.decRef();
     }
 
@@ -662,6 +679,10 @@ public class IndicesService extends AbstractLifecycleComponent
         for (IndexingOperationListener operationListener : indexingOperationListeners) {
             indexModule.addIndexOperationListener(operationListener);
         }
+        if (translogSyncCoordinator != null) {
+            indexModule.setTranslogSyncCoordinator(translogSyncCoordinator);
+        }
+        indexModule.setAdaptiveMergeThrottle(adaptiveMergeThrottle);
         pluginsService.onIndexModule(indexModule);
         for (IndexEventListener listener : builtInListeners) {
             indexModule.addIndexEventListener(listener);
@@ -692,6 +713,10 @@ public class IndicesService extends AbstractLifecycleComponent
             // NoOpEngine takes precedence as long as the index is closed
             return NoOpEngine::new;
         }
+        if (idxSettings.isRemoteSnapshot()) {
+            // the files of remote snapshot indices are read from the repository and can never be written to
+            return config -> new ReadOnlyEngine(config, null, new TranslogStats(), false, Function.identity(), false);
+        }
 
         final List<Optional<EngineFactory>> engineFactories =
                 engineFactoryProviders
@@ -770,6 +795,7 @@ public class IndicesService extends AbstractLifecycleComponent
             final Consumer<IndexShard.ShardFailure> onShardFailure,
             final Consumer<ShardId> globalCheckpointSyncer,
             final RetentionLeaseSyncer retentionLeaseSyncer,
+            final SegmentReplicationCheckpointPublisher checkpointPublisher,
             final DiscoveryNode targetNode,
             final DiscoveryNode sourceNode) throws IOException {
         Objects.requireNonNull(retentionLeaseSyncer);
@@ -777,7 +803,8 @@ public class IndicesService extends AbstractLifecycleComponent
         IndexService indexService = indexService(shardRouting.index());
         assert indexService != null;
         RecoveryState recoveryState = indexService.createRecoveryState(shardRouting, targetNode, sourceNode);
-        IndexShard indexShard = indexService.createShard(shardRouting, globalCheckpointSyncer, retentionLeaseSyncer);
+        IndexShard indexShard = indexService.createShard(shardRouting, globalCheckpointSyncer, retentionLeaseSyncer,
+            checkpointPublisher);
         indexShard.addShardFailureCallback(onShardFailure);
         indexShard.startRecovery(recoveryState, recoveryTargetService, recoveryListener, repositoriesService,
             (type, mapping) -> {
@@ -838,6 +865,18 @@ public class IndicesService extends AbstractLifecycleComponent
         return indicesQueryCache;
     }
 
+    private static QueryCacheAdmissionPolicy queryCacheAdmissionPolicy(PluginsService pluginsService, Settings settings) {
+        final List<QueryCacheAdmissionPolicy> policies = pluginsService.filterPlugins(SearchPlugin.class).stream()
+            .map(plugin -> plugin.getQueryCacheAdmissionPolicy(settings))
+            .filter(Optional::isPresent)
+            .map(Optional::get)
+            .collect(Collectors.toList());
+        if (policies.size() > 1) {
+            throw new IllegalStateException("more than one plugin provides a query cache admission policy: " + policies);
+        }
+        return policies.isEmpty() ? null : policies.get(0);
+    }
+
     static class OldShardsStats implements IndexEventListener {
 
         final SearchStats searchStats = new SearchStats();
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.opensearch.common.Nullable;
+
+/**
+ * Decides which queries go through the node query cache, on top of the per-shard Lucene caching policy that decides which of them
+ * get cached. Queries that are not admitted are read from the index directly. Plugins can provide their own policy through
+ * {@link org.opensearch.plugins.SearchPlugin#getQueryCacheAdmissionPolicy}.
+ */
+@FunctionalInterface
+public interface QueryCacheAdmissionPolicy {
+
+    /**
+     * Admits every query, leaving the decision to the Lucene caching policy.
+     */
+    QueryCacheAdmissionPolicy ALWAYS = (queryType, buildCost, context) -> true;
+
+    /**
+     * Returns true if the given query should go through the cache on this segment.
+     *
+     * @param queryType the name of the query type, see {@link IndicesQueryCache#queryType}
+     * @param buildCost what it recently took to cache queries of this type, or <code>null</code> if they were never cached
+     */
+    boolean admit(String queryType, @Nullable BuildCost buildCost, LeafReaderContext context);
+
+    /**
+     * The measured cost of caching the queries of a type. Query types that are not admitted still go through the cache every now
+     * and then so that their cost keeps being measured.
+     */
+    interface BuildCost {
+
+        /**
+         * The number of times a query of this type was cached.
+         */
+        long samples();
+
+        /**
+         * The time it took to cache a query of this type per document of the segment, weighted towards the latest measurements.
+         */
+        double nanosPerDoc();
+    }
+}
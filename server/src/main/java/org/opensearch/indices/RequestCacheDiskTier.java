@@ -0,0 +1,183 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.indices;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.core.internal.io.IOUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The on-disk tier of the {@link IndicesRequestCache}. Entries that are evicted from the heap tier are spilled to one
+ * file each under a node local directory and are promoted back to the heap tier on their next hit. The tier is
+ * bounded by the total size of its files and evicts the least recently used entries first. Entries are keyed by
+ * the same {@link IndicesRequestCache.Key} as the heap tier so they are invalidated together with it when a
+ * reader is closed or a shard is cleared. Removal listeners are called under the lock of the cache, so the files of
+ * removed entries are queued and deleted on a background executor.
+ * <p>
+ * The content of the directory does not survive a restart since the reader cache keys it relies on don't.
+ */
+final class RequestCacheDiskTier implements RemovalListener<IndicesRequestCache.Key, RequestCacheDiskTier.DiskEntry>, Closeable {
+
+    private static final Logger logger = LogManager.getLogger(RequestCacheDiskTier.class);
+
+    private final Path path;
+    private final Cache<IndicesRequestCache.Key, DiskEntry> cache;
+    private final AtomicLong fileCounter = new AtomicLong();
+    private final Executor deletionExecutor;
+    private final Queue<Path> pendingDeletes = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean deleting = new AtomicBoolean();
+
+    /**
+     * @param deletionExecutor the executor that deletes the files of removed entries
+     */
+    RequestCacheDiskTier(Path path, long maxSizeInBytes, Executor deletionExecutor) throws IOException {
+        this.path = path;
+        this.deletionExecutor = deletionExecutor;
+        // files left behind by a previous run can never be hit again
+        IOUtils.rm(path);
+        Files.createDirectories(path);
+        this.cache = CacheBuilder.<IndicesRequestCache.Key, DiskEntry>builder()
+            .setMaximumWeight(maxSizeInBytes).weigher((k, v) -> v.sizeInBytes).removalListener(this).build();
+    }
+
+    /**
+     * Writes the given value to disk. Failures are logged and ignored, the entry is simply not cached.
+     */
+    void put(IndicesRequestCache.Key key, BytesReference value) {
+        final Path file = path.resolve(Long.toString(fileCounter.getAndIncrement()));
+        try (OutputStream out = Files.newOutputStream(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            value.writeTo(out);
+        } catch (IOException e) {
+            logger.debug(new ParameterizedMessage("failed to spill request cache entry to [{}]", file), e);
+            IOUtils.deleteFilesIgnoringExceptions(file);
+            return;
+        }
+        final DiskEntry entry = new DiskEntry(file, value.length());
+        key.entity.onDiskCached(entry.sizeInBytes);
+        cache.put(key, entry);
+        deletePendingFiles();
+    }
+
+    /**
+     * Returns the value for the given key and removes it from this tier, or <code>null</code> if there is no such entry.
+     */
+    @Nullable
+    BytesReference remove(IndicesRequestCache.Key key) {
+        final DiskEntry entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        final byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(entry.file);
+        } catch (IOException e) {
+            // most likely evicted concurrently
+            logger.trace(new ParameterizedMessage("failed to read request cache entry from [{}]", entry.file), e);
+            return null;
+        } finally {
+            cache.invalidate(key, entry);
+            deletePendingFiles();
+        }
+        return new BytesArray(bytes);
+    }
+
+    void invalidate(IndicesRequestCache.Key key) {
+        cache.invalidate(key);
+        deletePendingFiles();
+    }
+
+    Iterable<IndicesRequestCache.Key> keys() {
+        return cache.keys();
+    }
+
+    void refresh() {
+        cache.refresh();
+        deletePendingFiles();
+    }
+
+    int count() {
+        return cache.count();
+    }
+
+    @Override
+    public void onRemoval(RemovalNotification<IndicesRequestCache.Key, DiskEntry> notification) {
+        final DiskEntry entry = notification.getValue();
+        pendingDeletes.add(entry.file);
+        notification.getKey().entity.onDiskRemoval(entry.sizeInBytes,
+            notification.getRemovalReason() == RemovalNotification.RemovalReason.EVICTED);
+    }
+
+    /**
+     * Deletes the files of removed entries on the deletion executor, unless a deletion task is running already.
+     */
+    private void deletePendingFiles() {
+        if (pendingDeletes.isEmpty() == false && deleting.compareAndSet(false, true)) {
+            try {
+                deletionExecutor.execute(this::drainPendingDeletes);
+            } catch (RejectedExecutionException e) {
+                // the node is shutting down, the directory is removed when the tier is closed
+                logger.debug("failed to schedule the deletion of request cache entries", e);
+                deleting.set(false);
+            }
+        }
+    }
+
+    private void drainPendingDeletes() {
+        do {
+            try {
+                Path file;
+                while ((file = pendingDeletes.poll()) != null) {
+                    IOUtils.deleteFilesIgnoringExceptions(file);
+                }
+            } finally {
+                deleting.set(false);
+            }
+            // files that were queued after the queue was found empty but before the flag was reset are deleted too
+        } while (pendingDeletes.isEmpty() == false && deleting.compareAndSet(false, true));
+    }
+
+    @Override
+    public void close() throws IOException {
+        cache.invalidateAll();
+        pendingDeletes.clear();
+        IOUtils.rm(path);
+    }
+
+    static final class DiskEntry {
+        final Path file;
+        final long sizeInBytes;
+
+        DiskEntry(Path file, long sizeInBytes) {
+            this.file = file;
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+}
@@ -37,6 +37,7 @@ import org.apache.lucene.util.automaton.Automaton;
 import org.apache.lucene.util.automaton.CharacterRunAutomaton;
 import org.apache.lucene.util.automaton.MinimizationOperations;
 import org.apache.lucene.util.automaton.Operations;
+import org.opensearch.action.search.AsyncSearchIndexService;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.regex.Regex;
@@ -52,7 +53,6 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.singletonList;
-import static java.util.Collections.singletonMap;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
 import static org.opensearch.tasks.TaskResultsService.TASK_INDEX;
@@ -63,9 +63,16 @@ import static org.opensearch.tasks.TaskResultsService.TASK_INDEX;
  * to reduce the locations within the code that need to deal with {@link SystemIndexDescriptor}s.
  */
 public class SystemIndices {
-    private static final Map<String, Collection<SystemIndexDescriptor>> SERVER_SYSTEM_INDEX_DESCRIPTORS = singletonMap(
-        TaskResultsService.class.getName(), singletonList(new SystemIndexDescriptor(TASK_INDEX + "*", "Task Result Index"))
-    );
+    private static final Map<String, Collection<SystemIndexDescriptor>> SERVER_SYSTEM_INDEX_DESCRIPTORS;
+
+    static {
+        final Map<String, Collection<SystemIndexDescriptor>> descriptors = new HashMap<>();
+        descriptors.put(TaskResultsService.class.getName(),
+            singletonList(new SystemIndexDescriptor(TASK_INDEX + "*", "Task Result Index")));
+        descriptors.put(AsyncSearchIndexService.class.getName(),
+            singletonList(new SystemIndexDescriptor(AsyncSearchIndexService.INDEX + "*", "Async Search Result Index")));
+        SERVER_SYSTEM_INDEX_DESCRIPTORS = unmodifiableMap(descriptors);
+    }
 
     private final CharacterRunAutomaton runAutomaton;
     private final Collection<SystemIndexDescriptor> systemIndexDescriptors;
@@ -81,6 +81,9 @@ import org.opensearch.indices.recovery.PeerRecoverySourceService;
 import org.opensearch.indices.recovery.PeerRecoveryTargetService;
 import org.opensearch.indices.recovery.RecoveryFailedException;
 import org.opensearch.indices.recovery.RecoveryState;
+import org.opensearch.indices.replication.SegmentReplicationSourceService;
+import org.opensearch.indices.replication.SegmentReplicationTargetService;
+import org.opensearch.indices.replication.checkpoint.SegmentReplicationCheckpointPublisher;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.search.SearchService;
 import org.opensearch.snapshots.SnapshotShardsService;
@@ -132,6 +135,7 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
     private final PrimaryReplicaSyncer primaryReplicaSyncer;
     private final Consumer<ShardId> globalCheckpointSyncer;
     private final RetentionLeaseSyncer retentionLeaseSyncer;
+    private final SegmentReplicationCheckpointPublisher checkpointPublisher;
 
     @Inject
     public IndicesClusterStateService(
@@ -149,7 +153,10 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
             final SnapshotShardsService snapshotShardsService,
             final PrimaryReplicaSyncer primaryReplicaSyncer,
             final GlobalCheckpointSyncAction globalCheckpointSyncAction,
-            final RetentionLeaseSyncer retentionLeaseSyncer) {
+            final RetentionLeaseSyncer retentionLeaseSyncer,
+            final SegmentReplicationTargetService segmentReplicationTargetService,
+            final SegmentReplicationSourceService segmentReplicationSourceService,
+            final SegmentReplicationCheckpointPublisher checkpointPublisher) {
         this(
                 settings,
                 indicesService,
@@ -165,7 +172,10 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
                 snapshotShardsService,
                 primaryReplicaSyncer,
                 globalCheckpointSyncAction::updateGlobalCheckpointForShard,
-                retentionLeaseSyncer);
+                retentionLeaseSyncer,
+                segmentReplicationTargetService,
+                segmentReplicationSourceService,
+                checkpointPublisher);
     }
 
     // for tests
@@ -184,7 +194,10 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
             final SnapshotShardsService snapshotShardsService,
             final PrimaryReplicaSyncer primaryReplicaSyncer,
             final Consumer<ShardId> globalCheckpointSyncer,
-            final RetentionLeaseSyncer retentionLeaseSyncer) {
+            final RetentionLeaseSyncer retentionLeaseSyncer,
+            final SegmentReplicationTargetService segmentReplicationTargetService,
+            final SegmentReplicationSourceService segmentReplicationSourceService,
+            final SegmentReplicationCheckpointPublisher checkpointPublisher) {
         this.settings = settings;
         this.buildInIndexListener =
                 Arrays.asList(
@@ -192,7 +205,9 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
                         recoveryTargetService,
                         searchService,
                         syncedFlushService,
-                        snapshotShardsService);
+                        snapshotShardsService,
+                        segmentReplicationTargetService,
+                        segmentReplicationSourceService);
         this.indicesService = indicesService;
         this.clusterService = clusterService;
         this.threadPool = threadPool;
@@ -203,6 +218,7 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
         this.primaryReplicaSyncer = primaryReplicaSyncer;
         this.globalCheckpointSyncer = globalCheckpointSyncer;
         this.retentionLeaseSyncer = Objects.requireNonNull(retentionLeaseSyncer);
+        this.checkpointPublisher = Objects.requireNonNull(checkpointPublisher);
         this.sendRefreshMapping = settings.getAsBoolean("indices.cluster.send_refresh_mapping", true);
     }
 
@@ -611,6 +627,7 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
                     failedShardHandler,
                     globalCheckpointSyncer,
                     retentionLeaseSyncer,
+                    checkpointPublisher,
                     nodes.getLocalNode(),
                     sourceNode);
         } catch (Exception e) {
@@ -908,6 +925,7 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
          * @param onShardFailure         a callback when this shard fails
          * @param globalCheckpointSyncer a callback when this shard syncs the global checkpoint
          * @param retentionLeaseSyncer   a callback when this shard syncs retention leases
+         * @param checkpointPublisher    a callback when this shard publishes a segment replication checkpoint
          * @param targetNode             the node where this shard will be recovered
          * @param sourceNode             the source node to recover this shard from (it might be null)
          * @return a new shard
@@ -921,6 +939,7 @@ public class IndicesClusterStateService extends AbstractLifecycleComponent imple
                 Consumer<IndexShard.ShardFailure> onShardFailure,
                 Consumer<ShardId> globalCheckpointSyncer,
                 RetentionLeaseSyncer retentionLeaseSyncer,
+                SegmentReplicationCheckpointPublisher checkpointPublisher,
                 DiscoveryNode targetNode,
                 @Nullable DiscoveryNode sourceNode) throws IOException;
 
@@ -34,6 +34,7 @@ package org.opensearch.indices.recovery;
 
 import org.apache.lucene.util.Version;
 import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.lucene.Lucene;
@@ -47,7 +48,7 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
     private final long recoveryId;
     private final ShardId shardId;
     private final long position;
-    private final BytesReference content;
+    private final ReleasableBytesReference content;
     private final StoreFileMetadata metadata;
     private final long sourceThrottleTimeInNanos;
 
@@ -61,7 +62,7 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
         position = in.readVLong();
         long length = in.readVLong();
         String checksum = in.readString();
-        content = in.readBytesReference();
+        content = in.readReleasableBytesReference();
         Version writtenBy = Lucene.parseVersionLenient(in.readString(), null);
         assert writtenBy != null;
         metadata = new StoreFileMetadata(name, length, checksum, writtenBy);
@@ -77,7 +78,7 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
         this.shardId = shardId;
         this.metadata = metadata;
         this.position = position;
-        this.content = content;
+        this.content = ReleasableBytesReference.wrap(content);
         this.lastChunk = lastChunk;
         this.totalTranslogOps = totalTranslogOps;
         this.sourceThrottleTimeInNanos = sourceThrottleTimeInNanos;
@@ -103,7 +104,11 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
         return metadata.length();
     }
 
-    public BytesReference content() {
+    /**
+     * Returns the content of this chunk. On the receiving side it references the network buffers the request was read from, so it
+     * must be released once it has been written or retained for later.
+     */
+    public ReleasableBytesReference content() {
         return content;
     }
 
@@ -124,7 +129,8 @@ public final class RecoveryFileChunkRequest extends RecoveryTransportRequest {
         out.writeVLong(position);
         out.writeVLong(metadata.length());
         out.writeString(metadata.checksum());
-        out.writeBytesReference(content);
+        // the chunk is read into a buffer that the sender keeps until the request completes, no need to copy it
+        out.writeZeroCopyBytesReference(content);
         out.writeString(metadata.writtenBy().toString());
         out.writeBoolean(lastChunk);
         out.writeVInt(totalTranslogOps);
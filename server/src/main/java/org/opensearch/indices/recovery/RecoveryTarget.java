@@ -436,13 +436,21 @@ public class RecoveryTarget extends AbstractRefCounted implements RecoveryTarget
             final Store store = store();
             store.incRef();
             try {
-                store.cleanupAndVerify("recovery CleanFilesRequestHandler", sourceMetadata);
-                if (indexShard.indexSettings().getIndexVersionCreated().before(LegacyESVersion.V_6_0_0_rc1)) {
-                    store.ensureIndexHasHistoryUUID();
+                if (indexShard.indexSettings().isRemoteSnapshot()) {
+                    // source and target read the same snapshotted files and the commit can't be rewritten, so only create an empty
+                    // translog with the translog UUID that the commit already references
+                    final String translogUUID = store.readLastCommittedSegmentsInfo().getUserData().get(Translog.TRANSLOG_UUID_KEY);
+                    Translog.createEmptyTranslog(indexShard.shardPath().resolveTranslog(), shardId, globalCheckpoint,
+                        indexShard.getPendingPrimaryTerm(), translogUUID, null);
+                } else {
+                    store.cleanupAndVerify("recovery CleanFilesRequestHandler", sourceMetadata);
+                    if (indexShard.indexSettings().getIndexVersionCreated().before(LegacyESVersion.V_6_0_0_rc1)) {
+                        store.ensureIndexHasHistoryUUID();
+                    }
+                    final String translogUUID = Translog.createEmptyTranslog(
+                        indexShard.shardPath().resolveTranslog(), globalCheckpoint, shardId, indexShard.getPendingPrimaryTerm());
+                    store.associateIndexWithNewTranslog(translogUUID);
                 }
-                final String translogUUID = Translog.createEmptyTranslog(
-                    indexShard.shardPath().resolveTranslog(), globalCheckpoint, shardId, indexShard.getPendingPrimaryTerm());
-                store.associateIndexWithNewTranslog(translogUUID);
 
                 if (indexShard.getRetentionLeases().leases().isEmpty()) {
                     // if empty, may be a fresh IndexShard, so write an empty leases file to disk
@@ -487,6 +495,10 @@ public class RecoveryTarget extends AbstractRefCounted implements RecoveryTarget
     public void writeFileChunk(StoreFileMetadata fileMetadata, long position, BytesReference content,
                                boolean lastChunk, int totalTranslogOps, ActionListener<Void> listener) {
         try {
+            if (indexShard.indexSettings().isRemoteSnapshot()) {
+                throw new IllegalStateException("cannot write file [" + fileMetadata.name() + "] of remote snapshot shard " + shardId
+                    + ", its files are read from the snapshot");
+            }
             state().getTranslog().totalOperations(totalTranslogOps);
             multiFileWriter.writeFileChunk(fileMetadata, position, content, lastChunk);
             listener.onResponse(null);
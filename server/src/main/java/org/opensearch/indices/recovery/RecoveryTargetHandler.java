@@ -115,7 +115,11 @@ public interface RecoveryTargetHandler {
      */
     void cleanFiles(int totalTranslogOps, long globalCheckpoint, Store.MetadataSnapshot sourceMetadata, ActionListener<Void> listener);
 
-    /** writes a partial file chunk to the target store */
+    /**
+     * writes a partial file chunk to the target store. The content may reference pooled or network buffers and is only valid until
+     * the listener is notified, implementations that keep a {@link org.opensearch.common.bytes.ReleasableBytesReference} content
+     * for longer must retain it.
+     */
     void writeFileChunk(StoreFileMetadata fileMetadata, long position, BytesReference content,
                         boolean lastChunk, int totalTranslogOps, ActionListener<Void> listener);
 
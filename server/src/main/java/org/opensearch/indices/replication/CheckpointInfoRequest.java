@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.indices.replication;
+
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+
+/**
+ * Request sent by a replica to the primary to start copying the segments that are currently searchable on the primary.
+ */
+public class CheckpointInfoRequest extends TransportRequest {
+
+    private final ShardId shardId;
+    private final String targetAllocationId;
+    private final DiscoveryNode targetNode;
+
+    public CheckpointInfoRequest(StreamInput in) throws IOException {
+        super(in);
+        shardId = new ShardId(in);
+        targetAllocationId = in.readString();
+        targetNode = new DiscoveryNode(in);
+    }
+
+    public CheckpointInfoRequest(ShardId shardId, String targetAllocationId, DiscoveryNode targetNode) {
+        this.shardId = shardId;
+        this.targetAllocationId = targetAllocationId;
+        this.targetNode = targetNode;
+    }
+
+    public ShardId shardId() {
+        return shardId;
+    }
+
+    public String targetAllocationId() {
+        return targetAllocationId;
+    }
+
+    public DiscoveryNode targetNode() {
+        return targetNode;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        shardId.writeTo(out);
+        out.writeString(targetAllocationId);
+        targetNode.writeTo(out);
+    }
+}
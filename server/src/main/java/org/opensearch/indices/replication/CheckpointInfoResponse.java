@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.indices.replication;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
+import org.opensearch.transport.TransportResponse;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Describes the segments that a replica copies from the primary: the segment infos, serialized as they would be in a
+ * {@code segments_N} file, and the metadata of the files they reference. The files are not deleted on the primary until the copy
+ * identified by {@link #copyId()} is released.
+ */
+public class CheckpointInfoResponse extends TransportResponse {
+
+    private final String copyId;
+    private final ReplicationCheckpoint checkpoint;
+    private final List<StoreFileMetadata> files;
+    private final byte[] infosBytes;
+
+    public CheckpointInfoResponse(StreamInput in) throws IOException {
+        super(in);
+        copyId = in.readString();
+        checkpoint = new ReplicationCheckpoint(in);
+        files = in.readList(StoreFileMetadata::new);
+        infosBytes = in.readByteArray();
+    }
+
+    public CheckpointInfoResponse(String copyId, ReplicationCheckpoint checkpoint, List<StoreFileMetadata> files, byte[] infosBytes) {
+        this.copyId = copyId;
+        this.checkpoint = checkpoint;
+        this.files = files;
+        this.infosBytes = infosBytes;
+    }
+
+    public String copyId() {
+        return copyId;
+    }
+
+    public ReplicationCheckpoint checkpoint() {
+        return checkpoint;
+    }
+
+    public List<StoreFileMetadata> files() {
+        return files;
+    }
+
+    public byte[] infosBytes() {
+        return infosBytes;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeString(copyId);
+        checkpoint.writeTo(out);
+        out.writeList(files);
+        out.writeByteArray(infosBytes);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.ByteBuffersDataOutput;
+import org.apache.lucene.store.ByteBuffersIndexOutput;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.util.concurrent.AbstractRefCounted;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * The segments of a primary that are being copied by a replica. The segment infos and the files they reference are retained until
+ * the last reference to the copy is released.
+ */
+final class CopyState extends AbstractRefCounted {
+
+    private final String copyId;
+    private final IndexShard shard;
+    private final DiscoveryNode targetNode;
+    private final Engine.SegmentInfosRef segmentInfosRef;
+    private final ReplicationCheckpoint checkpoint;
+    private final Map<String, StoreFileMetadata> metadataMap;
+    private final byte[] infosBytes;
+
+    CopyState(String copyId, IndexShard shard, DiscoveryNode targetNode) throws IOException {
+        super("replication-copy-state");
+        this.copyId = copyId;
+        this.shard = shard;
+        this.targetNode = targetNode;
+        final Store store = shard.store();
+        store.incRef();
+        Engine.SegmentInfosRef segmentInfosRef = null;
+        boolean success = false;
+        try {
+            segmentInfosRef = shard.acquireLatestSegmentInfos();
+            final SegmentInfos segmentInfos = segmentInfosRef.getSegmentInfos();
+            this.checkpoint = new ReplicationCheckpoint(shard.shardId(), shard.getOperationPrimaryTerm(), segmentInfos.getGeneration(),
+                segmentInfos.getVersion(), segmentInfosRef.getCheckpoint());
+            this.metadataMap = store.getSegmentMetadataMap(segmentInfos);
+            final ByteBuffersDataOutput buffer = new ByteBuffersDataOutput();
+            try (ByteBuffersIndexOutput indexOutput = new ByteBuffersIndexOutput(buffer, "", "")) {
+                segmentInfos.write(store.directory(), indexOutput);
+            }
+            this.infosBytes = buffer.toArrayCopy();
+            this.segmentInfosRef = segmentInfosRef;
+            success = true;
+        } finally {
+            if (success == false) {
+                try {
+                    if (segmentInfosRef != null) {
+                        segmentInfosRef.close();
+                    }
+                } finally {
+                    store.decRef();
+                }
+            }
+        }
+    }
+
+    String getCopyId() {
+        return copyId;
+    }
+
+    IndexShard getShard() {
+        return shard;
+    }
+
+    DiscoveryNode getTargetNode() {
+        return targetNode;
+    }
+
+    CheckpointInfoResponse toCheckpointInfoResponse() {
+        return new CheckpointInfoResponse(copyId, checkpoint, new ArrayList<>(metadataMap.values()), infosBytes);
+    }
+
+    /**
+     * Reads a chunk of a file that is part of this copy. The caller must hold a reference to this copy.
+     */
+    BytesReference readChunk(StoreFileMetadata metadata, long position, int length) throws IOException {
+        final StoreFileMetadata expected = metadataMap.get(metadata.name());
+        if (expected == null || expected.isSame(metadata) == false) {
+            throw new IllegalArgumentException("file [" + metadata.name() + "] is not part of copy [" + copyId + "]");
+        }
+        if (position < 0 || length < 0 || position + length > expected.length()) {
+            throw new IllegalArgumentException("invalid chunk [" + position + ", " + length + "] of file [" + metadata.name()
+                + "] with length [" + expected.length() + "]");
+        }
+        final byte[] bytes = new byte[length];
+        try (IndexInput indexInput = shard.store().directory().openInput(metadata.name(), IOContext.READONCE)) {
+            indexInput.seek(position);
+            indexInput.readBytes(bytes, 0, length);
+        }
+        return new BytesArray(bytes);
+    }
+
+    @Override
+    protected void closeInternal() {
+        try {
+            segmentInfosRef.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            shard.store().decRef();
+        }
+    }
+}
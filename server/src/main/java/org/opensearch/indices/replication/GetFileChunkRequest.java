@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.indices.replication;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+
+/**
+ * Request sent by a replica to the primary to read a chunk of a file of an ongoing copy.
+ */
+public class GetFileChunkRequest extends TransportRequest {
+
+    private final String copyId;
+    private final ShardId shardId;
+    private final StoreFileMetadata metadata;
+    private final long position;
+    private final int length;
+
+    public GetFileChunkRequest(StreamInput in) throws IOException {
+        super(in);
+        copyId = in.readString();
+        shardId = new ShardId(in);
+        metadata = new StoreFileMetadata(in);
+        position = in.readVLong();
+        length = in.readVInt();
+    }
+
+    public GetFileChunkRequest(String copyId, ShardId shardId, StoreFileMetadata metadata, long position, int length) {
+        this.copyId = copyId;
+        this.shardId = shardId;
+        this.metadata = metadata;
+        this.position = position;
+        this.length = length;
+    }
+
+    public String copyId() {
+        return copyId;
+    }
+
+    public ShardId shardId() {
+        return shardId;
+    }
+
+    public StoreFileMetadata metadata() {
+        return metadata;
+    }
+
+    public long position() {
+        return position;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(copyId);
+        shardId.writeTo(out);
+        metadata.writeTo(out);
+        out.writeVLong(position);
+        out.writeVInt(length);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.indices.replication;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.transport.TransportRequest;
+
+import java.io.IOException;
+
+/**
+ * Request sent by a replica to the primary once it no longer needs the files of a copy.
+ */
+public class ReleaseCopyRequest extends TransportRequest {
+
+    private final String copyId;
+    private final ShardId shardId;
+
+    public ReleaseCopyRequest(StreamInput in) throws IOException {
+        super(in);
+        copyId = in.readString();
+        shardId = new ShardId(in);
+    }
+
+    public ReleaseCopyRequest(String copyId, ShardId shardId) {
+        this.copyId = copyId;
+        this.shardId = shardId;
+    }
+
+    public String copyId() {
+        return copyId;
+    }
+
+    public ShardId shardId() {
+        return shardId;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeString(copyId);
+        shardId.writeTo(out);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+import org.opensearch.index.shard.IndexEventListener;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportChannel;
+import org.opensearch.transport.TransportRequestHandler;
+import org.opensearch.transport.TransportResponse;
+import org.opensearch.transport.TransportService;
+
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * The service on the primary of segment replicated indices that serves the segments of the primary to its replicas. A replica
+ * first asks for the segments that are currently searchable, which are retained as a copy until the replica has read their files
+ * and released it.
+ */
+public class SegmentReplicationSourceService extends AbstractLifecycleComponent implements IndexEventListener, ClusterStateListener {
+
+    private static final Logger logger = LogManager.getLogger(SegmentReplicationSourceService.class);
+
+    public static class Actions {
+        public static final String GET_CHECKPOINT_INFO = "internal:index/shard/replication/get_checkpoint_info";
+        public static final String GET_FILE_CHUNK = "internal:index/shard/replication/get_file_chunk";
+        public static final String RELEASE_COPY = "internal:index/shard/replication/release_copy";
+    }
+
+    private final IndicesService indicesService;
+    private final Map<String, CopyState> ongoingCopies = ConcurrentCollections.newConcurrentMap();
+
+    public SegmentReplicationSourceService(TransportService transportService, IndicesService indicesService) {
+        this.indicesService = indicesService;
+        transportService.registerRequestHandler(Actions.GET_CHECKPOINT_INFO, ThreadPool.Names.GENERIC, CheckpointInfoRequest::new,
+            new CheckpointInfoRequestHandler());
+        transportService.registerRequestHandler(Actions.GET_FILE_CHUNK, ThreadPool.Names.GENERIC, GetFileChunkRequest::new,
+            new GetFileChunkRequestHandler());
+        transportService.registerRequestHandler(Actions.RELEASE_COPY, ThreadPool.Names.GENERIC, ReleaseCopyRequest::new,
+            new ReleaseCopyRequestHandler());
+    }
+
+    @Override
+    protected void doStart() {
+        final ClusterService clusterService = indicesService.clusterService();
+        if (DiscoveryNode.isDataNode(clusterService.getSettings())) {
+            clusterService.addListener(this);
+        }
+    }
+
+    @Override
+    protected void doStop() {
+        final ClusterService clusterService = indicesService.clusterService();
+        if (DiscoveryNode.isDataNode(clusterService.getSettings())) {
+            clusterService.removeListener(this);
+        }
+    }
+
+    @Override
+    protected void doClose() {
+        releaseCopies(copyState -> true);
+    }
+
+    @Override
+    public void beforeIndexShardClosed(ShardId shardId, @Nullable IndexShard indexShard, Settings indexSettings) {
+        if (indexShard != null) {
+            releaseCopies(copyState -> copyState.getShard() == indexShard);
+        }
+    }
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        if (event.nodesRemoved()) {
+            for (DiscoveryNode removedNode : event.nodesDelta().removedNodes()) {
+                releaseCopies(copyState -> copyState.getTargetNode().equals(removedNode));
+            }
+        }
+    }
+
+    private void releaseCopies(Predicate<CopyState> predicate) {
+        for (CopyState copyState : ongoingCopies.values()) {
+            if (predicate.test(copyState) && ongoingCopies.remove(copyState.getCopyId(), copyState)) {
+                logger.trace("{} releasing copy [{}]", copyState.getShard().shardId(), copyState.getCopyId());
+                copyState.decRef();
+            }
+        }
+    }
+
+    // exposed for testing
+    final int numberOfOngoingCopies() {
+        return ongoingCopies.size();
+    }
+
+    private CheckpointInfoResponse getCheckpointInfo(CheckpointInfoRequest request) throws Exception {
+        final IndexShard shard = indicesService.indexServiceSafe(request.shardId().getIndex()).getShard(request.shardId().id());
+        final ShardRouting routingEntry = shard.routingEntry();
+        if (routingEntry.primary() == false || routingEntry.active() == false) {
+            throw new IllegalStateException("source shard [" + routingEntry + "] is not an active primary");
+        }
+        final CopyState copyState = new CopyState(UUIDs.randomBase64UUID(), shard, request.targetNode());
+        ongoingCopies.put(copyState.getCopyId(), copyState);
+        logger.trace("{} started copy [{}] of checkpoint for [{}]", request.shardId(), copyState.getCopyId(),
+            request.targetAllocationId());
+        return copyState.toCheckpointInfoResponse();
+    }
+
+    private GetFileChunkResponse getFileChunk(GetFileChunkRequest request) throws Exception {
+        final CopyState copyState = ongoingCopies.get(request.copyId());
+        if (copyState == null || copyState.tryIncRef() == false) {
+            throw new ResourceNotFoundException("no ongoing copy [{}] for shard {}", request.copyId(), request.shardId());
+        }
+        try {
+            return new GetFileChunkResponse(copyState.readChunk(request.metadata(), request.position(), request.length()));
+        } finally {
+            copyState.decRef();
+        }
+    }
+
+    private void releaseCopy(ReleaseCopyRequest request) {
+        final CopyState copyState = ongoingCopies.remove(request.copyId());
+        if (copyState != null) {
+            copyState.decRef();
+        }
+    }
+
+    class CheckpointInfoRequestHandler implements TransportRequestHandler<CheckpointInfoRequest> {
+        @Override
+        public void messageReceived(CheckpointInfoRequest request, TransportChannel channel, Task task) throws Exception {
+            channel.sendResponse(getCheckpointInfo(request));
+        }
+    }
+
+    class GetFileChunkRequestHandler implements TransportRequestHandler<GetFileChunkRequest> {
+        @Override
+        public void messageReceived(GetFileChunkRequest request, TransportChannel channel, Task task) throws Exception {
+            channel.sendResponse(getFileChunk(request));
+        }
+    }
+
+    class ReleaseCopyRequestHandler implements TransportRequestHandler<ReleaseCopyRequest> {
+        @Override
+        public void messageReceived(ReleaseCopyRequest request, TransportChannel channel, Task task) throws Exception {
+            releaseCopy(request);
+            channel.sendResponse(TransportResponse.Empty.INSTANCE);
+        }
+    }
+}
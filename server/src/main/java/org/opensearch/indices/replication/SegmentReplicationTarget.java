@@ -0,0 +1,211 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.BufferedChecksumIndexInput;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.StepListener;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.logging.Loggers;
+import org.opensearch.common.lucene.store.ByteArrayIndexInput;
+import org.opensearch.common.util.CancellableThreads;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.recovery.MultiFileWriter;
+import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.indices.recovery.RecoveryState;
+import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.EmptyTransportResponseHandler;
+import org.opensearch.transport.TransportException;
+import org.opensearch.transport.TransportRequestOptions;
+import org.opensearch.transport.TransportService;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Copies the segments that are searchable on the primary to a replica of a segment replicated index. The files that the replica
+ * is missing are read chunk by chunk and written to temporary files which are renamed once all of them are complete, and the
+ * segments are then installed on the replica's engine.
+ */
+class SegmentReplicationTarget {
+
+    private final Logger logger;
+    private final IndexShard shard;
+    private final DiscoveryNode sourceNode;
+    private final TransportService transportService;
+    private final RecoverySettings recoverySettings;
+    private final RecoveryState.Index indexState = new RecoveryState.Index();
+    private final MultiFileWriter multiFileWriter;
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final TransportRequestOptions requestOptions;
+
+    SegmentReplicationTarget(IndexShard shard, DiscoveryNode sourceNode, TransportService transportService,
+                             RecoverySettings recoverySettings) {
+        this.logger = Loggers.getLogger(getClass(), shard.shardId());
+        this.shard = shard;
+        this.sourceNode = sourceNode;
+        this.transportService = transportService;
+        this.recoverySettings = recoverySettings;
+        this.multiFileWriter = new MultiFileWriter(shard.store(), indexState,
+            "replication." + UUIDs.randomBase64UUID() + ".", logger, this::ensureNotCancelled);
+        this.requestOptions = TransportRequestOptions.builder().withTimeout(recoverySettings.internalActionTimeout()).build();
+    }
+
+    IndexShard shard() {
+        return shard;
+    }
+
+    /**
+     * Cancels the replication, temporary files are deleted once the chunk that is being written, if any, is done.
+     */
+    void cancel(String reason) {
+        if (cancelled.compareAndSet(false, true)) {
+            logger.debug("segment replication cancelled: {}", reason);
+            multiFileWriter.close();
+        }
+    }
+
+    private void ensureNotCancelled() {
+        if (cancelled.get()) {
+            throw new CancellableThreads.ExecutionCancelledException("segment replication was cancelled");
+        }
+    }
+
+    /**
+     * Copies the segments of the primary and installs them, the listener is notified once the replication is done, which may be
+     * without copying anything if the replica is already up to date.
+     */
+    void startReplication(ActionListener<Void> listener) {
+        final ActionListener<Void> finalListener = ActionListener.runAfter(listener, multiFileWriter::close);
+        final StepListener<CheckpointInfoResponse> checkpointInfoStep = new StepListener<>();
+        transportService.sendRequest(sourceNode, SegmentReplicationSourceService.Actions.GET_CHECKPOINT_INFO,
+            new CheckpointInfoRequest(shard.shardId(), shard.routingEntry().allocationId().getId(), transportService.getLocalNode()),
+            requestOptions, new ActionListenerResponseHandler<>(checkpointInfoStep, CheckpointInfoResponse::new, ThreadPool.Names.GENERIC));
+        checkpointInfoStep.whenComplete(checkpointInfo -> {
+            final ActionListener<Void> releasingListener = ActionListener.runAfter(finalListener,
+                () -> releaseCopy(checkpointInfo.copyId()));
+            try {
+                copySegments(checkpointInfo, releasingListener);
+            } catch (Exception e) {
+                releasingListener.onFailure(e);
+            }
+        }, finalListener::onFailure);
+    }
+
+    private void copySegments(CheckpointInfoResponse checkpointInfo, ActionListener<Void> listener) throws Exception {
+        ensureNotCancelled();
+        final ReplicationCheckpoint checkpoint = checkpointInfo.checkpoint();
+        final Store.MetadataSnapshot localSnapshot;
+        try (Engine.SegmentInfosRef segmentInfosRef = shard.acquireLatestSegmentInfos()) {
+            final SegmentInfos localInfos = segmentInfosRef.getSegmentInfos();
+            // the versions of the segment infos of a new primary can be lower than those of the old one, so the replica copies the
+            // segments of the primary as soon as they differ rather than when they look newer
+            if (checkpoint.getSegmentsGen() == localInfos.getGeneration()
+                && checkpoint.getSegmentInfosVersion() == localInfos.getVersion()) {
+                logger.trace("skipping checkpoint {}, replica already has these segments", checkpoint);
+                listener.onResponse(null);
+                return;
+            }
+            localSnapshot = new Store.MetadataSnapshot(shard.store().getSegmentMetadataMap(localInfos), Collections.emptyMap(), 0);
+        }
+        final Map<String, StoreFileMetadata> sourceFiles = new HashMap<>();
+        for (StoreFileMetadata file : checkpointInfo.files()) {
+            sourceFiles.put(file.name(), file);
+        }
+        final Store.RecoveryDiff diff =
+            new Store.MetadataSnapshot(sourceFiles, Collections.emptyMap(), 0).segmentReplicationDiff(localSnapshot);
+        if (diff.different.isEmpty() == false) {
+            // the primary wrote files with the same names but different contents, which only happens when the replica is not a
+            // copy of this primary anymore, so let the shard be recovered from scratch
+            final IllegalStateException e = new IllegalStateException("segment replication of checkpoint " + checkpoint
+                + " found files that differ from the primary " + diff.different);
+            shard.failShard("segment replication found files that differ from the primary", e);
+            throw e;
+        }
+        logger.trace("replicating checkpoint {}, copying {} files, reusing {} files", checkpoint, diff.missing.size(),
+            diff.identical.size());
+        final StepListener<Void> copyFilesStep = new StepListener<>();
+        fetchFiles(checkpointInfo.copyId(), diff.missing, copyFilesStep);
+        copyFilesStep.whenComplete(r -> {
+            ensureNotCancelled();
+            multiFileWriter.renameAllTempFiles();
+            final byte[] infosBytes = checkpointInfo.infosBytes();
+            final SegmentInfos infos = SegmentInfos.readCommit(shard.store().directory(),
+                new BufferedChecksumIndexInput(new ByteArrayIndexInput("SegmentInfos", infosBytes)), checkpoint.getSegmentsGen());
+            shard.finalizeReplication(infos, checkpoint.getSeqNo());
+            listener.onResponse(null);
+        }, listener::onFailure);
+    }
+
+    private void fetchFiles(String copyId, List<StoreFileMetadata> files, ActionListener<Void> listener) {
+        for (StoreFileMetadata file : files) {
+            indexState.addFileDetail(file.name(), file.length(), false);
+        }
+        fetchNextChunk(copyId, files.iterator(), null, 0, listener);
+    }
+
+    /**
+     * Fetches the chunks of the files one at a time, the next chunk is requested once the previous one has been written.
+     */
+    private void fetchNextChunk(String copyId, Iterator<StoreFileMetadata> files, StoreFileMetadata current, long position,
+                                ActionListener<Void> listener) {
+        try {
+            ensureNotCancelled();
+            if (current == null || position >= current.length()) {
+                if (files.hasNext() == false) {
+                    listener.onResponse(null);
+                    return;
+                }
+                current = files.next();
+                position = 0;
+            }
+            final StoreFileMetadata file = current;
+            final long chunkPosition = position;
+            final int length = Math.toIntExact(Math.min(recoverySettings.getChunkSize().getBytes(), file.length() - position));
+            final boolean lastChunk = chunkPosition + length == file.length();
+            transportService.sendRequest(sourceNode, SegmentReplicationSourceService.Actions.GET_FILE_CHUNK,
+                new GetFileChunkRequest(copyId, shard.shardId(), file, chunkPosition, length), requestOptions,
+                new ActionListenerResponseHandler<>(ActionListener.wrap(response -> {
+                    multiFileWriter.writeFileChunk(file, chunkPosition, response.content(), lastChunk);
+                    if (lastChunk && files.hasNext() == false) {
+                        listener.onResponse(null);
+                    } else {
+                        fetchNextChunk(copyId, files, file, chunkPosition + length, listener);
+                    }
+                }, listener::onFailure), GetFileChunkResponse::new, ThreadPool.Names.GENERIC));
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    private void releaseCopy(String copyId) {
+        transportService.sendRequest(sourceNode, SegmentReplicationSourceService.Actions.RELEASE_COPY,
+            new ReleaseCopyRequest(copyId, shard.shardId()), requestOptions,
+            new EmptyTransportResponseHandler(ThreadPool.Names.SAME) {
+                @Override
+                public void handleException(TransportException exp) {
+                    // the copy is released on the primary anyway if the replica's node leaves or the primary is closed
+                    logger.debug(new ParameterizedMessage("failed to release copy [{}]", copyId), exp);
+                }
+            });
+    }
+}
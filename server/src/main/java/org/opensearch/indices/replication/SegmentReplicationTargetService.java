@@ -0,0 +1,166 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.ActionListener;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.CancellableThreads;
+import org.opensearch.index.shard.IndexEventListener;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardState;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The service on the replicas of segment replicated indices that copies the segments of the primary whenever it publishes a new
+ * checkpoint. At most one replication runs per shard, checkpoints received in the meantime are replicated once it completes.
+ */
+public class SegmentReplicationTargetService implements IndexEventListener {
+
+    private static final Logger logger = LogManager.getLogger(SegmentReplicationTargetService.class);
+
+    private final ThreadPool threadPool;
+    private final TransportService transportService;
+    private final RecoverySettings recoverySettings;
+    private final ClusterService clusterService;
+
+    // guarded by this
+    private final Map<ShardId, SegmentReplicationTarget> ongoingReplications = new HashMap<>();
+    // guarded by this
+    private final Map<ShardId, ReplicationCheckpoint> latestReceivedCheckpoints = new HashMap<>();
+
+    public SegmentReplicationTargetService(ThreadPool threadPool, TransportService transportService, RecoverySettings recoverySettings,
+                                           ClusterService clusterService) {
+        this.threadPool = threadPool;
+        this.transportService = transportService;
+        this.recoverySettings = recoverySettings;
+        this.clusterService = clusterService;
+    }
+
+    @Override
+    public void afterIndexShardStarted(IndexShard indexShard) {
+        if (indexShard.indexSettings().isSegRepEnabled() && indexShard.routingEntry().primary() == false) {
+            // checkpoints published while the replica was recovering were ignored
+            threadPool.generic().execute(() -> startReplication(indexShard));
+        }
+    }
+
+    @Override
+    public void beforeIndexShardClosed(ShardId shardId, @Nullable IndexShard indexShard, Settings indexSettings) {
+        final SegmentReplicationTarget target;
+        synchronized (this) {
+            latestReceivedCheckpoints.remove(shardId);
+            target = ongoingReplications.remove(shardId);
+        }
+        if (target != null) {
+            target.cancel("shard closed");
+        }
+    }
+
+    /**
+     * Invoked when the primary of the given replica published a new checkpoint.
+     */
+    public void onNewCheckpoint(ReplicationCheckpoint checkpoint, IndexShard replica) {
+        if (replica.state() != IndexShardState.STARTED) {
+            // the replica catches up once it is started
+            return;
+        }
+        synchronized (this) {
+            final ReplicationCheckpoint latest = latestReceivedCheckpoints.get(replica.shardId());
+            if (checkpoint.isAheadOf(latest)) {
+                latestReceivedCheckpoints.put(replica.shardId(), checkpoint);
+            }
+            if (ongoingReplications.containsKey(replica.shardId())) {
+                logger.trace("{} replication is ongoing, checkpoint {} is replicated once it completes", replica.shardId(), checkpoint);
+                return;
+            }
+        }
+        startReplication(replica);
+    }
+
+    // exposed for testing
+    synchronized int numberOfOngoingReplications() {
+        return ongoingReplications.size();
+    }
+
+    private void startReplication(IndexShard replica) {
+        final DiscoveryNode primaryNode = findPrimaryNode(replica.shardId());
+        if (primaryNode == null) {
+            logger.trace("{} ignoring checkpoint, no active primary", replica.shardId());
+            return;
+        }
+        final SegmentReplicationTarget target = new SegmentReplicationTarget(replica, primaryNode, transportService, recoverySettings);
+        synchronized (this) {
+            if (ongoingReplications.putIfAbsent(replica.shardId(), target) != null) {
+                return;
+            }
+            latestReceivedCheckpoints.remove(replica.shardId());
+        }
+        target.startReplication(new ActionListener<Void>() {
+            @Override
+            public void onResponse(Void aVoid) {
+                onReplicationDone(target);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                if (e instanceof CancellableThreads.ExecutionCancelledException == false) {
+                    logger.warn(new ParameterizedMessage("{} segment replication failed", replica.shardId()), e);
+                }
+                onReplicationDone(target);
+            }
+        });
+    }
+
+    private void onReplicationDone(SegmentReplicationTarget target) {
+        final IndexShard replica = target.shard();
+        final ReplicationCheckpoint pending;
+        synchronized (this) {
+            if (ongoingReplications.remove(replica.shardId(), target) == false) {
+                // cancelled
+                return;
+            }
+            pending = latestReceivedCheckpoints.get(replica.shardId());
+        }
+        if (pending != null && replica.state() == IndexShardState.STARTED) {
+            threadPool.generic().execute(() -> startReplication(replica));
+        }
+    }
+
+    @Nullable
+    private DiscoveryNode findPrimaryNode(ShardId shardId) {
+        final ClusterState state = clusterService.state();
+        final IndexRoutingTable indexRoutingTable = state.routingTable().index(shardId.getIndex());
+        if (indexRoutingTable == null || indexRoutingTable.getIndex().equals(shardId.getIndex()) == false) {
+            return null;
+        }
+        final IndexShardRoutingTable shardRoutingTable = indexRoutingTable.shard(shardId.id());
+        final ShardRouting primary = shardRoutingTable == null ? null : shardRoutingTable.primaryShard();
+        if (primary == null || primary.active() == false) {
+            return null;
+        }
+        return state.nodes().get(primary.currentNodeId());
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication.checkpoint;
+
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.index.shard.ShardId;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Identifies the segments that a primary shard exposed to searches after a refresh, replicas compare it with their own
+ * checkpoint to decide whether they need to copy segments from the primary.
+ */
+public class ReplicationCheckpoint implements Writeable {
+
+    private final ShardId shardId;
+    private final long primaryTerm;
+    private final long segmentsGen;
+    private final long segmentInfosVersion;
+    private final long seqNo;
+
+    /**
+     * @param shardId             the shard the segments belong to
+     * @param primaryTerm         the term of the primary that produced the segments
+     * @param segmentsGen         the generation of the last commit the segments are based on
+     * @param segmentInfosVersion the version of the segment infos, which increases every time the segments change
+     * @param seqNo               a sequence number such that all operations up to and including it are contained in the segments
+     */
+    public ReplicationCheckpoint(ShardId shardId, long primaryTerm, long segmentsGen, long segmentInfosVersion, long seqNo) {
+        this.shardId = shardId;
+        this.primaryTerm = primaryTerm;
+        this.segmentsGen = segmentsGen;
+        this.segmentInfosVersion = segmentInfosVersion;
+        this.seqNo = seqNo;
+    }
+
+    public ReplicationCheckpoint(StreamInput in) throws IOException {
+        shardId = new ShardId(in);
+        primaryTerm = in.readLong();
+        segmentsGen = in.readLong();
+        segmentInfosVersion = in.readLong();
+        seqNo = in.readLong();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        shardId.writeTo(out);
+        out.writeLong(primaryTerm);
+        out.writeLong(segmentsGen);
+        out.writeLong(segmentInfosVersion);
+        out.writeLong(seqNo);
+    }
+
+    public ShardId getShardId() {
+        return shardId;
+    }
+
+    public long getPrimaryTerm() {
+        return primaryTerm;
+    }
+
+    public long getSegmentsGen() {
+        return segmentsGen;
+    }
+
+    public long getSegmentInfosVersion() {
+        return segmentInfosVersion;
+    }
+
+    public long getSeqNo() {
+        return seqNo;
+    }
+
+    /**
+     * Returns <code>true</code> if this checkpoint was produced by a newer primary than the given one, or by the same primary
+     * after the given one. A <code>null</code> checkpoint is always behind.
+     */
+    public boolean isAheadOf(ReplicationCheckpoint other) {
+        return other == null
+            || primaryTerm > other.primaryTerm
+            || (primaryTerm == other.primaryTerm && segmentInfosVersion > other.segmentInfosVersion);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReplicationCheckpoint that = (ReplicationCheckpoint) o;
+        return primaryTerm == that.primaryTerm
+            && segmentsGen == that.segmentsGen
+            && segmentInfosVersion == that.segmentInfosVersion
+            && seqNo == that.seqNo
+            && Objects.equals(shardId, that.shardId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(shardId, primaryTerm, segmentsGen, segmentInfosVersion, seqNo);
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicationCheckpoint{" +
+            "shardId=" + shardId +
+            ", primaryTerm=" + primaryTerm +
+            ", segmentsGen=" + segmentsGen +
+            ", segmentInfosVersion=" + segmentInfosVersion +
+            ", seqNo=" + seqNo +
+            '}';
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication.common;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * How the replicas of an index are kept in sync with their primary.
+ */
+public enum ReplicationType {
+
+    /**
+     * Replicas re-index every operation that the primary indexed. This is the default.
+     */
+    DOCUMENT,
+
+    /**
+     * Only the primary indexes operations, replicas write them to their translog and copy the segments of the primary after
+     * every refresh.
+     */
+    SEGMENT;
+
+    public static ReplicationType parseString(String replicationType) {
+        try {
+            return ReplicationType.valueOf(replicationType.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown replication type [" + replicationType + "], must be one of "
+                + Arrays.toString(values()), e);
+        }
+    }
+}
@@ -34,14 +34,18 @@ package org.opensearch.ingest;
 
 import org.opensearch.OpenSearchException;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.util.concurrent.AtomicArray;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
@@ -132,6 +136,18 @@ public class CompoundProcessor implements Processor {
         return null;
     }
 
+    /**
+     * Processors that are configured with <code>ignore_failure</code> or <code>on_failure</code> are wrapped in a compound processor,
+     * which reports the counters of the processor it wraps.
+     */
+    @Override
+    public Map<String, Long> getCounters() {
+        if (processors.size() == 1) {
+            return processors.get(0).getCounters();
+        }
+        return Collections.emptyMap();
+    }
+
     @Override
     public IngestDocument execute(IngestDocument ingestDocument) throws Exception {
         throw new UnsupportedOperationException("this method should not get executed");
@@ -180,6 +196,87 @@ public class CompoundProcessor implements Processor {
         });
     }
 
+    @Override
+    public boolean supportsBatchExecution() {
+        return processors.stream().anyMatch(Processor::supportsBatchExecution)
+            || onFailureProcessors.stream().anyMatch(Processor::supportsBatchExecution);
+    }
+
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        innerBatchExecute(0, ingestDocumentWrappers, new ArrayList<>(), handler);
+    }
+
+    /**
+     * Executes the processors from the given one on a batch of documents, one processor at a time for the whole batch. Documents
+     * that are dropped or fail leave the batch and are collected in <code>completed</code>, failed documents go through the on
+     * failure processors one by one.
+     */
+    void innerBatchExecute(int currentProcessor, List<IngestDocumentWrapper> ingestDocumentWrappers, List<IngestDocumentWrapper> completed,
+                           Consumer<List<IngestDocumentWrapper>> handler) {
+        if (currentProcessor == processorsWithMetrics.size() || ingestDocumentWrappers.isEmpty()) {
+            completed.addAll(ingestDocumentWrappers);
+            handler.accept(completed);
+            return;
+        }
+
+        Tuple<Processor, IngestMetric> processorWithMetric = processorsWithMetrics.get(currentProcessor);
+        final Processor processor = processorWithMetric.v1();
+        final IngestMetric metric = processorWithMetric.v2();
+        final long startTimeInNanos = relativeTimeProvider.getAsLong();
+        metric.preIngest(ingestDocumentWrappers.size());
+        processor.batchExecute(ingestDocumentWrappers, results -> {
+            long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos);
+            metric.postIngest(ingestDocumentWrappers.size(), ingestTimeInMillis);
+
+            final Map<Integer, IngestDocument> documentsBySlot = new HashMap<>();
+            for (IngestDocumentWrapper wrapper : ingestDocumentWrappers) {
+                documentsBySlot.put(wrapper.getSlot(), wrapper.getIngestDocument());
+            }
+            final List<IngestDocumentWrapper> remaining = new ArrayList<>(results.size());
+            final List<IngestDocumentWrapper> failed = new ArrayList<>();
+            for (IngestDocumentWrapper result : results) {
+                if (result.getException() != null) {
+                    metric.ingestFailed();
+                    final IngestDocument ingestDocument = documentsBySlot.get(result.getSlot());
+                    if (ignoreFailure) {
+                        remaining.add(new IngestDocumentWrapper(result.getSlot(), ingestDocument, null));
+                    } else {
+                        IngestProcessorException compoundProcessorException =
+                            newCompoundProcessorException(result.getException(), processor, ingestDocument);
+                        if (onFailureProcessors.isEmpty()) {
+                            completed.add(new IngestDocumentWrapper(result.getSlot(), null, compoundProcessorException));
+                        } else {
+                            failed.add(new IngestDocumentWrapper(result.getSlot(), ingestDocument, compoundProcessorException));
+                        }
+                    }
+                } else if (result.getIngestDocument() != null) {
+                    remaining.add(result);
+                } else {
+                    completed.add(result);
+                }
+            }
+
+            if (failed.isEmpty()) {
+                innerBatchExecute(currentProcessor + 1, remaining, completed, handler);
+                return;
+            }
+            final AtomicArray<IngestDocumentWrapper> onFailureResults = new AtomicArray<>(failed.size());
+            final AtomicInteger counter = new AtomicInteger(failed.size());
+            for (int i = 0; i < failed.size(); i++) {
+                final int index = i;
+                final IngestDocumentWrapper failure = failed.get(i);
+                executeOnFailureAsync(0, failure.getIngestDocument(), (IngestProcessorException) failure.getException(), (result, e) -> {
+                    onFailureResults.set(index, new IngestDocumentWrapper(failure.getSlot(), result, e));
+                    if (counter.decrementAndGet() == 0) {
+                        completed.addAll(onFailureResults.asList());
+                        innerBatchExecute(currentProcessor + 1, remaining, completed, handler);
+                    }
+                });
+            }
+        });
+    }
+
     void executeOnFailureAsync(int currentOnFailureProcessor, IngestDocument ingestDocument, OpenSearchException exception,
                                BiConsumer<IngestDocument, Exception> handler) {
         if (currentOnFailureProcessor == 0) {
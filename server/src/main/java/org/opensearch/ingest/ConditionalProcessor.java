@@ -51,6 +51,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
@@ -130,6 +131,51 @@ public class ConditionalProcessor extends AbstractProcessor implements WrappingP
         }
     }
 
+    @Override
+    public Map<String, Long> getCounters() {
+        return processor.getCounters();
+    }
+
+    @Override
+    public boolean supportsBatchExecution() {
+        return processor.supportsBatchExecution();
+    }
+
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        final List<IngestDocumentWrapper> results = new ArrayList<>(ingestDocumentWrappers.size());
+        final List<IngestDocumentWrapper> matching = new ArrayList<>(ingestDocumentWrappers.size());
+        for (IngestDocumentWrapper wrapper : ingestDocumentWrappers) {
+            try {
+                if (evaluate(wrapper.getIngestDocument())) {
+                    matching.add(wrapper);
+                } else {
+                    results.add(wrapper);
+                }
+            } catch (Exception e) {
+                results.add(new IngestDocumentWrapper(wrapper.getSlot(), null, e));
+            }
+        }
+        if (matching.isEmpty()) {
+            handler.accept(results);
+            return;
+        }
+
+        final long startTimeInNanos = relativeTimeProvider.getAsLong();
+        metric.preIngest(matching.size());
+        processor.batchExecute(matching, matchingResults -> {
+            long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos);
+            metric.postIngest(matching.size(), ingestTimeInMillis);
+            for (IngestDocumentWrapper result : matchingResults) {
+                if (result.getException() != null) {
+                    metric.ingestFailed();
+                }
+                results.add(result);
+            }
+            handler.accept(results);
+        });
+    }
+
     @Override
     public IngestDocument execute(IngestDocument ingestDocument) throws Exception {
         throw new UnsupportedOperationException("this method should not get executed");
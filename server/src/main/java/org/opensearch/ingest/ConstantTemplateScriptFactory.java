@@ -0,0 +1,59 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest;
+
+import org.opensearch.script.TemplateScript;
+
+import java.util.Map;
+
+/**
+ * A {@link TemplateScript.Factory} for a processor property that is not a template. Its value is the same for every document, so
+ * when the property is a field path it is parsed once into a {@link IngestDocument.FieldPath} when the pipeline is created and
+ * reused for every document that the pipeline executes.
+ */
+public final class ConstantTemplateScriptFactory implements TemplateScript.Factory {
+
+    private final String value;
+    private volatile IngestDocument.FieldPath fieldPath;
+
+    public ConstantTemplateScriptFactory(String value) {
+        this.value = value;
+    }
+
+    /**
+     * The value of the property.
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * The value of the property parsed as a field path.
+     * @throws IllegalArgumentException if the value is not a valid path.
+     */
+    public IngestDocument.FieldPath getFieldPath() {
+        IngestDocument.FieldPath fieldPath = this.fieldPath;
+        if (fieldPath == null) {
+            // not every property is a field path, so the value is only parsed the first time it is used as one
+            fieldPath = new IngestDocument.FieldPath(value);
+            this.fieldPath = fieldPath;
+        }
+        return fieldPath;
+    }
+
+    @Override
+    public TemplateScript newInstance(Map<String, Object> params) {
+        return new TemplateScript(params) {
+            @Override
+            public String execute() {
+                return value;
+            }
+        };
+    }
+}
@@ -57,6 +57,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 /**
  * Represents a single document being captured before indexing and holds the source and metadata (like id, type and index).
@@ -123,8 +124,20 @@ public final class IngestDocument {
      * or if the field that is found at the provided path is not of the expected type.
      */
     public <T> T getFieldValue(String path, Class<T> clazz) {
-        FieldPath fieldPath = new FieldPath(path);
-        Object context = fieldPath.initialContext;
+        return getFieldValue(new FieldPath(path), clazz);
+    }
+
+    /**
+     * Returns the value contained in the document for the provided parsed path
+     * @param fieldPath The parsed path within the document
+     * @param clazz The expected class of the field value
+     * @return the value for the provided path if existing, null otherwise
+     * @throws IllegalArgumentException if the field doesn't exist or if the field that is found at the provided path is not of
+     * the expected type.
+     */
+    public <T> T getFieldValue(FieldPath fieldPath, Class<T> clazz) {
+        String path = fieldPath.path;
+        Object context = initialContext(fieldPath);
         for (String pathElement : fieldPath.pathElements) {
             context = resolve(pathElement, path, context);
         }
@@ -162,7 +175,7 @@ public final class IngestDocument {
      * or if the field that is found at the provided path is not of the expected type.
      */
     public <T> T getFieldValue(TemplateScript.Factory pathTemplate, Class<T> clazz) {
-        return getFieldValue(renderTemplate(pathTemplate), clazz);
+        return getFieldValue(fieldPath(pathTemplate), clazz);
     }
 
     /**
@@ -209,7 +222,7 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty or invalid
      */
     public boolean hasField(TemplateScript.Factory fieldPathTemplate) {
-        return hasField(renderTemplate(fieldPathTemplate));
+        return hasField(fieldPath(fieldPathTemplate), false);
     }
 
     /**
@@ -230,8 +243,18 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty or invalid.
      */
     public boolean hasField(String path, boolean failOutOfRange) {
-        FieldPath fieldPath = new FieldPath(path);
-        Object context = fieldPath.initialContext;
+        return hasField(new FieldPath(path), failOutOfRange);
+    }
+
+    /**
+     * Checks whether the document contains a value for the provided parsed path
+     * @param fieldPath The parsed path within the document
+     * @param failOutOfRange Whether to throw an IllegalArgumentException if array is accessed outside of its range
+     * @return true if the document contains a value for the field, false otherwise
+     */
+    public boolean hasField(FieldPath fieldPath, boolean failOutOfRange) {
+        String path = fieldPath.path;
+        Object context = initialContext(fieldPath);
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             String pathElement = fieldPath.pathElements[i];
             if (context == null) {
@@ -298,7 +321,7 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty, invalid or if the field doesn't exist.
      */
     public void removeField(TemplateScript.Factory fieldPathTemplate) {
-        removeField(renderTemplate(fieldPathTemplate));
+        removeField(fieldPath(fieldPathTemplate));
     }
 
     /**
@@ -307,8 +330,17 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty, invalid or if the field doesn't exist.
      */
     public void removeField(String path) {
-        FieldPath fieldPath = new FieldPath(path);
-        Object context = fieldPath.initialContext;
+        removeField(new FieldPath(path));
+    }
+
+    /**
+     * Removes the field identified by the provided parsed path.
+     * @param fieldPath the parsed path of the field to be removed
+     * @throws IllegalArgumentException if the field doesn't exist.
+     */
+    public void removeField(FieldPath fieldPath) {
+        String path = fieldPath.path;
+        Object context = initialContext(fieldPath);
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             context = resolve(fieldPath.pathElements[i], path, context);
         }
@@ -426,8 +458,7 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty or invalid.
      */
     public void appendFieldValue(TemplateScript.Factory fieldPathTemplate, ValueSource valueSource) {
-        Map<String, Object> model = createTemplateModel();
-        appendFieldValue(fieldPathTemplate.newInstance(model).execute(), valueSource.copyAndResolve(model));
+        appendFieldValue(fieldPathTemplate, valueSource, true);
     }
 
     /**
@@ -444,8 +475,8 @@ public final class IngestDocument {
      * @throws IllegalArgumentException if the path is null, empty or invalid.
      */
     public void appendFieldValue(TemplateScript.Factory fieldPathTemplate, ValueSource valueSource, boolean allowDuplicates) {
-        Map<String, Object> model = createTemplateModel();
-        appendFieldValue(fieldPathTemplate.newInstance(model).execute(), valueSource.copyAndResolve(model), allowDuplicates);
+        Map<String, Object> model = requiresTemplateModel(fieldPathTemplate, valueSource) ? createTemplateModel() : null;
+        setFieldValue(fieldPath(fieldPathTemplate, model), valueSource.copyAndResolve(model), true, allowDuplicates);
     }
 
     /**
@@ -472,8 +503,7 @@ public final class IngestDocument {
      * item identified by the provided path.
      */
     public void setFieldValue(TemplateScript.Factory fieldPathTemplate, ValueSource valueSource) {
-        Map<String, Object> model = createTemplateModel();
-        setFieldValue(fieldPathTemplate.newInstance(model).execute(), valueSource.copyAndResolve(model), false);
+        setFieldValue(fieldPathTemplate, valueSource, false);
     }
 
     /**
@@ -487,7 +517,7 @@ public final class IngestDocument {
      * item identified by the provided path.
      */
     public void setFieldValue(TemplateScript.Factory fieldPathTemplate, ValueSource valueSource, boolean ignoreEmptyValue) {
-        Map<String, Object> model = createTemplateModel();
+        Map<String, Object> model = requiresTemplateModel(fieldPathTemplate, valueSource) ? createTemplateModel() : null;
         Object value = valueSource.copyAndResolve(model);
         if (ignoreEmptyValue && valueSource instanceof ValueSource.TemplatedValue) {
             if (value == null) {
@@ -499,7 +529,19 @@ public final class IngestDocument {
             }
         }
 
-        setFieldValue(fieldPathTemplate.newInstance(model).execute(), value, false);
+        setFieldValue(fieldPath(fieldPathTemplate, model), value, false, true);
+    }
+
+    /**
+     * Sets the provided value to the provided parsed path in the document.
+     * Any non existing path element will be created.
+     * If the last item in the path is a list, the value will replace the existing list as a whole.
+     * @param fieldPath The parsed path within the document
+     * @param value The value to put in for the path key
+     * @throws IllegalArgumentException if the value cannot be set to the item identified by the provided path.
+     */
+    public void setFieldValue(FieldPath fieldPath, Object value) {
+        setFieldValue(fieldPath, value, false, true);
     }
 
     private void setFieldValue(String path, Object value, boolean append) {
@@ -507,8 +549,12 @@ public final class IngestDocument {
     }
 
     private void setFieldValue(String path, Object value, boolean append, boolean allowDuplicates) {
-        FieldPath fieldPath = new FieldPath(path);
-        Object context = fieldPath.initialContext;
+        setFieldValue(new FieldPath(path), value, append, allowDuplicates);
+    }
+
+    private void setFieldValue(FieldPath fieldPath, Object value, boolean append, boolean allowDuplicates) {
+        String path = fieldPath.path;
+        Object context = initialContext(fieldPath);
         for (int i = 0; i < fieldPath.pathElements.length - 1; i++) {
             String pathElement = fieldPath.pathElements[i];
             if (context == null) {
@@ -655,9 +701,45 @@ public final class IngestDocument {
     }
 
     public String renderTemplate(TemplateScript.Factory template) {
+        if (template instanceof ConstantTemplateScriptFactory) {
+            return ((ConstantTemplateScriptFactory) template).getValue();
+        }
         return template.newInstance(createTemplateModel()).execute();
     }
 
+    /**
+     * Returns the parsed path that the provided template resolves to. Templates that are not templated, see
+     * {@link ConstantTemplateScriptFactory}, are only parsed the first time they are used.
+     * @param fieldPathTemplate Resolves to the path with dot-notation within the document
+     * @throws IllegalArgumentException if the path is null, empty or invalid.
+     */
+    public FieldPath fieldPath(TemplateScript.Factory fieldPathTemplate) {
+        if (fieldPathTemplate instanceof ConstantTemplateScriptFactory) {
+            return ((ConstantTemplateScriptFactory) fieldPathTemplate).getFieldPath();
+        }
+        return new FieldPath(renderTemplate(fieldPathTemplate));
+    }
+
+    private FieldPath fieldPath(TemplateScript.Factory fieldPathTemplate, Map<String, Object> model) {
+        if (fieldPathTemplate instanceof ConstantTemplateScriptFactory) {
+            return ((ConstantTemplateScriptFactory) fieldPathTemplate).getFieldPath();
+        }
+        return new FieldPath(fieldPathTemplate.newInstance(model).execute());
+    }
+
+    /**
+     * Whether the template model, which is a copy of the document, is needed to resolve the path and the value. It is not if
+     * neither of them is templated.
+     */
+    private static boolean requiresTemplateModel(TemplateScript.Factory fieldPathTemplate, ValueSource valueSource) {
+        return fieldPathTemplate instanceof ConstantTemplateScriptFactory == false
+            || (valueSource instanceof ValueSource.ObjectValue || valueSource instanceof ValueSource.ByteValue) == false;
+    }
+
+    private Object initialContext(FieldPath fieldPath) {
+        return fieldPath.ingestMetadata ? ingestMetadata : sourceAndMetadata;
+    }
+
     private Map<String, Object> createTemplateModel() {
         Map<String, Object> model = new HashMap<>(sourceAndMetadata);
         model.put(SourceFieldMapper.NAME, sourceAndMetadata);
@@ -766,6 +848,32 @@ public final class IngestDocument {
         }
     }
 
+    /**
+     * Executes the given pipeline on a batch of documents that are not executed by any pipeline yet, see
+     * {@link #executePipeline(Pipeline, BiConsumer)}.
+     *
+     * @param pipeline the pipeline to execute
+     * @param ingestDocumentWrappers the documents to execute
+     * @param handler handles the results of all documents, see {@link Processor#batchExecute}
+     */
+    static void batchExecutePipeline(Pipeline pipeline, List<IngestDocumentWrapper> ingestDocumentWrappers,
+                                     Consumer<List<IngestDocumentWrapper>> handler) {
+        for (IngestDocumentWrapper wrapper : ingestDocumentWrappers) {
+            final IngestDocument ingestDocument = wrapper.getIngestDocument();
+            assert ingestDocument.executedPipelines.isEmpty() : "document is already executed by " + ingestDocument.executedPipelines;
+            ingestDocument.executedPipelines.add(pipeline.getId());
+            ingestDocument.ingestMetadata.put("pipeline", pipeline.getId());
+        }
+        pipeline.batchExecute(ingestDocumentWrappers, results -> {
+            for (IngestDocumentWrapper wrapper : ingestDocumentWrappers) {
+                final IngestDocument ingestDocument = wrapper.getIngestDocument();
+                ingestDocument.executedPipelines.remove(pipeline.getId());
+                ingestDocument.ingestMetadata.remove("pipeline");
+            }
+            handler.accept(results);
+        });
+    }
+
     /**
      * @return a pipeline stack; all pipelines that are in execution by this document in reverse order
      */
@@ -821,21 +929,30 @@ public final class IngestDocument {
         }
     }
 
-    private class FieldPath {
+    /**
+     * A path in dot-notation that is split into its elements, so that it can be parsed once and be used on many documents.
+     */
+    public static final class FieldPath {
 
+        private final String path;
         private final String[] pathElements;
-        private final Object initialContext;
+        private final boolean ingestMetadata;
 
-        private FieldPath(String path) {
+        /**
+         * @param path The path within the document in dot-notation
+         * @throws IllegalArgumentException if the path is null, empty or invalid.
+         */
+        public FieldPath(String path) {
             if (Strings.isEmpty(path)) {
                 throw new IllegalArgumentException("path cannot be null nor empty");
             }
+            this.path = path;
             String newPath;
             if (path.startsWith(INGEST_KEY_PREFIX)) {
-                initialContext = ingestMetadata;
+                ingestMetadata = true;
                 newPath = path.substring(INGEST_KEY_PREFIX.length(), path.length());
             } else {
-                initialContext = sourceAndMetadata;
+                ingestMetadata = false;
                 if (path.startsWith(SOURCE_PREFIX)) {
                     newPath = path.substring(SOURCE_PREFIX.length(), path.length());
                 } else {
@@ -848,5 +965,9 @@ public final class IngestDocument {
             }
         }
 
+        @Override
+        public String toString() {
+            return path;
+        }
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.ingest;
+
+import org.opensearch.common.Nullable;
+
+/**
+ * A document of a batch that is executed by a {@link Processor}, together with the slot of the request it belongs to and
+ * the outcome of its execution.
+ */
+public final class IngestDocumentWrapper {
+
+    private final int slot;
+    private final IngestDocument ingestDocument;
+    private final Exception exception;
+
+    public IngestDocumentWrapper(int slot, @Nullable IngestDocument ingestDocument, @Nullable Exception exception) {
+        this.slot = slot;
+        this.ingestDocument = ingestDocument;
+        this.exception = exception;
+    }
+
+    /**
+     * The slot that identifies the document within the batch.
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * The document, or {@code null} if the document was dropped or failed.
+     */
+    @Nullable
+    public IngestDocument getIngestDocument() {
+        return ingestDocument;
+    }
+
+    /**
+     * The failure that occurred while executing the document, if any.
+     */
+    @Nullable
+    public Exception getException() {
+        return exception;
+    }
+}
@@ -81,6 +81,24 @@ class IngestMetric {
         ingestCount.inc();
     }
 
+    /**
+     * Call this prior to the ingest action on a batch of items.
+     */
+    void preIngest(int count) {
+        ingestCurrent.addAndGet(count);
+    }
+
+    /**
+     * Call this after performing the ingest action on a batch of items, even if the action failed for some of them.
+     * @param count The number of items in the batch.
+     * @param ingestTimeInMillis The time it took to perform the action on the whole batch.
+     */
+    void postIngest(int count, long ingestTimeInMillis) {
+        ingestCurrent.addAndGet(-count);
+        ingestTime.inc(ingestTimeInMillis);
+        ingestCount.inc(count);
+    }
+
     /**
      * Call this if the ingest action failed.
      */
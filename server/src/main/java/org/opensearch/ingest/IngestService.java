@@ -79,6 +79,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -479,6 +480,7 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
             protected void doRun() {
                 final Thread originalThread = Thread.currentThread();
                 final AtomicInteger counter = new AtomicInteger(numberOfActionRequests);
+                final List<PendingRequest> pendingRequests = new ArrayList<>();
                 int i = 0;
                 for (DocWriteRequest<?> actionRequest : actionRequests) {
                     IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(actionRequest);
@@ -514,11 +516,120 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                         continue;
                     }
 
-                    executePipelines(i, pipelines.iterator(), hasFinalPipeline, indexRequest, onDropped, onFailure, counter,
-                                     onCompletion, originalThread);
-
+                    pendingRequests.add(new PendingRequest(i, indexRequest, pipelines, hasFinalPipeline));
                     i++;
                 }
+                executePipelinesInBatches(pendingRequests, onDropped, onFailure, counter, onCompletion, originalThread);
+            }
+        });
+    }
+
+    /**
+     * Executes the next pipeline of each of the given requests. Requests that share their next pipeline are executed together if
+     * that pipeline has processors that support batch execution, so that they see all of them at once, see {@link Processor#batchExecute}.
+     */
+    private void executePipelinesInBatches(
+        final List<PendingRequest> pendingRequests,
+        final IntConsumer onDropped,
+        final BiConsumer<Integer, Exception> onFailure,
+        final AtomicInteger counter,
+        final BiConsumer<Thread, Exception> onCompletion,
+        final Thread originalThread
+    ) {
+        final Map<String, List<PendingRequest>> requestsByPipeline = new LinkedHashMap<>();
+        for (PendingRequest pendingRequest : pendingRequests) {
+            requestsByPipeline.computeIfAbsent(pendingRequest.pipelines.get(0), k -> new ArrayList<>()).add(pendingRequest);
+        }
+        for (Map.Entry<String, List<PendingRequest>> entry : requestsByPipeline.entrySet()) {
+            final List<PendingRequest> requests = entry.getValue();
+            final PipelineHolder holder = pipelines.get(entry.getKey());
+            if (requests.size() == 1 || holder == null || holder.pipeline.getCompoundProcessor().supportsBatchExecution() == false) {
+                for (PendingRequest request : requests) {
+                    executePipelines(request.slot, request.pipelines.iterator(), request.hasFinalPipeline, request.indexRequest,
+                        onDropped, onFailure, counter, onCompletion, originalThread);
+                }
+            } else {
+                executePipelineInBatch(holder.pipeline, requests, onDropped, onFailure, counter, onCompletion, originalThread);
+            }
+        }
+    }
+
+    private void executePipelineInBatch(
+        final Pipeline pipeline,
+        final List<PendingRequest> requests,
+        final IntConsumer onDropped,
+        final BiConsumer<Integer, Exception> onFailure,
+        final AtomicInteger counter,
+        final BiConsumer<Thread, Exception> onCompletion,
+        final Thread originalThread
+    ) {
+        final String pipelineId = pipeline.getId();
+        final Map<Integer, PendingRequest> requestsBySlot = new HashMap<>();
+        final Map<Integer, String> originalIndices = new HashMap<>();
+        final List<IngestDocumentWrapper> ingestDocumentWrappers = new ArrayList<>(requests.size());
+        for (PendingRequest request : requests) {
+            final IndexRequest indexRequest = request.indexRequest;
+            try {
+                final IngestDocument ingestDocument = newIngestDocument(indexRequest);
+                requestsBySlot.put(request.slot, request);
+                originalIndices.put(request.slot, indexRequest.indices()[0]);
+                ingestDocumentWrappers.add(new IngestDocumentWrapper(request.slot, ingestDocument, null));
+            } catch (Exception e) {
+                logger.debug(() -> new ParameterizedMessage("failed to execute pipeline [{}] for document [{}/{}]",
+                    pipelineId, indexRequest.index(), indexRequest.id()), e);
+                onFailure.accept(request.slot, e);
+                if (counter.decrementAndGet() == 0) {
+                    onCompletion.accept(originalThread, null);
+                }
+                assert counter.get() >= 0;
+            }
+        }
+        if (ingestDocumentWrappers.isEmpty()) {
+            return;
+        }
+
+        final long startTimeInNanos = System.nanoTime();
+        totalMetrics.preIngest(ingestDocumentWrappers.size());
+        IngestDocument.batchExecutePipeline(pipeline, ingestDocumentWrappers, results -> {
+            long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeInNanos);
+            totalMetrics.postIngest(ingestDocumentWrappers.size(), ingestTimeInMillis);
+            final List<PendingRequest> nextRequests = new ArrayList<>();
+            for (IngestDocumentWrapper result : results) {
+                final PendingRequest request = requestsBySlot.get(result.getSlot());
+                final IndexRequest indexRequest = request.indexRequest;
+                Exception e = result.getException();
+                if (e == null && result.getIngestDocument() != null) {
+                    try {
+                        updateIndexRequest(indexRequest, result.getIngestDocument());
+                    } catch (Exception updateException) {
+                        e = updateException;
+                    }
+                }
+                if (e != null) {
+                    totalMetrics.ingestFailed();
+                    logger.debug(() -> new ParameterizedMessage("failed to execute pipeline [{}] for document [{}/{}]",
+                        pipelineId, indexRequest.index(), indexRequest.id()), e);
+                    onFailure.accept(request.slot, e);
+                } else if (result.getIngestDocument() == null) {
+                    onDropped.accept(request.slot);
+                }
+
+                final Tuple<Iterator<String>, Boolean> next = nextPipelines(request.slot, pipelineId,
+                    originalIndices.get(request.slot), request.pipelines.subList(1, request.pipelines.size()).iterator(),
+                    request.hasFinalPipeline, indexRequest, onFailure);
+                if (next.v1().hasNext()) {
+                    final List<String> nextPipelines = new ArrayList<>();
+                    next.v1().forEachRemaining(nextPipelines::add);
+                    nextRequests.add(new PendingRequest(request.slot, indexRequest, nextPipelines, next.v2()));
+                } else {
+                    if (counter.decrementAndGet() == 0) {
+                        onCompletion.accept(originalThread, null);
+                    }
+                    assert counter.get() >= 0;
+                }
+            }
+            if (nextRequests.isEmpty() == false) {
+                executePipelinesInBatches(nextRequests, onDropped, onFailure, counter, onCompletion, originalThread);
             }
         });
     }
@@ -550,30 +661,10 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                         onFailure.accept(slot, e);
                     }
 
-                    Iterator<String> newIt = it;
-                    boolean newHasFinalPipeline = hasFinalPipeline;
-                    String newIndex = indexRequest.indices()[0];
-
-                    if (Objects.equals(originalIndex, newIndex) == false) {
-                        if (hasFinalPipeline && it.hasNext() == false) {
-                            totalMetrics.ingestFailed();
-                            onFailure.accept(slot, new IllegalStateException("final pipeline [" + pipelineId +
-                                "] can't change the target index"));
-                        } else {
-
-                            //Drain old it so it's not looped over
-                            it.forEachRemaining($ -> {
-                            });
-                            indexRequest.isPipelineResolved(false);
-                            resolvePipelines(null, indexRequest, state.metadata());
-                            if (IngestService.NOOP_PIPELINE_NAME.equals(indexRequest.getFinalPipeline()) == false) {
-                                newIt = Collections.singleton(indexRequest.getFinalPipeline()).iterator();
-                                newHasFinalPipeline = true;
-                            } else {
-                                newIt = Collections.emptyIterator();
-                            }
-                        }
-                    }
+                    Tuple<Iterator<String>, Boolean> next = nextPipelines(slot, pipelineId, originalIndex, it, hasFinalPipeline,
+                        indexRequest, onFailure);
+                    Iterator<String> newIt = next.v1();
+                    boolean newHasFinalPipeline = next.v2();
 
                     if (newIt.hasNext()) {
                         executePipelines(slot, newIt, newHasFinalPipeline, indexRequest, onDropped, onFailure, counter, onCompletion,
@@ -598,6 +689,46 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         }
     }
 
+    /**
+     * Returns the pipelines that remain to be executed on the given request after the pipeline with the given id, and whether
+     * the last of them is a final pipeline. The pipelines are resolved again if the executed pipeline changed the target index.
+     */
+    private Tuple<Iterator<String>, Boolean> nextPipelines(
+        final int slot,
+        final String pipelineId,
+        final String originalIndex,
+        final Iterator<String> it,
+        final boolean hasFinalPipeline,
+        final IndexRequest indexRequest,
+        final BiConsumer<Integer, Exception> onFailure
+    ) {
+        Iterator<String> newIt = it;
+        boolean newHasFinalPipeline = hasFinalPipeline;
+        String newIndex = indexRequest.indices()[0];
+
+        if (Objects.equals(originalIndex, newIndex) == false) {
+            if (hasFinalPipeline && it.hasNext() == false) {
+                totalMetrics.ingestFailed();
+                onFailure.accept(slot, new IllegalStateException("final pipeline [" + pipelineId +
+                    "] can't change the target index"));
+            } else {
+
+                //Drain old it so it's not looped over
+                it.forEachRemaining($ -> {
+                });
+                indexRequest.isPipelineResolved(false);
+                resolvePipelines(null, indexRequest, state.metadata());
+                if (IngestService.NOOP_PIPELINE_NAME.equals(indexRequest.getFinalPipeline()) == false) {
+                    newIt = Collections.singleton(indexRequest.getFinalPipeline()).iterator();
+                    newHasFinalPipeline = true;
+                } else {
+                    newIt = Collections.emptyIterator();
+                }
+            }
+        }
+        return Tuple.tuple(newIt, newHasFinalPipeline);
+    }
+
     public IngestStats stats() {
         IngestStats.Builder statsBuilder = new IngestStats.Builder();
         statsBuilder.addTotalMetrics(totalMetrics);
@@ -610,7 +741,8 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
             processorMetrics.forEach(t -> {
                 Processor processor = t.v1();
                 IngestMetric processorMetric = t.v2();
-                statsBuilder.addProcessorMetrics(id, getProcessorName(processor), processor.getType(), processorMetric);
+                statsBuilder.addProcessorMetrics(id, getProcessorName(processor), processor.getType(), processorMetric,
+                    processor.getCounters());
             });
         });
         return statsBuilder.build();
@@ -660,14 +792,7 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         // the pipeline specific stat holder may not exist and that is fine:
         // (e.g. the pipeline may have been removed while we're ingesting a document
         totalMetrics.preIngest();
-        String index = indexRequest.index();
-        String type = indexRequest.type();
-        String id = indexRequest.id();
-        String routing = indexRequest.routing();
-        Long version = indexRequest.version();
-        VersionType versionType = indexRequest.versionType();
-        Map<String, Object> sourceAsMap = indexRequest.sourceAsMap();
-        IngestDocument ingestDocument = new IngestDocument(index, type, id, routing, version, versionType, sourceAsMap);
+        IngestDocument ingestDocument = newIngestDocument(indexRequest);
         ingestDocument.executePipeline(pipeline, (result, e) -> {
             long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeInNanos);
             totalMetrics.postIngest(ingestTimeInMillis);
@@ -678,29 +803,44 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
                 itemDroppedHandler.accept(slot);
                 handler.accept(null);
             } else {
-                Map<IngestDocument.Metadata, Object> metadataMap = ingestDocument.extractMetadata();
-                //it's fine to set all metadata fields all the time, as ingest document holds their starting values
-                //before ingestion, which might also get modified during ingestion.
-                indexRequest.index((String) metadataMap.get(IngestDocument.Metadata.INDEX));
-                indexRequest.type((String) metadataMap.get(IngestDocument.Metadata.TYPE));
-                indexRequest.id((String) metadataMap.get(IngestDocument.Metadata.ID));
-                indexRequest.routing((String) metadataMap.get(IngestDocument.Metadata.ROUTING));
-                indexRequest.version(((Number) metadataMap.get(IngestDocument.Metadata.VERSION)).longValue());
-                if (metadataMap.get(IngestDocument.Metadata.VERSION_TYPE) != null) {
-                    indexRequest.versionType(VersionType.fromString((String) metadataMap.get(IngestDocument.Metadata.VERSION_TYPE)));
-                }
-                if (metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO) != null) {
-                    indexRequest.setIfSeqNo(((Number) metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO)).longValue());
-                }
-                if (metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM) != null) {
-                    indexRequest.setIfPrimaryTerm(((Number) metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM)).longValue());
-                }
-                indexRequest.source(ingestDocument.getSourceAndMetadata(), indexRequest.getContentType());
+                updateIndexRequest(indexRequest, ingestDocument);
                 handler.accept(null);
             }
         });
     }
 
+    private static IngestDocument newIngestDocument(IndexRequest indexRequest) {
+        String index = indexRequest.index();
+        String type = indexRequest.type();
+        String id = indexRequest.id();
+        String routing = indexRequest.routing();
+        Long version = indexRequest.version();
+        VersionType versionType = indexRequest.versionType();
+        Map<String, Object> sourceAsMap = indexRequest.sourceAsMap();
+        return new IngestDocument(index, type, id, routing, version, versionType, sourceAsMap);
+    }
+
+    private static void updateIndexRequest(IndexRequest indexRequest, IngestDocument ingestDocument) {
+        Map<IngestDocument.Metadata, Object> metadataMap = ingestDocument.extractMetadata();
+        //it's fine to set all metadata fields all the time, as ingest document holds their starting values
+        //before ingestion, which might also get modified during ingestion.
+        indexRequest.index((String) metadataMap.get(IngestDocument.Metadata.INDEX));
+        indexRequest.type((String) metadataMap.get(IngestDocument.Metadata.TYPE));
+        indexRequest.id((String) metadataMap.get(IngestDocument.Metadata.ID));
+        indexRequest.routing((String) metadataMap.get(IngestDocument.Metadata.ROUTING));
+        indexRequest.version(((Number) metadataMap.get(IngestDocument.Metadata.VERSION)).longValue());
+        if (metadataMap.get(IngestDocument.Metadata.VERSION_TYPE) != null) {
+            indexRequest.versionType(VersionType.fromString((String) metadataMap.get(IngestDocument.Metadata.VERSION_TYPE)));
+        }
+        if (metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO) != null) {
+            indexRequest.setIfSeqNo(((Number) metadataMap.get(IngestDocument.Metadata.IF_SEQ_NO)).longValue());
+        }
+        if (metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM) != null) {
+            indexRequest.setIfPrimaryTerm(((Number) metadataMap.get(IngestDocument.Metadata.IF_PRIMARY_TERM)).longValue());
+        }
+        indexRequest.source(ingestDocument.getSourceAndMetadata(), indexRequest.getContentType());
+    }
+
     @Override
     public void applyClusterState(final ClusterChangedEvent event) {
         state = event.state();
@@ -873,6 +1013,24 @@ public class IngestService implements ClusterStateApplier, ReportingService<Inge
         return new Pipeline(id, description, null, new CompoundProcessor(failureProcessor));
     }
 
+    /**
+     * An index request of a bulk together with the pipelines that remain to be executed on it.
+     */
+    private static final class PendingRequest {
+
+        final int slot;
+        final IndexRequest indexRequest;
+        final List<String> pipelines;
+        final boolean hasFinalPipeline;
+
+        PendingRequest(int slot, IndexRequest indexRequest, List<String> pipelines, boolean hasFinalPipeline) {
+            this.slot = slot;
+            this.indexRequest = indexRequest;
+            this.pipelines = pipelines;
+            this.hasFinalPipeline = hasFinalPipeline;
+        }
+    }
+
     static class PipelineHolder {
 
         final PipelineConfiguration configuration;
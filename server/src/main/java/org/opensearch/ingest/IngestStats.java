@@ -33,6 +33,7 @@
 package org.opensearch.ingest;
 
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.io.stream.Writeable;
@@ -88,7 +89,11 @@ public class IngestStats implements Writeable, ToXContentFragment {
                         processorType = in.readString();
                     }
                     Stats processorStat = new Stats(in);
-                    processorStatsPerPipeline.add(new ProcessorStat(processorName, processorType, processorStat));
+                    Map<String, Long> counters = Collections.emptyMap();
+                    if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+                        counters = in.readMap(StreamInput::readString, StreamInput::readVLong);
+                    }
+                    processorStatsPerPipeline.add(new ProcessorStat(processorName, processorType, processorStat, counters));
                 }
                 this.processorStats.put(pipelineId, processorStatsPerPipeline);
             }
@@ -114,6 +119,9 @@ public class IngestStats implements Writeable, ToXContentFragment {
                             out.writeString(processorStat.getType());
                         }
                         processorStat.getStats().writeTo(out);
+                        if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+                            out.writeMap(processorStat.getCounters(), StreamOutput::writeString, StreamOutput::writeVLong);
+                        }
                     }
                 }
             }
@@ -140,6 +148,9 @@ public class IngestStats implements Writeable, ToXContentFragment {
                     builder.startObject("stats");
                     processorStat.getStats().toXContent(builder, params);
                     builder.endObject();
+                    if (processorStat.getCounters().isEmpty() == false) {
+                        builder.field("counters", processorStat.getCounters());
+                    }
                     builder.endObject();
                     builder.endObject();
                 }
@@ -285,8 +296,13 @@ public class IngestStats implements Writeable, ToXContentFragment {
         }
 
         Builder addProcessorMetrics(String pipelineId, String processorName, String processorType, IngestMetric metric) {
+            return addProcessorMetrics(pipelineId, processorName, processorType, metric, Collections.emptyMap());
+        }
+
+        Builder addProcessorMetrics(String pipelineId, String processorName, String processorType, IngestMetric metric,
+                                    Map<String, Long> counters) {
             this.processorStats.computeIfAbsent(pipelineId, k -> new ArrayList<>())
-                .add(new ProcessorStat(processorName, processorType, metric.createStats()));
+                .add(new ProcessorStat(processorName, processorType, metric.createStats(), counters));
             return this;
         }
 
@@ -338,11 +354,17 @@ public class IngestStats implements Writeable, ToXContentFragment {
         private final String name;
         private final String type;
         private final Stats stats;
+        private final Map<String, Long> counters;
 
         public ProcessorStat(String name, String type, Stats stats) {
+            this(name, type, stats, Collections.emptyMap());
+        }
+
+        public ProcessorStat(String name, String type, Stats stats, Map<String, Long> counters) {
             this.name = name;
             this.type = type;
             this.stats = stats;
+            this.counters = counters;
         }
 
         public String getName() {
@@ -357,6 +379,12 @@ public class IngestStats implements Writeable, ToXContentFragment {
             return stats;
         }
 
+        /**
+         * Counters that are specific to the processor, see {@link Processor#getCounters()}.
+         */
+        public Map<String, Long> getCounters() {
+            return counters;
+        }
 
         @Override
         public boolean equals(Object o) {
@@ -365,12 +393,13 @@ public class IngestStats implements Writeable, ToXContentFragment {
             IngestStats.ProcessorStat that = (IngestStats.ProcessorStat) o;
             return Objects.equals(name, that.name)
                 && Objects.equals(type, that.type)
-                && Objects.equals(stats, that.stats);
+                && Objects.equals(stats, that.stats)
+                && Objects.equals(counters, that.counters);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(name, type, stats);
+            return Objects.hash(name, type, stats, counters);
         }
     }
 }
@@ -41,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.LongSupplier;
 
 import org.opensearch.script.ScriptService;
@@ -120,6 +121,24 @@ public final class Pipeline {
         });
     }
 
+    /**
+     * Modifies the data of a batch of documents using the processors of this pipeline, see {@link Processor#batchExecute}.
+     */
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        final long startTimeInNanos = relativeTimeProvider.getAsLong();
+        metrics.preIngest(ingestDocumentWrappers.size());
+        compoundProcessor.batchExecute(ingestDocumentWrappers, results -> {
+            long ingestTimeInMillis = TimeUnit.NANOSECONDS.toMillis(relativeTimeProvider.getAsLong() - startTimeInNanos);
+            metrics.postIngest(ingestDocumentWrappers.size(), ingestTimeInMillis);
+            for (IngestDocumentWrapper result : results) {
+                if (result.getException() != null) {
+                    metrics.ingestFailed();
+                }
+            }
+            handler.accept(results);
+        });
+    }
+
     /**
      * The unique id of this pipeline
      */
@@ -33,13 +33,17 @@
 package org.opensearch.ingest;
 
 import org.opensearch.client.Client;
+import org.opensearch.common.util.concurrent.AtomicArray;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.env.Environment;
 import org.opensearch.index.analysis.AnalysisRegistry;
 import org.opensearch.script.ScriptService;
 import org.opensearch.threadpool.Scheduler;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -70,6 +74,50 @@ public interface Processor {
         handler.accept(result, null);
     }
 
+    /**
+     * Introspect and potentially modify a batch of documents, typically all the documents of a bulk request that go through the same
+     * pipeline. The handler must be called once with one result per document, in any order, each carrying the slot of its document.
+     * A result without document and exception means that the document is dropped.
+     *
+     * Expert method: only override this method if a processor implementation can amortise work across documents, like deduplicating
+     * lookups of an external resource, and also override {@link #supportsBatchExecution()}. The default implementation executes the
+     * documents one by one with {@link #execute(IngestDocument, BiConsumer)}.
+     */
+    default void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        if (ingestDocumentWrappers.isEmpty()) {
+            handler.accept(Collections.emptyList());
+            return;
+        }
+        final AtomicArray<IngestDocumentWrapper> results = new AtomicArray<>(ingestDocumentWrappers.size());
+        final AtomicInteger counter = new AtomicInteger(ingestDocumentWrappers.size());
+        for (int i = 0; i < ingestDocumentWrappers.size(); i++) {
+            final int index = i;
+            final int slot = ingestDocumentWrappers.get(i).getSlot();
+            execute(ingestDocumentWrappers.get(i).getIngestDocument(), (result, e) -> {
+                results.set(index, new IngestDocumentWrapper(slot, result, e));
+                if (counter.decrementAndGet() == 0) {
+                    handler.accept(results.asList());
+                }
+            });
+        }
+    }
+
+    /**
+     * Whether this processor benefits from executing documents in batches with {@link #batchExecute}. Bulk requests are only
+     * executed in batches by pipelines that have at least one such processor.
+     */
+    default boolean supportsBatchExecution() {
+        return false;
+    }
+
+    /**
+     * Counters that this processor keeps on top of the metrics that are kept for every processor, reported with its stats in
+     * {@link IngestStats}. The keys must be stable across calls.
+     */
+    default Map<String, Long> getCounters() {
+        return Collections.emptyMap();
+    }
+
     /**
      * Introspect and potentially modify the incoming data.
      *
@@ -39,6 +39,7 @@ import org.opensearch.common.io.stream.NamedWriteable;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.Writeable;
 import org.opensearch.common.lucene.search.function.ScoreFunction;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.ContextParser;
 import org.opensearch.common.xcontent.XContent;
 import org.opensearch.common.xcontent.XContentParser;
@@ -46,6 +47,7 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryParser;
 import org.opensearch.index.query.functionscore.ScoreFunctionBuilder;
 import org.opensearch.index.query.functionscore.ScoreFunctionParser;
+import org.opensearch.indices.QueryCacheAdmissionPolicy;
 import org.opensearch.search.SearchExtBuilder;
 import org.opensearch.search.aggregations.Aggregation;
 import org.opensearch.search.aggregations.AggregationBuilder;
@@ -69,6 +71,7 @@ import org.opensearch.search.suggest.SuggestionBuilder;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.TreeMap;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -157,6 +160,14 @@ public interface SearchPlugin {
         return emptyList();
     }
 
+    /**
+     * The policy that decides which queries go through the node query cache, which replaces the one configured with
+     * {@code indices.queries.cache.min_build_cost}. The node fails to start if more than one plugin provides a policy.
+     */
+    default Optional<QueryCacheAdmissionPolicy> getQueryCacheAdmissionPolicy(Settings settings) {
+        return Optional.empty();
+    }
+
     /**
      * Specification of custom {@link ScoreFunction}.
      */
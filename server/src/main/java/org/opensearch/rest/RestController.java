@@ -234,6 +234,21 @@ public class RestController implements HttpServerTransport.Dispatcher {
         }
     }
 
+    @Override
+    public boolean supportsChunkedContent(RestRequest.Method method, String uri) {
+        final int queryStringIndex = uri.indexOf('?');
+        final String rawPath = queryStringIndex == -1 ? uri : uri.substring(0, queryStringIndex);
+        Iterator<MethodHandlers> allHandlers = getAllHandlers(null, rawPath);
+        while (allHandlers.hasNext()) {
+            final MethodHandlers handlers = allHandlers.next();
+            final RestHandler handler = handlers == null ? null : handlers.getHandler(method);
+            if (handler != null) {
+                return handler.supportsChunkedContent();
+            }
+        }
+        return false;
+    }
+
     private void dispatchRequest(RestRequest request, RestChannel channel, RestHandler handler) throws Exception {
         final int contentLength = request.content().length();
         if (contentLength > 0) {
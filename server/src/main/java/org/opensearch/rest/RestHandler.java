@@ -66,6 +66,15 @@ public interface RestHandler {
         return false;
     }
 
+    /**
+     * Indicates if the RestHandler consumes the body of requests chunk by chunk as it is received through
+     * {@link org.opensearch.http.HttpRequest#chunkedContent()}. The {@link RestRequest#content()} of such requests is empty when the
+     * http transport supports chunked content, handlers must fall back to it otherwise.
+     */
+    default boolean supportsChunkedContent() {
+        return false;
+    }
+
     /**
      * Indicates if the RestHandler supports working with pooled buffers. If the request handler will not escape the return
      * {@link RestRequest#content()} or any buffers extracted from it then there is no need to make a copies of any pooled buffers in the
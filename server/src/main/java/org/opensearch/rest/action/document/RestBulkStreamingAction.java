@@ -0,0 +1,347 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.document;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.bulk.BulkShardRequest;
+import org.opensearch.action.support.ActiveShardCount;
+import org.opensearch.client.Requests;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.bytes.CompositeBytesReference;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.http.HttpChunkedContent;
+import org.opensearch.index.IndexingPressure;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestStatusToXContentListener;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.rest.RestRequest.Method.POST;
+import static org.opensearch.rest.RestRequest.Method.PUT;
+
+/**
+ * A variant of the {@link RestBulkAction} that parses the body while it is being received and sends the parsed actions to the shards
+ * in batches of {@code batch_size} bytes, so that the coordinating node never holds more than a couple of batches of a large body.
+ * The response has the format of a bulk response. Unlike with a bulk request, the actions of the batches that were sent before a
+ * malformed action is found further down the body are executed, the request then fails once these batches completed.
+ */
+public class RestBulkStreamingAction extends BaseRestHandler {
+
+    static final ByteSizeValue DEFAULT_BATCH_SIZE = new ByteSizeValue(5, ByteSizeUnit.MB);
+
+    private final boolean allowExplicitIndex;
+    private final IndexingPressure indexingPressure;
+
+    public RestBulkStreamingAction(Settings settings, IndexingPressure indexingPressure) {
+        this.allowExplicitIndex = MULTI_ALLOW_EXPLICIT_INDEX.get(settings);
+        this.indexingPressure = indexingPressure;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(asList(
+            new Route(POST, "/_bulk/stream"),
+            new Route(PUT, "/_bulk/stream"),
+            new Route(POST, "/{index}/_bulk/stream"),
+            new Route(PUT, "/{index}/_bulk/stream")));
+    }
+
+    @Override
+    public String getName() {
+        return "bulk_streaming_action";
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client) throws IOException {
+        final BulkRequest template = Requests.bulkRequest();
+        final String waitForActiveShards = request.param("wait_for_active_shards");
+        if (waitForActiveShards != null) {
+            template.waitForActiveShards(ActiveShardCount.parseString(waitForActiveShards));
+        }
+        template.timeout(request.paramAsTime("timeout", BulkShardRequest.DEFAULT_TIMEOUT));
+        template.setRefreshPolicy(request.param("refresh"));
+        final BulkStream.Parameters parameters = new BulkStream.Parameters(request.param("index"), request.param("routing"),
+            FetchSourceContext.parseFromRestRequest(request), request.param("pipeline"),
+            request.paramAsBoolean(DocWriteRequest.REQUIRE_ALIAS, null), allowExplicitIndex);
+        final long batchSize = request.paramAsSize("batch_size", DEFAULT_BATCH_SIZE).getBytes();
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("[batch_size] must be positive but was [" + batchSize + "]");
+        }
+
+        final HttpChunkedContent chunkedContent = request.getHttpRequest().chunkedContent();
+        if (chunkedContent == null) {
+            // the http transport aggregated the body, it is parsed as a single chunk
+            final BytesReference content = request.requiredContent();
+            final XContentType xContentType = request.getXContentType();
+            return channel -> new BulkStream(null, client, indexingPressure, template, parameters, xContentType, batchSize,
+                new RestStatusToXContentListener<>(channel)).onChunk(content, true);
+        }
+        // the content type of chunked requests is not validated by the rest controller as their content is empty
+        final XContentType xContentType = request.getXContentType();
+        if (xContentType == null) {
+            throw new IllegalArgumentException("Content-Type header is missing or not supported");
+        }
+        if (xContentType != XContentType.JSON && xContentType != XContentType.SMILE) {
+            throw new IllegalArgumentException("Content-Type [" + xContentType + "] does not support stream parsing. Use JSON or SMILE "
+                + "instead");
+        }
+        return channel -> chunkedContent.start(new BulkStream(chunkedContent, client, indexingPressure, template, parameters,
+            xContentType, batchSize, new RestStatusToXContentListener<>(channel)));
+    }
+
+    @Override
+    public boolean supportsContentStream() {
+        return true;
+    }
+
+    @Override
+    public boolean supportsChunkedContent() {
+        return true;
+    }
+
+    /**
+     * Parses the chunks of a bulk body into batches and executes these batches one after the other, so that actions are never
+     * reordered with the actions of a previous batch. The next batch is parsed while the previous one executes. Reading is paused
+     * while a full batch waits for the previous one, or while the node would not accept another batch because of its indexing pressure.
+     */
+    static final class BulkStream implements HttpChunkedContent.Listener {
+
+        private final HttpChunkedContent content;
+        private final NodeClient client;
+        private final IndexingPressure indexingPressure;
+        private final BulkRequest template;
+        private final Parameters parameters;
+        private final XContentType xContentType;
+        private final long batchSize;
+        private final ActionListener<BulkResponse> listener;
+        private final long startTimeNanos = System.nanoTime();
+
+        // the following fields are guarded by this
+        private final List<BytesReference> unparsed = new ArrayList<>();
+        private final Deque<BulkRequest> ready = new ArrayDeque<>();
+        private final List<BulkItemResponse> items = new ArrayList<>();
+        private BulkRequest batch;
+        private int batchesExecuted;
+        private boolean executing;
+        private boolean paused;
+        private boolean lastChunkReceived;
+        private boolean completed;
+        private long ingestTookInMillis = BulkResponse.NO_INGEST_TOOK;
+        private Exception failure;
+
+        BulkStream(@Nullable HttpChunkedContent content, NodeClient client, IndexingPressure indexingPressure, BulkRequest template,
+                   Parameters parameters, XContentType xContentType, long batchSize, ActionListener<BulkResponse> listener) {
+            this.content = content;
+            this.client = client;
+            this.indexingPressure = indexingPressure;
+            this.template = template;
+            this.parameters = parameters;
+            this.xContentType = xContentType;
+            this.batchSize = batchSize;
+            this.listener = listener;
+        }
+
+        @Override
+        public void onChunk(BytesReference chunk, boolean last) {
+            synchronized (this) {
+                if (completed || failure != null) {
+                    return;
+                }
+                lastChunkReceived = last;
+                unparsed.add(chunk);
+                try {
+                    // nothing can be parsed until a line is complete
+                    if (last || chunk.indexOf(xContentType.xContent().streamSeparator(), 0) != -1) {
+                        parse();
+                    }
+                } catch (Exception e) {
+                    failure = e;
+                }
+            }
+            executeOrComplete();
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            synchronized (this) {
+                if (completed || failure != null) {
+                    return;
+                }
+                failure = e;
+            }
+            executeOrComplete();
+        }
+
+        private void parse() throws IOException {
+            assert Thread.holdsLock(this);
+            final BytesReference data = CompositeBytesReference.of(unparsed.toArray(new BytesReference[0]));
+            unparsed.clear();
+            if (batch == null) {
+                batch = newBatch();
+            }
+            if (lastChunkReceived) {
+                batch.add(data, parameters.index, MapperService.SINGLE_MAPPING_NAME, parameters.routing, parameters.fetchSourceContext,
+                    parameters.pipeline, parameters.requireAlias, parameters.allowExplicitIndex, xContentType);
+            } else {
+                final int consumed = batch.addIncrementally(data, parameters.index, MapperService.SINGLE_MAPPING_NAME,
+                    parameters.routing, parameters.fetchSourceContext, parameters.pipeline, parameters.requireAlias,
+                    parameters.allowExplicitIndex, xContentType);
+                if (consumed < data.length()) {
+                    unparsed.add(data.slice(consumed, data.length() - consumed));
+                }
+            }
+            if (lastChunkReceived) {
+                // an empty body is sent as an empty batch so that it fails validation like an empty bulk request
+                if (batch.numberOfActions() > 0 || (batchesExecuted == 0 && executing == false && ready.isEmpty())) {
+                    ready.add(batch);
+                }
+                batch = null;
+            } else if (batch.estimatedSizeInBytes() >= batchSize) {
+                ready.add(batch);
+                batch = null;
+            }
+        }
+
+        private BulkRequest newBatch() {
+            final BulkRequest bulkRequest = Requests.bulkRequest();
+            bulkRequest.waitForActiveShards(template.waitForActiveShards());
+            bulkRequest.timeout(template.timeout());
+            bulkRequest.setRefreshPolicy(template.getRefreshPolicy());
+            return bulkRequest;
+        }
+
+        private void executeOrComplete() {
+            final BulkRequest toExecute;
+            final boolean done;
+            synchronized (this) {
+                if (completed) {
+                    return;
+                }
+                if (executing == false && failure == null && ready.isEmpty() == false) {
+                    toExecute = ready.poll();
+                    executing = true;
+                } else {
+                    toExecute = null;
+                }
+                done = executing == false && (failure != null || (lastChunkReceived && ready.isEmpty() && batch == null));
+                completed = done;
+                if (content != null) {
+                    // after a failure the rest of the body is read and discarded
+                    final boolean pause = done == false && failure == null && (ready.isEmpty() == false
+                        || (executing && indexingPressure.hasCoordinatingCapacity(batchSize) == false));
+                    if (pause != paused) {
+                        paused = pause;
+                        if (pause) {
+                            content.pause();
+                        } else {
+                            content.resume();
+                        }
+                    }
+                }
+            }
+            if (toExecute != null) {
+                client.bulk(toExecute, ActionListener.wrap(this::onBatchResponse, this::onBatchFailure));
+            } else if (done) {
+                complete();
+            }
+        }
+
+        private void onBatchResponse(BulkResponse response) {
+            synchronized (this) {
+                executing = false;
+                batchesExecuted++;
+                final int offset = items.size();
+                for (BulkItemResponse item : response.getItems()) {
+                    final int id = offset + item.getItemId();
+                    items.add(item.isFailed()
+                        ? new BulkItemResponse(id, item.getOpType(), item.getFailure())
+                        : new BulkItemResponse(id, item.getOpType(), item.getResponse()));
+                }
+                if (response.getIngestTookInMillis() != BulkResponse.NO_INGEST_TOOK) {
+                    ingestTookInMillis = Math.max(ingestTookInMillis, 0) + response.getIngestTookInMillis();
+                }
+            }
+            executeOrComplete();
+        }
+
+        private void onBatchFailure(Exception e) {
+            synchronized (this) {
+                executing = false;
+                batchesExecuted++;
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+            executeOrComplete();
+        }
+
+        private void complete() {
+            final Exception e;
+            final BulkResponse response;
+            synchronized (this) {
+                assert completed;
+                e = failure;
+                if (e == null) {
+                    final long tookInMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeNanos);
+                    response = new BulkResponse(items.toArray(new BulkItemResponse[0]), tookInMillis, ingestTookInMillis);
+                } else {
+                    response = null;
+                }
+            }
+            if (e == null) {
+                listener.onResponse(response);
+            } else {
+                listener.onFailure(e);
+            }
+        }
+
+        /**
+         * The defaults that apply to all actions of the body.
+         */
+        static final class Parameters {
+            private final String index;
+            private final String routing;
+            private final FetchSourceContext fetchSourceContext;
+            private final String pipeline;
+            private final Boolean requireAlias;
+            private final boolean allowExplicitIndex;
+
+            Parameters(@Nullable String index, @Nullable String routing, @Nullable FetchSourceContext fetchSourceContext,
+                       @Nullable String pipeline, @Nullable Boolean requireAlias, boolean allowExplicitIndex) {
+                this.index = index;
+                this.routing = routing;
+                this.fetchSourceContext = fetchSourceContext;
+                this.pipeline = pipeline;
+                this.requireAlias = requireAlias;
+                this.allowExplicitIndex = allowExplicitIndex;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.search;
+
+import org.opensearch.action.search.GetAsyncSearchAction;
+import org.opensearch.action.search.GetAsyncSearchRequest;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestStatusToXContentListener;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.singletonList;
+import static org.opensearch.rest.RestRequest.Method.GET;
+import static org.opensearch.rest.action.search.RestSearchAction.TOTAL_HITS_AS_INT_PARAM;
+import static org.opensearch.rest.action.search.RestSearchAction.TYPED_KEYS_PARAM;
+
+public class RestGetAsyncSearchAction extends BaseRestHandler {
+
+    private static final Set<String> RESPONSE_PARAMS =
+        Collections.unmodifiableSet(new HashSet<>(Arrays.asList(TYPED_KEYS_PARAM, TOTAL_HITS_AS_INT_PARAM)));
+
+    @Override
+    public List<Route> routes() {
+        return singletonList(new Route(GET, "/_async_search/{id}"));
+    }
+
+    @Override
+    public String getName() {
+        return "get_async_search_action";
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client) throws IOException {
+        final GetAsyncSearchRequest getRequest = new GetAsyncSearchRequest(request.param("id"));
+        getRequest.setWaitForCompletionTimeout(request.paramAsTime("wait_for_completion_timeout", TimeValue.ZERO));
+        return channel -> client.execute(GetAsyncSearchAction.INSTANCE, getRequest, new RestStatusToXContentListener<>(channel));
+    }
+
+    @Override
+    protected Set<String> responseParams() {
+        return RESPONSE_PARAMS;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.search;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SubmitAsyncSearchAction;
+import org.opensearch.action.search.SubmitAsyncSearchRequest;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestStatusToXContentListener;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.rest.RestRequest.Method.POST;
+import static org.opensearch.rest.action.search.RestSearchAction.TOTAL_HITS_AS_INT_PARAM;
+import static org.opensearch.rest.action.search.RestSearchAction.TYPED_KEYS_PARAM;
+
+public class RestSubmitAsyncSearchAction extends BaseRestHandler {
+
+    private static final Set<String> RESPONSE_PARAMS =
+        Collections.unmodifiableSet(new HashSet<>(Arrays.asList(TYPED_KEYS_PARAM, TOTAL_HITS_AS_INT_PARAM)));
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(asList(
+            new Route(POST, "/_async_search"),
+            new Route(POST, "/{index}/_async_search")));
+    }
+
+    @Override
+    public String getName() {
+        return "submit_async_search_action";
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client) throws IOException {
+        final SearchRequest searchRequest = new SearchRequest();
+        // reduce the shard results in small batches by default so that partial results are available early
+        searchRequest.setBatchedReduceSize(SubmitAsyncSearchRequest.DEFAULT_BATCHED_REDUCE_SIZE);
+        IntConsumer setSize = size -> searchRequest.source().size(size);
+        request.withContentOrSourceParamParserOrNull(parser ->
+            RestSearchAction.parseSearchRequest(searchRequest, request, parser, client.getNamedWriteableRegistry(), setSize));
+        final SubmitAsyncSearchRequest submitRequest = new SubmitAsyncSearchRequest(searchRequest);
+        submitRequest.setWaitForCompletionTimeout(
+            request.paramAsTime("wait_for_completion_timeout", SubmitAsyncSearchRequest.DEFAULT_WAIT_FOR_COMPLETION_TIMEOUT));
+        submitRequest.setKeepAlive(request.paramAsTime("keep_alive", SubmitAsyncSearchRequest.DEFAULT_KEEP_ALIVE));
+        submitRequest.setKeepOnCompletion(request.paramAsBoolean("keep_on_completion", false));
+        // the search is not cancelled when the http channel is closed, it keeps running until it expires or is deleted
+        return channel -> client.execute(SubmitAsyncSearchAction.INSTANCE, submitRequest, new RestStatusToXContentListener<>(channel));
+    }
+
+    @Override
+    protected Set<String> responseParams() {
+        return RESPONSE_PARAMS;
+    }
+}
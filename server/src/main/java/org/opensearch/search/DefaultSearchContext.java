@@ -95,6 +95,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.LongSupplier;
 
 final class DefaultSearchContext extends SearchContext {
@@ -177,6 +178,22 @@ final class DefaultSearchContext extends SearchContext {
                          FetchPhase fetchPhase,
                          boolean lowLevelCancellation,
                          Version minNodeVersion) throws IOException {
+        this(readerContext, request, shardTarget, clusterService, bigArrays, relativeTimeSupplier, timeout, fetchPhase,
+            lowLevelCancellation, minNodeVersion, null, 1);
+    }
+
+    DefaultSearchContext(ReaderContext readerContext,
+                         ShardSearchRequest request,
+                         SearchShardTarget shardTarget,
+                         ClusterService clusterService,
+                         BigArrays bigArrays,
+                         LongSupplier relativeTimeSupplier,
+                         TimeValue timeout,
+                         FetchPhase fetchPhase,
+                         boolean lowLevelCancellation,
+                         Version minNodeVersion,
+                         @Nullable Executor executor,
+                         int maxSliceCount) throws IOException {
         this.readerContext = readerContext;
         this.request = request;
         this.fetchPhase = fetchPhase;
@@ -192,7 +209,8 @@ final class DefaultSearchContext extends SearchContext {
         this.clusterService = clusterService;
         this.engineSearcher = readerContext.acquireSearcher("search");
         this.searcher = new ContextIndexSearcher(engineSearcher.getIndexReader(), engineSearcher.getSimilarity(),
-            engineSearcher.getQueryCache(), engineSearcher.getQueryCachingPolicy(), lowLevelCancellation);
+            engineSearcher.getQueryCache(), engineSearcher.getQueryCachingPolicy(), lowLevelCancellation,
+            executor == null ? null : command -> executor.execute(trackTask(command)), maxSliceCount);
         this.relativeTimeSupplier = relativeTimeSupplier;
         this.timeout = timeout;
         this.minNodeVersion = minNodeVersion;
@@ -203,6 +221,14 @@ final class DefaultSearchContext extends SearchContext {
         this.lowLevelCancellation = lowLevelCancellation;
     }
 
+    /**
+     * Accounts the resources used by the thread that runs the given slice of the search to the task of this context.
+     */
+    private Runnable trackTask(Runnable command) {
+        final SearchShardTask task = this.task;
+        return task == null ? command : task.resourceUsage().trackThread(command);
+    }
+
     @Override
     public void doClose() {
         Releasables.close(engineSearcher, searcher);
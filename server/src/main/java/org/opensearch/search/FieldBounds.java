@@ -0,0 +1,252 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.search;
+
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.PointValues;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.geo.ShapeRelation;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.joda.JodaDateFormatter;
+import org.opensearch.common.lucene.BytesRefs;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.DateFieldMapper.DateFieldType;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper.NumberFieldType;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.ConstantScoreQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.search.sort.MinAndMax;
+
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+
+/**
+ * The minimum and maximum values of a numeric or date field on a shard. The coordinating node can use them to find out
+ * whether a range query on the field can match the shard without sending a can_match request to the shard.
+ */
+public final class FieldBounds implements Writeable {
+
+    /**
+     * The maximum number of fields per request that shards report bounds for.
+     */
+    public static final int MAX_FIELDS = 8;
+
+    // null if the field has no value on the shard
+    @Nullable
+    private final MinAndMax<?> minAndMax;
+    // null for numeric fields
+    @Nullable
+    private final DateFormatter dateFormatter;
+    @Nullable
+    private final DateFieldMapper.Resolution resolution;
+
+    public FieldBounds(@Nullable MinAndMax<?> minAndMax, @Nullable DateFormatter dateFormatter,
+                       @Nullable DateFieldMapper.Resolution resolution) {
+        assert (dateFormatter == null) == (resolution == null);
+        this.minAndMax = minAndMax;
+        this.dateFormatter = dateFormatter;
+        this.resolution = resolution;
+    }
+
+    public FieldBounds(StreamInput in) throws IOException {
+        minAndMax = in.readOptionalWriteable(MinAndMax::new);
+        if (in.readBoolean()) {
+            String pattern = in.readString();
+            Locale locale = Locale.forLanguageTag(in.readString());
+            dateFormatter = DateFormatter.forPattern(pattern).withLocale(locale);
+            resolution = DateFieldMapper.Resolution.ofOrdinal(in.readVInt());
+        } else {
+            dateFormatter = null;
+            resolution = null;
+        }
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalWriteable(minAndMax);
+        if (dateFormatter != null) {
+            out.writeBoolean(true);
+            out.writeString(dateFormatter.pattern());
+            out.writeString(dateFormatter.locale().toLanguageTag());
+            out.writeVInt(resolution.ordinal());
+        } else {
+            out.writeBoolean(false);
+        }
+    }
+
+    /**
+     * Return the minimum and maximum values of the field, or null if the field has no value.
+     */
+    @Nullable
+    public MinAndMax<?> getMinAndMax() {
+        return minAndMax;
+    }
+
+    /**
+     * Returns false if the provided range query on this field cannot match any document of the shard. Returns true if it may match
+     * or if the range cannot be evaluated outside of the shard.
+     */
+    public boolean canMatch(RangeQueryBuilder range, LongSupplier nowInMillis) {
+        if (minAndMax == null) {
+            // a range query only matches documents that have a value
+            return false;
+        }
+        if (range.relation() != null && range.relation() != ShapeRelation.INTERSECTS) {
+            return true;
+        }
+        try {
+            if (dateFormatter != null) {
+                return dateCanMatch(range, nowInMillis);
+            } else {
+                return numberCanMatch(range);
+            }
+        } catch (RuntimeException e) {
+            // invalid values are reported by the shards
+            return true;
+        }
+    }
+
+    /**
+     * Parses the bounds of the range the same way {@link DateFieldType#isFieldWithinQuery} does.
+     */
+    private boolean dateCanMatch(RangeQueryBuilder range, LongSupplier nowInMillis) {
+        final DateFormatter formatter = range.format() != null ? DateFormatter.forPattern(range.format()) : dateFormatter;
+        final ZoneId timeZone = range.timeZone() != null ? ZoneId.of(range.timeZone()) : null;
+        final long min = (Long) minAndMax.getMin();
+        final long max = (Long) minAndMax.getMax();
+        if (range.from() != null) {
+            long fromInclusive = DateFieldType.parseToLong(range.from(), range.includeLower() == false, timeZone,
+                formatter.toDateMathParser(), nowInMillis, resolution);
+            if (range.includeLower() == false) {
+                if (fromInclusive == Long.MAX_VALUE) {
+                    return false;
+                }
+                ++fromInclusive;
+            }
+            if (max < fromInclusive) {
+                return false;
+            }
+        }
+        if (range.to() != null) {
+            long toInclusive = DateFieldType.parseToLong(range.to(), range.includeUpper(), timeZone,
+                formatter.toDateMathParser(), nowInMillis, resolution);
+            if (range.includeUpper() == false) {
+                if (toInclusive == Long.MIN_VALUE) {
+                    return false;
+                }
+                --toInclusive;
+            }
+            if (min > toInclusive) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares the bounds of the range as doubles. Rounding is monotonic so a range that intersects the field values is never
+     * reported as disjoint, but the bounds are treated as inclusive since they may be rounded.
+     */
+    private boolean numberCanMatch(RangeQueryBuilder range) {
+        final double min = ((Number) minAndMax.getMin()).doubleValue();
+        final double max = ((Number) minAndMax.getMax()).doubleValue();
+        if (range.from() != null && parseDouble(range.from()) > max) {
+            return false;
+        }
+        return range.to() == null || parseDouble(range.to()) >= min;
+    }
+
+    private static double parseDouble(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        return Double.parseDouble(BytesRefs.toString(value));
+    }
+
+    /**
+     * Adds the range queries that documents must match in order to match the provided query to <code>ranges</code>.
+     */
+    public static void collectRequiredRanges(@Nullable QueryBuilder query, List<RangeQueryBuilder> ranges) {
+        if (query instanceof RangeQueryBuilder) {
+            ranges.add((RangeQueryBuilder) query);
+        } else if (query instanceof ConstantScoreQueryBuilder) {
+            collectRequiredRanges(((ConstantScoreQueryBuilder) query).innerQuery(), ranges);
+        } else if (query instanceof BoolQueryBuilder) {
+            BoolQueryBuilder bool = (BoolQueryBuilder) query;
+            for (QueryBuilder clause : bool.must()) {
+                collectRequiredRanges(clause, ranges);
+            }
+            for (QueryBuilder clause : bool.filter()) {
+                collectRequiredRanges(clause, ranges);
+            }
+        }
+    }
+
+    /**
+     * Reads the bounds of the provided field from the shard. Returns null if they cannot be used to evaluate range queries on the
+     * coordinating node.
+     */
+    @Nullable
+    public static FieldBounds readFieldBounds(QueryShardContext context, String field) throws IOException {
+        final IndexReader reader = context.getIndexReader();
+        final MappedFieldType fieldType = context.fieldMapper(field);
+        if (reader == null) {
+            return null;
+        }
+        if (fieldType == null) {
+            // range queries on unmapped fields do not match
+            return new FieldBounds(null, null, null);
+        }
+        if (fieldType.isSearchable() == false) {
+            return null;
+        }
+        final String name = fieldType.name();
+        final boolean hasValues = PointValues.size(reader, name) > 0;
+        if (fieldType instanceof DateFieldType) {
+            final DateFieldType dateFieldType = (DateFieldType) fieldType;
+            if (dateFieldType.dateTimeFormatter() instanceof JodaDateFormatter) {
+                return null;
+            }
+            final MinAndMax<Long> minAndMax = hasValues ? new MinAndMax<>(
+                LongPoint.decodeDimension(PointValues.getMinPackedValue(reader, name), 0),
+                LongPoint.decodeDimension(PointValues.getMaxPackedValue(reader, name), 0)) : null;
+            return new FieldBounds(minAndMax, dateFieldType.dateTimeFormatter(), dateFieldType.resolution());
+        } else if (fieldType instanceof NumberFieldType) {
+            final NumberFieldType numberFieldType = (NumberFieldType) fieldType;
+            switch (numberFieldType.typeName()) {
+                case "long":
+                case "integer":
+                case "short":
+                case "byte":
+                    return new FieldBounds(hasValues ? new MinAndMax<>(
+                        numberFieldType.parsePoint(PointValues.getMinPackedValue(reader, name)).longValue(),
+                        numberFieldType.parsePoint(PointValues.getMaxPackedValue(reader, name)).longValue()) : null, null, null);
+                case "double":
+                    return new FieldBounds(hasValues ? new MinAndMax<>(
+                        numberFieldType.parsePoint(PointValues.getMinPackedValue(reader, name)).doubleValue(),
+                        numberFieldType.parsePoint(PointValues.getMaxPackedValue(reader, name)).doubleValue()) : null, null, null);
+                default:
+                    // float values are rounded at index time, which the coordinating node cannot replicate without the mapping
+                    return null;
+            }
+        }
+        return null;
+    }
+}
@@ -38,6 +38,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.TopDocs;
 import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
 import org.opensearch.OpenSearchException;
 import org.opensearch.action.ActionListener;
 import org.opensearch.action.ActionRunnable;
@@ -77,6 +78,7 @@ import org.opensearch.index.query.MatchNoneQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryRewriteContext;
 import org.opensearch.index.query.QueryShardContext;
+import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.index.query.Rewriteable;
 import org.opensearch.index.shard.IndexEventListener;
 import org.opensearch.index.shard.IndexShard;
@@ -135,8 +137,10 @@ import org.opensearch.threadpool.ThreadPool.Names;
 import org.opensearch.transport.TransportRequest;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -181,6 +185,21 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final Setting<Integer> MAX_OPEN_SCROLL_CONTEXT =
         Setting.intSetting("search.max_open_scroll_context", 500, 0, Property.Dynamic, Property.NodeScope);
 
+    /**
+     * Enables concurrent segment search: the leaves of a shard are grouped into slices that are collected in parallel
+     * on the {@link Names#INDEX_SEARCHER} thread pool, and the per-slice top docs and aggregations are then reduced on
+     * the search thread.
+     */
+    public static final Setting<Boolean> CONCURRENT_SEGMENT_SEARCH_ENABLED =
+        Setting.boolSetting("search.concurrent_segment_search.enabled", false, Property.Dynamic, Property.NodeScope);
+
+    /**
+     * The maximum number of slices a single shard request is split into when concurrent segment search is enabled.
+     * The default of 0 caps the number of slices to the size of the {@link Names#INDEX_SEARCHER} thread pool.
+     */
+    public static final Setting<Integer> CONCURRENT_SEGMENT_SEARCH_MAX_SLICE_COUNT =
+        Setting.intSetting("search.concurrent.max_slice_count", 0, 0, Property.Dynamic, Property.NodeScope);
+
     public static final int DEFAULT_SIZE = 10;
     public static final int DEFAULT_FROM = 0;
 
@@ -214,6 +233,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
     private volatile int maxOpenScrollContext;
 
+    private volatile boolean concurrentSegmentSearchEnabled;
+
+    private volatile int concurrentSegmentSearchMaxSliceCount;
+
     private final Cancellable keepAliveReaper;
 
     private final AtomicLong idGenerator = new AtomicLong();
@@ -260,6 +283,13 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
 
         lowLevelCancellation = LOW_LEVEL_CANCELLATION_SETTING.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(LOW_LEVEL_CANCELLATION_SETTING, this::setLowLevelCancellation);
+
+        concurrentSegmentSearchEnabled = CONCURRENT_SEGMENT_SEARCH_ENABLED.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(CONCURRENT_SEGMENT_SEARCH_ENABLED,
+            this::setConcurrentSegmentSearchEnabled);
+        concurrentSegmentSearchMaxSliceCount = CONCURRENT_SEGMENT_SEARCH_MAX_SLICE_COUNT.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(CONCURRENT_SEGMENT_SEARCH_MAX_SLICE_COUNT,
+            this::setConcurrentSegmentSearchMaxSliceCount);
     }
 
     private void validateKeepAlives(TimeValue defaultKeepAlive, TimeValue maxKeepAlive) {
@@ -296,6 +326,14 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         this.lowLevelCancellation = lowLevelCancellation;
     }
 
+    private void setConcurrentSegmentSearchEnabled(boolean concurrentSegmentSearchEnabled) {
+        this.concurrentSegmentSearchEnabled = concurrentSegmentSearchEnabled;
+    }
+
+    private void setConcurrentSegmentSearchMaxSliceCount(int concurrentSegmentSearchMaxSliceCount) {
+        this.concurrentSegmentSearchMaxSliceCount = concurrentSegmentSearchMaxSliceCount;
+    }
+
     @Override
     public void afterIndexRemoved(Index index, IndexSettings indexSettings, IndexRemovalReason reason) {
         // once an index is removed due to deletion or closing, we can just clean up all the pending search context information
@@ -348,7 +386,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             @Override
             public void onResponse(ShardSearchRequest rewritten) {
                 // fork the execution in the search thread pool
-                runAsync(getExecutor(shard), () -> executeDfsPhase(request, task, keepStatesInContext), listener);
+                runAsync(getExecutor(shard), task, () -> executeDfsPhase(request, task, keepStatesInContext), listener);
             }
 
             @Override
@@ -411,7 +449,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                     }
                 }
                 // fork the execution in the search thread pool
-                runAsync(getExecutor(shard), () -> executeQueryPhase(orig, task, keepStatesInContext), listener);
+                runAsync(getExecutor(shard), task, () -> executeQueryPhase(orig, task, keepStatesInContext), listener);
             }
 
             @Override
@@ -429,8 +467,14 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         }
     }
 
-    private <T> void runAsync(Executor executor, CheckedSupplier<T, Exception> executable, ActionListener<T> listener) {
-        executor.execute(ActionRunnable.supply(listener, executable::get));
+    private <T> void runAsync(Executor executor, SearchShardTask task, CheckedSupplier<T, Exception> executable,
+                              ActionListener<T> listener) {
+        executor.execute(ActionRunnable.supply(listener, () -> {
+            // account the CPU time and the allocations of the search thread to the task, and to its parent search task
+            try (Releasable ignored = task.resourceUsage().startThreadTracking()) {
+                return executable.get();
+            }
+        }));
     }
 
     private SearchPhaseResult executeQueryPhase(ShardSearchRequest request,
@@ -493,7 +537,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             freeReaderContext(readerContext.id());
             throw e;
         }
-        runAsync(getExecutor(readerContext.indexShard()), () -> {
+        runAsync(getExecutor(readerContext.indexShard()), task, () -> {
             final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(null);
             try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, false);
                  SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(searchContext)) {
@@ -515,7 +559,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         final ReaderContext readerContext = findReaderContext(request.contextId(), request.shardSearchRequest());
         final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(request.shardSearchRequest());
         final Releasable markAsUsed = readerContext.markAsUsed(getKeepAlive(shardSearchRequest));
-        runAsync(getExecutor(readerContext.indexShard()), () -> {
+        runAsync(getExecutor(readerContext.indexShard()), task, () -> {
             readerContext.setAggregatedDfs(request.dfs());
             try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, true);
                  SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(searchContext)) {
@@ -565,7 +609,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             freeReaderContext(readerContext.id());
             throw e;
         }
-        runAsync(getExecutor(readerContext.indexShard()), () -> {
+        runAsync(getExecutor(readerContext.indexShard()), task, () -> {
             final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(null);
             try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, false);
                  SearchOperationListenerExecutor executor = new SearchOperationListenerExecutor(searchContext)) {
@@ -589,7 +633,7 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         final ReaderContext readerContext = findReaderContext(request.contextId(), request);
         final ShardSearchRequest shardSearchRequest = readerContext.getShardSearchRequest(request.getShardSearchRequest());
         final Releasable markAsUsed = readerContext.markAsUsed(getKeepAlive(shardSearchRequest));
-        runAsync(getExecutor(readerContext.indexShard()), () -> {
+        runAsync(getExecutor(readerContext.indexShard()), task, () -> {
             try (SearchContext searchContext = createContext(readerContext, shardSearchRequest, task, false)) {
                 if (request.lastEmittedDoc() != null) {
                     searchContext.scrollContext().lastEmittedDoc = request.lastEmittedDoc();
@@ -776,9 +820,19 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         try {
             SearchShardTarget shardTarget = new SearchShardTarget(clusterService.localNode().getId(),
                 reader.indexShard().shardId(), request.getClusterAlias(), OriginalIndices.NONE);
+            final Executor executor;
+            final int maxSliceCount;
+            if (concurrentSegmentSearchEnabled) {
+                executor = threadPool.executor(Names.INDEX_SEARCHER);
+                maxSliceCount = concurrentSegmentSearchMaxSliceCount > 0
+                    ? concurrentSegmentSearchMaxSliceCount : threadPool.info(Names.INDEX_SEARCHER).getMax();
+            } else {
+                executor = null;
+                maxSliceCount = 1;
+            }
             searchContext = new DefaultSearchContext(reader, request, shardTarget, clusterService, bigArrays,
                 threadPool::relativeTimeInMillis, timeout, fetchPhase, lowLevelCancellation,
-                clusterService.state().nodes().getMinNodeVersion());
+                clusterService.state().nodes().getMinNodeVersion(), executor, maxSliceCount);
             // we clone the query shard context here just for rewriting otherwise we
             // might end up with incorrect state since we are using now() or script services
             // during rewrite and normalized / evaluate templates etc.
@@ -946,7 +1000,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         if (source.aggregations() != null && includeAggregations) {
             try {
                 AggregatorFactories factories = source.aggregations().build(queryShardContext, null);
-                context.aggregations(new SearchContextAggregations(factories, multiBucketConsumerService.create()));
+                context.aggregations(new SearchContextAggregations(factories, multiBucketConsumerService.create(),
+                    () -> ReduceContext.forPartialReduction(context.bigArrays(), scriptService,
+                        source.aggregations()::buildPipelineTree)));
             } catch (IOException e) {
                 throw new AggregationInitializationException("Failed to create aggregators", e);
             }
@@ -1125,6 +1181,19 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         return this.activeReaders.size();
     }
 
+    /**
+     * Returns the reader contexts of this node that were opened for a point in time
+     */
+    public List<ReaderContext> getPointInTimeReaderContexts() {
+        final List<ReaderContext> contexts = new ArrayList<>();
+        for (ReaderContext context : activeReaders.values()) {
+            if (context.singleSession() == false && context instanceof LegacyReaderContext == false) {
+                contexts.add(context);
+            }
+        }
+        return contexts;
+    }
+
     public ResponseCollectorService getResponseCollectorService() {
         return this.responseCollectorService;
     }
@@ -1184,6 +1253,10 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             try (Releasable ignored2 = canMatchSearcher) {
                 QueryShardContext context = indexService.newQueryShardContext(request.shardId().id(), canMatchSearcher,
                     request::nowInMillis, request.getClusterAlias());
+                // the bounds are only reported if the reader has all the writes of the shard so far, and they are collected before
+                // the rewrite since range queries that do not match are rewritten away
+                final Set<String> boundedFields = readerContext == null && hasRefreshPending == false
+                    && canMatchSearcher.getDirectoryReader().isCurrent() ? requiredRangeFields(request.source()) : Collections.emptySet();
                 Rewriteable.rewrite(request.getRewriteable(), context, false);
                 final boolean aliasFilterCanMatch = request.getAliasFilter()
                     .getQueryBuilder() instanceof MatchNoneQueryBuilder == false;
@@ -1197,9 +1270,37 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
                     // null query means match_all
                     canMatch = aliasFilterCanMatch;
                 }
-                return new CanMatchResponse(canMatch || hasRefreshPending, minMax);
+                final Map<String, FieldBounds> fieldBounds = new HashMap<>();
+                for (String field : boundedFields) {
+                    FieldBounds bounds = FieldBounds.readFieldBounds(context, field);
+                    if (bounds != null) {
+                        fieldBounds.put(field, bounds);
+                    }
+                }
+                // the coordinating node only trusts the bounds as long as neither the settings (and so the blocks) of the index nor
+                // the reader they were read from change
+                return new CanMatchResponse(canMatch || hasRefreshPending, minMax, fieldBounds,
+                    indexService.getMetadata().getSettingsVersion(), canMatchSearcher.getDirectoryReader().getVersion());
+            }
+        }
+    }
+
+    /**
+     * Returns the fields of the range queries that documents must match in order to match the query of the provided source.
+     */
+    private static Set<String> requiredRangeFields(SearchSourceBuilder source) {
+        if (source == null || source.query() == null) {
+            return Collections.emptySet();
+        }
+        final List<RangeQueryBuilder> ranges = new ArrayList<>();
+        FieldBounds.collectRequiredRanges(source.query(), ranges);
+        final Set<String> fields = new HashSet<>();
+        for (RangeQueryBuilder range : ranges) {
+            if (fields.size() < FieldBounds.MAX_FIELDS) {
+                fields.add(range.fieldName());
             }
         }
+        return fields;
     }
 
     /**
@@ -1272,6 +1373,9 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
     public static final class CanMatchResponse extends SearchPhaseResult {
         private final boolean canMatch;
         private final MinAndMax<?> estimatedMinAndMax;
+        private final Map<String, FieldBounds> fieldBounds;
+        private final long indexSettingsVersion;
+        private final long readerVersion;
 
         public CanMatchResponse(StreamInput in) throws IOException {
             super(in);
@@ -1281,11 +1385,28 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             } else {
                 estimatedMinAndMax = null;
             }
+            if (in.getVersion().onOrAfter(Version.V_1_0_0)) {
+                fieldBounds = in.readMap(StreamInput::readString, FieldBounds::new);
+                indexSettingsVersion = in.readZLong();
+                readerVersion = in.readZLong();
+            } else {
+                fieldBounds = Collections.emptyMap();
+                indexSettingsVersion = -1L;
+                readerVersion = -1L;
+            }
         }
 
         public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax) {
+            this(canMatch, estimatedMinAndMax, Collections.emptyMap(), -1L, -1L);
+        }
+
+        public CanMatchResponse(boolean canMatch, MinAndMax<?> estimatedMinAndMax, Map<String, FieldBounds> fieldBounds,
+                                long indexSettingsVersion, long readerVersion) {
             this.canMatch = canMatch;
             this.estimatedMinAndMax = estimatedMinAndMax;
+            this.fieldBounds = fieldBounds;
+            this.indexSettingsVersion = indexSettingsVersion;
+            this.readerVersion = readerVersion;
         }
 
         @Override
@@ -1294,6 +1415,11 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
             if (out.getVersion().onOrAfter(LegacyESVersion.V_7_6_0)) {
                 out.writeOptionalWriteable(estimatedMinAndMax);
             }
+            if (out.getVersion().onOrAfter(Version.V_1_0_0)) {
+                out.writeMap(fieldBounds, StreamOutput::writeString, (o, bounds) -> bounds.writeTo(o));
+                out.writeZLong(indexSettingsVersion);
+                out.writeZLong(readerVersion);
+            }
         }
 
         public boolean canMatch() {
@@ -1303,6 +1429,27 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         public MinAndMax<?> estimatedMinAndMax() {
             return estimatedMinAndMax;
         }
+
+        /**
+         * The bounds of the fields of the range queries that the request requires, by field name.
+         */
+        public Map<String, FieldBounds> fieldBounds() {
+            return fieldBounds;
+        }
+
+        /**
+         * The settings version of the index that the shard knew about when it read the {@link #fieldBounds()}, or -1 if unknown.
+         */
+        public long indexSettingsVersion() {
+            return indexSettingsVersion;
+        }
+
+        /**
+         * The version of the reader that the {@link #fieldBounds()} were read from, or -1 if unknown.
+         */
+        public long readerVersion() {
+            return readerVersion;
+        }
     }
 
     /**
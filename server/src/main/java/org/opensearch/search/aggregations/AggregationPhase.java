@@ -43,6 +43,7 @@ import org.opensearch.search.query.QueryPhaseExecutionException;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -84,6 +85,31 @@ public class AggregationPhase {
         }
     }
 
+    /**
+     * Creates a new set of top level aggregators that collect one slice of a concurrent segment search into their own
+     * buckets, and returns the collector that feeds them or <code>null</code> if there is nothing to collect. The
+     * results of the slice aggregators are reduced with the ones of the main aggregators in {@link #execute}.
+     */
+    public static Collector createSliceCollector(SearchContext context) throws IOException {
+        if (context.aggregations() == null) {
+            return null;
+        }
+        List<Aggregator> collectors = new ArrayList<>();
+        for (Aggregator aggregator : context.aggregations().factories().createTopLevelAggregators(context)) {
+            // global aggregators are executed once, on the main aggregators
+            if (aggregator instanceof GlobalAggregator == false) {
+                collectors.add(aggregator);
+            }
+        }
+        if (collectors.isEmpty()) {
+            return null;
+        }
+        context.aggregations().addSliceAggregators(collectors);
+        BucketCollector collector = MultiBucketCollector.wrap(collectors);
+        collector.preCollection();
+        return collector;
+    }
+
     public void execute(SearchContext context) {
         if (context.aggregations() == null) {
             context.queryResult().aggregations(null);
@@ -128,9 +154,41 @@ public class AggregationPhase {
             }
         }
 
-        List<InternalAggregation> aggregations = new ArrayList<>(aggregators.length);
         context.aggregations().resetBucketMultiConsumer();
-        for (Aggregator aggregator : context.aggregations().aggregators()) {
+        InternalAggregations aggregations = new InternalAggregations(buildTopLevel(Arrays.asList(aggregators)),
+                context.request().source().aggregations()::buildPipelineTree);
+        List<List<Aggregator>> sliceAggregators = context.aggregations().sliceAggregators();
+        if (sliceAggregators.isEmpty() == false) {
+            // merge the slices of a concurrent segment search into a single shard level result
+            List<InternalAggregations> slices = new ArrayList<>(sliceAggregators.size() + 1);
+            slices.add(aggregations);
+            for (List<Aggregator> slice : sliceAggregators) {
+                context.aggregations().resetBucketMultiConsumer();
+                slices.add(InternalAggregations.from(buildTopLevel(slice)));
+            }
+            aggregations = InternalAggregations.topLevelReduce(slices, context.aggregations().partialReduceContext());
+            // each slice was only checked against the limit on its own, the shard level result must be checked as a whole
+            context.aggregations().resetBucketMultiConsumer();
+            context.aggregations().multiBucketConsumer().accept(countBuckets(aggregations));
+        }
+        context.queryResult().aggregations(aggregations);
+
+        // disable aggregations so that they don't run on next pages in case of scrolling
+        context.aggregations(null);
+        context.queryCollectors().remove(AggregationPhase.class);
+    }
+
+    private static int countBuckets(InternalAggregations aggregations) {
+        int count = 0;
+        for (Aggregation aggregation : aggregations) {
+            count += InternalMultiBucketAggregation.countInnerBucket(aggregation);
+        }
+        return count;
+    }
+
+    private static List<InternalAggregation> buildTopLevel(List<Aggregator> aggregators) {
+        List<InternalAggregation> aggregations = new ArrayList<>(aggregators.size());
+        for (Aggregator aggregator : aggregators) {
             try {
                 aggregator.postCollection();
                 aggregations.add(aggregator.buildTopLevel());
@@ -138,11 +196,6 @@ public class AggregationPhase {
                 throw new AggregationExecutionException("Failed to build aggregation [" + aggregator.name() + "]", e);
             }
         }
-        context.queryResult().aggregations(new InternalAggregations(aggregations,
-                context.request().source().aggregations()::buildPipelineTree));
-
-        // disable aggregations so that they don't run on next pages in case of scrolling
-        context.aggregations(null);
-        context.queryCollectors().remove(AggregationPhase.class);
+        return aggregations;
     }
 }
@@ -31,6 +31,13 @@
 
 package org.opensearch.search.aggregations;
 
+import org.opensearch.search.aggregations.InternalAggregation.ReduceContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
 import static org.opensearch.search.aggregations.MultiBucketConsumerService.MultiBucketConsumer;
 
 /**
@@ -40,14 +47,26 @@ public class SearchContextAggregations {
 
     private final AggregatorFactories factories;
     private final MultiBucketConsumer multiBucketConsumer;
+    private final Supplier<ReduceContext> partialReduceContextSupplier;
+    private final List<List<Aggregator>> sliceAggregators = new ArrayList<>();
     private Aggregator[] aggregators;
 
     /**
      * Creates a new aggregation context with the parsed aggregator factories
      */
     public SearchContextAggregations(AggregatorFactories factories, MultiBucketConsumer multiBucketConsumer) {
+        this(factories, multiBucketConsumer, null);
+    }
+
+    /**
+     * Creates a new aggregation context with the parsed aggregator factories and a supplier of the
+     * {@link ReduceContext} that merges the results of the slices of a concurrent segment search.
+     */
+    public SearchContextAggregations(AggregatorFactories factories, MultiBucketConsumer multiBucketConsumer,
+                                     Supplier<ReduceContext> partialReduceContextSupplier) {
         this.factories = factories;
         this.multiBucketConsumer = multiBucketConsumer;
+        this.partialReduceContextSupplier = partialReduceContextSupplier;
     }
 
     public AggregatorFactories factories() {
@@ -67,6 +86,31 @@ public class SearchContextAggregations {
         this.aggregators = aggregators;
     }
 
+    /**
+     * Registers the top level aggregators that collect one slice of a concurrent segment search,
+     * in addition to the main {@link #aggregators()}.
+     */
+    public void addSliceAggregators(List<Aggregator> aggregators) {
+        this.sliceAggregators.add(aggregators);
+    }
+
+    /**
+     * Returns the aggregators registered with {@link #addSliceAggregators(List)}.
+     */
+    public List<List<Aggregator>> sliceAggregators() {
+        return Collections.unmodifiableList(sliceAggregators);
+    }
+
+    /**
+     * Returns the context used to reduce the results of the slice aggregators with the main aggregators.
+     */
+    public ReduceContext partialReduceContext() {
+        if (partialReduceContextSupplier == null) {
+            throw new IllegalStateException("no partial reduce context available to reduce slice aggregations");
+        }
+        return partialReduceContextSupplier.get();
+    }
+
     /**
      * Returns a consumer for multi bucket aggregation that checks the total number of buckets
      * created in the response
@@ -0,0 +1,223 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.bucket;
+
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.IndexOrDocValuesQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PointRangeQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.util.Bits;
+import org.apache.lucene.util.FutureArrays;
+import org.opensearch.common.Nullable;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * Counts the documents of a segment per bucket straight from the indexed {@link PointValues} of a field, without
+ * loading doc values for every matching document. Cells of the BKD tree whose values all fall into the same bucket
+ * are counted without decoding their values, so a top level histogram or range aggregation over a match all or a
+ * range query visits at most one value per document and usually far fewer.
+ *
+ * This is only correct when the points hold exactly the values that the aggregation would read from doc values and
+ * every document of the segment that has a value matches the query, which is checked by {@link #build} for the whole
+ * shard and by {@link #tryCount} for each segment.
+ */
+public final class PointTreeBucketCounter {
+
+    /**
+     * Maps the values of the field to the buckets of an aggregation.
+     */
+    public interface BucketResolver {
+        /**
+         * Returns the ordinal of the bucket that <code>value</code> falls into, creating the bucket if needed,
+         * or <code>-1</code> if the value does not belong to any bucket.
+         */
+        long bucketOrd(Number value);
+
+        /**
+         * Returns {@link PointValues.Relation#CELL_INSIDE_QUERY} if all the values between <code>min</code> and
+         * <code>max</code> fall into the same bucket, {@link PointValues.Relation#CELL_OUTSIDE_QUERY} if none of them
+         * belongs to a bucket and {@link PointValues.Relation#CELL_CROSSES_QUERY} otherwise.
+         */
+        PointValues.Relation relate(Number min, Number max);
+    }
+
+    private final BucketsAggregator aggregator;
+    private final String field;
+    private final Function<byte[], Number> converter;
+    @Nullable
+    private final byte[] lowerPoint;
+    @Nullable
+    private final byte[] upperPoint;
+    private int countedSegments;
+
+    private PointTreeBucketCounter(BucketsAggregator aggregator, String field, Function<byte[], Number> converter,
+                                   @Nullable byte[] lowerPoint, @Nullable byte[] upperPoint) {
+        this.aggregator = aggregator;
+        this.field = field;
+        this.converter = converter;
+        this.lowerPoint = lowerPoint;
+        this.upperPoint = upperPoint;
+    }
+
+    /**
+     * Returns a counter for <code>aggregator</code> if its buckets can be counted from the points of the field,
+     * or <code>null</code> if the documents must be collected. Counting from the points requires a top level
+     * aggregation without sub-aggregations on an indexed field without script or missing value, and a query that
+     * is either a match all or a range on that same field.
+     */
+    @Nullable
+    public static PointTreeBucketCounter build(BucketsAggregator aggregator, SearchContext context, @Nullable Aggregator parent,
+                                               AggregatorFactories factories, ValuesSourceConfig config) {
+        if (parent != null || factories.countAggregators() > 0) {
+            return null;
+        }
+        if (context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER || context.minimumScore() != null) {
+            return null;
+        }
+        final Function<byte[], Number> converter = config.getPointReaderOrNull();
+        if (converter == null || config.fieldContext() == null) {
+            return null;
+        }
+        final String field = config.fieldContext().field();
+        final Query query = extractQuery(context.query());
+        if (query == null || query.getClass() == MatchAllDocsQuery.class) {
+            return new PointTreeBucketCounter(aggregator, field, converter, null, null);
+        } else if (query instanceof PointRangeQuery) {
+            final PointRangeQuery rangeQuery = (PointRangeQuery) query;
+            if (field.equals(rangeQuery.getField()) && rangeQuery.getNumDims() == 1) {
+                return new PointTreeBucketCounter(aggregator, field, converter, rangeQuery.getLowerPoint(), rangeQuery.getUpperPoint());
+            }
+        }
+        return null;
+    }
+
+    private static Query extractQuery(Query query) {
+        if (query instanceof BoostQuery) {
+            return extractQuery(((BoostQuery) query).getQuery());
+        } else if (query instanceof IndexOrDocValuesQuery) {
+            return extractQuery(((IndexOrDocValuesQuery) query).getIndexQuery());
+        } else if (query instanceof ConstantScoreQuery) {
+            return extractQuery(((ConstantScoreQuery) query).getQuery());
+        } else {
+            return query;
+        }
+    }
+
+    /**
+     * Counts the documents of the segment into the buckets returned by <code>resolver</code>.
+     *
+     * @return <code>false</code> if the segment cannot be counted from its points and its documents must be collected
+     */
+    public boolean tryCount(LeafReaderContext ctx, BucketResolver resolver) throws IOException {
+        final LeafReader reader = ctx.reader();
+        final PointValues values = reader.getPointValues(field);
+        if (values == null || values.getNumIndexDimensions() != 1 || values.getDocCount() != values.size()) {
+            // multi-valued documents must be counted once per bucket, which requires their doc values
+            return false;
+        }
+        if (reader.hasDeletions() && (reader.numDocs() == 0 || (double) reader.numDocs() / (double) reader.maxDoc() < 0.5)) {
+            // checking the live docs of every point is not worth it when most of the documents are deleted
+            return false;
+        }
+        final BucketCountingVisitor visitor = new BucketCountingVisitor(reader.getLiveDocs(), resolver, values.getBytesPerDimension());
+        values.intersect(visitor);
+        visitor.flush();
+        countedSegments++;
+        return true;
+    }
+
+    /**
+     * Returns the number of segments that were counted from their points.
+     */
+    public int countedSegments() {
+        return countedSegments;
+    }
+
+    private class BucketCountingVisitor implements PointValues.IntersectVisitor {
+        private final Bits liveDocs;
+        private final BucketResolver resolver;
+        private final int bytesPerDim;
+
+        // documents of the cells that fall entirely into the bucket of insideValue and have not been counted yet
+        private Number insideValue;
+        private int insideCount;
+
+        BucketCountingVisitor(@Nullable Bits liveDocs, BucketResolver resolver, int bytesPerDim) {
+            this.liveDocs = liveDocs;
+            this.resolver = resolver;
+            this.bytesPerDim = bytesPerDim;
+        }
+
+        @Override
+        public void visit(int docID) {
+            if (liveDocs == null || liveDocs.get(docID)) {
+                insideCount++;
+            }
+        }
+
+        @Override
+        public void visit(int docID, byte[] packedValue) {
+            if ((liveDocs == null || liveDocs.get(docID)) && matchesQuery(packedValue)) {
+                final long bucketOrd = resolver.bucketOrd(converter.apply(packedValue));
+                if (bucketOrd >= 0) {
+                    aggregator.incrementBucketDocCount(bucketOrd, 1);
+                }
+            }
+        }
+
+        @Override
+        public PointValues.Relation compare(byte[] minPackedValue, byte[] maxPackedValue) {
+            flush();
+            if (lowerPoint != null) {
+                if (compareUnsigned(maxPackedValue, lowerPoint) < 0 || compareUnsigned(minPackedValue, upperPoint) > 0) {
+                    return PointValues.Relation.CELL_OUTSIDE_QUERY;
+                }
+                if (compareUnsigned(minPackedValue, lowerPoint) < 0 || compareUnsigned(maxPackedValue, upperPoint) > 0) {
+                    return PointValues.Relation.CELL_CROSSES_QUERY;
+                }
+            }
+            final Number min = converter.apply(minPackedValue);
+            final PointValues.Relation relation = resolver.relate(min, converter.apply(maxPackedValue));
+            if (relation == PointValues.Relation.CELL_INSIDE_QUERY) {
+                insideValue = min;
+            }
+            return relation;
+        }
+
+        void flush() {
+            if (insideCount > 0) {
+                final long bucketOrd = resolver.bucketOrd(insideValue);
+                if (bucketOrd >= 0) {
+                    aggregator.incrementBucketDocCount(bucketOrd, insideCount);
+                }
+                insideCount = 0;
+            }
+        }
+
+        private boolean matchesQuery(byte[] packedValue) {
+            return lowerPoint == null
+                || (compareUnsigned(packedValue, lowerPoint) >= 0 && compareUnsigned(packedValue, upperPoint) <= 0);
+        }
+
+        private int compareUnsigned(byte[] a, byte[] b) {
+            return FutureArrays.compareUnsigned(a, 0, bytesPerDim, b, 0, bytesPerDim);
+        }
+    }
+}
@@ -32,7 +32,9 @@
 package org.opensearch.search.aggregations.bucket.histogram;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
 import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.util.CollectionUtil;
 import org.opensearch.common.Nullable;
@@ -47,6 +49,7 @@ import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.PointTreeBucketCounter;
 import org.opensearch.search.aggregations.bucket.terms.LongKeyedBucketOrds;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
@@ -81,6 +84,12 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
 
     private final LongKeyedBucketOrds bucketOrds;
 
+    /**
+     * Counts whole segments from the points of the field when the query and the aggregation allow it, null otherwise.
+     */
+    @Nullable
+    private final PointTreeBucketCounter pointTreeBucketCounter;
+
     DateHistogramAggregator(
         String name,
         AggregatorFactories factories,
@@ -112,6 +121,9 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         this.formatter = valuesSourceConfig.format();
 
         bucketOrds = LongKeyedBucketOrds.build(context.bigArrays(), cardinality);
+        pointTreeBucketCounter = valuesSource == null
+            ? null
+            : PointTreeBucketCounter.build(this, aggregationContext, parent, factories, valuesSourceConfig);
     }
 
     @Override
@@ -127,6 +139,10 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         if (valuesSource == null) {
             return LeafBucketCollector.NO_OP_COLLECTOR;
         }
+        if (pointTreeBucketCounter != null && pointTreeBucketCounter.tryCount(ctx, new PointTreeBucketResolver())) {
+            // the documents of this segment have been counted from the points, we don't need to collect them
+            throw new CollectionTerminatedException();
+        }
         SortedNumericDocValues values = valuesSource.longValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -158,6 +174,34 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         };
     }
 
+    /**
+     * Resolves the buckets of the points of the field. There is no parent aggregator when counting from the
+     * points so the owning bucket ordinal is always 0.
+     */
+    private class PointTreeBucketResolver implements PointTreeBucketCounter.BucketResolver {
+        @Override
+        public long bucketOrd(Number value) {
+            final long rounded = preparedRounding.round(value.longValue());
+            if (hardBounds != null && hardBounds.contain(rounded) == false) {
+                return -1;
+            }
+            final long bucketOrd = bucketOrds.add(0, rounded);
+            return bucketOrd < 0 ? -1 - bucketOrd : bucketOrd;
+        }
+
+        @Override
+        public PointValues.Relation relate(Number min, Number max) {
+            final long rounded = preparedRounding.round(min.longValue());
+            if (rounded != preparedRounding.round(max.longValue())) {
+                return PointValues.Relation.CELL_CROSSES_QUERY;
+            }
+            if (hardBounds != null && hardBounds.contain(rounded) == false) {
+                return PointValues.Relation.CELL_OUTSIDE_QUERY;
+            }
+            return PointValues.Relation.CELL_INSIDE_QUERY;
+        }
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return buildAggregationsForVariableBuckets(owningBucketOrds, bucketOrds,
@@ -194,6 +238,9 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
     @Override
     public void collectDebugInfo(BiConsumer<String, Object> add) {
         add.accept("total_buckets", bucketOrds.size());
+        if (pointTreeBucketCounter != null) {
+            add.accept("segments_counted_from_points", pointTreeBucketCounter.countedSegments());
+        }
     }
 
     /**
@@ -32,7 +32,10 @@
 package org.opensearch.search.aggregations.bucket.range;
 
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.ScoreMode;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.ParseField;
 import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.io.stream.StreamOutput;
@@ -54,7 +57,9 @@ import org.opensearch.search.aggregations.LeafBucketCollector;
 import org.opensearch.search.aggregations.LeafBucketCollectorBase;
 import org.opensearch.search.aggregations.NonCollectingAggregator;
 import org.opensearch.search.aggregations.bucket.BucketsAggregator;
+import org.opensearch.search.aggregations.bucket.PointTreeBucketCounter;
 import org.opensearch.search.aggregations.support.ValuesSource;
+import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
@@ -62,6 +67,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BiConsumer;
 
 import static org.opensearch.common.xcontent.ConstructingObjectParser.optionalConstructorArg;
 
@@ -236,9 +242,29 @@ public class RangeAggregator extends BucketsAggregator {
 
     final double[] maxTo;
 
+    /**
+     * Counts whole segments from the points of the field when the query and the aggregation allow it, null otherwise.
+     */
+    @Nullable
+    private final PointTreeBucketCounter pointTreeBucketCounter;
+
+    public RangeAggregator(String name, AggregatorFactories factories, ValuesSourceConfig valuesSourceConfig,
+            InternalRange.Factory rangeFactory, Range[] ranges, boolean keyed, SearchContext context,
+            Aggregator parent, CardinalityUpperBound cardinality, Map<String, Object> metadata) throws IOException {
+        this(name, factories, (ValuesSource.Numeric) valuesSourceConfig.getValuesSource(), valuesSourceConfig.format(), rangeFactory,
+            ranges, keyed, context, parent, cardinality, metadata, valuesSourceConfig);
+    }
+
     public RangeAggregator(String name, AggregatorFactories factories, ValuesSource.Numeric valuesSource, DocValueFormat format,
             InternalRange.Factory rangeFactory, Range[] ranges, boolean keyed, SearchContext context,
             Aggregator parent, CardinalityUpperBound cardinality, Map<String, Object> metadata) throws IOException {
+        this(name, factories, valuesSource, format, rangeFactory, ranges, keyed, context, parent, cardinality, metadata, null);
+    }
+
+    private RangeAggregator(String name, AggregatorFactories factories, ValuesSource.Numeric valuesSource, DocValueFormat format,
+            InternalRange.Factory rangeFactory, Range[] ranges, boolean keyed, SearchContext context,
+            Aggregator parent, CardinalityUpperBound cardinality, Map<String, Object> metadata,
+            @Nullable ValuesSourceConfig valuesSourceConfig) throws IOException {
 
         super(name, factories, context, parent, cardinality.multiply(ranges.length), metadata);
         assert valuesSource != null;
@@ -255,6 +281,21 @@ public class RangeAggregator extends BucketsAggregator {
             maxTo[i] = Math.max(this.ranges[i].to,maxTo[i-1]);
         }
 
+        if (valuesSourceConfig != null && hasOverlappingRanges(this.ranges) == false) {
+            pointTreeBucketCounter = PointTreeBucketCounter.build(this, context, parent, factories, valuesSourceConfig);
+        } else {
+            // a document is counted in every range it belongs to, so points can only be counted for disjoint ranges
+            pointTreeBucketCounter = null;
+        }
+    }
+
+    private static boolean hasOverlappingRanges(Range[] ranges) {
+        for (int i = 1; i < ranges.length; ++i) {
+            if (ranges[i - 1].to > ranges[i].from) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -268,6 +309,10 @@ public class RangeAggregator extends BucketsAggregator {
     @Override
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx,
             final LeafBucketCollector sub) throws IOException {
+        if (pointTreeBucketCounter != null && pointTreeBucketCounter.tryCount(ctx, new PointTreeBucketResolver())) {
+            // the documents of this segment have been counted from the points, we don't need to collect them
+            throw new CollectionTerminatedException();
+        }
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -336,6 +381,58 @@ public class RangeAggregator extends BucketsAggregator {
         return owningBucketOrdinal * ranges.length + rangeOrd;
     }
 
+    /**
+     * Resolves the ranges of the points of the field. Ranges are sorted and disjoint when counting from the points,
+     * and there is no parent aggregator so the bucket ordinal is the ordinal of the range.
+     */
+    private class PointTreeBucketResolver implements PointTreeBucketCounter.BucketResolver {
+        @Override
+        public long bucketOrd(Number value) {
+            final int rangeOrd = firstRangeEndingAfter(value.doubleValue());
+            if (rangeOrd < ranges.length && ranges[rangeOrd].matches(value.doubleValue())) {
+                return subBucketOrdinal(0, rangeOrd);
+            }
+            return -1;
+        }
+
+        @Override
+        public PointValues.Relation relate(Number min, Number max) {
+            final int rangeOrd = firstRangeEndingAfter(min.doubleValue());
+            if (rangeOrd == ranges.length || ranges[rangeOrd].from > max.doubleValue()) {
+                return PointValues.Relation.CELL_OUTSIDE_QUERY;
+            }
+            if (ranges[rangeOrd].matches(min.doubleValue()) && ranges[rangeOrd].matches(max.doubleValue())) {
+                return PointValues.Relation.CELL_INSIDE_QUERY;
+            }
+            return PointValues.Relation.CELL_CROSSES_QUERY;
+        }
+
+        /**
+         * Returns the ordinal of the first range whose upper bound is greater than <code>value</code>, or the
+         * number of ranges if there is none.
+         */
+        private int firstRangeEndingAfter(double value) {
+            int lo = 0, hi = ranges.length;
+            while (lo < hi) {
+                final int mid = (lo + hi) >>> 1;
+                if (ranges[mid].to > value) {
+                    hi = mid;
+                } else {
+                    lo = mid + 1;
+                }
+            }
+            return lo;
+        }
+    }
+
+    @Override
+    public void collectDebugInfo(BiConsumer<String, Object> add) {
+        super.collectDebugInfo(add);
+        if (pointTreeBucketCounter != null) {
+            add.accept("segments_counted_from_points", pointTreeBucketCounter.countedSegments());
+        }
+    }
+
     @Override
     public InternalAggregation[] buildAggregations(long[] owningBucketOrds) throws IOException {
         return buildAggregationsForFixedBucketCount(owningBucketOrds, ranges.length,
@@ -37,9 +37,18 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.ConstantScoreQuery;
+import org.apache.lucene.search.DocValuesFieldExistsQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.PriorityQueue;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
@@ -87,6 +96,13 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
     protected final CollectionStrategy collectionStrategy;
     protected int segmentsWithSingleValuedOrds = 0;
     protected int segmentsWithMultiValuedOrds = 0;
+    protected int segmentsCountedFromTermDictionary = 0;
+    /**
+     * The field whose term dictionary can be used to count the documents of a segment without collecting them,
+     * or null if the documents must be collected.
+     */
+    @Nullable
+    private final String termDictionaryField;
 
     public interface GlobalOrdLookupFunction {
         BytesRef apply(long ord) throws IOException;
@@ -128,6 +144,74 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
                 return new DenseGlobalOrds();
             });
         }
+        this.termDictionaryField = termDictionaryFieldOrNull(factories, context, parent);
+    }
+
+    /**
+     * Returns the field whose term dictionary holds the doc count of every bucket if the query matches all the documents that
+     * have a value, there is no parent or sub-aggregator and the standard terms results are built. Returns null otherwise.
+     */
+    @Nullable
+    private String termDictionaryFieldOrNull(AggregatorFactories factories, SearchContext context, Aggregator parent) {
+        if (parent != null || (factories != null && factories.countAggregators() > 0)) {
+            return null;
+        }
+        if (resultStrategy instanceof StandardTermsResults == false || valuesSource.supportsGlobalOrdinalsMapping() == false) {
+            return null;
+        }
+        if (context.terminateAfter() != SearchContext.DEFAULT_TERMINATE_AFTER || context.minimumScore() != null) {
+            return null;
+        }
+        final String field = valuesSource.indexedFieldName();
+        if (field == null) {
+            return null;
+        }
+        Query query = context.query();
+        while (query instanceof BoostQuery || query instanceof ConstantScoreQuery) {
+            query = query instanceof BoostQuery ? ((BoostQuery) query).getQuery() : ((ConstantScoreQuery) query).getQuery();
+        }
+        if (query == null || query.getClass() == MatchAllDocsQuery.class) {
+            return field;
+        }
+        if (query instanceof DocValuesFieldExistsQuery && field.equals(((DocValuesFieldExistsQuery) query).getField())) {
+            return field;
+        }
+        return null;
+    }
+
+    /**
+     * Counts the documents of every term of the segment from its term dictionary instead of collecting them. This is
+     * only possible when the segment has no deleted documents, since the doc freq of a term includes deleted documents,
+     * and when the term dictionary holds the same terms as the doc values.
+     *
+     * @return false if the documents of the segment must be collected
+     */
+    protected final boolean tryCountFromTermDictionary(LeafReaderContext ctx, SegmentOrdCountConsumer consumer) throws IOException {
+        if (termDictionaryField == null || ctx.reader().hasDeletions()) {
+            return false;
+        }
+        final Terms terms = ctx.reader().terms(termDictionaryField);
+        if (terms == null) {
+            return false;
+        }
+        final SortedSetDocValues segmentOrds = valuesSource.ordinalsValues(ctx);
+        if (terms.size() != segmentOrds.getValueCount()) {
+            // the terms aren't indexed exactly as they are stored in doc values
+            return false;
+        }
+        final TermsEnum termsEnum = terms.iterator();
+        long segmentOrd = 0;
+        for (BytesRef term = termsEnum.next(); term != null; term = termsEnum.next()) {
+            assert term.equals(segmentOrds.lookupOrd(segmentOrd));
+            consumer.accept(segmentOrd++, termsEnum.docFreq());
+        }
+        segmentsCountedFromTermDictionary++;
+        return true;
+    }
+
+    @FunctionalInterface
+    protected interface SegmentOrdCountConsumer {
+        void accept(long segmentOrd, int docCount);
     }
 
     String descriptCollectionStrategy() {
@@ -138,6 +222,19 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
     public LeafBucketCollector getLeafCollector(LeafReaderContext ctx, LeafBucketCollector sub) throws IOException {
         SortedSetDocValues globalOrds = valuesSource.globalOrdinalsValues(ctx);
         collectionStrategy.globalOrdsReady(globalOrds);
+        if (termDictionaryField != null) {
+            final LongUnaryOperator mapping = valuesSource.globalOrdinalsMapping(ctx);
+            final boolean counted = tryCountFromTermDictionary(ctx, (segmentOrd, docCount) -> {
+                final long globalOrd = mapping.applyAsLong(segmentOrd);
+                if (acceptedGlobalOrdinals.test(globalOrd)) {
+                    collectionStrategy.collectGlobalOrdCount(0, globalOrd, docCount);
+                }
+            });
+            if (counted) {
+                // the documents of this segment have been counted from the term dictionary, we don't need to collect them
+                throw new CollectionTerminatedException();
+            }
+        }
         SortedDocValues singleValues = DocValues.unwrapSingleton(globalOrds);
         if (singleValues != null) {
             segmentsWithSingleValuedOrds++;
@@ -223,6 +320,7 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
         add.accept("result_strategy", resultStrategy.describe());
         add.accept("segments_with_single_valued_ords", segmentsWithSingleValuedOrds);
         add.accept("segments_with_multi_valued_ords", segmentsWithMultiValuedOrds);
+        add.accept("segments_counted_from_term_dictionary", segmentsCountedFromTermDictionary);
         add.accept("has_filter", acceptedGlobalOrdinals != ALWAYS_TRUE);
     }
 
@@ -318,6 +416,10 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             assert sub == LeafBucketCollector.NO_OP_COLLECTOR;
             final SortedDocValues singleValues = DocValues.unwrapSingleton(segmentOrds);
             mapping = valuesSource.globalOrdinalsMapping(ctx);
+            if (tryCountFromTermDictionary(ctx, (segmentOrd, docCount) -> segmentDocCounts.increment(segmentOrd + 1, docCount))) {
+                // the documents of this segment have been counted from the term dictionary, we don't need to collect them
+                throw new CollectionTerminatedException();
+            }
             // Dense mode doesn't support include/exclude so we don't have to check it here.
             if (singleValues != null) {
                 segmentsWithSingleValuedOrds++;
@@ -410,6 +512,16 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
          * @param sub the sub-aggregators that that will collect the bucket data
          */
         abstract void collectGlobalOrd(long owningBucketOrd, int doc, long globalOrd, LeafBucketCollector sub) throws IOException;
+        /**
+         * Called once per global ordinal of a segment whose documents are
+         * counted without being collected, which is only possible when there
+         * are no sub-aggregators.
+         *
+         * @param owningBucketOrd the ordinal of the bucket that owns this collection
+         * @param globalOrd the global ordinal to count
+         * @param docCount the number of documents of the segment that contain the global ordinal
+         */
+        abstract void collectGlobalOrdCount(long owningBucketOrd, long globalOrd, int docCount);
         /**
          * Convert a global ordinal into a bucket ordinal.
          */
@@ -453,6 +565,12 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             collectExistingBucket(sub, doc, globalOrd);
         }
 
+        @Override
+        void collectGlobalOrdCount(long owningBucketOrd, long globalOrd, int docCount) {
+            assert owningBucketOrd == 0;
+            incrementBucketDocCount(globalOrd, docCount);
+        }
+
         @Override
         long globalOrdToBucketOrd(long owningBucketOrd, long globalOrd) {
             assert owningBucketOrd == 0;
@@ -514,6 +632,15 @@ public class GlobalOrdinalsStringTermsAggregator extends AbstractStringTermsAggr
             }
         }
 
+        @Override
+        void collectGlobalOrdCount(long owningBucketOrd, long globalOrd, int docCount) {
+            long bucketOrd = bucketOrds.add(owningBucketOrd, globalOrd);
+            if (bucketOrd < 0) {
+                bucketOrd = -1 - bucketOrd;
+            }
+            incrementBucketDocCount(bucketOrd, docCount);
+        }
+
         @Override
         long globalOrdToBucketOrd(long owningBucketOrd, long globalOrd) {
             return bucketOrds.find(owningBucketOrd, globalOrd);
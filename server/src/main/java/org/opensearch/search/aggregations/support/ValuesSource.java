@@ -41,6 +41,7 @@ import org.apache.lucene.index.SortedSetDocValues;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Scorable;
 import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.Rounding;
 import org.opensearch.common.Rounding.Prepared;
 import org.opensearch.common.lucene.ScorerAware;
@@ -195,6 +196,15 @@ public abstract class ValuesSource {
             public abstract LongUnaryOperator globalOrdinalsMapping(LeafReaderContext context)
                     throws IOException;
 
+            /**
+             * Returns the name of the field whose indexed terms are the values of this values source, or {@code null}
+             * if the values are not read straight from a field, for instance because of a script or a missing value.
+             */
+            @Nullable
+            public String indexedFieldName() {
+                return null;
+            }
+
             public long globalMaxOrd(IndexSearcher indexSearcher) throws IOException {
                 IndexReader indexReader = indexSearcher.getIndexReader();
                 if (indexReader.leaves().isEmpty()) {
@@ -238,6 +248,11 @@ public abstract class ValuesSource {
                     return indexFieldData.supportsGlobalOrdinalsMapping();
                 }
 
+                @Override
+                public String indexedFieldName() {
+                    return indexFieldData.getFieldName();
+                }
+
                 @Override
                 public LongUnaryOperator globalOrdinalsMapping(LeafReaderContext context) throws IOException {
                     final IndexOrdinalsFieldData global = indexFieldData.loadGlobal((DirectoryReader)context.parent.reader());
@@ -0,0 +1,207 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.search.backpressure;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.component.AbstractLifecycleComponent;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.monitor.process.ProcessProbe;
+import org.opensearch.tasks.CancellableTask;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.tasks.TaskResourceUsage;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Runs periodically and, when the heap usage or the CPU usage of the node goes above the configured thresholds, cancels the
+ * search shard tasks that allocated the most bytes, respectively used the most CPU time, so far. The heap usage is the one
+ * measured after the last garbage collection of each heap pool, so that garbage that is about to be collected does not
+ * cause cancellations.
+ */
+public class SearchBackpressureService extends AbstractLifecycleComponent {
+
+    private static final Logger logger = LogManager.getLogger(SearchBackpressureService.class);
+
+    public static final Setting<Boolean> ENABLED_SETTING =
+        Setting.boolSetting("search.backpressure.enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    public static final Setting<TimeValue> INTERVAL_SETTING =
+        Setting.timeSetting("search.backpressure.interval", TimeValue.timeValueSeconds(1), TimeValue.timeValueMillis(1),
+            Setting.Property.NodeScope);
+    public static final Setting<ByteSizeValue> HEAP_THRESHOLD_SETTING =
+        Setting.memorySizeSetting("search.backpressure.heap_threshold", "90%", Setting.Property.NodeScope, Setting.Property.Dynamic);
+    public static final Setting<Integer> CPU_THRESHOLD_SETTING =
+        Setting.intSetting("search.backpressure.cpu_threshold", 90, 0, 100, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    public static final Setting<Integer> MAX_CANCELLATIONS_SETTING =
+        Setting.intSetting("search.backpressure.max_cancellations_per_interval", 1, 1, Setting.Property.NodeScope,
+            Setting.Property.Dynamic);
+
+    private final ThreadPool threadPool;
+    private final TaskManager taskManager;
+    private final TimeValue interval;
+    private final LongSupplier heapUsedSupplier;
+    private final IntSupplier cpuPercentSupplier;
+    private final AtomicLong heapCancellations = new AtomicLong();
+    private final AtomicLong cpuCancellations = new AtomicLong();
+    private volatile boolean enabled;
+    private volatile ByteSizeValue heapThreshold;
+    private volatile int cpuThreshold;
+    private volatile int maxCancellations;
+    private volatile Scheduler.Cancellable scheduledFuture;
+
+    public SearchBackpressureService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, TaskManager taskManager) {
+        this(settings, clusterSettings, threadPool, taskManager,
+            SearchBackpressureService::heapUsedAfterLastGc,
+            () -> ProcessProbe.getInstance().getProcessCpuPercent());
+    }
+
+    SearchBackpressureService(Settings settings, ClusterSettings clusterSettings, ThreadPool threadPool, TaskManager taskManager,
+                              LongSupplier heapUsedSupplier, IntSupplier cpuPercentSupplier) {
+        this.threadPool = threadPool;
+        this.taskManager = taskManager;
+        this.heapUsedSupplier = heapUsedSupplier;
+        this.cpuPercentSupplier = cpuPercentSupplier;
+        this.interval = INTERVAL_SETTING.get(settings);
+        this.enabled = ENABLED_SETTING.get(settings);
+        this.heapThreshold = HEAP_THRESHOLD_SETTING.get(settings);
+        this.cpuThreshold = CPU_THRESHOLD_SETTING.get(settings);
+        this.maxCancellations = MAX_CANCELLATIONS_SETTING.get(settings);
+        clusterSettings.addSettingsUpdateConsumer(ENABLED_SETTING, this::setEnabled);
+        clusterSettings.addSettingsUpdateConsumer(HEAP_THRESHOLD_SETTING, this::setHeapThreshold);
+        clusterSettings.addSettingsUpdateConsumer(CPU_THRESHOLD_SETTING, this::setCpuThreshold);
+        clusterSettings.addSettingsUpdateConsumer(MAX_CANCELLATIONS_SETTING, this::setMaxCancellations);
+    }
+
+    @Override
+    protected void doStart() {
+        scheduledFuture = threadPool.scheduleWithFixedDelay(() -> {
+            try {
+                doRun();
+            } catch (Exception e) {
+                logger.debug("failed to check search backpressure", e);
+            }
+        }, interval, ThreadPool.Names.GENERIC);
+    }
+
+    @Override
+    protected void doStop() {
+        scheduledFuture.cancel();
+    }
+
+    @Override
+    protected void doClose() {
+    }
+
+    private void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private void setHeapThreshold(ByteSizeValue heapThreshold) {
+        this.heapThreshold = heapThreshold;
+    }
+
+    private void setCpuThreshold(int cpuThreshold) {
+        this.cpuThreshold = cpuThreshold;
+    }
+
+    private void setMaxCancellations(int maxCancellations) {
+        this.maxCancellations = maxCancellations;
+    }
+
+    /**
+     * Checks the heap and the CPU usage of the node and cancels the most expensive search shard tasks if one of them is
+     * above its threshold.
+     */
+    void doRun() {
+        if (enabled == false) {
+            return;
+        }
+        final long heapUsed = heapUsedSupplier.getAsLong();
+        if (heapUsed >= heapThreshold.getBytes()) {
+            final int cancelled = cancelMostExpensive(TaskResourceUsage::getAllocatedBytes,
+                "heap usage [" + new ByteSizeValue(heapUsed) + "] exceeded [" + heapThreshold + "]");
+            heapCancellations.addAndGet(cancelled);
+            return;
+        }
+        final int cpuPercent = cpuPercentSupplier.getAsInt();
+        if (cpuPercent >= cpuThreshold) {
+            final int cancelled = cancelMostExpensive(TaskResourceUsage::getCpuTimeNanos,
+                "cpu usage [" + cpuPercent + "%] exceeded [" + cpuThreshold + "%]");
+            cpuCancellations.addAndGet(cancelled);
+        }
+    }
+
+    /**
+     * Returns the heap used after the last collection of every heap pool, or the current usage of the pools that don't report it.
+     */
+    static long heapUsedAfterLastGc() {
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                final MemoryUsage usage = pool.getCollectionUsage() != null ? pool.getCollectionUsage() : pool.getUsage();
+                used += usage.getUsed();
+            }
+        }
+        return used;
+    }
+
+    private int cancelMostExpensive(ToLongFunction<TaskResourceUsage> cost, String reason) {
+        // the usage of running tasks keeps changing, so it is read once per task before sorting
+        final List<Tuple<SearchShardTask, Long>> candidates = new ArrayList<>();
+        for (CancellableTask task : taskManager.getCancellableTasks().values()) {
+            if (task instanceof SearchShardTask && task.isCancelled() == false) {
+                final long taskCost = cost.applyAsLong(((SearchShardTask) task).resourceUsage());
+                if (taskCost > 0) {
+                    candidates.add(new Tuple<>((SearchShardTask) task, taskCost));
+                }
+            }
+        }
+        candidates.sort(Comparator.comparingLong((Tuple<SearchShardTask, Long> candidate) -> candidate.v2()).reversed());
+        final int count = Math.min(maxCancellations, candidates.size());
+        for (int i = 0; i < count; i++) {
+            final SearchShardTask task = candidates.get(i).v1();
+            logger.debug("cancelling search task [{}] because {}", task.getId(), reason);
+            taskManager.cancel(task, "search backpressure: " + reason, () -> {});
+        }
+        return count;
+    }
+
+    /**
+     * The number of search tasks that were cancelled because the heap usage was above the threshold.
+     */
+    public long getHeapCancellations() {
+        return heapCancellations.get();
+    }
+
+    /**
+     * The number of search tasks that were cancelled because the CPU usage was above the threshold.
+     */
+    public long getCpuCancellations() {
+        return cpuCancellations.get();
+    }
+}
@@ -62,6 +62,9 @@ import org.apache.lucene.util.BitSetIterator;
 import org.apache.lucene.util.Bits;
 import org.apache.lucene.util.CombinedBitSet;
 import org.apache.lucene.util.SparseFixedBitSet;
+import org.apache.lucene.util.ThreadInterruptedException;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
 import org.opensearch.search.DocValueFormat;
@@ -76,10 +79,16 @@ import org.opensearch.search.query.QuerySearchResult;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Context-aware extension of {@link IndexSearcher}.
@@ -94,22 +103,45 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
     private AggregatedDfs aggregatedDfs;
     private QueryProfiler profiler;
     private MutableQueryTimeout cancellable;
+    @Nullable
+    private final Executor executor;
+    private final int maxSliceCount;
+    private List<List<LeafReaderContext>> concurrentSlices;
 
     public ContextIndexSearcher(IndexReader reader, Similarity similarity,
                                 QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
                                 boolean wrapWithExitableDirectoryReader) throws IOException {
-        this(reader, similarity, queryCache, queryCachingPolicy, new MutableQueryTimeout(), wrapWithExitableDirectoryReader);
+        this(reader, similarity, queryCache, queryCachingPolicy, wrapWithExitableDirectoryReader, null, 1);
+    }
+
+    /**
+     * Creates a searcher that may search its leaves concurrently. When <code>executor</code> is not null the leaves are
+     * grouped into at most <code>maxSliceCount</code> slices of roughly equal size and searches that go through
+     * {@link #search(Query, CollectorManager)} collect each slice on the executor with its own collector.
+     */
+    public ContextIndexSearcher(IndexReader reader, Similarity similarity,
+                                QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
+                                boolean wrapWithExitableDirectoryReader,
+                                @Nullable Executor executor, int maxSliceCount) throws IOException {
+        this(reader, similarity, queryCache, queryCachingPolicy, new MutableQueryTimeout(), wrapWithExitableDirectoryReader,
+            executor, maxSliceCount);
     }
 
     private ContextIndexSearcher(IndexReader reader, Similarity similarity,
                                  QueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
                                  MutableQueryTimeout cancellable,
-                                 boolean wrapWithExitableDirectoryReader) throws IOException {
+                                 boolean wrapWithExitableDirectoryReader,
+                                 @Nullable Executor executor, int maxSliceCount) throws IOException {
         super(wrapWithExitableDirectoryReader ? new ExitableDirectoryReader((DirectoryReader) reader, cancellable) : reader);
+        if (maxSliceCount < 1) {
+            throw new IllegalArgumentException("maxSliceCount must be at least 1, got [" + maxSliceCount + "]");
+        }
         setSimilarity(similarity);
         setQueryCache(queryCache);
         setQueryCachingPolicy(queryCachingPolicy);
         this.cancellable = cancellable;
+        this.executor = executor;
+        this.maxSliceCount = maxSliceCount;
     }
 
     public void setProfiler(QueryProfiler profiler) {
@@ -186,6 +218,124 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
         }
     }
 
+    /**
+     * Returns true if searches executed through {@link #search(Query, CollectorManager)} will collect the leaves of this
+     * searcher concurrently. This requires an executor, more than one slice and no profiling since the profilers are
+     * not thread-safe.
+     */
+    public boolean allowConcurrentSegmentSearch() {
+        return executor != null && profiler == null && concurrentSlices().size() > 1;
+    }
+
+    /**
+     * Returns the groups of leaves that are searched concurrently, each group being collected by its own collector.
+     */
+    public List<List<LeafReaderContext>> concurrentSlices() {
+        if (concurrentSlices == null) {
+            concurrentSlices = slices(getIndexReader().leaves(), executor == null ? 1 : maxSliceCount);
+        }
+        return concurrentSlices;
+    }
+
+    /**
+     * Groups the provided leaves into at most <code>maxSliceCount</code> slices. The biggest leaves are assigned first,
+     * each one to the slice that has the least documents so far, so that slices end up with a similar amount of work.
+     * Leaves keep their index order within a slice.
+     */
+    static List<List<LeafReaderContext>> slices(List<LeafReaderContext> leaves, int maxSliceCount) {
+        final int sliceCount = Math.min(maxSliceCount, leaves.size());
+        if (sliceCount <= 1) {
+            return Collections.singletonList(leaves);
+        }
+        final List<LeafReaderContext> sortedLeaves = new ArrayList<>(leaves);
+        sortedLeaves.sort(Comparator.comparingInt((LeafReaderContext leaf) -> leaf.reader().maxDoc()).reversed());
+        final List<List<LeafReaderContext>> slices = new ArrayList<>(sliceCount);
+        final long[] docCounts = new long[sliceCount];
+        for (int i = 0; i < sliceCount; i++) {
+            slices.add(new ArrayList<>());
+        }
+        for (LeafReaderContext leaf : sortedLeaves) {
+            int target = 0;
+            for (int i = 1; i < sliceCount; i++) {
+                if (docCounts[i] < docCounts[target]) {
+                    target = i;
+                }
+            }
+            slices.get(target).add(leaf);
+            docCounts[target] += leaf.reader().maxDoc();
+        }
+        for (List<LeafReaderContext> slice : slices) {
+            slice.sort(Comparator.comparingInt(leaf -> leaf.ord));
+        }
+        return Collections.unmodifiableList(slices);
+    }
+
+    /**
+     * Searches the provided query with one collector per slice and reduces them with the provided manager. Slices are
+     * collected on the executor when {@link #allowConcurrentSegmentSearch()} returns true, sequentially on the calling
+     * thread otherwise. Failures are only rethrown once all slices are done, so that the collectors are never accessed
+     * concurrently with the caller.
+     */
+    @Override
+    public <C extends Collector, T> T search(Query query, CollectorManager<C, T> collectorManager) throws IOException {
+        if (allowConcurrentSegmentSearch() == false) {
+            return super.search(query, collectorManager);
+        }
+        final List<List<LeafReaderContext>> slices = concurrentSlices();
+        final List<C> collectors = new ArrayList<>(slices.size());
+        ScoreMode scoreMode = null;
+        for (int i = 0; i < slices.size(); i++) {
+            final C collector = collectorManager.newCollector();
+            collectors.add(collector);
+            if (scoreMode == null) {
+                scoreMode = collector.scoreMode();
+            } else if (scoreMode != collector.scoreMode()) {
+                throw new IllegalStateException("CollectorManager does not always produce collectors with the same score mode");
+            }
+        }
+        final Weight weight = createWeight(rewrite(query), scoreMode, 1f);
+        final List<FutureTask<C>> tasks = new ArrayList<>(slices.size());
+        for (int i = 0; i < slices.size(); i++) {
+            final List<LeafReaderContext> leaves = slices.get(i);
+            final C collector = collectors.get(i);
+            tasks.add(new FutureTask<>(() -> {
+                search(leaves, weight, collector);
+                return collector;
+            }));
+        }
+        // the last slice is searched on the calling thread, which would otherwise be idle
+        for (int i = 0; i < tasks.size() - 1; i++) {
+            try {
+                executor.execute(tasks.get(i));
+            } catch (RejectedExecutionException e) {
+                tasks.get(i).run();
+            }
+        }
+        tasks.get(tasks.size() - 1).run();
+        Throwable failure = null;
+        for (FutureTask<C> task : tasks) {
+            try {
+                task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ThreadInterruptedException(e);
+            } catch (ExecutionException e) {
+                failure = ExceptionsHelper.useOrSuppress(failure, e.getCause());
+            }
+        }
+        if (failure != null) {
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            } else if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            } else if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            throw new RuntimeException(failure);
+        }
+        return collectorManager.reduce(collectors);
+    }
+
     public void search(List<LeafReaderContext> leaves, Weight weight, CollectorManager manager,
             QuerySearchResult result, DocValueFormat[] formats, TotalHits totalHits) throws IOException {
         final List<Collector> collectors = new ArrayList<>(leaves.size());
@@ -218,4 +218,11 @@ public class ReaderContext implements Releasable {
     public long getStartTimeInNano() {
         return startTimeInNano;
     }
+
+    /**
+     * Returns the keep alive of this reader in milliseconds
+     */
+    public long getKeepAlive() {
+        return keepAlive.get();
+    }
 }
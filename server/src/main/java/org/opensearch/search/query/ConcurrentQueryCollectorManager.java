@@ -0,0 +1,172 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.aggregations.AggregationPhase;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.search.internal.SearchContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.opensearch.search.query.QueryCollectorContext.createFilteredCollectorContext;
+import static org.opensearch.search.query.QueryCollectorContext.createMinScoreCollectorContext;
+import static org.opensearch.search.query.QueryCollectorContext.createMultiCollectorContext;
+import static org.opensearch.search.query.TopDocsCollectorContext.createTopDocsCollectorContext;
+import static org.opensearch.search.query.TopDocsCollectorContext.shortcutTotalHitCount;
+
+/**
+ * A {@link CollectorManager} that builds a query collector chain per slice of a concurrent segment search.
+ * Each slice gets its own top docs collector and its own aggregators, the former are merged in
+ * {@link #postProcess(QuerySearchResult)} and the latter by the {@link AggregationPhase}.
+ */
+final class ConcurrentQueryCollectorManager implements CollectorManager<Collector, Void> {
+    private final SearchContext searchContext;
+    private final ContextIndexSearcher searcher;
+    private final int shortcutTotalHitCount;
+    private final int sliceTrackTotalHitsUpTo;
+    private final List<TopDocsCollectorContext> topDocsContexts = new ArrayList<>();
+
+    ConcurrentQueryCollectorManager(SearchContext searchContext, Query query, boolean hasFilterCollector) throws IOException {
+        this.searchContext = searchContext;
+        this.searcher = searchContext.searcher();
+        // the total hit count shortcut is computed on the whole reader, so it is applied once after the merge
+        // rather than by each slice
+        if (hasFilterCollector || searchContext.trackTotalHitsUpTo() == SearchContext.TRACK_TOTAL_HITS_DISABLED) {
+            this.shortcutTotalHitCount = -1;
+        } else {
+            this.shortcutTotalHitCount = shortcutTotalHitCount(searcher.getIndexReader(), query);
+        }
+        this.sliceTrackTotalHitsUpTo = shortcutTotalHitCount == -1
+            ? searchContext.trackTotalHitsUpTo() : SearchContext.TRACK_TOTAL_HITS_DISABLED;
+    }
+
+    /**
+     * Returns true if the provided context can be searched with one collector chain per slice.
+     */
+    static boolean canSearchConcurrently(SearchContext searchContext) {
+        return searchContext.scrollContext() == null
+            && searchContext.collapse() == null
+            && searchContext.getProfilers() == null
+            && searchContext.terminateAfter() == SearchContext.DEFAULT_TERMINATE_AFTER
+            && searchContext.queryCollectors().keySet().stream().allMatch(key -> key == AggregationPhase.class);
+    }
+
+    @Override
+    public Collector newCollector() throws IOException {
+        final boolean firstSlice = topDocsContexts.isEmpty();
+        final LinkedList<QueryCollectorContext> collectors = new LinkedList<>();
+        // filters are applied per slice so the top docs collectors can never use the total hit count shortcut
+        final TopDocsCollectorContext topDocsContext = createTopDocsCollectorContext(searchContext, true, sliceTrackTotalHitsUpTo);
+        topDocsContexts.add(topDocsContext);
+        collectors.add(topDocsContext);
+        if (searchContext.parsedPostFilter() != null) {
+            collectors.add(createFilteredCollectorContext(searcher, searchContext.parsedPostFilter().query()));
+        }
+        // the first slice feeds the main aggregators that were created when the aggregation phase was pre-processed
+        final Collector aggregationCollector = firstSlice
+            ? searchContext.queryCollectors().get(AggregationPhase.class)
+            : AggregationPhase.createSliceCollector(searchContext);
+        if (aggregationCollector != null) {
+            collectors.add(createMultiCollectorContext(Collections.singletonList(aggregationCollector)));
+        }
+        if (searchContext.minimumScore() != null) {
+            collectors.add(createMinScoreCollectorContext(searchContext.minimumScore()));
+        }
+        return QueryCollectorContext.createQueryCollector(collectors);
+    }
+
+    @Override
+    public Void reduce(Collection<Collector> collectors) {
+        // slices are merged in postProcess so that partial results can also be merged when the search timed out
+        return null;
+    }
+
+    /**
+     * Returns true if the merged top docs should be re-scored
+     */
+    boolean shouldRescore() {
+        return topDocsContexts.isEmpty() == false && topDocsContexts.get(0).shouldRescore();
+    }
+
+    /**
+     * Merges the top docs of all slices and populates <code>result</code>.
+     */
+    void postProcess(QuerySearchResult result) throws IOException {
+        final List<TopDocsAndMaxScore> slices = new ArrayList<>(topDocsContexts.size());
+        for (TopDocsCollectorContext topDocsContext : topDocsContexts) {
+            slices.add(topDocsContext.topDocs());
+        }
+        final TopDocsAndMaxScore topDocs = merge(slices, topDocsContexts.get(0).numHits());
+        final DocValueFormat[] formats = searchContext.size() == 0 || searchContext.sort() == null
+            ? null : searchContext.sort().formats;
+        result.topDocs(topDocs, formats);
+    }
+
+    private TopDocsAndMaxScore merge(List<TopDocsAndMaxScore> slices, int numHits) {
+        long totalHitCount = 0;
+        TotalHits.Relation relation = TotalHits.Relation.EQUAL_TO;
+        float maxScore = Float.NaN;
+        for (TopDocsAndMaxScore slice : slices) {
+            totalHitCount += slice.topDocs.totalHits.value;
+            if (slice.topDocs.totalHits.relation == TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO) {
+                relation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
+            }
+            if (Float.isNaN(slice.maxScore) == false) {
+                maxScore = Float.isNaN(maxScore) ? slice.maxScore : Math.max(maxScore, slice.maxScore);
+            }
+        }
+        // slices count accurately up to the threshold on their own, report a sum above it as a lower bound like a sequential search.
+        // Lucene never counts fewer hits accurately than it collects
+        if (sliceTrackTotalHitsUpTo != SearchContext.TRACK_TOTAL_HITS_ACCURATE
+                && totalHitCount > Math.max(sliceTrackTotalHitsUpTo, numHits)) {
+            relation = TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO;
+        }
+        final TotalHits totalHits = shortcutTotalHitCount == -1
+            ? new TotalHits(totalHitCount, relation)
+            : new TotalHits(shortcutTotalHitCount, TotalHits.Relation.EQUAL_TO);
+
+        final Sort sort = searchContext.sort() == null ? null : searchContext.sort().sort;
+        final TopDocs merged;
+        if (sort != null) {
+            final TopFieldDocs[] fieldDocs = new TopFieldDocs[slices.size()];
+            for (int i = 0; i < fieldDocs.length; i++) {
+                fieldDocs[i] = (TopFieldDocs) slices.get(i).topDocs;
+            }
+            final TopFieldDocs mergedFieldDocs = TopDocs.merge(sort, 0, numHits, fieldDocs, true);
+            merged = new TopFieldDocs(totalHits, mergedFieldDocs.scoreDocs, mergedFieldDocs.fields);
+        } else {
+            final TopDocs[] topDocs = new TopDocs[slices.size()];
+            for (int i = 0; i < topDocs.length; i++) {
+                topDocs[i] = slices.get(i).topDocs;
+            }
+            merged = new TopDocs(totalHits, TopDocs.merge(0, numHits, topDocs, true).scoreDocs);
+        }
+        // Lucene sets shards indexes during merging of topDocs from different collectors
+        // We need to reset shard index; OpenSearch will set shard index later during reduce stage
+        for (ScoreDoc scoreDoc : merged.scoreDocs) {
+            scoreDoc.shardIndex = -1;
+        }
+        return new TopDocsAndMaxScore(merged, maxScore);
+    }
+}
@@ -305,6 +305,9 @@ public class QueryPhase {
                 // if we are optimizing sort and there are no other collectors
                 if (sortAndFormatsForRewrittenNumericSort!=null && collectors.size()==0 && searchContext.getProfilers()==null) {
                     shouldRescore = searchWithCollectorManager(searchContext, searcher, query, leafSorter, timeoutSet);
+                } else if (searcher.allowConcurrentSegmentSearch()
+                        && ConcurrentQueryCollectorManager.canSearchConcurrently(searchContext)) {
+                    shouldRescore = searchConcurrently(searchContext, searcher, query, hasFilterCollector, timeoutSet);
                 } else {
                     shouldRescore = searchWithCollector(searchContext, searcher, query, collectors, hasFilterCollector, timeoutSet);
                 }
@@ -371,6 +374,28 @@ public class QueryPhase {
         return topDocsFactory.shouldRescore();
     }
 
+    /*
+     * Searches the slices of the shard concurrently, each one with its own collector chain,
+     * and merges the per-slice top docs once all slices are done.
+     */
+    private static boolean searchConcurrently(SearchContext searchContext, ContextIndexSearcher searcher, Query query,
+            boolean hasFilterCollector, boolean timeoutSet) throws IOException {
+        final ConcurrentQueryCollectorManager collectorManager = new ConcurrentQueryCollectorManager(searchContext, query,
+            hasFilterCollector);
+        QuerySearchResult queryResult = searchContext.queryResult();
+        try {
+            searcher.search(query, collectorManager);
+        } catch (TimeExceededException e) {
+            assert timeoutSet : "TimeExceededException thrown even though timeout wasn't set";
+            if (searchContext.request().allowPartialSearchResults() == false) {
+                // Can't rethrow TimeExceededException because not serializable
+                throw new QueryPhaseExecutionException(searchContext.shardTarget(), "Time exceeded");
+            }
+            queryResult.searchTimedOut(true);
+        }
+        collectorManager.postProcess(queryResult);
+        return collectorManager.shouldRescore();
+    }
 
     /*
      * We use collectorManager during sort optimization, where
@@ -111,6 +111,14 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
         return false;
     }
 
+    /**
+     * Returns the top docs collected by this context without populating the query result,
+     * so that the results of the slices of a concurrent segment search can be merged.
+     */
+    TopDocsAndMaxScore topDocs() throws IOException {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot be merged with other slices");
+    }
+
     static class EmptyTopDocsCollectorContext extends TopDocsCollectorContext {
         private final Sort sort;
         private final Collector collector;
@@ -163,7 +171,7 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
         }
 
         @Override
-        void postProcess(QuerySearchResult result) {
+        TopDocsAndMaxScore topDocs() {
             final TotalHits totalHitCount = hitCountSupplier.get();
             final TopDocs topDocs;
             if (sort != null) {
@@ -171,7 +179,12 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
             } else {
                 topDocs = new TopDocs(totalHitCount, Lucene.EMPTY_SCORE_DOCS);
             }
-            result.topDocs(new TopDocsAndMaxScore(topDocs, Float.NaN), null);
+            return new TopDocsAndMaxScore(topDocs, Float.NaN);
+        }
+
+        @Override
+        void postProcess(QuerySearchResult result) {
+            result.topDocs(topDocs(), null);
         }
     }
 
@@ -327,6 +340,11 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
             return new TopDocsAndMaxScore(newTopDocs, maxScore);
         }
 
+        @Override
+        TopDocsAndMaxScore topDocs() {
+            return newTopDocs();
+        }
+
         @Override
         void postProcess(QuerySearchResult result) throws IOException {
             final TopDocsAndMaxScore topDocs = newTopDocs();
@@ -439,6 +457,17 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
      */
     static TopDocsCollectorContext createTopDocsCollectorContext(SearchContext searchContext,
                                                                  boolean hasFilterCollector) throws IOException {
+        return createTopDocsCollectorContext(searchContext, hasFilterCollector, searchContext.trackTotalHitsUpTo());
+    }
+
+    /**
+     * Creates a {@link TopDocsCollectorContext} from the provided <code>searchContext</code> that tracks
+     * the total number of hits up to <code>trackTotalHitsUpTo</code> rather than the value of the request.
+     * @param hasFilterCollector True if the collector chain contains at least one collector that can filters document.
+     */
+    static TopDocsCollectorContext createTopDocsCollectorContext(SearchContext searchContext,
+                                                                 boolean hasFilterCollector,
+                                                                 int trackTotalHitsUpTo) throws IOException {
         final IndexReader reader = searchContext.searcher().getIndexReader();
         final Query query = searchContext.query();
         // top collectors don't like a size of 0
@@ -446,17 +475,17 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
         if (searchContext.size() == 0) {
             // no matter what the value of from is
             return new EmptyTopDocsCollectorContext(reader, query, searchContext.sort(),
-                searchContext.trackTotalHitsUpTo(), hasFilterCollector);
+                trackTotalHitsUpTo, hasFilterCollector);
         } else if (searchContext.scrollContext() != null) {
             // we can disable the tracking of total hits after the initial scroll query
             // since the total hits is preserved in the scroll context.
-            int trackTotalHitsUpTo = searchContext.scrollContext().totalHits != null ?
+            int scrollTrackTotalHitsUpTo = searchContext.scrollContext().totalHits != null ?
                 SearchContext.TRACK_TOTAL_HITS_DISABLED : SearchContext.TRACK_TOTAL_HITS_ACCURATE;
             // no matter what the value of from is
             int numDocs = Math.min(searchContext.size(), totalNumDocs);
             return new ScrollingTopDocsCollectorContext(reader, query, searchContext.scrollContext(),
                 searchContext.sort(), numDocs, searchContext.trackScores(), searchContext.numberOfShards(),
-                trackTotalHitsUpTo, hasFilterCollector);
+                scrollTrackTotalHitsUpTo, hasFilterCollector);
         } else if (searchContext.collapse() != null) {
             boolean trackScores = searchContext.sort() == null ? true : searchContext.trackScores();
             int numDocs = Math.min(searchContext.from() + searchContext.size(), totalNumDocs);
@@ -471,7 +500,7 @@ abstract class TopDocsCollectorContext extends QueryCollectorContext {
                 }
             }
             return new SimpleTopDocsCollectorContext(reader, query, searchContext.sort(), searchContext.searchAfter(), numDocs,
-                searchContext.trackScores(), searchContext.trackTotalHitsUpTo(), hasFilterCollector) {
+                searchContext.trackScores(), trackTotalHitsUpTo, hasFilterCollector) {
                 @Override
                 boolean shouldRescore() {
                     return rescore;
@@ -86,6 +86,7 @@ import org.opensearch.index.Index;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.remote.RemoteSnapshotDirectoryFactory;
 import org.opensearch.indices.ShardLimitValidator;
 import org.opensearch.repositories.IndexId;
 import org.opensearch.repositories.RepositoriesService;
@@ -324,6 +325,10 @@ public class RestoreService implements ClusterStateApplier {
                                 IndexMetadata snapshotIndexMetadata = metadata.index(index);
                                 snapshotIndexMetadata = updateIndexSettings(snapshotIndexMetadata,
                                     request.indexSettings(), request.ignoreIndexSettings());
+                                final boolean remoteSnapshot = IndexSettings.isRemoteSnapshot(snapshotIndexMetadata.getSettings());
+                                if (remoteSnapshot) {
+                                    snapshotIndexMetadata = addRemoteSnapshotSettings(snapshotIndexMetadata, recoverySource.index());
+                                }
                                 try {
                                     snapshotIndexMetadata = metadataIndexUpgradeService.upgradeIndexMetadata(snapshotIndexMetadata,
                                         minIndexCompatibilityVersion);
@@ -366,6 +371,11 @@ public class RestoreService implements ClusterStateApplier {
                                     mdBuilder.put(updatedIndexMetadata, true);
                                     renamedIndex = updatedIndexMetadata.getIndex();
                                 } else {
+                                    if (remoteSnapshot) {
+                                        throw new SnapshotRestoreException(snapshot, "cannot restore index [" + renamedIndexName
+                                            + "] with the [" + RemoteSnapshotDirectoryFactory.STORE_TYPE
+                                            + "] store type because an index with the same name already exists in the cluster");
+                                    }
                                     validateExistingIndex(currentIndexMetadata, snapshotIndexMetadata, renamedIndexName, partial);
                                     // Index exists and it's closed - open it in metadata and start recovery
                                     IndexMetadata.Builder indexMdBuilder =
@@ -605,6 +615,24 @@ public class RestoreService implements ClusterStateApplier {
                         return builder.settings(settingsBuilder).build();
                     }
 
+                    /**
+                     * Points an index that is restored with the remote snapshot store type at the snapshot it reads its files
+                     * from. Such indices are read-only and have no replicas since a replica would copy its files from the primary.
+                     */
+                    private IndexMetadata addRemoteSnapshotSettings(IndexMetadata indexMetadata, IndexId indexId) {
+                        final Settings settings = Settings.builder()
+                            .put(indexMetadata.getSettings())
+                            .put(IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY.getKey(), snapshot.getRepository())
+                            .put(IndexSettings.SEARCHABLE_SNAPSHOT_ID_NAME.getKey(), snapshot.getSnapshotId().getName())
+                            .put(IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID.getKey(), snapshot.getSnapshotId().getUUID())
+                            .put(IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_ID.getKey(), indexId.getId())
+                            .put(IndexMetadata.SETTING_BLOCKS_WRITE, true)
+                            .put(SETTING_NUMBER_OF_REPLICAS, 0)
+                            .put(SETTING_AUTO_EXPAND_REPLICAS, false)
+                            .build();
+                        return IndexMetadata.builder(indexMetadata).settings(settings).build();
+                    }
+
                     @Override
                     public void onFailure(String source, Exception e) {
                         logger.warn(() -> new ParameterizedMessage("[{}] failed to restore snapshot", snapshotId), e);
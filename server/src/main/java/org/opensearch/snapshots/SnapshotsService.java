@@ -92,6 +92,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.index.Index;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.shard.ShardId;
 import org.opensearch.repositories.IndexId;
 import org.opensearch.repositories.RepositoriesService;
@@ -2094,6 +2095,20 @@ public class SnapshotsService extends AbstractLifecycleComponent implements Clus
                                 "cannot delete snapshot during a restore in progress in [" + restoreInProgress + "]");
                     }
                 }
+                // don't allow deleting a snapshot that a remote snapshot index still reads its files from
+                for (IndexMetadata indexMetadata : currentState.metadata()) {
+                    final Settings indexSettings = indexMetadata.getSettings();
+                    if (IndexSettings.isRemoteSnapshot(indexSettings)
+                        && repoName.equals(IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY.get(indexSettings))) {
+                        final String mountedSnapshotUUID = IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID.get(indexSettings);
+                        for (SnapshotId snapshotId : snapshotIds) {
+                            if (snapshotId.getUUID().equals(mountedSnapshotUUID)) {
+                                throw new IllegalArgumentException("cannot delete snapshot [" + repoName + ":" + snapshotId.getName()
+                                    + "] because it is mounted by index " + indexMetadata.getIndex() + ", delete the index first");
+                            }
+                        }
+                    }
+                }
                 final SnapshotsInProgress snapshots = currentState.custom(SnapshotsInProgress.TYPE, SnapshotsInProgress.EMPTY);
                 final Set<SnapshotId> activeCloneSources = snapshots.entries()
                     .stream()
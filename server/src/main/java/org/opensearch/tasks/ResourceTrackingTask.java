@@ -0,0 +1,21 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.tasks;
+
+/**
+ * A task whose CPU time and heap allocations are tracked.
+ */
+public interface ResourceTrackingTask {
+
+    /**
+     * The resource usage of this task on the local node.
+     */
+    TaskResourceUsage resourceUsage();
+}
@@ -149,6 +149,9 @@ public class TaskManager implements ClusterStateApplier {
         if (logger.isTraceEnabled()) {
             logger.trace("register {} [{}] [{}] [{}]", task.getId(), type, action, task.getDescription());
         }
+        if (task instanceof ResourceTrackingTask) {
+            linkResourceUsageToParent((ResourceTrackingTask) task);
+        }
 
         if (task instanceof CancellableTask) {
             registerCancellableTask(task);
@@ -159,6 +162,19 @@ public class TaskManager implements ClusterStateApplier {
         return task;
     }
 
+    /**
+     * Rolls up the resource usage of the task to its parent task if the parent runs on this node and tracks its usage too.
+     */
+    private void linkResourceUsageToParent(ResourceTrackingTask task) {
+        TaskId parentTaskId = ((Task) task).getParentTaskId();
+        if (parentTaskId.isSet() && parentTaskId.getNodeId().equals(lastDiscoveryNodes.getLocalNodeId())) {
+            Task parent = getTask(parentTaskId.getId());
+            if (parent instanceof ResourceTrackingTask) {
+                task.resourceUsage().setParent(((ResourceTrackingTask) parent).resourceUsage());
+            }
+        }
+    }
+
     private void registerCancellableTask(Task task) {
         CancellableTask cancellableTask = (CancellableTask) task;
         CancellableTaskHolder holder = new CancellableTaskHolder(cancellableTask);
@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.tasks;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.util.concurrent.ConcurrentCollections;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Accounts for the CPU time and the heap allocations of the threads that work on behalf of a task. The usage of the
+ * threads that are still running is sampled when it is read, and the usage of finished threads is also added to the
+ * usage of the parent task, if it runs on the same node.
+ * <p>
+ * Allocations are only tracked on JVMs that expose <code>com.sun.management.ThreadMXBean</code>, CPU time only if thread
+ * CPU time measurement is supported and enabled.
+ */
+public final class TaskResourceUsage {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final Method GET_THREAD_ALLOCATED_BYTES = getThreadAllocatedBytesMethod();
+
+    private final AtomicLong cpuTimeNanos = new AtomicLong();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    // the threads currently working on the task, by thread id
+    private final Map<Long, ThreadUsage> activeThreads = ConcurrentCollections.newConcurrentMap();
+    private volatile TaskResourceUsage parent;
+
+    /**
+     * Also account the usage of this task to the given task once the threads that work on it finish.
+     */
+    public void setParent(TaskResourceUsage parent) {
+        assert parent != this;
+        this.parent = parent;
+    }
+
+    /**
+     * Starts tracking the current thread until the returned {@link Releasable} is closed.
+     */
+    public Releasable startThreadTracking() {
+        final long threadId = Thread.currentThread().getId();
+        final ThreadUsage start = new ThreadUsage(threadCpuTimeNanos(threadId), threadAllocatedBytes(threadId));
+        if (activeThreads.putIfAbsent(threadId, start) != null) {
+            // already tracked by an outer call on this thread
+            return () -> {};
+        }
+        return () -> {
+            activeThreads.remove(threadId);
+            add(Math.max(0, threadCpuTimeNanos(threadId) - start.cpuTimeNanos),
+                Math.max(0, threadAllocatedBytes(threadId) - start.allocatedBytes));
+        };
+    }
+
+    /**
+     * Wraps the given runnable so that the thread that runs it is tracked while it runs, typically because it is forked to
+     * another thread pool on behalf of the task.
+     */
+    public Runnable trackThread(Runnable runnable) {
+        return () -> {
+            try (Releasable ignored = startThreadTracking()) {
+                runnable.run();
+            }
+        };
+    }
+
+    private void add(long cpuTimeNanos, long allocatedBytes) {
+        this.cpuTimeNanos.addAndGet(cpuTimeNanos);
+        this.allocatedBytes.addAndGet(allocatedBytes);
+        final TaskResourceUsage parent = this.parent;
+        if (parent != null) {
+            parent.add(cpuTimeNanos, allocatedBytes);
+        }
+    }
+
+    /**
+     * The CPU time used by the task so far, including the threads that are still working on it.
+     */
+    public long getCpuTimeNanos() {
+        long total = cpuTimeNanos.get();
+        for (Map.Entry<Long, ThreadUsage> entry : activeThreads.entrySet()) {
+            total += Math.max(0, threadCpuTimeNanos(entry.getKey()) - entry.getValue().cpuTimeNanos);
+        }
+        return total;
+    }
+
+    /**
+     * The number of bytes allocated on the heap by the task so far, including the threads that are still working on it.
+     */
+    public long getAllocatedBytes() {
+        long total = allocatedBytes.get();
+        for (Map.Entry<Long, ThreadUsage> entry : activeThreads.entrySet()) {
+            total += Math.max(0, threadAllocatedBytes(entry.getKey()) - entry.getValue().allocatedBytes);
+        }
+        return total;
+    }
+
+    /**
+     * The number of threads that are working on the task right now.
+     */
+    public int getActiveThreads() {
+        return activeThreads.size();
+    }
+
+    private static long threadCpuTimeNanos(long threadId) {
+        if (THREAD_MX_BEAN.isThreadCpuTimeSupported() == false) {
+            return 0;
+        }
+        // -1 if the thread is not alive or CPU time measurement is disabled
+        return Math.max(0, THREAD_MX_BEAN.getThreadCpuTime(threadId));
+    }
+
+    private static long threadAllocatedBytes(long threadId) {
+        if (GET_THREAD_ALLOCATED_BYTES == null) {
+            return 0;
+        }
+        try {
+            return Math.max(0, (long) GET_THREAD_ALLOCATED_BYTES.invoke(THREAD_MX_BEAN, threadId));
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the getThreadAllocatedBytes(long) method of com.sun.management.ThreadMXBean, or null if it is not available.
+     */
+    private static Method getThreadAllocatedBytesMethod() {
+        try {
+            return Class.forName("com.sun.management.ThreadMXBean").getMethod("getThreadAllocatedBytes", long.class);
+        } catch (Exception e) {
+            // not available
+            return null;
+        }
+    }
+
+    private static class ThreadUsage {
+        final long cpuTimeNanos;
+        final long allocatedBytes;
+
+        ThreadUsage(long cpuTimeNanos, long allocatedBytes) {
+            this.cpuTimeNanos = cpuTimeNanos;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
@@ -34,13 +34,16 @@ package org.opensearch.transport;
 
 import org.opensearch.core.internal.io.IOUtils;
 import org.opensearch.common.bytes.BytesReference;
-import org.opensearch.common.compress.CompressorFactory;
+import org.opensearch.common.bytes.CompositeBytesReference;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.io.stream.BytesStream;
 import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.util.PageCacheRecycler;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.zip.DeflaterOutputStream;
 
 /**
@@ -58,15 +61,26 @@ import java.util.zip.DeflaterOutputStream;
  */
 final class CompressibleBytesOutputStream extends StreamOutput {
 
+    // references smaller than this are cheaper to copy than to splice in
+    static final int MIN_ZERO_COPY_LENGTH = PageCacheRecycler.BYTE_PAGE_SIZE;
+
     private final OutputStream stream;
     private final BytesStream bytesStreamOutput;
     private final boolean shouldCompress;
+    // bytes references that were written without being copied and the positions in the stream at which they were written
+    private final List<BytesReference> splicedReferences = new ArrayList<>();
+    private final List<Integer> splicedPositions = new ArrayList<>();
 
     CompressibleBytesOutputStream(BytesStream bytesStreamOutput, boolean shouldCompress) throws IOException {
+        this(bytesStreamOutput, shouldCompress, Compression.Scheme.DEFLATE);
+    }
+
+    CompressibleBytesOutputStream(BytesStream bytesStreamOutput, boolean shouldCompress, Compression.Scheme compressionScheme)
+        throws IOException {
         this.bytesStreamOutput = bytesStreamOutput;
         this.shouldCompress = shouldCompress;
         if (shouldCompress) {
-            this.stream = CompressorFactory.COMPRESSOR.threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
+            this.stream = compressionScheme.compressor().threadLocalOutputStream(Streams.flushOnCloseStream(bytesStreamOutput));
         } else {
             this.stream = bytesStreamOutput;
         }
@@ -86,7 +100,32 @@ final class CompressibleBytesOutputStream extends StreamOutput {
             stream.close();
         }
 
-        return bytesStreamOutput.bytes();
+        final BytesReference bytes = bytesStreamOutput.bytes();
+        if (splicedReferences.isEmpty()) {
+            return bytes;
+        }
+        final BytesReference[] parts = new BytesReference[2 * splicedReferences.size() + 1];
+        int start = 0;
+        for (int i = 0; i < splicedReferences.size(); i++) {
+            final int position = splicedPositions.get(i);
+            parts[2 * i] = bytes.slice(start, position - start);
+            parts[2 * i + 1] = splicedReferences.get(i);
+            start = position;
+        }
+        parts[parts.length - 1] = bytes.slice(start, bytes.length() - start);
+        return CompositeBytesReference.of(parts);
+    }
+
+    @Override
+    public void writeZeroCopyBytesReference(BytesReference bytes) throws IOException {
+        if (shouldCompress || bytes.length() < MIN_ZERO_COPY_LENGTH) {
+            // compressed bytes have to go through the compressor anyway
+            super.writeZeroCopyBytesReference(bytes);
+        } else {
+            writeVInt(bytes.length());
+            splicedPositions.add(Math.toIntExact(bytesStreamOutput.position()));
+            splicedReferences.add(bytes);
+        }
     }
 
     @Override
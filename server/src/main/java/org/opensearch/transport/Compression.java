@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.Version;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.compress.Compressor;
+import org.opensearch.common.compress.CompressorFactory;
+import org.opensearch.common.compress.Lz4Compressor;
+
+import java.util.Locale;
+
+/**
+ * Holds the compression schemes that can be used for transport messages.
+ */
+public final class Compression {
+
+    private Compression() {}
+
+    public enum Scheme {
+        DEFLATE(CompressorFactory.COMPRESSOR, Version.V_EMPTY),
+        LZ4(new Lz4Compressor(), Version.V_1_0_0);
+
+        private final Compressor compressor;
+        private final Version minimumVersion;
+
+        Scheme(Compressor compressor, Version minimumVersion) {
+            this.compressor = compressor;
+            this.minimumVersion = minimumVersion;
+        }
+
+        public Compressor compressor() {
+            return compressor;
+        }
+
+        /**
+         * Returns this scheme if a node of the given version can decompress it, otherwise falls back to {@link #DEFLATE} which
+         * every version understands.
+         */
+        public Scheme resolve(Version version) {
+            return version.onOrAfter(minimumVersion) ? this : DEFLATE;
+        }
+
+        /**
+         * Returns the scheme whose header the given bytes start with or <code>null</code> if there is none.
+         */
+        @Nullable
+        public static Scheme fromHeader(BytesReference bytes) {
+            for (Scheme scheme : values()) {
+                if (scheme.compressor.isCompressed(bytes)) {
+                    return scheme;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the number of bytes required to detect the scheme of a compressed stream.
+         */
+        public static int headerLength() {
+            int headerLength = 0;
+            for (Scheme scheme : values()) {
+                headerLength = Math.max(headerLength, scheme.compressor.headerLength());
+            }
+            return headerLength;
+        }
+
+        public static Scheme parse(String scheme) {
+            try {
+                return Scheme.valueOf(scheme.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("unknown transport compression scheme [" + scheme + "]");
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+}
@@ -57,6 +57,8 @@ public class Header {
     String actionName;
     Tuple<Map<String, String>, Map<String, Set<String>>> headers;
     Set<String> features;
+    // set once the header of the compressed content has been decompressed
+    Compression.Scheme compressionScheme;
 
     Header(int networkMessageSize, long requestId, byte status, Version version) {
         this.networkMessageSize = networkMessageSize;
@@ -101,6 +103,13 @@ public class Header {
         return TransportStatus.isCompress(status);
     }
 
+    /**
+     * Returns the scheme the content of this message was compressed with or <code>null</code> if it isn't compressed.
+     */
+    Compression.Scheme getCompressionScheme() {
+        return compressionScheme;
+    }
+
     public String getActionName() {
         return actionName;
     }
@@ -51,6 +51,7 @@ public class InboundDecoder implements Releasable {
     private final Version version;
     private final PageCacheRecycler recycler;
     private TransportDecompressor decompressor;
+    private Header compressedHeader;
     private int totalNetworkSize = -1;
     private int bytesConsumed = 0;
     private boolean isClosed = false;
@@ -89,6 +90,7 @@ public class InboundDecoder implements Releasable {
                     bytesConsumed += headerBytesToRead;
                     if (header.isCompressed()) {
                         decompressor = new TransportDecompressor(recycler);
+                        compressedHeader = header;
                     }
                     fragmentConsumer.accept(header);
 
@@ -142,6 +144,7 @@ public class InboundDecoder implements Releasable {
     private void cleanDecodeState() {
         IOUtils.closeWhileHandlingException(decompressor);
         decompressor = null;
+        compressedHeader = null;
         totalNetworkSize = -1;
         bytesConsumed = 0;
     }
@@ -150,6 +153,9 @@ public class InboundDecoder implements Releasable {
         try (ReleasableBytesReference toRelease = content) {
             int consumed = decompressor.decompress(content);
             assert consumed == content.length();
+            if (compressedHeader.compressionScheme == null) {
+                compressedHeader.compressionScheme = decompressor.getScheme();
+            }
         }
     }
 
@@ -194,8 +194,12 @@ public class InboundHandler {
                 }
             }
         } else {
+            // responses are compressed with the same scheme as the request so that peers pick the scheme of their connections
+            final Compression.Scheme compressionScheme = header.getCompressionScheme() == null
+                ? Compression.Scheme.DEFLATE : header.getCompressionScheme();
             final TransportChannel transportChannel = new TcpTransportChannel(outboundHandler, channel, action, requestId, version,
-                header.getFeatures(), header.isCompressed(), header.isHandshake(), message.takeBreakerReleaseControl());
+                header.getFeatures(), header.isCompressed(), compressionScheme, header.isHandshake(),
+                message.takeBreakerReleaseControl());
             try {
                 messageListener.onRequestReceived(requestId, action);
                 if (message.isShortCircuit()) {
@@ -49,11 +49,19 @@ public final class TcpTransportChannel implements TransportChannel {
     private final Version version;
     private final Set<String> features;
     private final boolean compressResponse;
+    private final Compression.Scheme compressionScheme;
     private final boolean isHandshake;
     private final Releasable breakerRelease;
 
     TcpTransportChannel(OutboundHandler outboundHandler, TcpChannel channel, String action, long requestId, Version version,
                         Set<String> features, boolean compressResponse, boolean isHandshake, Releasable breakerRelease) {
+        this(outboundHandler, channel, action, requestId, version, features, compressResponse, Compression.Scheme.DEFLATE, isHandshake,
+            breakerRelease);
+    }
+
+    TcpTransportChannel(OutboundHandler outboundHandler, TcpChannel channel, String action, long requestId, Version version,
+                        Set<String> features, boolean compressResponse, Compression.Scheme compressionScheme, boolean isHandshake,
+                        Releasable breakerRelease) {
         this.version = version;
         this.features = features;
         this.channel = channel;
@@ -61,6 +69,7 @@ public final class TcpTransportChannel implements TransportChannel {
         this.action = action;
         this.requestId = requestId;
         this.compressResponse = compressResponse;
+        this.compressionScheme = compressionScheme;
         this.isHandshake = isHandshake;
         this.breakerRelease = breakerRelease;
     }
@@ -73,7 +82,8 @@ public final class TcpTransportChannel implements TransportChannel {
     @Override
     public void sendResponse(TransportResponse response) throws IOException {
         try {
-            outboundHandler.sendResponse(version, features, channel, requestId, action, response, compressResponse, isHandshake);
+            outboundHandler.sendResponse(version, features, channel, requestId, action, response, compressResponse, compressionScheme,
+                isHandshake);
         } finally {
             release(false);
         }
@@ -29,7 +29,6 @@
  * Modifications Copyright OpenSearch Contributors. See
  * GitHub history for details.
  */
-
 package org.opensearch.transport;
 
 import org.apache.lucene.util.BytesRef;
@@ -37,7 +36,7 @@ import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
-import org.opensearch.common.compress.CompressorFactory;
+import org.opensearch.common.compress.Lz4Compressor;
 import org.opensearch.common.recycler.Recycler;
 import org.opensearch.common.util.PageCacheRecycler;
 
@@ -49,22 +48,34 @@ import java.util.zip.Inflater;
 
 public class TransportDecompressor implements Closeable {
 
-    private final Inflater inflater;
     private final PageCacheRecycler recycler;
     private final ArrayDeque<Recycler.V<byte[]>> pages;
     private int pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
-    private boolean hasReadHeader = false;
+    private Compression.Scheme scheme;
+
+    // DEFLATE state
+    private Inflater inflater;
+
+    // LZ4 state, a block is buffered until it is complete and then decompressed into the pages
+    private final byte[] blockHeader = new byte[Lz4Compressor.BLOCK_HEADER_SIZE];
+    private byte[] compressedBlock;
+    private byte[] decompressedBlock;
+    private boolean readingBlockHeader = true;
+    private int blockOffset;
+    private int blockLength = Lz4Compressor.BLOCK_HEADER_SIZE;
+    private int decompressedLength;
+    private boolean lz4Finished;
 
     public TransportDecompressor(PageCacheRecycler recycler) {
         this.recycler = recycler;
-        inflater = new Inflater(true);
         pages = new ArrayDeque<>(4);
     }
 
     public int decompress(BytesReference bytesReference) throws IOException {
         int bytesConsumed = 0;
-        if (hasReadHeader == false) {
-            if (CompressorFactory.COMPRESSOR.isCompressed(bytesReference) == false) {
+        if (scheme == null) {
+            scheme = Compression.Scheme.fromHeader(bytesReference);
+            if (scheme == null) {
                 int maxToRead = Math.min(bytesReference.length(), 10);
                 StringBuilder sb = new StringBuilder("stream marked as compressed, but no compressor found, first [")
                     .append(maxToRead).append("] content bytes out of [").append(bytesReference.length())
@@ -75,12 +86,23 @@ public class TransportDecompressor implements Closeable {
                 sb.append("]");
                 throw new IllegalStateException(sb.toString());
             }
-            hasReadHeader = true;
-            int headerLength = CompressorFactory.COMPRESSOR.headerLength();
+            int headerLength = scheme.compressor().headerLength();
             bytesReference = bytesReference.slice(headerLength, bytesReference.length() - headerLength);
             bytesConsumed += headerLength;
+            if (scheme == Compression.Scheme.DEFLATE) {
+                inflater = new Inflater(true);
+            }
         }
 
+        if (scheme == Compression.Scheme.LZ4) {
+            return bytesConsumed + lz4Decompress(bytesReference);
+        } else {
+            return bytesConsumed + inflate(bytesReference);
+        }
+    }
+
+    private int inflate(BytesReference bytesReference) throws IOException {
+        int bytesConsumed = 0;
         BytesRefIterator refIterator = bytesReference.iterator();
         BytesRef ref;
         while ((ref = refIterator.next()) != null) {
@@ -125,12 +147,88 @@ public class TransportDecompressor implements Closeable {
         return bytesConsumed;
     }
 
+    private int lz4Decompress(BytesReference bytesReference) throws IOException {
+        int bytesConsumed = 0;
+        BytesRefIterator refIterator = bytesReference.iterator();
+        BytesRef ref;
+        while (lz4Finished == false && (ref = refIterator.next()) != null) {
+            int offset = ref.offset;
+            final int end = ref.offset + ref.length;
+            while (lz4Finished == false && offset < end) {
+                final byte[] target = readingBlockHeader ? blockHeader : compressedBlock;
+                final int toCopy = Math.min(end - offset, blockLength - blockOffset);
+                System.arraycopy(ref.bytes, offset, target, blockOffset, toCopy);
+                offset += toCopy;
+                blockOffset += toCopy;
+                bytesConsumed += toCopy;
+                if (blockOffset == blockLength) {
+                    if (readingBlockHeader) {
+                        readBlockHeader();
+                    } else {
+                        if (decompressedBlock == null) {
+                            decompressedBlock = new byte[Lz4Compressor.BLOCK_SIZE];
+                        }
+                        Lz4Compressor.decompressBlock(compressedBlock, 0, blockLength, decompressedBlock, decompressedLength);
+                        copyToPages(decompressedBlock, decompressedLength);
+                        readingBlockHeader = true;
+                        blockLength = Lz4Compressor.BLOCK_HEADER_SIZE;
+                    }
+                    blockOffset = 0;
+                }
+            }
+        }
+        return bytesConsumed;
+    }
+
+    private void readBlockHeader() throws IOException {
+        decompressedLength = Lz4Compressor.readDecompressedLength(blockHeader, 0);
+        final int compressedLength = Lz4Compressor.readCompressedLength(blockHeader, 0);
+        Lz4Compressor.validateBlockHeader(decompressedLength, compressedLength);
+        if (decompressedLength == 0) {
+            lz4Finished = true;
+        } else {
+            if (compressedBlock == null) {
+                compressedBlock = new byte[Lz4Compressor.maxCompressedLength(Lz4Compressor.BLOCK_SIZE)];
+            }
+            readingBlockHeader = false;
+            blockLength = compressedLength;
+        }
+    }
+
+    private void copyToPages(byte[] source, int length) {
+        int offset = 0;
+        while (offset < length) {
+            final Recycler.V<byte[]> page;
+            if (pageOffset == PageCacheRecycler.BYTE_PAGE_SIZE) {
+                pageOffset = 0;
+                page = recycler.bytePage(false);
+                pages.add(page);
+            } else {
+                page = pages.getLast();
+            }
+            final int toCopy = Math.min(length - offset, PageCacheRecycler.BYTE_PAGE_SIZE - pageOffset);
+            System.arraycopy(source, offset, page.v(), pageOffset, toCopy);
+            offset += toCopy;
+            pageOffset += toCopy;
+        }
+    }
+
     public boolean canDecompress(int bytesAvailable) {
-        return hasReadHeader || bytesAvailable >= CompressorFactory.COMPRESSOR.headerLength();
+        return scheme != null || bytesAvailable >= Compression.Scheme.headerLength();
     }
 
     public boolean isEOS() {
-        return inflater.finished();
+        if (scheme == Compression.Scheme.LZ4) {
+            return lz4Finished;
+        }
+        return inflater != null && inflater.finished();
+    }
+
+    /**
+     * Returns the scheme of the compressed stream or <code>null</code> if its header hasn't been read yet.
+     */
+    public Compression.Scheme getScheme() {
+        return scheme;
     }
 
     public ReleasableBytesReference pollDecompressedPage() {
@@ -153,7 +251,9 @@ public class TransportDecompressor implements Closeable {
 
     @Override
     public void close() {
-        inflater.end();
+        if (inflater != null) {
+            inflater.end();
+        }
         for (Recycler.V<byte[]> page : pages) {
             page.close();
         }
@@ -42,6 +42,7 @@ import org.opensearch.action.bulk.BulkRequestParser;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -190,4 +191,24 @@ public class BulkRequestParserTests extends OpenSearchTestCase {
         assertSame(first.getPipeline(), second.getPipeline());
         assertSame(first.routing(), second.routing());
     }
+
+    public void testParseIncrementally() throws IOException {
+        final String complete = "{ \"index\":{ \"_id\": \"1\" } }\n{}\n{ \"delete\":{ \"_id\": \"2\" } }\n";
+        BytesArray request = new BytesArray(complete + "{ \"index\":{ \"_id\": \"3\" } }\n{ \"fie");
+        BulkRequestParser parser = new BulkRequestParser(randomBoolean());
+        final List<IndexRequest> indexRequests = new ArrayList<>();
+        final List<String> deletedIds = new ArrayList<>();
+        int consumed = parser.parseIncrementally(request, "foo", null, null, null, null, null, false, XContentType.JSON,
+                indexRequests::add, req -> fail(), deleteRequest -> deletedIds.add(deleteRequest.id()));
+        assertEquals(complete.length(), consumed);
+        assertThat(indexRequests, Matchers.hasSize(1));
+        assertEquals("1", indexRequests.get(0).id());
+        assertEquals(Collections.singletonList("2"), deletedIds);
+
+        // an unterminated line is left for later rather than rejected
+        request = new BytesArray("{ \"delete\":{ \"_id\": \"4\" } }");
+        consumed = parser.parseIncrementally(request, "foo", null, null, null, null, null, false, XContentType.JSON,
+                req -> fail(), req -> fail(), req -> fail());
+        assertEquals(0, consumed);
+    }
 }
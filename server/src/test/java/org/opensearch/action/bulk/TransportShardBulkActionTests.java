@@ -55,6 +55,7 @@ import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchRejectedExecutionException;
 import org.opensearch.index.IndexSettings;
+import org.opensearch.index.IndexingPressure;
 import org.opensearch.index.VersionType;
 import org.opensearch.index.engine.Engine;
 import org.opensearch.index.engine.VersionConflictEngineException;
@@ -73,6 +74,8 @@ import org.opensearch.threadpool.ThreadPool.Names;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
@@ -247,6 +250,57 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         latch.await();
     }
 
+    public void testBulkRequestWithParallelParsing() throws Exception {
+        IndexShard shard = newStartedShard(true);
+
+        BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(1, 10) * TransportShardBulkAction.MIN_DOCUMENTS_PER_PARSING_TASK];
+        for (int i = 0; i < items.length; i++) {
+            final DocWriteRequest<?> writeRequest;
+            if (i > 0 && rarely()) {
+                // delete a document that was indexed earlier in the same request
+                writeRequest = new DeleteRequest("index", "_doc", "id_" + randomIntBetween(0, i - 1));
+            } else {
+                writeRequest = new IndexRequest("index", "_doc", "id_" + i)
+                    .source(Requests.INDEX_CONTENT_TYPE)
+                    .opType(randomFrom(DocWriteRequest.OpType.INDEX, DocWriteRequest.OpType.CREATE));
+            }
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        // without memory for the parsed documents they are parsed when their operations are applied
+        final IndexingPressure indexingPressure = new IndexingPressure(randomBoolean() ? Settings.EMPTY
+            : Settings.builder().put(IndexingPressure.MAX_INDEXING_BYTES.getKey(), "1b").build());
+        final CountDownLatch latch = new CountDownLatch(1);
+        TransportShardBulkAction.performOnPrimary(
+            bulkShardRequest, shard, null, threadPool::absoluteTimeInMillis, new NoopMappingUpdatePerformer(),
+            listener -> {}, ActionListener.runAfter(
+                ActionTestUtils.assertNoFailureListener(result -> {
+                    assertThat(result.finalResponseIfSuccessful.getResponses(), arrayWithSize(items.length));
+                    // items are applied in order
+                    for (int i = 0; i < items.length; i++) {
+                        BulkItemResponse response = result.finalResponseIfSuccessful.getResponses()[i];
+                        assertThat(response.getItemId(), equalTo(i));
+                        assertFalse(response.isFailed());
+                        assertThat(response.getResponse().getSeqNo(), equalTo((long) i));
+                    }
+                }), latch::countDown), threadPool, Names.WRITE, indexingPressure);
+        latch.await();
+        // the memory of the parsed documents is released once their operations are applied
+        assertEquals(0, indexingPressure.stats().getCurrentPrimaryBytes());
+
+        final Set<String> expectedIds = new HashSet<>();
+        for (BulkItemRequest item : items) {
+            if (item.request().opType() == DocWriteRequest.OpType.DELETE) {
+                expectedIds.remove(item.request().id());
+            } else {
+                expectedIds.add(item.request().id());
+            }
+        }
+        assertDocCount(shard, expectedIds.size());
+        closeShards(shard);
+    }
+
     public void testExecuteBulkIndexRequestWithMappingUpdates() throws Exception {
 
         BulkItemRequest[] items = new BulkItemRequest[1];
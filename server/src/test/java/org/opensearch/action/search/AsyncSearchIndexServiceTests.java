@@ -0,0 +1,279 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.ResourceAlreadyExistsException;
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionResponse;
+import org.opensearch.action.ActionType;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.admin.indices.create.CreateIndexAction;
+import org.opensearch.action.admin.indices.create.CreateIndexResponse;
+import org.opensearch.action.bulk.BulkAction;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.delete.DeleteAction;
+import org.opensearch.action.delete.DeleteRequest;
+import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.get.GetAction;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexAction;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.Index;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.index.mapper.MapperService;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.test.ClusterServiceUtils;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.client.NoOpClient;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class AsyncSearchIndexServiceTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private ClusterService clusterService;
+    private InMemoryIndexClient client;
+    private AsyncSearchIndexService indexService;
+
+    @Before
+    public void setupIndexService() {
+        threadPool = new TestThreadPool(getTestName());
+        clusterService = ClusterServiceUtils.createClusterService(threadPool);
+        client = new InMemoryIndexClient(threadPool, clusterService);
+        indexService = new AsyncSearchIndexService(client, clusterService, threadPool,
+            new NamedWriteableRegistry(Collections.emptyList()));
+    }
+
+    @After
+    public void closeIndexService() {
+        clusterService.close();
+        terminate(threadPool);
+    }
+
+    public void testStoreAndGet() {
+        final long now = threadPool.absoluteTimeInMillis();
+        final int totalHits = randomIntBetween(0, 100);
+        store("doc", new AsyncSearchResponse("id", false, false, now, now + TimeValue.timeValueHours(1).millis(),
+            searchResponse(totalHits), null));
+        assertTrue(client.created);
+        assertThat(client.docs.keySet(), equalTo(Collections.singleton("doc")));
+
+        final AsyncSearchResponse response = get("doc");
+        assertFalse(response.isRunning());
+        assertFalse(response.isPartial());
+        assertThat(response.getStartTime(), equalTo(now));
+        assertThat(response.getExpirationTime(), equalTo(now + TimeValue.timeValueHours(1).millis()));
+        assertThat(response.getSearchResponse().getHits().getTotalHits().value, equalTo((long) totalHits));
+
+        // results are replaced when they are stored again
+        store("doc", new AsyncSearchResponse("id", false, false, now, now + TimeValue.timeValueHours(2).millis(),
+            searchResponse(totalHits + 1), null));
+        assertThat(get("doc").getSearchResponse().getHits().getTotalHits().value, equalTo(totalHits + 1L));
+    }
+
+    public void testGetMissingResult() {
+        // before the index exists
+        expectNotFound("doc");
+        store("other", new AsyncSearchResponse("id", false, false, 0L, threadPool.absoluteTimeInMillis() + 60_000L,
+            searchResponse(1), null));
+        expectNotFound("doc");
+    }
+
+    public void testExpiredResultIsDeletedWhenRead() {
+        final long now = threadPool.absoluteTimeInMillis();
+        store("valid", new AsyncSearchResponse("id", false, false, now, now + 60_000L, searchResponse(1), null));
+        // the cleanup already ran when the first result was stored
+        store("expired", new AsyncSearchResponse("id", false, false, now - 2, now - 1, searchResponse(1), null));
+        assertTrue(client.docs.containsKey("expired"));
+
+        expectNotFound("expired");
+        assertFalse(client.docs.containsKey("expired"));
+        assertThat(get("valid").getSearchResponse().getHits().getTotalHits().value, equalTo(1L));
+    }
+
+    public void testExpiredResultsAreCleanedUp() {
+        final long now = threadPool.absoluteTimeInMillis();
+        store("expired", new AsyncSearchResponse("id", false, false, now - 2, now - 1, searchResponse(1), null));
+        store("valid", new AsyncSearchResponse("id", false, false, now, now + 60_000L, searchResponse(1), null));
+        assertThat(client.docs.keySet(), equalTo(Collections.singleton("valid")));
+        assertThat(client.searches.get(), equalTo(1));
+
+        // the cleanup runs at most once per interval
+        store("expired_too", new AsyncSearchResponse("id", false, false, now - 2, now - 1, searchResponse(1), null));
+        assertTrue(client.docs.containsKey("expired_too"));
+        assertThat(client.searches.get(), equalTo(1));
+    }
+
+    public void testDeleteStoredResult() {
+        // nothing to delete before the index exists
+        assertFalse(delete("doc"));
+        final long now = threadPool.absoluteTimeInMillis();
+        store("doc", new AsyncSearchResponse("id", false, false, now, now + 60_000L, searchResponse(1), null));
+
+        assertTrue(delete("doc"));
+        assertFalse(client.docs.containsKey("doc"));
+        expectNotFound("doc");
+        assertFalse(delete("doc"));
+    }
+
+    private void store(String docId, AsyncSearchResponse response) {
+        final PlainActionFuture<Void> future = new PlainActionFuture<>();
+        indexService.store(docId, response, future);
+        future.actionGet();
+    }
+
+    private AsyncSearchResponse get(String docId) {
+        final PlainActionFuture<AsyncSearchResponse> future = new PlainActionFuture<>();
+        indexService.get(docId, "id", future);
+        return future.actionGet();
+    }
+
+    private boolean delete(String docId) {
+        final PlainActionFuture<Boolean> future = new PlainActionFuture<>();
+        indexService.delete(docId, future);
+        return future.actionGet();
+    }
+
+    private void expectNotFound(String docId) {
+        final PlainActionFuture<AsyncSearchResponse> future = new PlainActionFuture<>();
+        indexService.get(docId, "id", future);
+        final Exception e = expectThrows(Exception.class, future::actionGet);
+        assertThat(e, instanceOf(ResourceNotFoundException.class));
+    }
+
+    private static SearchResponse searchResponse(int totalHits) {
+        final SearchHits hits = new SearchHits(new SearchHit[0], new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO), Float.NaN);
+        return new SearchResponse(new InternalSearchResponse(hits, null, null, null, false, null, 1), null, 1, 1, 0, 1L,
+            ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY);
+    }
+
+    /**
+     * A client that keeps the documents of the async search index in memory and answers the requests that
+     * {@link AsyncSearchIndexService} sends synchronously.
+     */
+    private static class InMemoryIndexClient extends NoOpClient {
+        private final ClusterService clusterService;
+        private final Map<String, BytesReference> docs = new ConcurrentHashMap<>();
+        private final AtomicInteger searches = new AtomicInteger();
+        private volatile boolean created;
+
+        InMemoryIndexClient(ThreadPool threadPool, ClusterService clusterService) {
+            super(threadPool);
+            this.clusterService = clusterService;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected <Request extends ActionRequest, Response extends ActionResponse>
+        void doExecute(ActionType<Response> action, Request request, ActionListener<Response> listener) {
+            final ActionResponse response;
+            try {
+                response = handle(action, request);
+            } catch (Exception e) {
+                listener.onFailure(e);
+                return;
+            }
+            listener.onResponse((Response) response);
+        }
+
+        private ActionResponse handle(ActionType<?> action, ActionRequest request) {
+            final ShardId shardId = new ShardId(AsyncSearchIndexService.INDEX, "_na_", 0);
+            if (action == CreateIndexAction.INSTANCE) {
+                if (created) {
+                    throw new ResourceAlreadyExistsException(new Index(AsyncSearchIndexService.INDEX, "_na_"));
+                }
+                created = true;
+                final IndexMetadata indexMetadata = IndexMetadata.builder(AsyncSearchIndexService.INDEX)
+                    .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+                    .numberOfShards(1)
+                    .numberOfReplicas(0)
+                    .build();
+                ClusterServiceUtils.setState(clusterService, ClusterState.builder(clusterService.state())
+                    .metadata(Metadata.builder().put(indexMetadata, false))
+                    .routingTable(RoutingTable.builder().addAsNew(indexMetadata).build()));
+                return new CreateIndexResponse(true, true, AsyncSearchIndexService.INDEX);
+            } else if (action == IndexAction.INSTANCE) {
+                final IndexRequest indexRequest = (IndexRequest) request;
+                final boolean existed = docs.put(indexRequest.id(), indexRequest.source()) != null;
+                return new IndexResponse(shardId, MapperService.SINGLE_MAPPING_NAME, indexRequest.id(), 1L, 1L, 1L, existed == false);
+            } else if (action == GetAction.INSTANCE) {
+                if (created == false) {
+                    throw new IndexNotFoundException(AsyncSearchIndexService.INDEX);
+                }
+                final GetRequest getRequest = (GetRequest) request;
+                final BytesReference source = docs.get(getRequest.id());
+                return new GetResponse(new GetResult(AsyncSearchIndexService.INDEX, MapperService.SINGLE_MAPPING_NAME, getRequest.id(),
+                    1L, 1L, 1L, source != null, source, Collections.emptyMap(), Collections.emptyMap()));
+            } else if (action == DeleteAction.INSTANCE) {
+                final DeleteRequest deleteRequest = (DeleteRequest) request;
+                final boolean found = docs.remove(deleteRequest.id()) != null;
+                return new DeleteResponse(shardId, MapperService.SINGLE_MAPPING_NAME, deleteRequest.id(), 1L, 1L, 1L, found);
+            } else if (action == SearchAction.INSTANCE) {
+                searches.incrementAndGet();
+                final SearchRequest searchRequest = (SearchRequest) request;
+                final long maxExpirationTime = ((Number) ((RangeQueryBuilder) searchRequest.source().query()).to()).longValue();
+                final List<SearchHit> hits = new ArrayList<>();
+                for (Map.Entry<String, BytesReference> doc : docs.entrySet()) {
+                    final Map<String, Object> source = XContentHelper.convertToMap(doc.getValue(), false, XContentType.JSON).v2();
+                    if (((Number) source.get(AsyncSearchIndexService.EXPIRATION_TIME_FIELD)).longValue() <= maxExpirationTime) {
+                        hits.add(new SearchHit(hits.size(), doc.getKey(), null, Collections.emptyMap(), Collections.emptyMap()));
+                    }
+                }
+                final SearchHits searchHits = new SearchHits(hits.toArray(new SearchHit[0]),
+                    new TotalHits(hits.size(), TotalHits.Relation.EQUAL_TO), Float.NaN);
+                return new SearchResponse(new InternalSearchResponse(searchHits, null, null, null, false, null, 1), null, 1, 1, 0, 1L,
+                    ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY);
+            } else if (action == BulkAction.INSTANCE) {
+                for (DocWriteRequest<?> bulkItem : ((BulkRequest) request).requests()) {
+                    docs.remove(bulkItem.id());
+                }
+                return new BulkResponse(new BulkItemResponse[0], 1L);
+            }
+            throw new AssertionError("unexpected action [" + action.name() + "]");
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.apache.lucene.search.TotalHits;
+import org.opensearch.action.ActionListener;
+import org.opensearch.common.UUIDs;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.aggregations.InternalAggregations;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class AsyncSearchTaskTests extends OpenSearchTestCase {
+    private ThreadPool threadPool;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getTestName());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+    }
+
+    private AsyncSearchTask createTask(boolean keepOnCompletion) {
+        return new AsyncSearchTask(randomNonNegativeLong(), "transport", SearchAction.NAME, () -> "description", TaskId.EMPTY_TASK_ID,
+            Collections.emptyMap(), UUIDs.randomBase64UUID(), keepOnCompletion, 1000L, 2000L, System::currentTimeMillis,
+            () -> { throw new AssertionError("no aggregations to reduce"); });
+    }
+
+    public void testAsyncSearchId() {
+        final AsyncSearchId id = new AsyncSearchId(UUIDs.randomBase64UUID(), new TaskId(randomAlphaOfLength(10), randomNonNegativeLong()));
+        final AsyncSearchId copy = AsyncSearchId.decode(id.encode());
+        assertThat(copy.getDocId(), equalTo(id.getDocId()));
+        assertThat(copy.getTaskId(), equalTo(id.getTaskId()));
+
+        final IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> AsyncSearchId.decode("invalid"));
+        assertThat(e.getMessage(), equalTo("invalid async search id [invalid]"));
+    }
+
+    public void testPartialResponse() {
+        final AsyncSearchTask task = createTask(false);
+        AsyncSearchResponse response = task.buildResponse("id");
+        assertTrue(response.isRunning());
+        assertTrue(response.isPartial());
+        assertNull(response.getSearchResponse());
+
+        final List<SearchShard> shards = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            shards.add(new SearchShard(null, new ShardId("index", "_na_", i)));
+        }
+        final List<SearchShard> skipped = Collections.singletonList(new SearchShard(null, new ShardId("index", "_na_", 4)));
+        final SearchProgressListener listener = task.getProgressListener();
+        listener.notifyListShards(shards, skipped, SearchResponse.Clusters.EMPTY, false);
+        listener.notifyQueryResult(0);
+        listener.notifyQueryResult(1);
+        listener.notifyQueryFailure(2, null, new IllegalStateException("boom"));
+        listener.notifyPartialReduce(shards.subList(0, 2), new TotalHits(42, TotalHits.Relation.EQUAL_TO), null, 1);
+
+        response = task.buildResponse("id");
+        assertTrue(response.isRunning());
+        assertTrue(response.isPartial());
+        final SearchResponse searchResponse = response.getSearchResponse();
+        assertThat(searchResponse.getTotalShards(), equalTo(5));
+        assertThat(searchResponse.getSkippedShards(), equalTo(1));
+        assertThat(searchResponse.getSuccessfulShards(), equalTo(3));
+        assertThat(searchResponse.getShardFailures().length, equalTo(1));
+        assertThat(searchResponse.getHits().getTotalHits().value, equalTo(42L));
+        assertThat(searchResponse.getNumReducePhases(), equalTo(1));
+    }
+
+    public void testPartialAggregationsAreReducedOutsideOfTheLock() {
+        final AtomicReference<AsyncSearchTask> taskRef = new AtomicReference<>();
+        final AtomicInteger reductions = new AtomicInteger();
+        final AsyncSearchTask task = new AsyncSearchTask(randomNonNegativeLong(), "transport", SearchAction.NAME, () -> "description",
+            TaskId.EMPTY_TASK_ID, Collections.emptyMap(), UUIDs.randomBase64UUID(), false, 1000L, 2000L, System::currentTimeMillis,
+            () -> {
+                assertFalse(Thread.holdsLock(taskRef.get()));
+                reductions.incrementAndGet();
+                throw new IllegalStateException("reduction failed");
+            });
+        taskRef.set(task);
+        final List<SearchShard> shards = Collections.singletonList(new SearchShard(null, new ShardId("index", "_na_", 0)));
+        final SearchProgressListener listener = task.getProgressListener();
+        listener.notifyListShards(shards, Collections.emptyList(), SearchResponse.Clusters.EMPTY, false);
+        listener.notifyPartialReduce(shards, new TotalHits(1, TotalHits.Relation.EQUAL_TO), InternalAggregations.EMPTY, 1);
+
+        AsyncSearchResponse response = task.buildResponse("id");
+        assertThat(reductions.get(), equalTo(1));
+        assertNull(response.getSearchResponse().getAggregations());
+        // the outcome of the reduction is kept until the next partial reduce
+        task.buildResponse("id");
+        assertThat(reductions.get(), equalTo(1));
+        listener.notifyPartialReduce(shards, new TotalHits(1, TotalHits.Relation.EQUAL_TO), InternalAggregations.EMPTY, 2);
+        response = task.buildResponse("id");
+        assertThat(reductions.get(), equalTo(2));
+        assertThat(response.getSearchResponse().getNumReducePhases(), equalTo(2));
+    }
+
+    public void testSubmitResponseOfCompletedSearch() {
+        final boolean keepOnCompletion = randomBoolean();
+        final AsyncSearchTask task = createTask(keepOnCompletion);
+        assertThat(task.finish(emptySearchResponse(), null), equalTo(keepOnCompletion));
+        final AsyncSearchResponse response = task.buildSubmitResponse("id");
+        assertFalse(response.isRunning());
+        assertFalse(response.isPartial());
+        assertNotNull(response.getSearchResponse());
+        assertThat(response.getId(), equalTo(keepOnCompletion ? "id" : null));
+    }
+
+    public void testSubmitResponseOfRunningSearch() {
+        final AsyncSearchTask task = createTask(false);
+        final AsyncSearchResponse response = task.buildSubmitResponse("id");
+        assertTrue(response.isRunning());
+        assertThat(response.getId(), equalTo("id"));
+        // the id was returned so the result must be stored
+        assertTrue(task.finish(emptySearchResponse(), null));
+    }
+
+    public void testDeletedSearchIsNotStored() {
+        final AsyncSearchTask task = createTask(true);
+        task.buildSubmitResponse("id");
+        task.markDeleted();
+        assertFalse(task.finish(null, new IllegalStateException("cancelled")));
+        final AsyncSearchResponse response = task.buildResponse("id");
+        assertTrue(response.isPartial());
+        assertThat(response.getFailure(), instanceOf(IllegalStateException.class));
+    }
+
+    public void testCompletionListeners() throws InterruptedException {
+        final AsyncSearchTask task = createTask(false);
+        final AtomicInteger notified = new AtomicInteger();
+        final CountDownLatch timedOut = new CountDownLatch(1);
+        task.addCompletionListener(ActionListener.wrap(timedOut::countDown), TimeValue.timeValueMillis(10), threadPool);
+        task.addCompletionListener(ActionListener.wrap(notified::incrementAndGet), null, threadPool);
+        task.addCompletionListener(ActionListener.wrap(notified::incrementAndGet), TimeValue.timeValueHours(1), threadPool);
+        assertTrue(timedOut.await(10, TimeUnit.SECONDS));
+        assertThat(notified.get(), equalTo(0));
+
+        task.finish(emptySearchResponse(), null);
+        task.notifyCompletion();
+        assertThat(notified.get(), equalTo(2));
+
+        // listeners added after completion are notified immediately
+        task.addCompletionListener(ActionListener.wrap(notified::incrementAndGet), TimeValue.timeValueHours(1), threadPool);
+        assertThat(notified.get(), equalTo(3));
+    }
+
+    public void testResponseSerialization() throws IOException {
+        final AsyncSearchResponse response = new AsyncSearchResponse(randomBoolean() ? null : randomAlphaOfLength(10),
+            randomBoolean(), randomBoolean(), randomNonNegativeLong(), randomNonNegativeLong(),
+            randomBoolean() ? null : emptySearchResponse(), randomBoolean() ? null : new IllegalStateException("boom"));
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            response.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                final AsyncSearchResponse copy = new AsyncSearchResponse(in);
+                assertThat(copy.getId(), equalTo(response.getId()));
+                assertThat(copy.isPartial(), equalTo(response.isPartial()));
+                assertThat(copy.isRunning(), equalTo(response.isRunning()));
+                assertThat(copy.getStartTime(), equalTo(response.getStartTime()));
+                assertThat(copy.getExpirationTime(), equalTo(response.getExpirationTime()));
+                assertThat(copy.getSearchResponse() == null, equalTo(response.getSearchResponse() == null));
+                assertThat(copy.getFailure() == null, equalTo(response.getFailure() == null));
+                assertThat(copy.status(), equalTo(response.status()));
+            }
+        }
+    }
+
+    private static SearchResponse emptySearchResponse() {
+        return new SearchResponse(InternalSearchResponse.empty(), null, 1, 1, 0, 1L, ShardSearchFailure.EMPTY_ARRAY,
+            SearchResponse.Clusters.EMPTY);
+    }
+}
@@ -35,12 +35,21 @@ import org.apache.lucene.util.BytesRef;
 import org.opensearch.Version;
 import org.opensearch.action.ActionListener;
 import org.opensearch.action.OriginalIndices;
+import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.block.ClusterBlocks;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.routing.GroupShardsIterator;
 import org.opensearch.common.Strings;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.search.FieldBounds;
 import org.opensearch.search.SearchPhaseResult;
 import org.opensearch.search.SearchService;
 import org.opensearch.search.SearchShardTarget;
@@ -55,6 +64,7 @@ import org.opensearch.transport.Transport;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashSet;
@@ -65,6 +75,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 
@@ -113,7 +124,7 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
                     public void run() throws IOException {
                         result.set(iter);
                         latch.countDown();
-                    }}, SearchResponse.Clusters.EMPTY);
+                    }}, SearchResponse.Clusters.EMPTY, null);
 
         canMatchPhase.start();
         latch.await();
@@ -181,7 +192,7 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
                 public void run() throws IOException {
                     result.set(iter);
                     latch.countDown();
-                }}, SearchResponse.Clusters.EMPTY);
+                }}, SearchResponse.Clusters.EMPTY, null);
 
         canMatchPhase.start();
         latch.await();
@@ -287,7 +298,7 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
                         listener.onFailure(new Exception("failure"));
                     }
                 }
-            }, SearchResponse.Clusters.EMPTY);
+            }, SearchResponse.Clusters.EMPTY, null);
 
         canMatchPhase.start();
         latch.await();
@@ -349,7 +360,7 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
                         result.set(iter);
                         latch.countDown();
                     }
-                }, SearchResponse.Clusters.EMPTY);
+                }, SearchResponse.Clusters.EMPTY, null);
 
             canMatchPhase.start();
             latch.await();
@@ -426,7 +437,7 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
                         result.set(iter);
                         latch.countDown();
                     }
-                }, SearchResponse.Clusters.EMPTY);
+                }, SearchResponse.Clusters.EMPTY, null);
 
             canMatchPhase.start();
             latch.await();
@@ -438,4 +449,168 @@ public class CanMatchPreFilterSearchPhaseTests extends OpenSearchTestCase {
             assertThat(result.get().size(), equalTo(numShards));
         }
     }
+
+    public void testFieldBoundsCache() throws InterruptedException {
+        final Settings settings = Settings.EMPTY;
+        final CanMatchFieldBoundsCache cache = new CanMatchFieldBoundsCache(settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), System::nanoTime);
+        final ClusterState writeBlocked = indexState(1, true);
+        final AtomicInteger canMatchRequests = new AtomicInteger();
+
+        // the shards are asked and report the bounds of the field
+        GroupShardsIterator<SearchShardIterator> result = runCanMatchWithCache(cache, writeBlocked, 150, 100, 1, canMatchRequests);
+        assertThat(canMatchRequests.get(), equalTo(2));
+        assertTrue(result.get(0).skip());
+        assertFalse(result.get(1).skip());
+        assertThat(cache.count(), equalTo(2L));
+
+        // the cached bounds are used while the index has a write block
+        result = runCanMatchWithCache(cache, writeBlocked, 50, 100, 1, canMatchRequests);
+        assertThat(canMatchRequests.get(), equalTo(2));
+        assertFalse(result.get(0).skip());
+        assertFalse(result.get(1).skip());
+        result = runCanMatchWithCache(cache, writeBlocked, 250, 100, 1, canMatchRequests);
+        assertThat(canMatchRequests.get(), equalTo(2));
+        assertTrue(result.get(0).skip());
+        assertFalse(result.get(1).skip());
+
+        // but not once the index is writable
+        result = runCanMatchWithCache(cache, indexState(2, false), 250, 100, 1, canMatchRequests);
+        assertThat(canMatchRequests.get(), equalTo(4));
+        assertTrue(result.get(0).skip());
+        assertFalse(result.get(1).skip());
+        result = runCanMatchWithCache(cache, ClusterState.EMPTY_STATE, 250, 100, 1, canMatchRequests);
+        assertThat(canMatchRequests.get(), equalTo(6));
+    }
+
+    public void testFieldBoundsCacheAfterWriteBlockIsLiftedAndAddedAgain() throws InterruptedException {
+        final Settings settings = Settings.EMPTY;
+        final CanMatchFieldBoundsCache cache = new CanMatchFieldBoundsCache(settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), System::nanoTime);
+        final AtomicInteger canMatchRequests = new AtomicInteger();
+
+        // the bounds are cached while the index has a write block
+        GroupShardsIterator<SearchShardIterator> result = runCanMatchWithCache(cache, indexState(1, true), 250, 100, 1,
+            canMatchRequests);
+        assertThat(canMatchRequests.get(), equalTo(2));
+        assertTrue(result.get(0).skip());
+
+        // the block is lifted, documents are written to the first shard without it being searched, and the block is added again
+        result = runCanMatchWithCache(cache, indexState(3, true), 250, 300, 2, canMatchRequests);
+        assertThat(canMatchRequests.get(), equalTo(4));
+        assertFalse(result.get(0).skip());
+        assertFalse(result.get(1).skip());
+
+        // the new bounds are cached
+        result = runCanMatchWithCache(cache, indexState(3, true), 250, 300, 2, canMatchRequests);
+        assertThat(canMatchRequests.get(), equalTo(4));
+        assertFalse(result.get(0).skip());
+    }
+
+    public void testFieldBoundsCacheReplacesBoundsOfOtherReaders() {
+        final Settings settings = Settings.EMPTY;
+        final CanMatchFieldBoundsCache cache = new CanMatchFieldBoundsCache(settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), System::nanoTime);
+        final ShardId shardId = new ShardId("idx", "_na_", 0);
+        final List<RangeQueryBuilder> ranges = Arrays.asList(QueryBuilders.rangeQuery("a").gte(150),
+            QueryBuilders.rangeQuery("b").gte(150));
+
+        cache.put(shardId, Collections.singletonMap("a", new FieldBounds(new MinAndMax<>(0L, 100L), null, null)), 1, 1);
+        assertNull(cache.canMatch(shardId, ranges.subList(1, 2), true, 1, () -> 0L));
+        assertEquals(Boolean.FALSE, cache.canMatch(shardId, ranges, true, 1, () -> 0L));
+
+        // the bounds that were read from the same reader are merged
+        cache.put(shardId, Collections.singletonMap("b", new FieldBounds(new MinAndMax<>(0L, 200L), null, null)), 1, 1);
+        assertEquals(Boolean.TRUE, cache.canMatch(shardId, ranges.subList(1, 2), true, 1, () -> 0L));
+        assertThat(cache.count(), equalTo(2L));
+
+        // while the bounds of another reader replace all the bounds of the shard
+        cache.put(shardId, Collections.singletonMap("b", new FieldBounds(new MinAndMax<>(0L, 300L), null, null)), 1, 2);
+        assertNull(cache.canMatch(shardId, ranges, true, 1, () -> 0L));
+        assertThat(cache.count(), equalTo(1L));
+
+        // and the bounds are not used once the settings of the index changed
+        assertNull(cache.canMatch(shardId, ranges.subList(1, 2), true, 2, () -> 0L));
+        assertNull(cache.canMatch(shardId, ranges.subList(1, 2), false, 1, () -> 0L));
+    }
+
+    private static ClusterState indexState(long settingsVersion, boolean writeBlocked) {
+        final IndexMetadata indexMetadata = IndexMetadata.builder("idx")
+            .settings(Settings.builder()
+                .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                .put(IndexMetadata.INDEX_BLOCKS_WRITE_SETTING.getKey(), writeBlocked))
+            .numberOfShards(2)
+            .numberOfReplicas(1)
+            .settingsVersion(settingsVersion)
+            .build();
+        final ClusterBlocks.Builder blocks = ClusterBlocks.builder();
+        if (writeBlocked) {
+            blocks.addIndexBlock("idx", IndexMetadata.INDEX_WRITE_BLOCK);
+        }
+        return ClusterState.builder(ClusterName.DEFAULT)
+            .metadata(Metadata.builder().put(indexMetadata, false))
+            .blocks(blocks)
+            .build();
+    }
+
+    /**
+     * Runs the can_match phase with a range query on a field whose values are in [0, firstShardMax] on the first shard and in
+     * [200, 300] on the second one. The shards see the provided cluster state and search with readers of the provided version.
+     */
+    private GroupShardsIterator<SearchShardIterator> runCanMatchWithCache(CanMatchFieldBoundsCache cache, ClusterState clusterState,
+                                                                          long from, long firstShardMax, long readerVersion,
+                                                                          AtomicInteger canMatchRequests)
+            throws InterruptedException {
+        final TransportSearchAction.SearchTimeProvider timeProvider = new TransportSearchAction.SearchTimeProvider(0, System.nanoTime(),
+            System::nanoTime);
+        final Map<String, Transport.Connection> lookup = new ConcurrentHashMap<>();
+        final DiscoveryNode primaryNode = new DiscoveryNode("node_1", buildNewFakeTransportAddress(), Version.CURRENT);
+        final DiscoveryNode replicaNode = new DiscoveryNode("node_2", buildNewFakeTransportAddress(), Version.CURRENT);
+        lookup.put("node1", new SearchAsyncActionTests.MockConnection(primaryNode));
+        lookup.put("node2", new SearchAsyncActionTests.MockConnection(replicaNode));
+
+        final SearchTransportService searchTransportService = new SearchTransportService(null, null) {
+            @Override
+            public void sendCanMatch(Transport.Connection connection, ShardSearchRequest request, SearchTask task,
+                                     ActionListener<SearchService.CanMatchResponse> listener) {
+                canMatchRequests.incrementAndGet();
+                final MinAndMax<Long> minAndMax = request.shardId().id() == 0
+                    ? new MinAndMax<>(0L, firstShardMax) : new MinAndMax<>(200L, 300L);
+                final boolean canMatch = minAndMax.getMax() >= from;
+                final IndexMetadata indexMetadata = clusterState.metadata().index("idx");
+                final long settingsVersion = indexMetadata == null ? 1 : indexMetadata.getSettingsVersion();
+                new Thread(() -> listener.onResponse(new SearchService.CanMatchResponse(canMatch, null,
+                    Collections.singletonMap("num", new FieldBounds(minAndMax, null, null)), settingsVersion, readerVersion))).start();
+            }
+        };
+
+        final AtomicReference<GroupShardsIterator<SearchShardIterator>> result = new AtomicReference<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final GroupShardsIterator<SearchShardIterator> shardsIter = SearchAsyncActionTests.getShardsIter("idx",
+            new OriginalIndices(new String[]{"idx"}, SearchRequest.DEFAULT_INDICES_OPTIONS),
+            2, randomBoolean(), primaryNode, replicaNode);
+        final SearchRequest searchRequest = new SearchRequest();
+        searchRequest.allowPartialSearchResults(true);
+        searchRequest.source(new SearchSourceBuilder().query(QueryBuilders.boolQuery()
+            .filter(QueryBuilders.rangeQuery("num").gte(from))));
+
+        final CanMatchPreFilterSearchPhase canMatchPhase = new CanMatchPreFilterSearchPhase(logger,
+            searchTransportService,
+            (clusterAlias, node) -> lookup.get(node),
+            Collections.singletonMap("_na_", new AliasFilter(null, Strings.EMPTY_ARRAY)),
+            Collections.emptyMap(), Collections.emptyMap(), OpenSearchExecutors.newDirectExecutorService(),
+            searchRequest, null, shardsIter, timeProvider, clusterState, null,
+            (iter) -> new SearchPhase("test") {
+                @Override
+                public void run() {
+                    result.set(iter);
+                    latch.countDown();
+                }}, SearchResponse.Clusters.EMPTY, cache);
+
+        canMatchPhase.start();
+        latch.await();
+        assertEquals(0, result.get().get(0).shardId().id());
+        assertEquals(1, result.get().get(1).shardId().id());
+        return result.get();
+    }
 }
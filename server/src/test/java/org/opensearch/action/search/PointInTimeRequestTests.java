@@ -0,0 +1,70 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search;
+
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.IndicesOptions;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+public class PointInTimeRequestTests extends OpenSearchTestCase {
+
+    public void testOpenSerialization() throws IOException {
+        final OpenPointInTimeRequest request = new OpenPointInTimeRequest(generateRandomStringArray(5, 10, false, false),
+            IndicesOptions.fromOptions(randomBoolean(), randomBoolean(), randomBoolean(), randomBoolean()),
+            randomBoolean() ? null : TimeValue.timeValueMinutes(randomIntBetween(1, 60)),
+            randomBoolean() ? null : randomAlphaOfLength(5), randomBoolean() ? null : randomAlphaOfLength(5));
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            request.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                final OpenPointInTimeRequest copy = new OpenPointInTimeRequest(in);
+                assertArrayEquals(request.indices(), copy.indices());
+                assertThat(copy.indicesOptions(), equalTo(request.indicesOptions()));
+                assertThat(copy.keepAlive(), equalTo(request.keepAlive()));
+                assertThat(copy.routing(), equalTo(request.routing()));
+                assertThat(copy.preference(), equalTo(request.preference()));
+            }
+        }
+    }
+
+    public void testOpenValidation() {
+        final OpenPointInTimeRequest request = new OpenPointInTimeRequest(new String[0],
+            OpenPointInTimeRequest.DEFAULT_INDICES_OPTIONS, null, null, null);
+        final ActionRequestValidationException e = request.validate();
+        assertNotNull(e);
+        assertThat(e.validationErrors(), contains("[index] is not specified", "[keep_alive] is not specified"));
+
+        assertNull(new OpenPointInTimeRequest(new String[] { "index" }, OpenPointInTimeRequest.DEFAULT_INDICES_OPTIONS,
+            TimeValue.timeValueMinutes(1), null, null).validate());
+    }
+
+    public void testCloseFromXContent() throws IOException {
+        final String id = randomAlphaOfLength(20);
+        try (XContentParser parser = createParser(XContentFactory.jsonBuilder().startObject().field("id", id).endObject())) {
+            final ClosePointInTimeRequest request = ClosePointInTimeRequest.fromXContent(parser);
+            assertThat(request.getId(), equalTo(id));
+            assertNull(request.validate());
+        }
+    }
+
+    public void testCloseValidation() {
+        final ActionRequestValidationException e = new ClosePointInTimeRequest().validate();
+        assertNotNull(e);
+        assertThat(e.validationErrors(), contains("[id] of point in time must be provided"));
+    }
+}
@@ -41,6 +41,7 @@ import org.opensearch.cluster.routing.Murmur3HashFunction;
 import org.opensearch.cluster.routing.OperationRouting;
 import org.opensearch.cluster.routing.ShardIterator;
 import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.ShardRoutingState;
 import org.opensearch.cluster.routing.allocation.decider.AwarenessAllocationDecider;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
@@ -636,4 +637,23 @@ public class OperationRoutingTests extends OpenSearchTestCase {
         assertWarnings(IGNORE_AWARENESS_ATTRIBUTES_DEPRECATION_MESSAGE);
     }
 
+    public void testGetPrimaryShard() {
+        final OperationRouting opRouting =
+            new OperationRouting(Settings.EMPTY, new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        final String indexName = "test";
+        ClusterState state = ClusterStateCreationUtils.state(indexName, randomBoolean(),
+            randomFrom(ShardRoutingState.STARTED, ShardRoutingState.RELOCATING), ShardRoutingState.STARTED, ShardRoutingState.STARTED);
+        final ShardRouting primary = state.routingTable().index(indexName).shard(0).primaryShard();
+        ShardIterator it = opRouting.getPrimaryShard(state, indexName, 0);
+        assertThat(it.size(), equalTo(1));
+        assertThat(it.nextOrNull(), equalTo(primary));
+        it = opRouting.getPrimaryShard(state, indexName, randomAlphaOfLength(10), null);
+        assertThat(it.size(), equalTo(1));
+        assertThat(it.nextOrNull(), equalTo(primary));
+
+        state = ClusterStateCreationUtils.state(indexName, randomBoolean(),
+            randomFrom(ShardRoutingState.INITIALIZING, ShardRoutingState.UNASSIGNED), ShardRoutingState.UNASSIGNED);
+        assertThat(opRouting.getPrimaryShard(state, indexName, 0).size(), equalTo(0));
+        assertThat(opRouting.getPrimaryShard(state, indexName, randomAlphaOfLength(10), null).size(), equalTo(0));
+    }
 }
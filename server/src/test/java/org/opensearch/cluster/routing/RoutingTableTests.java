@@ -43,11 +43,18 @@ import org.opensearch.cluster.node.DiscoveryNodes.Builder;
 import org.opensearch.cluster.routing.allocation.AllocationService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.index.Index;
+import org.opensearch.index.IndexModule;
 import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.remote.RemoteSnapshotDirectoryFactory;
+import org.opensearch.repositories.IndexId;
+import org.opensearch.snapshots.Snapshot;
+import org.opensearch.snapshots.SnapshotId;
 import org.junit.Before;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.function.Predicate;
@@ -444,6 +451,33 @@ public class RoutingTableTests extends OpenSearchAllocationTestCase {
         }
     }
 
+    public void testAddAsRecoveryOfRemoteSnapshotIndex() {
+        final IndexMetadata.Builder indexMetadataBuilder = IndexMetadata.builder(TEST_INDEX_1)
+            .settings(Settings.builder()
+                .put(DEFAULT_SETTINGS)
+                .put(IndexModule.INDEX_STORE_TYPE_SETTING.getKey(), RemoteSnapshotDirectoryFactory.STORE_TYPE)
+                .put(IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY.getKey(), "repo")
+                .put(IndexSettings.SEARCHABLE_SNAPSHOT_ID_NAME.getKey(), "snap")
+                .put(IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID.getKey(), "snap-uuid")
+                .put(IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_ID.getKey(), "index-id"))
+            .numberOfShards(this.numberOfShards)
+            .numberOfReplicas(0);
+        for (int shard = 0; shard < this.numberOfShards; shard++) {
+            indexMetadataBuilder.putInSyncAllocationIds(shard, Collections.singleton("allocation-" + shard));
+        }
+        final RoutingTable routingTable = new RoutingTable.Builder().addAsRecovery(indexMetadataBuilder.build()).build();
+
+        for (IndexShardRoutingTable shardRoutingTable : routingTable.index(TEST_INDEX_1)) {
+            final ShardRouting primary = shardRoutingTable.primaryShard();
+            assertThat(primary.state(), equalTo(UNASSIGNED));
+            assertThat(primary.recoverySource().getType(), equalTo(RecoverySource.Type.SNAPSHOT));
+            final RecoverySource.SnapshotRecoverySource recoverySource = (RecoverySource.SnapshotRecoverySource) primary.recoverySource();
+            assertThat(recoverySource.restoreUUID(), equalTo(RecoverySource.SnapshotRecoverySource.NO_API_RESTORE_UUID));
+            assertThat(recoverySource.snapshot(), equalTo(new Snapshot("repo", new SnapshotId("snap", "snap-uuid"))));
+            assertThat(recoverySource.index(), equalTo(new IndexId(TEST_INDEX_1, "index-id")));
+        }
+    }
+
     /** reverse engineer the in sync aid based on the given indexRoutingTable **/
     public static IndexMetadata updateActiveAllocations(IndexRoutingTable indexRoutingTable, IndexMetadata indexMetadata) {
         IndexMetadata.Builder imdBuilder = IndexMetadata.builder(indexMetadata);
@@ -43,6 +43,7 @@ import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.RecoverySource;
 import org.opensearch.cluster.routing.RoutingNodes;
 import org.opensearch.cluster.routing.RoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
@@ -50,7 +51,11 @@ import org.opensearch.cluster.routing.allocation.command.AllocationCommands;
 import org.opensearch.cluster.routing.allocation.command.MoveAllocationCommand;
 import org.opensearch.cluster.routing.allocation.decider.ClusterRebalanceAllocationDecider;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.index.IndexModule;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.shard.ShardId;
+import org.opensearch.index.store.remote.RemoteSnapshotDirectoryFactory;
+import org.opensearch.snapshots.SnapshotShardSizeInfo;
 import org.opensearch.test.VersionUtils;
 
 import java.util.ArrayList;
@@ -234,6 +239,42 @@ public class FailedShardsRoutingTests extends OpenSearchAllocationTestCase {
         assertThat(clusterState.routingTable().index("test").shard(0).replicaShards().get(0).state(), equalTo(UNASSIGNED));
     }
 
+    public void testFailStartedRemoteSnapshotPrimaryRecoversFromSnapshot() {
+        AllocationService strategy = createAllocationService(Settings.EMPTY, () -> SnapshotShardSizeInfo.EMPTY);
+
+        Metadata metadata = Metadata.builder()
+                .put(IndexMetadata.builder("test").settings(settings(Version.CURRENT)
+                    .put(IndexModule.INDEX_STORE_TYPE_SETTING.getKey(), RemoteSnapshotDirectoryFactory.STORE_TYPE)
+                    .put(IndexSettings.SEARCHABLE_SNAPSHOT_REPOSITORY.getKey(), "repo")
+                    .put(IndexSettings.SEARCHABLE_SNAPSHOT_ID_NAME.getKey(), "snap")
+                    .put(IndexSettings.SEARCHABLE_SNAPSHOT_ID_UUID.getKey(), "snap-uuid")
+                    .put(IndexSettings.SEARCHABLE_SNAPSHOT_INDEX_ID.getKey(), "index-id"))
+                    .numberOfShards(1).numberOfReplicas(0))
+                .build();
+
+        RoutingTable initialRoutingTable = RoutingTable.builder()
+                .addAsNew(metadata.index("test"))
+                .build();
+
+        ClusterState clusterState = ClusterState.builder(CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .metadata(metadata).routingTable(initialRoutingTable)
+            .nodes(DiscoveryNodes.builder().add(newNode("node1"))).build();
+        clusterState = startInitializingShardsAndReroute(strategy, strategy.reroute(clusterState, "reroute"));
+        assertThat(clusterState.routingTable().index("test").shard(0).primaryShard().state(), equalTo(STARTED));
+
+        logger.info("fail the primary shard, it recovers from the snapshot instead of waiting for its store");
+        ShardRouting shardToFail = clusterState.routingTable().index("test").shard(0).primaryShard();
+        clusterState = strategy.applyFailedShard(clusterState, shardToFail, randomBoolean());
+
+        ShardRouting primary = clusterState.routingTable().index("test").shard(0).primaryShard();
+        assertThat(primary.state(), equalTo(UNASSIGNED));
+        assertThat(primary.recoverySource().getType(), equalTo(RecoverySource.Type.SNAPSHOT));
+        assertThat(((RecoverySource.SnapshotRecoverySource) primary.recoverySource()).restoreUUID(),
+            equalTo(RecoverySource.SnapshotRecoverySource.NO_API_RESTORE_UUID));
+        assertThat(((RecoverySource.SnapshotRecoverySource) primary.recoverySource()).snapshot().getSnapshotId().getUUID(),
+            equalTo("snap-uuid"));
+    }
+
     public void testFirstAllocationFailureSingleNode() {
         AllocationService strategy = createAllocationService(Settings.builder()
                 .put("cluster.routing.allocation.node_concurrent_recoveries", 10)
@@ -34,12 +34,14 @@ package org.opensearch.common.bytes;
 
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.ReleasableBytesStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
 import org.opensearch.common.util.ByteArray;
 import org.hamcrest.Matchers;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 
@@ -97,6 +99,31 @@ public class ReleasableBytesReferenceTests extends AbstractBytesReferenceTestCas
         return ReleasableBytesReference.wrap(delegate);
     }
 
+    public void testReadReleasableBytesReference() throws IOException {
+        final BytesStreamOutput out = new BytesStreamOutput();
+        final String prefix = randomAlphaOfLength(between(0, 10));
+        out.writeString(prefix);
+        final BytesReference content = new BytesArray(randomByteArrayOfLength(between(0, 100)));
+        out.writeBytesReference(content);
+        final long suffix = randomLong();
+        out.writeLong(suffix);
+
+        final AtomicBoolean released = new AtomicBoolean();
+        final ReleasableBytesReference reference = new ReleasableBytesReference(out.bytes(), () -> released.set(true));
+        final ReleasableBytesReference read;
+        try (StreamInput in = reference.streamInput()) {
+            assertEquals(prefix, in.readString());
+            read = in.readReleasableBytesReference();
+            assertEquals(suffix, in.readLong());
+        }
+        assertEquals(content, read);
+
+        reference.close();
+        assertEquals(content.length() == 0, released.get());
+        read.close();
+        assertTrue(released.get());
+    }
+
     @Override
     public void testToBytesRefSharedPage() throws IOException {
         // CompositeBytesReference doesn't share pages
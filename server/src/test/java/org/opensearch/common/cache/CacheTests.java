@@ -61,7 +61,10 @@ import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class CacheTests extends OpenSearchTestCase {
     private int numberOfEntries;
@@ -898,6 +901,7 @@ public class CacheTests extends OpenSearchTestCase {
                 CacheBuilder.<Integer, String>builder()
                         .setMaximumWeight(1000)
                         .weigher((k, v) -> 2)
+                        .setEvictionPolicy(randomFrom(Cache.EvictionPolicy.values()))
                         .build();
 
         CyclicBarrier barrier = new CyclicBarrier(1 + numberOfThreads);
@@ -927,6 +931,89 @@ public class CacheTests extends OpenSearchTestCase {
         assertEquals(500, cache.count());
     }
 
+    // interleave lookups of a few frequently used keys with keys that are used only once, the frequently used keys must
+    // stay in the cache with TINY_LFU while LRU evicts them all the time
+    public void testTinyLfuKeepsFrequentlyUsedEntries() throws ExecutionException {
+        final int hotKeys = 10;
+        final AtomicLong evictions = new AtomicLong();
+        Cache<Integer, String> cache =
+            CacheBuilder.<Integer, String>builder()
+                .setMaximumWeight(hotKeys)
+                .setEvictionPolicy(Cache.EvictionPolicy.TINY_LFU)
+                .removalListener(notification -> evictions.incrementAndGet())
+                .build();
+        assertEquals(Cache.EvictionPolicy.TINY_LFU, cache.getEvictionPolicy());
+        int hotHits = 0;
+        int hotLookups = 0;
+        for (int i = 0; i < numberOfEntries; i++) {
+            cache.put(hotKeys + i, Integer.toString(hotKeys + i));
+            for (int key = 0; key < hotKeys; key++) {
+                AtomicBoolean loaded = new AtomicBoolean();
+                cache.computeIfAbsent(key, k -> {
+                    loaded.set(true);
+                    return Integer.toString(k);
+                });
+                hotLookups++;
+                if (loaded.get() == false) {
+                    hotHits++;
+                }
+            }
+        }
+        cache.refresh();
+        assertEquals(hotKeys, cache.count());
+        assertThat("hit rate of frequently used keys is too low: " + hotHits + "/" + hotLookups,
+            (double) hotHits / hotLookups, greaterThan(0.9));
+        // the keys that are used once were refused or evicted
+        assertThat(evictions.get(), greaterThanOrEqualTo((long) numberOfEntries - hotKeys));
+    }
+
+    public void testTinyLfuConcurrentReads() throws BrokenBarrierException, InterruptedException {
+        final int numberOfThreads = randomIntBetween(2, 32);
+        final int maximumWeight = randomIntBetween(1, numberOfEntries);
+        final Cache<Integer, String> cache =
+            CacheBuilder.<Integer, String>builder()
+                .setMaximumWeight(maximumWeight)
+                .setEvictionPolicy(Cache.EvictionPolicy.TINY_LFU)
+                .build();
+        CyclicBarrier barrier = new CyclicBarrier(1 + numberOfThreads);
+        for (int i = 0; i < numberOfThreads; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    barrier.await();
+                    Random random = new Random(random().nextLong());
+                    for (int j = 0; j < numberOfEntries; j++) {
+                        Integer key = random.nextInt(numberOfEntries);
+                        String value = cache.get(key);
+                        if (value == null) {
+                            cache.put(key, Integer.toString(key));
+                        } else {
+                            assertEquals(Integer.toString(key), value);
+                        }
+                    }
+                    barrier.await();
+                } catch (BrokenBarrierException | InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            });
+            thread.start();
+        }
+
+        // wait for all threads to be ready
+        barrier.await();
+        // wait for all threads to finish
+        barrier.await();
+
+        cache.refresh();
+        assertThat(cache.count(), lessThanOrEqualTo(maximumWeight));
+        int keys = 0;
+        for (Integer key : cache.keys()) {
+            assertEquals(Integer.toString(key), cache.get(key));
+            keys++;
+        }
+        assertEquals(cache.count(), keys);
+        assertEquals(cache.count(), cache.weight());
+    }
+
     public void testRemoveUsingValuesIterator() {
         final List<RemovalNotification<Integer, String>> removalNotifications = new ArrayList<>();
         Cache<Integer, String> cache =
@@ -0,0 +1,130 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.compress;
+
+import org.apache.lucene.util.LineFileDocs;
+import org.apache.lucene.util.TestUtil;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.lessThan;
+
+public class Lz4CompressTests extends OpenSearchTestCase {
+
+    private final Compressor compressor = new Lz4Compressor();
+
+    public void testRandom() throws IOException {
+        Random r = random();
+        for (int i = 0; i < 10; i++) {
+            byte[] bytes = new byte[TestUtil.nextInt(r, 1, 300000)];
+            r.nextBytes(bytes);
+            doTest(bytes);
+        }
+    }
+
+    public void testLineDocs() throws IOException {
+        Random r = random();
+        LineFileDocs lineFileDocs = new LineFileDocs(r);
+        for (int i = 0; i < 10; i++) {
+            int numDocs = TestUtil.nextInt(r, 1, 200);
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            for (int j = 0; j < numDocs; j++) {
+                String s = lineFileDocs.nextDoc().get("body");
+                bos.write(s.getBytes(StandardCharsets.UTF_8));
+            }
+            doTest(bos.toByteArray());
+        }
+        lineFileDocs.close();
+    }
+
+    public void testRepetitionsCompress() throws IOException {
+        byte[] bytes = new byte[randomIntBetween(Lz4Compressor.BLOCK_SIZE, 4 * Lz4Compressor.BLOCK_SIZE)];
+        byte[] pattern = "{\"field\":\"value\"}".getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = pattern[i % pattern.length];
+        }
+        BytesReference compressed = compressor.compress(new BytesArray(bytes));
+        assertTrue(compressor.isCompressed(compressed));
+        assertFalse(CompressorFactory.COMPRESSOR.isCompressed(compressed));
+        assertThat(compressed.length(), lessThan(bytes.length / 10));
+        assertEquals(new BytesArray(bytes), compressor.uncompress(compressed));
+    }
+
+    public void testEmpty() throws IOException {
+        BytesReference compressed = compressor.compress(BytesArray.EMPTY);
+        assertEquals(compressor.headerLength() + Lz4Compressor.BLOCK_HEADER_SIZE, compressed.length());
+        assertEquals(0, compressor.uncompress(compressed).length());
+    }
+
+    public void testTruncatedStream() throws IOException {
+        byte[] bytes = new byte[randomIntBetween(1, 100000)];
+        random().nextBytes(bytes);
+        byte[] compressed = BytesReference.toBytes(compressor.compress(new BytesArray(bytes)));
+        byte[] truncated = Arrays.copyOf(compressed, randomIntBetween(compressor.headerLength(), compressed.length - 1));
+        expectThrows(EOFException.class, () -> compressor.uncompress(new BytesArray(truncated)));
+    }
+
+    public void testCorruptedBlockHeader() throws IOException {
+        byte[] bytes = new byte[randomIntBetween(1, 100000)];
+        random().nextBytes(bytes);
+        byte[] compressed = BytesReference.toBytes(compressor.compress(new BytesArray(bytes)));
+        // the decompressed length of the first block can't exceed the block size
+        compressed[compressor.headerLength()] = (byte) 0x7F;
+        IOException e = expectThrows(IOException.class, () -> compressor.uncompress(new BytesArray(compressed)));
+        assertThat(e.getMessage(), containsString("invalid LZ4 block header"));
+    }
+
+    public void testNotCompressed() {
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> compressor.threadLocalInputStream(new ByteArrayInputStream(new byte[] { 'D', 'F', 'L', '\0' })));
+        assertEquals("Input stream is not compressed with LZ4!", e.getMessage());
+    }
+
+    private void doTest(byte[] bytes) throws IOException {
+        final Random r = random();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (OutputStream os = compressor.threadLocalOutputStream(bos)) {
+            int offset = 0;
+            while (offset < bytes.length) {
+                if (r.nextInt(10) == 0) {
+                    os.write(bytes[offset++]);
+                } else {
+                    int len = Math.min(bytes.length - offset, TestUtil.nextInt(r, 1, 100000));
+                    os.write(bytes, offset, len);
+                    offset += len;
+                }
+                if (r.nextInt(20) == 0) {
+                    os.flush();
+                }
+            }
+        }
+
+        ByteArrayOutputStream uncompressedOut = new ByteArrayOutputStream();
+        try (InputStream in = compressor.threadLocalInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            byte[] buffer = new byte[TestUtil.nextInt(r, 1, 70000)];
+            int len;
+            while ((len = in.read(buffer, 0, buffer.length)) != -1) {
+                uncompressedOut.write(buffer, 0, len);
+            }
+        }
+        assertArrayEquals(bytes, uncompressedOut.toByteArray());
+    }
+}
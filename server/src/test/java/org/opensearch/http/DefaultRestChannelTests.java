@@ -243,6 +243,25 @@ public class DefaultRestChannelTests extends OpenSearchTestCase {
         // OpenSearchTestCase#after will invoke ensureAllArraysAreReleased which will fail if the response content was not released
     }
 
+    public void testResponseDiscardsUnconsumedChunkedContent() {
+        final Settings settings = Settings.EMPTY;
+        final HttpChunkedContent chunkedContent = mock(HttpChunkedContent.class);
+        final TestHttpRequest httpRequest = new TestHttpRequest(HttpRequest.HttpVersion.HTTP_1_1, RestRequest.Method.POST, "/") {
+            @Override
+            public HttpChunkedContent chunkedContent() {
+                return chunkedContent;
+            }
+        };
+        final RestRequest request = RestRequest.request(xContentRegistry(), httpRequest, httpChannel);
+        final DefaultRestChannel channel = new DefaultRestChannel(httpChannel, httpRequest, request, bigArrays,
+            HttpHandlingSettings.fromSettings(settings), threadPool.getThreadContext(), CorsHandler.fromSettings(settings), null);
+
+        // the handler rejected the request without starting to consume its body
+        channel.sendResponse(new TestRestResponse(RestStatus.BAD_REQUEST, BytesArray.EMPTY));
+        verify(chunkedContent).discard();
+        verify(httpChannel).sendResponse(any(), any());
+    }
+
     @SuppressWarnings("unchecked")
     public void testConnectionClose() throws Exception {
         final Settings settings = Settings.builder().build();
@@ -155,4 +155,38 @@ public class IndexingPressureTests extends OpenSearchTestCase {
         }
         assertEquals(0, indexingPressure.stats().getCurrentCoordinatingBytes());
     }
+
+    public void testHasCoordinatingCapacity() {
+        IndexingPressure indexingPressure = new IndexingPressure(settings);
+        assertTrue(indexingPressure.hasCoordinatingCapacity(1024 * 10));
+        assertFalse(indexingPressure.hasCoordinatingCapacity(1024 * 10 + 1));
+        try (Releasable coordinating = indexingPressure.markCoordinatingOperationStarted(1024 * 4, false);
+             Releasable replica = indexingPressure.markReplicaOperationStarted(1024 * 4, false)) {
+            assertTrue(indexingPressure.hasCoordinatingCapacity(1024 * 2));
+            assertFalse(indexingPressure.hasCoordinatingCapacity(1024 * 2 + 1));
+            // nothing is reserved
+            assertEquals(1024 * 4, indexingPressure.stats().getCurrentCoordinatingBytes());
+        }
+        assertTrue(indexingPressure.hasCoordinatingCapacity(1024 * 10));
+    }
+
+    public void testTryMarkPrimaryOperationStarted() {
+        IndexingPressure indexingPressure = new IndexingPressure(settings);
+        try (Releasable coordinating = indexingPressure.markCoordinatingOperationStarted(1024 * 4, false);
+             Releasable replica = indexingPressure.markReplicaOperationStarted(1024 * 4, false)) {
+            assertNull(indexingPressure.tryMarkPrimaryOperationStarted(1024 * 2 + 1));
+            assertEquals(0, indexingPressure.stats().getCurrentPrimaryBytes());
+            assertEquals(1024 * 4, indexingPressure.stats().getCurrentCombinedCoordinatingAndPrimaryBytes());
+            // not being able to account for the memory is not a rejection
+            assertEquals(0, indexingPressure.stats().getPrimaryRejections());
+            try (Releasable primary = indexingPressure.tryMarkPrimaryOperationStarted(1024 * 2)) {
+                assertNotNull(primary);
+                assertEquals(1024 * 2, indexingPressure.stats().getCurrentPrimaryBytes());
+                assertEquals(1024 * 6, indexingPressure.stats().getCurrentCombinedCoordinatingAndPrimaryBytes());
+            }
+        }
+        assertEquals(0, indexingPressure.stats().getCurrentPrimaryBytes());
+        assertEquals(0, indexingPressure.stats().getCurrentCombinedCoordinatingAndPrimaryBytes());
+        assertEquals(1024 * 2, indexingPressure.stats().getTotalPrimaryBytes());
+    }
 }
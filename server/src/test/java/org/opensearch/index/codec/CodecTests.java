@@ -39,6 +39,7 @@ import org.apache.lucene.codecs.lucene87.Lucene87Codec;
 import org.apache.lucene.codecs.lucene87.Lucene87StoredFieldsFormat;
 import org.apache.lucene.document.BinaryDocValuesField;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
@@ -50,6 +51,12 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.env.Environment;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.analysis.IndexAnalyzers;
+import org.opensearch.index.codec.customcodecs.Lucene87CustomCodec;
+import org.opensearch.index.codec.customcodecs.Lucene87CustomStoredFieldsFormat;
+import org.opensearch.index.codec.customcodecs.ZstdCodec;
+import org.opensearch.index.codec.customcodecs.ZstdNoDictCodec;
+import org.opensearch.index.engine.EngineConfig;
+import org.opensearch.index.mapper.IdFieldMapper;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.similarity.SimilarityService;
 import org.opensearch.indices.mapper.MapperRegistry;
@@ -61,6 +68,7 @@ import java.io.IOException;
 import java.util.Collections;
 
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.not;
 
 @SuppressCodecs("*") // we test against default codec so never get a random one here!
 public class CodecTests extends OpenSearchTestCase {
@@ -84,6 +92,36 @@ public class CodecTests extends OpenSearchTestCase {
         assertStoredFieldsFormatCompressionEquals(Lucene87StoredFieldsFormat.Mode.BEST_COMPRESSION, codec);
     }
 
+    public void testZstd() throws Exception {
+        Codec codec = createCodecService().codec("zstd");
+        assertThat(codec, instanceOf(ZstdCodec.class));
+        assertStoredFieldsCustomCompressionEquals(Lucene87CustomCodec.Mode.ZSTD, codec);
+    }
+
+    public void testZstdNoDict() throws Exception {
+        Codec codec = createCodecService().codec("zstd_no_dict");
+        assertThat(codec, instanceOf(ZstdNoDictCodec.class));
+        assertStoredFieldsCustomCompressionEquals(Lucene87CustomCodec.Mode.ZSTD_NO_DICT, codec);
+    }
+
+    public void testZstdCompressionLevel() throws Exception {
+        final boolean dict = randomBoolean();
+        Codec codec = createCodecService(Settings.builder()
+            .put(EngineConfig.INDEX_CODEC_COMPRESSION_LEVEL_SETTING.getKey(), randomIntBetween(1, 6))
+            .build()).codec(dict ? "zstd" : "zstd_no_dict");
+        assertStoredFieldsCustomCompressionEquals(dict ? Lucene87CustomCodec.Mode.ZSTD : Lucene87CustomCodec.Mode.ZSTD_NO_DICT, codec);
+    }
+
+    public void testIdBloomFilter() throws Exception {
+        PerFieldMappingPostingFormatCodec codec = (PerFieldMappingPostingFormatCodec) createCodecService().codec("default");
+        assertThat(codec.getPostingsFormatForField(IdFieldMapper.NAME), not(instanceOf(IdBloomFilterPostingsFormat.class)));
+
+        codec = (PerFieldMappingPostingFormatCodec) createCodecService(Settings.builder()
+            .put(IndexSettings.INDEX_ID_BLOOM_FILTER_ENABLED_SETTING.getKey(), true)
+            .build()).codec("default");
+        assertThat(codec.getPostingsFormatForField(IdFieldMapper.NAME), instanceOf(IdBloomFilterPostingsFormat.class));
+    }
+
     private void assertDVCompressionEquals(Lucene80DocValuesFormat.Mode expected, Codec actual) throws Exception {
         Directory dir = newDirectory();
         IndexWriterConfig iwc = newIndexWriterConfig(null);
@@ -121,9 +159,43 @@ public class CodecTests extends OpenSearchTestCase {
         dir.close();
     }
 
+    // write some docs with stored fields and read them back through the codec that the segment was written with
+    private void assertStoredFieldsCustomCompressionEquals(Lucene87CustomCodec.Mode expected, Codec actual) throws Exception {
+        Directory dir = newDirectory();
+        IndexWriterConfig iwc = newIndexWriterConfig(null);
+        iwc.setCodec(actual);
+        IndexWriter iw = new IndexWriter(dir, iwc);
+        final int numDocs = randomIntBetween(1, 200);
+        final String[] values = new String[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            values[i] = randomRealisticUnicodeOfLengthBetween(0, 500);
+            Document doc = new Document();
+            doc.add(new StoredField("foo", values[i]));
+            iw.addDocument(doc);
+        }
+        iw.commit();
+        iw.close();
+        DirectoryReader ir = DirectoryReader.open(dir);
+        SegmentReader sr = (SegmentReader) ir.leaves().get(0).reader();
+        assertEquals(expected.getCodec(), sr.getSegmentInfo().info.getCodec().getName());
+        String v = sr.getSegmentInfo().info.getAttribute(Lucene87CustomStoredFieldsFormat.MODE_KEY);
+        assertNotNull(v);
+        assertEquals(expected, Lucene87CustomCodec.Mode.valueOf(v));
+        for (int i = 0; i < numDocs; i++) {
+            assertEquals(values[i], sr.document(i).get("foo"));
+        }
+        ir.close();
+        dir.close();
+    }
+
     private CodecService createCodecService() throws IOException {
+        return createCodecService(Settings.EMPTY);
+    }
+
+    private CodecService createCodecService(Settings indexSettings) throws IOException {
         Settings nodeSettings = Settings.builder()
                 .put(Environment.PATH_HOME_SETTING.getKey(), createTempDir())
+                .put(indexSettings)
                 .build();
         IndexSettings settings = IndexSettingsModule.newIndexSettings("_na", nodeSettings);
         SimilarityService similarityService = new SimilarityService(settings, null, Collections.emptyMap());
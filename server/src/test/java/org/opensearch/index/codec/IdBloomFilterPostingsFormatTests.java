@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.codecs.PostingsFormat;
+import org.apache.lucene.codecs.lucene87.Lucene87Codec;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.LuceneTestCase.SuppressCodecs;
+import org.apache.lucene.util.TestUtil;
+import org.opensearch.common.hash.MurmurHash3;
+import org.opensearch.index.mapper.IdFieldMapper;
+import org.opensearch.index.mapper.Uid;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.lessThan;
+
+@SuppressCodecs("*") // we explicitly set the codec
+public class IdBloomFilterPostingsFormatTests extends OpenSearchTestCase {
+
+    public void testLookups() throws Exception {
+        final PostingsFormat bloomFilterFormat = new IdBloomFilterPostingsFormat();
+        final Codec codec = new Lucene87Codec() {
+            @Override
+            public PostingsFormat getPostingsFormatForField(String field) {
+                return IdFieldMapper.NAME.equals(field) ? bloomFilterFormat : super.getPostingsFormatForField(field);
+            }
+        };
+        final Set<String> ids = new HashSet<>();
+        try (Directory dir = newDirectory()) {
+            final IndexWriterConfig iwc = newIndexWriterConfig();
+            iwc.setCodec(codec);
+            try (IndexWriter writer = new IndexWriter(dir, iwc)) {
+                final int numDocs = randomIntBetween(1, 1000);
+                for (int i = 0; i < numDocs; i++) {
+                    final String id = randomAlphaOfLengthBetween(1, 10) + i;
+                    ids.add(id);
+                    final Document doc = new Document();
+                    doc.add(new StringField(IdFieldMapper.NAME, Uid.encodeId(id), Field.Store.NO));
+                    writer.addDocument(doc);
+                    if (rarely()) {
+                        writer.commit();
+                    }
+                }
+                if (randomBoolean()) {
+                    writer.forceMerge(1);
+                }
+                writer.commit();
+            }
+            // the index can be read back through the SPI
+            TestUtil.checkIndex(dir);
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                for (String id : ids) {
+                    int found = 0;
+                    for (LeafReaderContext leaf : reader.leaves()) {
+                        final Terms terms = leaf.reader().terms(IdFieldMapper.NAME);
+                        final TermsEnum termsEnum = terms.iterator();
+                        if (termsEnum.seekExact(Uid.encodeId(id))) {
+                            found++;
+                        }
+                    }
+                    assertEquals(1, found);
+                }
+                for (int i = 0; i < 100; i++) {
+                    final BytesRef missing = Uid.encodeId(randomAlphaOfLength(12) + "-missing");
+                    for (LeafReaderContext leaf : reader.leaves()) {
+                        assertFalse(leaf.reader().terms(IdFieldMapper.NAME).iterator().seekExact(missing));
+                    }
+                }
+            }
+        }
+    }
+
+    public void testFalsePositiveRate() {
+        final int numTerms = randomIntBetween(1000, 10000);
+        final IdBloomFilterPostingsFormat.BloomFilter filter = IdBloomFilterPostingsFormat.BloomFilter.create(numTerms);
+        final MurmurHash3.Hash128 hash = new MurmurHash3.Hash128();
+        for (int i = 0; i < numTerms; i++) {
+            filter.add(new BytesRef("present-" + i), hash);
+        }
+        for (int i = 0; i < numTerms; i++) {
+            assertTrue(filter.mightContain(new BytesRef("present-" + i), hash));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < numTerms; i++) {
+            if (filter.mightContain(new BytesRef("absent-" + i), hash)) {
+                falsePositives++;
+            }
+        }
+        // the expected false positive probability is below 1%
+        assertThat(falsePositives, lessThan(numTerms * 3 / 100));
+    }
+}
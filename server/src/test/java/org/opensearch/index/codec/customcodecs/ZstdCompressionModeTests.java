@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.codec.customcodecs;
+
+import org.apache.lucene.codecs.compressing.CompressionMode;
+import org.apache.lucene.codecs.compressing.Compressor;
+import org.apache.lucene.codecs.compressing.Decompressor;
+import org.apache.lucene.store.ByteArrayDataInput;
+import org.apache.lucene.store.ByteArrayDataOutput;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.lessThan;
+
+public class ZstdCompressionModeTests extends OpenSearchTestCase {
+
+    private CompressionMode randomMode() {
+        final int compressionLevel = randomIntBetween(1, 6);
+        return randomBoolean() ? new ZstdCompressionMode(compressionLevel) : new ZstdNoDictCompressionMode(compressionLevel);
+    }
+
+    public void testEmpty() throws IOException {
+        assertRoundTrip(randomMode(), new byte[0]);
+    }
+
+    public void testRandom() throws IOException {
+        final CompressionMode mode = randomMode();
+        for (int i = 0; i < 10; i++) {
+            assertRoundTrip(mode, randomByteArrayOfLength(randomIntBetween(1, 1 << 17)));
+        }
+    }
+
+    public void testRepetitive() throws IOException {
+        final CompressionMode mode = randomMode();
+        final StringBuilder builder = new StringBuilder();
+        final int numLines = randomIntBetween(1, 5000);
+        for (int i = 0; i < numLines; i++) {
+            builder.append("{\"@timestamp\":").append(randomNonNegativeLong()).append(",\"level\":\"")
+                .append(randomFrom("INFO", "WARN", "ERROR")).append("\",\"message\":\"").append(randomAlphaOfLength(10))
+                .append("\"}\n");
+        }
+        final byte[] bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        final byte[] compressed = compress(mode, bytes, 0, bytes.length);
+        assertThat(compressed.length, lessThan(bytes.length));
+        assertRoundTrip(mode, bytes);
+    }
+
+    public void testPartialDecompression() throws IOException {
+        final CompressionMode mode = randomMode();
+        final byte[] bytes = randomByteArrayOfLength(randomIntBetween(1, 1 << 17));
+        final int offset = randomIntBetween(0, bytes.length);
+        final int length = randomIntBetween(0, bytes.length - offset);
+        final byte[] compressed = compress(mode, bytes, 0, bytes.length);
+        final BytesRef restored = decompress(mode, compressed, bytes.length, offset, length);
+        assertArrayEquals(Arrays.copyOfRange(bytes, offset, offset + length),
+            Arrays.copyOfRange(restored.bytes, restored.offset, restored.offset + restored.length));
+    }
+
+    private static void assertRoundTrip(CompressionMode mode, byte[] bytes) throws IOException {
+        final int offset = randomIntBetween(0, 10);
+        final byte[] padded = new byte[offset + bytes.length + randomIntBetween(0, 10)];
+        System.arraycopy(bytes, 0, padded, offset, bytes.length);
+        final byte[] compressed = compress(mode, padded, offset, bytes.length);
+        final BytesRef restored = decompress(mode, compressed, bytes.length, 0, bytes.length);
+        assertArrayEquals(bytes, Arrays.copyOfRange(restored.bytes, restored.offset, restored.offset + restored.length));
+    }
+
+    private static byte[] compress(CompressionMode mode, byte[] bytes, int offset, int length) throws IOException {
+        final byte[] compressed = new byte[length * 2 + 64];
+        final ByteArrayDataOutput out = new ByteArrayDataOutput(compressed);
+        try (Compressor compressor = mode.newCompressor()) {
+            compressor.compress(bytes, offset, length, out);
+        }
+        return ArrayUtil.copyOfSubArray(compressed, 0, out.getPosition());
+    }
+
+    private static BytesRef decompress(CompressionMode mode, byte[] compressed, int originalLength, int offset, int length)
+        throws IOException {
+        final Decompressor decompressor = mode.newDecompressor();
+        final BytesRef bytes = new BytesRef();
+        decompressor.decompress(new ByteArrayDataInput(compressed), originalLength, offset, length, bytes);
+        assertEquals(length, bytes.length);
+        return bytes;
+    }
+}
@@ -114,6 +114,8 @@ public class LiveVersionMapTests extends OpenSearchTestCase {
         }
         map.beforeRefresh();
         assertThat(map.getRefreshingBytes(), greaterThan(0L));
+        // the new map is sized for the refreshing one but is empty
+        assertThat(map.ramBytesUsedForRefresh(), equalTo(0L));
         map.afterRefresh(true);
         assertThat(map.getRefreshingBytes(), equalTo(0L));
     }
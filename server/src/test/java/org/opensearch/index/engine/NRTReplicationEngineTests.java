@@ -0,0 +1,133 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.engine;
+
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.IOContext;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.mapper.ParsedDocument;
+import org.opensearch.index.seqno.SequenceNumbers;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class NRTReplicationEngineTests extends EngineTestCase {
+
+    public void testOperationsAreOnlyWrittenToTheTranslog() throws Exception {
+        IOUtils.close(replicaEngine);
+        final AtomicLong globalCheckpoint = new AtomicLong(SequenceNumbers.NO_OPS_PERFORMED);
+        try (NRTReplicationEngine nrtEngine = createNRTEngine(globalCheckpoint)) {
+            final int numDocs = indexOnPrimaryAndReplica(nrtEngine, scaledRandomIntBetween(10, 100));
+            assertVisibleCount(nrtEngine, 0);
+            assertThat(nrtEngine.getProcessedLocalCheckpoint(), equalTo(engine.getProcessedLocalCheckpoint()));
+            assertThat(nrtEngine.getTranslogStats().getUncommittedOperations(), equalTo(numDocs));
+        }
+    }
+
+    public void testUpdateSegments() throws Exception {
+        IOUtils.close(replicaEngine);
+        final AtomicLong globalCheckpoint = new AtomicLong(SequenceNumbers.NO_OPS_PERFORMED);
+        try (NRTReplicationEngine nrtEngine = createNRTEngine(globalCheckpoint)) {
+            int numDocs = indexOnPrimaryAndReplica(nrtEngine, scaledRandomIntBetween(10, 100));
+            engine.refresh("test");
+            copySegments(nrtEngine);
+            assertVisibleCount(nrtEngine, numDocs, false);
+            assertThat(getDocIds(nrtEngine, false), equalTo(getDocIds(engine, false)));
+
+            numDocs += indexOnPrimaryAndReplica(nrtEngine, scaledRandomIntBetween(10, 100));
+            engine.flush(true, true);
+            engine.forceMerge(true, 1, false, false, false, null);
+            copySegments(nrtEngine);
+            assertVisibleCount(nrtEngine, numDocs, false);
+            assertThat(getDocIds(nrtEngine, false), equalTo(getDocIds(engine, false)));
+            // the primary committed, so the copied segments were committed and the translog of the replica was trimmed
+            assertThat(nrtEngine.getTranslogStats().getUncommittedOperations(), equalTo(0));
+            final SegmentInfos lastCommit = nrtEngine.getLastCommittedSegmentInfos();
+            assertThat(Long.parseLong(lastCommit.getUserData().get(SequenceNumbers.LOCAL_CHECKPOINT_KEY)),
+                equalTo(engine.getProcessedLocalCheckpoint()));
+            // the files that are not referenced by the commit or the reader of the replica anymore are deleted
+            final Set<String> referencedFiles = new HashSet<>(lastCommit.files(true));
+            referencedFiles.addAll(currentFiles(nrtEngine));
+            for (String file : storeReplica.directory().listAll()) {
+                if (file.equals("write.lock") == false && file.startsWith("extra") == false) {
+                    assertTrue("unreferenced file [" + file + "]", referencedFiles.contains(file));
+                }
+            }
+        }
+        // the replica restarts from the copied segments
+        try (NRTReplicationEngine nrtEngine = createNRTEngine(globalCheckpoint)) {
+            assertThat(getDocIds(nrtEngine, false), equalTo(getDocIds(engine, false)));
+        }
+    }
+
+    public void testFlushCommitsTheLatestSegments() throws Exception {
+        IOUtils.close(replicaEngine);
+        final AtomicLong globalCheckpoint = new AtomicLong(SequenceNumbers.NO_OPS_PERFORMED);
+        final List<DocIdSeqNoAndSource> docIds;
+        try (NRTReplicationEngine nrtEngine = createNRTEngine(globalCheckpoint)) {
+            indexOnPrimaryAndReplica(nrtEngine, scaledRandomIntBetween(10, 100));
+            engine.flush(true, true);
+            copySegments(nrtEngine);
+            indexOnPrimaryAndReplica(nrtEngine, scaledRandomIntBetween(10, 100));
+            engine.refresh("test");
+            copySegments(nrtEngine);
+            docIds = getDocIds(nrtEngine, false);
+            nrtEngine.flush(false, true);
+            final SegmentInfos lastCommit = Lucene.readSegmentInfos(storeReplica.directory());
+            assertThat(Long.parseLong(lastCommit.getUserData().get(SequenceNumbers.LOCAL_CHECKPOINT_KEY)),
+                equalTo(engine.getProcessedLocalCheckpoint()));
+        }
+        try (NRTReplicationEngine nrtEngine = createNRTEngine(globalCheckpoint)) {
+            assertThat(getDocIds(nrtEngine, false), equalTo(docIds));
+        }
+    }
+
+    private NRTReplicationEngine createNRTEngine(AtomicLong globalCheckpoint) {
+        return new NRTReplicationEngine(config(defaultSettings, storeReplica, replicaTranslogDir, newMergePolicy(), null, null,
+            globalCheckpoint::get));
+    }
+
+    private int indexOnPrimaryAndReplica(NRTReplicationEngine nrtEngine, int numDocs) throws IOException {
+        for (int i = 0; i < numDocs; i++) {
+            final ParsedDocument doc = testParsedDocument(randomAlphaOfLength(10), null, testDocument(), new BytesArray("{}"), null);
+            final Engine.IndexResult result = engine.index(indexForDoc(doc));
+            nrtEngine.index(replicaIndexForDoc(doc, result.getVersion(), result.getSeqNo(), false));
+        }
+        return numDocs;
+    }
+
+    private static Set<String> currentFiles(NRTReplicationEngine nrtEngine) throws IOException {
+        try (Engine.SegmentInfosRef segmentInfosRef = nrtEngine.acquireLatestSegmentInfos()) {
+            return new HashSet<>(segmentInfosRef.getSegmentInfos().files(false));
+        }
+    }
+
+    /**
+     * Copies the files of the segments that are searchable on the primary to the replica, like segment replication does.
+     */
+    private void copySegments(NRTReplicationEngine nrtEngine) throws IOException {
+        try (Engine.SegmentInfosRef segmentInfosRef = engine.acquireLatestSegmentInfos()) {
+            final SegmentInfos infos = segmentInfosRef.getSegmentInfos();
+            final Set<String> replicaFiles = new HashSet<>(Arrays.asList(storeReplica.directory().listAll()));
+            for (String file : infos.files(false)) {
+                if (replicaFiles.contains(file) == false) {
+                    storeReplica.directory().copyFrom(store.directory(), file, file, IOContext.DEFAULT);
+                }
+            }
+            nrtEngine.updateSegments(infos, segmentInfosRef.getCheckpoint());
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageTester;
+import org.apache.lucene.util.TestUtil;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+
+public class PackedVersionMapTests extends OpenSearchTestCase {
+
+    public void testRandomOperations() {
+        final PackedVersionMap map = new PackedVersionMap(randomIntBetween(0, 1000));
+        final Map<BytesRef, VersionValue> expected = new HashMap<>();
+        final List<BytesRef> uids = new ArrayList<>();
+        final int numUids = randomIntBetween(1, 5000);
+        for (int i = 0; i < numUids; i++) {
+            uids.add(new BytesRef(TestUtil.randomSimpleString(random(), 1, 20)));
+        }
+        final int numOps = randomIntBetween(1, 20000);
+        for (int i = 0; i < numOps; i++) {
+            final BytesRef uid = randomFrom(uids);
+            if (randomInt(3) == 0) {
+                assertEquals(expected.remove(uid), map.remove(uid));
+            } else {
+                final VersionValue value = randomVersionValue();
+                assertEquals(expected.put(uid, value), map.put(uid, value));
+            }
+            if (rarely()) {
+                assertMapsEqual(expected, map);
+            }
+        }
+        assertMapsEqual(expected, map);
+
+        for (BytesRef uid : uids) {
+            assertEquals(expected.remove(uid), map.remove(uid));
+        }
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.ramBytesUsed());
+    }
+
+    public void testKeysAreCopied() {
+        final PackedVersionMap map = new PackedVersionMap();
+        final byte[] bytes = new byte[] { 0, 'a', 'b', 'c', 0 };
+        final VersionValue value = randomVersionValue();
+        map.put(new BytesRef(bytes, 1, 3), value);
+        assertEquals(value, map.get(new BytesRef("abc")));
+        bytes[1] = 'x';
+        assertEquals(value, map.get(new BytesRef("abc")));
+        assertNull(map.get(new BytesRef("xbc")));
+    }
+
+    public void testForEachAllowsModifications() {
+        final PackedVersionMap map = new PackedVersionMap();
+        final int numUids = randomIntBetween(1, 1000);
+        for (int i = 0; i < numUids; i++) {
+            map.put(new BytesRef("uid-" + i), randomVersionValue());
+        }
+        final Map<BytesRef, VersionValue> snapshot = map.snapshot();
+        assertEquals(numUids, snapshot.size());
+        map.forEach((uid, value) -> assertEquals(value, map.remove(uid)));
+        assertTrue(map.isEmpty());
+        assertTrue(map.snapshot().isEmpty());
+    }
+
+    public void testRamBytesUsed() {
+        final PackedVersionMap map = new PackedVersionMap();
+        assertEquals(0, map.ramBytesUsed());
+        final int numUids = randomIntBetween(1000, 10000);
+        for (int i = 0; i < numUids; i++) {
+            map.put(new BytesRef(TestUtil.randomSimpleString(random(), 10, 20)), randomVersionValue());
+        }
+        final long actualRamBytesUsed = RamUsageTester.sizeOf(map);
+        // the estimate only misses the shallow size of the map and its array of segments
+        assertEquals(actualRamBytesUsed, map.ramBytesUsed(), actualRamBytesUsed / 100);
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.ramBytesUsed());
+    }
+
+    public void testExpectedSizeIsAllocatedLazily() {
+        final PackedVersionMap map = new PackedVersionMap(randomIntBetween(1000, 10000));
+        assertEquals(0, map.ramBytesUsed());
+        assertEquals(0, map.ramBytesUsedByEntries());
+        final VersionValue value = randomVersionValue();
+        map.put(new BytesRef("uid"), value);
+        assertEquals(value, map.get(new BytesRef("uid")));
+        // only the segment of the entry is sized for the expected entries, and only the entry counts as used
+        assertThat(map.ramBytesUsed(), greaterThan(map.ramBytesUsedByEntries()));
+        assertThat(map.ramBytesUsedByEntries(), greaterThan(0L));
+        assertThat(map.ramBytesUsedByEntries(), lessThan(1024L));
+        map.remove(new BytesRef("uid"));
+        assertEquals(0, map.ramBytesUsed());
+        assertEquals(0, map.ramBytesUsedByEntries());
+    }
+
+    public void testEmptyIsImmutable() {
+        final PackedVersionMap map = PackedVersionMap.EMPTY;
+        final BytesRef uid = new BytesRef("uid");
+        expectThrows(UnsupportedOperationException.class, () -> map.put(uid, randomVersionValue()));
+        expectThrows(UnsupportedOperationException.class, () -> map.remove(uid));
+        expectThrows(UnsupportedOperationException.class, map::clear);
+        assertNull(map.get(uid));
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.ramBytesUsed());
+    }
+
+    public void testConcurrentGetAndPut() throws Exception {
+        final PackedVersionMap map = new PackedVersionMap();
+        final int numWriters = randomIntBetween(1, 4);
+        final int numReaders = randomIntBetween(1, 4);
+        final int numUidsPerWriter = randomIntBetween(100, 2000);
+        final int numVersions = randomIntBetween(2, 20);
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        final CountDownLatch startGun = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        final AtomicInteger remainingWriters = new AtomicInteger(numWriters);
+        for (int w = 0; w < numWriters; w++) {
+            final int writer = w;
+            threads.add(new Thread(() -> {
+                try {
+                    startGun.await();
+                    // every round adds entries, so that readers race with resizes, and then updates the existing ones
+                    for (int version = 1; version <= numVersions; version++) {
+                        for (int i = 0; i < numUidsPerWriter; i++) {
+                            map.put(new BytesRef(writer + "-" + i), consistentValue(version));
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                } finally {
+                    if (remainingWriters.decrementAndGet() == 0) {
+                        writing.set(false);
+                    }
+                }
+            }));
+        }
+        for (int r = 0; r < numReaders; r++) {
+            final Random random = new Random(randomLong());
+            threads.add(new Thread(() -> {
+                final Map<BytesRef, Long> lastSeen = new HashMap<>();
+                try {
+                    startGun.await();
+                    do {
+                        final BytesRef uid = new BytesRef(random.nextInt(numWriters) + "-" + random.nextInt(numUidsPerWriter));
+                        final VersionValue value = map.get(uid);
+                        if (value != null) {
+                            assertEquals(consistentValue(value.version), value);
+                            final Long previous = lastSeen.put(uid, value.version);
+                            assertTrue("versions must not go back in time", previous == null || previous <= value.version);
+                        }
+                    } while (writing.get());
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+            }));
+        }
+        final List<Throwable> failures = new CopyOnWriteArrayList<>();
+        for (Thread thread : threads) {
+            thread.setUncaughtExceptionHandler((t, e) -> failures.add(e));
+            thread.start();
+        }
+        startGun.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(Collections.emptyList(), failures);
+        assertEquals(numWriters * numUidsPerWriter, map.size());
+        for (int w = 0; w < numWriters; w++) {
+            for (int i = 0; i < numUidsPerWriter; i++) {
+                assertEquals(consistentValue(numVersions), map.get(new BytesRef(w + "-" + i)));
+            }
+        }
+    }
+
+    /**
+     * A value whose fields are all derived from the version, so that a value that is read while it is written can be detected.
+     */
+    private static VersionValue consistentValue(long version) {
+        if (version % 3 == 0) {
+            return new DeleteVersionValue(version, version, version, version);
+        }
+        final Translog.Location location = version % 3 == 1 ? new Translog.Location(version, version, (int) version) : null;
+        return new IndexVersionValue(location, version, version, version);
+    }
+
+    private static void assertMapsEqual(Map<BytesRef, VersionValue> expected, PackedVersionMap map) {
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected.isEmpty(), map.isEmpty());
+        assertEquals(expected, map.snapshot());
+        for (Map.Entry<BytesRef, VersionValue> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+    }
+
+    private VersionValue randomVersionValue() {
+        final long version = randomNonNegativeLong();
+        final long seqNo = randomNonNegativeLong();
+        final long term = randomNonNegativeLong();
+        switch (randomInt(2)) {
+            case 0:
+                return new DeleteVersionValue(version, seqNo, term, randomNonNegativeLong());
+            case 1:
+                return new IndexVersionValue(null, version, seqNo, term);
+            default:
+                final Translog.Location location = new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(),
+                    randomIntBetween(0, Integer.MAX_VALUE));
+                return new IndexVersionValue(location, version, seqNo, term);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.merge;
+
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.equalTo;
+
+public class AdaptiveMergeThrottleTests extends OpenSearchTestCase {
+
+    public void testBacksOffAndRecovers() {
+        final AtomicReference<AdaptiveMergeThrottle.DeviceLoad> deviceLoad =
+            new AtomicReference<>(new AdaptiveMergeThrottle.DeviceLoad(1, 1));
+        final AtomicInteger searchQueue = new AtomicInteger();
+        final Settings settings = Settings.builder()
+            .put(AdaptiveMergeThrottle.ENABLED_SETTING.getKey(), true)
+            .put(AdaptiveMergeThrottle.DEVICE_LATENCY_THRESHOLD_SETTING.getKey(), "10ms")
+            .put(AdaptiveMergeThrottle.DEVICE_QUEUE_THRESHOLD_SETTING.getKey(), 4.0)
+            .put(AdaptiveMergeThrottle.SEARCH_QUEUE_THRESHOLD_SETTING.getKey(), 10)
+            .put(AdaptiveMergeThrottle.MIN_FACTOR_SETTING.getKey(), 0.2)
+            .build();
+        final AdaptiveMergeThrottle throttle = new AdaptiveMergeThrottle(settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), null, deviceLoad::get, searchQueue::get);
+        final List<Tuple<Double, Double>> changes = new ArrayList<>();
+        final AdaptiveMergeThrottle.Listener listener = (previous, factor) -> changes.add(Tuple.tuple(previous, factor));
+        throttle.addListener(listener);
+
+        throttle.doRun();
+        assertThat(throttle.throttleFactor(), equalTo(1.0));
+        assertThat(changes.size(), equalTo(0));
+
+        deviceLoad.set(new AdaptiveMergeThrottle.DeviceLoad(15, 1));
+        throttle.doRun();
+        assertThat(throttle.throttleFactor(), equalTo(0.5));
+        assertThat(changes, equalTo(Collections.singletonList(Tuple.tuple(1.0, 0.5))));
+
+        deviceLoad.set(new AdaptiveMergeThrottle.DeviceLoad(1, 6));
+        throttle.doRun();
+        assertThat(throttle.throttleFactor(), equalTo(0.25));
+
+        // the factor never goes below the minimum
+        deviceLoad.set(null);
+        searchQueue.set(20);
+        throttle.doRun();
+        assertThat(throttle.throttleFactor(), equalTo(0.2));
+        throttle.doRun();
+        assertThat(throttle.throttleFactor(), equalTo(0.2));
+        assertThat(changes.size(), equalTo(3));
+
+        searchQueue.set(0);
+        for (int i = 1; i <= 6; i++) {
+            throttle.doRun();
+            assertThat(throttle.throttleFactor(), closeTo(0.2 + i * AdaptiveMergeThrottle.RECOVERY_STEP, 0.0001));
+        }
+        throttle.doRun();
+        assertThat(throttle.throttleFactor(), equalTo(1.0));
+
+        throttle.removeListener(listener);
+        searchQueue.set(20);
+        final int notified = changes.size();
+        throttle.doRun();
+        assertThat(throttle.throttleFactor(), equalTo(0.5));
+        assertThat(changes.size(), equalTo(notified));
+    }
+
+    public void testDisablingResetsFactor() {
+        final Settings settings = Settings.builder().put(AdaptiveMergeThrottle.ENABLED_SETTING.getKey(), true).build();
+        final ClusterSettings clusterSettings = new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        final AdaptiveMergeThrottle throttle = new AdaptiveMergeThrottle(settings, clusterSettings, null,
+            () -> new AdaptiveMergeThrottle.DeviceLoad(100, 100), () -> 0);
+        throttle.doRun();
+        assertThat(throttle.throttleFactor(), equalTo(0.5));
+
+        clusterSettings.applySettings(Settings.builder().put(AdaptiveMergeThrottle.ENABLED_SETTING.getKey(), false).build());
+        throttle.doRun();
+        assertThat(throttle.throttleFactor(), equalTo(1.0));
+    }
+
+    public void testDiskStatsLoad() {
+        final Set<Tuple<Integer, Integer>> devices = Collections.singleton(Tuple.tuple(8, 0));
+        final AdaptiveMergeThrottle.DiskStats previous = AdaptiveMergeThrottle.DiskStats.parse(Arrays.asList(
+            "   8       0 sda 1000 10 8000 2000 500 20 4000 3000 0 4000 5000 0 0 0 0",
+            "   8       1 sda1 900 10 7000 1800 400 20 3000 2000 0 3000 4000 0 0 0 0"), devices, 0);
+        final AdaptiveMergeThrottle.DiskStats current = AdaptiveMergeThrottle.DiskStats.parse(Arrays.asList(
+            "   8       0 sda 1100 10 8800 2600 600 20 4800 4400 2 4900 7000 0 0 0 0",
+            "   8       1 sda1 950 10 7400 2100 450 20 3400 2500 1 3400 5000 0 0 0 0",
+            "   8      16 sdb"), devices, TimeUnit.SECONDS.toNanos(1));
+        final AdaptiveMergeThrottle.DeviceLoad load = current.loadSince(previous);
+        // 200 operations took 600ms of reads and 1400ms of writes
+        assertThat(load.latencyMillis, closeTo(10.0, 0.0001));
+        // 2000ms of weighted time over one second
+        assertThat(load.queueDepth, closeTo(2.0, 0.0001));
+
+        final AdaptiveMergeThrottle.DeviceLoad idle = previous.loadSince(previous);
+        assertThat(idle.latencyMillis, equalTo(0.0));
+        assertThat(idle.queueDepth, equalTo(0.0));
+    }
+}
@@ -1640,6 +1640,41 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testApplyPreParsedIndexOperation() throws IOException {
+        final IndexShard shard = newStartedShard(true);
+        final SourceToParse source = new SourceToParse(shard.shardId().getIndexName(), "_doc", "1", new BytesArray("{}"),
+            XContentType.JSON);
+        final PreParsedDocument preParsedDocument = shard.preParseIndexOperation(source);
+        assertNotNull(preParsedDocument);
+        Engine.IndexResult result = shard.applyIndexOperationOnPrimary(Versions.MATCH_ANY, VersionType.INTERNAL, source,
+            UNASSIGNED_SEQ_NO, 0, IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP, false, preParsedDocument);
+        assertThat(result.getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+
+        // a document that was parsed before the mapping changed is parsed again
+        final SourceToParse sourceWithNewField = new SourceToParse(shard.shardId().getIndexName(), "_doc", "2",
+            new BytesArray("{\"foo\":\"bar\"}"), XContentType.JSON);
+        final PreParsedDocument documentWithNewField = shard.preParseIndexOperation(sourceWithNewField);
+        assertNotNull(documentWithNewField);
+        result = shard.applyIndexOperationOnPrimary(Versions.MATCH_ANY, VersionType.INTERNAL, sourceWithNewField,
+            UNASSIGNED_SEQ_NO, 0, IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP, false, documentWithNewField);
+        assertThat(result.getResultType(), equalTo(Engine.Result.Type.MAPPING_UPDATE_REQUIRED));
+        updateMappings(shard, IndexMetadata.builder(shard.indexSettings().getIndexMetadata())
+            .putMapping("_doc", result.getRequiredMappingUpdate().toString()).build());
+        result = shard.applyIndexOperationOnPrimary(Versions.MATCH_ANY, VersionType.INTERNAL, sourceWithNewField,
+            UNASSIGNED_SEQ_NO, 0, IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP, false, documentWithNewField);
+        assertThat(result.getResultType(), equalTo(Engine.Result.Type.SUCCESS));
+
+        // documents that fail to parse are reported when the operation is applied
+        final SourceToParse invalidSource = new SourceToParse(shard.shardId().getIndexName(), "_doc", "3",
+            new BytesArray("{\"foo\":"), XContentType.JSON);
+        assertNull(shard.preParseIndexOperation(invalidSource));
+        result = shard.applyIndexOperationOnPrimary(Versions.MATCH_ANY, VersionType.INTERNAL, invalidSource,
+            UNASSIGNED_SEQ_NO, 0, IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP, false, null);
+        assertThat(result.getResultType(), equalTo(Engine.Result.Type.FAILURE));
+        assertThat(result.getFailure(), instanceOf(MapperParsingException.class));
+        closeShards(shard);
+    }
+
     public void testIndexingOperationsListeners() throws IOException {
         IndexShard shard = newStartedShard(true);
         indexDoc(shard, "_doc", "0", "{\"foo\" : \"bar\"}");
@@ -94,6 +94,7 @@ import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -101,6 +102,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static java.util.Collections.unmodifiableMap;
 import static org.opensearch.test.VersionUtils.randomVersion;
@@ -493,6 +495,29 @@ public class StoreTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSegmentReplicationDiff() {
+        final Map<String, StoreFileMetadata> source = new HashMap<>();
+        source.put("_0.si", new StoreFileMetadata("_0.si", 10, "a", MIN_SUPPORTED_LUCENE_VERSION));
+        source.put("_0.cfs", new StoreFileMetadata("_0.cfs", 100, "b", MIN_SUPPORTED_LUCENE_VERSION));
+        source.put("_0_1.liv", new StoreFileMetadata("_0_1.liv", 5, "c", MIN_SUPPORTED_LUCENE_VERSION));
+        source.put("_1.si", new StoreFileMetadata("_1.si", 10, "d", MIN_SUPPORTED_LUCENE_VERSION));
+        final Map<String, StoreFileMetadata> target = new HashMap<>();
+        target.put("_0.si", new StoreFileMetadata("_0.si", 10, "a", MIN_SUPPORTED_LUCENE_VERSION));
+        target.put("_0.cfs", new StoreFileMetadata("_0.cfs", 100, "b", MIN_SUPPORTED_LUCENE_VERSION));
+        target.put("_1.si", new StoreFileMetadata("_1.si", 10, "e", MIN_SUPPORTED_LUCENE_VERSION));
+        target.put("_2.si", new StoreFileMetadata("_2.si", 10, "f", MIN_SUPPORTED_LUCENE_VERSION));
+
+        final Store.RecoveryDiff diff = new Store.MetadataSnapshot(source, Collections.emptyMap(), 0)
+            .segmentReplicationDiff(new Store.MetadataSnapshot(target, Collections.emptyMap(), 0));
+        // unlike the recovery diff, the new live docs of segment _0 don't force the other files of the segment to be copied again
+        assertThat(diff.identical.stream().map(StoreFileMetadata::name).sorted().collect(Collectors.toList()),
+            equalTo(Arrays.asList("_0.cfs", "_0.si")));
+        assertThat(diff.missing.stream().map(StoreFileMetadata::name).collect(Collectors.toList()),
+            equalTo(Collections.singletonList("_0_1.liv")));
+        assertThat(diff.different.stream().map(StoreFileMetadata::name).collect(Collectors.toList()),
+            equalTo(Collections.singletonList("_1.si")));
+    }
+
     public void testRecoveryDiff() throws IOException, InterruptedException {
         int numDocs = 2 + random().nextInt(100);
         List<Document> docs = new ArrayList<>();
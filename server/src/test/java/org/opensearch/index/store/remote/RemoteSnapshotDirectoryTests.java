@@ -0,0 +1,195 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote;
+
+import org.apache.lucene.codecs.CodecUtil;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexFileNames;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.Version;
+import org.opensearch.common.blobstore.BlobContainer;
+import org.opensearch.common.blobstore.BlobPath;
+import org.opensearch.common.blobstore.fs.FsBlobStore;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
+import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.FileInfo;
+import org.opensearch.index.store.Store;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class RemoteSnapshotDirectoryTests extends OpenSearchTestCase {
+
+    public void testReadIndexFromSnapshot() throws Exception {
+        final int numDocs = randomIntBetween(50, 500);
+        final Map<String, byte[]> contents = new HashMap<>();
+        final BlobContainer container = new FsBlobStore(randomIntBetween(1, 8) * 1024, createTempDir(), false)
+            .blobContainer(BlobPath.cleanPath().add("indices").add("0"));
+        final BlobStoreIndexShardSnapshot snapshot = snapshotIndex(numDocs, container, contents);
+
+        // a cache that holds a few blocks only so that blocks are evicted while the index is read
+        final int blockSize = 4096;
+        final int maxBlocks = randomIntBetween(1, 4);
+        final Path cachePath = createTempDir().resolve(RemoteSnapshotBlockCache.CACHE_FOLDER);
+        try (RemoteSnapshotBlockCache blockCache = new RemoteSnapshotBlockCache(Settings.builder()
+                .put(RemoteSnapshotBlockCache.SIZE_SETTING.getKey(), new ByteSizeValue(blockSize * 4L))
+                .put(RemoteSnapshotBlockCache.BLOCK_SIZE_SETTING.getKey(), new ByteSizeValue(blockSize))
+                .put(RemoteSnapshotBlockCache.MAX_BLOCKS_SETTING.getKey(), maxBlocks)
+                .build(), cachePath);
+             Directory directory = new RemoteSnapshotDirectory(container, blockCache, () -> snapshot)) {
+
+            assertThat(directory.listAll(), arrayContainingInAnyOrder(contents.keySet().toArray(new String[0])));
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                assertThat(reader.numDocs(), equalTo(numDocs));
+                final IndexSearcher searcher = new IndexSearcher(reader);
+                final int id = randomIntBetween(0, numDocs - 1);
+                assertThat(searcher.count(new TermQuery(new Term("id", Integer.toString(id)))), equalTo(1));
+                assertThat(searcher.count(new TermQuery(new Term("body", "even"))), equalTo((numDocs + 1) / 2));
+            }
+
+            for (Map.Entry<String, byte[]> file : contents.entrySet()) {
+                final byte[] expected = file.getValue();
+                assertThat(directory.fileLength(file.getKey()), equalTo((long) expected.length));
+                try (IndexInput input = directory.openInput(file.getKey(), IOContext.DEFAULT)) {
+                    assertSameContent(expected, 0, input, blockSize * 3);
+                    final int sliceOffset = randomIntBetween(0, expected.length);
+                    final int sliceLength = randomIntBetween(0, expected.length - sliceOffset);
+                    final IndexInput slice = input.slice("slice", sliceOffset, sliceLength);
+                    assertSameContent(expected, sliceOffset, slice.clone(), blockSize * 3);
+                    if (sliceLength > 0) {
+                        final int position = randomIntBetween(0, sliceLength - 1);
+                        slice.seek(position);
+                        assertThat(slice.readByte(), equalTo(expected[sliceOffset + position]));
+                    }
+                }
+            }
+            assertThat(blockCache.count(), greaterThan(0));
+            assertThat(blockCache.count(), lessThanOrEqualTo(maxBlocks));
+            // the files of evicted blocks are deleted
+            blockCache.processPendingDeletes();
+            try (Stream<Path> files = Files.list(cachePath)) {
+                assertThat(files.count(), equalTo((long) blockCache.count()));
+            }
+        }
+    }
+
+    public void testDirectoryIsReadOnly() throws Exception {
+        final BlobContainer container = new FsBlobStore(randomIntBetween(1, 8) * 1024, createTempDir(), false)
+            .blobContainer(BlobPath.cleanPath());
+        final Map<String, byte[]> contents = new HashMap<>();
+        final BlobStoreIndexShardSnapshot snapshot = snapshotIndex(randomIntBetween(1, 10), container, contents);
+        try (RemoteSnapshotBlockCache blockCache = new RemoteSnapshotBlockCache(Settings.EMPTY, createTempDir());
+             Directory directory = new RemoteSnapshotDirectory(container, blockCache, () -> snapshot)) {
+            final String file = randomFrom(contents.keySet());
+            expectThrows(UnsupportedOperationException.class, () -> directory.createOutput("new_file", IOContext.DEFAULT));
+            expectThrows(UnsupportedOperationException.class, () -> directory.deleteFile(file));
+            expectThrows(UnsupportedOperationException.class, () -> directory.rename(file, "new_file"));
+            expectThrows(NoSuchFileException.class, () -> directory.openInput("missing", IOContext.DEFAULT));
+        }
+    }
+
+    private static void assertSameContent(byte[] expected, int offset, IndexInput input, int maxReadLength) throws IOException {
+        final byte[] actual = new byte[Math.toIntExact(input.length())];
+        int position = 0;
+        while (position < actual.length) {
+            if (randomBoolean()) {
+                actual[position++] = input.readByte();
+            } else {
+                final int length = randomIntBetween(0, Math.min(actual.length - position, maxReadLength));
+                input.readBytes(actual, position, length);
+                position += length;
+            }
+        }
+        assertArrayEquals(Arrays.copyOfRange(expected, offset, offset + actual.length), actual);
+    }
+
+    /**
+     * Writes an index to a local directory and uploads its files to the given container the way a snapshot does.
+     */
+    private BlobStoreIndexShardSnapshot snapshotIndex(int numDocs, BlobContainer container, Map<String, byte[]> contents)
+        throws IOException {
+        try (Directory directory = FSDirectory.open(createTempDir())) {
+            try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig().setUseCompoundFile(randomBoolean()))) {
+                for (int i = 0; i < numDocs; i++) {
+                    final Document document = new Document();
+                    document.add(new StringField("id", Integer.toString(i), Field.Store.YES));
+                    document.add(new TextField("body", (i % 2 == 0 ? "even " : "odd ") + randomAlphaOfLength(100), Field.Store.YES));
+                    writer.addDocument(document);
+                    if (rarely()) {
+                        writer.flush();
+                    }
+                }
+                writer.commit();
+            }
+            final List<FileInfo> files = new ArrayList<>();
+            for (String name : directory.listAll()) {
+                if (name.equals(IndexWriter.WRITE_LOCK_NAME)) {
+                    continue;
+                }
+                final byte[] content;
+                final String checksum;
+                try (IndexInput input = directory.openInput(name, IOContext.READONCE)) {
+                    content = new byte[Math.toIntExact(input.length())];
+                    input.readBytes(content, 0, content.length);
+                    checksum = Store.digestToString(CodecUtil.retrieveChecksum(input));
+                }
+                contents.put(name, content);
+                if (name.startsWith(IndexFileNames.SEGMENTS)) {
+                    // small files are stored in the snapshot's metadata rather than as blobs
+                    files.add(new FileInfo("v__" + randomAlphaOfLength(10),
+                        new StoreFileMetadata(name, content.length, checksum, Version.LATEST, new BytesRef(content)), null));
+                } else {
+                    final ByteSizeValue partSize = randomBoolean() ? null : new ByteSizeValue(randomIntBetween(1, 16), ByteSizeUnit.KB);
+                    final FileInfo fileInfo = new FileInfo("__" + randomAlphaOfLength(10),
+                        new StoreFileMetadata(name, content.length, checksum, Version.LATEST), partSize);
+                    long position = 0;
+                    for (int part = 0; part < fileInfo.numberOfParts(); part++) {
+                        final int partBytes = Math.toIntExact(fileInfo.partBytes(part));
+                        container.writeBlob(fileInfo.partName(part),
+                            new BytesArray(content, Math.toIntExact(position), partBytes).streamInput(), partBytes, true);
+                        position += partBytes;
+                    }
+                    files.add(fileInfo);
+                }
+            }
+            return new BlobStoreIndexShardSnapshot("snapshot", 0L, files, 0L, 0L, files.size(), 0L);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.opensearch.common.CheckedConsumer;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+
+public class TranslogSyncCoordinatorTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+
+    @Before
+    public void setUpThreadPool() {
+        threadPool = new TestThreadPool(getTestName());
+    }
+
+    @After
+    public void tearDownThreadPool() {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+    }
+
+    public void testSyncsAllLocations() throws Exception {
+        final TranslogSyncCoordinator coordinator = newCoordinator(Collections.emptyMap());
+        final Path dataPath = createTempDir();
+        final int numShards = randomIntBetween(1, 8);
+        final AtomicInteger[] syncedPerShard = new AtomicInteger[numShards];
+        @SuppressWarnings("unchecked")
+        final CheckedConsumer<List<Translog.Location>, IOException>[] syncers = new CheckedConsumer[numShards];
+        final TranslogSyncCoordinator.WaveStats[] waveStats = new TranslogSyncCoordinator.WaveStats[numShards];
+        for (int i = 0; i < numShards; i++) {
+            waveStats[i] = new TranslogSyncCoordinator.WaveStats();
+            final AtomicInteger synced = syncedPerShard[i] = new AtomicInteger();
+            syncers[i] = locations -> synced.addAndGet(locations.size());
+        }
+        final int numThreads = randomIntBetween(1, 8);
+        final int syncsPerThread = randomIntBetween(1, 200);
+        final AtomicInteger notified = new AtomicInteger();
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final Thread[] threads = new Thread[numThreads];
+        for (int t = 0; t < numThreads; t++) {
+            final int[] shards = new int[syncsPerThread];
+            for (int i = 0; i < syncsPerThread; i++) {
+                shards[i] = randomIntBetween(0, numShards - 1);
+            }
+            threads[t] = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                for (int i = 0; i < syncsPerThread; i++) {
+                    coordinator.sync(dataPath, syncers[shards[i]], waveStats[shards[i]], new Translog.Location(1, i, 1), e -> {
+                        if (e != null) {
+                            failure.set(e);
+                        }
+                        notified.incrementAndGet();
+                    });
+                }
+            });
+            threads[t].start();
+        }
+        startLatch.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertBusy(() -> assertThat(notified.get(), equalTo(numThreads * syncsPerThread)));
+        assertThat(failure.get(), nullValue());
+        int totalSynced = 0;
+        for (AtomicInteger synced : syncedPerShard) {
+            totalSynced += synced.get();
+        }
+        assertThat(totalSynced, equalTo(numThreads * syncsPerThread));
+        assertThat(coordinator.getSyncedLocations(), equalTo((long) numThreads * syncsPerThread));
+        assertThat(coordinator.getWaveCount(), lessThanOrEqualTo(coordinator.getSyncedLocations()));
+    }
+
+    public void testFailureOnlyFailsSyncsOfTheSameShard() throws Exception {
+        final TranslogSyncCoordinator coordinator = newCoordinator(Collections.emptyMap());
+        final Path dataPath = createTempDir();
+        final CountDownLatch waveStarted = new CountDownLatch(1);
+        final CountDownLatch releaseWave = new CountDownLatch(1);
+        final CheckedConsumer<List<Translog.Location>, IOException> blockingSyncer = locations -> {
+            waveStarted.countDown();
+            try {
+                releaseWave.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        };
+        final AtomicInteger okSynced = new AtomicInteger();
+        final CheckedConsumer<List<Translog.Location>, IOException> okSyncer = locations -> okSynced.addAndGet(locations.size());
+        final CheckedConsumer<List<Translog.Location>, IOException> failingSyncer = locations -> {
+            throw new IOException("disk is gone");
+        };
+
+        // the first sync is processed by the calling thread, which blocks so that the next syncs are queued into a single wave
+        final Thread worker = new Thread(() -> coordinator.sync(dataPath, blockingSyncer, new TranslogSyncCoordinator.WaveStats(),
+            new Translog.Location(1, 0, 1), e -> {}));
+        worker.start();
+        assertTrue(waveStarted.await(10, TimeUnit.SECONDS));
+
+        final TranslogSyncCoordinator.WaveStats okWaveStats = new TranslogSyncCoordinator.WaveStats();
+        final AtomicReference<Exception> okResult = new AtomicReference<>();
+        final AtomicReference<Exception> failingResult = new AtomicReference<>();
+        final CountDownLatch done = new CountDownLatch(3);
+        coordinator.sync(dataPath, okSyncer, okWaveStats, new Translog.Location(1, 1, 1), e -> {
+            okResult.set(e);
+            done.countDown();
+        });
+        coordinator.sync(dataPath, failingSyncer, new TranslogSyncCoordinator.WaveStats(), new Translog.Location(1, 2, 1), e -> {
+            failingResult.set(e);
+            done.countDown();
+        });
+        coordinator.sync(dataPath, okSyncer, okWaveStats, new Translog.Location(1, 3, 1), e -> done.countDown());
+        releaseWave.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        worker.join();
+
+        assertThat(okResult.get(), nullValue());
+        assertThat(failingResult.get(), instanceOf(IOException.class));
+        assertThat(okSynced.get(), equalTo(2));
+        assertThat(coordinator.getWaveCount(), equalTo(2L));
+        assertThat(coordinator.getSyncedLocations(), equalTo(4L));
+        // both syncs of the ok shard were part of the second wave, which also synced the failing shard
+        assertThat(okWaveStats.getWaves(), equalTo(1L));
+        assertThat(okWaveStats.getWaveShards(), equalTo(2L));
+    }
+
+    public void testSyncsShardsOfAWaveConcurrently() throws Exception {
+        final TranslogSyncCoordinator coordinator = newCoordinator(Collections.emptyMap());
+        final Path dataPath = createTempDir();
+        final CountDownLatch waveStarted = new CountDownLatch(1);
+        final CountDownLatch releaseWave = new CountDownLatch(1);
+        final CheckedConsumer<List<Translog.Location>, IOException> blockingSyncer = locations -> {
+            waveStarted.countDown();
+            awaitLatch(releaseWave);
+        };
+        final Thread worker = new Thread(() -> coordinator.sync(dataPath, blockingSyncer, new TranslogSyncCoordinator.WaveStats(),
+            new Translog.Location(1, 0, 1), e -> {}));
+        worker.start();
+        assertTrue(waveStarted.await(10, TimeUnit.SECONDS));
+
+        // each shard of the next wave only completes its sync once both of them started, which requires concurrent syncs,
+        // the flush thread pool has at least one thread on top of the calling one
+        final int numShards = 2;
+        final CountDownLatch allStarted = new CountDownLatch(numShards);
+        final CountDownLatch done = new CountDownLatch(numShards);
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        final AtomicInteger synced = new AtomicInteger();
+        for (int i = 0; i < numShards; i++) {
+            final CheckedConsumer<List<Translog.Location>, IOException> syncer = locations -> {
+                allStarted.countDown();
+                awaitLatch(allStarted);
+                synced.addAndGet(locations.size());
+            };
+            coordinator.sync(dataPath, syncer, new TranslogSyncCoordinator.WaveStats(), new Translog.Location(1, i + 1, 1), e -> {
+                if (e != null) {
+                    failure.set(e);
+                }
+                done.countDown();
+            });
+        }
+        releaseWave.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        worker.join();
+        assertThat(failure.get(), nullValue());
+        assertThat(synced.get(), equalTo(numShards));
+        assertThat(coordinator.getWaveCount(), equalTo(2L));
+    }
+
+    public void testGroupsDataPathsByDevice() throws Exception {
+        final Path firstDataPath = createTempDir();
+        final Path secondDataPath = createTempDir();
+        final Map<Path, Object> devices = new HashMap<>();
+        devices.put(firstDataPath, "device");
+        devices.put(secondDataPath, "device");
+        final TranslogSyncCoordinator coordinator = newCoordinator(devices);
+
+        final CountDownLatch waveStarted = new CountDownLatch(1);
+        final CountDownLatch releaseWave = new CountDownLatch(1);
+        final CheckedConsumer<List<Translog.Location>, IOException> blockingSyncer = locations -> {
+            waveStarted.countDown();
+            awaitLatch(releaseWave);
+        };
+        final Thread worker = new Thread(() -> coordinator.sync(firstDataPath, blockingSyncer, new TranslogSyncCoordinator.WaveStats(),
+            new Translog.Location(1, 0, 1), e -> {}));
+        worker.start();
+        assertTrue(waveStarted.await(10, TimeUnit.SECONDS));
+
+        final TranslogSyncCoordinator.WaveStats firstWaveStats = new TranslogSyncCoordinator.WaveStats();
+        final TranslogSyncCoordinator.WaveStats secondWaveStats = new TranslogSyncCoordinator.WaveStats();
+        final CountDownLatch done = new CountDownLatch(2);
+        coordinator.sync(firstDataPath, locations -> {}, firstWaveStats, new Translog.Location(1, 1, 1), e -> done.countDown());
+        coordinator.sync(secondDataPath, locations -> {}, secondWaveStats, new Translog.Location(1, 1, 1), e -> done.countDown());
+        releaseWave.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        worker.join();
+
+        // the syncs of both data paths were queued behind the first wave and synced in a single one
+        assertThat(coordinator.getWaveCount(), equalTo(2L));
+        assertThat(firstWaveStats.getWaves(), equalTo(1L));
+        assertThat(firstWaveStats.getWaveShards(), equalTo(2L));
+        assertThat(secondWaveStats.getWaveShards(), equalTo(2L));
+    }
+
+    private TranslogSyncCoordinator newCoordinator(Map<Path, Object> devices) {
+        return new TranslogSyncCoordinator(threadPool.getThreadContext(), threadPool.executor(ThreadPool.Names.FLUSH), devices);
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -500,7 +500,8 @@ public class TranslogTests extends OpenSearchTestCase {
                 builder.endObject();
                 assertThat(Strings.toString(builder), equalTo("{\"translog\":{\"operations\":4,\"size_in_bytes\":" + 355
                     + ",\"uncommitted_operations\":4,\"uncommitted_size_in_bytes\":" + 300
-                    + ",\"earliest_last_modified_age\":" + stats.getEarliestLastModifiedAge() + "}}"));
+                    + ",\"earliest_last_modified_age\":" + stats.getEarliestLastModifiedAge()
+                    + ",\"sync\":{\"total\":0,\"locations\":0,\"total_time_in_millis\":0}}}"));
             }
         }
         translog.getDeletionPolicy().setLocalCheckpointOfSafeCommit(randomLongBetween(3, Long.MAX_VALUE));
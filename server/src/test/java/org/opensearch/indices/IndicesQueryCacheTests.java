@@ -33,6 +33,7 @@
 package org.opensearch.indices;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.IntPoint;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.LeafReaderContext;
@@ -187,6 +188,98 @@ public class IndicesQueryCacheTests extends OpenSearchTestCase {
         cache.close(); // this triggers some assertions
     }
 
+    public void testBuildCosts() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig());
+        w.addDocument(new Document());
+        DirectoryReader r = DirectoryReader.open(w);
+        w.close();
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+        IndexSearcher s = new IndexSearcher(r);
+        s.setQueryCachingPolicy(alwaysCachePolicy());
+
+        Settings settings = Settings.builder()
+                .put(IndicesQueryCache.INDICES_CACHE_QUERY_COUNT_SETTING.getKey(), 100)
+                .put(IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.getKey(), true)
+                .put(IndicesQueryCache.INDICES_QUERIES_CACHE_MIN_BUILD_COST_SETTING.getKey(), "1h")
+                .build();
+        IndicesQueryCache cache = new IndicesQueryCache(settings);
+        s.setQueryCache(cache);
+
+        // the cost of a query type is unknown until it was built enough times
+        for (int i = 0; i < CostAwareQueryCacheAdmissionPolicy.MIN_BUILD_COST_SAMPLES; ++i) {
+            assertEquals(1, s.count(new DummyQuery(i)));
+        }
+
+        QueryCacheStats stats = cache.getStats(shard);
+        assertEquals(CostAwareQueryCacheAdmissionPolicy.MIN_BUILD_COST_SAMPLES, stats.getCacheSize());
+        assertEquals(CostAwareQueryCacheAdmissionPolicy.MIN_BUILD_COST_SAMPLES, stats.getMissCount());
+        assertEquals(1, stats.getBuildCosts().size());
+        QueryCacheStats.BuildCost buildCost = stats.getBuildCosts().get("DummyQuery");
+        assertNotNull(buildCost);
+        assertEquals(CostAwareQueryCacheAdmissionPolicy.MIN_BUILD_COST_SAMPLES, buildCost.getCount());
+        assertEquals(CostAwareQueryCacheAdmissionPolicy.MIN_BUILD_COST_SAMPLES, buildCost.getDocCount());
+
+        // now it is known to be cheaper than the minimum build cost, so the cache is bypassed
+        assertEquals(1, s.count(new DummyQuery(0)));
+        assertEquals(1, s.count(new DummyQuery(CostAwareQueryCacheAdmissionPolicy.MIN_BUILD_COST_SAMPLES)));
+
+        stats = cache.getStats(shard);
+        assertEquals(CostAwareQueryCacheAdmissionPolicy.MIN_BUILD_COST_SAMPLES, stats.getCacheSize());
+        assertEquals(0L, stats.getHitCount());
+        assertEquals(CostAwareQueryCacheAdmissionPolicy.MIN_BUILD_COST_SAMPLES, stats.getMissCount());
+        assertEquals(CostAwareQueryCacheAdmissionPolicy.MIN_BUILD_COST_SAMPLES, stats.getBuildCosts().get("DummyQuery").getCount());
+
+        IOUtils.close(r, dir);
+        cache.onClose(shard);
+        cache.close();
+    }
+
+    public void testAdmissionPolicy() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig());
+        w.addDocument(new Document());
+        DirectoryReader r = DirectoryReader.open(w);
+        w.close();
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+        IndexSearcher s = new IndexSearcher(r);
+        s.setQueryCachingPolicy(alwaysCachePolicy());
+
+        Settings settings = Settings.builder()
+                .put(IndicesQueryCache.INDICES_CACHE_QUERY_COUNT_SETTING.getKey(), 100)
+                .put(IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.getKey(), true)
+                .build();
+        IndicesQueryCache cache = new IndicesQueryCache(settings, (queryType, buildCost, context) -> false);
+        s.setQueryCache(cache);
+
+        for (int i = 1; i < IndicesQueryCache.RESAMPLE_INTERVAL; ++i) {
+            assertEquals(1, s.count(new DummyQuery(i)));
+        }
+        QueryCacheStats stats = cache.getStats(shard);
+        assertEquals(0L, stats.getCacheSize());
+        assertEquals(0L, stats.getMissCount());
+        assertTrue(stats.getBuildCosts().isEmpty());
+
+        // rejected query types still go through the cache every now and then so that their cost keeps being measured
+        assertEquals(1, s.count(new DummyQuery(IndicesQueryCache.RESAMPLE_INTERVAL)));
+        stats = cache.getStats(shard);
+        assertEquals(1L, stats.getCacheSize());
+        assertEquals(1L, stats.getMissCount());
+        assertEquals(1L, stats.getBuildCosts().get("DummyQuery").getCount());
+
+        IOUtils.close(r, dir);
+        cache.onClose(shard);
+        cache.close();
+    }
+
+    public void testQueryType() {
+        assertEquals("DummyQuery", IndicesQueryCache.queryType(new DummyQuery(0)));
+        assertEquals("MatchAllDocsQuery", IndicesQueryCache.queryType(new MatchAllDocsQuery()));
+        assertEquals("PointRangeQuery", IndicesQueryCache.queryType(IntPoint.newRangeQuery("field", 0, 10)));
+    }
+
     public void testTwoShards() throws IOException {
         Directory dir1 = newDirectory();
         IndexWriter w1 = new IndexWriter(dir1, newIndexWriterConfig());
@@ -61,8 +61,13 @@ import org.opensearch.index.shard.ShardId;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 public class IndicesRequestCacheTests extends OpenSearchTestCase {
 
@@ -287,6 +292,93 @@ public class IndicesRequestCacheTests extends OpenSearchTestCase {
         IOUtils.close(reader, secondReader, thirdReader, writer, dir, cache);
     }
 
+    public void testDiskTier() throws Exception {
+        final ByteSizeValue size;
+        {
+            IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
+            ShardRequestCache requestCacheStats = new ShardRequestCache();
+            Directory dir = newDirectory();
+            IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+            writer.addDocument(newDoc(0, "foo"));
+            DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+            BytesReference termBytes = XContentHelper.toXContent(new TermQueryBuilder("id", "0"), XContentType.JSON, false);
+            cache.getOrCompute(new TestEntity(requestCacheStats, new AtomicBoolean(true)), new Loader(reader, 0), reader, termBytes);
+            size = requestCacheStats.stats().getMemorySize();
+            IOUtils.close(reader, writer, dir, cache);
+        }
+        // the heap tier can only hold a single entry
+        Path diskTierPath = createTempDir();
+        // the files of removed disk entries are only deleted once the deletion tasks run
+        List<Runnable> deletions = new ArrayList<>();
+        IndicesRequestCache cache = new IndicesRequestCache(Settings.builder()
+            .put(IndicesRequestCache.INDICES_CACHE_QUERY_SIZE.getKey(), size.getBytes() + 1 + "b")
+            .put(IndicesRequestCache.INDICES_CACHE_DISK_SIZE.getKey(), "1mb")
+            .build(), diskTierPath, deletions::add);
+        AtomicBoolean indexShard = new AtomicBoolean(true);
+        ShardRequestCache requestCacheStats = new ShardRequestCache();
+        Directory dir = newDirectory();
+        IndexWriter writer = new IndexWriter(dir, newIndexWriterConfig());
+
+        writer.addDocument(newDoc(0, "foo"));
+        DirectoryReader reader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+        writer.updateDocument(new Term("id", "0"), newDoc(0, "bar"));
+        DirectoryReader secondReader = OpenSearchDirectoryReader.wrap(DirectoryReader.open(writer), new ShardId("foo", "bar", 1));
+        BytesReference termBytes = XContentHelper.toXContent(new TermQueryBuilder("id", "0"), XContentType.JSON, false);
+
+        BytesReference value = cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(reader, 0), reader, termBytes);
+        assertEquals("foo", value.streamInput().readString());
+        value = cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), new Loader(secondReader, 0), secondReader, termBytes);
+        assertEquals("bar", value.streamInput().readString());
+        assertEquals(1, cache.count());
+        assertEquals(1, cache.diskCount());
+        assertEquals(1, requestCacheStats.stats().getEvictions());
+        assertEquals(0, requestCacheStats.stats().getDiskHitCount());
+        assertEquals(2, requestCacheStats.stats().getDiskMissCount());
+        assertTrue(requestCacheStats.stats().getDiskSizeInBytes() > 0);
+        assertTrue(deletions.isEmpty());
+        assertEquals(1, numFiles(diskTierPath));
+
+        // the first entry is read back from disk and the second one takes its place on disk
+        Loader loader = new Loader(reader, 0);
+        value = cache.getOrCompute(new TestEntity(requestCacheStats, indexShard), loader, reader, termBytes);
+        assertEquals("foo", value.streamInput().readString());
+        assertTrue(loader.loadedFromCache);
+        assertEquals(1, cache.count());
+        assertEquals(1, cache.diskCount());
+        assertEquals(2, requestCacheStats.stats().getEvictions());
+        assertEquals(1, requestCacheStats.stats().getDiskHitCount());
+        assertEquals(2, requestCacheStats.stats().getDiskMissCount());
+        assertEquals(0, requestCacheStats.stats().getDiskEvictions());
+        assertEquals(1, deletions.size());
+        assertEquals(2, numFiles(diskTierPath));
+        runAll(deletions);
+        assertEquals(1, numFiles(diskTierPath));
+
+        // closing the reader of the spilled entry cleans the disk tier too
+        secondReader.close();
+        cache.cleanCache();
+        assertEquals(1, cache.count());
+        assertEquals(0, cache.diskCount());
+        assertEquals(0, requestCacheStats.stats().getDiskSizeInBytes());
+        assertEquals(1, numFiles(diskTierPath));
+        runAll(deletions);
+        assertEquals(0, numFiles(diskTierPath));
+
+        IOUtils.close(reader, writer, dir, cache);
+    }
+
+    private static long numFiles(Path path) throws IOException {
+        try (Stream<Path> files = Files.list(path)) {
+            return files.count();
+        }
+    }
+
+    private static void runAll(List<Runnable> tasks) {
+        final List<Runnable> toRun = new ArrayList<>(tasks);
+        tasks.clear();
+        toRun.forEach(Runnable::run);
+    }
+
     public void testClearAllEntityIdentity() throws Exception {
         IndicesRequestCache cache = new IndicesRequestCache(Settings.EMPTY);
         AtomicBoolean indexShard =  new AtomicBoolean(true);
@@ -299,6 +299,18 @@ public class IndicesServiceCloseTests extends OpenSearchTestCase {
 
             @Override
             public void onRemoval(RemovalNotification<Key, BytesReference> notification) {}
+
+            @Override
+            public void onDiskHit() {}
+
+            @Override
+            public void onDiskMiss() {}
+
+            @Override
+            public void onDiskCached(long sizeInBytes) {}
+
+            @Override
+            public void onDiskRemoval(long sizeInBytes, boolean evicted) {}
         };
         cache.getOrCompute(cacheEntity, () -> new BytesArray("bar"), searcher.getDirectoryReader(), new BytesArray("foo"));
         assertEquals(1L, cache.count());
@@ -107,6 +107,7 @@ public class SystemIndicesTests extends OpenSearchTestCase {
         assertTrue(systemIndices.isSystemIndex(".tasks"));
         assertTrue(systemIndices.isSystemIndex(".tasks1"));
         assertTrue(systemIndices.isSystemIndex(".tasks-old"));
+        assertTrue(systemIndices.isSystemIndex(".opensearch-async-search"));
     }
 
     public void testPluginCannotOverrideBuiltInSystemIndex() {
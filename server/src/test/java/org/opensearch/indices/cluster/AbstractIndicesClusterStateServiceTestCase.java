@@ -57,6 +57,7 @@ import org.opensearch.indices.cluster.IndicesClusterStateService.AllocatedIndice
 import org.opensearch.indices.cluster.IndicesClusterStateService.Shard;
 import org.opensearch.indices.recovery.PeerRecoveryTargetService;
 import org.opensearch.indices.recovery.RecoveryState;
+import org.opensearch.indices.replication.checkpoint.SegmentReplicationCheckpointPublisher;
 import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
@@ -250,6 +251,7 @@ public abstract class AbstractIndicesClusterStateServiceTestCase extends OpenSea
                 final Consumer<IndexShard.ShardFailure> onShardFailure,
                 final Consumer<ShardId> globalCheckpointSyncer,
                 final RetentionLeaseSyncer retentionLeaseSyncer,
+                final SegmentReplicationCheckpointPublisher checkpointPublisher,
                 final DiscoveryNode targetNode,
                 final DiscoveryNode sourceNode) throws IOException {
             failRandomly();
@@ -46,6 +46,7 @@ import org.opensearch.cluster.routing.ShardRoutingHelper;
 import org.opensearch.common.Randomness;
 import org.opensearch.common.UUIDs;
 import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.internal.io.IOUtils;
@@ -67,6 +68,7 @@ import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 
@@ -117,6 +119,7 @@ public class PeerRecoveryTargetServiceTests extends IndexShardTestCase {
             }
         }
         Randomness.shuffle(requests);
+        final AtomicInteger releasedChunks = new AtomicInteger();
         BlockingQueue<RecoveryFileChunkRequest> queue = new ArrayBlockingQueue<>(requests.size());
         queue.addAll(requests);
         Thread[] senders = new Thread[between(1, 4)];
@@ -127,11 +130,15 @@ public class PeerRecoveryTargetServiceTests extends IndexShardTestCase {
                     barrier.await();
                     RecoveryFileChunkRequest r;
                     while ((r = queue.poll()) != null) {
-                        recoveryTarget.writeFileChunk(r.metadata(), r.position(), r.content(), r.lastChunk(), r.totalTranslogOps(),
-                            ActionListener.wrap(ignored -> {},
-                                e -> {
-                                    throw new AssertionError(e);
-                                }));
+                        // out of order chunks must be retained by the target until they are written
+                        try (ReleasableBytesReference content =
+                                 new ReleasableBytesReference(r.content(), releasedChunks::incrementAndGet)) {
+                            recoveryTarget.writeFileChunk(r.metadata(), r.position(), content, r.lastChunk(), r.totalTranslogOps(),
+                                ActionListener.wrap(ignored -> {},
+                                    e -> {
+                                        throw new AssertionError(e);
+                                    }));
+                        }
                     }
                 } catch (Exception e) {
                     throw new AssertionError(e);
@@ -142,6 +149,7 @@ public class PeerRecoveryTargetServiceTests extends IndexShardTestCase {
         for (Thread sender : senders) {
             sender.join();
         }
+        assertThat(releasedChunks.get(), equalTo(requests.size()));
         PlainActionFuture<Void> cleanFilesFuture = new PlainActionFuture<>();
         recoveryTarget.cleanFiles(0, Long.parseLong(sourceSnapshot.getCommitUserData().get(SequenceNumbers.MAX_SEQ_NO)),
             sourceSnapshot, cleanFilesFuture);
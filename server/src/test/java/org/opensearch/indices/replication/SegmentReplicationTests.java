@@ -0,0 +1,219 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.ResourceNotFoundException;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListenerResponseHandler;
+import org.opensearch.action.admin.indices.flush.FlushRequest;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.IndexSettings;
+import org.opensearch.index.engine.InternalEngine;
+import org.opensearch.index.engine.NRTReplicationEngine;
+import org.opensearch.index.replication.OpenSearchIndexLevelReplicationTestCase;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.recovery.RecoverySettings;
+import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
+import org.opensearch.indices.replication.common.ReplicationType;
+import org.opensearch.test.transport.MockTransportService;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SegmentReplicationTests extends OpenSearchIndexLevelReplicationTestCase {
+
+    private static final Settings SEGMENT_REPLICATION_SETTINGS = Settings.builder()
+        .put(IndexSettings.INDEX_REPLICATION_TYPE_SETTING.getKey(), ReplicationType.SEGMENT.name())
+        .build();
+
+    private MockTransportService transportService;
+    private RecoverySettings recoverySettings;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        transportService = MockTransportService.createNewService(Settings.EMPTY, Version.CURRENT, threadPool);
+        transportService.start();
+        transportService.acceptIncomingRequests();
+        recoverySettings = new RecoverySettings(Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        // copy the files in several chunks
+        recoverySettings.setChunkSize(new ByteSizeValue(randomIntBetween(1, 8), ByteSizeUnit.KB));
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        try {
+            IOUtils.close(transportService);
+        } finally {
+            super.tearDown();
+        }
+    }
+
+    public void testReplicatesSegmentsOfPrimary() throws Exception {
+        try (ReplicationGroup group = createGroup(1, SEGMENT_REPLICATION_SETTINGS)) {
+            group.startAll();
+            final SegmentReplicationSourceService sourceService = newSourceService(group);
+            final IndexShard primary = group.getPrimary();
+            final IndexShard replica = group.getReplicas().get(0);
+            assertThat(replica.getEngine(), instanceOf(NRTReplicationEngine.class));
+
+            int numDocs = group.indexDocs(randomIntBetween(1, 50));
+            // the operations are only written to the translog of the replica
+            assertDocCount(replica, 0);
+            primary.refresh("test");
+            replicateSegments(replica);
+            assertDocCount(replica, numDocs);
+            assertThat(getDocIdAndSeqNos(replica), equalTo(getDocIdAndSeqNos(primary)));
+            assertSameSegments(primary, replica);
+            // the copy is released once the replica read its files
+            assertBusy(() -> assertThat(sourceService.numberOfOngoingCopies(), equalTo(0)));
+
+            // nothing is copied when the replica is up to date
+            replicateSegments(replica);
+            assertDocCount(replica, numDocs);
+
+            numDocs += group.indexDocs(randomIntBetween(1, 50));
+            primary.flush(new FlushRequest().force(true).waitIfOngoing(true));
+            replicateSegments(replica);
+            assertDocCount(replica, numDocs);
+            assertSameSegments(primary, replica);
+            // the primary committed, so did the replica
+            assertThat(replica.translogStats().getUncommittedOperations(), equalTo(0));
+            assertBusy(() -> assertThat(sourceService.numberOfOngoingCopies(), equalTo(0)));
+        }
+    }
+
+    public void testPromotedReplicaIndexesOperationsOfTranslog() throws Exception {
+        try (ReplicationGroup group = createGroup(1, SEGMENT_REPLICATION_SETTINGS)) {
+            group.startAll();
+            newSourceService(group);
+            final IndexShard replica = group.getReplicas().get(0);
+            int numDocs = group.indexDocs(randomIntBetween(1, 50));
+            group.getPrimary().refresh("test");
+            replicateSegments(replica);
+            // these operations are only in the translog of the replica
+            numDocs += group.indexDocs(randomIntBetween(1, 50));
+            final Set<String> docIds = getShardDocUIDs(group.getPrimary());
+
+            group.promoteReplicaToPrimary(replica).get();
+            assertTrue(replica.routingEntry().primary());
+            assertThat(replica.getEngine(), instanceOf(InternalEngine.class));
+            assertThat(getShardDocUIDs(replica), equalTo(docIds));
+
+            // the new primary indexes
+            numDocs += group.indexDocs(randomIntBetween(1, 50));
+            assertDocCount(replica, numDocs);
+        }
+    }
+
+    public void testReplicaWithFilesThatDifferFromThePrimaryIsFailed() throws Exception {
+        try (ReplicationGroup group = createGroup(2, SEGMENT_REPLICATION_SETTINGS)) {
+            group.startAll();
+            newSourceService(group);
+            final IndexShard newPrimary = group.getReplicas().get(0);
+            final IndexShard replica = group.getReplicas().get(1);
+            group.indexDocs(randomIntBetween(1, 50));
+            group.getPrimary().refresh("test");
+            replicateSegments(newPrimary);
+            replicateSegments(replica);
+            // only one of the replicas copies the next segments
+            group.indexDocs(randomIntBetween(1, 50));
+            group.getPrimary().refresh("test");
+            replicateSegments(replica);
+
+            // the other one is promoted and indexes the operations of its translog again, in segments with the same names as the
+            // ones the replica copied from the previous primary
+            group.promoteReplicaToPrimary(newPrimary).get();
+            newPrimary.refresh("test");
+            group.indexDocs(randomIntBetween(1, 10));
+            newPrimary.refresh("test");
+
+            allowShardFailures();
+            final AtomicReference<IndexShard.ShardFailure> shardFailure = new AtomicReference<>();
+            replica.addShardFailureCallback(shardFailure::set);
+            final IllegalStateException e = expectThrows(IllegalStateException.class, () -> replicateSegments(replica));
+            assertThat(e.getMessage(), containsString("found files that differ from the primary"));
+            assertThat(shardFailure.get(), notNullValue());
+            assertThat(shardFailure.get().reason, equalTo("segment replication found files that differ from the primary"));
+            // the failed replica can't be compared with the primary when the group is closed
+            group.removeReplica(replica);
+            closeShards(replica);
+        }
+    }
+
+    public void testReleasesCopiesOfClosedPrimary() throws Exception {
+        try (ReplicationGroup group = createGroup(0, SEGMENT_REPLICATION_SETTINGS)) {
+            group.startAll();
+            final SegmentReplicationSourceService sourceService = newSourceService(group);
+            final IndexShard primary = group.getPrimary();
+            group.indexDocs(randomIntBetween(1, 50));
+            primary.refresh("test");
+
+            final PlainActionFuture<CheckpointInfoResponse> checkpointInfoFuture = PlainActionFuture.newFuture();
+            transportService.sendRequest(transportService.getLocalNode(), SegmentReplicationSourceService.Actions.GET_CHECKPOINT_INFO,
+                new CheckpointInfoRequest(primary.shardId(), "_target", transportService.getLocalNode()),
+                new ActionListenerResponseHandler<>(checkpointInfoFuture, CheckpointInfoResponse::new));
+            final CheckpointInfoResponse checkpointInfo = checkpointInfoFuture.actionGet();
+            assertThat(checkpointInfo.checkpoint(), equalTo(primary.getLatestReplicationCheckpoint()));
+            assertThat(sourceService.numberOfOngoingCopies(), equalTo(1));
+
+            sourceService.beforeIndexShardClosed(primary.shardId(), primary, primary.indexSettings().getSettings());
+            assertThat(sourceService.numberOfOngoingCopies(), equalTo(0));
+            // the files of a released copy can't be read anymore
+            final StoreFileMetadata file = randomFrom(checkpointInfo.files());
+            final PlainActionFuture<GetFileChunkResponse> chunkFuture = PlainActionFuture.newFuture();
+            transportService.sendRequest(transportService.getLocalNode(), SegmentReplicationSourceService.Actions.GET_FILE_CHUNK,
+                new GetFileChunkRequest(checkpointInfo.copyId(), primary.shardId(), file, 0, Math.toIntExact(Math.min(file.length(), 16))),
+                new ActionListenerResponseHandler<>(chunkFuture, GetFileChunkResponse::new));
+            final Exception e = expectThrows(Exception.class, chunkFuture::actionGet);
+            assertThat(ExceptionsHelper.unwrap(e, ResourceNotFoundException.class), notNullValue());
+        }
+    }
+
+    private SegmentReplicationSourceService newSourceService(ReplicationGroup group) {
+        final IndicesService indicesService = mock(IndicesService.class);
+        final IndexService indexService = mock(IndexService.class);
+        when(indicesService.indexServiceSafe(index)).thenReturn(indexService);
+        // the primary changes when a replica is promoted
+        when(indexService.getShard(0)).thenAnswer(invocation -> group.getPrimary());
+        return new SegmentReplicationSourceService(transportService, indicesService);
+    }
+
+    private void replicateSegments(IndexShard replica) {
+        final PlainActionFuture<Void> future = PlainActionFuture.newFuture();
+        new SegmentReplicationTarget(replica, transportService.getLocalNode(), transportService, recoverySettings)
+            .startReplication(future);
+        future.actionGet();
+    }
+
+    private static void assertSameSegments(IndexShard primary, IndexShard replica) throws Exception {
+        final ReplicationCheckpoint primaryCheckpoint = primary.getLatestReplicationCheckpoint();
+        final ReplicationCheckpoint replicaCheckpoint = replica.getLatestReplicationCheckpoint();
+        assertThat(replicaCheckpoint.getSegmentsGen(), equalTo(primaryCheckpoint.getSegmentsGen()));
+        assertThat(replicaCheckpoint.getSegmentInfosVersion(), equalTo(primaryCheckpoint.getSegmentInfosVersion()));
+        assertThat(replicaCheckpoint.getSeqNo(), equalTo(primaryCheckpoint.getSeqNo()));
+    }
+}
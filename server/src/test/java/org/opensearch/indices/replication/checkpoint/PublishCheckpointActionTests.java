@@ -0,0 +1,149 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication.checkpoint;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.LatchedActionListener;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.ActionTestUtils;
+import org.opensearch.action.support.ActiveShardCount;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.support.replication.TransportReplicationAction;
+import org.opensearch.cluster.action.shard.ShardStateAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.internal.io.IOUtils;
+import org.opensearch.index.Index;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.indices.replication.SegmentReplicationTargetService;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.transport.CapturingTransport;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.opensearch.test.ClusterServiceUtils.createClusterService;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+public class PublishCheckpointActionTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private CapturingTransport transport;
+    private ClusterService clusterService;
+    private TransportService transportService;
+    private ShardStateAction shardStateAction;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        threadPool = new TestThreadPool(getClass().getName());
+        transport = new CapturingTransport();
+        clusterService = createClusterService(threadPool);
+        transportService = transport.createTransportService(
+                clusterService.getSettings(),
+                threadPool,
+                TransportService.NOOP_TRANSPORT_INTERCEPTOR,
+                boundAddress -> clusterService.localNode(),
+                null,
+                Collections.emptySet());
+        transportService.start();
+        transportService.acceptIncomingRequests();
+        shardStateAction = new ShardStateAction(clusterService, transportService, null, null, threadPool);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        try {
+            IOUtils.close(transportService, clusterService, transport);
+        } finally {
+            terminate(threadPool);
+        }
+        super.tearDown();
+    }
+
+    public void testPublishCheckpointActionOnPrimary() throws InterruptedException {
+        final IndexShard indexShard = mockIndexShard();
+        final SegmentReplicationTargetService replicationService = mock(SegmentReplicationTargetService.class);
+        final PublishCheckpointAction action = newAction(replicationService);
+        final PublishCheckpointAction.Request request = new PublishCheckpointAction.Request(newCheckpoint(indexShard.shardId()));
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        action.shardOperationOnPrimary(request, indexShard,
+            new LatchedActionListener<>(ActionTestUtils.assertNoFailureListener(result -> {
+                // the checkpoint is forwarded to the replicas as is
+                assertThat(result.replicaRequest(), sameInstance(request));
+            }), latch));
+        latch.await();
+        // nothing is replicated on the primary
+        verifyNoMoreInteractions(replicationService);
+    }
+
+    public void testPublishCheckpointActionOnReplica() {
+        final IndexShard indexShard = mockIndexShard();
+        final SegmentReplicationTargetService replicationService = mock(SegmentReplicationTargetService.class);
+        final PublishCheckpointAction action = newAction(replicationService);
+        final ReplicationCheckpoint checkpoint = newCheckpoint(indexShard.shardId());
+        final PublishCheckpointAction.Request request = new PublishCheckpointAction.Request(checkpoint);
+
+        final PlainActionFuture<TransportReplicationAction.ReplicaResult> listener = PlainActionFuture.newFuture();
+        action.shardOperationOnReplica(request, indexShard, listener);
+        final TransportReplicationAction.ReplicaResult result = listener.actionGet();
+        // the replica should copy the segments of the checkpoint
+        verify(replicationService).onNewCheckpoint(checkpoint, indexShard);
+        // the result should indicate success
+        final AtomicBoolean success = new AtomicBoolean();
+        result.runPostReplicaActions(ActionListener.wrap(r -> success.set(true), e -> fail(e.toString())));
+        assertTrue(success.get());
+    }
+
+    public void testRequestSerialization() throws IOException {
+        final ReplicationCheckpoint checkpoint = newCheckpoint(new ShardId("index", "uuid", randomIntBetween(0, 4)));
+        final PublishCheckpointAction.Request request = new PublishCheckpointAction.Request(checkpoint);
+        // replicas that miss a checkpoint catch up with the next one, so the publication does not wait for them
+        assertThat(request.waitForActiveShards(), equalTo(ActiveShardCount.NONE));
+        final PublishCheckpointAction.Request copy = copyWriteable(request, writableRegistry(), PublishCheckpointAction.Request::new);
+        assertThat(copy.getCheckpoint(), equalTo(checkpoint));
+        assertThat(copy.shardId(), equalTo(request.shardId()));
+    }
+
+    private PublishCheckpointAction newAction(SegmentReplicationTargetService replicationService) {
+        return new PublishCheckpointAction(
+                Settings.EMPTY,
+                transportService,
+                clusterService,
+                mock(IndicesService.class),
+                threadPool,
+                shardStateAction,
+                new ActionFilters(Collections.emptySet()),
+                replicationService);
+    }
+
+    private IndexShard mockIndexShard() {
+        final IndexShard indexShard = mock(IndexShard.class);
+        when(indexShard.shardId()).thenReturn(new ShardId(new Index("index", "uuid"), randomIntBetween(0, 4)));
+        return indexShard;
+    }
+
+    private static ReplicationCheckpoint newCheckpoint(ShardId shardId) {
+        return new ReplicationCheckpoint(shardId, randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong(),
+            randomLongBetween(-1, Long.MAX_VALUE));
+    }
+}
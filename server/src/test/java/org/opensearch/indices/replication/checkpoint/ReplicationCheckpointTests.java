@@ -0,0 +1,41 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.indices.replication.checkpoint;
+
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class ReplicationCheckpointTests extends OpenSearchTestCase {
+
+    private final ShardId shardId = new ShardId("index", "_na_", 0);
+
+    public void testSerialization() throws IOException {
+        final ReplicationCheckpoint checkpoint = new ReplicationCheckpoint(shardId, randomNonNegativeLong(), randomNonNegativeLong(),
+            randomNonNegativeLong(), randomLongBetween(-1, Long.MAX_VALUE));
+        final ReplicationCheckpoint copy = copyWriteable(checkpoint, writableRegistry(), ReplicationCheckpoint::new);
+        assertThat(copy, equalTo(checkpoint));
+        assertThat(copy.hashCode(), equalTo(checkpoint.hashCode()));
+    }
+
+    public void testIsAheadOf() {
+        final long primaryTerm = randomLongBetween(1, 100);
+        final long version = randomLongBetween(1, 100);
+        final ReplicationCheckpoint checkpoint = new ReplicationCheckpoint(shardId, primaryTerm, 2, version, 10);
+        assertTrue(checkpoint.isAheadOf(null));
+        assertFalse(checkpoint.isAheadOf(checkpoint));
+        assertTrue(checkpoint.isAheadOf(new ReplicationCheckpoint(shardId, primaryTerm, 2, version - 1, 9)));
+        assertFalse(checkpoint.isAheadOf(new ReplicationCheckpoint(shardId, primaryTerm, 2, version + 1, 11)));
+        // a new primary may start from lower segment infos versions
+        assertTrue(checkpoint.isAheadOf(new ReplicationCheckpoint(shardId, primaryTerm - 1, 5, version + 10, 20)));
+        assertFalse(checkpoint.isAheadOf(new ReplicationCheckpoint(shardId, primaryTerm + 1, 1, version - 1, 5)));
+    }
+}
@@ -36,13 +36,16 @@ import org.opensearch.OpenSearchException;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.LongSupplier;
 
 import static java.util.Collections.singletonList;
@@ -122,6 +125,15 @@ public class CompoundProcessorTests extends OpenSearchTestCase {
         assertThat(ingestDocument.getFieldValue("field", String.class), equalTo("value"));
     }
 
+    public void testCountersOfWrappedProcessor() {
+        final Processor processor = mock(Processor.class);
+        when(processor.getCounters()).thenReturn(Collections.singletonMap("matches", 3L));
+        assertThat(new CompoundProcessor(true, singletonList(processor), Collections.emptyList()).getCounters(),
+            equalTo(Collections.singletonMap("matches", 3L)));
+        // the counters of several processors can't be told apart
+        assertThat(new CompoundProcessor(processor, processor).getCounters(), equalTo(Collections.emptyMap()));
+    }
+
     public void testSingleProcessorWithOnFailureProcessor() throws Exception {
         TestProcessor processor1 = new TestProcessor("id", "first", null, new RuntimeException("error"));
         TestProcessor processor2 = new TestProcessor(ingestDocument -> {
@@ -377,6 +389,107 @@ public class CompoundProcessorTests extends OpenSearchTestCase {
         assertThat(ingestProcessorException.getHeader("pipeline_origin"), equalTo(Arrays.asList("2", "1")));
     }
 
+    public void testBatchExecute() {
+        TestProcessor processor1 = new TestProcessor("tag1", "type1", null, (Function<IngestDocument, IngestDocument>) doc -> {
+            doc.setFieldValue("field", "value");
+            return doc.hasField("drop") ? null : doc;
+        });
+        TestProcessor processor2 = new TestProcessor(doc -> {
+            if (doc.hasField("fail")) {
+                throw new RuntimeException("error");
+            }
+        });
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L);
+        CompoundProcessor compoundProcessor = new CompoundProcessor(relativeTimeProvider, processor1, processor2);
+
+        Map<Integer, IngestDocumentWrapper> results = batchExecute(compoundProcessor, Collections.emptyMap(),
+            Collections.singletonMap("drop", true), Collections.singletonMap("fail", true));
+        assertThat(results.size(), equalTo(3));
+        assertThat(results.get(0).getException(), nullValue());
+        assertThat(results.get(0).getIngestDocument().getFieldValue("field", String.class), equalTo("value"));
+        assertThat(results.get(1).getException(), nullValue());
+        assertThat(results.get(1).getIngestDocument(), nullValue());
+        assertThat(results.get(2).getIngestDocument(), nullValue());
+        assertThat(((OpenSearchException) results.get(2).getException()).getRootCause().getMessage(), equalTo("error"));
+        assertThat(processor1.getInvokedCounter(), equalTo(3));
+        assertThat(processor2.getInvokedCounter(), equalTo(2));
+        assertStats(0, compoundProcessor, 0, 3, 0, 0);
+        assertStats(1, compoundProcessor, 0, 2, 1, 0);
+    }
+
+    public void testBatchExecuteWithOnFailureProcessor() {
+        TestProcessor processor1 = new TestProcessor(doc -> {
+            if (doc.hasField("fail")) {
+                throw new RuntimeException("error");
+            }
+        });
+        TestProcessor processor2 = new TestProcessor(doc -> doc.setFieldValue("field", "value"));
+        TestProcessor onFailureProcessor = new TestProcessor(doc -> doc.setFieldValue("recovered", true));
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L);
+        CompoundProcessor compoundProcessor = new CompoundProcessor(false, Arrays.asList(processor1, processor2),
+            singletonList(onFailureProcessor), relativeTimeProvider);
+
+        Map<Integer, IngestDocumentWrapper> results = batchExecute(compoundProcessor, Collections.singletonMap("fail", true),
+            Collections.emptyMap());
+        assertThat(results.size(), equalTo(2));
+        assertThat(results.get(0).getException(), nullValue());
+        assertThat(results.get(0).getIngestDocument().getFieldValue("recovered", Boolean.class), is(true));
+        assertThat(results.get(0).getIngestDocument().hasField("field"), is(false));
+        assertThat(results.get(1).getException(), nullValue());
+        assertThat(results.get(1).getIngestDocument().getFieldValue("field", String.class), equalTo("value"));
+        assertThat(onFailureProcessor.getInvokedCounter(), equalTo(1));
+        assertThat(processor2.getInvokedCounter(), equalTo(1));
+        assertStats(0, compoundProcessor, 0, 2, 1, 0);
+    }
+
+    public void testBatchExecuteIgnoreFailure() {
+        TestProcessor processor1 = new TestProcessor(new RuntimeException("error"));
+        TestProcessor processor2 = new TestProcessor(doc -> doc.setFieldValue("field", "value"));
+        LongSupplier relativeTimeProvider = mock(LongSupplier.class);
+        when(relativeTimeProvider.getAsLong()).thenReturn(0L);
+        CompoundProcessor compoundProcessor =
+            new CompoundProcessor(true, Arrays.asList(processor1, processor2), Collections.emptyList(), relativeTimeProvider);
+
+        Map<Integer, IngestDocumentWrapper> results = batchExecute(compoundProcessor, Collections.emptyMap(), Collections.emptyMap());
+        assertThat(results.size(), equalTo(2));
+        for (IngestDocumentWrapper result : results.values()) {
+            assertThat(result.getException(), nullValue());
+            assertThat(result.getIngestDocument().getFieldValue("field", String.class), equalTo("value"));
+        }
+        assertStats(0, compoundProcessor, 0, 2, 2, 0);
+        assertStats(1, compoundProcessor, 0, 2, 0, 0);
+    }
+
+    public void testSupportsBatchExecution() {
+        Processor batchProcessor = new TestProcessor(doc -> {}) {
+            @Override
+            public boolean supportsBatchExecution() {
+                return true;
+            }
+        };
+        assertThat(new CompoundProcessor(new TestProcessor(doc -> {})).supportsBatchExecution(), is(false));
+        assertThat(new CompoundProcessor(new TestProcessor(doc -> {}), batchProcessor).supportsBatchExecution(), is(true));
+        assertThat(new CompoundProcessor(false, singletonList(new TestProcessor(doc -> {})), singletonList(batchProcessor))
+            .supportsBatchExecution(), is(true));
+    }
+
+    @SafeVarargs
+    private static Map<Integer, IngestDocumentWrapper> batchExecute(Processor processor, Map<String, Object>... sources) {
+        List<IngestDocumentWrapper> wrappers = new ArrayList<>(sources.length);
+        for (int i = 0; i < sources.length; i++) {
+            wrappers.add(new IngestDocumentWrapper(i, new IngestDocument(new HashMap<>(sources[i]), new HashMap<>()), null));
+        }
+        Map<Integer, IngestDocumentWrapper> results = new HashMap<>();
+        processor.batchExecute(wrappers, batchResults -> {
+            for (IngestDocumentWrapper result : batchResults) {
+                assertThat(results.put(result.getSlot(), result), nullValue());
+            }
+        });
+        return results;
+    }
+
     private void assertStats(CompoundProcessor compoundProcessor, long count,  long failed, long time) {
         assertStats(0, compoundProcessor, 0L, count, failed, time);
     }
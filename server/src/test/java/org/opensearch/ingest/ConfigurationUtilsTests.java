@@ -247,6 +247,11 @@ public class ConfigurationUtilsTests extends OpenSearchTestCase {
             propertyValue, scriptService);
         assertThat(result.newInstance(null).execute(), equalTo(propertyValue));
         verify(scriptService, times(0)).compile(any(), any());
+        assertThat(result, instanceOf(ConstantTemplateScriptFactory.class));
+        ConstantTemplateScriptFactory constant = (ConstantTemplateScriptFactory) result;
+        assertThat(constant.getValue(), equalTo(propertyValue));
+        assertThat(constant.getFieldPath().toString(), equalTo(propertyValue));
+        assertThat(constant.getFieldPath(), sameInstance(constant.getFieldPath()));
     }
 
     public void testScriptShouldCompile() {
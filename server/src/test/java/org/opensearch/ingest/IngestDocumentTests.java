@@ -232,6 +232,42 @@ public class IngestDocumentTests extends OpenSearchTestCase {
         }
     }
 
+    public void testFieldPath() {
+        IngestDocument other = new IngestDocument(ingestDocument);
+        IngestDocument.FieldPath fieldPath = new IngestDocument.FieldPath("list.0.field");
+        for (IngestDocument document : Arrays.asList(ingestDocument, other)) {
+            assertThat(document.hasField(fieldPath, false), equalTo(true));
+            assertThat(document.getFieldValue(fieldPath, String.class), equalTo("value"));
+            document.setFieldValue(fieldPath, "new_value");
+            assertThat(document.getFieldValue(fieldPath, String.class), equalTo("new_value"));
+            document.removeField(fieldPath);
+            assertThat(document.hasField(fieldPath, false), equalTo(false));
+        }
+
+        IngestDocument.FieldPath ingestPath = new IngestDocument.FieldPath("_ingest.timestamp");
+        assertThat(ingestDocument.getFieldValue(ingestPath, ZonedDateTime.class), not(equalTo(BOGUS_TIMESTAMP)));
+        IngestDocument.FieldPath sourcePath = new IngestDocument.FieldPath("_source._ingest.timestamp");
+        assertThat(ingestDocument.getFieldValue(sourcePath, ZonedDateTime.class), equalTo(BOGUS_TIMESTAMP));
+
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class,
+            () -> ingestDocument.getFieldValue(new IngestDocument.FieldPath("fizz.missing"), Object.class));
+        assertThat(e.getMessage(), equalTo("field [missing] not present as part of path [fizz.missing]"));
+        e = expectThrows(IllegalArgumentException.class, () -> new IngestDocument.FieldPath("_ingest."));
+        assertThat(e.getMessage(), equalTo("path [_ingest.] is not valid"));
+    }
+
+    public void testConstantTemplateFieldPath() {
+        ConstantTemplateScriptFactory template = new ConstantTemplateScriptFactory("fizz.new_field");
+        ingestDocument.setFieldValue(template, ValueSource.wrap("value", TestTemplateService.instance()));
+        assertThat(ingestDocument.getFieldValue(template, String.class), equalTo("value"));
+        assertThat(ingestDocument.fieldPath(template), sameInstance(template.getFieldPath()));
+        assertThat(ingestDocument.renderTemplate(template), equalTo("fizz.new_field"));
+        ingestDocument.appendFieldValue(template, ValueSource.wrap("other_value", TestTemplateService.instance()));
+        assertThat(ingestDocument.getFieldValue(template, List.class), equalTo(Arrays.asList("value", "other_value")));
+        ingestDocument.removeField(template);
+        assertThat(ingestDocument.hasField(template), equalTo(false));
+    }
+
     public void testHasField() {
         assertTrue(ingestDocument.hasField("fizz"));
         assertTrue(ingestDocument.hasField("_index"));
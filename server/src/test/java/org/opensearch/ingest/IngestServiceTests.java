@@ -90,6 +90,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -1058,6 +1059,90 @@ public class IngestServiceTests extends OpenSearchTestCase {
         }
     }
 
+    public void testBulkRequestExecutionInBatches() throws Exception {
+        BulkRequest bulkRequest = new BulkRequest();
+        int numRequest = scaledRandomIntBetween(8, 64);
+        for (int i = 0; i < numRequest; i++) {
+            IndexRequest indexRequest = new IndexRequest("_index", "_type", "_id" + i).setPipeline("_id").setFinalPipeline("_none");
+            indexRequest.source(Requests.INDEX_CONTENT_TYPE, "field1", "value1");
+            bulkRequest.add(indexRequest);
+        }
+
+        final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        final Processor processor = new AbstractProcessor("tag", null) {
+            @Override
+            public IngestDocument execute(IngestDocument ingestDocument) {
+                throw new UnsupportedOperationException("documents should be executed in batches");
+            }
+
+            @Override
+            public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+                batchSizes.add(ingestDocumentWrappers.size());
+                for (IngestDocumentWrapper wrapper : ingestDocumentWrappers) {
+                    wrapper.getIngestDocument().setFieldValue("batch_size", ingestDocumentWrappers.size());
+                }
+                handler.accept(ingestDocumentWrappers);
+            }
+
+            @Override
+            public boolean supportsBatchExecution() {
+                return true;
+            }
+
+            @Override
+            public String getType() {
+                return "batch";
+            }
+        };
+        IngestService ingestService = createWithProcessors(Collections.singletonMap(
+            "batch", (factories, tag, description, config) -> processor));
+        PutPipelineRequest putRequest = new PutPipelineRequest("_id",
+            new BytesArray("{\"processors\": [{\"batch\": {}}]}"), XContentType.JSON);
+        ClusterState clusterState = ClusterState.builder(new ClusterName("_name")).build();
+        ClusterState previousClusterState = clusterState;
+        clusterState = IngestService.innerPut(putRequest, clusterState);
+        ingestService.applyClusterState(new ClusterChangedEvent("", clusterState, previousClusterState));
+
+        @SuppressWarnings("unchecked")
+        BiConsumer<Integer, Exception> requestItemErrorHandler = mock(BiConsumer.class);
+        @SuppressWarnings("unchecked")
+        final BiConsumer<Thread, Exception> completionHandler = mock(BiConsumer.class);
+        ingestService.executeBulkRequest(numRequest, bulkRequest.requests(), requestItemErrorHandler, completionHandler, indexReq -> {},
+            Names.WRITE);
+
+        verify(requestItemErrorHandler, never()).accept(any(), any());
+        verify(completionHandler, times(1)).accept(Thread.currentThread(), null);
+        assertThat(batchSizes, equalTo(Collections.singletonList(numRequest)));
+        for (DocWriteRequest<?> docWriteRequest : bulkRequest.requests()) {
+            IndexRequest indexRequest = TransportBulkAction.getIndexWriteRequest(docWriteRequest);
+            assertThat(indexRequest.sourceAsMap().get("batch_size"), equalTo(numRequest));
+        }
+        IngestStats ingestStats = ingestService.stats();
+        assertThat(ingestStats.getTotalStats().getIngestCount(), equalTo((long) numRequest));
+        assertThat(ingestStats.getTotalStats().getIngestFailedCount(), equalTo(0L));
+    }
+
+    public void testStatsReportCountersOfProcessorsIgnoringFailures() throws Exception {
+        final Processor processor = mock(Processor.class);
+        when(processor.getType()).thenReturn("mock");
+        when(processor.getTag()).thenReturn("mockTag");
+        when(processor.getCounters()).thenReturn(Collections.singletonMap("prefilter_skips", 2L));
+        Map<String, Processor.Factory> map = new HashMap<>(1);
+        map.put("mock", (factories, tag, description, config) -> processor);
+        IngestService ingestService = createWithProcessors(map);
+
+        PutPipelineRequest putRequest = new PutPipelineRequest("_id",
+            new BytesArray("{\"processors\": [{\"mock\" : {\"ignore_failure\": true}}]}"), XContentType.JSON);
+        ClusterState previousClusterState = ClusterState.builder(new ClusterName("_name")).build();
+        ClusterState clusterState = IngestService.innerPut(putRequest, previousClusterState);
+        ingestService.applyClusterState(new ClusterChangedEvent("", clusterState, previousClusterState));
+
+        final List<IngestStats.ProcessorStat> processorStats = ingestService.stats().getProcessorStats().get("_id");
+        assertThat(processorStats.size(), equalTo(1));
+        assertThat(processorStats.get(0).getName(), equalTo("mock:mockTag"));
+        assertThat(processorStats.get(0).getCounters(), equalTo(Collections.singletonMap("prefilter_skips", 2L)));
+    }
+
     public void testStats() throws Exception {
         final Processor processor = mock(Processor.class);
         final Processor processorFailure = mock(Processor.class);
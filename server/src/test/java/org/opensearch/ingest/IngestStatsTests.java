@@ -108,7 +108,7 @@ public class IngestStatsTests extends OpenSearchTestCase {
         IngestStats.ProcessorStat processor1Stat = new IngestStats.ProcessorStat("processor1", "type", new IngestStats.Stats(1, 1, 1, 1));
         IngestStats.ProcessorStat processor2Stat = new IngestStats.ProcessorStat("processor2", "type", new IngestStats.Stats(2, 2, 2, 2));
         IngestStats.ProcessorStat processor3Stat = new IngestStats.ProcessorStat("processor3", "type",
-            new IngestStats.Stats(47, 97, 197, 297));
+            new IngestStats.Stats(47, 97, 197, 297), Collections.singletonMap("patterns.0.matches", 42L));
         //pipeline1 -> processor1,processor2; pipeline2 -> processor3
         return MapBuilder.<String, List<IngestStats.ProcessorStat>>newMapBuilder()
             .put(pipelineStats.get(0).getPipelineId(), Stream.of(processor1Stat, processor2Stat).collect(Collectors.toList()))
@@ -152,6 +152,7 @@ public class IngestStatsTests extends OpenSearchTestCase {
                             assertEquals("_NOT_AVAILABLE", serializedProcessorStat.getType());
                         }
                         assertStats(ps.getStats(), serializedProcessorStat.getStats());
+                        assertEquals(ps.getCounters(), serializedProcessorStat.getCounters());
                     }
                     assertFalse(it.hasNext());
                 }
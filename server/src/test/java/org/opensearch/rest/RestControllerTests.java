@@ -420,6 +420,28 @@ public class RestControllerTests extends OpenSearchTestCase {
         assertTrue(channel.getSendResponseCalled());
     }
 
+    public void testSupportsChunkedContent() {
+        restController.registerHandler(RestRequest.Method.POST, "/{index}/_stream", new RestHandler() {
+            @Override
+            public void handleRequest(RestRequest request, RestChannel channel, NodeClient client) throws Exception {
+                channel.sendResponse(new BytesRestResponse(RestStatus.OK, BytesRestResponse.TEXT_CONTENT_TYPE, BytesArray.EMPTY));
+            }
+
+            @Override
+            public boolean supportsChunkedContent() {
+                return true;
+            }
+        });
+        restController.registerHandler(RestRequest.Method.POST, "/{index}/_aggregated", (request, channel, client) ->
+            channel.sendResponse(new BytesRestResponse(RestStatus.OK, BytesRestResponse.TEXT_CONTENT_TYPE, BytesArray.EMPTY)));
+
+        assertTrue(restController.supportsChunkedContent(RestRequest.Method.POST, "/foo/_stream"));
+        assertTrue(restController.supportsChunkedContent(RestRequest.Method.POST, "/foo/_stream?refresh=true"));
+        assertFalse(restController.supportsChunkedContent(RestRequest.Method.PUT, "/foo/_stream"));
+        assertFalse(restController.supportsChunkedContent(RestRequest.Method.POST, "/foo/_aggregated"));
+        assertFalse(restController.supportsChunkedContent(RestRequest.Method.POST, "/foo/_unknown"));
+    }
+
     public void testDispatchWithContentStreamNoContentType() {
         FakeRestRequest fakeRestRequest = new FakeRestRequest.Builder(NamedXContentRegistry.EMPTY)
             .withContent(new BytesArray("{}"), null).withPath("/foo").build();
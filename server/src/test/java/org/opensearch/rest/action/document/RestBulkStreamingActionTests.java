@@ -0,0 +1,211 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.document;
+
+import org.apache.lucene.util.SetOnce;
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.client.Requests;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.http.HttpChunkedContent;
+import org.opensearch.index.IndexingPressure;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.client.NoOpNodeClient;
+import org.opensearch.test.rest.FakeRestRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link RestBulkStreamingAction}.
+ */
+public class RestBulkStreamingActionTests extends OpenSearchTestCase {
+
+    public void testStreamedBodyIsSentInBatches() throws Exception {
+        final List<BulkRequest> batches = new ArrayList<>();
+        final List<ActionListener<BulkResponse>> listeners = new ArrayList<>();
+        try (NodeClient client = new RecordingNodeClient(getTestName(), batches, listeners)) {
+            final FakeChunkedContent content = new FakeChunkedContent();
+            final PlainActionFuture<BulkResponse> future = PlainActionFuture.newFuture();
+            final RestBulkStreamingAction.BulkStream stream = new RestBulkStreamingAction.BulkStream(content, client,
+                new IndexingPressure(Settings.EMPTY), Requests.bulkRequest(), parameters("test"), XContentType.JSON, 1, future);
+
+            stream.onChunk(new BytesArray("{\"index\":{\"_id\":\"1\"}}\n{\"field\":\"va"), false);
+            assertThat(batches, hasSize(0));
+            stream.onChunk(new BytesArray("lue\"}\n{\"delete\":{\"_id\":\"2\"}}\n{\"ind"), false);
+            assertThat(batches, hasSize(1));
+            assertThat(batches.get(0).requests(), hasSize(2));
+            assertThat(batches.get(0).requests().get(0).opType(), equalTo(DocWriteRequest.OpType.INDEX));
+            assertThat(batches.get(0).requests().get(1).opType(), equalTo(DocWriteRequest.OpType.DELETE));
+            assertFalse(content.paused);
+
+            // the next batch waits for the previous one and reading is paused meanwhile
+            stream.onChunk(new BytesArray("ex\":{\"_id\":\"3\"}}\n{\"field\":\"value\"}\n"), false);
+            assertThat(batches, hasSize(1));
+            assertTrue(content.paused);
+
+            final ShardId shardId = new ShardId("test", "_na_", 0);
+            listeners.get(0).onResponse(new BulkResponse(new BulkItemResponse[] {
+                new BulkItemResponse(0, DocWriteRequest.OpType.INDEX, new IndexResponse(shardId, "_doc", "1", 1, 1, 1, true)),
+                new BulkItemResponse(1, DocWriteRequest.OpType.DELETE, new DeleteResponse(shardId, "_doc", "2", 2, 1, 1, false)) }, 5));
+            assertThat(batches, hasSize(2));
+            assertThat(batches.get(1).requests(), hasSize(1));
+            assertThat(batches.get(1).requests().get(0).id(), equalTo("3"));
+            assertFalse(content.paused);
+
+            stream.onChunk(BytesArray.EMPTY, true);
+            assertFalse(future.isDone());
+            listeners.get(1).onResponse(new BulkResponse(new BulkItemResponse[] {
+                new BulkItemResponse(0, DocWriteRequest.OpType.INDEX, new IndexResponse(shardId, "_doc", "3", 3, 1, 1, true)) }, 5));
+            final BulkResponse response = future.get();
+            assertThat(response.getItems().length, equalTo(3));
+            for (int i = 0; i < 3; i++) {
+                assertThat(response.getItems()[i].getItemId(), equalTo(i));
+                assertThat(response.getItems()[i].getId(), equalTo(Integer.toString(i + 1)));
+            }
+            assertFalse(response.hasFailures());
+        }
+    }
+
+    public void testReadingIsPausedUnderIndexingPressure() throws Exception {
+        final List<BulkRequest> batches = new ArrayList<>();
+        final List<ActionListener<BulkResponse>> listeners = new ArrayList<>();
+        final IndexingPressure indexingPressure =
+            new IndexingPressure(Settings.builder().put(IndexingPressure.MAX_INDEXING_BYTES.getKey(), "1KB").build());
+        try (NodeClient client = new RecordingNodeClient(getTestName(), batches, listeners)) {
+            final FakeChunkedContent content = new FakeChunkedContent();
+            final RestBulkStreamingAction.BulkStream stream = new RestBulkStreamingAction.BulkStream(content, client, indexingPressure,
+                Requests.bulkRequest(), parameters("test"), XContentType.JSON, 512, PlainActionFuture.newFuture());
+
+            final String action = "{\"index\":{}}\n{\"field\":\"" + randomAlphaOfLength(512) + "\"}\n";
+            stream.onChunk(new BytesArray(action), false);
+            assertThat(batches, hasSize(1));
+            assertFalse(content.paused);
+            try (Releasable ignored = indexingPressure.markCoordinatingOperationStarted(768, false)) {
+                // the node could not take another batch while the first one executes
+                stream.onChunk(new BytesArray(action.substring(0, 10)), false);
+                assertTrue(content.paused);
+                listeners.get(0).onResponse(new BulkResponse(new BulkItemResponse[0], 5));
+                // nothing executes anymore, the stream is resumed to not wait forever for other requests
+                assertFalse(content.paused);
+            }
+        }
+    }
+
+    public void testMalformedActionFailsOnceSentBatchesCompleted() {
+        final List<BulkRequest> batches = new ArrayList<>();
+        final List<ActionListener<BulkResponse>> listeners = new ArrayList<>();
+        try (NodeClient client = new RecordingNodeClient(getTestName(), batches, listeners)) {
+            final FakeChunkedContent content = new FakeChunkedContent();
+            final PlainActionFuture<BulkResponse> future = PlainActionFuture.newFuture();
+            final RestBulkStreamingAction.BulkStream stream = new RestBulkStreamingAction.BulkStream(content, client,
+                new IndexingPressure(Settings.EMPTY), Requests.bulkRequest(), parameters("test"), XContentType.JSON, 1, future);
+
+            stream.onChunk(new BytesArray("{\"delete\":{\"_id\":\"1\"}}\n"), false);
+            assertThat(batches, hasSize(1));
+            stream.onChunk(new BytesArray("[]\n"), false);
+            stream.onChunk(new BytesArray("{\"delete\":{\"_id\":\"2\"}}\n"), true);
+            assertThat(batches, hasSize(1));
+            assertFalse(future.isDone());
+
+            listeners.get(0).onResponse(new BulkResponse(new BulkItemResponse[0], 5));
+            final ExecutionException e = expectThrows(ExecutionException.class, future::get);
+            assertThat(e.getCause(), instanceOf(IllegalArgumentException.class));
+            assertThat(e.getCause().getMessage(), containsString("Malformed action/metadata line"));
+            assertThat(batches, hasSize(1));
+        }
+    }
+
+    public void testAggregatedBodyIsParsedAsSingleChunk() throws Exception {
+        SetOnce<BulkRequest> bulkRequest = new SetOnce<>();
+        try (NodeClient client = new NoOpNodeClient(getTestName()) {
+            @Override
+            public void bulk(BulkRequest request, ActionListener<BulkResponse> listener) {
+                bulkRequest.set(request);
+            }
+        }) {
+            new RestBulkStreamingAction(settings(Version.CURRENT).build(), new IndexingPressure(Settings.EMPTY))
+                .handleRequest(
+                    new FakeRestRequest.Builder(xContentRegistry())
+                        .withPath("my_index/_bulk/stream")
+                        .withParams(Collections.singletonMap("batch_size", "1b"))
+                        .withContent(new BytesArray("{\"index\":{\"_id\":\"1\"}}\n{\"field1\":\"val1\"}\n{\"delete\":{\"_id\":\"2\"}}\n"),
+                            XContentType.JSON)
+                        .withMethod(RestRequest.Method.POST)
+                        .build(),
+                    mock(RestChannel.class), client);
+            assertThat(bulkRequest.get().requests(), hasSize(2));
+        }
+    }
+
+    private static RestBulkStreamingAction.BulkStream.Parameters parameters(String index) {
+        return new RestBulkStreamingAction.BulkStream.Parameters(index, null, null, null, null, true);
+    }
+
+    private static class RecordingNodeClient extends NoOpNodeClient {
+        private final List<BulkRequest> batches;
+        private final List<ActionListener<BulkResponse>> listeners;
+
+        RecordingNodeClient(String testName, List<BulkRequest> batches, List<ActionListener<BulkResponse>> listeners) {
+            super(testName);
+            this.batches = batches;
+            this.listeners = listeners;
+        }
+
+        @Override
+        public void bulk(BulkRequest request, ActionListener<BulkResponse> listener) {
+            batches.add(request);
+            listeners.add(listener);
+        }
+    }
+
+    private static class FakeChunkedContent implements HttpChunkedContent {
+        private boolean paused;
+
+        @Override
+        public void start(Listener listener) {
+        }
+
+        @Override
+        public void pause() {
+            paused = true;
+        }
+
+        @Override
+        public void resume() {
+            paused = false;
+        }
+
+        @Override
+        public void discard() {
+        }
+    }
+}
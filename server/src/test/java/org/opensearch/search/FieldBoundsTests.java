@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.search;
+
+import org.opensearch.LegacyESVersion;
+import org.opensearch.Version;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.time.DateFormatter;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.search.sort.MinAndMax;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+
+public class FieldBoundsTests extends OpenSearchTestCase {
+
+    public void testNumberCanMatch() {
+        final FieldBounds bounds = new FieldBounds(new MinAndMax<>(10L, 20L), null, null);
+        assertTrue(bounds.canMatch(QueryBuilders.rangeQuery("f").gte(20), () -> 0L));
+        assertTrue(bounds.canMatch(QueryBuilders.rangeQuery("f").lte("10"), () -> 0L));
+        assertTrue(bounds.canMatch(QueryBuilders.rangeQuery("f").gt(12.5).lt(13), () -> 0L));
+        assertFalse(bounds.canMatch(QueryBuilders.rangeQuery("f").gt(20.5), () -> 0L));
+        assertFalse(bounds.canMatch(QueryBuilders.rangeQuery("f").lt("9.9"), () -> 0L));
+        // values the coordinating node cannot parse are left to the shards
+        assertTrue(bounds.canMatch(QueryBuilders.rangeQuery("f").gte("not a number"), () -> 0L));
+        // range queries never match shards without values
+        assertFalse(new FieldBounds(null, null, null).canMatch(QueryBuilders.rangeQuery("f").gte(0), () -> 0L));
+    }
+
+    public void testDateCanMatch() {
+        final long min = Instant.parse("2021-01-01T00:00:00Z").toEpochMilli();
+        final long max = Instant.parse("2021-01-31T23:59:59Z").toEpochMilli();
+        final FieldBounds bounds = new FieldBounds(new MinAndMax<>(min, max), DateFormatter.forPattern("strict_date_optional_time"),
+            DateFieldMapper.Resolution.MILLISECONDS);
+        assertTrue(bounds.canMatch(QueryBuilders.rangeQuery("f").gte("2021-01-15"), () -> 0L));
+        assertFalse(bounds.canMatch(QueryBuilders.rangeQuery("f").gte("2021-02-01"), () -> 0L));
+        assertFalse(bounds.canMatch(QueryBuilders.rangeQuery("f").lt("2021-01-01"), () -> 0L));
+        assertTrue(bounds.canMatch(QueryBuilders.rangeQuery("f").lte("2021-01-01"), () -> 0L));
+        // rounding follows the date field, an inclusive upper bound is rounded up to the end of the day
+        assertFalse(bounds.canMatch(QueryBuilders.rangeQuery("f").lte("2020-12-31||/d"), () -> 0L));
+        assertTrue(bounds.canMatch(QueryBuilders.rangeQuery("f").gte("2021-01-31||/d"), () -> 0L));
+        // the format and the time zone of the query are honored
+        assertFalse(bounds.canMatch(QueryBuilders.rangeQuery("f").gte("01/02/2021").format("dd/MM/yyyy"), () -> 0L));
+        assertTrue(bounds.canMatch(QueryBuilders.rangeQuery("f").gte("2021-02-01T00:00:00").timeZone("+02:00"), () -> 0L));
+        // date math is resolved against the start time of the request
+        final long now = Instant.parse("2021-03-01T00:00:00Z").toEpochMilli();
+        assertFalse(bounds.canMatch(QueryBuilders.rangeQuery("f").gte("now-7d"), () -> now));
+        assertTrue(bounds.canMatch(QueryBuilders.rangeQuery("f").gte("now-40d"), () -> now));
+    }
+
+    public void testSerialization() throws IOException {
+        final FieldBounds bounds = new FieldBounds(new MinAndMax<>(randomLong(), randomLong()),
+            DateFormatter.forPattern("yyyy/MM/dd").withLocale(Locale.GERMAN), DateFieldMapper.Resolution.NANOSECONDS);
+        final FieldBounds copy = copyWriteable(bounds, new NamedWriteableRegistry(Collections.emptyList()), FieldBounds::new);
+        assertThat(copy.getMinAndMax().getMin(), equalTo(bounds.getMinAndMax().getMin()));
+        assertThat(copy.getMinAndMax().getMax(), equalTo(bounds.getMinAndMax().getMax()));
+        final FieldBounds empty = copyWriteable(new FieldBounds(null, null, null), new NamedWriteableRegistry(Collections.emptyList()),
+            FieldBounds::new);
+        assertNull(empty.getMinAndMax());
+    }
+
+    public void testCanMatchResponseSerialization() throws IOException {
+        final SearchService.CanMatchResponse response = new SearchService.CanMatchResponse(true, null,
+            Collections.singletonMap("f", new FieldBounds(new MinAndMax<>(1L, 2L), null, null)), 3L, 7L);
+        final NamedWriteableRegistry registry = new NamedWriteableRegistry(Collections.emptyList());
+
+        final SearchService.CanMatchResponse copy = copyWriteable(response, registry, SearchService.CanMatchResponse::new,
+            Version.CURRENT);
+        assertTrue(copy.canMatch());
+        assertThat(copy.fieldBounds().keySet(), contains("f"));
+        assertThat(copy.fieldBounds().get("f").getMinAndMax().getMax(), equalTo(2L));
+        assertThat(copy.indexSettingsVersion(), equalTo(3L));
+        assertThat(copy.readerVersion(), equalTo(7L));
+
+        // nodes before 1.0.0 don't know about field bounds
+        final SearchService.CanMatchResponse legacyCopy = copyWriteable(response, registry, SearchService.CanMatchResponse::new,
+            LegacyESVersion.V_7_10_2);
+        assertTrue(legacyCopy.canMatch());
+        assertThat(legacyCopy.fieldBounds(), equalTo(Collections.emptyMap()));
+        assertThat(legacyCopy.readerVersion(), equalTo(-1L));
+    }
+
+    public void testCollectRequiredRanges() {
+        final RangeQueryBuilder mustRange = QueryBuilders.rangeQuery("a").gte(1);
+        final RangeQueryBuilder filterRange = QueryBuilders.rangeQuery("b").lte(2);
+        final BoolQueryBuilder query = QueryBuilders.boolQuery()
+            .must(mustRange)
+            .filter(QueryBuilders.constantScoreQuery(filterRange))
+            .should(QueryBuilders.rangeQuery("c").gte(3))
+            .mustNot(QueryBuilders.rangeQuery("d").gte(4));
+        final List<RangeQueryBuilder> ranges = new ArrayList<>();
+        FieldBounds.collectRequiredRanges(query, ranges);
+        assertThat(ranges, contains(mustRange, filterRange));
+    }
+}
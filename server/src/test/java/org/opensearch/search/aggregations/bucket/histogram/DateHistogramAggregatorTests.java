@@ -33,11 +33,14 @@
 package org.opensearch.search.aggregations.bucket.histogram;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
 import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.MatchNoDocsQuery;
@@ -52,10 +55,13 @@ import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.aggregations.support.AggregationInspectionHelper;
 
 import java.io.IOException;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static java.util.stream.Collectors.toList;
@@ -121,6 +127,57 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
         assertWarnings("[interval] on [date_histogram] is deprecated, use [fixed_interval] or [calendar_interval] in the future.");
     }
 
+    public void testCountFromPoints() throws IOException {
+        final long start = asLong("2020-01-01T00:00:00");
+        final long day = 24 * 60 * 60 * 1000L;
+        final int numDocs = randomIntBetween(50, 1000);
+        final long[] values = new long[numDocs];
+        final boolean[] deleted = new boolean[numDocs];
+        final long lowerBound = randomBoolean() ? Long.MIN_VALUE : start + randomLongBetween(0, 10 * day);
+        final long upperBound = randomBoolean() ? Long.MAX_VALUE : start + randomLongBetween(10 * day, 30 * day);
+        final Query query = lowerBound == Long.MIN_VALUE && upperBound == Long.MAX_VALUE
+            ? new MatchAllDocsQuery()
+            : LongPoint.newRangeQuery(AGGREGABLE_DATE, lowerBound, upperBound);
+        final Map<Long, Long> expectedCounts = new HashMap<>();
+        for (int i = 0; i < numDocs; i++) {
+            values[i] = start + randomLongBetween(0, 30 * day);
+            deleted[i] = rarely();
+            if (deleted[i] == false && values[i] >= lowerBound && values[i] <= upperBound) {
+                expectedCounts.merge(values[i] - (values[i] - start) % day, 1L, Long::sum);
+            }
+        }
+        final DateFieldMapper.DateFieldType fieldType = aggregableDateFieldType(false, true);
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                for (int i = 0; i < numDocs; i++) {
+                    final Document document = new Document();
+                    document.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                    document.add(new LongPoint(AGGREGABLE_DATE, values[i]));
+                    document.add(new SortedNumericDocValuesField(AGGREGABLE_DATE, values[i]));
+                    indexWriter.addDocument(document);
+                }
+                for (int i = 0; i < numDocs; i++) {
+                    if (deleted[i]) {
+                        indexWriter.deleteDocuments(new Term("id", Integer.toString(i)));
+                    }
+                }
+            }
+            try (IndexReader indexReader = DirectoryReader.open(directory)) {
+                final IndexSearcher indexSearcher = newSearcher(indexReader, true, true);
+                final DateHistogramAggregationBuilder aggregationBuilder = new DateHistogramAggregationBuilder("_name")
+                    .field(AGGREGABLE_DATE)
+                    .calendarInterval(DateHistogramInterval.DAY)
+                    .minDocCount(1);
+                final InternalDateHistogram histogram = searchAndReduce(indexSearcher, query, aggregationBuilder, fieldType);
+                final Map<Long, Long> actualCounts = new HashMap<>();
+                for (InternalDateHistogram.Bucket bucket : histogram.getBuckets()) {
+                    actualCounts.put(((ZonedDateTime) bucket.getKey()).toInstant().toEpochMilli(), bucket.getDocCount());
+                }
+                assertThat(actualCounts, equalTo(expectedCounts));
+            }
+        }
+    }
+
     public void testMatchAllDocs() throws IOException {
         Query query = new MatchAllDocsQuery();
 
@@ -32,12 +32,17 @@
 
 package org.opensearch.search.aggregations.bucket.range;
 
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.NumericDocValuesField;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
@@ -308,6 +313,57 @@ public class RangeAggregatorTests extends AggregatorTestCase {
         });
     }
 
+    public void testCountFromPoints() throws IOException {
+        final int numDocs = randomIntBetween(50, 500);
+        final long[] values = new long[numDocs];
+        final boolean[] deleted = new boolean[numDocs];
+        final long lowerBound = randomBoolean() ? Long.MIN_VALUE : randomLongBetween(0, 50);
+        final long upperBound = randomBoolean() ? Long.MAX_VALUE : randomLongBetween(100, 200);
+        final Query query = lowerBound == Long.MIN_VALUE && upperBound == Long.MAX_VALUE
+            ? new MatchAllDocsQuery()
+            : LongPoint.newRangeQuery(NUMBER_FIELD_NAME, lowerBound, upperBound);
+        final long[] expectedCounts = new long[3];
+        for (int i = 0; i < numDocs; i++) {
+            values[i] = randomLongBetween(-20, 250);
+            deleted[i] = rarely();
+            if (deleted[i] == false && values[i] >= lowerBound && values[i] <= upperBound) {
+                if (values[i] < 0) {
+                    expectedCounts[0]++;
+                } else if (values[i] >= 10 && values[i] < 50) {
+                    expectedCounts[1]++;
+                } else if (values[i] >= 120) {
+                    expectedCounts[2]++;
+                }
+            }
+        }
+        final RangeAggregationBuilder aggregationBuilder = new RangeAggregationBuilder("test_range_agg");
+        aggregationBuilder.field(NUMBER_FIELD_NAME);
+        aggregationBuilder.addUnboundedTo(0d);
+        aggregationBuilder.addRange(10d, 50d);
+        aggregationBuilder.addUnboundedFrom(120d);
+        final MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(NUMBER_FIELD_NAME, NumberFieldMapper.NumberType.LONG);
+        testCase(aggregationBuilder, query, iw -> {
+            for (int i = 0; i < numDocs; i++) {
+                final Document document = new Document();
+                document.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                document.add(new LongPoint(NUMBER_FIELD_NAME, values[i]));
+                document.add(new SortedNumericDocValuesField(NUMBER_FIELD_NAME, values[i]));
+                iw.addDocument(document);
+            }
+            for (int i = 0; i < numDocs; i++) {
+                if (deleted[i]) {
+                    iw.deleteDocuments(new Term("id", Integer.toString(i)));
+                }
+            }
+        }, range -> {
+            final List<? extends InternalRange.Bucket> buckets = range.getBuckets();
+            assertEquals(3, buckets.size());
+            for (int i = 0; i < buckets.size(); i++) {
+                assertEquals(expectedCounts[i], buckets.get(i).getDocCount());
+            }
+        }, fieldType);
+    }
+
     private void testCase(Query query,
                           CheckedConsumer<RandomIndexWriter, IOException> buildIndex,
                           Consumer<InternalRange<? extends InternalRange.Bucket, ? extends InternalRange>> verify) throws IOException {
@@ -45,9 +45,11 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.RandomIndexWriter;
+import org.apache.lucene.index.Term;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.BytesRef;
@@ -117,9 +119,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -304,6 +308,51 @@ public class TermsAggregatorTests extends AggregatorTestCase {
         }
     }
 
+    public void testCountFromTermDictionary() throws Exception {
+        final int numDocs = randomIntBetween(10, 200);
+        final Map<String, Long> expectedCounts = new HashMap<>();
+        try (Directory directory = newDirectory()) {
+            try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+                final boolean deleteDocs = randomBoolean();
+                for (int i = 0; i < numDocs; i++) {
+                    final Document document = new Document();
+                    document.add(new StringField("id", Integer.toString(i), Field.Store.NO));
+                    final Set<String> values = new HashSet<>();
+                    for (int j = randomIntBetween(0, 3); j > 0; j--) {
+                        values.add("term_" + randomIntBetween(0, 20));
+                    }
+                    final boolean deleted = deleteDocs && rarely();
+                    for (String value : values) {
+                        document.add(new StringField("keyword", value, Field.Store.NO));
+                        document.add(new SortedSetDocValuesField("keyword", new BytesRef(value)));
+                        if (deleted == false) {
+                            expectedCounts.merge(value, 1L, Long::sum);
+                        }
+                    }
+                    indexWriter.addDocument(document);
+                    if (deleted) {
+                        indexWriter.deleteDocuments(new Term("id", Integer.toString(i)));
+                    }
+                }
+                try (IndexReader indexReader = maybeWrapReaderEs(indexWriter.getReader())) {
+                    final IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                    final Query query = randomBoolean() ? new MatchAllDocsQuery() : new DocValuesFieldExistsQuery("keyword");
+                    final TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("_name")
+                        .field("keyword")
+                        .size(100);
+                    final MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("keyword");
+                    final StringTerms result = searchAndReduce(indexSearcher, query, aggregationBuilder, fieldType);
+                    final Map<String, Long> actualCounts = new HashMap<>();
+                    for (StringTerms.Bucket bucket : result.getBuckets()) {
+                        actualCounts.put(bucket.getKeyAsString(), bucket.getDocCount());
+                    }
+                    assertThat(actualCounts, equalTo(expectedCounts));
+                    assertEquals(0, result.getSumOfOtherDocCounts());
+                }
+            }
+        }
+    }
+
     public void testStringIncludeExclude() throws Exception {
         try (Directory directory = newDirectory()) {
             try (RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
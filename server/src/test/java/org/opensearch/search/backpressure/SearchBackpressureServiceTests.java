@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.search.backpressure;
+
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.tasks.Task;
+import org.opensearch.tasks.TaskAwareRequest;
+import org.opensearch.tasks.TaskId;
+import org.opensearch.tasks.TaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.junit.After;
+import org.junit.Before;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class SearchBackpressureServiceTests extends OpenSearchTestCase {
+
+    private ThreadPool threadPool;
+    private TaskManager taskManager;
+
+    @Before
+    public void setupTaskManager() {
+        threadPool = new TestThreadPool(getTestName());
+        taskManager = new TaskManager(Settings.EMPTY, threadPool, Collections.emptySet());
+    }
+
+    @After
+    public void terminateThreadPool() {
+        terminate(threadPool);
+    }
+
+    public void testCancelsMostExpensiveTasks() {
+        final SearchShardTask small = registerTask(1 << 10);
+        final SearchShardTask large = registerTask(1 << 20);
+        assumeTrue("thread allocation tracking is not supported", large.resourceUsage().getAllocatedBytes() > 0);
+
+        final AtomicLong heapUsed = new AtomicLong(50);
+        final AtomicInteger cpuPercent = new AtomicInteger(10);
+        final Settings settings = Settings.builder()
+            .put(SearchBackpressureService.ENABLED_SETTING.getKey(), true)
+            .put(SearchBackpressureService.HEAP_THRESHOLD_SETTING.getKey(), "100b")
+            .put(SearchBackpressureService.CPU_THRESHOLD_SETTING.getKey(), 80)
+            .build();
+        final SearchBackpressureService service = new SearchBackpressureService(settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), threadPool, taskManager,
+            heapUsed::get, cpuPercent::get);
+
+        service.doRun();
+        assertFalse(small.isCancelled());
+        assertFalse(large.isCancelled());
+
+        heapUsed.set(100);
+        service.doRun();
+        assertFalse(small.isCancelled());
+        assertTrue(large.isCancelled());
+        assertThat(service.getHeapCancellations(), equalTo(1L));
+
+        // cancelled tasks are not cancelled again
+        service.doRun();
+        assertTrue(small.isCancelled());
+        assertThat(service.getHeapCancellations(), equalTo(2L));
+        service.doRun();
+        assertThat(service.getHeapCancellations(), equalTo(2L));
+        assertThat(service.getCpuCancellations(), equalTo(0L));
+    }
+
+    public void testCpuThreshold() {
+        final SearchShardTask task = registerTask(1 << 10);
+        final AtomicInteger cpuPercent = new AtomicInteger(10);
+        final Settings settings = Settings.builder().put(SearchBackpressureService.ENABLED_SETTING.getKey(), true).build();
+        final SearchBackpressureService service = new SearchBackpressureService(settings,
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), threadPool, taskManager,
+            () -> 0L, cpuPercent::get);
+        service.doRun();
+        assertFalse(task.isCancelled());
+
+        cpuPercent.set(95);
+        service.doRun();
+        // tasks are only cancelled if some CPU time was accounted to them
+        assertThat(task.isCancelled(), equalTo(task.resourceUsage().getCpuTimeNanos() > 0));
+        assertThat(service.getCpuCancellations(), equalTo(task.isCancelled() ? 1L : 0L));
+    }
+
+    public void testDisabled() {
+        final SearchShardTask task = registerTask(1 << 20);
+        final SearchBackpressureService service = new SearchBackpressureService(Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS), threadPool, taskManager,
+            () -> Long.MAX_VALUE, () -> 100);
+        service.doRun();
+        assertFalse(task.isCancelled());
+        assertThat(service.getHeapCancellations(), equalTo(0L));
+    }
+
+    public void testHeapUsedAfterLastGc() {
+        final long heapUsed = SearchBackpressureService.heapUsedAfterLastGc();
+        assertThat(heapUsed, greaterThanOrEqualTo(0L));
+        final long maxHeap = Runtime.getRuntime().maxMemory();
+        if (maxHeap != Long.MAX_VALUE) {
+            assertThat(heapUsed, lessThanOrEqualTo(maxHeap));
+        }
+    }
+
+    /**
+     * Registers a search shard task and allocates roughly <code>bytes</code> on its behalf.
+     */
+    private SearchShardTask registerTask(int bytes) {
+        final SearchShardTask task = (SearchShardTask) taskManager.register("transport", "search", new TaskAwareRequest() {
+            @Override
+            public void setParentTask(TaskId taskId) {
+            }
+
+            @Override
+            public TaskId getParentTask() {
+                return TaskId.EMPTY_TASK_ID;
+            }
+
+            @Override
+            public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
+                return new SearchShardTask(id, type, action, "", parentTaskId, headers);
+            }
+        });
+        try (Releasable ignored = task.resourceUsage().startThreadTracking()) {
+            final byte[][] garbage = new byte[bytes / 1024][];
+            for (int i = 0; i < garbage.length; i++) {
+                garbage[i] = new byte[1024];
+            }
+            assertThat(garbage.length, equalTo(bytes / 1024));
+        }
+        return task;
+    }
+}
@@ -51,6 +51,7 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.BoostQuery;
 import org.apache.lucene.search.BulkScorer;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.ConstantScoreQuery;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.Explanation;
@@ -63,6 +64,7 @@ import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHitCountCollector;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.util.Accountable;
@@ -86,9 +88,15 @@ import org.opensearch.test.IndexSettingsModule;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.opensearch.search.internal.ContextIndexSearcher.intersectScorerAndBitSet;
 import static org.opensearch.search.internal.ExitableDirectoryReader.ExitableLeafReader;
@@ -96,6 +104,7 @@ import static org.opensearch.search.internal.ExitableDirectoryReader.ExitablePoi
 import static org.opensearch.search.internal.ExitableDirectoryReader.ExitableTerms;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
 
 public class ContextIndexSearcherTests extends OpenSearchTestCase {
     public void testIntersectScorerAndRoleBits() throws Exception {
@@ -290,6 +299,104 @@ public class ContextIndexSearcherTests extends OpenSearchTestCase {
         IOUtils.close(reader, w, dir);
     }
 
+    public void testSlices() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig(null).setMergePolicy(NoMergePolicy.INSTANCE));
+        int numSegments = randomIntBetween(2, 10);
+        for (int i = 0; i < numSegments; i++) {
+            int numDocs = randomIntBetween(1, 20);
+            for (int j = 0; j < numDocs; j++) {
+                Document doc = new Document();
+                doc.add(new StringField("foo", "bar", Field.Store.NO));
+                w.addDocument(doc);
+            }
+            w.flush();
+        }
+        DirectoryReader reader = DirectoryReader.open(w);
+        int maxSliceCount = randomIntBetween(1, 12);
+        List<List<LeafReaderContext>> slices = ContextIndexSearcher.slices(reader.leaves(), maxSliceCount);
+        assertEquals(Math.min(maxSliceCount, reader.leaves().size()), slices.size());
+        Set<LeafReaderContext> seen = new HashSet<>();
+        for (List<LeafReaderContext> slice : slices) {
+            assertFalse(slice.isEmpty());
+            for (int i = 0; i < slice.size(); i++) {
+                assertTrue(seen.add(slice.get(i)));
+                if (i > 0) {
+                    assertThat(slice.get(i - 1).ord, lessThan(slice.get(i).ord));
+                }
+            }
+        }
+        assertEquals(reader.leaves().size(), seen.size());
+        IOUtils.close(reader, w, dir);
+    }
+
+    public void testConcurrentSearch() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig(null).setMergePolicy(NoMergePolicy.INSTANCE));
+        int numSegments = randomIntBetween(2, 10);
+        int numMatches = 0;
+        for (int i = 0; i < numSegments; i++) {
+            int numDocs = randomIntBetween(1, 20);
+            for (int j = 0; j < numDocs; j++) {
+                Document doc = new Document();
+                boolean match = randomBoolean();
+                numMatches += match ? 1 : 0;
+                doc.add(new StringField("foo", match ? "bar" : "baz", Field.Store.NO));
+                w.addDocument(doc);
+            }
+            w.flush();
+        }
+        DirectoryReader reader = DirectoryReader.open(w);
+        AtomicInteger executed = new AtomicInteger();
+        Executor executor = command -> {
+            executed.incrementAndGet();
+            command.run();
+        };
+        int maxSliceCount = randomIntBetween(2, numSegments);
+        ContextIndexSearcher searcher = new ContextIndexSearcher(reader, IndexSearcher.getDefaultSimilarity(),
+            IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), true, executor, maxSliceCount);
+        assertTrue(searcher.allowConcurrentSegmentSearch());
+        assertEquals(maxSliceCount, searcher.concurrentSlices().size());
+
+        List<TotalHitCountCollector> sliceCollectors = new ArrayList<>();
+        int totalHits = searcher.search(new TermQuery(new Term("foo", "bar")), new CollectorManager<TotalHitCountCollector, Integer>() {
+            @Override
+            public TotalHitCountCollector newCollector() {
+                TotalHitCountCollector collector = new TotalHitCountCollector();
+                sliceCollectors.add(collector);
+                return collector;
+            }
+
+            @Override
+            public Integer reduce(Collection<TotalHitCountCollector> collectors) {
+                return collectors.stream().mapToInt(TotalHitCountCollector::getTotalHits).sum();
+            }
+        });
+        assertEquals(numMatches, totalHits);
+        assertEquals(maxSliceCount, sliceCollectors.size());
+        // the last slice runs on the calling thread
+        assertEquals(maxSliceCount - 1, executed.get());
+
+        // failures are rethrown once all slices are done
+        searcher.addQueryCancellation(() -> {
+            throw new IllegalStateException("cancelled");
+        });
+        IllegalStateException e = expectThrows(IllegalStateException.class,
+            () -> searcher.search(new MatchAllDocsQuery(), new CollectorManager<TotalHitCountCollector, Integer>() {
+                @Override
+                public TotalHitCountCollector newCollector() {
+                    return new TotalHitCountCollector();
+                }
+
+                @Override
+                public Integer reduce(Collection<TotalHitCountCollector> collectors) {
+                    throw new AssertionError("should not reduce failed slices");
+                }
+            }));
+        assertEquals("cancelled", e.getMessage());
+        IOUtils.close(reader, w, dir);
+    }
+
     private SparseFixedBitSet query(LeafReaderContext leaf, String field, String value) throws IOException {
         SparseFixedBitSet sparseFixedBitSet = new SparseFixedBitSet(leaf.reader().maxDoc());
         TermsEnum tenum = leaf.reader().terms(field).iterator();
@@ -0,0 +1,293 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.search.query;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field.Store;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+import org.opensearch.action.search.SearchShardTask;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.query.ParsedQuery;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.IndexShardTestCase;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.internal.ContextIndexSearcher;
+import org.opensearch.search.internal.ShardSearchRequest;
+import org.opensearch.search.sort.SortAndFormats;
+import org.opensearch.test.TestSearchContext;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that a concurrent segment search returns the same results as a sequential search of the same shard.
+ */
+public class ConcurrentQueryPhaseTests extends IndexShardTestCase {
+
+    private IndexShard indexShard;
+    private Directory dir;
+    private IndexReader reader;
+    private int numDocs;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        indexShard = newShard(true);
+        dir = newDirectory();
+        // one segment per batch of documents so that the shard can be split in several slices
+        try (IndexWriter w = new IndexWriter(dir, newIndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+            final int numSegments = randomIntBetween(2, 8);
+            for (int segment = 0; segment < numSegments; segment++) {
+                final int numSegmentDocs = randomIntBetween(10, 50);
+                for (int i = 0; i < numSegmentDocs; i++) {
+                    final Document doc = new Document();
+                    doc.add(new NumericDocValuesField("rank", numDocs));
+                    doc.add(new StringField("foo", numDocs % 3 == 0 ? "baz" : "bar", Store.NO));
+                    doc.add(new StringField("filter", numDocs % 2 == 0 ? "f1" : "f2", Store.NO));
+                    final StringBuilder text = new StringBuilder();
+                    for (int j = randomIntBetween(0, 5); j > 0; j--) {
+                        text.append(randomBoolean() ? "quick " : "brown ");
+                    }
+                    doc.add(new TextField("text", text.toString(), Store.NO));
+                    w.addDocument(doc);
+                    numDocs++;
+                }
+                w.commit();
+            }
+        }
+        reader = DirectoryReader.open(dir);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        reader.close();
+        dir.close();
+        closeShards(indexShard);
+        super.tearDown();
+    }
+
+    public void testScoreSortedTopDocs() throws Exception {
+        final Consumer<TestSearchContext> request = context -> {
+            context.parsedQuery(new ParsedQuery(scoringQuery()));
+            // all hits are returned since documents with the same score may be picked from other slices
+            context.setSize(numDocs);
+        };
+        final QuerySearchResult sequential = search(false, request);
+        final QuerySearchResult concurrent = search(true, request);
+        assertSameTotalHits(sequential, concurrent);
+        assertEquals(sequential.topDocs().maxScore, concurrent.topDocs().maxScore, 0f);
+        final ScoreDoc[] expected = sequential.topDocs().topDocs.scoreDocs;
+        final ScoreDoc[] actual = concurrent.topDocs().topDocs.scoreDocs;
+        assertEquals(expected.length, actual.length);
+        final Set<Integer> expectedDocs = new HashSet<>();
+        final Set<Integer> actualDocs = new HashSet<>();
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i].score, actual[i].score, 0f);
+            assertEquals(-1, actual[i].shardIndex);
+            expectedDocs.add(expected[i].doc);
+            actualDocs.add(actual[i].doc);
+        }
+        assertEquals(expectedDocs, actualDocs);
+    }
+
+    public void testFieldSortedTopDocs() throws Exception {
+        final Sort sort = new Sort(new SortField("rank", SortField.Type.INT, randomBoolean()));
+        final Query query = randomBoolean() ? new MatchAllDocsQuery() : scoringQuery();
+        final int size = randomIntBetween(1, 50);
+        final Consumer<TestSearchContext> request = context -> {
+            context.parsedQuery(new ParsedQuery(query));
+            context.sort(new SortAndFormats(sort, new DocValueFormat[] { DocValueFormat.RAW }));
+            context.setSize(size);
+        };
+        final QuerySearchResult sequential = search(false, request);
+        final QuerySearchResult concurrent = search(true, request);
+        assertSameTotalHits(sequential, concurrent);
+        assertSameSortedHits(sequential.topDocs().topDocs, concurrent.topDocs().topDocs);
+    }
+
+    public void testTotalHitsRelation() throws Exception {
+        final int trackTotalHitsUpTo = randomIntBetween(1, numDocs);
+        final int size = randomIntBetween(0, trackTotalHitsUpTo);
+        final Consumer<TestSearchContext> request = context -> {
+            // a query that can't use the total hit count shortcut
+            context.parsedQuery(new ParsedQuery(scoringQuery()));
+            context.trackTotalHitsUpTo(trackTotalHitsUpTo);
+            context.setSize(size);
+        };
+        final QuerySearchResult sequential = search(false, request);
+        final QuerySearchResult concurrent = search(true, request);
+        assertSameTotalHits(sequential, concurrent);
+        if (sequential.topDocs().topDocs.totalHits.relation == TotalHits.Relation.GREATER_THAN_OR_EQUAL_TO) {
+            assertThat(sequential.topDocs().topDocs.totalHits.value, greaterThanOrEqualTo((long) trackTotalHitsUpTo));
+            assertThat(concurrent.topDocs().topDocs.totalHits.value, greaterThanOrEqualTo((long) trackTotalHitsUpTo));
+        }
+    }
+
+    public void testPostFilter() throws Exception {
+        final Sort sort = new Sort(new SortField("rank", SortField.Type.INT));
+        final Consumer<TestSearchContext> request = context -> {
+            context.parsedQuery(new ParsedQuery(new MatchAllDocsQuery()));
+            context.parsedPostFilter(new ParsedQuery(new TermQuery(new Term("filter", "f1"))));
+            context.sort(new SortAndFormats(sort, new DocValueFormat[] { DocValueFormat.RAW }));
+            context.setSize(randomIntBetween(1, numDocs));
+        };
+        final QuerySearchResult sequential = search(false, request);
+        final QuerySearchResult concurrent = search(true, request);
+        assertEquals((numDocs + 1) / 2, concurrent.topDocs().topDocs.totalHits.value);
+        assertSameTotalHits(sequential, concurrent);
+        assertSameSortedHits(sequential.topDocs().topDocs, concurrent.topDocs().topDocs);
+    }
+
+    public void testMinScore() throws Exception {
+        final QuerySearchResult all = search(false, context -> {
+            context.parsedQuery(new ParsedQuery(scoringQuery()));
+            context.setSize(numDocs);
+        });
+        final ScoreDoc[] scoreDocs = all.topDocs().topDocs.scoreDocs;
+        final float minScore = scoreDocs[randomIntBetween(0, scoreDocs.length - 1)].score;
+        final Sort sort = new Sort(new SortField("rank", SortField.Type.INT));
+        final Consumer<TestSearchContext> request = context -> {
+            context.parsedQuery(new ParsedQuery(scoringQuery()));
+            context.minimumScore(minScore);
+            context.sort(new SortAndFormats(sort, new DocValueFormat[] { DocValueFormat.RAW }));
+            context.setSize(randomIntBetween(1, numDocs));
+        };
+        final QuerySearchResult sequential = search(false, request);
+        final QuerySearchResult concurrent = search(true, request);
+        assertThat(concurrent.topDocs().topDocs.totalHits.value, greaterThan(0L));
+        assertSameTotalHits(sequential, concurrent);
+        assertSameSortedHits(sequential.topDocs().topDocs, concurrent.topDocs().topDocs);
+    }
+
+    public void testTimeout() throws Exception {
+        final Consumer<TestSearchContext> request = context -> {
+            context.parsedQuery(new ParsedQuery(scoringQuery()));
+            context.setSize(10);
+        };
+        for (boolean concurrent : new boolean[] { false, true }) {
+            final TestSearchContext context = new TimingOutSearchContext(indexShard, newSearcher(concurrent), true);
+            context.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+            request.accept(context);
+            QueryPhase.executeInternal(context);
+            assertTrue(context.queryResult().searchTimedOut());
+            // the search times out before the first segment of every slice
+            assertEquals(0, context.queryResult().topDocs().topDocs.scoreDocs.length);
+
+            final TestSearchContext noPartialResults = new TimingOutSearchContext(indexShard, newSearcher(concurrent), false);
+            noPartialResults.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+            request.accept(noPartialResults);
+            expectThrows(QueryPhaseExecutionException.class, () -> QueryPhase.executeInternal(noPartialResults));
+        }
+    }
+
+    private static Query scoringQuery() {
+        return new BooleanQuery.Builder()
+            .add(new TermQuery(new Term("foo", "bar")), Occur.MUST)
+            .add(new TermQuery(new Term("text", "quick")), Occur.SHOULD)
+            .build();
+    }
+
+    private QuerySearchResult search(boolean concurrent, Consumer<TestSearchContext> request) throws IOException {
+        final TestSearchContext context = new TestSearchContext(null, indexShard, newSearcher(concurrent));
+        context.setTask(new SearchShardTask(123L, "", "", "", null, Collections.emptyMap()));
+        request.accept(context);
+        QueryPhase.executeInternal(context);
+        assertFalse(context.queryResult().searchTimedOut());
+        return context.queryResult();
+    }
+
+    private ContextIndexSearcher newSearcher(boolean concurrent) throws IOException {
+        if (concurrent == false) {
+            return new ContextIndexSearcher(reader, IndexSearcher.getDefaultSimilarity(), IndexSearcher.getDefaultQueryCache(),
+                IndexSearcher.getDefaultQueryCachingPolicy(), true);
+        }
+        final ContextIndexSearcher searcher = new ContextIndexSearcher(reader, IndexSearcher.getDefaultSimilarity(),
+            IndexSearcher.getDefaultQueryCache(), IndexSearcher.getDefaultQueryCachingPolicy(), true,
+            threadPool.executor(ThreadPool.Names.INDEX_SEARCHER), randomIntBetween(2, 4));
+        assertTrue(searcher.allowConcurrentSegmentSearch());
+        return searcher;
+    }
+
+    private static void assertSameTotalHits(QuerySearchResult expected, QuerySearchResult actual) {
+        final TotalHits expectedTotalHits = expected.topDocs().topDocs.totalHits;
+        final TotalHits actualTotalHits = actual.topDocs().topDocs.totalHits;
+        assertEquals(expectedTotalHits.relation, actualTotalHits.relation);
+        if (expectedTotalHits.relation == TotalHits.Relation.EQUAL_TO) {
+            assertEquals(expectedTotalHits.value, actualTotalHits.value);
+        }
+    }
+
+    private static void assertSameSortedHits(TopDocs expected, TopDocs actual) {
+        assertEquals(expected.scoreDocs.length, actual.scoreDocs.length);
+        for (int i = 0; i < expected.scoreDocs.length; i++) {
+            assertEquals(expected.scoreDocs[i].doc, actual.scoreDocs[i].doc);
+            assertArrayEquals(((FieldDoc) expected.scoreDocs[i]).fields, ((FieldDoc) actual.scoreDocs[i]).fields);
+        }
+    }
+
+    /**
+     * A context whose clock moves forward every time it is read, so that the search exceeds its timeout on its first check.
+     */
+    private static class TimingOutSearchContext extends TestSearchContext {
+        private final AtomicLong relativeTimeInMillis = new AtomicLong();
+        private final ShardSearchRequest request;
+
+        TimingOutSearchContext(IndexShard indexShard, ContextIndexSearcher searcher, boolean allowPartialSearchResults) {
+            super(null, indexShard, searcher);
+            this.request = mock(ShardSearchRequest.class);
+            when(request.allowPartialSearchResults()).thenReturn(allowPartialSearchResults);
+        }
+
+        @Override
+        public TimeValue timeout() {
+            return TimeValue.timeValueMillis(1);
+        }
+
+        @Override
+        public long getRelativeTimeInMillis() {
+            return relativeTimeInMillis.addAndGet(2);
+        }
+
+        @Override
+        public ShardSearchRequest request() {
+            return request;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+
+package org.opensearch.tasks;
+
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+public class TaskResourceUsageTests extends OpenSearchTestCase {
+
+    public void testRollUpToParent() throws Exception {
+        final TaskResourceUsage parent = new TaskResourceUsage();
+        final TaskResourceUsage[] children = new TaskResourceUsage[randomIntBetween(1, 4)];
+        final Thread[] threads = new Thread[children.length];
+        for (int i = 0; i < children.length; i++) {
+            final TaskResourceUsage child = new TaskResourceUsage();
+            child.setParent(parent);
+            children[i] = child;
+            threads[i] = new Thread(() -> {
+                try (Releasable ignored = child.startThreadTracking()) {
+                    assertThat(child.getActiveThreads(), equalTo(1));
+                    burn();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long cpuTimeNanos = 0;
+        long allocatedBytes = 0;
+        for (TaskResourceUsage child : children) {
+            assertThat(child.getActiveThreads(), equalTo(0));
+            cpuTimeNanos += child.getCpuTimeNanos();
+            allocatedBytes += child.getAllocatedBytes();
+        }
+        assertThat(parent.getCpuTimeNanos(), equalTo(cpuTimeNanos));
+        assertThat(parent.getAllocatedBytes(), equalTo(allocatedBytes));
+        if (ManagementFactory.getThreadMXBean().isThreadCpuTimeEnabled()) {
+            assertThat(cpuTimeNanos, greaterThan(0L));
+        }
+    }
+
+    public void testNestedTrackingOnSameThread() {
+        final TaskResourceUsage usage = new TaskResourceUsage();
+        try (Releasable outer = usage.startThreadTracking()) {
+            try (Releasable inner = usage.startThreadTracking()) {
+                burn();
+            }
+            // the inner tracking must not stop the outer one
+            assertThat(usage.getActiveThreads(), equalTo(1));
+        }
+        assertThat(usage.getActiveThreads(), equalTo(0));
+        final long cpuTimeNanos = usage.getCpuTimeNanos();
+        assertThat(cpuTimeNanos, greaterThanOrEqualTo(0L));
+        // nothing is tracked once the thread stopped working on the task
+        burn();
+        assertThat(usage.getCpuTimeNanos(), equalTo(cpuTimeNanos));
+    }
+
+    public void testTrackThread() throws Exception {
+        final TaskResourceUsage usage = new TaskResourceUsage();
+        final Thread thread = new Thread(usage.trackThread(() -> {
+            assertThat(usage.getActiveThreads(), equalTo(1));
+            burn();
+        }));
+        thread.start();
+        thread.join();
+        assertThat(usage.getActiveThreads(), equalTo(0));
+        assertThat(usage.getAllocatedBytes(), greaterThanOrEqualTo(0L));
+        if (ManagementFactory.getThreadMXBean().isThreadCpuTimeEnabled()) {
+            assertThat(usage.getCpuTimeNanos(), greaterThan(0L));
+        }
+    }
+
+    private static void burn() {
+        final List<long[]> garbage = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            garbage.add(new long[128]);
+        }
+        assertThat(garbage.size(), equalTo(1000));
+    }
+}
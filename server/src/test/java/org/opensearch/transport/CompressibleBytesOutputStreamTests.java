@@ -32,6 +32,7 @@
 
 package org.opensearch.transport;
 
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.compress.CompressorFactory;
 import org.opensearch.common.io.stream.BytesStream;
@@ -100,6 +101,49 @@ public class CompressibleBytesOutputStreamTests extends OpenSearchTestCase {
         }
     }
 
+    public void testZeroCopyBytesReferenceWithoutCompression() throws IOException {
+        BytesStream bStream = new BytesStreamOutput();
+        CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bStream, false);
+
+        final int prefix = randomInt(30);
+        stream.writeInt(prefix);
+        final byte[] small = randomBytes(between(0, CompressibleBytesOutputStream.MIN_ZERO_COPY_LENGTH - 1));
+        stream.writeZeroCopyBytesReference(new BytesArray(small));
+        final byte[] large = randomBytes(between(CompressibleBytesOutputStream.MIN_ZERO_COPY_LENGTH, 1 << 16));
+        stream.writeZeroCopyBytesReference(new BytesArray(large));
+        final String suffix = randomAlphaOfLength(10);
+        stream.writeString(suffix);
+
+        BytesReference bytesRef = stream.materializeBytes();
+        stream.close();
+
+        // the large reference was not copied so changes to it are visible in the materialized bytes
+        final byte original = large[0];
+        large[0] = (byte) (original + 1);
+        StreamInput streamInput = bytesRef.streamInput();
+        assertEquals(prefix, streamInput.readInt());
+        assertEquals(new BytesArray(small), streamInput.readBytesReference());
+        assertEquals(new BytesArray(large), streamInput.readBytesReference());
+        assertEquals(suffix, streamInput.readString());
+        assertEquals(-1, streamInput.read());
+        large[0] = original;
+    }
+
+    public void testZeroCopyBytesReferenceWithCompression() throws IOException {
+        BytesStream bStream = new BytesStreamOutput();
+        CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bStream, true);
+
+        final byte[] large = randomBytes(between(CompressibleBytesOutputStream.MIN_ZERO_COPY_LENGTH, 1 << 16));
+        stream.writeZeroCopyBytesReference(new BytesArray(large));
+
+        BytesReference bytesRef = stream.materializeBytes();
+        stream.close();
+
+        StreamInput streamInput = new InputStreamStreamInput(CompressorFactory.COMPRESSOR.threadLocalInputStream(bytesRef.streamInput()));
+        assertEquals(new BytesArray(large), streamInput.readBytesReference());
+        assertEquals(-1, streamInput.read());
+    }
+
     public void testCompressionWithCallingMaterializeFails() throws IOException {
         BytesStream bStream = new ZeroOutOnCloseStream();
         CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bStream, true);
@@ -199,16 +199,17 @@ public class InboundDecoderTests extends OpenSearchTestCase {
         } else {
             threadContext.addResponseHeader(headerKey, headerValue);
         }
+        final Compression.Scheme compressionScheme = randomFrom(Compression.Scheme.values());
         OutboundMessage message;
         TransportMessage transportMessage;
         if (isRequest) {
             transportMessage = new TestRequest(randomAlphaOfLength(100));
             message = new OutboundMessage.Request(threadContext, new String[0], transportMessage, Version.CURRENT, action, requestId,
-                false, true);
+                false, true, compressionScheme);
         } else {
             transportMessage = new TestResponse(randomAlphaOfLength(100));
             message = new OutboundMessage.Response(threadContext, Collections.emptySet(), transportMessage, Version.CURRENT, requestId,
-                false, true);
+                false, true, compressionScheme);
         }
 
         final BytesReference totalBytes = message.serialize(new BytesStreamOutput());
@@ -238,12 +239,14 @@ public class InboundDecoderTests extends OpenSearchTestCase {
             assertThat(header.getHeaders().v2().get(headerKey), hasItems(headerValue));
         }
         assertFalse(header.needsToReadVariableHeader());
+        assertNull(header.getCompressionScheme());
         fragments.clear();
 
         final BytesReference bytes2 = totalBytes.slice(bytesConsumed, totalBytes.length() - bytesConsumed);
         final ReleasableBytesReference releasable2 = ReleasableBytesReference.wrap(bytes2);
         int bytesConsumed2 = decoder.decode(releasable2, fragments::add);
         assertEquals(totalBytes.length() - totalHeaderSize, bytesConsumed2);
+        assertEquals(compressionScheme, header.getCompressionScheme());
 
         final Object content = fragments.get(0);
         final Object endMarker = fragments.get(1);
@@ -254,6 +257,25 @@ public class InboundDecoderTests extends OpenSearchTestCase {
         assertEquals(InboundDecoder.END_CONTENT, endMarker);
     }
 
+    public void testCompressionSchemeFallsBackToDeflateForOlderVersions() throws IOException {
+        final Version legacyVersion = LegacyESVersion.V_7_10_0;
+        OutboundMessage message = new OutboundMessage.Request(threadContext, new String[0], new TestRequest(randomAlphaOfLength(100)),
+            legacyVersion, "test-request", randomNonNegativeLong(), false, true, Compression.Scheme.LZ4);
+
+        final BytesReference totalBytes = message.serialize(new BytesStreamOutput());
+        int totalHeaderSize = TcpHeader.headerSize(legacyVersion) + totalBytes.getInt(TcpHeader.VARIABLE_HEADER_SIZE_POSITION);
+
+        InboundDecoder decoder = new InboundDecoder(Version.CURRENT, PageCacheRecycler.NON_RECYCLING_INSTANCE);
+        final ArrayList<Object> fragments = new ArrayList<>();
+        int bytesConsumed = decoder.decode(ReleasableBytesReference.wrap(totalBytes), fragments::add);
+        assertEquals(totalHeaderSize, bytesConsumed);
+        final Header header = (Header) fragments.get(0);
+        final BytesReference content = totalBytes.slice(bytesConsumed, totalBytes.length() - bytesConsumed);
+        decoder.decode(ReleasableBytesReference.wrap(content), fragments::add);
+        assertEquals(Compression.Scheme.DEFLATE, header.getCompressionScheme());
+        assertEquals(InboundDecoder.END_CONTENT, fragments.get(fragments.size() - 1));
+    }
+
     public void testCompressedDecodeHandshakeCompatibility() throws IOException {
         String action = "test-request";
         long requestId = randomNonNegativeLong();
@@ -32,10 +32,12 @@
 
 package org.opensearch.transport;
 
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.bytes.CompositeBytesReference;
 import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.compress.CompressorFactory;
+import org.opensearch.common.compress.Lz4Compressor;
 import org.opensearch.common.io.Streams;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.io.stream.OutputStreamStreamOutput;
@@ -47,6 +49,10 @@ import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.startsWith;
 
 public class TransportDecompressorTests extends OpenSearchTestCase {
 
@@ -142,4 +148,73 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSimpleLz4Compression() throws IOException {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            byte randomByte = randomByte();
+            try (OutputStream lz4Stream = Compression.Scheme.LZ4.compressor().threadLocalOutputStream(
+                    Streams.flushOnCloseStream(output))) {
+                lz4Stream.write(randomByte);
+            }
+
+            BytesReference bytes = output.bytes();
+
+            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            int bytesConsumed = decompressor.decompress(bytes);
+            assertEquals(bytes.length(), bytesConsumed);
+            assertEquals(Compression.Scheme.LZ4, decompressor.getScheme());
+            assertTrue(decompressor.isEOS());
+            ReleasableBytesReference releasableBytesReference = decompressor.pollDecompressedPage();
+            assertEquals(1, releasableBytesReference.length());
+            assertEquals(randomByte, releasableBytesReference.get(0));
+            assertNull(decompressor.pollDecompressedPage());
+            releasableBytesReference.close();
+        }
+    }
+
+    public void testIncrementalMultiBlockLz4Compression() throws IOException {
+        final int numInts = randomIntBetween(Lz4Compressor.BLOCK_SIZE / 4, 3 * Lz4Compressor.BLOCK_SIZE);
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            try (StreamOutput lz4Stream = new OutputStreamStreamOutput(
+                    Compression.Scheme.LZ4.compressor().threadLocalOutputStream(Streams.flushOnCloseStream(output)))) {
+                for (int i = 0; i < numInts; ++i) {
+                    lz4Stream.writeInt(i);
+                }
+            }
+
+            BytesReference bytes = output.bytes();
+
+            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            List<ReleasableBytesReference> pages = new ArrayList<>();
+            int offset = 0;
+            while (offset < bytes.length()) {
+                // split the input at arbitrary positions, including within block headers
+                int length = Math.min(bytes.length() - offset, randomIntBetween(decompressor.getScheme() == null ? 4 : 1, 20000));
+                assertTrue(decompressor.canDecompress(length));
+                assertFalse(decompressor.isEOS());
+                assertEquals(length, decompressor.decompress(bytes.slice(offset, length)));
+                offset += length;
+                ReleasableBytesReference page;
+                while ((page = decompressor.pollDecompressedPage()) != null) {
+                    pages.add(page);
+                }
+            }
+            assertTrue(decompressor.isEOS());
+            BytesReference composite = CompositeBytesReference.of(pages.toArray(new BytesReference[0]));
+            assertEquals(4 * numInts, composite.length());
+            StreamInput streamInput = composite.streamInput();
+            for (int i = 0; i < numInts; ++i) {
+                assertEquals(i, streamInput.readInt());
+            }
+            Releasables.close(pages);
+        }
+    }
+
+    public void testUnknownCompressionHeader() throws IOException {
+        TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+        assertFalse(decompressor.canDecompress(3));
+        IllegalStateException e = expectThrows(IllegalStateException.class,
+            () -> decompressor.decompress(new BytesArray(new byte[] { 'Z', 'S', 'T', '\0', 1, 2, 3 })));
+        assertThat(e.getMessage(), startsWith("stream marked as compressed, but no compressor found"));
+        decompressor.close();
+    }
 }
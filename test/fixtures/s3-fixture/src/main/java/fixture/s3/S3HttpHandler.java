@@ -235,12 +235,17 @@ public class S3HttpHandler implements HttpHandler {
                         }
 
                         final int start = Integer.parseInt(matcher.group(1));
-                        final int end = Integer.parseInt(matcher.group(2));
+                        if (start >= blob.length()) {
+                            exchange.sendResponseHeaders(RestStatus.REQUESTED_RANGE_NOT_SATISFIED.getStatus(), -1);
+                            return;
+                        }
+                        // like S3, ranges that go past the end of the blob are truncated
+                        final int end = Math.min(Integer.parseInt(matcher.group(2)), blob.length() - 1);
 
                         final BytesReference rangeBlob = blob.slice(start, end + 1 - start);
                         exchange.getResponseHeaders().add("Content-Type", "application/octet-stream");
                         exchange.getResponseHeaders().add("Content-Range", String.format(Locale.ROOT, "bytes %d-%d/%d",
-                            start, end, rangeBlob.length()));
+                            start, end, blob.length()));
                         exchange.sendResponseHeaders(RestStatus.OK.getStatus(), rangeBlob.length());
                         rangeBlob.writeTo(exchange.getResponseBody());
                     }